@@ -0,0 +1,121 @@
+package com.github.mmichaelis.phodeli.astro;
+
+import com.github.mmichaelis.phodeli.measure.Angle;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Time when the sun lines up with a candidate line of sight, as found by
+ * {@link SunAlignmentSearch}.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class AlignmentMatch implements Serializable {
+
+  private static final long serialVersionUID = 7740251526425066393L;
+
+  private final int candidate;
+  @NotNull
+  private final Instant instant;
+  @NotNull
+  private final Angle azimuth;
+  @NotNull
+  private final Angle deviation;
+
+  AlignmentMatch(final int candidate,
+                 @NotNull final Instant instant,
+                 @NotNull final Angle azimuth,
+                 @NotNull final Angle deviation) {
+    this.candidate = candidate;
+    this.instant = instant;
+    this.azimuth = azimuth;
+    this.deviation = deviation;
+  }
+
+  /**
+   * Index of the candidate line of sight.
+   *
+   * @return index of the candidate
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int getCandidate() {
+    return candidate;
+  }
+
+  /**
+   * Time when the sun passes the searched elevation.
+   *
+   * @return time of the alignment
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Instant getInstant() {
+    return instant;
+  }
+
+  /**
+   * Azimuth of the sun at that time.
+   *
+   * @return azimuth of the sun
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Angle getAzimuth() {
+    return azimuth;
+  }
+
+  /**
+   * Azimuth of the sun minus the bearing of the candidate, from -180&deg; to 180&deg;.
+   *
+   * @return signed deviation
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Angle getDeviation() {
+    return deviation;
+  }
+
+  @Override
+  @Contract(pure = true)
+  public int hashCode() {
+    int result = candidate;
+    result = 31 * result + instant.hashCode();
+    result = 31 * result + azimuth.hashCode();
+    return 31 * result + deviation.hashCode();
+  }
+
+  @Override
+  @Contract(pure = true)
+  public boolean equals(final Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    AlignmentMatch other = (AlignmentMatch) obj;
+    return candidate == other.candidate
+           && instant.equals(other.instant)
+           && azimuth.equals(other.azimuth)
+           && deviation.equals(other.deviation);
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{candidate=" + candidate + ", instant=" + instant + ", azimuth="
+           + azimuth + ", deviation=" + deviation + '}';
+  }
+}
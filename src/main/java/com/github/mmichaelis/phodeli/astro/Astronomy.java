@@ -0,0 +1,137 @@
+package com.github.mmichaelis.phodeli.astro;
+
+import static java.lang.Math.asin;
+import static java.lang.Math.atan2;
+import static java.lang.Math.floor;
+import static java.lang.Math.sqrt;
+import static java.lang.Math.toDegrees;
+
+import org.jetbrains.annotations.Contract;
+
+/**
+ * <p>
+ * Time scales and coordinate transformations shared by the ephemerides.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+final class Astronomy {
+
+  static final long MILLIS_PER_DAY = 86_400_000L;
+  static final double MINUTES_PER_DAY = 1440D;
+  static final double FULL_CIRCLE = 360D;
+  /**
+   * Refraction at the horizon in degrees, lifting bodies just below the horizon into view.
+   */
+  static final double HORIZON_REFRACTION = 0.5667D;
+  /**
+   * Julian day of the Unix epoch.
+   */
+  private static final double UNIX_EPOCH_JULIAN_DAY = 2_440_587.5D;
+  /**
+   * Julian day of the standard epoch J2000.0.
+   */
+  private static final double J2000_JULIAN_DAY = 2_451_545D;
+  private static final double DAYS_PER_CENTURY = 36_525D;
+  private static final double ARC_SECONDS_PER_DEGREE = 3600D;
+
+  private Astronomy() {
+  }
+
+  /**
+   * Days since J2000.0 of the given instant.
+   */
+  @Contract(pure = true)
+  static double daysSinceJ2000(final double epochMillis) {
+    return epochMillis / MILLIS_PER_DAY + UNIX_EPOCH_JULIAN_DAY - J2000_JULIAN_DAY;
+  }
+
+  /**
+   * Julian centuries since J2000.0 of the given instant.
+   */
+  @Contract(pure = true)
+  static double julianCenturies(final double epochMillis) {
+    return daysSinceJ2000(epochMillis) / DAYS_PER_CENTURY;
+  }
+
+  /**
+   * Greenwich mean sidereal time in degrees.
+   */
+  @Contract(pure = true)
+  static double greenwichSiderealTime(final double epochMillis) {
+    double days = daysSinceJ2000(epochMillis);
+    double centuries = days / DAYS_PER_CENTURY;
+    return normalizeDegrees(280.46061837D + 360.98564736629D * days
+                            + centuries * centuries * (0.000387933D - centuries / 38_710_000D));
+  }
+
+  /**
+   * Normalizes an angle to 0&deg; (inclusive) to 360&deg; (exclusive).
+   */
+  @Contract(pure = true)
+  static double normalizeDegrees(final double degrees) {
+    double normalized = degrees - FULL_CIRCLE * floor(degrees / FULL_CIRCLE);
+    return normalized >= FULL_CIRCLE ? 0D : normalized;
+  }
+
+  /**
+   * Apparent elevation from the sine of the geometric elevation, corrected for atmospheric
+   * refraction as by the NOAA solar calculator. The tangent for the correction is derived from
+   * the sine, thus only one inverse trigonometric function is evaluated.
+   *
+   * @param sinElevation sine of the geometric elevation
+   * @return apparent elevation in degrees
+   */
+  @Contract(pure = true)
+  static double apparentElevation(final double sinElevation) {
+    double elevation = toDegrees(asin(sinElevation));
+    if (elevation > 85D) {
+      return elevation;
+    }
+    double arcSeconds;
+    if (elevation > 5D) {
+      double cotElevation = sqrt(1D - sinElevation * sinElevation) / sinElevation;
+      double cotSquared = cotElevation * cotElevation;
+      arcSeconds = cotElevation * (58.1D - cotSquared * (0.07D - cotSquared * 0.000086D));
+    } else if (elevation > -0.575D) {
+      double polynomial = -12.79D + elevation * 0.711D;
+      polynomial = 103.4D + elevation * polynomial;
+      polynomial = -518.2D + elevation * polynomial;
+      arcSeconds = 1735D + elevation * polynomial;
+    } else {
+      arcSeconds = -20.772D * sqrt(1D - sinElevation * sinElevation) / sinElevation;
+    }
+    return elevation + arcSeconds / ARC_SECONDS_PER_DEGREE;
+  }
+
+  /**
+   * Sine of the geometric elevation from the equatorial position of a body.
+   */
+  @Contract(pure = true)
+  static double sinElevation(final double sinLatitude,
+                             final double cosLatitude,
+                             final double sinDeclination,
+                             final double cosDeclination,
+                             final double cosHourAngle) {
+    double sinElevation = sinLatitude * sinDeclination
+                          + cosLatitude * cosDeclination * cosHourAngle;
+    return Math.max(-1D, Math.min(1D, sinElevation));
+  }
+
+  /**
+   * Azimuth in degrees, clockwise from north, from the equatorial position of a body.
+   */
+  @Contract(pure = true)
+  static double azimuth(final double sinLatitude,
+                        final double cosLatitude,
+                        final double sinDeclination,
+                        final double cosDeclination,
+                        final double sinHourAngle,
+                        final double cosHourAngle) {
+    double azimuth = toDegrees(atan2(-cosDeclination * sinHourAngle,
+                                     sinDeclination * cosLatitude
+                                     - cosDeclination * cosHourAngle * sinLatitude));
+    return azimuth < 0D ? azimuth + FULL_CIRCLE : azimuth;
+  }
+}
@@ -0,0 +1,234 @@
+package com.github.mmichaelis.phodeli.astro;
+
+import static com.github.mmichaelis.phodeli.astro.Astronomy.MILLIS_PER_DAY;
+import static com.github.mmichaelis.phodeli.astro.Astronomy.MINUTES_PER_DAY;
+import static com.github.mmichaelis.phodeli.astro.Astronomy.apparentElevation;
+import static com.github.mmichaelis.phodeli.astro.Astronomy.azimuth;
+import static com.github.mmichaelis.phodeli.astro.Astronomy.sinElevation;
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+import static java.lang.Math.sqrt;
+import static java.lang.Math.toRadians;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.stream.IntStream;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * <p>
+ * Course of a body throughout one UTC date as seen from the center of the earth: sine and
+ * cosine of its declination and of its hour angle at Greenwich at each minute of the day,
+ * including the end of the day. The hour angle at any other longitude follows by angle
+ * addition, thus evaluating many locations needs no trigonometric functions besides those for
+ * the result.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+final class DailyTrack {
+
+  static final int MINUTES = (int) MINUTES_PER_DAY;
+  static final double MILLIS_PER_MINUTE = 60_000D;
+
+  @NotNull
+  private final LocalDate date;
+  private final long startMillis;
+  @NotNull
+  private final double[] sinDeclinations;
+  @NotNull
+  private final double[] cosDeclinations;
+  @NotNull
+  private final double[] sinGreenwichHourAngles;
+  @NotNull
+  private final double[] cosGreenwichHourAngles;
+  /**
+   * Horizontal parallax in radians at each minute; {@code null} for bodies far enough to
+   * ignore the observer's offset from the center of the earth.
+   */
+  @Nullable
+  private final double[] parallaxes;
+
+  /**
+   * Track of a body. All arrays are expected to have an entry for each minute of the day
+   * including the end of the day, and are not copied.
+   */
+  DailyTrack(@NotNull final LocalDate date,
+             @NotNull final double[] sinDeclinations,
+             @NotNull final double[] cosDeclinations,
+             @NotNull final double[] sinGreenwichHourAngles,
+             @NotNull final double[] cosGreenwichHourAngles,
+             @Nullable final double[] parallaxes) {
+    this.date = date;
+    startMillis = date.toEpochDay() * MILLIS_PER_DAY;
+    this.sinDeclinations = sinDeclinations;
+    this.cosDeclinations = cosDeclinations;
+    this.sinGreenwichHourAngles = sinGreenwichHourAngles;
+    this.cosGreenwichHourAngles = cosGreenwichHourAngles;
+    this.parallaxes = parallaxes;
+  }
+
+  /**
+   * Number of evaluated times for bulk positions with the given step.
+   *
+   * @throws IllegalArgumentException if step is not within 1 to 1440 minutes
+   */
+  @Contract(pure = true)
+  static int stepCount(final int stepMinutes) {
+    if (stepMinutes < 1 || stepMinutes > MINUTES) {
+      throw new IllegalArgumentException(
+        "Step must be within 1 to " + MINUTES + " minutes but is " + stepMinutes + '.');
+    }
+    return (MINUTES + stepMinutes - 1) / stepMinutes;
+  }
+
+  /**
+   * Apparent positions at all the given locations, evaluated in parallel, stored location by
+   * location.
+   *
+   * @throws IllegalArgumentException if step is out of range or the targets are too short
+   */
+  void positions(@NotNull final double[] latitudes,
+                 @NotNull final double[] longitudes,
+                 final int count,
+                 final int stepMinutes,
+                 @NotNull final double[] azimuths,
+                 @NotNull final double[] elevations) {
+    int steps = stepCount(stepMinutes);
+    long required = (long) count * steps;
+    if (required > azimuths.length || required > elevations.length) {
+      throw new IllegalArgumentException(
+        "Targets require " + required + " entries, but azimuths (" + azimuths.length
+        + ") or elevations (" + elevations.length + ") are shorter.");
+    }
+    IntStream.range(0, count).parallel().forEach(spot -> {
+      double latitude = toRadians(latitudes[spot]);
+      double longitude = toRadians(longitudes[spot]);
+      double sinLatitude = sin(latitude);
+      double cosLatitude = cos(latitude);
+      double sinLongitude = sin(longitude);
+      double cosLongitude = cos(longitude);
+      int offset = spot * steps;
+      for (int step = 0; step < steps; step++) {
+        int minute = step * stepMinutes;
+        double sinHourAngle = sinGreenwichHourAngles[minute] * cosLongitude
+                              + cosGreenwichHourAngles[minute] * sinLongitude;
+        double cosHourAngle = cosGreenwichHourAngles[minute] * cosLongitude
+                              - sinGreenwichHourAngles[minute] * sinLongitude;
+        double sinElevation = sinElevation(sinLatitude, cosLatitude, sinDeclinations[minute],
+                                           cosDeclinations[minute], cosHourAngle);
+        if (parallaxes != null) {
+          sinElevation = topocentric(sinElevation, parallaxes[minute]);
+        }
+        elevations[offset + step] = apparentElevation(sinElevation);
+        azimuths[offset + step] = azimuth(sinLatitude, cosLatitude, sinDeclinations[minute],
+                                          cosDeclinations[minute], sinHourAngle, cosHourAngle);
+      }
+    });
+  }
+
+  /**
+   * First rise, upper transit and set on this date, found by scanning the minutes of the day
+   * and interpolating linearly within the minute of the event.
+   *
+   * @param sinRiseElevations sine of the geocentric elevation at rise and set for each minute
+   */
+  @NotNull
+  @Contract(pure = true)
+  RiseSetTimes events(final double latitude,
+                      final double longitude,
+                      @NotNull final double[] sinRiseElevations) {
+    double phi = toRadians(latitude);
+    double lambda = toRadians(longitude);
+    double sinLatitude = sin(phi);
+    double cosLatitude = cos(phi);
+    double sinLongitude = sin(lambda);
+    double cosLongitude = cos(lambda);
+    Instant rise = null;
+    Instant transit = null;
+    Instant set = null;
+    double previousHeight = 0D;
+    double previousSinHourAngle = 0D;
+    for (int minute = 0; minute <= MINUTES && (rise == null || transit == null || set == null);
+         minute++) {
+      double sinHourAngle = sinGreenwichHourAngles[minute] * cosLongitude
+                            + cosGreenwichHourAngles[minute] * sinLongitude;
+      double cosHourAngle = cosGreenwichHourAngles[minute] * cosLongitude
+                            - sinGreenwichHourAngles[minute] * sinLongitude;
+      double height = sinElevation(sinLatitude, cosLatitude, sinDeclinations[minute],
+                                   cosDeclinations[minute], cosHourAngle)
+                      - sinRiseElevations[minute];
+      if (minute > 0) {
+        if (rise == null && previousHeight < 0D && height >= 0D) {
+          rise = instant(minute, previousHeight, height);
+        }
+        if (set == null && previousHeight >= 0D && height < 0D) {
+          set = instant(minute, previousHeight, height);
+        }
+        if (transit == null && previousSinHourAngle < 0D && sinHourAngle >= 0D
+            && cosHourAngle > 0D) {
+          transit = instant(minute, previousSinHourAngle, sinHourAngle);
+        }
+      }
+      previousHeight = height;
+      previousSinHourAngle = sinHourAngle;
+    }
+    return new RiseSetTimes(date, rise, transit, set);
+  }
+
+  /**
+   * Fills sine and cosine of an angle growing linearly from the start by the given step per
+   * entry, by successive rotation instead of evaluating trigonometric functions. Rounding
+   * errors grow linearly with the number of entries, thus callers restart the rotation with
+   * exact values after at most an hour.
+   *
+   * @param from  first index to fill
+   * @param to    last index to fill, inclusive
+   * @param start angle at the first index in radians
+   * @param step  change of the angle per index in radians
+   */
+  static void rotate(@NotNull final double[] sines,
+                     @NotNull final double[] cosines,
+                     final int from,
+                     final int to,
+                     final double start,
+                     final double step) {
+    double sinStep = sin(step);
+    double cosStep = cos(step);
+    double sine = sin(start);
+    double cosine = cos(start);
+    for (int i = from; i <= to; i++) {
+      sines[i] = sine;
+      cosines[i] = cosine;
+      double next = sine * cosStep + cosine * sinStep;
+      cosine = cosine * cosStep - sine * sinStep;
+      sine = next;
+    }
+  }
+
+  /**
+   * Sine of the topocentric elevation from the sine of the geocentric elevation. The parallax
+   * in elevation is the horizontal parallax scaled by the cosine of the elevation, small
+   * enough to replace its sine and cosine by their series.
+   */
+  @Contract(pure = true)
+  static double topocentric(final double sinElevation, final double horizontalParallax) {
+    double cosElevation = sqrt(1D - sinElevation * sinElevation);
+    double parallax = horizontalParallax * cosElevation;
+    return sinElevation * (1D - parallax * parallax / 2D) - cosElevation * parallax;
+  }
+
+  /**
+   * Instant of the zero crossing between the previous and the given minute.
+   */
+  @NotNull
+  @Contract(pure = true)
+  private Instant instant(final int minute, final double previous, final double current) {
+    double crossing = minute - 1 + previous / (previous - current);
+    return Instant.ofEpochMilli(startMillis + Math.round(crossing * MILLIS_PER_MINUTE));
+  }
+}
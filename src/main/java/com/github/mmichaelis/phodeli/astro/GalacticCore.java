@@ -0,0 +1,264 @@
+package com.github.mmichaelis.phodeli.astro;
+
+import static com.github.mmichaelis.phodeli.astro.Astronomy.HORIZON_REFRACTION;
+import static com.github.mmichaelis.phodeli.astro.Astronomy.MILLIS_PER_DAY;
+import static com.github.mmichaelis.phodeli.astro.Astronomy.apparentElevation;
+import static com.github.mmichaelis.phodeli.astro.Astronomy.azimuth;
+import static com.github.mmichaelis.phodeli.astro.Astronomy.daysSinceJ2000;
+import static com.github.mmichaelis.phodeli.astro.Astronomy.greenwichSiderealTime;
+import static com.github.mmichaelis.phodeli.astro.Astronomy.sinElevation;
+import static com.github.mmichaelis.phodeli.astro.DailyTrack.MILLIS_PER_MINUTE;
+import static com.github.mmichaelis.phodeli.astro.DailyTrack.MINUTES;
+import static com.github.mmichaelis.phodeli.astro.DailyTrack.rotate;
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+import static java.lang.Math.tan;
+import static java.lang.Math.toRadians;
+import static java.util.Objects.requireNonNull;
+
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+import com.github.mmichaelis.phodeli.measure.Angle;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Position, rise and set of the core of the Milky Way throughout one UTC date, represented
+ * by the galactic center Sagittarius A*. Its J2000.0 position is precessed to the date, which
+ * is accurate to a few arc seconds within decades around today; nutation and aberration are
+ * neglected.
+ * </p>
+ * <p>
+ * Photographers will typically combine the core's times with the darkness of the night,
+ * given by {@link SolarDay}, and with the moon, given by {@link LunarDay}.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @see NightEphemeris
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class GalacticCore {
+
+  /**
+   * Right ascension of the galactic center at J2000.0 in degrees.
+   */
+  private static final double J2000_RIGHT_ASCENSION = 266.416837D;
+  /**
+   * Declination of the galactic center at J2000.0 in degrees.
+   */
+  private static final double J2000_DECLINATION = -29.007810D;
+  private static final double DAYS_PER_YEAR = 365.25D;
+  /**
+   * Annual general precession in right ascension in degrees (3.07496 seconds of time).
+   */
+  private static final double PRECESSION_M = 46.1244D / 3600D;
+  /**
+   * Annual general precession in declination in degrees (20.0431 arc seconds).
+   */
+  private static final double PRECESSION_N = 20.0431D / 3600D;
+  private static final double NOON_MILLIS = MILLIS_PER_DAY / 2D;
+  /**
+   * Rotation of the earth relative to the stars per minute in degrees.
+   */
+  private static final double SIDEREAL_DEGREES_PER_MINUTE = 360.98564736629D / MINUTES;
+  /**
+   * Minutes after which the rotation of the hour angle is restarted with exact values.
+   */
+  private static final int ROTATION_MINUTES = 60;
+
+  @NotNull
+  private final LocalDate date;
+  /**
+   * Right ascension of date in degrees.
+   */
+  private final double rightAscension;
+  /**
+   * Declination of date in degrees.
+   */
+  private final double declination;
+  @NotNull
+  private final DailyTrack track;
+  @NotNull
+  private final double[] sinRiseElevations;
+
+  private GalacticCore(@NotNull final LocalDate date) {
+    this.date = date;
+    long startMillis = date.toEpochDay() * MILLIS_PER_DAY;
+    double years = daysSinceJ2000(startMillis + NOON_MILLIS) / DAYS_PER_YEAR;
+    double alpha = toRadians(J2000_RIGHT_ASCENSION);
+    double delta = toRadians(J2000_DECLINATION);
+    rightAscension = J2000_RIGHT_ASCENSION
+                     + (PRECESSION_M + PRECESSION_N * sin(alpha) * tan(delta)) * years;
+    declination = J2000_DECLINATION + PRECESSION_N * cos(alpha) * years;
+    double[] sinDeclinations = new double[MINUTES + 1];
+    double[] cosDeclinations = new double[MINUTES + 1];
+    double[] sinGreenwichHourAngles = new double[MINUTES + 1];
+    double[] cosGreenwichHourAngles = new double[MINUTES + 1];
+    Arrays.fill(sinDeclinations, sin(toRadians(declination)));
+    Arrays.fill(cosDeclinations, cos(toRadians(declination)));
+    for (int from = 0; from <= MINUTES; from += ROTATION_MINUTES) {
+      rotate(sinGreenwichHourAngles, cosGreenwichHourAngles, from,
+             Math.min(MINUTES, from + ROTATION_MINUTES - 1),
+             toRadians(greenwichSiderealTime(startMillis + from * MILLIS_PER_MINUTE)
+                       - rightAscension),
+             toRadians(SIDEREAL_DEGREES_PER_MINUTE));
+    }
+    sinRiseElevations = new double[MINUTES + 1];
+    Arrays.fill(sinRiseElevations, sin(toRadians(-HORIZON_REFRACTION)));
+    track = new DailyTrack(date, sinDeclinations, cosDeclinations, sinGreenwichHourAngles,
+                           cosGreenwichHourAngles, null);
+  }
+
+  /**
+   * Computes the course of the galactic core for the given UTC date. Prefer
+   * {@link NightEphemeris} to reuse days once computed.
+   *
+   * @param date UTC date
+   * @return galactic core on that date
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static GalacticCore galacticCore(@NotNull final LocalDate date) {
+    return new GalacticCore(requireNonNull(date, "date must not be null."));
+  }
+
+  /**
+   * UTC date of this day.
+   *
+   * @return date
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public LocalDate getDate() {
+    return date;
+  }
+
+  /**
+   * Right ascension of the galactic center, referred to the mean equinox of date.
+   *
+   * @return right ascension
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Angle getRightAscension() {
+    return Angle.degrees(rightAscension);
+  }
+
+  /**
+   * Declination of the galactic center, referred to the mean equator of date.
+   *
+   * @return declination
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Angle getDeclination() {
+    return Angle.degrees(declination);
+  }
+
+  /**
+   * Position of the galactic core at the given location and time. Times outside of this day
+   * are supported, with the precession of this day.
+   *
+   * @param coordinate location of the observer
+   * @param instant    time of observation
+   * @return position of the galactic core
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public HorizontalCoordinate position(@NotNull final GeoCoordinate coordinate,
+                                       @NotNull final Instant instant) {
+    double latitude = coordinate.getLatitude().toRadians();
+    double hourAngle = toRadians(greenwichSiderealTime(instant.toEpochMilli())
+                                 + coordinate.getLongitude().toDegrees() - rightAscension);
+    double sinLatitude = sin(latitude);
+    double cosLatitude = cos(latitude);
+    double sinDeclination = sin(toRadians(declination));
+    double cosDeclination = cos(toRadians(declination));
+    double cosHourAngle = cos(hourAngle);
+    return HorizontalCoordinate.horizontal(
+      Angle.degrees(azimuth(sinLatitude, cosLatitude, sinDeclination, cosDeclination,
+                            sin(hourAngle), cosHourAngle)),
+      Angle.degrees(apparentElevation(sinElevation(sinLatitude, cosLatitude, sinDeclination,
+                                                   cosDeclination, cosHourAngle))));
+  }
+
+  /**
+   * Positions of the galactic core throughout this day at all the given locations, evaluated
+   * in parallel. Positions are stored location by location: the position at location
+   * {@code i} and step {@code j} is stored at index {@code i * steps + j}, where
+   * {@code steps} is {@link SolarDay#getStepCount(int)}.
+   *
+   * @param latitudes   latitudes in degrees
+   * @param longitudes  longitudes in degrees
+   * @param count       number of locations, starting at index 0
+   * @param stepMinutes minutes between evaluated times, starting at midnight UTC
+   * @param azimuths    target for azimuths in degrees
+   * @param elevations  target for apparent elevations in degrees
+   * @throws IllegalArgumentException if step is out of range or the targets are too short
+   * @since 1.0.0
+   */
+  public void positions(@NotNull final double[] latitudes,
+                        @NotNull final double[] longitudes,
+                        final int count,
+                        final int stepMinutes,
+                        @NotNull final double[] azimuths,
+                        @NotNull final double[] elevations) {
+    track.positions(latitudes, longitudes, count, stepMinutes, azimuths, elevations);
+  }
+
+  /**
+   * Times when the galactic core rises, culminates and sets on this date at the given
+   * location. As a sidereal day is about 4 minutes shorter than a day, each event happens
+   * once on most dates.
+   *
+   * @param coordinate location of the observer
+   * @return times of events
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public RiseSetTimes times(@NotNull final GeoCoordinate coordinate) {
+    return track.events(coordinate.getLatitude().toDegrees(),
+                        coordinate.getLongitude().toDegrees(), sinRiseElevations);
+  }
+
+  /**
+   * Times when the galactic core rises, culminates and sets on this date at all the given
+   * locations, computed in parallel.
+   *
+   * @param latitudes  latitudes in degrees
+   * @param longitudes longitudes in degrees
+   * @param count      number of locations, starting at index 0
+   * @return times of events, one per location
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public RiseSetTimes[] times(@NotNull final double[] latitudes,
+                              @NotNull final double[] longitudes,
+                              final int count) {
+    RiseSetTimes[] times = new RiseSetTimes[count];
+    IntStream.range(0, count).parallel().forEach(
+      spot -> times[spot] = track.events(latitudes[spot], longitudes[spot], sinRiseElevations));
+    return times;
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{date=" + date + ", rightAscension=" + rightAscension
+           + ", declination=" + declination + '}';
+  }
+}
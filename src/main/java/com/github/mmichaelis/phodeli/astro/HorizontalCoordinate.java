@@ -0,0 +1,114 @@
+package com.github.mmichaelis.phodeli.astro;
+
+import static java.util.Objects.requireNonNull;
+
+import com.github.mmichaelis.phodeli.measure.Angle;
+
+import java.io.Serializable;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Position of a celestial body in the sky of an observer: the azimuth measured clockwise from
+ * north and the elevation above the horizon.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class HorizontalCoordinate implements Serializable {
+
+  private static final long serialVersionUID = -1527406127383307427L;
+
+  @NotNull
+  private final Angle azimuth;
+  @NotNull
+  private final Angle elevation;
+
+  private HorizontalCoordinate(@NotNull final Angle azimuth, @NotNull final Angle elevation) {
+    this.azimuth = azimuth;
+    this.elevation = elevation;
+  }
+
+  /**
+   * Creates a horizontal coordinate.
+   *
+   * @param azimuth   azimuth, clockwise from north
+   * @param elevation elevation above the horizon; negative below
+   * @return horizontal coordinate
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static HorizontalCoordinate horizontal(@NotNull final Angle azimuth,
+                                                @NotNull final Angle elevation) {
+    return new HorizontalCoordinate(requireNonNull(azimuth, "azimuth must not be null."),
+                                    requireNonNull(elevation, "elevation must not be null."));
+  }
+
+  /**
+   * Creates a horizontal coordinate from degrees.
+   *
+   * @param azimuth   azimuth in degrees, clockwise from north
+   * @param elevation elevation above the horizon in degrees; negative below
+   * @return horizontal coordinate
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static HorizontalCoordinate degrees(final double azimuth, final double elevation) {
+    return new HorizontalCoordinate(Angle.degrees(azimuth), Angle.degrees(elevation));
+  }
+
+  /**
+   * Azimuth, measured clockwise from north.
+   *
+   * @return azimuth
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Angle getAzimuth() {
+    return azimuth;
+  }
+
+  /**
+   * Elevation above the horizon; negative below.
+   *
+   * @return elevation
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Angle getElevation() {
+    return elevation;
+  }
+
+  @Override
+  @Contract(pure = true)
+  public int hashCode() {
+    return 31 * azimuth.hashCode() + elevation.hashCode();
+  }
+
+  @Override
+  @Contract(pure = true)
+  public boolean equals(final Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    HorizontalCoordinate other = (HorizontalCoordinate) obj;
+    return azimuth.equals(other.azimuth) && elevation.equals(other.elevation);
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{azimuth=" + azimuth + ", elevation=" + elevation + '}';
+  }
+}
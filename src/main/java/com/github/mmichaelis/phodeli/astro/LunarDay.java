@@ -0,0 +1,471 @@
+package com.github.mmichaelis.phodeli.astro;
+
+import static com.github.mmichaelis.phodeli.astro.Astronomy.HORIZON_REFRACTION;
+import static com.github.mmichaelis.phodeli.astro.Astronomy.MILLIS_PER_DAY;
+import static com.github.mmichaelis.phodeli.astro.Astronomy.apparentElevation;
+import static com.github.mmichaelis.phodeli.astro.Astronomy.azimuth;
+import static com.github.mmichaelis.phodeli.astro.Astronomy.greenwichSiderealTime;
+import static com.github.mmichaelis.phodeli.astro.Astronomy.julianCenturies;
+import static com.github.mmichaelis.phodeli.astro.Astronomy.normalizeDegrees;
+import static com.github.mmichaelis.phodeli.astro.Astronomy.sinElevation;
+import static com.github.mmichaelis.phodeli.astro.DailyTrack.MILLIS_PER_MINUTE;
+import static com.github.mmichaelis.phodeli.astro.DailyTrack.MINUTES;
+import static com.github.mmichaelis.phodeli.astro.DailyTrack.rotate;
+import static com.github.mmichaelis.phodeli.astro.DailyTrack.topocentric;
+import static java.lang.Math.abs;
+import static java.lang.Math.asin;
+import static java.lang.Math.atan2;
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+import static java.lang.Math.tan;
+import static java.lang.Math.toDegrees;
+import static java.lang.Math.toRadians;
+import static java.util.Objects.requireNonNull;
+
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+import com.github.mmichaelis.phodeli.measure.Angle;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.stream.IntStream;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Position, phase, rise and set of the moon throughout one UTC date. The moon's geocentric
+ * position follows the series of Jean Meeus: Astronomical Algorithms (chapter 47), truncated
+ * to the terms above about 2 arc seconds, which is accurate to about 10 arc seconds in
+ * longitude. The phase follows the short series of chapter 48, accurate to about 0.01 in
+ * illuminated fraction.
+ * </p>
+ * <p>
+ * The series is evaluated once per hour when the day is created. Right ascension,
+ * declination and parallax are interpolated linearly to each minute of the day, which adds
+ * errors of well below an arc second; sine and cosine of the interpolated angles follow by
+ * successive rotation. The horizon of any location follows by angle addition. Thus bulk
+ * evaluation of many locations and rise and set times need no further evaluation of the
+ * series.
+ * </p>
+ * <p>
+ * Elevations are apparent elevations of the center of the moon as seen from the surface of
+ * the earth: corrected for parallax, which lowers the moon by up to one degree, and for
+ * atmospheric refraction.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @see NightEphemeris
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class LunarDay {
+
+  private static final int NODE_MINUTES = 60;
+  private static final int NODES = MINUTES / NODE_MINUTES + 1;
+  private static final double HALF_CIRCLE = 180D;
+  private static final double EARTH_EQUATORIAL_RADIUS_KILOMETERS = 6378.14D;
+  private static final double MEAN_DISTANCE_KILOMETERS = 385_000.56D;
+  /**
+   * Ratio of the moon's radius to the earth's equatorial radius: the semi-diameter in terms
+   * of the horizontal parallax.
+   */
+  private static final double SEMI_DIAMETER_RATIO = 0.2725D;
+  private static final double MICRO_DEGREES = 1_000_000D;
+  private static final double METERS_PER_KILOMETER = 1000D;
+  /**
+   * Periodic terms for longitude and distance: multiples of D, M, M', F, coefficient of the
+   * sine for longitude in 10<sup>-6</sup> degrees, coefficient of the cosine for distance in
+   * meters.
+   */
+  private static final int[][] LONGITUDE_DISTANCE_TERMS = {
+    {0, 0, 1, 0, 6_288_774, -20_905_355},
+    {2, 0, -1, 0, 1_274_027, -3_699_111},
+    {2, 0, 0, 0, 658_314, -2_955_968},
+    {0, 0, 2, 0, 213_618, -569_925},
+    {0, 1, 0, 0, -185_116, 48_888},
+    {0, 0, 0, 2, -114_332, -3_149},
+    {2, 0, -2, 0, 58_793, 246_158},
+    {2, -1, -1, 0, 57_066, -152_138},
+    {2, 0, 1, 0, 53_322, -170_733},
+    {2, -1, 0, 0, 45_758, -204_586},
+    {0, 1, -1, 0, -40_923, -129_620},
+    {1, 0, 0, 0, -34_720, 108_743},
+    {0, 1, 1, 0, -30_383, 104_755},
+    {2, 0, 0, -2, 15_327, 10_321},
+    {0, 0, 1, 2, -12_528, 0},
+    {0, 0, 1, -2, 10_980, 79_661},
+    {4, 0, -1, 0, 10_675, -34_782},
+    {0, 0, 3, 0, 10_034, -23_210},
+    {4, 0, -2, 0, 8_548, -21_636},
+    {2, 1, -1, 0, -7_888, 24_208},
+    {2, 1, 0, 0, -6_766, 30_824},
+    {1, 0, -1, 0, -5_163, -8_379},
+    {1, 1, 0, 0, 4_987, -16_675},
+    {2, -1, 1, 0, 4_036, -12_831},
+    {2, 0, 2, 0, 3_994, -10_445},
+    {4, 0, 0, 0, 3_861, -11_650},
+    {2, 0, -3, 0, 3_665, 14_403},
+    {0, 1, -2, 0, -2_689, -7_003},
+    {2, 0, -1, 2, -2_602, 0},
+    {2, -1, -2, 0, 2_390, 10_056},
+    {1, 0, 1, 0, -2_348, 6_322},
+    {2, -2, 0, 0, 2_236, -9_884},
+  };
+  /**
+   * Periodic terms for latitude: multiples of D, M, M', F and coefficient of the sine in
+   * 10<sup>-6</sup> degrees.
+   */
+  private static final int[][] LATITUDE_TERMS = {
+    {0, 0, 0, 1, 5_128_122},
+    {0, 0, 1, 1, 280_602},
+    {0, 0, 1, -1, 277_693},
+    {2, 0, 0, -1, 173_237},
+    {2, 0, -1, 1, 55_413},
+    {2, 0, -1, -1, 46_271},
+    {2, 0, 0, 1, 32_573},
+    {0, 0, 2, 1, 17_198},
+    {2, 0, 1, -1, 9_266},
+    {0, 0, 2, -1, 8_822},
+    {2, -1, 0, -1, 8_216},
+    {2, 0, -2, -1, 4_324},
+    {2, 0, 1, 1, 4_200},
+    {2, 1, 0, -1, -3_359},
+    {2, -1, -1, 1, 2_463},
+    {2, -1, 0, 1, 2_211},
+    {2, -1, -1, -1, 2_065},
+    {0, 1, -1, -1, -1_870},
+    {4, 0, -1, -1, 1_828},
+    {0, 1, 0, 1, -1_794},
+  };
+  private static final int RIGHT_ASCENSION = 0;
+  private static final int DECLINATION = 1;
+  private static final int PARALLAX = 2;
+
+  @NotNull
+  private final LocalDate date;
+  @NotNull
+  private final DailyTrack track;
+  /**
+   * Sine of the geocentric elevation at moonrise and moonset at each minute of the day.
+   */
+  @NotNull
+  private final double[] sinRiseElevations;
+
+  private LunarDay(@NotNull final LocalDate date) {
+    this.date = date;
+    long startMillis = date.toEpochDay() * MILLIS_PER_DAY;
+    double[] rightAscensions = new double[NODES];
+    double[] declinations = new double[NODES];
+    double[] parallaxes = new double[NODES];
+    double[] equatorial = new double[3];
+    for (int node = 0; node < NODES; node++) {
+      equatorial(julianCenturies(startMillis + node * NODE_MINUTES * MILLIS_PER_MINUTE),
+                 equatorial);
+      rightAscensions[node] = node == 0
+                              ? equatorial[RIGHT_ASCENSION]
+                              : rightAscensions[node - 1]
+                                + normalizeDegrees(equatorial[RIGHT_ASCENSION]
+                                                   - rightAscensions[node - 1] + HALF_CIRCLE)
+                                - HALF_CIRCLE;
+      declinations[node] = equatorial[DECLINATION];
+      parallaxes[node] = equatorial[PARALLAX];
+    }
+    double[] sinDeclinations = new double[MINUTES + 1];
+    double[] cosDeclinations = new double[MINUTES + 1];
+    double[] sinGreenwichHourAngles = new double[MINUTES + 1];
+    double[] cosGreenwichHourAngles = new double[MINUTES + 1];
+    double[] minuteParallaxes = new double[MINUTES + 1];
+    sinRiseElevations = new double[MINUTES + 1];
+    double startHourAngle = greenwichSiderealTime(startMillis) - rightAscensions[0];
+    for (int node = 0; node < NODES - 1; node++) {
+      int from = node * NODE_MINUTES;
+      int to = node == NODES - 2 ? MINUTES : from + NODE_MINUTES - 1;
+      double endHourAngle = greenwichSiderealTime(
+        startMillis + (from + NODE_MINUTES) * MILLIS_PER_MINUTE) - rightAscensions[node + 1];
+      double hourAngleStep = (normalizeDegrees(endHourAngle - startHourAngle + HALF_CIRCLE)
+                              - HALF_CIRCLE) / NODE_MINUTES;
+      rotate(sinGreenwichHourAngles, cosGreenwichHourAngles, from, to,
+             toRadians(startHourAngle), toRadians(hourAngleStep));
+      rotate(sinDeclinations, cosDeclinations, from, to, declinations[node],
+             (declinations[node + 1] - declinations[node]) / NODE_MINUTES);
+      double startRise = sin(riseElevation(parallaxes[node]));
+      double endRise = sin(riseElevation(parallaxes[node + 1]));
+      for (int minute = from; minute <= to; minute++) {
+        double fraction = (minute - from) / (double) NODE_MINUTES;
+        minuteParallaxes[minute] = parallaxes[node]
+                                   + fraction * (parallaxes[node + 1] - parallaxes[node]);
+        sinRiseElevations[minute] = startRise + fraction * (endRise - startRise);
+      }
+      startHourAngle = endHourAngle;
+    }
+    track = new DailyTrack(date, sinDeclinations, cosDeclinations, sinGreenwichHourAngles,
+                           cosGreenwichHourAngles, minuteParallaxes);
+  }
+
+  /**
+   * Computes the moon's course for the given UTC date. Prefer {@link NightEphemeris} to reuse
+   * days once computed.
+   *
+   * @param date UTC date
+   * @return lunar day
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static LunarDay lunarDay(@NotNull final LocalDate date) {
+    return new LunarDay(requireNonNull(date, "date must not be null."));
+  }
+
+  /**
+   * UTC date of this day.
+   *
+   * @return date
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public LocalDate getDate() {
+    return date;
+  }
+
+  /**
+   * Position of the moon at the given location and time. The series is evaluated for the
+   * given time, thus times outside of this day are supported as well.
+   *
+   * @param coordinate location of the observer
+   * @param instant    time of observation
+   * @return position of the moon
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public HorizontalCoordinate position(@NotNull final GeoCoordinate coordinate,
+                                       @NotNull final Instant instant) {
+    return moonPosition(coordinate, instant);
+  }
+
+  /**
+   * Position of the moon at the given location and time, evaluating the series without the
+   * terms of a day.
+   */
+  @NotNull
+  @Contract(pure = true)
+  static HorizontalCoordinate moonPosition(@NotNull final GeoCoordinate coordinate,
+                                           @NotNull final Instant instant) {
+    double epochMillis = instant.toEpochMilli();
+    double[] equatorial = new double[3];
+    equatorial(julianCenturies(epochMillis), equatorial);
+    double latitude = coordinate.getLatitude().toRadians();
+    double hourAngle = toRadians(greenwichSiderealTime(epochMillis)
+                                 + coordinate.getLongitude().toDegrees()
+                                 - equatorial[RIGHT_ASCENSION]);
+    double sinLatitude = sin(latitude);
+    double cosLatitude = cos(latitude);
+    double sinDeclination = sin(equatorial[DECLINATION]);
+    double cosDeclination = cos(equatorial[DECLINATION]);
+    double cosHourAngle = cos(hourAngle);
+    double sinElevation = sinElevation(sinLatitude, cosLatitude, sinDeclination, cosDeclination,
+                                       cosHourAngle);
+    return HorizontalCoordinate.horizontal(
+      Angle.degrees(azimuth(sinLatitude, cosLatitude, sinDeclination, cosDeclination,
+                            sin(hourAngle), cosHourAngle)),
+      Angle.degrees(apparentElevation(topocentric(sinElevation, equatorial[PARALLAX]))));
+  }
+
+  /**
+   * Phase of the moon at the given time. The phase does not depend on the location of the
+   * observer.
+   *
+   * @param instant time of observation
+   * @return phase of the moon
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public MoonPhase phase(@NotNull final Instant instant) {
+    return moonPhase(instant);
+  }
+
+  /**
+   * Phase of the moon at the given time, evaluating the series without the terms of a day.
+   */
+  @NotNull
+  @Contract(pure = true)
+  static MoonPhase moonPhase(@NotNull final Instant instant) {
+    double centuries = julianCenturies(instant.toEpochMilli());
+    double elongation = meanElongation(centuries);
+    double sunAnomaly = toRadians(sunMeanAnomaly(centuries));
+    double moonAnomaly = toRadians(moonMeanAnomaly(centuries));
+    double elongationRadians = toRadians(elongation);
+    double phaseAngle = normalizeDegrees(
+      HALF_CIRCLE - elongation
+      - 6.289D * sin(moonAnomaly)
+      + 2.1D * sin(sunAnomaly)
+      - 1.274D * sin(2D * elongationRadians - moonAnomaly)
+      - 0.658D * sin(2D * elongationRadians)
+      - 0.214D * sin(2D * moonAnomaly)
+      - 0.11D * sin(elongationRadians));
+    boolean waxing = phaseAngle < HALF_CIRCLE;
+    return new MoonPhase(Angle.degrees(waxing ? phaseAngle : 2D * HALF_CIRCLE - phaseAngle),
+                         waxing);
+  }
+
+  /**
+   * Positions of the moon throughout this day at all the given locations, evaluated in
+   * parallel. Positions are stored location by location: the position at location {@code i}
+   * and step {@code j} is stored at index {@code i * steps + j}, where {@code steps} is
+   * {@link SolarDay#getStepCount(int)}.
+   *
+   * @param latitudes   latitudes in degrees
+   * @param longitudes  longitudes in degrees
+   * @param count       number of locations, starting at index 0
+   * @param stepMinutes minutes between evaluated times, starting at midnight UTC
+   * @param azimuths    target for azimuths in degrees
+   * @param elevations  target for apparent elevations in degrees
+   * @throws IllegalArgumentException if step is out of range or the targets are too short
+   * @since 1.0.0
+   */
+  public void positions(@NotNull final double[] latitudes,
+                        @NotNull final double[] longitudes,
+                        final int count,
+                        final int stepMinutes,
+                        @NotNull final double[] azimuths,
+                        @NotNull final double[] elevations) {
+    track.positions(latitudes, longitudes, count, stepMinutes, azimuths, elevations);
+  }
+
+  /**
+   * Times of moonrise, the moon's transit and moonset on this date at the given location.
+   *
+   * @param coordinate location of the observer
+   * @return times of events
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public RiseSetTimes times(@NotNull final GeoCoordinate coordinate) {
+    return track.events(coordinate.getLatitude().toDegrees(),
+                        coordinate.getLongitude().toDegrees(), sinRiseElevations);
+  }
+
+  /**
+   * Times of moonrise, the moon's transit and moonset on this date at all the given
+   * locations, computed in parallel.
+   *
+   * @param latitudes  latitudes in degrees
+   * @param longitudes longitudes in degrees
+   * @param count      number of locations, starting at index 0
+   * @return times of events, one per location
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public RiseSetTimes[] times(@NotNull final double[] latitudes,
+                              @NotNull final double[] longitudes,
+                              final int count) {
+    RiseSetTimes[] times = new RiseSetTimes[count];
+    IntStream.range(0, count).parallel().forEach(
+      spot -> times[spot] = track.events(latitudes[spot], longitudes[spot], sinRiseElevations));
+    return times;
+  }
+
+  /**
+   * Geocentric equatorial position of the moon, referred to the mean equinox of date.
+   *
+   * @param centuries Julian centuries since J2000.0
+   * @param target    target for right ascension in degrees, declination in radians and
+   *                  horizontal parallax in radians
+   */
+  static void equatorial(final double centuries, @NotNull final double[] target) {
+    double elongation = toRadians(meanElongation(centuries));
+    double sunAnomaly = toRadians(sunMeanAnomaly(centuries));
+    double moonAnomaly = toRadians(moonMeanAnomaly(centuries));
+    double latitudeArgument = toRadians(
+      93.272095D + centuries * (483_202.0175233D - centuries * 0.0036539D));
+    double meanLongitude = 218.3164477D + centuries * (481_267.88123421D
+                                                       - centuries * 0.0015786D);
+    double eccentricity = 1D - centuries * (0.002516D + centuries * 0.0000074D);
+    double longitudeSum = 0D;
+    double distanceSum = 0D;
+    for (int[] term : LONGITUDE_DISTANCE_TERMS) {
+      double argument = term[0] * elongation + term[1] * sunAnomaly + term[2] * moonAnomaly
+                        + term[3] * latitudeArgument;
+      double factor = eccentricityFactor(term[1], eccentricity);
+      longitudeSum += factor * term[4] * sin(argument);
+      distanceSum += factor * term[5] * cos(argument);
+    }
+    double latitudeSum = 0D;
+    for (int[] term : LATITUDE_TERMS) {
+      double argument = term[0] * elongation + term[1] * sunAnomaly + term[2] * moonAnomaly
+                        + term[3] * latitudeArgument;
+      latitudeSum += eccentricityFactor(term[1], eccentricity) * term[4] * sin(argument);
+    }
+    double venus = toRadians(119.75D + 131.849D * centuries);
+    double jupiter = toRadians(53.09D + 479_264.29D * centuries);
+    double flattening = toRadians(313.45D + 481_266.484D * centuries);
+    double meanLongitudeRadians = toRadians(meanLongitude);
+    longitudeSum += 3958D * sin(venus) + 1962D * sin(meanLongitudeRadians - latitudeArgument)
+                    + 318D * sin(jupiter);
+    latitudeSum += -2235D * sin(meanLongitudeRadians) + 382D * sin(flattening)
+                   + 175D * sin(venus - latitudeArgument) + 175D * sin(venus + latitudeArgument)
+                   + 127D * sin(meanLongitudeRadians - moonAnomaly)
+                   - 115D * sin(meanLongitudeRadians + moonAnomaly);
+    double longitude = toRadians(meanLongitude + longitudeSum / MICRO_DEGREES);
+    double latitude = toRadians(latitudeSum / MICRO_DEGREES);
+    double distance = MEAN_DISTANCE_KILOMETERS + distanceSum / METERS_PER_KILOMETER;
+    double obliquity = toRadians(23.439291D - 0.0130042D * centuries);
+    double sinLongitude = sin(longitude);
+    target[RIGHT_ASCENSION] = normalizeDegrees(toDegrees(atan2(
+      sinLongitude * cos(obliquity) - tan(latitude) * sin(obliquity), cos(longitude))));
+    target[DECLINATION] = asin(sin(latitude) * cos(obliquity)
+                               + cos(latitude) * sin(obliquity) * sinLongitude);
+    target[PARALLAX] = asin(EARTH_EQUATORIAL_RADIUS_KILOMETERS / distance);
+  }
+
+  /**
+   * Geocentric elevation in radians at which the upper limb of the moon touches the apparent
+   * horizon: lowered by refraction and the semi-diameter, lifted by the parallax.
+   */
+  @Contract(pure = true)
+  private static double riseElevation(final double parallax) {
+    return (1D - SEMI_DIAMETER_RATIO) * parallax - toRadians(HORIZON_REFRACTION);
+  }
+
+  @Contract(pure = true)
+  private static double eccentricityFactor(final int sunAnomalyMultiple,
+                                           final double eccentricity) {
+    switch (abs(sunAnomalyMultiple)) {
+      case 1:
+        return eccentricity;
+      case 2:
+        return eccentricity * eccentricity;
+      default:
+        return 1D;
+    }
+  }
+
+  /**
+   * Mean elongation of the moon from the sun in degrees.
+   */
+  @Contract(pure = true)
+  private static double meanElongation(final double centuries) {
+    return 297.8501921D + centuries * (445_267.1114034D - centuries * 0.0018819D);
+  }
+
+  @Contract(pure = true)
+  private static double sunMeanAnomaly(final double centuries) {
+    return 357.5291092D + centuries * (35_999.0502909D - centuries * 0.0001536D);
+  }
+
+  @Contract(pure = true)
+  private static double moonMeanAnomaly(final double centuries) {
+    return 134.9633964D + centuries * (477_198.8675055D + centuries * 0.0087414D);
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{date=" + date + '}';
+  }
+}
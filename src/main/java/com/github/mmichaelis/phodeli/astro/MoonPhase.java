@@ -0,0 +1,91 @@
+package com.github.mmichaelis.phodeli.astro;
+
+import com.github.mmichaelis.phodeli.measure.Angle;
+
+import java.io.Serializable;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Phase of the moon: the angle sun - moon - earth and the resulting illuminated fraction of
+ * the disk, from 0 at new moon to 1 at full moon.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class MoonPhase implements Serializable {
+
+  private static final long serialVersionUID = -4880474946581389105L;
+
+  @NotNull
+  private final Angle phaseAngle;
+  private final boolean waxing;
+
+  MoonPhase(@NotNull final Angle phaseAngle, final boolean waxing) {
+    this.phaseAngle = phaseAngle;
+    this.waxing = waxing;
+  }
+
+  /**
+   * Phase angle, from 0&deg; at full moon to 180&deg; at new moon.
+   *
+   * @return phase angle
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Angle getPhaseAngle() {
+    return phaseAngle;
+  }
+
+  /**
+   * Illuminated fraction of the moon's disk.
+   *
+   * @return fraction from 0 at new moon to 1 at full moon
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public double getIlluminatedFraction() {
+    return (1D + Math.cos(phaseAngle.toRadians())) / 2D;
+  }
+
+  /**
+   * Whether the illuminated fraction grows, that is between new moon and full moon.
+   *
+   * @return {@code true} if waxing, {@code false} if waning
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public boolean isWaxing() {
+    return waxing;
+  }
+
+  @Override
+  @Contract(pure = true)
+  public int hashCode() {
+    return 31 * phaseAngle.hashCode() + (waxing ? 1 : 0);
+  }
+
+  @Override
+  @Contract(pure = true)
+  public boolean equals(final Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    MoonPhase other = (MoonPhase) obj;
+    return waxing == other.waxing && phaseAngle.equals(other.phaseAngle);
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{phaseAngle=" + phaseAngle + ", waxing=" + waxing + '}';
+  }
+}
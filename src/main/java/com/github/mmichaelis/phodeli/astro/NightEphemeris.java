@@ -0,0 +1,199 @@
+package com.github.mmichaelis.phodeli.astro;
+
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+import com.github.mmichaelis.phodeli.internal.LruCache;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Entry point to the moon and the galactic core for planning night shoots. Keeps recently
+ * used {@link LunarDay}s and {@link GalacticCore}s, so that the per-date terms are computed
+ * only once no matter how many locations and times are asked for. The caches are bounded by
+ * the number of days and evict the least recently used day. Instances are thread-safe.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @see SolarEphemeris
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class NightEphemeris {
+
+  /**
+   * Default number of days to keep.
+   *
+   * @since 1.0.0
+   */
+  public static final int DEFAULT_CAPACITY = 64;
+
+  @NotNull
+  private final LruCache<LocalDate, LunarDay> moonDays;
+  @NotNull
+  private final LruCache<LocalDate, GalacticCore> coreDays;
+
+  private NightEphemeris(final int capacity) {
+    moonDays = new LruCache<>(capacity, LunarDay::lunarDay);
+    coreDays = new LruCache<>(capacity, GalacticCore::galacticCore);
+  }
+
+  /**
+   * Creates an ephemeris keeping up to {@value #DEFAULT_CAPACITY} days.
+   *
+   * @return ephemeris
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static NightEphemeris ephemeris() {
+    return ephemeris(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates an ephemeris keeping up to the given number of days.
+   *
+   * @param capacity maximum number of days to keep for the moon and for the galactic core
+   * @return ephemeris
+   * @throws IllegalArgumentException if capacity is less than 1
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static NightEphemeris ephemeris(final int capacity) {
+    return new NightEphemeris(capacity);
+  }
+
+  /**
+   * The moon's course on the given UTC date, computed on first request.
+   *
+   * @param date UTC date
+   * @return lunar day
+   * @since 1.0.0
+   */
+  @NotNull
+  public LunarDay moon(@NotNull final LocalDate date) {
+    return moonDays.get(date);
+  }
+
+  /**
+   * The galactic core's course on the given UTC date, computed on first request.
+   *
+   * @param date UTC date
+   * @return galactic core on that date
+   * @since 1.0.0
+   */
+  @NotNull
+  public GalacticCore galacticCore(@NotNull final LocalDate date) {
+    return coreDays.get(date);
+  }
+
+  /**
+   * Position of the moon at the given location and time. The position does not depend on the
+   * terms of a day, thus no day is computed or kept.
+   *
+   * @param coordinate location of the observer
+   * @param instant    time of observation
+   * @return position of the moon
+   * @since 1.0.0
+   */
+  @NotNull
+  public HorizontalCoordinate moonPosition(@NotNull final GeoCoordinate coordinate,
+                                           @NotNull final Instant instant) {
+    return LunarDay.moonPosition(coordinate, instant);
+  }
+
+  /**
+   * Phase of the moon at the given time. Just as the position, the phase is computed without
+   * keeping a day.
+   *
+   * @param instant time of observation
+   * @return phase of the moon
+   * @since 1.0.0
+   */
+  @NotNull
+  public MoonPhase moonPhase(@NotNull final Instant instant) {
+    return LunarDay.moonPhase(instant);
+  }
+
+  /**
+   * Times of moonrise, the moon's transit and moonset on the given UTC date.
+   *
+   * @param coordinate location of the observer
+   * @param date       UTC date
+   * @return times of events
+   * @since 1.0.0
+   */
+  @NotNull
+  public RiseSetTimes moonTimes(@NotNull final GeoCoordinate coordinate,
+                                @NotNull final LocalDate date) {
+    return moon(date).times(coordinate);
+  }
+
+  /**
+   * Position of the galactic core at the given location and time.
+   *
+   * @param coordinate location of the observer
+   * @param instant    time of observation
+   * @return position of the galactic core
+   * @since 1.0.0
+   */
+  @NotNull
+  public HorizontalCoordinate galacticCorePosition(@NotNull final GeoCoordinate coordinate,
+                                                   @NotNull final Instant instant) {
+    return galacticCore(utcDate(instant)).position(coordinate, instant);
+  }
+
+  /**
+   * Times when the galactic core rises, culminates and sets on the given UTC date.
+   *
+   * @param coordinate location of the observer
+   * @param date       UTC date
+   * @return times of events
+   * @since 1.0.0
+   */
+  @NotNull
+  public RiseSetTimes galacticCoreTimes(@NotNull final GeoCoordinate coordinate,
+                                        @NotNull final LocalDate date) {
+    return galacticCore(date).times(coordinate);
+  }
+
+  /**
+   * Number of days currently kept for the moon.
+   *
+   * @return number of days
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int getMoonDayCount() {
+    return moonDays.size();
+  }
+
+  /**
+   * Number of days currently kept for the galactic core.
+   *
+   * @return number of days
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int getGalacticCoreDayCount() {
+    return coreDays.size();
+  }
+
+  @NotNull
+  @Contract(pure = true)
+  private static LocalDate utcDate(@NotNull final Instant instant) {
+    return instant.atOffset(ZoneOffset.UTC).toLocalDate();
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{capacity=" + moonDays.getCapacity() + ", moonDayCount="
+           + getMoonDayCount() + ", galacticCoreDayCount=" + getGalacticCoreDayCount() + '}';
+  }
+}
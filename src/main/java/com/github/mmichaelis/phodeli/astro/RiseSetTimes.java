@@ -0,0 +1,123 @@
+package com.github.mmichaelis.phodeli.astro;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Objects;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * <p>
+ * Times when a body such as the moon rises, culminates and sets on one UTC date. Each event
+ * is the first one on that date; events which do not happen on that date are {@code null}.
+ * As the moon rises about 50 minutes later each day, there are dates without moonrise or
+ * moonset even far from the poles.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class RiseSetTimes implements Serializable {
+
+  private static final long serialVersionUID = 3318470853209719524L;
+
+  @NotNull
+  private final LocalDate date;
+  @Nullable
+  private final Instant rise;
+  @Nullable
+  private final Instant transit;
+  @Nullable
+  private final Instant set;
+
+  RiseSetTimes(@NotNull final LocalDate date,
+               @Nullable final Instant rise,
+               @Nullable final Instant transit,
+               @Nullable final Instant set) {
+    this.date = date;
+    this.rise = rise;
+    this.transit = transit;
+    this.set = set;
+  }
+
+  /**
+   * UTC date the events belong to.
+   *
+   * @return date
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public LocalDate getDate() {
+    return date;
+  }
+
+  /**
+   * Time when the upper limb rises above the horizon.
+   *
+   * @return rise; {@code null} if the body does not rise on this date
+   * @since 1.0.0
+   */
+  @Nullable
+  @Contract(pure = true)
+  public Instant getRise() {
+    return rise;
+  }
+
+  /**
+   * Time when the body crosses the meridian at its highest elevation.
+   *
+   * @return transit; {@code null} if the body does not cross the meridian on this date
+   * @since 1.0.0
+   */
+  @Nullable
+  @Contract(pure = true)
+  public Instant getTransit() {
+    return transit;
+  }
+
+  /**
+   * Time when the upper limb sets below the horizon.
+   *
+   * @return set; {@code null} if the body does not set on this date
+   * @since 1.0.0
+   */
+  @Nullable
+  @Contract(pure = true)
+  public Instant getSet() {
+    return set;
+  }
+
+  @Override
+  @Contract(pure = true)
+  public int hashCode() {
+    return Objects.hash(date, rise, transit, set);
+  }
+
+  @Override
+  @Contract(pure = true)
+  public boolean equals(final Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    RiseSetTimes other = (RiseSetTimes) obj;
+    return date.equals(other.date)
+           && Objects.equals(rise, other.rise)
+           && Objects.equals(transit, other.transit)
+           && Objects.equals(set, other.set);
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{date=" + date + ", rise=" + rise + ", transit=" + transit
+           + ", set=" + set + '}';
+  }
+}
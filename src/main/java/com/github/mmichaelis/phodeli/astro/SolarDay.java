@@ -0,0 +1,472 @@
+package com.github.mmichaelis.phodeli.astro;
+
+import static com.github.mmichaelis.phodeli.astro.Astronomy.MILLIS_PER_DAY;
+import static com.github.mmichaelis.phodeli.astro.Astronomy.apparentElevation;
+import static com.github.mmichaelis.phodeli.astro.Astronomy.azimuth;
+import static com.github.mmichaelis.phodeli.astro.Astronomy.julianCenturies;
+import static com.github.mmichaelis.phodeli.astro.Astronomy.sinElevation;
+import static com.github.mmichaelis.phodeli.astro.DailyTrack.MILLIS_PER_MINUTE;
+import static com.github.mmichaelis.phodeli.astro.DailyTrack.MINUTES;
+import static java.lang.Math.acos;
+import static java.lang.Math.asin;
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+import static java.lang.Math.tan;
+import static java.lang.Math.toDegrees;
+import static java.lang.Math.toRadians;
+import static java.util.Objects.requireNonNull;
+
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+import com.github.mmichaelis.phodeli.measure.Angle;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.stream.IntStream;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * <p>
+ * Position of the sun throughout one UTC date, following the algorithms of the NOAA solar
+ * calculator (based on Jean Meeus: Astronomical Algorithms), which are accurate to about a
+ * minute for sunrise and sunset within several millennia around today.
+ * </p>
+ * <p>
+ * The location independent terms, the sun's declination and the equation of time, are
+ * computed once per minute of the day when the day is created, and interpolated in between.
+ * Any number of locations then only need the transformation to their horizon. Bulk
+ * evaluation of whole days for many spots additionally precomputes sine and cosine of the
+ * hour angle at Greenwich, so that the inner loop only needs the inverse trigonometric
+ * functions for the result.
+ * </p>
+ * <p>
+ * Elevations are apparent elevations of the center of the sun, corrected for atmospheric
+ * refraction. Golden and blue hour limits refer to the geometric elevation.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @see SolarEphemeris
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class SolarDay {
+
+  /**
+   * Elevation of the center of the sun at sunrise and sunset in degrees: its upper limb
+   * touches the horizon, lifted by refraction.
+   *
+   * @since 1.0.0
+   */
+  public static final double SUNRISE_ELEVATION = -0.833D;
+  /**
+   * Upper limit of the golden hour in degrees.
+   *
+   * @since 1.0.0
+   */
+  public static final double GOLDEN_HOUR_UPPER = 6D;
+  /**
+   * Lower limit of the golden hour and upper limit of the blue hour in degrees.
+   *
+   * @since 1.0.0
+   */
+  public static final double GOLDEN_HOUR_LOWER = -4D;
+  /**
+   * Lower limit of the blue hour in degrees.
+   *
+   * @since 1.0.0
+   */
+  public static final double BLUE_HOUR_LOWER = -6D;
+
+  private static final double SOLAR_NOON_MINUTE = 720D;
+  private static final double MINUTES_PER_DEGREE = 4D;
+  private static final double HALF_CIRCLE = 180D;
+  private static final double QUARTER_CIRCLE = 90D;
+  /**
+   * Iterations to refine event times with the declination and equation of time at the event.
+   */
+  private static final int EVENT_ITERATIONS = 3;
+
+  @NotNull
+  private final LocalDate date;
+  private final long startMillis;
+  /**
+   * Declination in radians at each minute of the day, including the end of the day.
+   */
+  @NotNull
+  private final double[] declinations;
+  /**
+   * Equation of time in minutes at each minute of the day, including the end of the day.
+   */
+  @NotNull
+  private final double[] equationOfTime;
+  @NotNull
+  private final DailyTrack track;
+
+  private SolarDay(@NotNull final LocalDate date) {
+    this.date = date;
+    startMillis = date.toEpochDay() * MILLIS_PER_DAY;
+    declinations = new double[MINUTES + 1];
+    equationOfTime = new double[MINUTES + 1];
+    double[] sinDeclinations = new double[MINUTES + 1];
+    double[] cosDeclinations = new double[MINUTES + 1];
+    double[] sinGreenwichHourAngles = new double[MINUTES + 1];
+    double[] cosGreenwichHourAngles = new double[MINUTES + 1];
+    for (int minute = 0; minute <= MINUTES; minute++) {
+      double centuries = julianCenturies(startMillis + minute * MILLIS_PER_MINUTE);
+      declinations[minute] = declination(centuries);
+      equationOfTime[minute] = equationOfTime(centuries);
+      sinDeclinations[minute] = sin(declinations[minute]);
+      cosDeclinations[minute] = cos(declinations[minute]);
+      double hourAngle = toRadians(greenwichHourAngle(minute, equationOfTime[minute]));
+      sinGreenwichHourAngles[minute] = sin(hourAngle);
+      cosGreenwichHourAngles[minute] = cos(hourAngle);
+    }
+    track = new DailyTrack(date, sinDeclinations, cosDeclinations, sinGreenwichHourAngles,
+                           cosGreenwichHourAngles, null);
+  }
+
+  /**
+   * Computes the sun's course for the given UTC date. Prefer {@link SolarEphemeris} to reuse
+   * days once computed.
+   *
+   * @param date UTC date
+   * @return solar day
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static SolarDay solarDay(@NotNull final LocalDate date) {
+    return new SolarDay(requireNonNull(date, "date must not be null."));
+  }
+
+  /**
+   * UTC date of this day.
+   *
+   * @return date
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public LocalDate getDate() {
+    return date;
+  }
+
+  /**
+   * Position of the sun at the given location and time. Times outside of this day are
+   * supported, but computed without the precomputed terms.
+   *
+   * @param coordinate location of the observer
+   * @param instant    time of observation
+   * @return position of the sun
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public HorizontalCoordinate position(@NotNull final GeoCoordinate coordinate,
+                                       @NotNull final Instant instant) {
+    double minute = (instant.toEpochMilli() - startMillis) / MILLIS_PER_MINUTE;
+    double latitude = coordinate.getLatitude().toRadians();
+    double declination = declinationAt(minute);
+    double hourAngle = toRadians(greenwichHourAngle(minute, equationOfTimeAt(minute))
+                                 + coordinate.getLongitude().toDegrees());
+    double sinLatitude = sin(latitude);
+    double cosLatitude = cos(latitude);
+    double sinDeclination = sin(declination);
+    double cosDeclination = cos(declination);
+    double cosHourAngle = cos(hourAngle);
+    return HorizontalCoordinate.horizontal(
+      Angle.degrees(azimuth(sinLatitude, cosLatitude, sinDeclination, cosDeclination,
+                            sin(hourAngle), cosHourAngle)),
+      Angle.degrees(apparentElevation(sinElevation(sinLatitude, cosLatitude, sinDeclination,
+                                                   cosDeclination, cosHourAngle))));
+  }
+
+  /**
+   * Number of evaluated times for bulk positions with the given step.
+   *
+   * @param stepMinutes minutes between evaluated times
+   * @return number of evaluated times within this day, starting at midnight
+   * @throws IllegalArgumentException if step is not within 1 to 1440 minutes
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public static int getStepCount(final int stepMinutes) {
+    return DailyTrack.stepCount(stepMinutes);
+  }
+
+  /**
+   * Positions of the sun throughout this day at all the given locations, evaluated in
+   * parallel. Positions are stored location by location: the position at location {@code i}
+   * and step {@code j} is stored at index {@code i * steps + j}, where {@code steps} is
+   * {@link #getStepCount(int)}.
+   *
+   * @param latitudes   latitudes in degrees
+   * @param longitudes  longitudes in degrees
+   * @param count       number of locations, starting at index 0
+   * @param stepMinutes minutes between evaluated times, starting at midnight UTC
+   * @param azimuths    target for azimuths in degrees
+   * @param elevations  target for apparent elevations in degrees
+   * @throws IllegalArgumentException if step is out of range or the targets are too short
+   * @since 1.0.0
+   */
+  public void positions(@NotNull final double[] latitudes,
+                        @NotNull final double[] longitudes,
+                        final int count,
+                        final int stepMinutes,
+                        @NotNull final double[] azimuths,
+                        @NotNull final double[] elevations) {
+    track.positions(latitudes, longitudes, count, stepMinutes, azimuths, elevations);
+  }
+
+  /**
+   * Times of the sun's events on this day at the given location. Events belong to the solar
+   * day around the solar noon on this UTC date, thus far east or west they may happen on the
+   * previous or next UTC date.
+   *
+   * @param coordinate location of the observer
+   * @return times of events
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public SunTimes times(@NotNull final GeoCoordinate coordinate) {
+    return times(coordinate.getLatitude().toDegrees(), coordinate.getLongitude().toDegrees());
+  }
+
+  /**
+   * Times of the sun's events on this day at all the given locations, computed in parallel.
+   *
+   * @param latitudes  latitudes in degrees
+   * @param longitudes longitudes in degrees
+   * @param count      number of locations, starting at index 0
+   * @return times of events, one per location
+   * @see #times(GeoCoordinate)
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public SunTimes[] times(@NotNull final double[] latitudes,
+                          @NotNull final double[] longitudes,
+                          final int count) {
+    SunTimes[] times = new SunTimes[count];
+    IntStream.range(0, count).parallel()
+      .forEach(spot -> times[spot] = times(latitudes[spot], longitudes[spot]));
+    return times;
+  }
+
+  /**
+   * Time when the sun passes the given geometric elevation before or after noon of this
+   * solar day.
+   *
+   * @param elevation geometric elevation in degrees
+   * @param direction -1 for the crossing before noon, 1 for the crossing after noon
+   * @return time of crossing; {@code null} if the sun does not pass the elevation
+   */
+  @Nullable
+  @Contract(pure = true)
+  Instant crossing(final double latitude,
+                   final double longitude,
+                   final double elevation,
+                   final double direction) {
+    double noon = noon(longitude);
+    double declination = toDegrees(declinationAt(noon));
+    double highest = QUARTER_CIRCLE - Math.abs(latitude - declination);
+    double lowest = Math.abs(latitude + declination) - QUARTER_CIRCLE;
+    if (!(lowest < elevation && elevation < highest)) {
+      return null;
+    }
+    return instant(crossing(latitude, longitude, noon, elevation, direction));
+  }
+
+  @NotNull
+  @Contract(pure = true)
+  private SunTimes times(final double latitude, final double longitude) {
+    double noon = noon(longitude);
+    double declination = toDegrees(declinationAt(noon));
+    double highest = QUARTER_CIRCLE - Math.abs(latitude - declination);
+    double lowest = Math.abs(latitude + declination) - QUARTER_CIRCLE;
+    boolean rises = lowest < SUNRISE_ELEVATION && SUNRISE_ELEVATION < highest;
+    return new SunTimes(
+      date,
+      instant(noon),
+      rises ? instant(crossing(latitude, longitude, noon, SUNRISE_ELEVATION, -1D)) : null,
+      rises ? instant(crossing(latitude, longitude, noon, SUNRISE_ELEVATION, 1D)) : null,
+      window(latitude, longitude, noon, highest, lowest,
+             GOLDEN_HOUR_LOWER, GOLDEN_HOUR_UPPER, -1D),
+      window(latitude, longitude, noon, highest, lowest,
+             GOLDEN_HOUR_LOWER, GOLDEN_HOUR_UPPER, 1D),
+      window(latitude, longitude, noon, highest, lowest, BLUE_HOUR_LOWER, GOLDEN_HOUR_LOWER,
+             -1D),
+      window(latitude, longitude, noon, highest, lowest, BLUE_HOUR_LOWER, GOLDEN_HOUR_LOWER,
+             1D));
+  }
+
+  /**
+   * Minute of the solar noon at the given longitude.
+   */
+  @Contract(pure = true)
+  private double noon(final double longitude) {
+    double noon = SOLAR_NOON_MINUTE - MINUTES_PER_DEGREE * longitude;
+    for (int i = 0; i < EVENT_ITERATIONS; i++) {
+      noon = SOLAR_NOON_MINUTE - MINUTES_PER_DEGREE * longitude - equationOfTimeAt(noon);
+    }
+    return noon;
+  }
+
+  /**
+   * Window while the sun passes from the lower to the upper elevation in the morning, or from
+   * the upper to the lower in the evening.
+   *
+   * @param direction -1 for the morning, 1 for the evening
+   */
+  @Nullable
+  @Contract(pure = true)
+  private TimeWindow window(final double latitude,
+                            final double longitude,
+                            final double noon,
+                            final double highest,
+                            final double lowest,
+                            final double lower,
+                            final double upper,
+                            final double direction) {
+    if (!(lowest < lower && lower < highest)) {
+      return null;
+    }
+    double atLower = crossing(latitude, longitude, noon, lower, direction);
+    double atUpper = upper < highest ? crossing(latitude, longitude, noon, upper, direction)
+                                     : noon;
+    return direction < 0D ? TimeWindow.window(instant(atLower), instant(atUpper))
+                          : TimeWindow.window(instant(atUpper), instant(atLower));
+  }
+
+  /**
+   * Minute of the day when the sun passes the given elevation before or after noon.
+   *
+   * @param direction -1 for the crossing before noon, 1 for the crossing after noon
+   */
+  @Contract(pure = true)
+  private double crossing(final double latitude,
+                          final double longitude,
+                          final double noon,
+                          final double elevation,
+                          final double direction) {
+    double phi = toRadians(latitude);
+    double sinElevation = sin(toRadians(elevation));
+    double minute = noon;
+    for (int i = 0; i < EVENT_ITERATIONS; i++) {
+      double declination = declinationAt(minute);
+      double cosHourAngle = (sinElevation - sin(phi) * sin(declination))
+                            / (cos(phi) * cos(declination));
+      double hourAngle = toDegrees(acos(Math.max(-1D, Math.min(1D, cosHourAngle))));
+      minute = SOLAR_NOON_MINUTE - MINUTES_PER_DEGREE * longitude - equationOfTimeAt(minute)
+               + direction * MINUTES_PER_DEGREE * hourAngle;
+    }
+    return minute;
+  }
+
+  @NotNull
+  @Contract(pure = true)
+  private Instant instant(final double minute) {
+    return Instant.ofEpochMilli(startMillis + Math.round(minute * MILLIS_PER_MINUTE));
+  }
+
+  /**
+   * Declination in radians at the given minute, interpolated within this day.
+   */
+  @Contract(pure = true)
+  private double declinationAt(final double minute) {
+    if (!(minute >= 0D && minute <= MINUTES)) {
+      return declination(julianCenturies(startMillis + minute * MILLIS_PER_MINUTE));
+    }
+    int index = Math.min(MINUTES - 1, (int) minute);
+    double fraction = minute - index;
+    return declinations[index] + fraction * (declinations[index + 1] - declinations[index]);
+  }
+
+  /**
+   * Equation of time in minutes at the given minute, interpolated within this day.
+   */
+  @Contract(pure = true)
+  private double equationOfTimeAt(final double minute) {
+    if (!(minute >= 0D && minute <= MINUTES)) {
+      return equationOfTime(julianCenturies(startMillis + minute * MILLIS_PER_MINUTE));
+    }
+    int index = Math.min(MINUTES - 1, (int) minute);
+    double fraction = minute - index;
+    return equationOfTime[index]
+           + fraction * (equationOfTime[index + 1] - equationOfTime[index]);
+  }
+
+  /**
+   * Hour angle at Greenwich in degrees: true solar time relative to noon.
+   */
+  @Contract(pure = true)
+  private static double greenwichHourAngle(final double minute, final double equationOfTime) {
+    return (minute + equationOfTime) / MINUTES_PER_DEGREE - HALF_CIRCLE;
+  }
+
+  /**
+   * Sun's declination in radians.
+   */
+  @Contract(pure = true)
+  static double declination(final double centuries) {
+    double obliquity = toRadians(correctedObliquity(centuries));
+    return asin(sin(obliquity) * sin(toRadians(apparentLongitude(centuries))));
+  }
+
+  /**
+   * Equation of time in minutes: true solar time minus mean solar time.
+   */
+  @Contract(pure = true)
+  private static double equationOfTime(final double centuries) {
+    double meanLongitude = toRadians(meanLongitude(centuries));
+    double meanAnomaly = toRadians(meanAnomaly(centuries));
+    double eccentricity = 0.016708634D - centuries * (0.000042037D + 0.0000001267D * centuries);
+    double tanHalfObliquity = tan(toRadians(correctedObliquity(centuries)) / 2D);
+    double y = tanHalfObliquity * tanHalfObliquity;
+    double sinMeanAnomaly = sin(meanAnomaly);
+    return MINUTES_PER_DEGREE * toDegrees(
+      y * sin(2D * meanLongitude)
+      - 2D * eccentricity * sinMeanAnomaly
+      + 4D * eccentricity * y * sinMeanAnomaly * cos(2D * meanLongitude)
+      - 0.5D * y * y * sin(4D * meanLongitude)
+      - 1.25D * eccentricity * eccentricity * sin(2D * meanAnomaly));
+  }
+
+  @Contract(pure = true)
+  private static double meanLongitude(final double centuries) {
+    return Astronomy.normalizeDegrees(
+      280.46646D + centuries * (36_000.76983D + centuries * 0.0003032D));
+  }
+
+  @Contract(pure = true)
+  private static double meanAnomaly(final double centuries) {
+    return 357.52911D + centuries * (35_999.05029D - 0.0001537D * centuries);
+  }
+
+  @Contract(pure = true)
+  private static double apparentLongitude(final double centuries) {
+    double meanAnomaly = toRadians(meanAnomaly(centuries));
+    double center = sin(meanAnomaly) * (1.914602D - centuries * (0.004817D + 0.000014D * centuries))
+                    + sin(2D * meanAnomaly) * (0.019993D - 0.000101D * centuries)
+                    + sin(3D * meanAnomaly) * 0.000289D;
+    double omega = toRadians(125.04D - 1934.136D * centuries);
+    return meanLongitude(centuries) + center - 0.00569D - 0.00478D * sin(omega);
+  }
+
+  @Contract(pure = true)
+  private static double correctedObliquity(final double centuries) {
+    double polynomial = 0.00059D - centuries * 0.001813D;
+    double seconds = 21.448D - centuries * (46.815D + centuries * polynomial);
+    double meanObliquity = 23D + (26D + seconds / 60D) / 60D;
+    return meanObliquity + 0.00256D * cos(toRadians(125.04D - 1934.136D * centuries));
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{date=" + date + '}';
+  }
+}
@@ -0,0 +1,124 @@
+package com.github.mmichaelis.phodeli.astro;
+
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+import com.github.mmichaelis.phodeli.internal.LruCache;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Entry point to the sun's position and events which keeps recently used {@link SolarDay}s,
+ * so that the per-date terms are computed only once no matter how many locations and times
+ * are asked for. The cache is bounded by the number of days and evicts the least recently
+ * used day. Instances are thread-safe.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class SolarEphemeris {
+
+  /**
+   * Default number of days to keep.
+   *
+   * @since 1.0.0
+   */
+  public static final int DEFAULT_CAPACITY = 64;
+
+  @NotNull
+  private final LruCache<LocalDate, SolarDay> days;
+
+  private SolarEphemeris(final int capacity) {
+    days = new LruCache<>(capacity, SolarDay::solarDay);
+  }
+
+  /**
+   * Creates an ephemeris keeping up to {@value #DEFAULT_CAPACITY} days.
+   *
+   * @return ephemeris
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static SolarEphemeris ephemeris() {
+    return ephemeris(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates an ephemeris keeping up to the given number of days.
+   *
+   * @param capacity maximum number of days to keep
+   * @return ephemeris
+   * @throws IllegalArgumentException if capacity is less than 1
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static SolarEphemeris ephemeris(final int capacity) {
+    return new SolarEphemeris(capacity);
+  }
+
+  /**
+   * The sun's course on the given UTC date, computed on first request.
+   *
+   * @param date UTC date
+   * @return solar day
+   * @since 1.0.0
+   */
+  @NotNull
+  public SolarDay day(@NotNull final LocalDate date) {
+    return days.get(date);
+  }
+
+  /**
+   * Position of the sun at the given location and time.
+   *
+   * @param coordinate location of the observer
+   * @param instant    time of observation
+   * @return position of the sun
+   * @since 1.0.0
+   */
+  @NotNull
+  public HorizontalCoordinate position(@NotNull final GeoCoordinate coordinate,
+                                       @NotNull final Instant instant) {
+    return day(instant.atOffset(ZoneOffset.UTC).toLocalDate()).position(coordinate, instant);
+  }
+
+  /**
+   * Times of the sun's events on the given UTC date at the given location.
+   *
+   * @param coordinate location of the observer
+   * @param date       UTC date
+   * @return times of events
+   * @see SolarDay#times(GeoCoordinate)
+   * @since 1.0.0
+   */
+  @NotNull
+  public SunTimes times(@NotNull final GeoCoordinate coordinate, @NotNull final LocalDate date) {
+    return day(date).times(coordinate);
+  }
+
+  /**
+   * Number of days currently kept.
+   *
+   * @return number of days
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int getDayCount() {
+    return days.size();
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{capacity=" + days.getCapacity() + ", dayCount=" + getDayCount()
+           + '}';
+  }
+}
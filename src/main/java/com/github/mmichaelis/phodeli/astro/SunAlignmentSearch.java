@@ -0,0 +1,348 @@
+package com.github.mmichaelis.phodeli.astro;
+
+import static com.github.mmichaelis.phodeli.astro.Astronomy.FULL_CIRCLE;
+import static com.github.mmichaelis.phodeli.astro.Astronomy.MILLIS_PER_DAY;
+import static com.github.mmichaelis.phodeli.astro.Astronomy.julianCenturies;
+import static com.github.mmichaelis.phodeli.astro.Astronomy.normalizeDegrees;
+import static java.lang.Math.abs;
+import static java.lang.Math.acos;
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+import static java.lang.Math.sqrt;
+import static java.lang.Math.toDegrees;
+import static java.lang.Math.toRadians;
+import static java.util.Objects.requireNonNull;
+
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+import com.github.mmichaelis.phodeli.measure.Angle;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Searches dates when the sun rises or sets along a line of sight, such as the axis of a
+ * street (known as Manhattanhenge in New York) or the line from a spot to a landmark, which
+ * can be derived by {@link com.github.mmichaelis.phodeli.geo.GreatCircle#initialBearing}.
+ * Each candidate is an origin and a bearing; bearings from 0&deg; to 180&deg; are matched by
+ * the rising sun, bearings from 180&deg; to 360&deg; by the setting sun. A match is a day on
+ * which the sun passes the searched elevation at an azimuth within the tolerance of the
+ * bearing.
+ * </p>
+ * <p>
+ * The search steps from coarse to fine. Coarse: the azimuth at which the sun passes the
+ * elevation follows in closed form from the declination, which is tabulated once per
+ * search for all candidates. As the declination changes by less than half a degree per day,
+ * the deviation from the bearing bounds how many days may be skipped safely, so most of the
+ * year is skipped in a few steps. Fine: days close enough to the bearing are refined to the
+ * exact time of passing the elevation and the sun's azimuth at that time, using the per-date
+ * terms of {@link SolarDay}. Candidates are searched in parallel; days to refine are grouped,
+ * so that the terms of each date are computed once, and refined in parallel.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class SunAlignmentSearch {
+
+  /**
+   * Upper bound of the change of the sun's declination per day in degrees; the actual
+   * maximum near the equinoxes is about 0.4&deg;.
+   */
+  private static final double MAX_DECLINATION_RATE = 0.5D;
+  /**
+   * Upper bound of the error of the coarse declination in degrees, dominated by neglecting
+   * the equation of time.
+   */
+  private static final double COARSE_DECLINATION_ERROR = 0.01D;
+  private static final double HALF_CIRCLE = 180D;
+  private static final double QUARTER_CIRCLE = 90D;
+  private static final long[] NO_REFINEMENTS = new long[0];
+
+  /**
+   * Geometric elevation of the center of the sun in degrees.
+   */
+  private final double elevation;
+  /**
+   * Tolerance in degrees.
+   */
+  private final double tolerance;
+
+  private SunAlignmentSearch(final double elevation, final double tolerance) {
+    this.elevation = elevation;
+    this.tolerance = tolerance;
+  }
+
+  /**
+   * Creates a search.
+   *
+   * @param elevation geometric elevation of the center of the sun when lined up; use
+   *                  {@link SolarDay#SUNRISE_ELEVATION} for a flat horizon, higher values for
+   *                  horizons raised by buildings or terrain
+   * @param tolerance maximum absolute deviation of the sun's azimuth from the bearing
+   * @return search
+   * @throws IllegalArgumentException if elevation is not within -90&deg; to 90&deg; (exclusive)
+   *                                  or tolerance is negative
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static SunAlignmentSearch sunAlignmentSearch(@NotNull final Angle elevation,
+                                                      @NotNull final Angle tolerance) {
+    double elevationDegrees = elevation.toDegrees();
+    double toleranceDegrees = tolerance.toDegrees();
+    if (!(abs(elevationDegrees) < QUARTER_CIRCLE)) {
+      throw new IllegalArgumentException(
+        "Elevation must be within -90 to 90 degrees but is " + elevationDegrees + '.');
+    }
+    if (!(toleranceDegrees >= 0D)) {
+      throw new IllegalArgumentException(
+        "Tolerance must not be negative but is " + toleranceDegrees + '.');
+    }
+    return new SunAlignmentSearch(elevationDegrees, toleranceDegrees);
+  }
+
+  /**
+   * Searches the days on which the sun lines up with the given line of sight.
+   *
+   * @param origin  location of the observer
+   * @param bearing bearing of the line of sight, clockwise from north
+   * @param from    first UTC date to search
+   * @param to      last UTC date to search, inclusive
+   * @return matches ordered by time
+   * @throws IllegalArgumentException if to is before from
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public List<AlignmentMatch> search(@NotNull final GeoCoordinate origin,
+                                     @NotNull final Angle bearing,
+                                     @NotNull final LocalDate from,
+                                     @NotNull final LocalDate to) {
+    return search(new double[]{origin.getLatitude().toDegrees()},
+                  new double[]{origin.getLongitude().toDegrees()},
+                  new double[]{bearing.toDegrees()}, 1, from, to);
+  }
+
+  /**
+   * Searches the days on which the sun lines up with any of the given lines of sight,
+   * evaluating candidates in parallel.
+   *
+   * @param latitudes  latitudes of the origins in degrees
+   * @param longitudes longitudes of the origins in degrees
+   * @param bearings   bearings of the lines of sight in degrees, clockwise from north
+   * @param count      number of candidates, starting at index 0
+   * @param from       first UTC date to search
+   * @param to         last UTC date to search, inclusive
+   * @return matches ordered by candidate and time
+   * @throws IllegalArgumentException if to is before from or count exceeds the arrays
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public List<AlignmentMatch> search(@NotNull final double[] latitudes,
+                                     @NotNull final double[] longitudes,
+                                     @NotNull final double[] bearings,
+                                     final int count,
+                                     @NotNull final LocalDate from,
+                                     @NotNull final LocalDate to) {
+    requireNonNull(from, "from must not be null.");
+    requireNonNull(to, "to must not be null.");
+    if (to.isBefore(from)) {
+      throw new IllegalArgumentException("To " + to + " is before from " + from + '.');
+    }
+    if (count > latitudes.length || count > longitudes.length || count > bearings.length) {
+      throw new IllegalArgumentException(
+        "Count " + count + " exceeds latitudes (" + latitudes.length + "), longitudes ("
+        + longitudes.length + ") or bearings (" + bearings.length + ").");
+    }
+    int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+    double[] declinations = declinations(from, days);
+    long[] refinements = IntStream.range(0, count).parallel()
+      .mapToObj(candidate -> coarse(candidate, latitudes[candidate], longitudes[candidate],
+                                    normalizeDegrees(bearings[candidate]), days, declinations))
+      .flatMapToLong(LongStream::of)
+      .toArray();
+    // Group by day, so that the terms of each day are computed once for all its candidates.
+    Arrays.parallelSort(refinements);
+    int[] runStarts = IntStream.rangeClosed(0, refinements.length)
+      .filter(i -> i == 0 || i == refinements.length
+                   || day(refinements[i]) != day(refinements[i - 1]))
+      .toArray();
+    return IntStream.range(0, runStarts.length - 1).parallel()
+      .mapToObj(run -> refine(refinements, runStarts[run], runStarts[run + 1], latitudes,
+                              longitudes, bearings, from))
+      .flatMap(List::stream)
+      .sorted(Comparator.comparingInt(AlignmentMatch::getCandidate)
+                .thenComparing(AlignmentMatch::getInstant))
+      .collect(Collectors.toList());
+  }
+
+  /**
+   * Coarse search of a candidate.
+   *
+   * @return days to refine, each packed with the candidate as by {@link #pack(int, int)}
+   */
+  @NotNull
+  @Contract(pure = true)
+  private long[] coarse(final int candidate,
+                        final double latitude,
+                        final double longitude,
+                        final double bearing,
+                        final int days,
+                        @NotNull final double[] declinations) {
+    double direction = direction(bearing);
+    double phi = toRadians(latitude);
+    double sinLatitude = sin(phi);
+    double cosLatitude = cos(phi);
+    double sinElevation = sin(toRadians(elevation));
+    double cosElevation = cos(toRadians(elevation));
+    double sinBearing = abs(sin(toRadians(bearing)));
+    long[] refinements = NO_REFINEMENTS;
+    int size = 0;
+    int day = 0;
+    while (day < days) {
+      double noon = day + 0.5D - longitude / FULL_CIRCLE;
+      double sinNoonDeclination = sin(toRadians(interpolate(declinations, noon)));
+      double cosHourAngle = (sinElevation - sinLatitude * sinNoonDeclination)
+                            / (cosLatitude * sqrt(1D - sinNoonDeclination * sinNoonDeclination));
+      if (!(abs(cosHourAngle) <= 1D)) {
+        day++;
+        continue;
+      }
+      double event = noon + direction * toDegrees(acos(cosHourAngle)) / FULL_CIRCLE;
+      double cosAzimuth = (sin(toRadians(interpolate(declinations, event)))
+                           - sinLatitude * sinElevation) / (cosLatitude * cosElevation);
+      if (!(abs(cosAzimuth) <= 1D)) {
+        day++;
+        continue;
+      }
+      double azimuth = toDegrees(acos(cosAzimuth));
+      double deviation = deviation(direction < 0D ? azimuth : FULL_CIRCLE - azimuth, bearing);
+      // Rate of the azimuth per degree of declination is bounded on the way to the bearing.
+      double sensitivity = cosLatitude * cosElevation
+                           * Math.min(sinBearing, abs(sin(toRadians(azimuth))));
+      double excess = abs(deviation) - tolerance - COARSE_DECLINATION_ERROR / sensitivity;
+      if (excess > 0D) {
+        day += Math.max(1, (int) (excess * sensitivity / MAX_DECLINATION_RATE));
+        continue;
+      }
+      if (size == refinements.length) {
+        refinements = Arrays.copyOf(refinements, Math.max(4, 2 * size));
+      }
+      refinements[size++] = pack(day, candidate);
+      day++;
+    }
+    return Arrays.copyOf(refinements, size);
+  }
+
+  /**
+   * Refines a run of candidates on the same day to the exact time of passing the elevation,
+   * keeping those whose sun's azimuth at that time is within tolerance.
+   */
+  @NotNull
+  @Contract(pure = true)
+  private List<AlignmentMatch> refine(@NotNull final long[] refinements,
+                                      final int start,
+                                      final int end,
+                                      @NotNull final double[] latitudes,
+                                      @NotNull final double[] longitudes,
+                                      @NotNull final double[] bearings,
+                                      @NotNull final LocalDate from) {
+    SolarDay day = SolarDay.solarDay(from.plusDays(day(refinements[start])));
+    List<AlignmentMatch> matches = new ArrayList<>();
+    for (int i = start; i < end; i++) {
+      int candidate = candidate(refinements[i]);
+      double bearing = normalizeDegrees(bearings[candidate]);
+      Instant instant = day.crossing(latitudes[candidate], longitudes[candidate], elevation,
+                                     direction(bearing));
+      if (instant == null) {
+        continue;
+      }
+      Angle azimuth = day.position(
+        GeoCoordinate.degrees(latitudes[candidate], longitudes[candidate]), instant)
+        .getAzimuth();
+      double deviation = deviation(azimuth.toDegrees(), bearing);
+      if (abs(deviation) <= tolerance) {
+        matches.add(new AlignmentMatch(candidate, instant, azimuth, Angle.degrees(deviation)));
+      }
+    }
+    return matches;
+  }
+
+  /**
+   * Direction of the crossing matching the bearing: -1 for the rising, 1 for the setting sun.
+   */
+  @Contract(pure = true)
+  private static double direction(final double bearing) {
+    return bearing < HALF_CIRCLE ? -1D : 1D;
+  }
+
+  @Contract(pure = true)
+  private static long pack(final int day, final int candidate) {
+    return (long) day << Integer.SIZE | candidate;
+  }
+
+  @Contract(pure = true)
+  private static int day(final long packed) {
+    return (int) (packed >>> Integer.SIZE);
+  }
+
+  @Contract(pure = true)
+  private static int candidate(final long packed) {
+    return (int) packed;
+  }
+
+  /**
+   * Declination in degrees at midnight UTC, from the day before the first date to the second
+   * day after the last date.
+   */
+  @NotNull
+  @Contract(pure = true)
+  private static double[] declinations(@NotNull final LocalDate from, final int days) {
+    double[] declinations = new double[days + 3];
+    long startDay = from.toEpochDay() - 1L;
+    for (int i = 0; i < declinations.length; i++) {
+      declinations[i] = toDegrees(SolarDay.declination(
+        julianCenturies((double) (startDay + i) * MILLIS_PER_DAY)));
+    }
+    return declinations;
+  }
+
+  /**
+   * Declination at the given time in days since the first date, interpolated linearly.
+   */
+  @Contract(pure = true)
+  private static double interpolate(@NotNull final double[] declinations, final double day) {
+    double position = day + 1D;
+    int index = Math.max(0, Math.min(declinations.length - 2, (int) Math.floor(position)));
+    double fraction = position - index;
+    return declinations[index] + fraction * (declinations[index + 1] - declinations[index]);
+  }
+
+  /**
+   * Azimuth minus bearing, from -180&deg; (inclusive) to 180&deg; (exclusive).
+   */
+  @Contract(pure = true)
+  private static double deviation(final double azimuth, final double bearing) {
+    return normalizeDegrees(azimuth - bearing + HALF_CIRCLE) - HALF_CIRCLE;
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{elevation=" + elevation + ", tolerance=" + tolerance + '}';
+  }
+}
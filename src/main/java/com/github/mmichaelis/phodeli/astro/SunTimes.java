@@ -0,0 +1,202 @@
+package com.github.mmichaelis.phodeli.astro;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Objects;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * <p>
+ * Times of the sun's daily events at one location: solar noon, sunrise and sunset, and the
+ * golden and blue hours in the morning and in the evening.
+ * </p>
+ * <p>
+ * Events which do not happen on that day, such as sunrise during polar night, are
+ * {@code null}. If the sun does not climb above the upper limit of a golden or blue hour, the
+ * morning window ends and the evening window starts at solar noon.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @see SolarDay#times(com.github.mmichaelis.phodeli.geo.GeoCoordinate)
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class SunTimes implements Serializable {
+
+  private static final long serialVersionUID = -6204338574457925931L;
+
+  @NotNull
+  private final LocalDate date;
+  @NotNull
+  private final Instant solarNoon;
+  @Nullable
+  private final Instant sunrise;
+  @Nullable
+  private final Instant sunset;
+  @Nullable
+  private final TimeWindow morningGoldenHour;
+  @Nullable
+  private final TimeWindow eveningGoldenHour;
+  @Nullable
+  private final TimeWindow morningBlueHour;
+  @Nullable
+  private final TimeWindow eveningBlueHour;
+
+  SunTimes(@NotNull final LocalDate date,
+           @NotNull final Instant solarNoon,
+           @Nullable final Instant sunrise,
+           @Nullable final Instant sunset,
+           @Nullable final TimeWindow morningGoldenHour,
+           @Nullable final TimeWindow eveningGoldenHour,
+           @Nullable final TimeWindow morningBlueHour,
+           @Nullable final TimeWindow eveningBlueHour) {
+    this.date = date;
+    this.solarNoon = solarNoon;
+    this.sunrise = sunrise;
+    this.sunset = sunset;
+    this.morningGoldenHour = morningGoldenHour;
+    this.eveningGoldenHour = eveningGoldenHour;
+    this.morningBlueHour = morningBlueHour;
+    this.eveningBlueHour = eveningBlueHour;
+  }
+
+  /**
+   * UTC date the events belong to.
+   *
+   * @return date
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public LocalDate getDate() {
+    return date;
+  }
+
+  /**
+   * Time when the sun crosses the meridian, i. e. reaches its highest elevation.
+   *
+   * @return solar noon
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Instant getSolarNoon() {
+    return solarNoon;
+  }
+
+  /**
+   * Time when the upper limb of the sun appears at the horizon.
+   *
+   * @return sunrise; {@code null} during polar day or night
+   * @since 1.0.0
+   */
+  @Nullable
+  @Contract(pure = true)
+  public Instant getSunrise() {
+    return sunrise;
+  }
+
+  /**
+   * Time when the upper limb of the sun disappears at the horizon.
+   *
+   * @return sunset; {@code null} during polar day or night
+   * @since 1.0.0
+   */
+  @Nullable
+  @Contract(pure = true)
+  public Instant getSunset() {
+    return sunset;
+  }
+
+  /**
+   * Morning golden hour, while the sun rises from {@value SolarDay#GOLDEN_HOUR_LOWER}&deg; to
+   * {@value SolarDay#GOLDEN_HOUR_UPPER}&deg;.
+   *
+   * @return golden hour; {@code null} if the sun does not pass the lower limit
+   * @since 1.0.0
+   */
+  @Nullable
+  @Contract(pure = true)
+  public TimeWindow getMorningGoldenHour() {
+    return morningGoldenHour;
+  }
+
+  /**
+   * Evening golden hour, while the sun sets from {@value SolarDay#GOLDEN_HOUR_UPPER}&deg; to
+   * {@value SolarDay#GOLDEN_HOUR_LOWER}&deg;.
+   *
+   * @return golden hour; {@code null} if the sun does not pass the lower limit
+   * @since 1.0.0
+   */
+  @Nullable
+  @Contract(pure = true)
+  public TimeWindow getEveningGoldenHour() {
+    return eveningGoldenHour;
+  }
+
+  /**
+   * Morning blue hour, while the sun rises from {@value SolarDay#BLUE_HOUR_LOWER}&deg; to
+   * {@value SolarDay#GOLDEN_HOUR_LOWER}&deg;.
+   *
+   * @return blue hour; {@code null} if the sun does not pass the lower limit
+   * @since 1.0.0
+   */
+  @Nullable
+  @Contract(pure = true)
+  public TimeWindow getMorningBlueHour() {
+    return morningBlueHour;
+  }
+
+  /**
+   * Evening blue hour, while the sun sets from {@value SolarDay#GOLDEN_HOUR_LOWER}&deg; to
+   * {@value SolarDay#BLUE_HOUR_LOWER}&deg;.
+   *
+   * @return blue hour; {@code null} if the sun does not pass the lower limit
+   * @since 1.0.0
+   */
+  @Nullable
+  @Contract(pure = true)
+  public TimeWindow getEveningBlueHour() {
+    return eveningBlueHour;
+  }
+
+  @Override
+  @Contract(pure = true)
+  public int hashCode() {
+    return Objects.hash(date, solarNoon, sunrise, sunset, morningGoldenHour, eveningGoldenHour,
+                        morningBlueHour, eveningBlueHour);
+  }
+
+  @Override
+  @Contract(pure = true)
+  public boolean equals(final Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    SunTimes other = (SunTimes) obj;
+    return date.equals(other.date)
+           && solarNoon.equals(other.solarNoon)
+           && Objects.equals(sunrise, other.sunrise)
+           && Objects.equals(sunset, other.sunset)
+           && Objects.equals(morningGoldenHour, other.morningGoldenHour)
+           && Objects.equals(eveningGoldenHour, other.eveningGoldenHour)
+           && Objects.equals(morningBlueHour, other.morningBlueHour)
+           && Objects.equals(eveningBlueHour, other.eveningBlueHour);
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{date=" + date + ", solarNoon=" + solarNoon + ", sunrise="
+           + sunrise + ", sunset=" + sunset + ", morningGoldenHour=" + morningGoldenHour
+           + ", eveningGoldenHour=" + eveningGoldenHour + ", morningBlueHour=" + morningBlueHour
+           + ", eveningBlueHour=" + eveningBlueHour + '}';
+  }
+}
@@ -0,0 +1,127 @@
+package com.github.mmichaelis.phodeli.astro;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Window of time from a start (inclusive) to an end (exclusive), such as the golden hour.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class TimeWindow implements Serializable {
+
+  private static final long serialVersionUID = 4106330926254316845L;
+
+  @NotNull
+  private final Instant start;
+  @NotNull
+  private final Instant end;
+
+  private TimeWindow(@NotNull final Instant start, @NotNull final Instant end) {
+    this.start = start;
+    this.end = end;
+  }
+
+  /**
+   * Creates a time window.
+   *
+   * @param start start of the window, inclusive
+   * @param end   end of the window, exclusive
+   * @return time window
+   * @throws IllegalArgumentException if end is before start
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static TimeWindow window(@NotNull final Instant start, @NotNull final Instant end) {
+    requireNonNull(start, "start must not be null.");
+    requireNonNull(end, "end must not be null.");
+    if (end.isBefore(start)) {
+      throw new IllegalArgumentException("End " + end + " is before start " + start + '.');
+    }
+    return new TimeWindow(start, end);
+  }
+
+  /**
+   * Start of the window, inclusive.
+   *
+   * @return start
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Instant getStart() {
+    return start;
+  }
+
+  /**
+   * End of the window, exclusive.
+   *
+   * @return end
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Instant getEnd() {
+    return end;
+  }
+
+  /**
+   * Duration of the window.
+   *
+   * @return duration
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Duration getDuration() {
+    return Duration.between(start, end);
+  }
+
+  /**
+   * Signals if the given instant is within this window.
+   *
+   * @param instant instant to check
+   * @return {@code true} if instant is within this window
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public boolean contains(@NotNull final Instant instant) {
+    return !instant.isBefore(start) && instant.isBefore(end);
+  }
+
+  @Override
+  @Contract(pure = true)
+  public int hashCode() {
+    return 31 * start.hashCode() + end.hashCode();
+  }
+
+  @Override
+  @Contract(pure = true)
+  public boolean equals(final Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    TimeWindow other = (TimeWindow) obj;
+    return start.equals(other.start) && end.equals(other.end);
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{start=" + start + ", end=" + end + '}';
+  }
+}
@@ -0,0 +1,15 @@
+/**
+ * <p>
+ * Positions of celestial bodies as seen from locations on earth, and the times of events
+ * derived from them such as sunrise or golden hour.
+ * </p>
+ * <p>
+ * Times are given as {@link java.time.Instant}s and dates as UTC dates. Bulk operations use the
+ * structure-of-arrays layout of {@link com.github.mmichaelis.phodeli.geo}: latitudes and
+ * longitudes in degrees as separate {@code double} arrays.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+package com.github.mmichaelis.phodeli.astro;
@@ -0,0 +1,261 @@
+package com.github.mmichaelis.phodeli.elevation;
+
+import com.github.mmichaelis.phodeli.measure.Length;
+
+import java.io.Serializable;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * <p>
+ * Summary of the elevation along a route: horizontal and 3D length, total ascent and descent,
+ * and statistics of the grade, the ratio of climb to horizontal distance between consecutive
+ * samples.
+ * </p>
+ * <p>
+ * Grade statistics are weighted by horizontal distance, so that they do not depend on the
+ * spacing of the samples. They are {@code NaN} if no two consecutive samples have an
+ * elevation.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @see ProfileBuilder
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class ElevationProfile implements Serializable {
+
+  private static final long serialVersionUID = 3906683452271447094L;
+
+  private final long sampleCount;
+  private final double distance;
+  private final double distance3d;
+  private final double ascent;
+  private final double descent;
+  private final double minElevation;
+  private final double maxElevation;
+  private final double minGrade;
+  private final double maxGrade;
+  private final double meanGrade;
+  private final double meanAbsoluteGrade;
+  private final double gradeDeviation;
+
+  ElevationProfile(final long sampleCount,
+                   final double distance,
+                   final double distance3d,
+                   final double ascent,
+                   final double descent,
+                   final double minElevation,
+                   final double maxElevation,
+                   final double minGrade,
+                   final double maxGrade,
+                   final double meanGrade,
+                   final double meanAbsoluteGrade,
+                   final double gradeDeviation) {
+    this.sampleCount = sampleCount;
+    this.distance = distance;
+    this.distance3d = distance3d;
+    this.ascent = ascent;
+    this.descent = descent;
+    this.minElevation = minElevation;
+    this.maxElevation = maxElevation;
+    this.minGrade = minGrade;
+    this.maxGrade = maxGrade;
+    this.meanGrade = meanGrade;
+    this.meanAbsoluteGrade = meanAbsoluteGrade;
+    this.gradeDeviation = gradeDeviation;
+  }
+
+  /**
+   * Number of samples taken.
+   *
+   * @return number of samples
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public long getSampleCount() {
+    return sampleCount;
+  }
+
+  /**
+   * Horizontal length of the route.
+   *
+   * @return horizontal distance
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Length getDistance() {
+    return Length.m(distance);
+  }
+
+  /**
+   * Length of the route including the climb, which is what is actually walked.
+   *
+   * @return 3D distance
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Length getDistance3d() {
+    return Length.m(distance3d);
+  }
+
+  /**
+   * Sum of all climbs.
+   *
+   * @return total ascent
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Length getAscent() {
+    return Length.m(ascent);
+  }
+
+  /**
+   * Sum of all descents, as positive length.
+   *
+   * @return total descent
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Length getDescent() {
+    return Length.m(descent);
+  }
+
+  /**
+   * Lowest elevation of all samples.
+   *
+   * @return lowest elevation; {@code null} if no sample has an elevation
+   * @since 1.0.0
+   */
+  @Nullable
+  @Contract(pure = true)
+  public Length getMinElevation() {
+    return Double.isNaN(minElevation) ? null : Length.m(minElevation);
+  }
+
+  /**
+   * Highest elevation of all samples.
+   *
+   * @return highest elevation; {@code null} if no sample has an elevation
+   * @since 1.0.0
+   */
+  @Nullable
+  @Contract(pure = true)
+  public Length getMaxElevation() {
+    return Double.isNaN(maxElevation) ? null : Length.m(maxElevation);
+  }
+
+  /**
+   * Steepest descent between consecutive samples, as negative grade.
+   *
+   * @return minimum grade, such as -0.1 for 10&nbsp;% downhill
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public double getMinGrade() {
+    return minGrade;
+  }
+
+  /**
+   * Steepest climb between consecutive samples.
+   *
+   * @return maximum grade, such as 0.1 for 10&nbsp;% uphill
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public double getMaxGrade() {
+    return maxGrade;
+  }
+
+  /**
+   * Mean grade, which is the net climb per horizontal distance.
+   *
+   * @return mean grade
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public double getMeanGrade() {
+    return meanGrade;
+  }
+
+  /**
+   * Mean steepness regardless of direction, which is the sum of ascent and descent per
+   * horizontal distance.
+   *
+   * @return mean absolute grade
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public double getMeanAbsoluteGrade() {
+    return meanAbsoluteGrade;
+  }
+
+  /**
+   * Standard deviation of the grade around the mean grade.
+   *
+   * @return standard deviation of the grade
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public double getGradeDeviation() {
+    return gradeDeviation;
+  }
+
+  @Override
+  @Contract(pure = true)
+  public int hashCode() {
+    int result = Long.hashCode(sampleCount);
+    result = 31 * result + Double.hashCode(distance);
+    result = 31 * result + Double.hashCode(distance3d);
+    result = 31 * result + Double.hashCode(ascent);
+    result = 31 * result + Double.hashCode(descent);
+    result = 31 * result + Double.hashCode(minElevation);
+    result = 31 * result + Double.hashCode(maxElevation);
+    result = 31 * result + Double.hashCode(minGrade);
+    result = 31 * result + Double.hashCode(maxGrade);
+    result = 31 * result + Double.hashCode(meanGrade);
+    result = 31 * result + Double.hashCode(meanAbsoluteGrade);
+    return 31 * result + Double.hashCode(gradeDeviation);
+  }
+
+  @Override
+  @Contract(pure = true)
+  public boolean equals(final Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    ElevationProfile other = (ElevationProfile) obj;
+    return sampleCount == other.sampleCount
+           && Double.compare(distance, other.distance) == 0
+           && Double.compare(distance3d, other.distance3d) == 0
+           && Double.compare(ascent, other.ascent) == 0
+           && Double.compare(descent, other.descent) == 0
+           && Double.compare(minElevation, other.minElevation) == 0
+           && Double.compare(maxElevation, other.maxElevation) == 0
+           && Double.compare(minGrade, other.minGrade) == 0
+           && Double.compare(maxGrade, other.maxGrade) == 0
+           && Double.compare(meanGrade, other.meanGrade) == 0
+           && Double.compare(meanAbsoluteGrade, other.meanAbsoluteGrade) == 0
+           && Double.compare(gradeDeviation, other.gradeDeviation) == 0;
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{sampleCount=" + sampleCount + ", distance=" + distance
+           + ", distance3d=" + distance3d + ", ascent=" + ascent + ", descent=" + descent
+           + ", minElevation=" + minElevation + ", maxElevation=" + maxElevation
+           + ", minGrade=" + minGrade + ", maxGrade=" + maxGrade + ", meanGrade=" + meanGrade
+           + ", meanAbsoluteGrade=" + meanAbsoluteGrade + ", gradeDeviation=" + gradeDeviation
+           + '}';
+  }
+}
@@ -0,0 +1,220 @@
+package com.github.mmichaelis.phodeli.elevation;
+
+import static com.github.mmichaelis.phodeli.geo.CoordinateNormalizer.wrapLongitude;
+import static com.github.mmichaelis.phodeli.internal.ParallelChunks.CHUNK_SIZE;
+import static com.github.mmichaelis.phodeli.internal.ParallelChunks.forEachChunk;
+import static java.util.Objects.requireNonNull;
+
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+import com.github.mmichaelis.phodeli.internal.LruCache;
+import com.github.mmichaelis.phodeli.measure.Length;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.IntStream;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * <p>
+ * Elevations from a directory of height tiles in the SRTM HGT layout, named by their
+ * south-western corner such as {@code N47E011.hgt}. Elevations are interpolated bilinearly
+ * between the samples surrounding a location.
+ * </p>
+ * <p>
+ * Tiles are memory-mapped on first use, so that their heights are read by the operating
+ * system on demand and never copied onto the heap. The most recently used tiles are kept
+ * mapped up to the capacity; locations without a tile file are remembered as missing as well,
+ * so that the directory is not probed again for each location at sea.
+ * </p>
+ * <p>
+ * Bulk lookups split the locations into chunks evaluated in parallel. Within a chunk, the
+ * tile of the previous location is reused as long as locations stay in it, which is the
+ * common case for routes and clustered spots, so that the shared cache is rarely consulted.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class ElevationStore {
+
+  private static final int DEFAULT_CAPACITY = 16;
+  private static final int TILE_COLUMNS = 360;
+  private static final int MAX_SOUTH = 89;
+  private static final int MAX_WEST = 179;
+
+  @NotNull
+  private final Path directory;
+  @NotNull
+  private final LruCache<Integer, HgtTile> tiles;
+
+  private ElevationStore(@NotNull final Path directory, final int capacity) {
+    this.directory = directory;
+    tiles = new LruCache<>(capacity, this::map);
+  }
+
+  /**
+   * Creates a store for the tiles in the given directory, keeping up to 16 tiles mapped.
+   *
+   * @param directory directory containing the tile files
+   * @return store
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static ElevationStore elevationStore(@NotNull final Path directory) {
+    return elevationStore(directory, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates a store for the tiles in the given directory.
+   *
+   * @param directory directory containing the tile files
+   * @param capacity  maximum number of tiles to keep mapped, including tiles remembered as
+   *                  missing
+   * @return store
+   * @throws IllegalArgumentException if capacity is not positive
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static ElevationStore elevationStore(@NotNull final Path directory,
+                                              final int capacity) {
+    requireNonNull(directory, "directory must not be null.");
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Capacity must be positive but is " + capacity + '.');
+    }
+    return new ElevationStore(directory, capacity);
+  }
+
+  /**
+   * Directory containing the tile files.
+   *
+   * @return directory
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Path getDirectory() {
+    return directory;
+  }
+
+  /**
+   * Maximum number of tiles kept mapped.
+   *
+   * @return capacity
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int getCapacity() {
+    return tiles.getCapacity();
+  }
+
+  /**
+   * Number of tiles currently kept, including tiles remembered as missing.
+   *
+   * @return number of tiles
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int getTileCount() {
+    return tiles.size();
+  }
+
+  /**
+   * Elevation at the given location.
+   *
+   * @param coordinate location
+   * @return elevation above sea level; {@code null} if there is no tile or no data at the
+   * location
+   * @throws UncheckedIOException if a tile file cannot be read
+   * @since 1.0.0
+   */
+  @Nullable
+  public Length elevation(@NotNull final GeoCoordinate coordinate) {
+    double latitude = coordinate.getLatitude().toDegrees();
+    double longitude = wrapLongitude(coordinate.getLongitude().toDegrees());
+    double meters = tiles.get(key(latitude, longitude)).elevation(latitude, longitude);
+    return Double.isNaN(meters) ? null : Length.m(meters);
+  }
+
+  /**
+   * Elevations at all the given locations, evaluated in parallel.
+   *
+   * @param latitudes  latitudes in degrees
+   * @param longitudes longitudes in degrees, wrapped around the antimeridian
+   * @param count      number of locations, starting at index 0
+   * @param elevations target for elevations in meters above sea level; {@code NaN} where there
+   *                   is no tile or no data
+   * @return number of locations with an elevation
+   * @throws IllegalArgumentException if count exceeds the arrays
+   * @throws UncheckedIOException     if a tile file cannot be read
+   * @since 1.0.0
+   */
+  public int elevations(@NotNull final double[] latitudes,
+                        @NotNull final double[] longitudes,
+                        final int count,
+                        @NotNull final double[] elevations) {
+    if (count > latitudes.length || count > longitudes.length || count > elevations.length) {
+      throw new IllegalArgumentException(
+        "Count " + count + " exceeds latitudes (" + latitudes.length + "), longitudes ("
+        + longitudes.length + ") or elevations (" + elevations.length + ").");
+    }
+    int[] found = new int[(count + CHUNK_SIZE - 1) / CHUNK_SIZE];
+    forEachChunk(count, (from, to) -> {
+      int chunkFound = 0;
+      int currentKey = -1;
+      HgtTile tile = HgtTile.MISSING;
+      for (int i = from; i < to; i++) {
+        double longitude = wrapLongitude(longitudes[i]);
+        int key = key(latitudes[i], longitude);
+        if (key != currentKey) {
+          tile = tiles.get(key);
+          currentKey = key;
+        }
+        elevations[i] = tile.elevation(latitudes[i], longitude);
+        chunkFound += Double.isNaN(elevations[i]) ? 0 : 1;
+      }
+      found[from / CHUNK_SIZE] = chunkFound;
+    });
+    return IntStream.of(found).sum();
+  }
+
+  /**
+   * Maps the tile for the given key, or provides {@link HgtTile#MISSING} if there is no file.
+   */
+  @NotNull
+  private HgtTile map(final int key) {
+    int south = key / TILE_COLUMNS - MAX_SOUTH - 1;
+    int west = key % TILE_COLUMNS - MAX_WEST - 1;
+    Path file = directory.resolve(HgtTile.fileName(south, west));
+    try {
+      return Files.isRegularFile(file) ? HgtTile.map(file, south, west) : HgtTile.MISSING;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to map tile " + file + '.', e);
+    }
+  }
+
+  /**
+   * Key of the tile containing the given location, whose longitude is already wrapped.
+   * Locations on the northern edge of the world belong to the last row of tiles.
+   */
+  @Contract(pure = true)
+  private static int key(final double latitude, final double longitude) {
+    int south = Math.min(MAX_SOUTH, (int) Math.floor(latitude));
+    int west = Math.min(MAX_WEST, (int) Math.floor(longitude));
+    return (south + MAX_SOUTH + 1) * TILE_COLUMNS + west + MAX_WEST + 1;
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{directory=" + directory + ", capacity=" + getCapacity()
+           + ", tileCount=" + getTileCount() + '}';
+  }
+}
@@ -0,0 +1,216 @@
+package com.github.mmichaelis.phodeli.elevation;
+
+import static com.github.mmichaelis.phodeli.geo.GreatCircle.EARTH_RADIUS_METERS;
+import static java.lang.Math.cos;
+import static java.lang.Math.toDegrees;
+import static java.lang.Math.toRadians;
+import static java.util.Objects.requireNonNull;
+
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+import com.github.mmichaelis.phodeli.measure.Length;
+
+import java.util.stream.IntStream;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Raster of terrain heights in meters on a square grid, stored row by row from north to south,
+ * each row from west to east. Cells without data hold {@code NaN}.
+ * </p>
+ * <p>
+ * Heights are held as {@code float}, which resolves heights of up to 9000&nbsp;m to about a
+ * millimeter at half the memory of {@code double}. Heights passed in are copied, so that
+ * the heightmap cannot change afterwards.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @see LineOfSight
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class Heightmap {
+
+  @NotNull
+  private final float[] heights;
+  private final int columns;
+  private final int rows;
+  /**
+   * Cell size in meters.
+   */
+  private final double cellSize;
+
+  private Heightmap(@NotNull final float[] heights,
+                    final int columns,
+                    final int rows,
+                    final double cellSize) {
+    this.heights = heights;
+    this.columns = columns;
+    this.rows = rows;
+    this.cellSize = cellSize;
+  }
+
+  /**
+   * Creates a heightmap from a copy of the given heights.
+   *
+   * @param heights  heights in meters, row by row from north to south; {@code NaN} for cells
+   *                 without data
+   * @param columns  number of cells per row
+   * @param rows     number of rows
+   * @param cellSize distance between the centers of neighboring cells
+   * @return heightmap
+   * @throws IllegalArgumentException if columns or rows are not positive, the heights do not
+   *                                  match their product or the cell size is not positive
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static Heightmap heightmap(@NotNull final float[] heights,
+                                    final int columns,
+                                    final int rows,
+                                    @NotNull final Length cellSize) {
+    if (columns < 1 || rows < 1 || (long) columns * rows != heights.length) {
+      throw new IllegalArgumentException(
+        "Heights (" + heights.length + ") do not match " + columns + " columns and " + rows
+        + " rows.");
+    }
+    return new Heightmap(heights.clone(), columns, rows, meters(cellSize));
+  }
+
+  /**
+   * Samples a heightmap from the given store, centered at the given location. Cells are laid
+   * out on a local equirectangular projection, which is accurate for extents of up to a few
+   * hundred kilometers away from the poles. Rows are sampled in parallel.
+   *
+   * @param store    store to sample
+   * @param center   location of the center cell
+   * @param columns  number of cells per row
+   * @param rows     number of rows
+   * @param cellSize distance between the centers of neighboring cells
+   * @return heightmap
+   * @throws IllegalArgumentException if columns or rows are not positive or the cell size is
+   *                                  not positive
+   * @since 1.0.0
+   */
+  @NotNull
+  public static Heightmap sample(@NotNull final ElevationStore store,
+                                 @NotNull final GeoCoordinate center,
+                                 final int columns,
+                                 final int rows,
+                                 @NotNull final Length cellSize) {
+    if (columns < 1 || rows < 1) {
+      throw new IllegalArgumentException(
+        "Columns (" + columns + ") and rows (" + rows + ") must be positive.");
+    }
+    double meters = meters(cellSize);
+    float[] heights = new float[Math.multiplyExact(columns, rows)];
+    double latitude = center.getLatitude().toDegrees();
+    double longitude = center.getLongitude().toDegrees();
+    double latitudeStep = toDegrees(meters / EARTH_RADIUS_METERS);
+    double longitudeStep = latitudeStep / cos(toRadians(latitude));
+    IntStream.range(0, rows).parallel().forEach(row -> {
+      double[] latitudes = new double[columns];
+      double[] longitudes = new double[columns];
+      double[] elevations = new double[columns];
+      for (int column = 0; column < columns; column++) {
+        latitudes[column] = latitude - (row - rows / 2) * latitudeStep;
+        longitudes[column] = longitude + (column - columns / 2) * longitudeStep;
+      }
+      store.elevations(latitudes, longitudes, columns, elevations);
+      for (int column = 0; column < columns; column++) {
+        heights[row * columns + column] = (float) elevations[column];
+      }
+    });
+    return new Heightmap(heights, columns, rows, meters);
+  }
+
+  /**
+   * Number of cells per row.
+   *
+   * @return number of columns
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int getColumns() {
+    return columns;
+  }
+
+  /**
+   * Number of rows.
+   *
+   * @return number of rows
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int getRows() {
+    return rows;
+  }
+
+  /**
+   * Distance between the centers of neighboring cells.
+   *
+   * @return cell size
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Length getCellSize() {
+    return Length.m(cellSize);
+  }
+
+  /**
+   * Height of the given cell.
+   *
+   * @param column column from west to east
+   * @param row    row from north to south
+   * @return height in meters; {@code NaN} if there is no data
+   * @throws IndexOutOfBoundsException if the cell is outside of the heightmap
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public double height(final int column, final int row) {
+    if (column < 0 || column >= columns || row < 0 || row >= rows) {
+      throw new IndexOutOfBoundsException(
+        "Cell (" + column + ", " + row + ") is outside of " + columns + " x " + rows + '.');
+    }
+    return heights[row * columns + column];
+  }
+
+  /**
+   * Height of the given cell without bounds check.
+   */
+  @Contract(pure = true)
+  double heightAt(final int column, final int row) {
+    return heights[row * columns + column];
+  }
+
+  @Contract(pure = true)
+  double cellMeters() {
+    return cellSize;
+  }
+
+  @Contract(pure = true)
+  boolean contains(final int column, final int row) {
+    return column >= 0 && column < columns && row >= 0 && row < rows;
+  }
+
+  /**
+   * Validates the given cell size.
+   */
+  @Contract(pure = true)
+  private static double meters(@NotNull final Length cellSize) {
+    double meters = requireNonNull(cellSize, "cellSize must not be null.").toMeters();
+    if (!(meters > 0D)) {
+      throw new IllegalArgumentException("Cell size must be positive but is " + cellSize + '.');
+    }
+    return meters;
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{columns=" + columns + ", rows=" + rows + ", cellSize="
+           + cellSize + '}';
+  }
+}
@@ -0,0 +1,149 @@
+package com.github.mmichaelis.phodeli.elevation;
+
+import java.io.IOException;
+import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * <p>
+ * Memory-mapped height tile covering one degree of latitude and longitude in the SRTM HGT
+ * layout: a square grid of big-endian signed 16-bit heights in meters, row by row from north
+ * to south, each row from west to east. Edge rows and columns are shared with the neighboring
+ * tiles. The grid size is derived from the file size, so that besides SRTM1 (3601 samples per
+ * side) and SRTM3 (1201) any raw heightmap in this layout is supported.
+ * </p>
+ * <p>
+ * Heights are read directly from the mapped file, so tiles do not occupy the heap.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+final class HgtTile {
+
+  /**
+   * Tile without data for locations not covered by any file.
+   */
+  static final HgtTile MISSING = new HgtTile(0, 0, 0, null);
+  /**
+   * Height marking a missing sample.
+   */
+  private static final short VOID = Short.MIN_VALUE;
+
+  private final int south;
+  private final int west;
+  private final int samples;
+  @Nullable
+  private final ShortBuffer heights;
+
+  private HgtTile(final int south,
+                  final int west,
+                  final int samples,
+                  @Nullable final ShortBuffer heights) {
+    this.south = south;
+    this.west = west;
+    this.samples = samples;
+    this.heights = heights;
+  }
+
+  /**
+   * Maps the given file. The mapping stays valid after the channel is closed.
+   *
+   * @param file  height file
+   * @param south latitude of the southern edge in degrees
+   * @param west  longitude of the western edge in degrees
+   * @return tile
+   * @throws IOException if the file cannot be read or is not a square grid of heights
+   */
+  @NotNull
+  static HgtTile map(@NotNull final Path file, final int south, final int west)
+    throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long size = channel.size();
+      int samples = (int) Math.round(Math.sqrt(size / (double) Short.BYTES));
+      if (samples < 2 || (long) samples * samples * Short.BYTES != size) {
+        throw new IOException(
+          "File " + file + " of " + size + " bytes is not a square grid of heights.");
+      }
+      return new HgtTile(south, west, samples,
+                         channel.map(FileChannel.MapMode.READ_ONLY, 0L, size).asShortBuffer());
+    }
+  }
+
+  /**
+   * Name of the file covering the given tile, such as {@code N47E011.hgt}.
+   *
+   * @param south latitude of the southern edge in degrees
+   * @param west  longitude of the western edge in degrees
+   * @return file name
+   */
+  @NotNull
+  @Contract(pure = true)
+  static String fileName(final int south, final int west) {
+    return String.format(Locale.ROOT, "%s%02d%s%03d.hgt", south < 0 ? "S" : "N",
+                         Math.abs(south), west < 0 ? "W" : "E", Math.abs(west));
+  }
+
+  /**
+   * Number of samples per side.
+   *
+   * @return samples per side; 0 for a missing tile
+   */
+  @Contract(pure = true)
+  int getSamples() {
+    return samples;
+  }
+
+  /**
+   * Elevation at the given location within this tile, interpolated bilinearly between the
+   * four surrounding samples. Void samples are left out of the interpolation.
+   *
+   * @param latitude  latitude in degrees
+   * @param longitude longitude in degrees
+   * @return elevation in meters; {@code NaN} if missing
+   */
+  @Contract(pure = true)
+  double elevation(final double latitude, final double longitude) {
+    if (heights == null) {
+      return Double.NaN;
+    }
+    int last = samples - 1;
+    double y = clamp((south + 1 - latitude) * last, last);
+    double x = clamp((longitude - west) * last, last);
+    int row = Math.min(last - 1, (int) y);
+    int column = Math.min(last - 1, (int) x);
+    double fy = y - row;
+    double fx = x - column;
+    int index = row * samples + column;
+    double sum = 0D;
+    double weights = 0D;
+    for (int i = 0; i < 4; i++) {
+      short height = heights.get(index + (i >> 1) * samples + (i & 1));
+      double weight = ((i >> 1) == 0 ? 1D - fy : fy) * ((i & 1) == 0 ? 1D - fx : fx);
+      if (height != VOID && weight > 0D) {
+        sum += weight * height;
+        weights += weight;
+      }
+    }
+    return weights > 0D ? sum / weights : Double.NaN;
+  }
+
+  @Contract(pure = true)
+  private static double clamp(final double value, final int last) {
+    return Math.max(0D, Math.min(last, value));
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{south=" + south + ", west=" + west + ", samples=" + samples
+           + '}';
+  }
+}
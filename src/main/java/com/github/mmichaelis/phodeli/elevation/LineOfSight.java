@@ -0,0 +1,400 @@
+package com.github.mmichaelis.phodeli.elevation;
+
+import static com.github.mmichaelis.phodeli.geo.GreatCircle.EARTH_RADIUS_METERS;
+import static java.util.Objects.requireNonNull;
+
+import com.github.mmichaelis.phodeli.measure.Length;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Visibility between cells of a {@link Heightmap}: whether a target of a given height above
+ * the ground can be seen by an observer standing at a given height above the ground. The
+ * drop of the terrain due to the curvature of the earth is taken into account, reduced by
+ * atmospheric refraction which bends the line of sight downwards.
+ * </p>
+ * <p>
+ * A single line of sight walks along the ray from the observer to the target in the manner of
+ * the R3 algorithm: at each crossing of a row or column, the terrain is interpolated linearly
+ * between the two neighboring cells, and the target is visible if no crossing rises above the
+ * line to the target.
+ * </p>
+ * <p>
+ * A viewshed determines the visibility of all cells at once with the XDraw sweep: rings of
+ * cells around the observer are processed from the inside out, each cell inheriting the
+ * horizon, the steepest elevation angle seen so far, by interpolating between the two cells of
+ * the previous ring its ray passes. This costs a constant amount per cell instead of a walk per
+ * cell, at the price of slight deviations from exact lines of sight far away from the
+ * observer. The eight octants around the observer are swept in parallel.
+ * </p>
+ * <p>
+ * Cells without data never block the view and are never visible.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class LineOfSight {
+
+  /**
+   * Coefficient of refraction in standard atmosphere: the line of sight bends with a radius
+   * of about 7.7 times the radius of the earth.
+   *
+   * @since 1.0.0
+   */
+  public static final double STANDARD_REFRACTION = 0.13D;
+  private static final int OCTANTS = 8;
+
+  @NotNull
+  private final Heightmap heightmap;
+  /**
+   * Height of the observer above the ground in meters.
+   */
+  private final double observerHeight;
+  /**
+   * Height of targets above the ground in meters.
+   */
+  private final double targetHeight;
+  private final double refraction;
+  /**
+   * Drop of the terrain below the line of sight per squared meter of distance.
+   */
+  private final double dropPerSquareMeter;
+
+  private LineOfSight(@NotNull final Heightmap heightmap,
+                      final double observerHeight,
+                      final double targetHeight,
+                      final double refraction) {
+    this.heightmap = heightmap;
+    this.observerHeight = observerHeight;
+    this.targetHeight = targetHeight;
+    this.refraction = refraction;
+    dropPerSquareMeter = (1D - refraction) / (2D * EARTH_RADIUS_METERS);
+  }
+
+  /**
+   * Creates a line of sight analysis in standard atmosphere.
+   *
+   * @param heightmap      terrain
+   * @param observerHeight height of the eyes or camera above the ground
+   * @param targetHeight   height of targets above the ground, such as the height of a landmark
+   * @return analysis
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static LineOfSight lineOfSight(@NotNull final Heightmap heightmap,
+                                        @NotNull final Length observerHeight,
+                                        @NotNull final Length targetHeight) {
+    return lineOfSight(heightmap, observerHeight, targetHeight, STANDARD_REFRACTION);
+  }
+
+  /**
+   * Creates a line of sight analysis.
+   *
+   * @param heightmap      terrain
+   * @param observerHeight height of the eyes or camera above the ground
+   * @param targetHeight   height of targets above the ground, such as the height of a landmark
+   * @param refraction     coefficient of refraction, the ratio of the radius of the earth to
+   *                       the radius of the bent line of sight; 0 to ignore refraction
+   * @return analysis
+   * @throws IllegalArgumentException if refraction is not finite
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static LineOfSight lineOfSight(@NotNull final Heightmap heightmap,
+                                        @NotNull final Length observerHeight,
+                                        @NotNull final Length targetHeight,
+                                        final double refraction) {
+    requireNonNull(heightmap, "heightmap must not be null.");
+    requireNonNull(observerHeight, "observerHeight must not be null.");
+    requireNonNull(targetHeight, "targetHeight must not be null.");
+    if (!Double.isFinite(refraction)) {
+      throw new IllegalArgumentException("Refraction must be finite but is " + refraction + '.');
+    }
+    return new LineOfSight(heightmap, observerHeight.toMeters(), targetHeight.toMeters(),
+                           refraction);
+  }
+
+  /**
+   * Terrain of this analysis.
+   *
+   * @return heightmap
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Heightmap getHeightmap() {
+    return heightmap;
+  }
+
+  /**
+   * Coefficient of refraction.
+   *
+   * @return coefficient of refraction
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public double getRefraction() {
+    return refraction;
+  }
+
+  /**
+   * Decides whether the target can be seen from the observer.
+   *
+   * @param observerColumn column of the observer
+   * @param observerRow    row of the observer
+   * @param targetColumn   column of the target
+   * @param targetRow      row of the target
+   * @return {@code true} if visible; {@code false} if hidden or either cell has no data
+   * @throws IndexOutOfBoundsException if a cell is outside of the heightmap
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public boolean visible(final int observerColumn,
+                         final int observerRow,
+                         final int targetColumn,
+                         final int targetRow) {
+    checkCell(observerColumn, observerRow);
+    checkCell(targetColumn, targetRow);
+    return walk(observerColumn, observerRow, targetColumn, targetRow);
+  }
+
+  /**
+   * Decides for many observers whether they can see the same target, such as a landmark from
+   * candidate spots, evaluated in parallel.
+   *
+   * @param targetColumn column of the target
+   * @param targetRow    row of the target
+   * @param columns      columns of the observers
+   * @param rows         rows of the observers
+   * @param count        number of observers, starting at index 0
+   * @param visible      target for the visibility per observer
+   * @throws IllegalArgumentException  if count exceeds the arrays
+   * @throws IndexOutOfBoundsException if a cell is outside of the heightmap
+   * @since 1.0.0
+   */
+  public void visible(final int targetColumn,
+                      final int targetRow,
+                      @NotNull final int[] columns,
+                      @NotNull final int[] rows,
+                      final int count,
+                      @NotNull final boolean[] visible) {
+    if (count > columns.length || count > rows.length || count > visible.length) {
+      throw new IllegalArgumentException(
+        "Count " + count + " exceeds columns (" + columns.length + "), rows (" + rows.length
+        + ") or visible (" + visible.length + ").");
+    }
+    checkCell(targetColumn, targetRow);
+    for (int i = 0; i < count; i++) {
+      checkCell(columns[i], rows[i]);
+    }
+    IntStream.range(0, count).parallel().forEach(
+      i -> visible[i] = walk(columns[i], rows[i], targetColumn, targetRow));
+  }
+
+  /**
+   * Determines all cells visible from the observer.
+   *
+   * @param observerColumn column of the observer
+   * @param observerRow    row of the observer
+   * @return viewshed; empty if the cell of the observer has no data
+   * @throws IndexOutOfBoundsException if the cell is outside of the heightmap
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Viewshed viewshed(final int observerColumn, final int observerRow) {
+    checkCell(observerColumn, observerRow);
+    int columns = heightmap.getColumns();
+    int rows = heightmap.getRows();
+    AtomicLongArray bits = new AtomicLongArray((int) (((long) columns * rows + 63L) >>> 6));
+    double eye = heightmap.heightAt(observerColumn, observerRow) + observerHeight;
+    if (!Double.isNaN(eye)) {
+      set(bits, observerColumn, observerRow);
+      IntStream.range(0, OCTANTS).parallel()
+        .forEach(octant -> sweep(octant, observerColumn, observerRow, eye, bits));
+    }
+    long[] words = new long[bits.length()];
+    for (int i = 0; i < words.length; i++) {
+      words[i] = bits.get(i);
+    }
+    return new Viewshed(columns, rows, observerColumn, observerRow, words);
+  }
+
+  /**
+   * Sweeps one octant of the viewshed with XDraw. Within the octant, ring {@code k} consists
+   * of the cells {@code k} steps away from the observer along the primary axis and {@code j}
+   * steps, from 0 to {@code k}, along the secondary axis.
+   *
+   * @param octant bit 0 selects the primary axis (columns or rows), bits 1 and 2 the
+   *               directions along the primary and secondary axis
+   */
+  private void sweep(final int octant,
+                     final int observerColumn,
+                     final int observerRow,
+                     final double eye,
+                     @NotNull final AtomicLongArray bits) {
+    boolean primaryColumns = (octant & 1) == 0;
+    int primarySign = (octant & 2) == 0 ? 1 : -1;
+    int secondarySign = (octant & 4) == 0 ? 1 : -1;
+    int rings = primaryColumns
+                ? primarySign > 0 ? heightmap.getColumns() - 1 - observerColumn : observerColumn
+                : primarySign > 0 ? heightmap.getRows() - 1 - observerRow : observerRow;
+    double cell = heightmap.cellMeters();
+    // Horizons as tangent of the elevation angle; NaN outside of the heightmap.
+    double[] previous = new double[rings + 2];
+    double[] current = new double[rings + 2];
+    previous[0] = Double.NEGATIVE_INFINITY;
+    for (int k = 1; k <= rings; k++) {
+      for (int j = 0; j <= k; j++) {
+        int column = observerColumn + (primaryColumns ? primarySign * k : secondarySign * j);
+        int row = observerRow + (primaryColumns ? secondarySign * j : primarySign * k);
+        if (!heightmap.contains(column, row)) {
+          current[j] = Double.NaN;
+          continue;
+        }
+        double horizon = horizon(previous, k, j);
+        double distance = cell * Math.sqrt((double) k * k + (double) j * j);
+        double ground = heightmap.heightAt(column, row) - eye
+                        - dropPerSquareMeter * distance * distance;
+        if (Double.isNaN(ground)) {
+          current[j] = horizon;
+          continue;
+        }
+        if ((ground + targetHeight) / distance >= horizon) {
+          set(bits, column, row);
+        }
+        current[j] = Math.max(horizon, ground / distance);
+      }
+      double[] swap = previous;
+      previous = current;
+      current = swap;
+    }
+  }
+
+  /**
+   * Horizon inherited by cell {@code j} of ring {@code k}, interpolated between the cells of
+   * the previous ring which its ray passes.
+   */
+  @Contract(pure = true)
+  private static double horizon(@NotNull final double[] previous, final int k, final int j) {
+    if (k == 1) {
+      return previous[0];
+    }
+    double position = (double) j * (k - 1) / k;
+    int lower = (int) position;
+    double fraction = position - lower;
+    double lowerHorizon = previous[lower];
+    if (fraction == 0D) {
+      return Double.isNaN(lowerHorizon) ? Double.NEGATIVE_INFINITY : lowerHorizon;
+    }
+    double upperHorizon = previous[lower + 1];
+    if (Double.isNaN(lowerHorizon)) {
+      return Double.isNaN(upperHorizon) ? Double.NEGATIVE_INFINITY : upperHorizon;
+    }
+    if (Double.isNaN(upperHorizon)) {
+      return lowerHorizon;
+    }
+    if (lowerHorizon == Double.NEGATIVE_INFINITY || upperHorizon == Double.NEGATIVE_INFINITY) {
+      return Math.max(lowerHorizon, upperHorizon);
+    }
+    return lowerHorizon + fraction * (upperHorizon - lowerHorizon);
+  }
+
+  /**
+   * Walks the ray from the observer to the target, crossing one row or column per step.
+   */
+  @Contract(pure = true)
+  private boolean walk(final int observerColumn,
+                       final int observerRow,
+                       final int targetColumn,
+                       final int targetRow) {
+    double eye = heightmap.heightAt(observerColumn, observerRow) + observerHeight;
+    int deltaColumn = targetColumn - observerColumn;
+    int deltaRow = targetRow - observerRow;
+    int steps = Math.max(Math.abs(deltaColumn), Math.abs(deltaRow));
+    if (steps == 0) {
+      return !Double.isNaN(eye);
+    }
+    double length = heightmap.cellMeters() * Math.hypot(deltaColumn, deltaRow);
+    double target = heightmap.heightAt(targetColumn, targetRow) + targetHeight - eye
+                    - dropPerSquareMeter * length * length;
+    if (Double.isNaN(target)) {
+      return false;
+    }
+    double targetSlope = target / length;
+    boolean primaryColumns = Math.abs(deltaColumn) >= Math.abs(deltaRow);
+    for (int i = 1; i < steps; i++) {
+      double t = (double) i / steps;
+      double ground;
+      if (primaryColumns) {
+        int column = observerColumn + Integer.signum(deltaColumn) * i;
+        ground = interpolate(column, observerRow + deltaRow * t, true);
+      } else {
+        int row = observerRow + Integer.signum(deltaRow) * i;
+        ground = interpolate(row, observerColumn + deltaColumn * t, false);
+      }
+      double distance = t * length;
+      if ((ground - eye - dropPerSquareMeter * distance * distance) / distance > targetSlope) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Height where the ray crosses a column (or row), interpolated between the two neighboring
+   * cells; cells without data are left out.
+   */
+  @Contract(pure = true)
+  private double interpolate(final int fixed, final double position, final boolean column) {
+    int lower = (int) Math.floor(position);
+    double fraction = position - lower;
+    double lowerHeight = column ? heightmap.heightAt(fixed, lower)
+                                : heightmap.heightAt(lower, fixed);
+    if (fraction == 0D) {
+      return lowerHeight;
+    }
+    double upperHeight = column ? heightmap.heightAt(fixed, lower + 1)
+                                : heightmap.heightAt(lower + 1, fixed);
+    if (Double.isNaN(lowerHeight)) {
+      return upperHeight;
+    }
+    if (Double.isNaN(upperHeight)) {
+      return lowerHeight;
+    }
+    return lowerHeight + fraction * (upperHeight - lowerHeight);
+  }
+
+  private void set(@NotNull final AtomicLongArray bits, final int column, final int row) {
+    long index = (long) row * heightmap.getColumns() + column;
+    int word = (int) (index >>> 6);
+    long mask = 1L << index;
+    if ((bits.get(word) & mask) == 0L) {
+      bits.accumulateAndGet(word, mask, (a, b) -> a | b);
+    }
+  }
+
+  private void checkCell(final int column, final int row) {
+    if (!heightmap.contains(column, row)) {
+      throw new IndexOutOfBoundsException(
+        "Cell (" + column + ", " + row + ") is outside of " + heightmap.getColumns() + " x "
+        + heightmap.getRows() + '.');
+    }
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{heightmap=" + heightmap + ", observerHeight=" + observerHeight
+           + ", targetHeight=" + targetHeight + ", refraction=" + refraction + '}';
+  }
+}
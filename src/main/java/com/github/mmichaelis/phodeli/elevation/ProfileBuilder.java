@@ -0,0 +1,279 @@
+package com.github.mmichaelis.phodeli.elevation;
+
+import static com.github.mmichaelis.phodeli.geo.GreatCircle.EARTH_RADIUS_METERS;
+import static com.github.mmichaelis.phodeli.geo.GreatCircle.haversine;
+import static com.github.mmichaelis.phodeli.geo.GreatCircle.haversineToAngle;
+import static java.lang.Math.cos;
+import static java.lang.Math.toRadians;
+import static java.util.Objects.requireNonNull;
+
+import com.github.mmichaelis.phodeli.io.CoordinateHandler;
+import com.github.mmichaelis.phodeli.measure.Length;
+
+import java.io.UncheckedIOException;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * <p>
+ * Builds the {@link ElevationProfile} of routes while they are read, such as from a GPX file.
+ * Each line is sampled at its first vertex, every given spacing along its great circle length
+ * and at its last vertex; there is no distance between lines. Coordinates outside of lines,
+ * such as waypoints, are ignored.
+ * </p>
+ * <p>
+ * Samples are buffered in a fixed chunk, looked up in the {@link ElevationStore} chunk by chunk
+ * and folded into running sums, so that memory does not grow with the length of the route.
+ * Samples without elevation are bridged by the next sample with elevation.
+ * </p>
+ * <p>
+ * Builders are not thread-safe.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class ProfileBuilder implements CoordinateHandler {
+
+  /**
+   * Number of samples looked up at once.
+   */
+  private static final int CHUNK_SIZE = 4096;
+
+  @NotNull
+  private final ElevationStore store;
+  private final double spacing;
+  @Nullable
+  private final ProfileSampleHandler handler;
+
+  private final double[] latitudes = new double[CHUNK_SIZE];
+  private final double[] longitudes = new double[CHUNK_SIZE];
+  /**
+   * Horizontal distance to the previous sample in meters; {@code NaN} for the first sample of a
+   * line.
+   */
+  private final double[] steps = new double[CHUNK_SIZE];
+  private final double[] elevations = new double[CHUNK_SIZE];
+  private int size;
+
+  private boolean inLine;
+  private boolean hasVertex;
+  private double previousLatitude;
+  private double previousLongitude;
+  private double previousCos;
+  /**
+   * Distance along the line since the last sample in meters.
+   */
+  private double sinceSample;
+
+  private long sampleCount;
+  private double distance;
+  private double distance3d;
+  /**
+   * Horizontal distance since the last sample with elevation in meters.
+   */
+  private double bridged;
+  private double lastElevation = Double.NaN;
+  private double ascent;
+  private double descent;
+  private double minElevation = Double.NaN;
+  private double maxElevation = Double.NaN;
+  private double minGrade = Double.NaN;
+  private double maxGrade = Double.NaN;
+  /**
+   * Horizontal distance between samples with elevation in meters.
+   */
+  private double gradeDistance;
+  /**
+   * Sum of squared climbs per horizontal distance, which is the grade squared weighted by
+   * horizontal distance.
+   */
+  private double weightedSquaredGrade;
+
+  private ProfileBuilder(@NotNull final ElevationStore store,
+                         final double spacing,
+                         @Nullable final ProfileSampleHandler handler) {
+    this.store = store;
+    this.spacing = spacing;
+    this.handler = handler;
+  }
+
+  /**
+   * Creates a builder.
+   *
+   * @param store   store to look up elevations
+   * @param spacing horizontal distance between samples
+   * @return builder
+   * @throws IllegalArgumentException if spacing is not positive
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static ProfileBuilder profileBuilder(@NotNull final ElevationStore store,
+                                              @NotNull final Length spacing) {
+    return profileBuilder(store, spacing, null);
+  }
+
+  /**
+   * Creates a builder which passes each sample to the given handler once its elevation is
+   * known.
+   *
+   * @param store   store to look up elevations
+   * @param spacing horizontal distance between samples
+   * @param handler handler for samples; {@code null} for none
+   * @return builder
+   * @throws IllegalArgumentException if spacing is not positive
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static ProfileBuilder profileBuilder(@NotNull final ElevationStore store,
+                                              @NotNull final Length spacing,
+                                              @Nullable final ProfileSampleHandler handler) {
+    requireNonNull(store, "store must not be null.");
+    double meters = requireNonNull(spacing, "spacing must not be null.").toMeters();
+    if (!(meters > 0D) || Double.isInfinite(meters)) {
+      throw new IllegalArgumentException("Spacing must be positive but is " + spacing + '.');
+    }
+    return new ProfileBuilder(store, meters, handler);
+  }
+
+  @Override
+  public void startLine() {
+    inLine = true;
+    hasVertex = false;
+  }
+
+  @Override
+  public void coordinate(final double latitude, final double longitude) {
+    if (!inLine) {
+      return;
+    }
+    double cosLatitude = cos(toRadians(latitude));
+    if (!hasVertex) {
+      hasVertex = true;
+      sinceSample = 0D;
+      add(latitude, longitude, Double.NaN);
+    } else {
+      double length = haversineToAngle(
+        haversine(toRadians(previousLatitude), previousCos, toRadians(latitude), cosLatitude,
+                  toRadians(longitude - previousLongitude))) * EARTH_RADIUS_METERS;
+      double deltaLongitude = longitude - previousLongitude;
+      deltaLongitude -= 360D * Math.floor((deltaLongitude + 180D) / 360D);
+      double along = spacing - sinceSample;
+      for (; along < length; along += spacing) {
+        double fraction = along / length;
+        double sampleLongitude = previousLongitude + fraction * deltaLongitude;
+        add(previousLatitude + fraction * (latitude - previousLatitude),
+            sampleLongitude - 360D * Math.floor((sampleLongitude + 180D) / 360D), spacing);
+      }
+      sinceSample = length - (along - spacing);
+    }
+    previousLatitude = latitude;
+    previousLongitude = longitude;
+    previousCos = cosLatitude;
+  }
+
+  @Override
+  public void endLine() {
+    if (hasVertex && sinceSample > 0D) {
+      add(previousLatitude, previousLongitude, sinceSample);
+    }
+    inLine = false;
+    hasVertex = false;
+  }
+
+  /**
+   * Profile of all lines ended so far and the part of the current line up to its last vertex.
+   * The part of the current line after its last sample is included in the distances, but not
+   * yet sampled: it has no elevation until the line continues or ends.
+   *
+   * @return profile
+   * @throws UncheckedIOException if a tile file cannot be read
+   * @since 1.0.0
+   */
+  @NotNull
+  public ElevationProfile profile() {
+    flush();
+    double tail = inLine && hasVertex ? sinceSample : 0D;
+    double meanGrade = gradeDistance > 0D ? (ascent - descent) / gradeDistance : Double.NaN;
+    double variance = weightedSquaredGrade / gradeDistance - meanGrade * meanGrade;
+    return new ElevationProfile(
+      sampleCount, distance + tail, distance3d + bridged + tail, ascent, descent, minElevation,
+      maxElevation, minGrade, maxGrade, meanGrade,
+      gradeDistance > 0D ? (ascent + descent) / gradeDistance : Double.NaN,
+      gradeDistance > 0D ? Math.sqrt(Math.max(0D, variance)) : Double.NaN);
+  }
+
+  private void add(final double latitude, final double longitude, final double step) {
+    if (size == CHUNK_SIZE) {
+      flush();
+    }
+    latitudes[size] = latitude;
+    longitudes[size] = longitude;
+    steps[size] = step;
+    size++;
+  }
+
+  /**
+   * Looks up the elevations of all buffered samples and folds them into the sums.
+   */
+  private void flush() {
+    store.elevations(latitudes, longitudes, size, elevations);
+    for (int i = 0; i < size; i++) {
+      fold(elevations[i], steps[i]);
+      if (handler != null) {
+        handler.sample(latitudes[i], longitudes[i], distance, distance3d + bridged,
+                       elevations[i]);
+      }
+    }
+    size = 0;
+  }
+
+  private void fold(final double elevation, final double step) {
+    sampleCount++;
+    if (Double.isNaN(step)) {
+      distance3d += bridged;
+      bridged = 0D;
+      lastElevation = Double.NaN;
+    } else {
+      distance += step;
+      bridged += step;
+    }
+    if (Double.isNaN(elevation)) {
+      return;
+    }
+    minElevation = Double.isNaN(minElevation) ? elevation : Math.min(minElevation, elevation);
+    maxElevation = Double.isNaN(maxElevation) ? elevation : Math.max(maxElevation, elevation);
+    if (Double.isNaN(lastElevation)) {
+      distance3d += bridged;
+    } else {
+      double climb = elevation - lastElevation;
+      distance3d += Math.hypot(bridged, climb);
+      if (climb > 0D) {
+        ascent += climb;
+      } else {
+        descent -= climb;
+      }
+      if (bridged > 0D) {
+        double grade = climb / bridged;
+        minGrade = Double.isNaN(minGrade) ? grade : Math.min(minGrade, grade);
+        maxGrade = Double.isNaN(maxGrade) ? grade : Math.max(maxGrade, grade);
+        gradeDistance += bridged;
+        weightedSquaredGrade += climb * grade;
+      }
+    }
+    bridged = 0D;
+    lastElevation = elevation;
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{store=" + store + ", spacing=" + spacing + ", sampleCount="
+           + sampleCount + ", distance=" + distance + '}';
+  }
+}
@@ -0,0 +1,31 @@
+package com.github.mmichaelis.phodeli.elevation;
+
+/**
+ * <p>
+ * Receives the samples of an elevation profile while it is built, such as for plotting the
+ * profile without storing it.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @see ProfileBuilder
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ProfileSampleHandler {
+
+  /**
+   * Handles a sample.
+   *
+   * @param latitude   latitude in degrees
+   * @param longitude  longitude in degrees
+   * @param distance   cumulative horizontal distance in meters
+   * @param distance3d cumulative distance in meters including the climb
+   * @param elevation  elevation in meters above sea level; {@code NaN} if unknown
+   * @since 1.0.0
+   */
+  void sample(double latitude,
+              double longitude,
+              double distance,
+              double distance3d,
+              double elevation);
+}
@@ -0,0 +1,120 @@
+package com.github.mmichaelis.phodeli.elevation;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Cells of a {@link Heightmap} visible from an observer, as computed by
+ * {@link LineOfSight#viewshed(int, int)}. Visibility is stored as one bit per cell.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class Viewshed {
+
+  private final int columns;
+  private final int rows;
+  private final int observerColumn;
+  private final int observerRow;
+  @NotNull
+  private final long[] bits;
+
+  Viewshed(final int columns,
+           final int rows,
+           final int observerColumn,
+           final int observerRow,
+           @NotNull final long[] bits) {
+    this.columns = columns;
+    this.rows = rows;
+    this.observerColumn = observerColumn;
+    this.observerRow = observerRow;
+    this.bits = bits;
+  }
+
+  /**
+   * Number of cells per row.
+   *
+   * @return number of columns
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int getColumns() {
+    return columns;
+  }
+
+  /**
+   * Number of rows.
+   *
+   * @return number of rows
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int getRows() {
+    return rows;
+  }
+
+  /**
+   * Column of the observer.
+   *
+   * @return column of the observer
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int getObserverColumn() {
+    return observerColumn;
+  }
+
+  /**
+   * Row of the observer.
+   *
+   * @return row of the observer
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int getObserverRow() {
+    return observerRow;
+  }
+
+  /**
+   * Decides whether a target at the given cell is visible from the observer.
+   *
+   * @param column column from west to east
+   * @param row    row from north to south
+   * @return {@code true} if visible; {@code false} if hidden, without data or outside of the
+   * heightmap
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public boolean isVisible(final int column, final int row) {
+    if (column < 0 || column >= columns || row < 0 || row >= rows) {
+      return false;
+    }
+    long index = (long) row * columns + column;
+    return (bits[(int) (index >>> 6)] & 1L << index) != 0L;
+  }
+
+  /**
+   * Number of visible cells, including the cell of the observer.
+   *
+   * @return number of visible cells
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public long getVisibleCount() {
+    long count = 0L;
+    for (long word : bits) {
+      count += Long.bitCount(word);
+    }
+    return count;
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{columns=" + columns + ", rows=" + rows + ", observerColumn="
+           + observerColumn + ", observerRow=" + observerRow + '}';
+  }
+}
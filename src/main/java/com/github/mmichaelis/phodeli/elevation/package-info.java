@@ -0,0 +1,15 @@
+/**
+ * <p>
+ * Terrain elevations from digital elevation models (DEM) stored in local files, such as
+ * SRTM height tiles.
+ * </p>
+ * <p>
+ * Bulk operations use the structure-of-arrays layout of {@link com.github.mmichaelis.phodeli.geo}:
+ * latitudes and longitudes in degrees as separate {@code double} arrays. Elevations are given
+ * in meters above sea level.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+package com.github.mmichaelis.phodeli.elevation;
@@ -0,0 +1,156 @@
+package com.github.mmichaelis.phodeli.geo;
+
+import static java.lang.Math.abs;
+import static java.lang.Math.floor;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Normalizes coordinates to latitudes within -90&deg; to 90&deg; and longitudes within
+ * -180&deg; (inclusive) to 180&deg; (exclusive).
+ * </p>
+ * <p>
+ * Unlike {@link com.github.mmichaelis.phodeli.measure.Angle#normalized()} normalization
+ * respects latitude semantics: a latitude beyond a pole continues on the opposite meridian,
+ * thus it is reflected at the pole and the longitude is turned by 180&deg;. Alternatively
+ * latitudes may be clamped to the poles.
+ * </p>
+ * <p>
+ * The bulk kernels work in place on structure-of-arrays coordinates. Their loops consist of
+ * floor operations, comparisons and conditional moves only, so that the JIT is able to
+ * vectorize them.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class CoordinateNormalizer {
+
+  private static final double MAX_LATITUDE = 90D;
+  private static final double MAX_LONGITUDE = 180D;
+  private static final double FULL_CIRCLE = 360D;
+
+  private CoordinateNormalizer() {
+  }
+
+  /**
+   * Normalizes the given coordinate, reflecting latitudes beyond a pole.
+   *
+   * @param coordinate coordinate to normalize
+   * @return normalized coordinate
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static GeoCoordinate normalize(@NotNull final GeoCoordinate coordinate) {
+    double latitude = coordinate.getLatitude().toDegrees();
+    double longitude = coordinate.getLongitude().toDegrees();
+    return GeoCoordinate.degrees(reflectLatitude(latitude),
+                                 wrapLongitude(longitude + poleTurn(latitude)));
+  }
+
+  /**
+   * Reflects the given latitude at the poles. Mind that the longitude needs to be turned by
+   * 180&deg; if the latitude crossed a pole.
+   *
+   * @param latitude latitude in degrees
+   * @return latitude within -90&deg; to 90&deg;
+   * @see #normalize(double[], double[], int)
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public static double reflectLatitude(final double latitude) {
+    return MAX_LATITUDE - abs(cyclePosition(latitude) - 2D * MAX_LATITUDE);
+  }
+
+  /**
+   * Wraps the given longitude.
+   *
+   * @param longitude longitude in degrees
+   * @return longitude within -180&deg; (inclusive) to 180&deg; (exclusive)
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public static double wrapLongitude(final double longitude) {
+    double shifted = longitude + MAX_LONGITUDE;
+    return shifted - FULL_CIRCLE * floor(shifted / FULL_CIRCLE) - MAX_LONGITUDE;
+  }
+
+  /**
+   * Normalizes the given coordinates in place: latitudes beyond a pole are reflected and their
+   * longitudes turned by 180&deg;, longitudes are wrapped.
+   *
+   * @param latitudes  latitudes in degrees
+   * @param longitudes longitudes in degrees
+   * @param count      number of coordinates to normalize, starting at index 0
+   * @since 1.0.0
+   */
+  public static void normalize(@NotNull final double[] latitudes,
+                               @NotNull final double[] longitudes,
+                               final int count) {
+    for (int i = 0; i < count; i++) {
+      double position = cyclePosition(latitudes[i]);
+      double turn = position > 2D * MAX_LATITUDE ? MAX_LONGITUDE : 0D;
+      latitudes[i] = MAX_LATITUDE - abs(position - 2D * MAX_LATITUDE);
+      double shifted = longitudes[i] + turn + MAX_LONGITUDE;
+      longitudes[i] = shifted - FULL_CIRCLE * floor(shifted / FULL_CIRCLE) - MAX_LONGITUDE;
+    }
+  }
+
+  /**
+   * Normalizes the given coordinates in place: latitudes are clamped to the poles, longitudes
+   * are wrapped.
+   *
+   * @param latitudes  latitudes in degrees
+   * @param longitudes longitudes in degrees
+   * @param count      number of coordinates to normalize, starting at index 0
+   * @since 1.0.0
+   */
+  public static void clamp(@NotNull final double[] latitudes,
+                           @NotNull final double[] longitudes,
+                           final int count) {
+    for (int i = 0; i < count; i++) {
+      latitudes[i] = max(-MAX_LATITUDE, min(MAX_LATITUDE, latitudes[i]));
+      double shifted = longitudes[i] + MAX_LONGITUDE;
+      longitudes[i] = shifted - FULL_CIRCLE * floor(shifted / FULL_CIRCLE) - MAX_LONGITUDE;
+    }
+  }
+
+  /**
+   * Wraps the given longitudes in place.
+   *
+   * @param longitudes longitudes in degrees
+   * @param count      number of longitudes to wrap, starting at index 0
+   * @since 1.0.0
+   */
+  public static void wrapLongitudes(@NotNull final double[] longitudes, final int count) {
+    for (int i = 0; i < count; i++) {
+      double shifted = longitudes[i] + MAX_LONGITUDE;
+      longitudes[i] = shifted - FULL_CIRCLE * floor(shifted / FULL_CIRCLE) - MAX_LONGITUDE;
+    }
+  }
+
+  /**
+   * Position of the latitude on a full meridian circle starting at the south pole: 0&deg; to
+   * 180&deg; is the meridian of the longitude, beyond it is the opposite meridian.
+   */
+  @Contract(pure = true)
+  private static double cyclePosition(final double latitude) {
+    double shifted = latitude + MAX_LATITUDE;
+    return shifted - FULL_CIRCLE * floor(shifted / FULL_CIRCLE);
+  }
+
+  /**
+   * Longitude turn required for the given latitude: 180&deg; if it ends on the opposite
+   * meridian, 0&deg; otherwise.
+   */
+  @Contract(pure = true)
+  private static double poleTurn(final double latitude) {
+    return cyclePosition(latitude) > 2D * MAX_LATITUDE ? MAX_LONGITUDE : 0D;
+  }
+}
@@ -0,0 +1,493 @@
+package com.github.mmichaelis.phodeli.geo;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Parser for coordinates given in free-form notation, such as:
+ * </p>
+ * <ul>
+ * <li>{@code 48.1371, 11.5754} or {@code -33.86 151.21} (decimal degrees),</li>
+ * <li>{@code 48.1371 N 11.5754 E} (hemisphere suffix),</li>
+ * <li>{@code N 48° 8.226' E 11° 34.524'} (degrees and decimal minutes),</li>
+ * <li>{@code 48°8'13.6"N 11°34'31.4"E} (degrees, minutes and seconds),</li>
+ * <li>{@code 48,1371;11,5754} (decimal comma).</li>
+ * </ul>
+ * <p>
+ * Latitude comes first unless hemisphere letters state otherwise. A comma directly between
+ * digits of a number without decimal point is a decimal comma, otherwise it separates latitude
+ * from longitude.
+ * </p>
+ * <p>
+ * Each line is scanned in a single pass without regular expressions or intermediate strings.
+ * Multi-line input is split into chunks at line boundaries which are parsed in parallel;
+ * malformed lines do not abort parsing but are reported by their offset.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class CoordinateParser {
+
+  /**
+   * Minimum number of characters per chunk for parallel parsing.
+   */
+  private static final int CHUNK_SIZE = 1 << 16;
+
+  private CoordinateParser() {
+  }
+
+  /**
+   * Parses a single coordinate.
+   *
+   * @param text coordinate in one of the supported notations
+   * @return coordinate
+   * @throws IllegalArgumentException if text is not a valid coordinate
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static GeoCoordinate parse(@NotNull final CharSequence text) {
+    requireNonNull(text, "text must not be null.");
+    LineParser parser = new LineParser();
+    if (!parser.parse(text, 0, text.length()) || parser.blank) {
+      throw new IllegalArgumentException("Malformed coordinate: " + text);
+    }
+    return GeoCoordinate.degrees(parser.latitude, parser.longitude);
+  }
+
+  /**
+   * Parses one coordinate per line. Blank lines are skipped. Lines are separated by
+   * {@code \n}; a trailing {@code \r} is ignored.
+   *
+   * @param text lines to parse
+   * @return parsed coordinates and offsets of malformed lines
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static ParsedCoordinates parseLines(@NotNull final CharSequence text) {
+    requireNonNull(text, "text must not be null.");
+    int[] boundaries = chunkBoundaries(text);
+    List<ParsedCoordinates> parts = IntStream.range(0, boundaries.length - 1)
+      .parallel()
+      .mapToObj(chunk -> parseChunk(text, boundaries[chunk], boundaries[chunk + 1]))
+      .collect(toList());
+    return ParsedCoordinates.concat(parts);
+  }
+
+  /**
+   * Parses one coordinate per line of the given UTF-8 encoded file.
+   *
+   * @param file file to parse
+   * @return parsed coordinates and character offsets of malformed lines
+   * @throws IOException if file cannot be read
+   * @see #parseLines(CharSequence)
+   * @since 1.0.0
+   */
+  @NotNull
+  public static ParsedCoordinates parseFile(@NotNull final Path file) throws IOException {
+    return parseFile(file, UTF_8);
+  }
+
+  /**
+   * Parses one coordinate per line of the given file.
+   *
+   * @param file    file to parse
+   * @param charset charset of the file
+   * @return parsed coordinates and character offsets of malformed lines
+   * @throws IOException if file cannot be read
+   * @see #parseLines(CharSequence)
+   * @since 1.0.0
+   */
+  @NotNull
+  public static ParsedCoordinates parseFile(@NotNull final Path file,
+                                            @NotNull final Charset charset)
+    throws IOException {
+    requireNonNull(charset, "charset must not be null.");
+    byte[] content = Files.readAllBytes(requireNonNull(file, "file must not be null."));
+    return parseLines(new String(content, charset));
+  }
+
+  /**
+   * Splits the text into chunks of at least {@link #CHUNK_SIZE} characters, each ending after
+   * a line feed or at the end of the text.
+   */
+  @NotNull
+  @Contract(pure = true)
+  private static int[] chunkBoundaries(@NotNull final CharSequence text) {
+    int length = text.length();
+    int[] boundaries = new int[length / CHUNK_SIZE + 2];
+    int count = 1;
+    int position = 0;
+    while (position < length) {
+      position = Math.min(length, position + CHUNK_SIZE);
+      while (position < length && text.charAt(position - 1) != '\n') {
+        position++;
+      }
+      boundaries[count++] = position;
+    }
+    return Arrays.copyOf(boundaries, count);
+  }
+
+  @NotNull
+  @Contract(pure = true)
+  private static ParsedCoordinates parseChunk(@NotNull final CharSequence text,
+                                              final int start,
+                                              final int end) {
+    LineParser parser = new LineParser();
+    double[] latitudes = new double[64];
+    double[] longitudes = new double[64];
+    int[] malformed = new int[8];
+    int size = 0;
+    int malformedCount = 0;
+    int lineStart = start;
+    while (lineStart < end) {
+      int lineEnd = lineStart;
+      while (lineEnd < end && text.charAt(lineEnd) != '\n') {
+        lineEnd++;
+      }
+      if (!parser.parse(text, lineStart, lineEnd)) {
+        if (malformedCount == malformed.length) {
+          malformed = Arrays.copyOf(malformed, malformedCount * 2);
+        }
+        malformed[malformedCount++] = lineStart;
+      } else if (!parser.blank) {
+        if (size == latitudes.length) {
+          latitudes = Arrays.copyOf(latitudes, size * 2);
+          longitudes = Arrays.copyOf(longitudes, size * 2);
+        }
+        latitudes[size] = parser.latitude;
+        longitudes[size] = parser.longitude;
+        size++;
+      }
+      lineStart = lineEnd + 1;
+    }
+    return new ParsedCoordinates(Arrays.copyOf(latitudes, size),
+                                 Arrays.copyOf(longitudes, size),
+                                 Arrays.copyOf(malformed, malformedCount));
+  }
+
+  /**
+   * <p>
+   * Reusable single pass parser of one coordinate. Scanning collects up to six numbers along
+   * with their unit markers, hemisphere letters and the position of an explicit separator.
+   * Afterwards the numbers are split into latitude and longitude.
+   * </p>
+   */
+  private static final class LineParser {
+
+    private static final int MAX_NUMBERS = 6;
+    private static final int MAX_LETTERS = 2;
+    private static final int MAX_DIGITS = 18;
+    private static final int UNKNOWN = -1;
+    private static final int DEGREES = 0;
+    private static final int MINUTES = 1;
+    private static final int SECONDS = 2;
+    private static final double MINUTES_PER_DEGREE = 60D;
+    private static final double[] DIVISORS = {1D, MINUTES_PER_DEGREE, 3600D};
+    private static final double MAX_LATITUDE = 90D;
+    private static final double MAX_LONGITUDE = 180D;
+    private static final double[] POWERS_OF_TEN = powersOfTen();
+
+    private final double[] values = new double[MAX_NUMBERS];
+    private final boolean[] negative = new boolean[MAX_NUMBERS];
+    private final int[] units = new int[MAX_NUMBERS];
+    private int count;
+    private final char[] letters = new char[MAX_LETTERS];
+    /**
+     * Number of numbers preceding each letter.
+     */
+    private final int[] letterPositions = new int[MAX_LETTERS];
+    private int letterCount;
+    private int separatorPosition;
+    private boolean blank;
+    private double latitude;
+    private double longitude;
+
+    /**
+     * Parses the given range.
+     *
+     * @return {@code false} if malformed; otherwise either {@link #blank} is set or
+     * {@link #latitude} and {@link #longitude} hold the result
+     */
+    private boolean parse(@NotNull final CharSequence text, final int start, final int end) {
+      count = 0;
+      letterCount = 0;
+      separatorPosition = UNKNOWN;
+      int position = start;
+      while (position < end) {
+        char current = text.charAt(position);
+        if (startsNumber(text, position, end)) {
+          position = scanNumber(text, position, end);
+          if (position < 0) {
+            return false;
+          }
+          continue;
+        }
+        switch (current) {
+          case ' ':
+          case '\t':
+          case '\r':
+          case '\u00a0':
+            break;
+          case ',':
+          case ';':
+          case '/':
+          case '|':
+            if (separatorPosition == UNKNOWN) {
+              separatorPosition = count;
+            }
+            break;
+          case '\u00b0':
+          case '\u00ba':
+            if (!markUnit(DEGREES)) {
+              return false;
+            }
+            break;
+          case '\'':
+          case '\u2032':
+          case '\u2019':
+            if (position + 1 < end && text.charAt(position + 1) == '\'') {
+              position++;
+              if (!markUnit(SECONDS)) {
+                return false;
+              }
+            } else if (!markUnit(MINUTES)) {
+              return false;
+            }
+            break;
+          case '"':
+          case '\u2033':
+          case '\u201d':
+            if (!markUnit(SECONDS)) {
+              return false;
+            }
+            break;
+          default:
+            if (!scanLetter(text, position, end)) {
+              return false;
+            }
+        }
+        position++;
+      }
+      blank = count == 0 && letterCount == 0 && separatorPosition == UNKNOWN;
+      return blank || assemble();
+    }
+
+    @Contract(pure = true)
+    private static boolean startsNumber(@NotNull final CharSequence text,
+                                        final int position,
+                                        final int end) {
+      char current = text.charAt(position);
+      if (isDigit(current)) {
+        return true;
+      }
+      int next = position + 1;
+      if (current == '-' || current == '+' || current == '\u2212') {
+        return next < end && (isDigit(text.charAt(next))
+                              || text.charAt(next) == '.' && next + 1 < end
+                                 && isDigit(text.charAt(next + 1)));
+      }
+      return current == '.' && next < end && isDigit(text.charAt(next));
+    }
+
+    /**
+     * Scans a number, returns the position after it or -1 on overflow.
+     */
+    private int scanNumber(@NotNull final CharSequence text, final int start, final int end) {
+      if (count == MAX_NUMBERS) {
+        return UNKNOWN;
+      }
+      int position = start;
+      char first = text.charAt(position);
+      boolean minus = first == '-' || first == '\u2212';
+      if (minus || first == '+') {
+        position++;
+      }
+      long mantissa = 0L;
+      int digits = 0;
+      int fractionDigits = UNKNOWN;
+      while (position < end) {
+        char current = text.charAt(position);
+        if (isDigit(current)) {
+          if (digits < MAX_DIGITS) {
+            mantissa = mantissa * 10L + (current - '0');
+            digits++;
+            if (fractionDigits != UNKNOWN) {
+              fractionDigits++;
+            }
+          } else if (fractionDigits == UNKNOWN) {
+            return UNKNOWN;
+          }
+        } else if (fractionDigits == UNKNOWN
+                   && (current == '.'
+                       || current == ',' && position + 1 < end
+                          && isDigit(text.charAt(position + 1)))) {
+          fractionDigits = 0;
+        } else {
+          break;
+        }
+        position++;
+      }
+      values[count] = mantissa / POWERS_OF_TEN[Math.max(0, fractionDigits)];
+      negative[count] = minus;
+      units[count] = UNKNOWN;
+      count++;
+      return position;
+    }
+
+    private boolean markUnit(final int unit) {
+      if (count == 0 || units[count - 1] != UNKNOWN) {
+        return false;
+      }
+      units[count - 1] = unit;
+      return true;
+    }
+
+    private boolean scanLetter(@NotNull final CharSequence text, final int position,
+                               final int end) {
+      char letter = Character.toUpperCase(text.charAt(position));
+      if (letter != 'N' && letter != 'S' && letter != 'E' && letter != 'W'
+          || letterCount == MAX_LETTERS
+          || position + 1 < end && Character.isLetter(text.charAt(position + 1))) {
+        return false;
+      }
+      letters[letterCount] = letter;
+      letterPositions[letterCount] = count;
+      letterCount++;
+      return true;
+    }
+
+    /**
+     * Splits the scanned numbers into latitude and longitude.
+     */
+    private boolean assemble() {
+      int split = split();
+      if (split <= 0 || split >= count || split > SECONDS + 1 || count - split > SECONDS + 1) {
+        return false;
+      }
+      // Letters at the start belong to the first part, at the end to the second part. A letter
+      // at the split belongs to the second part for prefix notation, otherwise to the first.
+      boolean prefixNotation = letterCount > 0 && letterPositions[0] == 0;
+      char firstLetter = 0;
+      char secondLetter = 0;
+      for (int i = 0; i < letterCount; i++) {
+        int letterPosition = letterPositions[i];
+        boolean first;
+        if (letterPosition == 0) {
+          first = true;
+        } else if (letterPosition == count) {
+          first = false;
+        } else if (letterPosition == split) {
+          first = !prefixNotation;
+        } else {
+          return false;
+        }
+        if (first && firstLetter != 0 || !first && secondLetter != 0) {
+          return false;
+        }
+        if (first) {
+          firstLetter = letters[i];
+        } else {
+          secondLetter = letters[i];
+        }
+      }
+      double firstValue = part(0, split, firstLetter);
+      double secondValue = part(split, count, secondLetter);
+      if (isLongitudeLetter(firstLetter) || isLatitudeLetter(secondLetter)) {
+        if (isLongitudeLetter(secondLetter) || isLatitudeLetter(firstLetter)) {
+          return false;
+        }
+        latitude = secondValue;
+        longitude = firstValue;
+      } else {
+        latitude = firstValue;
+        longitude = secondValue;
+      }
+      return Math.abs(latitude) <= MAX_LATITUDE && Math.abs(longitude) <= MAX_LONGITUDE;
+    }
+
+    @Contract(pure = true)
+    private int split() {
+      if (letterCount == MAX_LETTERS) {
+        return letterPositions[0] == 0 ? letterPositions[1] : letterPositions[0];
+      }
+      if (separatorPosition != UNKNOWN && separatorPosition < count) {
+        return separatorPosition;
+      }
+      if (letterCount == 1 && letterPositions[0] > 0 && letterPositions[0] < count) {
+        return letterPositions[0];
+      }
+      for (int i = 1; i < count; i++) {
+        if (units[i] == DEGREES) {
+          return i;
+        }
+      }
+      return count % 2 == 0 ? count / 2 : UNKNOWN;
+    }
+
+    /**
+     * Combines degrees, minutes and seconds of the given range; NaN if invalid.
+     */
+    @Contract(pure = true)
+    private double part(final int from, final int to, final char letter) {
+      double result = 0D;
+      int expectedUnit = DEGREES;
+      for (int i = from; i < to; i++) {
+        int unit = units[i] == UNKNOWN ? expectedUnit : units[i];
+        if (unit >= DIVISORS.length || unit < expectedUnit || i == from && unit != DEGREES
+            || i > from && (negative[i] || values[i] >= MINUTES_PER_DEGREE)) {
+          return Double.NaN;
+        }
+        result += values[i] / DIVISORS[unit];
+        expectedUnit = unit + 1;
+      }
+      boolean southOrWest = letter == 'S' || letter == 'W';
+      if (southOrWest && negative[from]) {
+        return Double.NaN;
+      }
+      return southOrWest || negative[from] ? -result : result;
+    }
+
+    @Contract(pure = true)
+    private static boolean isLatitudeLetter(final char letter) {
+      return letter == 'N' || letter == 'S';
+    }
+
+    @Contract(pure = true)
+    private static boolean isLongitudeLetter(final char letter) {
+      return letter == 'E' || letter == 'W';
+    }
+
+    @Contract(pure = true)
+    private static boolean isDigit(final char character) {
+      return character >= '0' && character <= '9';
+    }
+
+    @NotNull
+    @Contract(pure = true)
+    private static double[] powersOfTen() {
+      double[] powers = new double[MAX_DIGITS + 1];
+      powers[0] = 1D;
+      for (int i = 1; i < powers.length; i++) {
+        powers[i] = powers[i - 1] * 10D;
+      }
+      return powers;
+    }
+  }
+}
@@ -0,0 +1,320 @@
+package com.github.mmichaelis.phodeli.geo;
+
+import static com.github.mmichaelis.phodeli.geo.GreatCircle.EARTH_RADIUS_METERS;
+import static com.github.mmichaelis.phodeli.geo.GreatCircle.haversine;
+import static com.github.mmichaelis.phodeli.geo.GreatCircle.haversineToAngle;
+import static java.lang.Math.cos;
+import static java.lang.Math.toRadians;
+import static java.util.Objects.requireNonNull;
+
+import com.github.mmichaelis.phodeli.measure.Length;
+import com.github.mmichaelis.phodeli.measure.LengthUnit;
+
+import java.util.stream.IntStream;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * <p>
+ * Immutable matrix of great circle distances between all pairs of a set of locations.
+ * </p>
+ * <p>
+ * As distances are symmetric and zero on the diagonal, only the strictly lower triangle is
+ * stored, row by row. The matrix is filled in square tiles sized to fit into the CPU cache,
+ * which are processed in parallel on the common fork join pool. Distances are stored in a
+ * chosen unit either as {@code double} or, halving the memory footprint, as {@code float}.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class DistanceMatrix {
+
+  /**
+   * Maximum number of locations; the number of stored distances must fit into an array.
+   *
+   * @since 1.0.0
+   */
+  public static final int MAX_SIZE = 65_536;
+
+  /**
+   * Edge length of tiles; a tile of coordinates and distances fits into the L2 cache.
+   */
+  private static final int TILE_SIZE = 256;
+
+  private final int size;
+  @NotNull
+  private final LengthUnit unit;
+  @Nullable
+  private final double[] doubleDistances;
+  @Nullable
+  private final float[] floatDistances;
+
+  private DistanceMatrix(final int size,
+                         @NotNull final LengthUnit unit,
+                         @Nullable final double[] doubleDistances,
+                         @Nullable final float[] floatDistances) {
+    this.size = size;
+    this.unit = unit;
+    this.doubleDistances = doubleDistances;
+    this.floatDistances = floatDistances;
+  }
+
+  /**
+   * Builds the distance matrix of the given locations storing distances as {@code double}
+   * in meters.
+   *
+   * @param latitudes  latitudes in degrees
+   * @param longitudes longitudes in degrees
+   * @return distance matrix
+   * @throws IllegalArgumentException if arrays differ in length or exceed {@link #MAX_SIZE}
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static DistanceMatrix matrix(@NotNull final double[] latitudes,
+                                      @NotNull final double[] longitudes) {
+    return matrix(latitudes, longitudes, LengthUnit.METERS);
+  }
+
+  /**
+   * Builds the distance matrix of the given locations storing distances as {@code double}
+   * in the given unit.
+   *
+   * @param latitudes  latitudes in degrees
+   * @param longitudes longitudes in degrees
+   * @param unit       unit to store distances in
+   * @return distance matrix
+   * @throws IllegalArgumentException if arrays differ in length or exceed {@link #MAX_SIZE}
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static DistanceMatrix matrix(@NotNull final double[] latitudes,
+                                      @NotNull final double[] longitudes,
+                                      @NotNull final LengthUnit unit) {
+    int size = checkSize(latitudes, longitudes);
+    double[] distances = new double[cellCount(size)];
+    fill(latitudes, longitudes, unit, (index, distance) -> distances[index] = distance);
+    return new DistanceMatrix(size, unit, distances, null);
+  }
+
+  /**
+   * Builds the distance matrix of the given locations storing distances as {@code float} in
+   * the given unit. Choose a unit in which the expected distances are well above the
+   * precision required, as {@code float} provides about seven significant digits.
+   *
+   * @param latitudes  latitudes in degrees
+   * @param longitudes longitudes in degrees
+   * @param unit       unit to store distances in
+   * @return distance matrix
+   * @throws IllegalArgumentException if arrays differ in length or exceed {@link #MAX_SIZE}
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static DistanceMatrix compactMatrix(@NotNull final double[] latitudes,
+                                             @NotNull final double[] longitudes,
+                                             @NotNull final LengthUnit unit) {
+    int size = checkSize(latitudes, longitudes);
+    float[] distances = new float[cellCount(size)];
+    fill(latitudes, longitudes, unit, (index, distance) -> distances[index] = (float) distance);
+    return new DistanceMatrix(size, unit, null, distances);
+  }
+
+  /**
+   * Number of locations.
+   *
+   * @return number of rows and columns
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Unit of the raw distances provided by {@link #get(int, int)}.
+   *
+   * @return unit
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public LengthUnit getUnit() {
+    return unit;
+  }
+
+  /**
+   * Signals if distances are stored as {@code float}.
+   *
+   * @return {@code true} for compact storage
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public boolean isCompact() {
+    return floatDistances != null;
+  }
+
+  /**
+   * Distance between two locations in the unit of this matrix.
+   *
+   * @param row    index of the first location
+   * @param column index of the second location
+   * @return distance in {@link #getUnit() unit} of this matrix
+   * @throws IndexOutOfBoundsException if an index is out of range
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public double get(final int row, final int column) {
+    checkIndex(row);
+    checkIndex(column);
+    if (row == column) {
+      return 0D;
+    }
+    return row > column ? stored(cellIndex(row, column)) : stored(cellIndex(column, row));
+  }
+
+  /**
+   * Distance between two locations.
+   *
+   * @param row    index of the first location
+   * @param column index of the second location
+   * @return distance
+   * @throws IndexOutOfBoundsException if an index is out of range
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Length getDistance(final int row, final int column) {
+    return Length.length(get(row, column), unit);
+  }
+
+  /**
+   * View of the distances from one location to all others. The view reads from this matrix,
+   * thus nothing is copied.
+   *
+   * @param row index of the location
+   * @return row view
+   * @throws IndexOutOfBoundsException if row is out of range
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public DistanceRow row(final int row) {
+    checkIndex(row);
+    return new DistanceRow(this, row);
+  }
+
+  /**
+   * Raw distance at the given index of the triangular storage.
+   */
+  @Contract(pure = true)
+  double stored(final int index) {
+    if (floatDistances != null) {
+      return floatDistances[index];
+    }
+    return requireNonNull(doubleDistances)[index];
+  }
+
+  /**
+   * Index of the cell in the triangular storage for {@code row > column}.
+   */
+  @Contract(pure = true)
+  static int cellIndex(final int row, final int column) {
+    return (int) ((long) row * (row - 1) / 2L) + column;
+  }
+
+  private void checkIndex(final int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index " + index + " out of range [0, " + size + ").");
+    }
+  }
+
+  @Contract(pure = true)
+  private static int checkSize(@NotNull final double[] latitudes,
+                               @NotNull final double[] longitudes) {
+    int size = latitudes.length;
+    if (longitudes.length != size) {
+      throw new IllegalArgumentException(
+        "Latitudes (" + size + ") and longitudes (" + longitudes.length
+        + ") differ in length.");
+    }
+    if (size > MAX_SIZE) {
+      throw new IllegalArgumentException(
+        "At most " + MAX_SIZE + " locations supported but got " + size + '.');
+    }
+    return size;
+  }
+
+  @Contract(pure = true)
+  private static int cellCount(final int size) {
+    return size < 2 ? 0 : cellIndex(size, 0);
+  }
+
+  /**
+   * Computes all distances tile by tile in parallel.
+   */
+  private static void fill(@NotNull final double[] latitudes,
+                           @NotNull final double[] longitudes,
+                           @NotNull final LengthUnit unit,
+                           @NotNull final CellConsumer consumer) {
+    int size = latitudes.length;
+    double[] radianLatitudes = new double[size];
+    double[] radianLongitudes = new double[size];
+    double[] cosLatitudes = new double[size];
+    for (int i = 0; i < size; i++) {
+      radianLatitudes[i] = toRadians(latitudes[i]);
+      radianLongitudes[i] = toRadians(longitudes[i]);
+      cosLatitudes[i] = cos(radianLatitudes[i]);
+    }
+    double scale = unit.convert(EARTH_RADIUS_METERS, LengthUnit.METERS);
+    int tiles = (size + TILE_SIZE - 1) / TILE_SIZE;
+    // Enumerate tiles of the lower triangle, including the diagonal.
+    IntStream.range(0, tiles * (tiles + 1) / 2).parallel().forEach(tile -> {
+      int tileRow = (int) ((Math.sqrt(8D * tile + 1D) - 1D) / 2D);
+      while (tileRow * (tileRow + 1) / 2 > tile) {
+        tileRow--;
+      }
+      while ((tileRow + 1) * (tileRow + 2) / 2 <= tile) {
+        tileRow++;
+      }
+      int tileColumn = tile - tileRow * (tileRow + 1) / 2;
+      int rowEnd = Math.min(size, (tileRow + 1) * TILE_SIZE);
+      int columnStart = tileColumn * TILE_SIZE;
+      for (int row = tileRow * TILE_SIZE; row < rowEnd; row++) {
+        int columnEnd = Math.min(row, (tileColumn + 1) * TILE_SIZE);
+        int rowOffset = cellIndex(row, 0);
+        double latitude = radianLatitudes[row];
+        double cosLatitude = cosLatitudes[row];
+        double longitude = radianLongitudes[row];
+        for (int column = columnStart; column < columnEnd; column++) {
+          double angle = haversineToAngle(haversine(latitude, cosLatitude,
+                                                    radianLatitudes[column],
+                                                    cosLatitudes[column],
+                                                    radianLongitudes[column] - longitude));
+          consumer.accept(rowOffset + column, angle * scale);
+        }
+      }
+    });
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{size=" + size + ", unit=" + unit + ", compact=" + isCompact()
+           + '}';
+  }
+
+  /**
+   * Receives computed distances.
+   */
+  @FunctionalInterface
+  private interface CellConsumer {
+
+    void accept(int index, double distance);
+  }
+}
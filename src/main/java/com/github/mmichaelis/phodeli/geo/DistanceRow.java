@@ -0,0 +1,111 @@
+package com.github.mmichaelis.phodeli.geo;
+
+import com.github.mmichaelis.phodeli.measure.Length;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Row of a {@link DistanceMatrix}: the distances from one location to all locations of the
+ * matrix. The row is a view reading directly from the triangular storage of the matrix.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class DistanceRow {
+
+  @NotNull
+  private final DistanceMatrix matrix;
+  private final int row;
+  /**
+   * Storage index of the first cell of this row, which holds columns up to the diagonal.
+   */
+  private final int rowOffset;
+
+  DistanceRow(@NotNull final DistanceMatrix matrix, final int row) {
+    this.matrix = matrix;
+    this.row = row;
+    rowOffset = row > 0 ? DistanceMatrix.cellIndex(row, 0) : 0;
+  }
+
+  /**
+   * Index of the location this row refers to.
+   *
+   * @return row index
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int getRow() {
+    return row;
+  }
+
+  /**
+   * Number of columns.
+   *
+   * @return number of locations in the matrix
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int size() {
+    return matrix.size();
+  }
+
+  /**
+   * Distance to the location of the given column in the unit of the matrix.
+   *
+   * @param column index of the location
+   * @return distance in {@link DistanceMatrix#getUnit() unit} of the matrix
+   * @throws IndexOutOfBoundsException if column is out of range
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public double get(final int column) {
+    if (column < row && column >= 0) {
+      return matrix.stored(rowOffset + column);
+    }
+    return matrix.get(row, column);
+  }
+
+  /**
+   * Distance to the location of the given column.
+   *
+   * @param column index of the location
+   * @return distance
+   * @throws IndexOutOfBoundsException if column is out of range
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Length getDistance(final int column) {
+    return Length.length(get(column), matrix.getUnit());
+  }
+
+  /**
+   * Copies the distances of this row into the given target.
+   *
+   * @param target target for distances in the unit of the matrix; must provide room for
+   *               {@link #size()} values
+   * @since 1.0.0
+   */
+  public void copyTo(@NotNull final double[] target) {
+    for (int column = 0; column < row; column++) {
+      target[column] = matrix.stored(rowOffset + column);
+    }
+    int size = size();
+    if (row < size) {
+      target[row] = 0D;
+    }
+    for (int column = row + 1; column < size; column++) {
+      target[column] = matrix.stored(DistanceMatrix.cellIndex(column, row));
+    }
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{row=" + row + ", size=" + size() + '}';
+  }
+}
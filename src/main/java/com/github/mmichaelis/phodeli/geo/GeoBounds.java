@@ -0,0 +1,386 @@
+package com.github.mmichaelis.phodeli.geo;
+
+import static com.github.mmichaelis.phodeli.geo.GreatCircle.EARTH_RADIUS_METERS;
+import static java.lang.Math.PI;
+import static java.lang.Math.asin;
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+import static java.lang.Math.toDegrees;
+import static java.lang.Math.toRadians;
+import static java.util.Objects.requireNonNull;
+
+import com.github.mmichaelis.phodeli.measure.Angle;
+import com.github.mmichaelis.phodeli.measure.Length;
+
+import java.io.Serializable;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * A latitude/longitude bounding box. Boxes whose western longitude is greater than their eastern
+ * longitude cross the antimeridian, i. e. they extend eastwards from their western longitude
+ * beyond 180&deg; to their eastern longitude.
+ * </p>
+ * <p>
+ * Bounds {@link #around(GeoCoordinate, Length) around} a center serve as cheap prefilter of
+ * proximity queries: the {@code contains} checks only compare numbers, so that most locations
+ * are rejected before any trigonometry is required.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class GeoBounds implements Serializable {
+
+  /**
+   * Bounds covering the whole world.
+   *
+   * @since 1.0.0
+   */
+  public static final GeoBounds WORLD = new GeoBounds(-90D, -180D, 90D, 180D);
+
+  private static final long serialVersionUID = 3328215632592964455L;
+  private static final double MAX_LATITUDE = 90D;
+  private static final double MAX_LONGITUDE = 180D;
+  private static final double FULL_CIRCLE = 360D;
+
+  private final double south;
+  private final double west;
+  private final double north;
+  private final double east;
+
+  private GeoBounds(final double south, final double west, final double north, final double east) {
+    if (!(south >= -MAX_LATITUDE && north <= MAX_LATITUDE && south <= north)) {
+      throw new IllegalArgumentException(
+        "Invalid latitude range: south=" + south + ", north=" + north + '.');
+    }
+    if (!(west >= -MAX_LONGITUDE && west <= MAX_LONGITUDE
+          && east >= -MAX_LONGITUDE && east <= MAX_LONGITUDE)) {
+      throw new IllegalArgumentException(
+        "Invalid longitude range: west=" + west + ", east=" + east + '.');
+    }
+    this.south = south;
+    this.west = west;
+    this.north = north;
+    this.east = east;
+  }
+
+  /**
+   * Creates bounds from the given limits.
+   *
+   * @param south southern latitude
+   * @param west  western longitude
+   * @param north northern latitude
+   * @param east  eastern longitude; less than {@code west} for bounds crossing the antimeridian
+   * @return bounds
+   * @throws IllegalArgumentException if latitudes are not within -90&deg; to 90&deg;, south is
+   *                                  north of north or longitudes are not within -180&deg; to
+   *                                  180&deg;
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static GeoBounds bounds(@NotNull final Angle south,
+                                 @NotNull final Angle west,
+                                 @NotNull final Angle north,
+                                 @NotNull final Angle east) {
+    return degrees(south.toDegrees(), west.toDegrees(), north.toDegrees(), east.toDegrees());
+  }
+
+  /**
+   * Creates bounds from the given limits in degrees.
+   *
+   * @param south southern latitude in degrees
+   * @param west  western longitude in degrees
+   * @param north northern latitude in degrees
+   * @param east  eastern longitude in degrees; less than {@code west} for bounds crossing the
+   *              antimeridian
+   * @return bounds
+   * @throws IllegalArgumentException if latitudes are not within -90&deg; to 90&deg;, south is
+   *                                  north of north or longitudes are not within -180&deg; to
+   *                                  180&deg;
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static GeoBounds degrees(final double south,
+                                  final double west,
+                                  final double north,
+                                  final double east) {
+    return new GeoBounds(south, west, north, east);
+  }
+
+  /**
+   * Creates the smallest bounds containing all locations within the given distance of the
+   * center. If a pole is within reach, the bounds span all longitudes. Bounds reaching beyond
+   * the antimeridian cross it.
+   *
+   * @param center center
+   * @param radius distance from the center
+   * @return bounds
+   * @throws IllegalArgumentException if radius is negative
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static GeoBounds around(@NotNull final GeoCoordinate center,
+                                 @NotNull final Length radius) {
+    requireNonNull(center, "center must not be null.");
+    double meters = requireNonNull(radius, "radius must not be null.").toMeters();
+    if (!(meters >= 0D)) {
+      throw new IllegalArgumentException("Radius must not be negative but is " + radius + '.');
+    }
+    double angularRadius = meters / EARTH_RADIUS_METERS;
+    if (angularRadius >= PI) {
+      return WORLD;
+    }
+    double latitude = center.getLatitude().toDegrees();
+    double longitude = center.getLongitude().toDegrees();
+    double deltaLatitude = toDegrees(angularRadius);
+    double south = latitude - deltaLatitude;
+    double north = latitude + deltaLatitude;
+    if (south <= -MAX_LATITUDE || north >= MAX_LATITUDE) {
+      // A pole is within reach: all longitudes are affected.
+      return new GeoBounds(Math.max(-MAX_LATITUDE, south), -MAX_LONGITUDE,
+                           Math.min(MAX_LATITUDE, north), MAX_LONGITUDE);
+    }
+    // Meridians tangent to the circle, see Jan Philip Matuschek: Finding Points Within a
+    // Distance of a Latitude/Longitude Using Bounding Coordinates.
+    double sinDeltaLongitude = sin(angularRadius) / cos(toRadians(latitude));
+    double deltaLongitude = sinDeltaLongitude >= 1D ? MAX_LONGITUDE
+                                                     : toDegrees(asin(sinDeltaLongitude));
+    if (deltaLongitude >= MAX_LONGITUDE) {
+      return new GeoBounds(south, -MAX_LONGITUDE, north, MAX_LONGITUDE);
+    }
+    return new GeoBounds(south, wrap(longitude - deltaLongitude),
+                         north, wrap(longitude + deltaLongitude));
+  }
+
+  /**
+   * Southern latitude.
+   *
+   * @return southern latitude
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Angle getSouth() {
+    return Angle.degrees(south);
+  }
+
+  /**
+   * Western longitude.
+   *
+   * @return western longitude
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Angle getWest() {
+    return Angle.degrees(west);
+  }
+
+  /**
+   * Northern latitude.
+   *
+   * @return northern latitude
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Angle getNorth() {
+    return Angle.degrees(north);
+  }
+
+  /**
+   * Eastern longitude.
+   *
+   * @return eastern longitude
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Angle getEast() {
+    return Angle.degrees(east);
+  }
+
+  /**
+   * Signals if these bounds cross the antimeridian.
+   *
+   * @return {@code true} if western longitude is east of the eastern longitude
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public boolean crossesAntimeridian() {
+    return west > east;
+  }
+
+  /**
+   * Extent in north-south direction.
+   *
+   * @return latitude span
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Angle getLatitudeSpan() {
+    return Angle.degrees(north - south);
+  }
+
+  /**
+   * Extent in west-east direction, respecting bounds crossing the antimeridian.
+   *
+   * @return longitude span
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Angle getLongitudeSpan() {
+    return Angle.degrees(longitudeSpanDegrees());
+  }
+
+  /**
+   * Signals if the given coordinate is within these bounds, including their limits.
+   *
+   * @param coordinate coordinate to check
+   * @return {@code true} if coordinate is within bounds
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public boolean contains(@NotNull final GeoCoordinate coordinate) {
+    return contains(coordinate.getLatitude().toDegrees(), coordinate.getLongitude().toDegrees());
+  }
+
+  /**
+   * Signals if the given coordinate is within these bounds, including their limits.
+   *
+   * @param latitude  latitude in degrees
+   * @param longitude longitude in degrees
+   * @return {@code true} if coordinate is within bounds
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public boolean contains(final double latitude, final double longitude) {
+    boolean withinLatitudes = latitude >= south & latitude <= north;
+    if (crossesAntimeridian()) {
+      return withinLatitudes & (longitude >= west | longitude <= east);
+    }
+    return withinLatitudes & longitude >= west & longitude <= east;
+  }
+
+  /**
+   * Checks the given coordinates for being within these bounds. The loops are free of
+   * data-dependent branches.
+   *
+   * @param latitudes  latitudes in degrees
+   * @param longitudes longitudes in degrees
+   * @param target     target for the results; {@code true} if the coordinate at the same index
+   *                   is within bounds
+   * @param count      number of coordinates to check, starting at index 0
+   * @since 1.0.0
+   */
+  public void contains(@NotNull final double[] latitudes,
+                       @NotNull final double[] longitudes,
+                       @NotNull final boolean[] target,
+                       final int count) {
+    if (crossesAntimeridian()) {
+      for (int i = 0; i < count; i++) {
+        target[i] = latitudes[i] >= south & latitudes[i] <= north
+                    & (longitudes[i] >= west | longitudes[i] <= east);
+      }
+    } else {
+      for (int i = 0; i < count; i++) {
+        target[i] = latitudes[i] >= south & latitudes[i] <= north
+                    & longitudes[i] >= west & longitudes[i] <= east;
+      }
+    }
+  }
+
+  /**
+   * Collects the indices of the given coordinates being within these bounds. The loops are
+   * free of data-dependent branches: each index is written and only counted if contained.
+   *
+   * @param latitudes  latitudes in degrees
+   * @param longitudes longitudes in degrees
+   * @param target     target for the indices of contained coordinates; must provide room for
+   *                   {@code count} indices
+   * @param count      number of coordinates to check, starting at index 0
+   * @return number of indices written to target
+   * @since 1.0.0
+   */
+  public int filter(@NotNull final double[] latitudes,
+                    @NotNull final double[] longitudes,
+                    @NotNull final int[] target,
+                    final int count) {
+    int found = 0;
+    if (crossesAntimeridian()) {
+      for (int i = 0; i < count; i++) {
+        target[found] = i;
+        found += latitudes[i] >= south & latitudes[i] <= north
+                 & (longitudes[i] >= west | longitudes[i] <= east) ? 1 : 0;
+      }
+    } else {
+      for (int i = 0; i < count; i++) {
+        target[found] = i;
+        found += latitudes[i] >= south & latitudes[i] <= north
+                 & longitudes[i] >= west & longitudes[i] <= east ? 1 : 0;
+      }
+    }
+    return found;
+  }
+
+  @Contract(pure = true)
+  private static double wrap(final double longitude) {
+    if (longitude < -MAX_LONGITUDE) {
+      return longitude + FULL_CIRCLE;
+    }
+    if (longitude > MAX_LONGITUDE) {
+      return longitude - FULL_CIRCLE;
+    }
+    return longitude;
+  }
+
+  @Contract(pure = true)
+  private double longitudeSpanDegrees() {
+    if (crossesAntimeridian()) {
+      return east - west + FULL_CIRCLE;
+    }
+    return east - west;
+  }
+
+  @Override
+  @Contract(pure = true)
+  public int hashCode() {
+    int result = Double.hashCode(south);
+    result = 31 * result + Double.hashCode(west);
+    result = 31 * result + Double.hashCode(north);
+    result = 31 * result + Double.hashCode(east);
+    return result;
+  }
+
+  @Override
+  @Contract(pure = true)
+  public boolean equals(final Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    GeoBounds other = (GeoBounds) obj;
+    return Double.compare(south, other.south) == 0
+           && Double.compare(west, other.west) == 0
+           && Double.compare(north, other.north) == 0
+           && Double.compare(east, other.east) == 0;
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{south=" + south + ", west=" + west + ", north=" + north
+           + ", east=" + east + '}';
+  }
+}
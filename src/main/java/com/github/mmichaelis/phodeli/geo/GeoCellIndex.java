@@ -0,0 +1,274 @@
+package com.github.mmichaelis.phodeli.geo;
+
+import static com.github.mmichaelis.phodeli.geo.Geohash.interleave;
+import static com.github.mmichaelis.phodeli.geo.Geohash.latitudeCell;
+import static com.github.mmichaelis.phodeli.geo.Geohash.longitudeCell;
+import static com.github.mmichaelis.phodeli.geo.GreatCircle.EARTH_RADIUS_METERS;
+import static com.github.mmichaelis.phodeli.geo.GreatCircle.haversine;
+import static com.github.mmichaelis.phodeli.geo.GreatCircle.haversineOf;
+import static java.lang.Math.PI;
+import static java.lang.Math.cos;
+import static java.lang.Math.toRadians;
+import static java.util.Objects.requireNonNull;
+
+import com.github.mmichaelis.phodeli.measure.Length;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Immutable spatial index which buckets locations into Morton cells of a fixed level. Locations
+ * are stored sorted by their cell key, so that each cell is a contiguous run found by binary
+ * search. Radius queries expand from the cell of the center to all neighbor cells touched by
+ * the radius and check the actual great circle distance for locations within those cells only.
+ * </p>
+ * <p>
+ * For best performance choose a cell size in the order of magnitude of the typical query
+ * radius.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class GeoCellIndex {
+
+  /**
+   * Maximum number of bits per axis; cells are about 20 m high at this level.
+   */
+  private static final int MAX_LEVEL = 20;
+  private static final int CELL_BITS = 32;
+  private static final double FULL_CIRCLE = 360D;
+  /**
+   * If a query touches more cells than this fraction of indexed locations, scanning all
+   * locations is cheaper than probing each cell.
+   */
+  private static final int SCAN_THRESHOLD_DIVISOR = 4;
+
+  private final int level;
+  private final int cellsPerAxis;
+  @NotNull
+  private final long[] cellKeys;
+  @NotNull
+  private final int[] ids;
+  /**
+   * Latitudes in radians, sorted by cell key.
+   */
+  @NotNull
+  private final double[] latitudes;
+  /**
+   * Longitudes in radians, sorted by cell key.
+   */
+  @NotNull
+  private final double[] longitudes;
+  @NotNull
+  private final double[] cosLatitudes;
+
+  private GeoCellIndex(final int level,
+                       @NotNull final long[] cellKeys,
+                       @NotNull final int[] ids,
+                       @NotNull final double[] latitudes,
+                       @NotNull final double[] longitudes) {
+    this.level = level;
+    cellsPerAxis = 1 << level;
+    this.cellKeys = cellKeys;
+    this.ids = ids;
+    this.latitudes = latitudes;
+    this.longitudes = longitudes;
+    cosLatitudes = new double[latitudes.length];
+    Arrays.setAll(cosLatitudes, i -> cos(latitudes[i]));
+  }
+
+  /**
+   * Indexes the given locations. The arrays are not referenced after construction.
+   *
+   * @param latitudes  latitudes in degrees
+   * @param longitudes longitudes in degrees
+   * @param cellSize   desired minimum extent of a cell in north-south direction
+   * @return index
+   * @throws IllegalArgumentException if arrays differ in length or cell size is not positive
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static GeoCellIndex index(@NotNull final double[] latitudes,
+                                   @NotNull final double[] longitudes,
+                                   @NotNull final Length cellSize) {
+    int size = latitudes.length;
+    if (longitudes.length != size) {
+      throw new IllegalArgumentException(
+        "Latitudes (" + size + ") and longitudes (" + longitudes.length
+        + ") differ in length.");
+    }
+    double cellMeters = requireNonNull(cellSize, "cellSize must not be null.").toMeters();
+    if (!(cellMeters > 0D)) {
+      throw new IllegalArgumentException("Cell size must be positive but is " + cellSize + '.');
+    }
+    int idBits = Math.max(1, Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(0, size - 1)));
+    // Keep the sign bit clear, so that the signed sort orders the packed keys as unsigned.
+    int level = levelFor(cellMeters, (Long.SIZE - 1 - idBits) / 2);
+    int keyShift = Long.SIZE - 2 * level;
+    long idMask = (1L << idBits) - 1L;
+
+    // Sorting key and id packed into one long keeps the sort primitive.
+    long[] packed = new long[size];
+    Arrays.parallelSetAll(packed, i -> {
+      long morton = interleave(longitudeCell(longitudes[i]), latitudeCell(latitudes[i]));
+      return (morton >>> keyShift) << idBits | i;
+    });
+    Arrays.parallelSort(packed);
+
+    long[] cellKeys = new long[size];
+    int[] ids = new int[size];
+    double[] sortedLatitudes = new double[size];
+    double[] sortedLongitudes = new double[size];
+    IntStream.range(0, size).parallel().forEach(i -> {
+      int id = (int) (packed[i] & idMask);
+      cellKeys[i] = packed[i] >>> idBits;
+      ids[i] = id;
+      sortedLatitudes[i] = toRadians(latitudes[id]);
+      sortedLongitudes[i] = toRadians(longitudes[id]);
+    });
+    return new GeoCellIndex(level, cellKeys, ids, sortedLatitudes, sortedLongitudes);
+  }
+
+  /**
+   * Number of indexed locations.
+   *
+   * @return size
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int size() {
+    return ids.length;
+  }
+
+  /**
+   * Provides the indices of all locations within the given distance.
+   *
+   * @param center center of the query
+   * @param radius maximum distance from the center
+   * @return indices of the locations (as given on construction) in no particular order
+   * @throws IllegalArgumentException if radius is negative
+   * @since 1.0.0
+   */
+  @NotNull
+  public int[] within(@NotNull final GeoCoordinate center, @NotNull final Length radius) {
+    IntStream.Builder builder = IntStream.builder();
+    forEachWithin(center, radius, builder::add);
+    return builder.build().toArray();
+  }
+
+  /**
+   * Reports the indices of all locations within the given distance.
+   *
+   * @param center   center of the query
+   * @param radius   maximum distance from the center
+   * @param consumer consumer of the indices of the locations (as given on construction)
+   * @return number of reported locations
+   * @throws IllegalArgumentException if radius is negative
+   * @since 1.0.0
+   */
+  public int forEachWithin(@NotNull final GeoCoordinate center,
+                           @NotNull final Length radius,
+                           @NotNull final IntConsumer consumer) {
+    GeoBounds bounds = GeoBounds.around(center, radius);
+    double latitude = center.getLatitude().toDegrees();
+    double longitude = center.getLongitude().toDegrees();
+    double angularRadius = radius.toMeters() / EARTH_RADIUS_METERS;
+    if (angularRadius >= PI) {
+      return scan(latitude, longitude, Double.POSITIVE_INFINITY, consumer);
+    }
+    double radiusHaversine = haversineOf(angularRadius);
+
+    int shift = CELL_BITS - level;
+    int firstRow = (int) (latitudeCell(bounds.getSouth().toDegrees()) >>> shift);
+    int lastRow = (int) (latitudeCell(bounds.getNorth().toDegrees()) >>> shift);
+    int firstColumn = (int) (longitudeCell(bounds.getWest().toDegrees()) >>> shift);
+    int lastColumn = (int) (longitudeCell(bounds.getEast().toDegrees()) >>> shift);
+    int columns = Math.floorMod(lastColumn - firstColumn, cellsPerAxis) + 1;
+    if (bounds.getLongitudeSpan().toDegrees() >= FULL_CIRCLE) {
+      firstColumn = 0;
+      columns = cellsPerAxis;
+    }
+    long cells = (long) columns * (lastRow - firstRow + 1);
+    if (cells > size() / SCAN_THRESHOLD_DIVISOR) {
+      return scan(latitude, longitude, radiusHaversine, consumer);
+    }
+
+    double latitudeRadians = toRadians(latitude);
+    double longitudeRadians = toRadians(longitude);
+    double cosLatitude = cos(latitudeRadians);
+    int found = 0;
+    for (int row = firstRow; row <= lastRow; row++) {
+      for (int column = 0; column < columns; column++) {
+        long key = interleave((firstColumn + column) & (cellsPerAxis - 1), row);
+        int i = lowerBound(key);
+        for (; i < cellKeys.length && cellKeys[i] == key; i++) {
+          double distance = haversine(latitudeRadians, cosLatitude, latitudes[i],
+                                      cosLatitudes[i], longitudes[i] - longitudeRadians);
+          if (distance <= radiusHaversine) {
+            consumer.accept(ids[i]);
+            found++;
+          }
+        }
+      }
+    }
+    return found;
+  }
+
+  private int scan(final double latitude,
+                   final double longitude,
+                   final double radiusHaversine,
+                   @NotNull final IntConsumer consumer) {
+    double latitudeRadians = toRadians(latitude);
+    double longitudeRadians = toRadians(longitude);
+    double cosLatitude = cos(latitudeRadians);
+    int found = 0;
+    for (int i = 0; i < ids.length; i++) {
+      double distance = haversine(latitudeRadians, cosLatitude, latitudes[i], cosLatitudes[i],
+                                  longitudes[i] - longitudeRadians);
+      if (distance <= radiusHaversine) {
+        consumer.accept(ids[i]);
+        found++;
+      }
+    }
+    return found;
+  }
+
+  @Contract(pure = true)
+  private int lowerBound(final long key) {
+    int low = 0;
+    int high = cellKeys.length;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (cellKeys[middle] < key) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Determines the finest level whose cells are at least as high as the given cell size.
+   */
+  @Contract(pure = true)
+  private static int levelFor(final double cellMeters, final int maxLevel) {
+    double meridianMeters = PI * EARTH_RADIUS_METERS;
+    int level = (int) Math.floor(Math.log(meridianMeters / cellMeters) / Math.log(2D));
+    return Math.max(1, Math.min(Math.min(MAX_LEVEL, maxLevel), level));
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{level=" + level + ", size=" + size() + '}';
+  }
+}
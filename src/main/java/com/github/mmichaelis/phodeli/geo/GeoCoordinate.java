@@ -0,0 +1,115 @@
+package com.github.mmichaelis.phodeli.geo;
+
+import static java.util.Objects.requireNonNull;
+
+import com.github.mmichaelis.phodeli.measure.Angle;
+
+import java.io.Serializable;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents a location on earth given by latitude and longitude.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class GeoCoordinate implements Serializable {
+
+  private static final long serialVersionUID = -2633917296186467213L;
+  /**
+   * Latitude, positive to the north.
+   */
+  @NotNull
+  private final Angle latitude;
+  /**
+   * Longitude, positive to the east.
+   */
+  @NotNull
+  private final Angle longitude;
+
+  private GeoCoordinate(@NotNull final Angle latitude, @NotNull final Angle longitude) {
+    this.latitude = requireNonNull(latitude, "latitude must not be null.");
+    this.longitude = requireNonNull(longitude, "longitude must not be null.");
+  }
+
+  /**
+   * Creates a coordinate from the given latitude and longitude.
+   *
+   * @param latitude  latitude, positive to the north
+   * @param longitude longitude, positive to the east
+   * @return coordinate
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static GeoCoordinate coordinate(@NotNull final Angle latitude,
+                                         @NotNull final Angle longitude) {
+    return new GeoCoordinate(latitude, longitude);
+  }
+
+  /**
+   * Creates a coordinate from the given latitude and longitude in degrees.
+   *
+   * @param latitude  latitude in degrees, positive to the north
+   * @param longitude longitude in degrees, positive to the east
+   * @return coordinate
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static GeoCoordinate degrees(final double latitude, final double longitude) {
+    return coordinate(Angle.degrees(latitude), Angle.degrees(longitude));
+  }
+
+  /**
+   * Latitude of this coordinate.
+   *
+   * @return latitude, positive to the north
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Angle getLatitude() {
+    return latitude;
+  }
+
+  /**
+   * Longitude of this coordinate.
+   *
+   * @return longitude, positive to the east
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Angle getLongitude() {
+    return longitude;
+  }
+
+  @Override
+  @Contract(pure = true)
+  public int hashCode() {
+    return 31 * latitude.hashCode() + longitude.hashCode();
+  }
+
+  @Override
+  @Contract(pure = true)
+  public boolean equals(final Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    GeoCoordinate other = (GeoCoordinate) obj;
+    return latitude.equals(other.latitude) && longitude.equals(other.longitude);
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{latitude=" + latitude + ", longitude=" + longitude + '}';
+  }
+}
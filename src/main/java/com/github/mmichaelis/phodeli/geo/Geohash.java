@@ -0,0 +1,278 @@
+package com.github.mmichaelis.phodeli.geo;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Geohash and Morton (Z-order) codes of coordinates. A Morton code quantizes latitude and
+ * longitude to 32 bit each and interleaves them, longitude bits first. The leading
+ * {@code 5 * n} bits of a Morton code are the {@code n} characters of the corresponding
+ * geohash.
+ * </p>
+ * <p>
+ * Encoding and decoding are branch-free bit manipulations, which makes the bulk variants
+ * cheap enough to key millions of locations.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class Geohash {
+
+  /**
+   * Maximum number of geohash characters which fit into a Morton code.
+   *
+   * @since 1.0.0
+   */
+  public static final int MAX_PRECISION = 12;
+
+  private static final int BITS_PER_CHARACTER = 5;
+  private static final int CHARACTER_MASK = (1 << BITS_PER_CHARACTER) - 1;
+  private static final char[] ALPHABET = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+  private static final int[] ALPHABET_INDEX = alphabetIndex();
+  private static final double CELLS_PER_AXIS = 0x1.0p32;
+  private static final double MAX_CELL = CELLS_PER_AXIS - 1D;
+  private static final double LATITUDE_RANGE = 180D;
+  private static final double LONGITUDE_RANGE = 360D;
+  private static final double MAX_LATITUDE = 90D;
+  private static final double MAX_LONGITUDE = 180D;
+  private static final long UNSIGNED_INT_MASK = 0xffffffffL;
+
+  private Geohash() {
+  }
+
+  /**
+   * Morton code of the given coordinate.
+   *
+   * @param latitude  latitude in degrees
+   * @param longitude longitude in degrees
+   * @return Morton code
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public static long encodeMorton(final double latitude, final double longitude) {
+    return interleave(longitudeCell(longitude), latitudeCell(latitude));
+  }
+
+  /**
+   * Morton codes of the given coordinates.
+   *
+   * @param latitudes  latitudes in degrees
+   * @param longitudes longitudes in degrees
+   * @param target     target for Morton codes
+   * @param count      number of coordinates to encode, starting at index 0
+   * @since 1.0.0
+   */
+  public static void encodeMorton(@NotNull final double[] latitudes,
+                                  @NotNull final double[] longitudes,
+                                  @NotNull final long[] target,
+                                  final int count) {
+    for (int i = 0; i < count; i++) {
+      target[i] = interleave(longitudeCell(longitudes[i]), latitudeCell(latitudes[i]));
+    }
+  }
+
+  /**
+   * Latitude of the center of the cell denoted by the given Morton code.
+   *
+   * @param morton Morton code
+   * @return latitude in degrees
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public static double decodeLatitude(final long morton) {
+    return (compact(morton) + 0.5D) / CELLS_PER_AXIS * LATITUDE_RANGE - MAX_LATITUDE;
+  }
+
+  /**
+   * Longitude of the center of the cell denoted by the given Morton code.
+   *
+   * @param morton Morton code
+   * @return longitude in degrees
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public static double decodeLongitude(final long morton) {
+    return (compact(morton >>> 1) + 0.5D) / CELLS_PER_AXIS * LONGITUDE_RANGE - MAX_LONGITUDE;
+  }
+
+  /**
+   * Decodes the given Morton codes to the coordinates of their cell centers.
+   *
+   * @param mortons    Morton codes
+   * @param latitudes  target for latitudes in degrees
+   * @param longitudes target for longitudes in degrees
+   * @param count      number of codes to decode, starting at index 0
+   * @since 1.0.0
+   */
+  public static void decodeMorton(@NotNull final long[] mortons,
+                                  @NotNull final double[] latitudes,
+                                  @NotNull final double[] longitudes,
+                                  final int count) {
+    for (int i = 0; i < count; i++) {
+      latitudes[i] = decodeLatitude(mortons[i]);
+      longitudes[i] = decodeLongitude(mortons[i]);
+    }
+  }
+
+  /**
+   * Geohash of the given coordinate.
+   *
+   * @param coordinate coordinate to encode
+   * @param precision  number of characters, 1 to {@link #MAX_PRECISION}
+   * @return geohash
+   * @throws IllegalArgumentException if precision is out of range
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static String encode(@NotNull final GeoCoordinate coordinate, final int precision) {
+    return encode(coordinate.getLatitude().toDegrees(),
+                  coordinate.getLongitude().toDegrees(),
+                  precision);
+  }
+
+  /**
+   * Geohash of the given coordinate.
+   *
+   * @param latitude  latitude in degrees
+   * @param longitude longitude in degrees
+   * @param precision number of characters, 1 to {@link #MAX_PRECISION}
+   * @return geohash
+   * @throws IllegalArgumentException if precision is out of range
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static String encode(final double latitude, final double longitude, final int precision) {
+    if (precision < 1 || precision > MAX_PRECISION) {
+      throw new IllegalArgumentException(
+        "Precision must be within 1 and " + MAX_PRECISION + " but is " + precision + '.');
+    }
+    long morton = encodeMorton(latitude, longitude);
+    char[] result = new char[precision];
+    for (int i = 0; i < precision; i++) {
+      int shift = Long.SIZE - BITS_PER_CHARACTER * (i + 1);
+      result[i] = ALPHABET[(int) (morton >>> shift) & CHARACTER_MASK];
+    }
+    return new String(result);
+  }
+
+  /**
+   * Decodes the given geohash to the bounds of its cell.
+   *
+   * @param geohash geohash to decode, case-insensitive
+   * @return bounds of the geohash cell
+   * @throws IllegalArgumentException if geohash is empty, too long or contains invalid
+   *                                  characters
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static GeoBounds decode(@NotNull final CharSequence geohash) {
+    int precision = requireNonNull(geohash, "geohash must not be null.").length();
+    if (precision < 1 || precision > MAX_PRECISION) {
+      throw new IllegalArgumentException(
+        "Geohash must have 1 to " + MAX_PRECISION + " characters: " + geohash);
+    }
+    long morton = 0L;
+    for (int i = 0; i < precision; i++) {
+      char character = Character.toLowerCase(geohash.charAt(i));
+      int value = character < ALPHABET_INDEX.length ? ALPHABET_INDEX[character] : -1;
+      if (value < 0) {
+        throw new IllegalArgumentException(
+          "Invalid character '" + geohash.charAt(i) + "' in geohash: " + geohash);
+      }
+      morton |= (long) value << (Long.SIZE - BITS_PER_CHARACTER * (i + 1));
+    }
+    int bits = BITS_PER_CHARACTER * precision;
+    int longitudeBits = (bits + 1) / 2;
+    int latitudeBits = bits / 2;
+    long longitudeCell = compact(morton >>> 1) >>> (Integer.SIZE - longitudeBits);
+    long latitudeCell = compact(morton) >>> (Integer.SIZE - latitudeBits);
+    double cellWidth = LONGITUDE_RANGE / (1L << longitudeBits);
+    double cellHeight = LATITUDE_RANGE / (1L << latitudeBits);
+    double west = longitudeCell * cellWidth - MAX_LONGITUDE;
+    double south = latitudeCell * cellHeight - MAX_LATITUDE;
+    return GeoBounds.degrees(south, west, south + cellHeight, west + cellWidth);
+  }
+
+  /**
+   * Quantizes the latitude to an unsigned 32 bit cell number, clamping out of range values.
+   */
+  @Contract(pure = true)
+  static long latitudeCell(final double latitude) {
+    double cell = (latitude + MAX_LATITUDE) / LATITUDE_RANGE * CELLS_PER_AXIS;
+    return (long) max(0D, min(MAX_CELL, cell));
+  }
+
+  /**
+   * Quantizes the longitude to an unsigned 32 bit cell number, clamping out of range values.
+   */
+  @Contract(pure = true)
+  static long longitudeCell(final double longitude) {
+    double cell = (longitude + MAX_LONGITUDE) / LONGITUDE_RANGE * CELLS_PER_AXIS;
+    return (long) max(0D, min(MAX_CELL, cell));
+  }
+
+  /**
+   * Interleaves the lower 32 bits of both values, bits of {@code odd} at the odd (higher)
+   * positions.
+   *
+   * @param odd  value for odd bit positions
+   * @param even value for even bit positions
+   * @return interleaved bits
+   */
+  @Contract(pure = true)
+  static long interleave(final long odd, final long even) {
+    return (spread(odd) << 1) | spread(even);
+  }
+
+  /**
+   * Spreads the lower 32 bits of the given value to the even bit positions.
+   */
+  @Contract(pure = true)
+  static long spread(final long value) {
+    long x = value & UNSIGNED_INT_MASK;
+    x = (x | (x << 16)) & 0x0000ffff0000ffffL;
+    x = (x | (x << 8)) & 0x00ff00ff00ff00ffL;
+    x = (x | (x << 4)) & 0x0f0f0f0f0f0f0f0fL;
+    x = (x | (x << 2)) & 0x3333333333333333L;
+    x = (x | (x << 1)) & 0x5555555555555555L;
+    return x;
+  }
+
+  /**
+   * Compacts the even bit positions of the given value into the lower 32 bits; inverse of
+   * {@link #spread(long)}.
+   */
+  @Contract(pure = true)
+  static long compact(final long value) {
+    long x = value & 0x5555555555555555L;
+    x = (x | (x >>> 1)) & 0x3333333333333333L;
+    x = (x | (x >>> 2)) & 0x0f0f0f0f0f0f0f0fL;
+    x = (x | (x >>> 4)) & 0x00ff00ff00ff00ffL;
+    x = (x | (x >>> 8)) & 0x0000ffff0000ffffL;
+    x = (x | (x >>> 16)) & UNSIGNED_INT_MASK;
+    return x;
+  }
+
+  @NotNull
+  @Contract(pure = true)
+  private static int[] alphabetIndex() {
+    int[] index = new int['z' + 1];
+    Arrays.fill(index, -1);
+    for (int i = 0; i < ALPHABET.length; i++) {
+      index[ALPHABET[i]] = i;
+    }
+    return index;
+  }
+}
@@ -0,0 +1,191 @@
+package com.github.mmichaelis.phodeli.geo;
+
+import static java.lang.Math.asin;
+import static java.lang.Math.cos;
+import static java.lang.Math.min;
+import static java.lang.Math.sin;
+import static java.lang.Math.sqrt;
+
+import com.github.mmichaelis.phodeli.measure.Angle;
+import com.github.mmichaelis.phodeli.measure.Length;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Great circle calculations on a spherical earth with the mean earth radius.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class GreatCircle {
+
+  /**
+   * Mean earth radius in meters as defined by the IUGG.
+   *
+   * @since 1.0.0
+   */
+  public static final double EARTH_RADIUS_METERS = 6_371_008.8D;
+  /**
+   * Mean earth radius as defined by the IUGG.
+   *
+   * @since 1.0.0
+   */
+  public static final Length EARTH_RADIUS = Length.m(EARTH_RADIUS_METERS);
+
+  private GreatCircle() {
+  }
+
+  /**
+   * Distance between two coordinates along the great circle.
+   *
+   * @param from first coordinate
+   * @param to   second coordinate
+   * @return distance
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static Length distance(@NotNull final GeoCoordinate from,
+                                @NotNull final GeoCoordinate to) {
+    return Length.m(centralAngle(from, to).toRadians() * EARTH_RADIUS_METERS);
+  }
+
+  /**
+   * Angle between two coordinates as seen from the earth's center.
+   *
+   * @param from first coordinate
+   * @param to   second coordinate
+   * @return central angle
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static Angle centralAngle(@NotNull final GeoCoordinate from,
+                                   @NotNull final GeoCoordinate to) {
+    return Angle.radians(centralAngle(from.getLatitude().toRadians(),
+                                      from.getLongitude().toRadians(),
+                                      to.getLatitude().toRadians(),
+                                      to.getLongitude().toRadians()));
+  }
+
+  /**
+   * Bearing at which to start from one coordinate to reach the other on the shortest path.
+   *
+   * @param from start coordinate
+   * @param to   target coordinate
+   * @return initial bearing, clockwise from north within 0&deg; to 360&deg;
+   * @see GreatCircleOrigin#initialBearings(double[], double[], double[], int)
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static Angle initialBearing(@NotNull final GeoCoordinate from,
+                                     @NotNull final GeoCoordinate to) {
+    return GreatCircleOrigin.origin(from).initialBearing(to);
+  }
+
+  /**
+   * Bearing at which the target is reached on the shortest path from the start coordinate.
+   *
+   * @param from start coordinate
+   * @param to   target coordinate
+   * @return final bearing, clockwise from north within 0&deg; to 360&deg;
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static Angle finalBearing(@NotNull final GeoCoordinate from,
+                                   @NotNull final GeoCoordinate to) {
+    return GreatCircleOrigin.origin(from).finalBearing(to);
+  }
+
+  /**
+   * Location reached when travelling the given distance along a great circle.
+   *
+   * @param from     start coordinate
+   * @param bearing  initial bearing, clockwise from north
+   * @param distance distance to travel
+   * @return destination
+   * @see GreatCircleOrigin#destinations(double[], Length, double[], double[], int)
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static GeoCoordinate destination(@NotNull final GeoCoordinate from,
+                                          @NotNull final Angle bearing,
+                                          @NotNull final Length distance) {
+    return GreatCircleOrigin.origin(from).destination(bearing, distance);
+  }
+
+  /**
+   * Central angle between two coordinates using the haversine formula, which is well
+   * conditioned for small distances.
+   *
+   * @param latitude1  latitude of first coordinate in radians
+   * @param longitude1 longitude of first coordinate in radians
+   * @param latitude2  latitude of second coordinate in radians
+   * @param longitude2 longitude of second coordinate in radians
+   * @return central angle in radians
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public static double centralAngle(final double latitude1,
+                                    final double longitude1,
+                                    final double latitude2,
+                                    final double longitude2) {
+    return haversineToAngle(
+      haversine(latitude1, cos(latitude1), latitude2, cos(latitude2), longitude2 - longitude1));
+  }
+
+  /**
+   * Haversine of the central angle between two coordinates. As it is monotonic in the
+   * central angle, it may be compared directly to avoid the inverse trigonometric function.
+   *
+   * @param latitude1      latitude of first coordinate in radians
+   * @param cosLatitude1   cosine of {@code latitude1}
+   * @param latitude2      latitude of second coordinate in radians
+   * @param cosLatitude2   cosine of {@code latitude2}
+   * @param deltaLongitude longitude difference in radians
+   * @return haversine of the central angle
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public static double haversine(final double latitude1,
+                                 final double cosLatitude1,
+                                 final double latitude2,
+                                 final double cosLatitude2,
+                                 final double deltaLongitude) {
+    double sinHalfLatitude = sin((latitude2 - latitude1) / 2D);
+    double sinHalfLongitude = sin(deltaLongitude / 2D);
+    return sinHalfLatitude * sinHalfLatitude
+           + cosLatitude1 * cosLatitude2 * sinHalfLongitude * sinHalfLongitude;
+  }
+
+  /**
+   * Haversine of the given angle.
+   *
+   * @param angle angle in radians
+   * @return haversine
+   */
+  @Contract(pure = true)
+  static double haversineOf(final double angle) {
+    double sinHalf = sin(angle / 2D);
+    return sinHalf * sinHalf;
+  }
+
+  /**
+   * Inverse of the haversine.
+   *
+   * @param haversine haversine of an angle
+   * @return angle in radians
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public static double haversineToAngle(final double haversine) {
+    return 2D * asin(min(1D, sqrt(haversine)));
+  }
+}
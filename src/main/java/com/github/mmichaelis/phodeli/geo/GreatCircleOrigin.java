@@ -0,0 +1,304 @@
+package com.github.mmichaelis.phodeli.geo;
+
+import static com.github.mmichaelis.phodeli.geo.CoordinateNormalizer.wrapLongitude;
+import static com.github.mmichaelis.phodeli.geo.GreatCircle.EARTH_RADIUS_METERS;
+import static java.lang.Math.asin;
+import static java.lang.Math.atan2;
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+import static java.lang.Math.toDegrees;
+import static java.lang.Math.toRadians;
+import static java.util.Objects.requireNonNull;
+
+import com.github.mmichaelis.phodeli.measure.Angle;
+import com.github.mmichaelis.phodeli.measure.Length;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Origin of great circle navigation: bearings from the origin to other locations and
+ * destinations reached from the origin at a given bearing and distance. Sine and cosine of the
+ * origin's latitude are computed once, which makes bulk operations such as fanning out thousands
+ * of candidate locations around one origin cheap.
+ * </p>
+ * <p>
+ * Bearings are measured clockwise from north within 0&deg; (inclusive) and 360&deg;
+ * (exclusive).
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class GreatCircleOrigin {
+
+  private static final double FULL_CIRCLE = 360D;
+  private static final double HALF_CIRCLE = 180D;
+
+  private final double latitude;
+  private final double longitude;
+  private final double sinLatitude;
+  private final double cosLatitude;
+
+  private GreatCircleOrigin(final double latitude, final double longitude) {
+    this.latitude = latitude;
+    this.longitude = longitude;
+    sinLatitude = sin(latitude);
+    cosLatitude = cos(latitude);
+  }
+
+  /**
+   * Creates an origin at the given coordinate.
+   *
+   * @param coordinate location of the origin
+   * @return origin
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static GreatCircleOrigin origin(@NotNull final GeoCoordinate coordinate) {
+    requireNonNull(coordinate, "coordinate must not be null.");
+    return new GreatCircleOrigin(coordinate.getLatitude().toRadians(),
+                                 coordinate.getLongitude().toRadians());
+  }
+
+  /**
+   * Creates an origin at the given coordinate.
+   *
+   * @param latitude  latitude in degrees
+   * @param longitude longitude in degrees
+   * @return origin
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static GreatCircleOrigin origin(final double latitude, final double longitude) {
+    return new GreatCircleOrigin(toRadians(latitude), toRadians(longitude));
+  }
+
+  /**
+   * Location of this origin.
+   *
+   * @return coordinate
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public GeoCoordinate getCoordinate() {
+    return GeoCoordinate.coordinate(Angle.radians(latitude), Angle.radians(longitude));
+  }
+
+  /**
+   * Bearing at which to start from this origin to reach the given location on the shortest
+   * path.
+   *
+   * @param to target location
+   * @return initial bearing
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Angle initialBearing(@NotNull final GeoCoordinate to) {
+    double toLatitude = to.getLatitude().toRadians();
+    return Angle.degrees(initialBearing(sin(toLatitude), cos(toLatitude),
+                                        to.getLongitude().toRadians()));
+  }
+
+  /**
+   * Bearing at which the given location is reached on the shortest path from this origin.
+   *
+   * @param to target location
+   * @return final bearing
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Angle finalBearing(@NotNull final GeoCoordinate to) {
+    double toLatitude = to.getLatitude().toRadians();
+    return Angle.degrees(finalBearing(sin(toLatitude), cos(toLatitude),
+                                      to.getLongitude().toRadians()));
+  }
+
+  /**
+   * Location reached when travelling the given distance from this origin, starting at the
+   * given bearing.
+   *
+   * @param bearing  initial bearing
+   * @param distance distance to travel
+   * @return destination
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public GeoCoordinate destination(@NotNull final Angle bearing, @NotNull final Length distance) {
+    double angularDistance = distance.toMeters() / EARTH_RADIUS_METERS;
+    double sinDistance = sin(angularDistance);
+    double cosDistance = cos(angularDistance);
+    double theta = bearing.toRadians();
+    double sinDestinationLatitude = destinationSinLatitude(sinDistance, cosDistance, cos(theta));
+    return GeoCoordinate.degrees(
+      toDegrees(asin(sinDestinationLatitude)),
+      destinationLongitude(sinDistance, cosDistance, sin(theta), sinDestinationLatitude));
+  }
+
+  /**
+   * Initial bearings from this origin to the given locations.
+   *
+   * @param latitudes  latitudes of target locations in degrees
+   * @param longitudes longitudes of target locations in degrees
+   * @param bearings   target for bearings in degrees
+   * @param count      number of locations, starting at index 0
+   * @since 1.0.0
+   */
+  public void initialBearings(@NotNull final double[] latitudes,
+                              @NotNull final double[] longitudes,
+                              @NotNull final double[] bearings,
+                              final int count) {
+    for (int i = 0; i < count; i++) {
+      double toLatitude = toRadians(latitudes[i]);
+      bearings[i] = initialBearing(sin(toLatitude), cos(toLatitude), toRadians(longitudes[i]));
+    }
+  }
+
+  /**
+   * Final bearings at which the given locations are reached from this origin.
+   *
+   * @param latitudes  latitudes of target locations in degrees
+   * @param longitudes longitudes of target locations in degrees
+   * @param bearings   target for bearings in degrees
+   * @param count      number of locations, starting at index 0
+   * @since 1.0.0
+   */
+  public void finalBearings(@NotNull final double[] latitudes,
+                            @NotNull final double[] longitudes,
+                            @NotNull final double[] bearings,
+                            final int count) {
+    for (int i = 0; i < count; i++) {
+      double toLatitude = toRadians(latitudes[i]);
+      bearings[i] = finalBearing(sin(toLatitude), cos(toLatitude), toRadians(longitudes[i]));
+    }
+  }
+
+  /**
+   * Destinations at the same distance from this origin for each of the given bearings, such
+   * as a fan of candidate locations. Sine and cosine of the distance are computed once.
+   *
+   * @param bearings   initial bearings in degrees
+   * @param distance   distance to travel
+   * @param latitudes  target for latitudes of the destinations in degrees
+   * @param longitudes target for longitudes of the destinations in degrees
+   * @param count      number of destinations, starting at index 0
+   * @since 1.0.0
+   */
+  public void destinations(@NotNull final double[] bearings,
+                           @NotNull final Length distance,
+                           @NotNull final double[] latitudes,
+                           @NotNull final double[] longitudes,
+                           final int count) {
+    double angularDistance = distance.toMeters() / EARTH_RADIUS_METERS;
+    double sinDistance = sin(angularDistance);
+    double cosDistance = cos(angularDistance);
+    for (int i = 0; i < count; i++) {
+      double theta = toRadians(bearings[i]);
+      double sinDestinationLatitude = destinationSinLatitude(sinDistance, cosDistance, cos(theta));
+      latitudes[i] = toDegrees(asin(sinDestinationLatitude));
+      longitudes[i] = destinationLongitude(sinDistance, cosDistance, sin(theta),
+                                           sinDestinationLatitude);
+    }
+  }
+
+  /**
+   * Destinations from this origin for pairs of bearing and distance.
+   *
+   * @param bearings       initial bearings in degrees
+   * @param distanceMeters distances to travel in meters
+   * @param latitudes      target for latitudes of the destinations in degrees
+   * @param longitudes     target for longitudes of the destinations in degrees
+   * @param count          number of destinations, starting at index 0
+   * @since 1.0.0
+   */
+  public void destinations(@NotNull final double[] bearings,
+                           @NotNull final double[] distanceMeters,
+                           @NotNull final double[] latitudes,
+                           @NotNull final double[] longitudes,
+                           final int count) {
+    for (int i = 0; i < count; i++) {
+      double angularDistance = distanceMeters[i] / EARTH_RADIUS_METERS;
+      double sinDistance = sin(angularDistance);
+      double cosDistance = cos(angularDistance);
+      double theta = toRadians(bearings[i]);
+      double sinDestinationLatitude = destinationSinLatitude(sinDistance, cosDistance, cos(theta));
+      latitudes[i] = toDegrees(asin(sinDestinationLatitude));
+      longitudes[i] = destinationLongitude(sinDistance, cosDistance, sin(theta),
+                                           sinDestinationLatitude);
+    }
+  }
+
+  /**
+   * Initial bearing in degrees to a location given by sine and cosine of its latitude and its
+   * longitude in radians.
+   */
+  @Contract(pure = true)
+  private double initialBearing(final double sinToLatitude,
+                                final double cosToLatitude,
+                                final double toLongitude) {
+    double deltaLongitude = toLongitude - longitude;
+    double y = sin(deltaLongitude) * cosToLatitude;
+    double x = cosLatitude * sinToLatitude - sinLatitude * cosToLatitude * cos(deltaLongitude);
+    return normalizeBearing(toDegrees(atan2(y, x)));
+  }
+
+  /**
+   * Final bearing in degrees to a location given by sine and cosine of its latitude and its
+   * longitude in radians. It is the reversed initial bearing from that location back to this
+   * origin.
+   */
+  @Contract(pure = true)
+  private double finalBearing(final double sinToLatitude,
+                              final double cosToLatitude,
+                              final double toLongitude) {
+    double deltaLongitude = longitude - toLongitude;
+    double y = sin(deltaLongitude) * cosLatitude;
+    double x = cosToLatitude * sinLatitude - sinToLatitude * cosLatitude * cos(deltaLongitude);
+    return normalizeBearing(toDegrees(atan2(y, x)) + HALF_CIRCLE);
+  }
+
+  @Contract(pure = true)
+  private double destinationSinLatitude(final double sinDistance,
+                                        final double cosDistance,
+                                        final double cosBearing) {
+    return Math.max(-1D, Math.min(1D, sinLatitude * cosDistance
+                                      + cosLatitude * sinDistance * cosBearing));
+  }
+
+  /**
+   * Longitude of a destination in degrees.
+   */
+  @Contract(pure = true)
+  private double destinationLongitude(final double sinDistance,
+                                      final double cosDistance,
+                                      final double sinBearing,
+                                      final double sinDestinationLatitude) {
+    double deltaLongitude = atan2(sinBearing * sinDistance * cosLatitude,
+                                  cosDistance - sinLatitude * sinDestinationLatitude);
+    return wrapLongitude(toDegrees(longitude + deltaLongitude));
+  }
+
+  @Contract(pure = true)
+  private static double normalizeBearing(final double bearing) {
+    double normalized = bearing % FULL_CIRCLE;
+    if (normalized < 0D) {
+      normalized += FULL_CIRCLE;
+    }
+    return normalized >= FULL_CIRCLE ? 0D : normalized;
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{latitude=" + toDegrees(latitude)
+           + ", longitude=" + toDegrees(longitude) + '}';
+  }
+}
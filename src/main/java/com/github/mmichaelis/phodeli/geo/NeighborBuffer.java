@@ -0,0 +1,261 @@
+package com.github.mmichaelis.phodeli.geo;
+
+import static com.github.mmichaelis.phodeli.geo.GreatCircle.EARTH_RADIUS_METERS;
+
+import com.github.mmichaelis.phodeli.measure.Angle;
+import com.github.mmichaelis.phodeli.measure.Length;
+
+import java.util.Arrays;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Reusable result buffer of neighbor queries: indices of found locations together with their
+ * distance to the query center, sorted by increasing distance once the query completed.
+ * </p>
+ * <p>
+ * Queries only allocate if the buffer needs to grow, thus reusing a buffer of sufficient
+ * capacity makes queries allocation free. Buffers are not thread-safe; use one buffer per
+ * thread.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class NeighborBuffer {
+
+  private static final int DEFAULT_CAPACITY = 16;
+
+  @NotNull
+  private int[] indices;
+  /**
+   * Central angles in radians.
+   */
+  @NotNull
+  private double[] distances;
+  private int size;
+
+  private NeighborBuffer(final int capacity) {
+    indices = new int[capacity];
+    distances = new double[capacity];
+  }
+
+  /**
+   * Creates a buffer with default capacity.
+   *
+   * @return buffer
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static NeighborBuffer neighborBuffer() {
+    return neighborBuffer(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates a buffer with the given initial capacity.
+   *
+   * @param capacity initial capacity
+   * @return buffer
+   * @throws IllegalArgumentException if capacity is negative
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static NeighborBuffer neighborBuffer(final int capacity) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("Capacity must not be negative but is " + capacity + '.');
+    }
+    return new NeighborBuffer(capacity);
+  }
+
+  /**
+   * Number of found neighbors.
+   *
+   * @return number of neighbors
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Index of the neighbor at the given rank, as given on construction of the queried
+   * structure.
+   *
+   * @param rank rank of the neighbor, 0 for the closest one
+   * @return index of the neighbor
+   * @throws IndexOutOfBoundsException if rank is out of range
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int getIndex(final int rank) {
+    checkRank(rank);
+    return indices[rank];
+  }
+
+  /**
+   * Distance to the neighbor at the given rank.
+   *
+   * @param rank rank of the neighbor, 0 for the closest one
+   * @return distance to the query center
+   * @throws IndexOutOfBoundsException if rank is out of range
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Length getDistance(final int rank) {
+    return Length.m(getDistanceMeters(rank));
+  }
+
+  /**
+   * Distance to the neighbor at the given rank in meters.
+   *
+   * @param rank rank of the neighbor, 0 for the closest one
+   * @return distance to the query center in meters
+   * @throws IndexOutOfBoundsException if rank is out of range
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public double getDistanceMeters(final int rank) {
+    checkRank(rank);
+    return distances[rank] * EARTH_RADIUS_METERS;
+  }
+
+  /**
+   * Central angle between the query center and the neighbor at the given rank.
+   *
+   * @param rank rank of the neighbor, 0 for the closest one
+   * @return central angle
+   * @throws IndexOutOfBoundsException if rank is out of range
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Angle getCentralAngle(final int rank) {
+    checkRank(rank);
+    return Angle.radians(distances[rank]);
+  }
+
+  void clear() {
+    size = 0;
+  }
+
+  void ensureCapacity(final int capacity) {
+    if (indices.length < capacity) {
+      indices = Arrays.copyOf(indices, capacity);
+      distances = Arrays.copyOf(distances, capacity);
+    }
+  }
+
+  /**
+   * Appends a neighbor, growing the buffer if required.
+   */
+  void add(final int index, final double distance) {
+    if (size == indices.length) {
+      ensureCapacity(Math.max(DEFAULT_CAPACITY, size * 2));
+    }
+    indices[size] = index;
+    distances[size] = distance;
+    size++;
+  }
+
+  /**
+   * Largest distance in a buffer maintained as max-heap.
+   */
+  @Contract(pure = true)
+  double maxDistance() {
+    return distances[0];
+  }
+
+  /**
+   * Offers a neighbor to a buffer maintained as max-heap of at most {@code limit} entries.
+   */
+  void offer(final int index, final double distance, final int limit) {
+    if (size < limit) {
+      indices[size] = index;
+      distances[size] = distance;
+      siftUp(size);
+      size++;
+    } else if (distance < distances[0]) {
+      indices[0] = index;
+      distances[0] = distance;
+      siftDown(0, size);
+    }
+  }
+
+  /**
+   * Sorts the entries by increasing distance using an in-place heap sort.
+   */
+  void sort() {
+    for (int i = size / 2 - 1; i >= 0; i--) {
+      siftDown(i, size);
+    }
+    sortHeap();
+  }
+
+  /**
+   * Sorts entries which already form a max-heap by increasing distance.
+   */
+  void sortHeap() {
+    for (int end = size - 1; end > 0; end--) {
+      swap(0, end);
+      siftDown(0, end);
+    }
+  }
+
+  private void siftUp(final int position) {
+    int child = position;
+    while (child > 0) {
+      int parent = (child - 1) >>> 1;
+      if (distances[parent] >= distances[child]) {
+        return;
+      }
+      swap(parent, child);
+      child = parent;
+    }
+  }
+
+  private void siftDown(final int position, final int end) {
+    int parent = position;
+    while (true) {
+      int child = 2 * parent + 1;
+      if (child >= end) {
+        return;
+      }
+      if (child + 1 < end && distances[child + 1] > distances[child]) {
+        child++;
+      }
+      if (distances[parent] >= distances[child]) {
+        return;
+      }
+      swap(parent, child);
+      parent = child;
+    }
+  }
+
+  private void swap(final int first, final int second) {
+    int index = indices[first];
+    indices[first] = indices[second];
+    indices[second] = index;
+    double distance = distances[first];
+    distances[first] = distances[second];
+    distances[second] = distance;
+  }
+
+  private void checkRank(final int rank) {
+    if (rank < 0 || rank >= size) {
+      throw new IndexOutOfBoundsException("Rank " + rank + " out of range [0, " + size + ").");
+    }
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{size=" + size + ", capacity=" + indices.length + '}';
+  }
+}
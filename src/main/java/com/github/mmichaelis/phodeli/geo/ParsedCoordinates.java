@@ -0,0 +1,142 @@
+package com.github.mmichaelis.phodeli.geo;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Result of parsing coordinate lines with {@link CoordinateParser}: the successfully parsed
+ * coordinates in order of their lines, and the offsets of all lines which could not be parsed.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class ParsedCoordinates {
+
+  @NotNull
+  private final double[] latitudes;
+  @NotNull
+  private final double[] longitudes;
+  @NotNull
+  private final int[] malformedOffsets;
+
+  ParsedCoordinates(@NotNull final double[] latitudes,
+                    @NotNull final double[] longitudes,
+                    @NotNull final int[] malformedOffsets) {
+    this.latitudes = latitudes;
+    this.longitudes = longitudes;
+    this.malformedOffsets = malformedOffsets;
+  }
+
+  /**
+   * Concatenates the given results in order.
+   */
+  @NotNull
+  @Contract(pure = true)
+  static ParsedCoordinates concat(@NotNull final List<ParsedCoordinates> parts) {
+    int size = 0;
+    int malformed = 0;
+    for (ParsedCoordinates part : parts) {
+      size += part.size();
+      malformed += part.getMalformedCount();
+    }
+    double[] latitudes = new double[size];
+    double[] longitudes = new double[size];
+    int[] malformedOffsets = new int[malformed];
+    int position = 0;
+    int malformedPosition = 0;
+    for (ParsedCoordinates part : parts) {
+      System.arraycopy(part.latitudes, 0, latitudes, position, part.size());
+      System.arraycopy(part.longitudes, 0, longitudes, position, part.size());
+      System.arraycopy(part.malformedOffsets, 0, malformedOffsets, malformedPosition,
+                       part.getMalformedCount());
+      position += part.size();
+      malformedPosition += part.getMalformedCount();
+    }
+    return new ParsedCoordinates(latitudes, longitudes, malformedOffsets);
+  }
+
+  /**
+   * Number of parsed coordinates.
+   *
+   * @return number of coordinates
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int size() {
+    return latitudes.length;
+  }
+
+  /**
+   * Coordinate at the given index.
+   *
+   * @param index index of the coordinate
+   * @return coordinate
+   * @throws IndexOutOfBoundsException if index is out of range
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public GeoCoordinate getCoordinate(final int index) {
+    return GeoCoordinate.degrees(latitudes[index], longitudes[index]);
+  }
+
+  /**
+   * Latitudes of all parsed coordinates.
+   *
+   * @return copy of the latitudes in degrees
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public double[] getLatitudes() {
+    return latitudes.clone();
+  }
+
+  /**
+   * Longitudes of all parsed coordinates.
+   *
+   * @return copy of the longitudes in degrees
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public double[] getLongitudes() {
+    return longitudes.clone();
+  }
+
+  /**
+   * Number of lines which could not be parsed.
+   *
+   * @return number of malformed lines
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int getMalformedCount() {
+    return malformedOffsets.length;
+  }
+
+  /**
+   * Offsets of the lines which could not be parsed.
+   *
+   * @return copy of the character offsets of the start of each malformed line, ascending
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public int[] getMalformedOffsets() {
+    return malformedOffsets.clone();
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{size=" + size()
+           + ", malformedOffsets=" + Arrays.toString(malformedOffsets) + '}';
+  }
+}
@@ -0,0 +1,207 @@
+package com.github.mmichaelis.phodeli.geo;
+
+import static com.github.mmichaelis.phodeli.geo.GreatCircle.EARTH_RADIUS_METERS;
+import static com.github.mmichaelis.phodeli.geo.GreatCircle.haversine;
+import static com.github.mmichaelis.phodeli.geo.GreatCircle.haversineToAngle;
+import static java.lang.Math.PI;
+import static java.lang.Math.abs;
+import static java.lang.Math.atan2;
+import static java.lang.Math.cos;
+import static java.lang.Math.log;
+import static java.lang.Math.sin;
+import static java.lang.Math.sqrt;
+import static java.lang.Math.tan;
+import static java.lang.Math.toRadians;
+
+import com.github.mmichaelis.phodeli.measure.Area;
+import com.github.mmichaelis.phodeli.measure.Length;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Area and perimeter of polygons given by their vertices, such as the region of a walk. The
+ * polygon is implicitly closed and its edges are great circle arcs. Calculations stream over
+ * the vertex arrays once, keeping only the previous vertex, so that they allocate nothing per
+ * vertex.
+ * </p>
+ * <p>
+ * The spherical area sums the signed areas of the trapezoids between each edge and the
+ * equator, given exactly by their spherical excess. The ellipsoidal area maps latitudes to
+ * authalic latitudes first, which turns the WGS 84 ellipsoid into a sphere of the same surface
+ * area where all areas are preserved.
+ * </p>
+ * <p>
+ * Polygons must not enclose a pole and must not intersect themselves. The orientation of the
+ * vertices does not matter.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class PolygonMetrics {
+
+  private static final double WGS84_SEMI_MAJOR_AXIS = 6_378_137D;
+  private static final double WGS84_FLATTENING = 1D / 298.257223563D;
+  private static final double WGS84_E2 = WGS84_FLATTENING * (2D - WGS84_FLATTENING);
+  private static final double WGS84_E = sqrt(WGS84_E2);
+  /**
+   * Value of {@link #authalicQ(double)} at the poles.
+   */
+  private static final double POLAR_Q = authalicQ(1D);
+  /**
+   * Radius of the sphere with the same surface area as the WGS 84 ellipsoid.
+   */
+  private static final double AUTHALIC_RADIUS = WGS84_SEMI_MAJOR_AXIS * sqrt(POLAR_Q / 2D);
+
+  private PolygonMetrics() {
+  }
+
+  /**
+   * Area of the polygon on a spherical earth with the mean earth radius.
+   *
+   * @param latitudes  latitudes of the vertices in degrees
+   * @param longitudes longitudes of the vertices in degrees
+   * @param count      number of vertices, starting at index 0; a closing vertex equal to the
+   *                   first one is optional
+   * @return area; zero for less than 3 vertices
+   * @throws IllegalArgumentException if count exceeds the arrays
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static Area sphericalArea(@NotNull final double[] latitudes,
+                                   @NotNull final double[] longitudes,
+                                   final int count) {
+    checkLengths(latitudes, longitudes, count);
+    if (count < 3) {
+      return Area.m2(0D);
+    }
+    double excess = 0D;
+    double previousTan = tan(toRadians(latitudes[count - 1]) / 2D);
+    double previousLongitude = toRadians(longitudes[count - 1]);
+    for (int i = 0; i < count; i++) {
+      double longitude = toRadians(longitudes[i]);
+      double currentTan = tan(toRadians(latitudes[i]) / 2D);
+      excess += trapezoidExcess(previousTan, currentTan, longitude - previousLongitude);
+      previousTan = currentTan;
+      previousLongitude = longitude;
+    }
+    return Area.m2(abs(excess) * EARTH_RADIUS_METERS * EARTH_RADIUS_METERS);
+  }
+
+  /**
+   * Area of the polygon on the WGS 84 ellipsoid.
+   *
+   * @param latitudes  latitudes of the vertices in degrees
+   * @param longitudes longitudes of the vertices in degrees
+   * @param count      number of vertices, starting at index 0; a closing vertex equal to the
+   *                   first one is optional
+   * @return area; zero for less than 3 vertices
+   * @throws IllegalArgumentException if count exceeds the arrays
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static Area ellipsoidalArea(@NotNull final double[] latitudes,
+                                     @NotNull final double[] longitudes,
+                                     final int count) {
+    checkLengths(latitudes, longitudes, count);
+    if (count < 3) {
+      return Area.m2(0D);
+    }
+    double excess = 0D;
+    double previousTan = tan(authalicLatitude(toRadians(latitudes[count - 1])) / 2D);
+    double previousLongitude = toRadians(longitudes[count - 1]);
+    for (int i = 0; i < count; i++) {
+      double longitude = toRadians(longitudes[i]);
+      double currentTan = tan(authalicLatitude(toRadians(latitudes[i])) / 2D);
+      excess += trapezoidExcess(previousTan, currentTan, longitude - previousLongitude);
+      previousTan = currentTan;
+      previousLongitude = longitude;
+    }
+    return Area.m2(abs(excess) * AUTHALIC_RADIUS * AUTHALIC_RADIUS);
+  }
+
+  /**
+   * Perimeter of the polygon on a spherical earth with the mean earth radius, including the
+   * edge closing the polygon.
+   *
+   * @param latitudes  latitudes of the vertices in degrees
+   * @param longitudes longitudes of the vertices in degrees
+   * @param count      number of vertices, starting at index 0
+   * @return perimeter; zero for less than 2 vertices
+   * @throws IllegalArgumentException if count exceeds the arrays
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static Length perimeter(@NotNull final double[] latitudes,
+                                 @NotNull final double[] longitudes,
+                                 final int count) {
+    checkLengths(latitudes, longitudes, count);
+    if (count < 2) {
+      return Length.m(0D);
+    }
+    double previousLatitude = toRadians(latitudes[count - 1]);
+    double previousCos = cos(previousLatitude);
+    double previousLongitude = toRadians(longitudes[count - 1]);
+    double angle = 0D;
+    for (int i = 0; i < count; i++) {
+      double latitude = toRadians(latitudes[i]);
+      double cosLatitude = cos(latitude);
+      double longitude = toRadians(longitudes[i]);
+      angle += haversineToAngle(haversine(previousLatitude, previousCos, latitude, cosLatitude,
+                                          longitude - previousLongitude));
+      previousLatitude = latitude;
+      previousCos = cosLatitude;
+      previousLongitude = longitude;
+    }
+    return Length.m(angle * EARTH_RADIUS_METERS);
+  }
+
+  /**
+   * Signed spherical excess of the trapezoid between a great circle edge and the equator, on
+   * the unit sphere.
+   *
+   * @param tan1           tangent of half the latitude of the start of the edge
+   * @param tan2           tangent of half the latitude of the end of the edge
+   * @param deltaLongitude longitude difference in radians, not yet wrapped
+   * @return signed excess, positive for eastward edges in the northern hemisphere
+   */
+  @Contract(pure = true)
+  private static double trapezoidExcess(final double tan1,
+                                        final double tan2,
+                                        final double deltaLongitude) {
+    double wrapped = deltaLongitude - 2D * PI * Math.floor((deltaLongitude + PI) / (2D * PI));
+    return 2D * atan2(tan(wrapped / 2D) * (tan1 + tan2), 1D + tan1 * tan2);
+  }
+
+  /**
+   * Authalic latitude of the given geodetic latitude.
+   */
+  @Contract(pure = true)
+  private static double authalicLatitude(final double latitude) {
+    double ratio = authalicQ(sin(latitude)) / POLAR_Q;
+    return Math.asin(Math.max(-1D, Math.min(1D, ratio)));
+  }
+
+  @Contract(pure = true)
+  private static double authalicQ(final double sinLatitude) {
+    double eSin = WGS84_E * sinLatitude;
+    return (1D - WGS84_E2) * (sinLatitude / (1D - eSin * eSin)
+                              - log((1D - eSin) / (1D + eSin)) / (2D * WGS84_E));
+  }
+
+  private static void checkLengths(@NotNull final double[] latitudes,
+                                   @NotNull final double[] longitudes,
+                                   final int count) {
+    if (count > latitudes.length || count > longitudes.length) {
+      throw new IllegalArgumentException(
+        "Count " + count + " exceeds latitudes (" + latitudes.length + ") or longitudes ("
+        + longitudes.length + ").");
+    }
+  }
+}
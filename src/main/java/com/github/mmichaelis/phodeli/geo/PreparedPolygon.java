@@ -0,0 +1,552 @@
+package com.github.mmichaelis.phodeli.geo;
+
+import static java.lang.Math.floor;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Polygon prepared for fast point-in-polygon tests, such as restricting random locations to a
+ * park, a district or a coastline. Edges are bucketed into a regular grid over the bounding
+ * box of the polygon, and for each grid cell it is precomputed whether its center is inside.
+ * A test then only considers the edges of the cell containing the location: cells without
+ * edges are answered at once, cells with edges by counting the edges crossed on the way from
+ * the cell center to the location. On average this is constant time regardless of the number
+ * of vertices.
+ * </p>
+ * <p>
+ * The polygon is given by one or more rings of vertices in degrees. Rings are implicitly
+ * closed and combined by the even-odd rule, so that holes and multi-polygons are just
+ * further rings. Edges are straight lines in latitude/longitude, which for the short edges of
+ * typical area outlines is indistinguishable from great circle edges. Rings may cross the
+ * antimeridian, as consecutive vertices are connected the short way round, but they must not
+ * enclose a pole.
+ * </p>
+ * <p>
+ * Locations exactly on the boundary may be reported either way.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class PreparedPolygon {
+
+  private static final double MAX_LONGITUDE = 180D;
+  private static final double FULL_CIRCLE = 360D;
+  /**
+   * Upper limit of grid cells per axis, bounding memory for huge polygons.
+   */
+  private static final int MAX_CELLS_PER_AXIS = 1024;
+
+  private final int vertexCount;
+  private final int ringCount;
+  @NotNull
+  private final GeoBounds bounds;
+  private final double south;
+  private final double west;
+  private final double north;
+  private final double east;
+  private final int rows;
+  private final int columns;
+  private final double cellHeight;
+  private final double cellWidth;
+  /**
+   * Edges as start and end latitude and unwrapped longitude.
+   */
+  @NotNull
+  private final double[] edgeLatitudes1;
+  @NotNull
+  private final double[] edgeLongitudes1;
+  @NotNull
+  private final double[] edgeLatitudes2;
+  @NotNull
+  private final double[] edgeLongitudes2;
+  /**
+   * Edges of cell {@code i} are {@code cellEdges[cellStarts[i]]} to
+   * {@code cellEdges[cellStarts[i + 1] - 1]}.
+   */
+  @NotNull
+  private final int[] cellStarts;
+  @NotNull
+  private final int[] cellEdges;
+  @NotNull
+  private final boolean[] centerInside;
+
+  private PreparedPolygon(@NotNull final double[] latitudes,
+                          @NotNull final double[] longitudes,
+                          @NotNull final int[] ringEnds) {
+    vertexCount = ringEnds[ringEnds.length - 1];
+    ringCount = ringEnds.length;
+    edgeLatitudes1 = new double[vertexCount];
+    edgeLongitudes1 = new double[vertexCount];
+    edgeLatitudes2 = new double[vertexCount];
+    edgeLongitudes2 = new double[vertexCount];
+    unwrapEdges(latitudes, longitudes, ringEnds);
+    double minLatitude = Double.POSITIVE_INFINITY;
+    double maxLatitude = Double.NEGATIVE_INFINITY;
+    double minLongitude = Double.POSITIVE_INFINITY;
+    double maxLongitude = Double.NEGATIVE_INFINITY;
+    for (int i = 0; i < vertexCount; i++) {
+      minLatitude = Math.min(minLatitude, edgeLatitudes1[i]);
+      maxLatitude = Math.max(maxLatitude, edgeLatitudes1[i]);
+      minLongitude = Math.min(minLongitude, Math.min(edgeLongitudes1[i], edgeLongitudes2[i]));
+      maxLongitude = Math.max(maxLongitude, Math.max(edgeLongitudes1[i], edgeLongitudes2[i]));
+    }
+    if (maxLongitude - minLongitude >= FULL_CIRCLE) {
+      throw new IllegalArgumentException(
+        "Polygon must not enclose a pole: it spans " + (maxLongitude - minLongitude)
+        + " degrees of longitude.");
+    }
+    // Move the western end within -180° to 180°.
+    double shift = -FULL_CIRCLE * floor((minLongitude + MAX_LONGITUDE) / FULL_CIRCLE);
+    for (int i = 0; i < vertexCount; i++) {
+      edgeLongitudes1[i] += shift;
+      edgeLongitudes2[i] += shift;
+    }
+    south = minLatitude;
+    north = maxLatitude;
+    west = minLongitude + shift;
+    east = maxLongitude + shift;
+    bounds = GeoBounds.degrees(south, west, north,
+                               east > MAX_LONGITUDE ? east - FULL_CIRCLE : east);
+    int cellsPerAxis = Math.max(1, Math.min(MAX_CELLS_PER_AXIS,
+                                            (int) Math.ceil(Math.sqrt(vertexCount))));
+    rows = north > south ? cellsPerAxis : 1;
+    columns = east > west ? cellsPerAxis : 1;
+    cellHeight = north > south ? (north - south) / rows : 1D;
+    cellWidth = east > west ? (east - west) / columns : 1D;
+    cellStarts = new int[rows * columns + 1];
+    cellEdges = bucketEdges();
+    centerInside = new boolean[rows * columns];
+    classifyCenters();
+  }
+
+  /**
+   * Prepares a polygon given by a single ring.
+   *
+   * @param latitudes  latitudes of the vertices in degrees
+   * @param longitudes longitudes of the vertices in degrees
+   * @param count      number of vertices, starting at index 0; a closing vertex equal to the
+   *                   first one is optional
+   * @return prepared polygon
+   * @throws IllegalArgumentException if there are less than 3 vertices, the arrays are too
+   *                                  short, latitudes are out of range or the polygon
+   *                                  encloses a pole
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static PreparedPolygon polygon(@NotNull final double[] latitudes,
+                                        @NotNull final double[] longitudes,
+                                        final int count) {
+    return rings(latitudes, longitudes, new int[]{count});
+  }
+
+  /**
+   * Prepares a polygon given by several rings stored one after another, such as an outline
+   * with holes or several disjoint areas. A location is inside if it is inside of an odd
+   * number of rings.
+   *
+   * @param latitudes  latitudes of the vertices in degrees
+   * @param longitudes longitudes of the vertices in degrees
+   * @param ringEnds   exclusive end index of each ring, ascending; the first ring starts at
+   *                   index 0, each further ring at the end of the previous one
+   * @return prepared polygon
+   * @throws IllegalArgumentException if a ring has less than 3 vertices, the arrays are too
+   *                                  short, latitudes are out of range or the polygon
+   *                                  encloses a pole
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static PreparedPolygon rings(@NotNull final double[] latitudes,
+                                      @NotNull final double[] longitudes,
+                                      @NotNull final int[] ringEnds) {
+    requireNonNull(latitudes, "latitudes must not be null.");
+    requireNonNull(longitudes, "longitudes must not be null.");
+    requireNonNull(ringEnds, "ringEnds must not be null.");
+    if (ringEnds.length == 0) {
+      throw new IllegalArgumentException("At least one ring is required.");
+    }
+    int start = 0;
+    for (int end : ringEnds) {
+      if (end - start < 3) {
+        throw new IllegalArgumentException(
+          "Ring [" + start + ", " + end + ") must have at least 3 vertices.");
+      }
+      start = end;
+    }
+    if (start > latitudes.length || start > longitudes.length) {
+      throw new IllegalArgumentException(
+        "Rings require " + start + " vertices, but latitudes (" + latitudes.length
+        + ") and longitudes (" + longitudes.length + ") are shorter.");
+    }
+    for (int i = 0; i < start; i++) {
+      if (!(Math.abs(latitudes[i]) <= 90D) || Double.isNaN(longitudes[i])
+          || Double.isInfinite(longitudes[i])) {
+        throw new IllegalArgumentException(
+          "Invalid vertex " + i + ": latitude=" + latitudes[i] + ", longitude=" + longitudes[i]
+          + '.');
+      }
+    }
+    return new PreparedPolygon(latitudes, longitudes, ringEnds);
+  }
+
+  /**
+   * Number of vertices of all rings.
+   *
+   * @return number of vertices
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int getVertexCount() {
+    return vertexCount;
+  }
+
+  /**
+   * Number of rings.
+   *
+   * @return number of rings
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int getRingCount() {
+    return ringCount;
+  }
+
+  /**
+   * Bounding box of the polygon, for example to sample candidate locations from.
+   *
+   * @return bounds; crossing the antimeridian if the polygon does
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public GeoBounds getBounds() {
+    return bounds;
+  }
+
+  /**
+   * Signals if the given coordinate is inside the polygon.
+   *
+   * @param coordinate coordinate to check
+   * @return {@code true} if coordinate is inside
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public boolean contains(@NotNull final GeoCoordinate coordinate) {
+    return contains(coordinate.getLatitude().toDegrees(), coordinate.getLongitude().toDegrees());
+  }
+
+  /**
+   * Signals if the given coordinate is inside the polygon.
+   *
+   * @param latitude  latitude in degrees
+   * @param longitude longitude in degrees
+   * @return {@code true} if coordinate is inside
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public boolean contains(final double latitude, final double longitude) {
+    if (!(latitude >= south && latitude <= north)) {
+      return false;
+    }
+    double x = west + (longitude - west) - FULL_CIRCLE * floor((longitude - west) / FULL_CIRCLE);
+    if (x > east) {
+      return false;
+    }
+    int row = Math.min(rows - 1, (int) ((latitude - south) / cellHeight));
+    int column = Math.min(columns - 1, (int) ((x - west) / cellWidth));
+    int cell = row * columns + column;
+    boolean inside = centerInside[cell];
+    double centerLatitude = rowCenter(row);
+    double centerLongitude = columnCenter(column);
+    for (int i = cellStarts[cell]; i < cellStarts[cell + 1]; i++) {
+      int edge = cellEdges[i];
+      inside ^= crossesHorizontal(edge, centerLatitude, centerLongitude, x)
+                ^ crossesVertical(edge, x, centerLatitude, latitude);
+    }
+    return inside;
+  }
+
+  /**
+   * Checks the given coordinates for being inside the polygon.
+   *
+   * @param latitudes  latitudes in degrees
+   * @param longitudes longitudes in degrees
+   * @param target     target for the results; {@code true} if the coordinate at the same index
+   *                   is inside
+   * @param count      number of coordinates to check, starting at index 0
+   * @since 1.0.0
+   */
+  public void contains(@NotNull final double[] latitudes,
+                       @NotNull final double[] longitudes,
+                       @NotNull final boolean[] target,
+                       final int count) {
+    for (int i = 0; i < count; i++) {
+      target[i] = contains(latitudes[i], longitudes[i]);
+    }
+  }
+
+  /**
+   * Collects the indices of the given coordinates being inside the polygon.
+   *
+   * @param latitudes  latitudes in degrees
+   * @param longitudes longitudes in degrees
+   * @param target     target for the indices of contained coordinates; must provide room for
+   *                   {@code count} indices
+   * @param count      number of coordinates to check, starting at index 0
+   * @return number of indices written to target
+   * @since 1.0.0
+   */
+  public int filter(@NotNull final double[] latitudes,
+                    @NotNull final double[] longitudes,
+                    @NotNull final int[] target,
+                    final int count) {
+    int found = 0;
+    for (int i = 0; i < count; i++) {
+      target[found] = i;
+      found += contains(latitudes[i], longitudes[i]) ? 1 : 0;
+    }
+    return found;
+  }
+
+  /**
+   * Removes all coordinates outside the polygon, moving the contained ones to the front while
+   * keeping their order.
+   *
+   * @param latitudes  latitudes in degrees
+   * @param longitudes longitudes in degrees
+   * @param offset     first index to check
+   * @param count      number of coordinates to check
+   * @return number of contained coordinates, now stored from {@code offset} on
+   * @since 1.0.0
+   */
+  public int retain(@NotNull final double[] latitudes,
+                    @NotNull final double[] longitudes,
+                    final int offset,
+                    final int count) {
+    int found = offset;
+    for (int i = offset; i < offset + count; i++) {
+      double latitude = latitudes[i];
+      double longitude = longitudes[i];
+      latitudes[found] = latitude;
+      longitudes[found] = longitude;
+      found += contains(latitude, longitude) ? 1 : 0;
+    }
+    return found - offset;
+  }
+
+  /**
+   * Copies the rings to the edge arrays, unwrapping longitudes so that consecutive vertices
+   * are connected the short way round and all rings are near the first one.
+   */
+  private void unwrapEdges(@NotNull final double[] latitudes,
+                           @NotNull final double[] longitudes,
+                           @NotNull final int[] ringEnds) {
+    double reference = longitudes[0];
+    int start = 0;
+    for (int end : ringEnds) {
+      double previous = reference + wrapDelta(longitudes[start] - reference);
+      for (int i = start; i < end; i++) {
+        double current = i == start ? previous : previous + wrapDelta(longitudes[i] - previous);
+        edgeLatitudes1[i] = latitudes[i];
+        edgeLongitudes1[i] = current;
+        previous = current;
+      }
+      for (int i = start; i < end; i++) {
+        int next = i + 1 < end ? i + 1 : start;
+        edgeLatitudes2[i] = edgeLatitudes1[next];
+        edgeLongitudes2[i] = edgeLongitudes1[next];
+      }
+      double closingGap = edgeLongitudes2[end - 1] - edgeLongitudes1[end - 1];
+      edgeLongitudes2[end - 1] = edgeLongitudes1[end - 1] + wrapDelta(closingGap);
+      start = end;
+    }
+  }
+
+  /**
+   * Fills the cell starts and returns the edges of all cells: each edge is assigned to all
+   * cells touched by its bounding box.
+   */
+  @NotNull
+  private int[] bucketEdges() {
+    int[] counts = new int[rows * columns];
+    for (int pass = 0; pass < 2; pass++) {
+      int[] edges = pass == 0 ? null : new int[cellStarts[rows * columns]];
+      int[] positions = pass == 0 ? null : Arrays.copyOf(cellStarts, rows * columns);
+      for (int edge = 0; edge < vertexCount; edge++) {
+        int firstRow = row(Math.min(edgeLatitudes1[edge], edgeLatitudes2[edge]));
+        int lastRow = row(Math.max(edgeLatitudes1[edge], edgeLatitudes2[edge]));
+        int firstColumn = column(Math.min(edgeLongitudes1[edge], edgeLongitudes2[edge]));
+        int lastColumn = column(Math.max(edgeLongitudes1[edge], edgeLongitudes2[edge]));
+        for (int row = firstRow; row <= lastRow; row++) {
+          for (int column = firstColumn; column <= lastColumn; column++) {
+            int cell = row * columns + column;
+            if (edges == null) {
+              counts[cell]++;
+            } else {
+              edges[positions[cell]++] = edge;
+            }
+          }
+        }
+      }
+      if (edges != null) {
+        return edges;
+      }
+      for (int cell = 0; cell < counts.length; cell++) {
+        cellStarts[cell + 1] = cellStarts[cell] + counts[cell];
+      }
+    }
+    throw new IllegalStateException("Unreachable.");
+  }
+
+  /**
+   * Determines for each cell center whether it is inside, by casting rays along the center
+   * line of each row: a center is inside if an odd number of edges crosses the line east of
+   * it.
+   */
+  private void classifyCenters() {
+    double[][] crossings = new double[rows][];
+    int[] crossingCounts = new int[rows];
+    for (int edge = 0; edge < vertexCount; edge++) {
+      int firstRow = row(Math.min(edgeLatitudes1[edge], edgeLatitudes2[edge]));
+      int lastRow = row(Math.max(edgeLatitudes1[edge], edgeLatitudes2[edge]));
+      for (int row = firstRow; row <= lastRow; row++) {
+        double centerLatitude = rowCenter(row);
+        if (straddles(edgeLatitudes1[edge], edgeLatitudes2[edge], centerLatitude)) {
+          if (crossings[row] == null) {
+            crossings[row] = new double[8];
+          } else if (crossingCounts[row] == crossings[row].length) {
+            crossings[row] = Arrays.copyOf(crossings[row], 2 * crossingCounts[row]);
+          }
+          crossings[row][crossingCounts[row]++] = crossingLongitude(edge, centerLatitude);
+        }
+      }
+    }
+    for (int row = 0; row < rows; row++) {
+      if (crossings[row] == null) {
+        continue;
+      }
+      Arrays.sort(crossings[row], 0, crossingCounts[row]);
+      for (int column = 0; column < columns; column++) {
+        int west = upperBound(crossings[row], crossingCounts[row], columnCenter(column));
+        centerInside[row * columns + column] = ((crossingCounts[row] - west) & 1) == 1;
+      }
+    }
+  }
+
+  /**
+   * Signals if the edge crosses the horizontal line at the given latitude between the given
+   * longitudes, in the same way as rays are cast in {@link #classifyCenters()}.
+   */
+  @Contract(pure = true)
+  private boolean crossesHorizontal(final int edge,
+                                    final double latitude,
+                                    final double fromLongitude,
+                                    final double toLongitude) {
+    if (!straddles(edgeLatitudes1[edge], edgeLatitudes2[edge], latitude)) {
+      return false;
+    }
+    double crossing = crossingLongitude(edge, latitude);
+    return fromLongitude < toLongitude ? crossing > fromLongitude & crossing <= toLongitude
+                                       : crossing > toLongitude & crossing <= fromLongitude;
+  }
+
+  /**
+   * Signals if the edge crosses the vertical line at the given longitude between the given
+   * latitudes.
+   */
+  @Contract(pure = true)
+  private boolean crossesVertical(final int edge,
+                                  final double longitude,
+                                  final double fromLatitude,
+                                  final double toLatitude) {
+    double longitude1 = edgeLongitudes1[edge];
+    double longitude2 = edgeLongitudes2[edge];
+    if (!straddles(longitude1, longitude2, longitude)) {
+      return false;
+    }
+    double latitude1 = edgeLatitudes1[edge];
+    double crossing = latitude1 + (longitude - longitude1) * (edgeLatitudes2[edge] - latitude1)
+                                  / (longitude2 - longitude1);
+    return fromLatitude < toLatitude ? crossing > fromLatitude & crossing <= toLatitude
+                                     : crossing > toLatitude & crossing <= fromLatitude;
+  }
+
+  @Contract(pure = true)
+  private double crossingLongitude(final int edge, final double latitude) {
+    double latitude1 = edgeLatitudes1[edge];
+    double longitude1 = edgeLongitudes1[edge];
+    return longitude1 + (latitude - latitude1) * (edgeLongitudes2[edge] - longitude1)
+                        / (edgeLatitudes2[edge] - latitude1);
+  }
+
+  /**
+   * Half-open crossing rule: exactly one of both ends is at or below the value.
+   */
+  @Contract(pure = true)
+  private static boolean straddles(final double value1, final double value2, final double value) {
+    return value1 <= value != value2 <= value;
+  }
+
+  @Contract(pure = true)
+  private int row(final double latitude) {
+    return Math.max(0, Math.min(rows - 1, (int) ((latitude - south) / cellHeight)));
+  }
+
+  @Contract(pure = true)
+  private int column(final double longitude) {
+    return Math.max(0, Math.min(columns - 1, (int) ((longitude - west) / cellWidth)));
+  }
+
+  @Contract(pure = true)
+  private double rowCenter(final int row) {
+    return south + (row + 0.5D) * cellHeight;
+  }
+
+  @Contract(pure = true)
+  private double columnCenter(final int column) {
+    return west + (column + 0.5D) * cellWidth;
+  }
+
+  /**
+   * Number of values less than or equal to the given value.
+   */
+  @Contract(pure = true)
+  private static int upperBound(@NotNull final double[] sorted,
+                                final int size,
+                                final double value) {
+    int low = 0;
+    int high = size;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (sorted[middle] <= value) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Wraps a longitude difference to -180&deg; (inclusive) to 180&deg; (exclusive).
+   */
+  @Contract(pure = true)
+  private static double wrapDelta(final double delta) {
+    return delta - FULL_CIRCLE * floor((delta + MAX_LONGITUDE) / FULL_CIRCLE);
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{vertexCount=" + vertexCount + ", ringCount=" + ringCount
+           + ", bounds=" + bounds + ", cells=" + rows + 'x' + columns + '}';
+  }
+}
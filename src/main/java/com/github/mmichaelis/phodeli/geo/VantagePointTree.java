@@ -0,0 +1,381 @@
+package com.github.mmichaelis.phodeli.geo;
+
+import static com.github.mmichaelis.phodeli.geo.GreatCircle.EARTH_RADIUS_METERS;
+import static com.github.mmichaelis.phodeli.geo.GreatCircle.haversine;
+import static com.github.mmichaelis.phodeli.geo.GreatCircle.haversineToAngle;
+import static java.lang.Math.cos;
+import static java.lang.Math.toRadians;
+
+import com.github.mmichaelis.phodeli.measure.Length;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Immutable, array-backed vantage-point tree for exact nearest neighbor and radius queries
+ * using the great circle distance (haversine metric).
+ * </p>
+ * <p>
+ * The tree is implicit in the order of the arrays: a node spanning the range
+ * {@code [low, high)} has its vantage point at {@code low}, the locations closer than the
+ * median distance at {@code [low + 1, middle)} and the remaining ones at
+ * {@code [middle, high)}. Construction partitions around the median with quickselect and
+ * builds large subtrees in parallel on the common {@link ForkJoinPool}.
+ * </p>
+ * <p>
+ * Queries do not allocate when reusing a {@link NeighborBuffer} of sufficient capacity.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class VantagePointTree {
+
+  /**
+   * Subtrees smaller than this are built sequentially.
+   */
+  private static final int PARALLEL_THRESHOLD = 1 << 13;
+
+  @NotNull
+  private final int[] ids;
+  /**
+   * Latitudes in radians, in tree order.
+   */
+  @NotNull
+  private final double[] latitudes;
+  /**
+   * Longitudes in radians, in tree order.
+   */
+  @NotNull
+  private final double[] longitudes;
+  @NotNull
+  private final double[] cosLatitudes;
+  /**
+   * Median central angle (radians) of each node, stored at the index of its vantage point.
+   */
+  @NotNull
+  private final double[] thresholds;
+
+  private VantagePointTree(@NotNull final int[] ids,
+                           @NotNull final double[] latitudes,
+                           @NotNull final double[] longitudes,
+                           @NotNull final double[] cosLatitudes,
+                           @NotNull final double[] thresholds) {
+    this.ids = ids;
+    this.latitudes = latitudes;
+    this.longitudes = longitudes;
+    this.cosLatitudes = cosLatitudes;
+    this.thresholds = thresholds;
+  }
+
+  /**
+   * Builds a tree of the given locations. The arrays are not referenced after construction.
+   *
+   * @param latitudes  latitudes in degrees
+   * @param longitudes longitudes in degrees
+   * @return tree
+   * @throws IllegalArgumentException if arrays differ in length
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static VantagePointTree build(@NotNull final double[] latitudes,
+                                       @NotNull final double[] longitudes) {
+    int size = latitudes.length;
+    if (longitudes.length != size) {
+      throw new IllegalArgumentException(
+        "Latitudes (" + size + ") and longitudes (" + longitudes.length
+        + ") differ in length.");
+    }
+    int[] ids = new int[size];
+    double[] treeLatitudes = new double[size];
+    double[] treeLongitudes = new double[size];
+    double[] cosLatitudes = new double[size];
+    for (int i = 0; i < size; i++) {
+      ids[i] = i;
+      treeLatitudes[i] = toRadians(latitudes[i]);
+      treeLongitudes[i] = toRadians(longitudes[i]);
+      cosLatitudes[i] = cos(treeLatitudes[i]);
+    }
+    VantagePointTree tree = new VantagePointTree(ids, treeLatitudes, treeLongitudes,
+                                                 cosLatitudes, new double[size]);
+    ForkJoinPool.commonPool().invoke(tree.new BuildTask(0, size, new double[size]));
+    return tree;
+  }
+
+  /**
+   * Number of locations in this tree.
+   *
+   * @return size
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int size() {
+    return ids.length;
+  }
+
+  /**
+   * Finds the {@code k} nearest locations to the given center.
+   *
+   * @param center center of the query
+   * @param k      number of neighbors to find
+   * @return buffer with the neighbors sorted by increasing distance
+   * @throws IllegalArgumentException if k is negative
+   * @since 1.0.0
+   */
+  @NotNull
+  public NeighborBuffer nearest(@NotNull final GeoCoordinate center, final int k) {
+    NeighborBuffer buffer = NeighborBuffer.neighborBuffer(Math.max(0, Math.min(k, size())));
+    nearest(center.getLatitude().toDegrees(), center.getLongitude().toDegrees(), k, buffer);
+    return buffer;
+  }
+
+  /**
+   * Finds the {@code k} nearest locations to the given center.
+   *
+   * @param latitude  latitude of the center in degrees
+   * @param longitude longitude of the center in degrees
+   * @param k         number of neighbors to find
+   * @param buffer    buffer to reuse for the result; previous content is discarded
+   * @throws IllegalArgumentException if k is negative
+   * @since 1.0.0
+   */
+  public void nearest(final double latitude,
+                      final double longitude,
+                      final int k,
+                      @NotNull final NeighborBuffer buffer) {
+    if (k < 0) {
+      throw new IllegalArgumentException("k must not be negative but is " + k + '.');
+    }
+    int limit = Math.min(k, size());
+    buffer.clear();
+    buffer.ensureCapacity(limit);
+    if (limit > 0) {
+      double latitudeRadians = toRadians(latitude);
+      nearest(0, size(), latitudeRadians, cos(latitudeRadians), toRadians(longitude), limit,
+              buffer);
+    }
+    buffer.sortHeap();
+  }
+
+  /**
+   * Finds all locations within the given distance of the center.
+   *
+   * @param center center of the query
+   * @param radius maximum distance
+   * @return buffer with the neighbors sorted by increasing distance
+   * @since 1.0.0
+   */
+  @NotNull
+  public NeighborBuffer within(@NotNull final GeoCoordinate center, @NotNull final Length radius) {
+    NeighborBuffer buffer = NeighborBuffer.neighborBuffer();
+    within(center.getLatitude().toDegrees(), center.getLongitude().toDegrees(), radius, buffer);
+    return buffer;
+  }
+
+  /**
+   * Finds all locations within the given distance of the center.
+   *
+   * @param latitude  latitude of the center in degrees
+   * @param longitude longitude of the center in degrees
+   * @param radius    maximum distance
+   * @param buffer    buffer to reuse for the result; previous content is discarded, grows if
+   *                  required
+   * @since 1.0.0
+   */
+  public void within(final double latitude,
+                     final double longitude,
+                     @NotNull final Length radius,
+                     @NotNull final NeighborBuffer buffer) {
+    buffer.clear();
+    double latitudeRadians = toRadians(latitude);
+    within(0, size(), latitudeRadians, cos(latitudeRadians), toRadians(longitude),
+           radius.toMeters() / EARTH_RADIUS_METERS, buffer);
+    buffer.sort();
+  }
+
+  private void nearest(final int low,
+                       final int high,
+                       final double latitude,
+                       final double cosLatitude,
+                       final double longitude,
+                       final int limit,
+                       @NotNull final NeighborBuffer buffer) {
+    if (low >= high) {
+      return;
+    }
+    double distance = distance(low, latitude, cosLatitude, longitude);
+    buffer.offer(ids[low], distance, limit);
+    if (high - low == 1) {
+      return;
+    }
+    int middle = middle(low, high);
+    double threshold = thresholds[low];
+    if (distance < threshold) {
+      nearest(low + 1, middle, latitude, cosLatitude, longitude, limit, buffer);
+      if (buffer.size() < limit || distance + buffer.maxDistance() >= threshold) {
+        nearest(middle, high, latitude, cosLatitude, longitude, limit, buffer);
+      }
+    } else {
+      nearest(middle, high, latitude, cosLatitude, longitude, limit, buffer);
+      if (buffer.size() < limit || distance - buffer.maxDistance() <= threshold) {
+        nearest(low + 1, middle, latitude, cosLatitude, longitude, limit, buffer);
+      }
+    }
+  }
+
+  private void within(final int low,
+                      final int high,
+                      final double latitude,
+                      final double cosLatitude,
+                      final double longitude,
+                      final double radius,
+                      @NotNull final NeighborBuffer buffer) {
+    if (low >= high) {
+      return;
+    }
+    double distance = distance(low, latitude, cosLatitude, longitude);
+    if (distance <= radius) {
+      buffer.add(ids[low], distance);
+    }
+    if (high - low == 1) {
+      return;
+    }
+    int middle = middle(low, high);
+    double threshold = thresholds[low];
+    if (distance - radius <= threshold) {
+      within(low + 1, middle, latitude, cosLatitude, longitude, radius, buffer);
+    }
+    if (distance + radius >= threshold) {
+      within(middle, high, latitude, cosLatitude, longitude, radius, buffer);
+    }
+  }
+
+  @Contract(pure = true)
+  private double distance(final int index,
+                          final double latitude,
+                          final double cosLatitude,
+                          final double longitude) {
+    return haversineToAngle(haversine(latitude, cosLatitude, latitudes[index],
+                                      cosLatitudes[index], longitudes[index] - longitude));
+  }
+
+  @Contract(pure = true)
+  private static int middle(final int low, final int high) {
+    return (low + 1 + high) >>> 1;
+  }
+
+  private void swap(final int first, final int second, @NotNull final double[] distances) {
+    int id = ids[first];
+    ids[first] = ids[second];
+    ids[second] = id;
+    double value = latitudes[first];
+    latitudes[first] = latitudes[second];
+    latitudes[second] = value;
+    value = longitudes[first];
+    longitudes[first] = longitudes[second];
+    longitudes[second] = value;
+    value = cosLatitudes[first];
+    cosLatitudes[first] = cosLatitudes[second];
+    cosLatitudes[second] = value;
+    value = distances[first];
+    distances[first] = distances[second];
+    distances[second] = value;
+  }
+
+  /**
+   * Partially sorts {@code [low, high)} by distance such that {@code target} holds the element
+   * which would be there if the range was sorted (Hoare's quickselect).
+   */
+  private void select(final int low, final int high, final int target,
+                      @NotNull final double[] distances) {
+    int left = low;
+    int right = high - 1;
+    while (left < right) {
+      double pivot = distances[(left + right) >>> 1];
+      int i = left;
+      int j = right;
+      while (i <= j) {
+        while (distances[i] < pivot) {
+          i++;
+        }
+        while (distances[j] > pivot) {
+          j--;
+        }
+        if (i <= j) {
+          swap(i, j, distances);
+          i++;
+          j--;
+        }
+      }
+      if (target <= j) {
+        right = j;
+      } else if (target >= i) {
+        left = i;
+      } else {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Builds the subtree of a range: chooses a vantage point, partitions around the median
+   * distance and recurses, forking for large ranges.
+   */
+  private final class BuildTask extends RecursiveAction {
+
+    private static final long serialVersionUID = -1474851698213337417L;
+
+    private final int low;
+    private final int high;
+    @NotNull
+    private final double[] distances;
+
+    private BuildTask(final int low, final int high, @NotNull final double[] distances) {
+      this.low = low;
+      this.high = high;
+      this.distances = distances;
+    }
+
+    @Override
+    protected void compute() {
+      int currentLow = low;
+      int currentHigh = high;
+      while (currentHigh - currentLow > 1) {
+        // Deterministic pseudo-random choice of the vantage point avoids degenerate trees for
+        // sorted input.
+        int vantagePoint = currentLow + (int) ((((currentLow * 0x9e3779b97f4a7c15L) >>> 33)
+                                                & Integer.MAX_VALUE)
+                                               % (currentHigh - currentLow));
+        swap(currentLow, vantagePoint, distances);
+        double latitude = latitudes[currentLow];
+        double cosLatitude = cosLatitudes[currentLow];
+        double longitude = longitudes[currentLow];
+        for (int i = currentLow + 1; i < currentHigh; i++) {
+          distances[i] = distance(i, latitude, cosLatitude, longitude);
+        }
+        int middle = middle(currentLow, currentHigh);
+        select(currentLow + 1, currentHigh, middle, distances);
+        thresholds[currentLow] = distances[middle];
+        if (middle - currentLow - 1 > PARALLEL_THRESHOLD) {
+          invokeAll(new BuildTask(currentLow + 1, middle, distances),
+                    new BuildTask(middle, currentHigh, distances));
+          return;
+        }
+        new BuildTask(currentLow + 1, middle, distances).compute();
+        currentLow = middle;
+      }
+    }
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{size=" + size() + '}';
+  }
+}
@@ -0,0 +1,14 @@
+/**
+ * <p>
+ * Geo-coordinates and operations on them.
+ * </p>
+ * <p>
+ * Bulk operations use a structure-of-arrays layout: latitudes and longitudes are passed as
+ * separate {@code double} arrays given in degrees, where index {@code i} of both arrays
+ * denotes the same location.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+package com.github.mmichaelis.phodeli.geo;
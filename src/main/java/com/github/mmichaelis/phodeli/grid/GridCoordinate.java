@@ -0,0 +1,113 @@
+package com.github.mmichaelis.phodeli.grid;
+
+import static java.util.Objects.requireNonNull;
+
+import com.github.mmichaelis.phodeli.measure.Length;
+
+import java.io.Serializable;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Coordinate in a projected grid given by easting and northing.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class GridCoordinate implements Serializable {
+
+  private static final long serialVersionUID = -1905745126440863915L;
+
+  @NotNull
+  private final Length easting;
+  @NotNull
+  private final Length northing;
+
+  private GridCoordinate(@NotNull final Length easting, @NotNull final Length northing) {
+    this.easting = easting;
+    this.northing = northing;
+  }
+
+  /**
+   * Creates a grid coordinate.
+   *
+   * @param easting  easting
+   * @param northing northing
+   * @return grid coordinate
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static GridCoordinate grid(@NotNull final Length easting,
+                                    @NotNull final Length northing) {
+    return new GridCoordinate(requireNonNull(easting, "easting must not be null."),
+                              requireNonNull(northing, "northing must not be null."));
+  }
+
+  /**
+   * Creates a grid coordinate.
+   *
+   * @param easting  easting in meters
+   * @param northing northing in meters
+   * @return grid coordinate
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static GridCoordinate meters(final double easting, final double northing) {
+    return new GridCoordinate(Length.m(easting), Length.m(northing));
+  }
+
+  /**
+   * Easting of this coordinate.
+   *
+   * @return easting
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Length getEasting() {
+    return easting;
+  }
+
+  /**
+   * Northing of this coordinate.
+   *
+   * @return northing
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Length getNorthing() {
+    return northing;
+  }
+
+  @Override
+  @Contract(pure = true)
+  public int hashCode() {
+    return 31 * easting.hashCode() + northing.hashCode();
+  }
+
+  @Override
+  @Contract(pure = true)
+  public boolean equals(final Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    GridCoordinate other = (GridCoordinate) obj;
+    return easting.equals(other.easting) && northing.equals(other.northing);
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{easting=" + easting + ", northing=" + northing + '}';
+  }
+}
@@ -0,0 +1,248 @@
+package com.github.mmichaelis.phodeli.grid;
+
+import static java.lang.Math.floor;
+import static java.lang.Math.toRadians;
+import static java.util.Objects.requireNonNull;
+
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+import com.github.mmichaelis.phodeli.measure.Length;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Military Grid Reference System (MGRS): UTM coordinates given by zone, latitude band,
+ * 100&nbsp;km square and numeric location within the square, such as
+ * {@code 32U PU 91607 34760}.
+ * </p>
+ * <p>
+ * The polar regions (UPS) beyond 80&deg;S and 84&deg;N are not supported. Formatting truncates
+ * to the requested precision, thus parsing provides the south-west corner of the referenced
+ * square.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class Mgrs {
+
+  /**
+   * Maximum number of digits per axis, which references a square meter.
+   *
+   * @since 1.0.0
+   */
+  public static final int MAX_DIGITS = 5;
+
+  private static final String BANDS = "CDEFGHJKLMNPQRSTUVWX";
+  private static final String[] COLUMNS = {"ABCDEFGH", "JKLMNPQR", "STUVWXYZ"};
+  private static final String ROWS = "ABCDEFGHJKLMNPQRSTUV";
+  private static final double MIN_LATITUDE = -80D;
+  private static final double MAX_LATITUDE = 84D;
+  private static final double BAND_HEIGHT = 8D;
+  private static final int SQUARE_SIZE = 100_000;
+  private static final int ROW_CYCLE = ROWS.length() * SQUARE_SIZE;
+  private static final int EVEN_ZONE_ROW_OFFSET = 5;
+  private static final int[] POWERS_OF_TEN = {1, 10, 100, 1_000, 10_000, 100_000};
+
+  private Mgrs() {
+  }
+
+  /**
+   * Formats the given location as MGRS reference.
+   *
+   * @param coordinate location
+   * @param digits     digits per axis within 0 (100&nbsp;km) and 5 (1&nbsp;m)
+   * @return MGRS reference
+   * @throws IllegalArgumentException if location is within the polar regions or digits are
+   *                                  out of range
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static String format(@NotNull final GeoCoordinate coordinate, final int digits) {
+    requireNonNull(coordinate, "coordinate must not be null.");
+    checkDigits(digits);
+    StringBuilder builder = new StringBuilder(MAX_DIGITS * 2 + 7);
+    append(builder, coordinate.getLatitude().toDegrees(),
+           coordinate.getLongitude().toDegrees(), digits, new double[2]);
+    return builder.toString();
+  }
+
+  /**
+   * Formats the given locations as MGRS references.
+   *
+   * @param latitudes  latitudes in degrees
+   * @param longitudes longitudes in degrees
+   * @param digits     digits per axis within 0 (100&nbsp;km) and 5 (1&nbsp;m)
+   * @param target     target for the MGRS references
+   * @param count      number of locations to format, starting at index 0
+   * @throws IllegalArgumentException if a location is within the polar regions or digits are
+   *                                  out of range
+   * @since 1.0.0
+   */
+  public static void format(@NotNull final double[] latitudes,
+                            @NotNull final double[] longitudes,
+                            final int digits,
+                            @NotNull final String[] target,
+                            final int count) {
+    checkDigits(digits);
+    StringBuilder builder = new StringBuilder(MAX_DIGITS * 2 + 7);
+    double[] projected = new double[2];
+    for (int i = 0; i < count; i++) {
+      builder.setLength(0);
+      append(builder, latitudes[i], longitudes[i], digits, projected);
+      target[i] = builder.toString();
+    }
+  }
+
+  /**
+   * Parses the given MGRS reference. Whitespace is optional and letters may be given in any
+   * case.
+   *
+   * @param reference MGRS reference
+   * @return south-west corner of the referenced square
+   * @throws IllegalArgumentException if reference is malformed
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static GeoCoordinate parse(@NotNull final CharSequence reference) {
+    return toUtm(reference).toGeo();
+  }
+
+  /**
+   * Parses the given MGRS reference to a UTM coordinate. Whitespace is optional and letters
+   * may be given in any case.
+   *
+   * @param reference MGRS reference
+   * @return south-west corner of the referenced square
+   * @throws IllegalArgumentException if reference is malformed
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static UtmCoordinate toUtm(@NotNull final CharSequence reference) {
+    requireNonNull(reference, "reference must not be null.");
+    StringBuilder compact = new StringBuilder(reference.length());
+    for (int i = 0; i < reference.length(); i++) {
+      char c = reference.charAt(i);
+      if (!Character.isWhitespace(c)) {
+        compact.append(Character.toUpperCase(c));
+      }
+    }
+    int position = 0;
+    while (position < compact.length() && position < 2 && isDigit(compact.charAt(position))) {
+      position++;
+    }
+    int numberLength = compact.length() - position - 3;
+    if (position == 0 || numberLength < 0 || numberLength % 2 != 0
+        || numberLength > 2 * MAX_DIGITS) {
+      throw malformed(reference);
+    }
+    int zoneNumber = Integer.parseInt(compact.substring(0, position));
+    int band = BANDS.indexOf(compact.charAt(position));
+    if (zoneNumber < 1 || zoneNumber > UtmZone.ZONE_COUNT || band < 0) {
+      throw malformed(reference);
+    }
+    int column = COLUMNS[(zoneNumber - 1) % COLUMNS.length].indexOf(compact.charAt(position + 1));
+    int row = ROWS.indexOf(compact.charAt(position + 2));
+    if (column < 0 || row < 0) {
+      throw malformed(reference);
+    }
+    int digits = numberLength / 2;
+    int numberStart = position + 3;
+    int scale = POWERS_OF_TEN[MAX_DIGITS - digits];
+    double easting = (column + 1) * (double) SQUARE_SIZE
+                     + parseDigits(compact, numberStart, digits, reference) * scale;
+    double rowNorthing = (row - (zoneNumber % 2 == 0 ? EVEN_ZONE_ROW_OFFSET : 0)
+                          + ROWS.length()) % ROWS.length() * (double) SQUARE_SIZE
+                         + parseDigits(compact, numberStart + digits, digits, reference) * scale;
+
+    UtmZone zone = UtmZone.zone(zoneNumber, band >= BANDS.indexOf('N'));
+    double[] projected = new double[2];
+    zone.project(toRadians(MIN_LATITUDE + band * BAND_HEIGHT), zone.getCentralMeridian()
+      .toDegrees(), projected);
+    // The band's southern edge reaches below its northing on the central meridian by far less
+    // than two squares, while bands are much less high than the cycle of the row letters.
+    double minimum = projected[1] - 2D * SQUARE_SIZE;
+    double northing = rowNorthing + ROW_CYCLE * Math.ceil((minimum - rowNorthing) / ROW_CYCLE);
+    return UtmCoordinate.utm(zone, Length.m(easting), Length.m(northing));
+  }
+
+  private static void append(@NotNull final StringBuilder builder,
+                             final double latitude,
+                             final double longitude,
+                             final int digits,
+                             @NotNull final double[] projected) {
+    if (!(latitude >= MIN_LATITUDE && latitude < MAX_LATITUDE)) {
+      throw new IllegalArgumentException(
+        "MGRS only supports latitudes within " + MIN_LATITUDE + " and " + MAX_LATITUDE
+        + " but latitude is " + latitude + '.');
+    }
+    UtmZone zone = UtmZone.containing(latitude, longitude);
+    zone.project(toRadians(latitude), longitude, projected);
+    int easting = (int) floor(projected[0]);
+    int northing = (int) floor(projected[1]);
+    int band = Math.min(BANDS.length() - 1, (int) floor((latitude - MIN_LATITUDE) / BAND_HEIGHT));
+    int number = zone.getNumber();
+    String columns = COLUMNS[(number - 1) % COLUMNS.length];
+    int column = Math.max(0, Math.min(columns.length() - 1, easting / SQUARE_SIZE - 1));
+    int row = (northing / SQUARE_SIZE + (number % 2 == 0 ? EVEN_ZONE_ROW_OFFSET : 0))
+              % ROWS.length();
+    if (number < 10) {
+      builder.append('0');
+    }
+    builder.append(number).append(BANDS.charAt(band)).append(' ')
+      .append(columns.charAt(column)).append(ROWS.charAt(row));
+    if (digits > 0) {
+      int scale = POWERS_OF_TEN[MAX_DIGITS - digits];
+      builder.append(' ');
+      appendDigits(builder, easting % SQUARE_SIZE / scale, digits);
+      builder.append(' ');
+      appendDigits(builder, northing % SQUARE_SIZE / scale, digits);
+    }
+  }
+
+  private static void appendDigits(@NotNull final StringBuilder builder,
+                                   final int value,
+                                   final int digits) {
+    for (int power = digits - 1; power >= 0; power--) {
+      builder.append((char) ('0' + value / POWERS_OF_TEN[power] % 10));
+    }
+  }
+
+  private static int parseDigits(@NotNull final CharSequence compact,
+                                 final int start,
+                                 final int digits,
+                                 @NotNull final CharSequence reference) {
+    int value = 0;
+    for (int i = start; i < start + digits; i++) {
+      char c = compact.charAt(i);
+      if (!isDigit(c)) {
+        throw malformed(reference);
+      }
+      value = value * 10 + c - '0';
+    }
+    return value;
+  }
+
+  @Contract(pure = true)
+  private static boolean isDigit(final char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static void checkDigits(final int digits) {
+    if (digits < 0 || digits > MAX_DIGITS) {
+      throw new IllegalArgumentException(
+        "Digits must be within 0 and " + MAX_DIGITS + " but are " + digits + '.');
+    }
+  }
+
+  @NotNull
+  @Contract(pure = true)
+  private static IllegalArgumentException malformed(@NotNull final CharSequence reference) {
+    return new IllegalArgumentException("Malformed MGRS reference: " + reference);
+  }
+}
@@ -0,0 +1,225 @@
+package com.github.mmichaelis.phodeli.grid;
+
+import static com.github.mmichaelis.phodeli.grid.TransverseMercator.atanh;
+import static java.lang.Math.PI;
+import static java.lang.Math.asin;
+import static java.lang.Math.atan;
+import static java.lang.Math.atan2;
+import static java.lang.Math.cos;
+import static java.lang.Math.exp;
+import static java.lang.Math.hypot;
+import static java.lang.Math.log;
+import static java.lang.Math.sin;
+import static java.lang.Math.sqrt;
+import static java.lang.Math.tan;
+import static java.lang.Math.toDegrees;
+import static java.lang.Math.toRadians;
+import static java.util.Objects.requireNonNull;
+
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Swiss grid LV95: the oblique conformal cylindrical projection of the Bessel ellipsoid in the
+ * CH1903+ datum, with easting around 2&nbsp;600&nbsp;000&nbsp;m and northing around
+ * 1&nbsp;200&nbsp;000&nbsp;m at the old observatory of Bern.
+ * </p>
+ * <p>
+ * Conversion uses the rigorous formulas published by swisstopo including the datum shift
+ * between WGS 84 and CH1903+ as a geocentric translation. Locations are assumed to be on the
+ * ellipsoid; ignoring the height affects positions by a few millimeters only. All projection
+ * constants are computed once.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class SwissGrid {
+
+  private static final double BESSEL_SEMI_MAJOR_AXIS = 6_377_397.155D;
+  private static final double BESSEL_E2 = 0.006674372230614D;
+  private static final double BESSEL_E = sqrt(BESSEL_E2);
+  private static final double WGS84_SEMI_MAJOR_AXIS = TransverseMercator.SEMI_MAJOR_AXIS;
+  private static final double WGS84_E2 = 0.00669437999014D;
+  /**
+   * Geocentric translation from CH1903+ to WGS 84 in meters.
+   */
+  private static final double SHIFT_X = 674.374D;
+  private static final double SHIFT_Y = 15.056D;
+  private static final double SHIFT_Z = 405.346D;
+
+  private static final double FALSE_EASTING = 2_600_000D;
+  private static final double FALSE_NORTHING = 1_200_000D;
+  private static final double ORIGIN_LATITUDE = toRadians(46.952405555555556D);
+  private static final double ORIGIN_LONGITUDE = toRadians(7.439583333333333D);
+  private static final double SPHERE_RADIUS = BESSEL_SEMI_MAJOR_AXIS * sqrt(1D - BESSEL_E2)
+                                              / (1D - BESSEL_E2 * sin(ORIGIN_LATITUDE)
+                                                      * sin(ORIGIN_LATITUDE));
+  private static final double ALPHA = sqrt(1D + BESSEL_E2 / (1D - BESSEL_E2)
+                                                * Math.pow(cos(ORIGIN_LATITUDE), 4));
+  private static final double SPHERE_ORIGIN_LATITUDE = asin(sin(ORIGIN_LATITUDE) / ALPHA);
+  private static final double SIN_B0 = sin(SPHERE_ORIGIN_LATITUDE);
+  private static final double COS_B0 = cos(SPHERE_ORIGIN_LATITUDE);
+  private static final double K = log(tan(PI / 4D + SPHERE_ORIGIN_LATITUDE / 2D))
+                                  - ALPHA * log(tan(PI / 4D + ORIGIN_LATITUDE / 2D))
+                                  + ALPHA * BESSEL_E * atanh(BESSEL_E * sin(ORIGIN_LATITUDE));
+  private static final int GEODETIC_ITERATIONS = 6;
+
+  private SwissGrid() {
+  }
+
+  /**
+   * Converts the given location to LV95 coordinates.
+   *
+   * @param coordinate location in WGS 84
+   * @return LV95 coordinate
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static GridCoordinate toLv95(@NotNull final GeoCoordinate coordinate) {
+    requireNonNull(coordinate, "coordinate must not be null.");
+    double[] values = new double[2];
+    forward(coordinate.getLatitude().toRadians(), coordinate.getLongitude().toRadians(),
+            values);
+    return GridCoordinate.meters(values[0], values[1]);
+  }
+
+  /**
+   * Converts the given LV95 coordinate to a location.
+   *
+   * @param coordinate LV95 coordinate
+   * @return location in WGS 84
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static GeoCoordinate toGeo(@NotNull final GridCoordinate coordinate) {
+    requireNonNull(coordinate, "coordinate must not be null.");
+    double[] values = new double[2];
+    inverse(coordinate.getEasting().toMeters(), coordinate.getNorthing().toMeters(), values);
+    return GeoCoordinate.degrees(toDegrees(values[0]), toDegrees(values[1]));
+  }
+
+  /**
+   * Converts the given locations to LV95 coordinates.
+   *
+   * @param latitudes  latitudes in degrees (WGS 84)
+   * @param longitudes longitudes in degrees (WGS 84)
+   * @param eastings   target for eastings in meters
+   * @param northings  target for northings in meters
+   * @param count      number of locations to convert, starting at index 0
+   * @since 1.0.0
+   */
+  public static void toLv95(@NotNull final double[] latitudes,
+                            @NotNull final double[] longitudes,
+                            @NotNull final double[] eastings,
+                            @NotNull final double[] northings,
+                            final int count) {
+    double[] values = new double[2];
+    for (int i = 0; i < count; i++) {
+      forward(toRadians(latitudes[i]), toRadians(longitudes[i]), values);
+      eastings[i] = values[0];
+      northings[i] = values[1];
+    }
+  }
+
+  /**
+   * Converts the given LV95 coordinates to locations.
+   *
+   * @param eastings   eastings in meters
+   * @param northings  northings in meters
+   * @param latitudes  target for latitudes in degrees (WGS 84)
+   * @param longitudes target for longitudes in degrees (WGS 84)
+   * @param count      number of coordinates to convert, starting at index 0
+   * @since 1.0.0
+   */
+  public static void toGeo(@NotNull final double[] eastings,
+                           @NotNull final double[] northings,
+                           @NotNull final double[] latitudes,
+                           @NotNull final double[] longitudes,
+                           final int count) {
+    double[] values = new double[2];
+    for (int i = 0; i < count; i++) {
+      inverse(eastings[i], northings[i], values);
+      latitudes[i] = toDegrees(values[0]);
+      longitudes[i] = toDegrees(values[1]);
+    }
+  }
+
+  /**
+   * WGS 84 latitude and longitude in radians to easting and northing.
+   */
+  private static void forward(final double latitude,
+                              final double longitude,
+                              @NotNull final double[] target) {
+    shiftDatum(latitude, longitude, WGS84_SEMI_MAJOR_AXIS, WGS84_E2, -1D,
+               BESSEL_SEMI_MAJOR_AXIS, BESSEL_E2, target);
+    double phi = target[0];
+    double s = ALPHA * log(tan(PI / 4D + phi / 2D))
+               - ALPHA * BESSEL_E * atanh(BESSEL_E * sin(phi)) + K;
+    double b = 2D * (atan(exp(s)) - PI / 4D);
+    double l = ALPHA * (target[1] - ORIGIN_LONGITUDE);
+    double lBar = atan(sin(l) / (SIN_B0 * tan(b) + COS_B0 * cos(l)));
+    double bBar = asin(COS_B0 * sin(b) - SIN_B0 * cos(b) * cos(l));
+    target[0] = FALSE_EASTING + SPHERE_RADIUS * lBar;
+    target[1] = FALSE_NORTHING + SPHERE_RADIUS * atanh(sin(bBar));
+  }
+
+  /**
+   * Easting and northing to WGS 84 latitude and longitude in radians.
+   */
+  private static void inverse(final double easting,
+                              final double northing,
+                              @NotNull final double[] target) {
+    double lBar = (easting - FALSE_EASTING) / SPHERE_RADIUS;
+    double bBar = 2D * (atan(exp((northing - FALSE_NORTHING) / SPHERE_RADIUS)) - PI / 4D);
+    double b = asin(COS_B0 * sin(bBar) + SIN_B0 * cos(bBar) * cos(lBar));
+    double l = atan(sin(lBar) / (COS_B0 * cos(lBar) - SIN_B0 * tan(bBar)));
+    double longitude = ORIGIN_LONGITUDE + l / ALPHA;
+    double isometric = (log(tan(PI / 4D + b / 2D)) - K) / ALPHA;
+    double latitude = b;
+    for (int i = 0; i < GEODETIC_ITERATIONS; i++) {
+      double s = isometric + BESSEL_E * atanh(BESSEL_E * sin(latitude));
+      latitude = 2D * atan(exp(s)) - PI / 2D;
+    }
+    shiftDatum(latitude, longitude, BESSEL_SEMI_MAJOR_AXIS, BESSEL_E2, 1D,
+               WGS84_SEMI_MAJOR_AXIS, WGS84_E2, target);
+  }
+
+  /**
+   * Converts a location on one ellipsoid to the other by a geocentric translation.
+   *
+   * @param direction 1 for CH1903+ to WGS 84, -1 for the opposite direction
+   */
+  private static void shiftDatum(final double latitude,
+                                 final double longitude,
+                                 final double sourceAxis,
+                                 final double sourceE2,
+                                 final double direction,
+                                 final double targetAxis,
+                                 final double targetE2,
+                                 @NotNull final double[] target) {
+    double sinLatitude = sin(latitude);
+    double cosLatitude = cos(latitude);
+    double radius = sourceAxis / sqrt(1D - sourceE2 * sinLatitude * sinLatitude);
+    double x = radius * cosLatitude * cos(longitude) + direction * SHIFT_X;
+    double y = radius * cosLatitude * sin(longitude) + direction * SHIFT_Y;
+    double z = radius * (1D - sourceE2) * sinLatitude + direction * SHIFT_Z;
+
+    double p = hypot(x, y);
+    double shifted = atan2(z, p * (1D - targetE2));
+    for (int i = 0; i < GEODETIC_ITERATIONS; i++) {
+      double sinShifted = sin(shifted);
+      double targetRadius = targetAxis / sqrt(1D - targetE2 * sinShifted * sinShifted);
+      double height = p / cos(shifted) - targetRadius;
+      shifted = atan2(z, p * (1D - targetE2 * targetRadius / (targetRadius + height)));
+    }
+    target[0] = shifted;
+    target[1] = atan2(y, x);
+  }
+}
@@ -0,0 +1,160 @@
+package com.github.mmichaelis.phodeli.grid;
+
+import static java.lang.Math.atan;
+import static java.lang.Math.atan2;
+import static java.lang.Math.cos;
+import static java.lang.Math.cosh;
+import static java.lang.Math.hypot;
+import static java.lang.Math.log;
+import static java.lang.Math.sin;
+import static java.lang.Math.sinh;
+import static java.lang.Math.sqrt;
+
+import org.jetbrains.annotations.Contract;
+
+/**
+ * <p>
+ * Transverse Mercator projection of the WGS 84 ellipsoid using the sixth order Krüger series,
+ * which is accurate to well below a millimeter within the width of a UTM zone.
+ * </p>
+ * <p>
+ * Works on a central meridian of longitude 0 and in units of the scaled meridian arc
+ * {@code k0 * A}; callers shift by the central meridian and apply false easting and northing.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+final class TransverseMercator {
+
+  /**
+   * Semi-major axis of the WGS 84 ellipsoid.
+   */
+  static final double SEMI_MAJOR_AXIS = 6_378_137D;
+  private static final double FLATTENING = 1D / 298.257223563D;
+  private static final double ECCENTRICITY = sqrt(FLATTENING * (2D - FLATTENING));
+  private static final double ONE_MINUS_E2 = 1D - ECCENTRICITY * ECCENTRICITY;
+  private static final double N = FLATTENING / (2D - FLATTENING);
+  /**
+   * Radius of the rectifying sphere: a meridian arc of one radian.
+   */
+  static final double RECTIFYING_RADIUS = SEMI_MAJOR_AXIS / (1D + N)
+                                          * (1D + N * N / 4D + Math.pow(N, 4) / 64D
+                                             + Math.pow(N, 6) / 256D);
+  private static final double[] ALPHA = alpha();
+  private static final double[] BETA = beta();
+  private static final double CONVERGENCE = 1.0E-12D;
+  private static final int MAX_ITERATIONS = 10;
+
+  private TransverseMercator() {
+  }
+
+  private static double[] alpha() {
+    double n2 = N * N;
+    double n3 = n2 * N;
+    double n4 = n3 * N;
+    double n5 = n4 * N;
+    double n6 = n5 * N;
+    return new double[]{
+      N / 2D - 2D * n2 / 3D + 5D * n3 / 16D + 41D * n4 / 180D - 127D * n5 / 288D
+      + 7891D * n6 / 37800D,
+      13D * n2 / 48D - 3D * n3 / 5D + 557D * n4 / 1440D + 281D * n5 / 630D
+      - 1983433D * n6 / 1935360D,
+      61D * n3 / 240D - 103D * n4 / 140D + 15061D * n5 / 26880D + 167603D * n6 / 181440D,
+      49561D * n4 / 161280D - 179D * n5 / 168D + 6601661D * n6 / 7257600D,
+      34729D * n5 / 80640D - 3418889D * n6 / 1995840D,
+      212378941D * n6 / 319334400D,
+    };
+  }
+
+  private static double[] beta() {
+    double n2 = N * N;
+    double n3 = n2 * N;
+    double n4 = n3 * N;
+    double n5 = n4 * N;
+    double n6 = n5 * N;
+    return new double[]{
+      N / 2D - 2D * n2 / 3D + 37D * n3 / 96D - n4 / 360D - 81D * n5 / 512D
+      + 96199D * n6 / 604800D,
+      n2 / 48D + n3 / 15D - 437D * n4 / 1440D + 46D * n5 / 105D - 1118711D * n6 / 3870720D,
+      17D * n3 / 480D - 37D * n4 / 840D - 209D * n5 / 4480D + 5569D * n6 / 90720D,
+      4397D * n4 / 161280D - 11D * n5 / 504D - 830251D * n6 / 7257600D,
+      4583D * n5 / 161280D - 108847D * n6 / 3991680D,
+      20648693D * n6 / 638668800D,
+    };
+  }
+
+  /**
+   * Projects the given location.
+   *
+   * @param latitude  latitude in radians
+   * @param longitude longitude relative to the central meridian in radians
+   * @param target    target for eta (east) at index 0 and xi (north) at index 1, in units of
+   *                  the rectifying radius
+   */
+  static void forward(final double latitude, final double longitude, final double[] target) {
+    double sinLatitude = sin(latitude);
+    double tau = sinh(atanh(sinLatitude) - ECCENTRICITY * atanh(ECCENTRICITY * sinLatitude));
+    double cosLongitude = cos(longitude);
+    double xiPrime = atan2(tau, cosLongitude);
+    double etaPrime = atanh(sin(longitude) / sqrt(1D + tau * tau));
+    double xi = xiPrime;
+    double eta = etaPrime;
+    for (int j = 0; j < ALPHA.length; j++) {
+      double k = 2D * (j + 1);
+      xi += ALPHA[j] * sin(k * xiPrime) * cosh(k * etaPrime);
+      eta += ALPHA[j] * cos(k * xiPrime) * sinh(k * etaPrime);
+    }
+    target[0] = eta;
+    target[1] = xi;
+  }
+
+  /**
+   * Inverse projection.
+   *
+   * @param eta    easting in units of the rectifying radius
+   * @param xi     northing in units of the rectifying radius
+   * @param target target for latitude at index 0 and longitude relative to the central
+   *               meridian at index 1, in radians
+   */
+  static void inverse(final double eta, final double xi, final double[] target) {
+    double xiPrime = xi;
+    double etaPrime = eta;
+    for (int j = 0; j < BETA.length; j++) {
+      double k = 2D * (j + 1);
+      xiPrime -= BETA[j] * sin(k * xi) * cosh(k * eta);
+      etaPrime -= BETA[j] * cos(k * xi) * sinh(k * eta);
+    }
+    double sinhEtaPrime = sinh(etaPrime);
+    double cosXiPrime = cos(xiPrime);
+    double tauPrime = sin(xiPrime) / hypot(sinhEtaPrime, cosXiPrime);
+    target[0] = atan(conformalToGeodetic(tauPrime));
+    target[1] = atan2(sinhEtaPrime, cosXiPrime);
+  }
+
+  /**
+   * Tangent of the geodetic latitude for the given tangent of the conformal latitude by Newton
+   * iteration.
+   */
+  @Contract(pure = true)
+  private static double conformalToGeodetic(final double tauPrime) {
+    double tau = tauPrime;
+    for (int i = 0; i < MAX_ITERATIONS; i++) {
+      double root = sqrt(1D + tau * tau);
+      double sigma = sinh(ECCENTRICITY * atanh(ECCENTRICITY * tau / root));
+      double tauI = tau * sqrt(1D + sigma * sigma) - sigma * root;
+      double delta = (tauPrime - tauI) / sqrt(1D + tauI * tauI)
+                     * (1D + ONE_MINUS_E2 * tau * tau) / (ONE_MINUS_E2 * root);
+      tau += delta;
+      if (Math.abs(delta) < CONVERGENCE) {
+        break;
+      }
+    }
+    return tau;
+  }
+
+  @Contract(pure = true)
+  static double atanh(final double x) {
+    return 0.5D * log((1D + x) / (1D - x));
+  }
+}
@@ -0,0 +1,150 @@
+package com.github.mmichaelis.phodeli.grid;
+
+import static java.util.Objects.requireNonNull;
+
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+import com.github.mmichaelis.phodeli.measure.Length;
+
+import java.io.Serializable;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Coordinate in the Universal Transverse Mercator (UTM) grid: zone, easting and northing.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class UtmCoordinate implements Serializable {
+
+  private static final long serialVersionUID = 2330861591047185395L;
+
+  @NotNull
+  private final UtmZone zone;
+  @NotNull
+  private final Length easting;
+  @NotNull
+  private final Length northing;
+
+  private UtmCoordinate(@NotNull final UtmZone zone,
+                        @NotNull final Length easting,
+                        @NotNull final Length northing) {
+    this.zone = zone;
+    this.easting = easting;
+    this.northing = northing;
+  }
+
+  /**
+   * Creates a UTM coordinate.
+   *
+   * @param zone     zone
+   * @param easting  easting
+   * @param northing northing
+   * @return UTM coordinate
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static UtmCoordinate utm(@NotNull final UtmZone zone,
+                                  @NotNull final Length easting,
+                                  @NotNull final Length northing) {
+    return new UtmCoordinate(requireNonNull(zone, "zone must not be null."),
+                             requireNonNull(easting, "easting must not be null."),
+                             requireNonNull(northing, "northing must not be null."));
+  }
+
+  /**
+   * Converts the given location to a UTM coordinate in the zone containing it.
+   *
+   * @param coordinate location
+   * @return UTM coordinate
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static UtmCoordinate utm(@NotNull final GeoCoordinate coordinate) {
+    return UtmZone.containing(coordinate).toUtm(coordinate);
+  }
+
+  /**
+   * Zone of this coordinate.
+   *
+   * @return zone
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public UtmZone getZone() {
+    return zone;
+  }
+
+  /**
+   * Easting of this coordinate.
+   *
+   * @return easting
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Length getEasting() {
+    return easting;
+  }
+
+  /**
+   * Northing of this coordinate.
+   *
+   * @return northing
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Length getNorthing() {
+    return northing;
+  }
+
+  /**
+   * Converts this coordinate to a location.
+   *
+   * @return location
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public GeoCoordinate toGeo() {
+    return zone.toGeo(easting, northing);
+  }
+
+  @Override
+  @Contract(pure = true)
+  public int hashCode() {
+    int result = zone.hashCode();
+    result = 31 * result + easting.hashCode();
+    result = 31 * result + northing.hashCode();
+    return result;
+  }
+
+  @Override
+  @Contract(pure = true)
+  public boolean equals(final Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    UtmCoordinate other = (UtmCoordinate) obj;
+    return zone.equals(other.zone) && easting.equals(other.easting)
+           && northing.equals(other.northing);
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{zone=" + zone + ", easting=" + easting
+           + ", northing=" + northing + '}';
+  }
+}
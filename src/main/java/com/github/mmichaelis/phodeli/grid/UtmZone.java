@@ -0,0 +1,295 @@
+package com.github.mmichaelis.phodeli.grid;
+
+import static com.github.mmichaelis.phodeli.geo.CoordinateNormalizer.wrapLongitude;
+import static com.github.mmichaelis.phodeli.grid.TransverseMercator.RECTIFYING_RADIUS;
+import static java.lang.Math.toDegrees;
+import static java.lang.Math.toRadians;
+import static java.util.Objects.requireNonNull;
+
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+import com.github.mmichaelis.phodeli.measure.Angle;
+import com.github.mmichaelis.phodeli.measure.Length;
+
+import java.io.Serializable;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Zone of the Universal Transverse Mercator (UTM) grid: a six degree wide band of longitudes
+ * in either the northern or the southern hemisphere.
+ * </p>
+ * <p>
+ * Zones are cached instances holding their central meridian and false northing, so that
+ * converting a complete dataset only pays for the projection itself. Locations outside the
+ * zone can still be converted; accuracy degrades slowly with the distance to the central
+ * meridian.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class UtmZone implements Serializable {
+
+  /**
+   * Number of zones per hemisphere.
+   *
+   * @since 1.0.0
+   */
+  public static final int ZONE_COUNT = 60;
+
+  private static final long serialVersionUID = 6082917462931497405L;
+  private static final double SCALE = 0.9996D;
+  private static final double FALSE_EASTING = 500_000D;
+  private static final double SOUTHERN_FALSE_NORTHING = 10_000_000D;
+  private static final double ZONE_WIDTH = 6D;
+  private static final double HALF_CIRCLE = 180D;
+  private static final double SCALED_RADIUS = SCALE * RECTIFYING_RADIUS;
+  private static final UtmZone[] ZONES = zones();
+
+  private final int number;
+  private final boolean northern;
+  /**
+   * Longitude of the central meridian in degrees.
+   */
+  private final transient double centralMeridian;
+  private final transient double falseNorthing;
+
+  private UtmZone(final int number, final boolean northern) {
+    this.number = number;
+    this.northern = northern;
+    centralMeridian = number * ZONE_WIDTH - HALF_CIRCLE - ZONE_WIDTH / 2D;
+    falseNorthing = northern ? 0D : SOUTHERN_FALSE_NORTHING;
+  }
+
+  @NotNull
+  private static UtmZone[] zones() {
+    UtmZone[] zones = new UtmZone[2 * ZONE_COUNT];
+    for (int i = 0; i < ZONE_COUNT; i++) {
+      zones[2 * i] = new UtmZone(i + 1, true);
+      zones[2 * i + 1] = new UtmZone(i + 1, false);
+    }
+    return zones;
+  }
+
+  /**
+   * Provides the given zone.
+   *
+   * @param number   zone number within 1 to 60
+   * @param northern {@code true} for the northern hemisphere
+   * @return zone
+   * @throws IllegalArgumentException if zone number is out of range
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static UtmZone zone(final int number, final boolean northern) {
+    if (number < 1 || number > ZONE_COUNT) {
+      throw new IllegalArgumentException(
+        "Zone number must be within 1 and " + ZONE_COUNT + " but is " + number + '.');
+    }
+    return ZONES[2 * (number - 1) + (northern ? 0 : 1)];
+  }
+
+  /**
+   * Provides the zone containing the given location, respecting the exceptions for southern
+   * Norway and Svalbard.
+   *
+   * @param coordinate location
+   * @return zone
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static UtmZone containing(@NotNull final GeoCoordinate coordinate) {
+    requireNonNull(coordinate, "coordinate must not be null.");
+    return containing(coordinate.getLatitude().toDegrees(),
+                      coordinate.getLongitude().toDegrees());
+  }
+
+  /**
+   * Provides the zone containing the given location, respecting the exceptions for southern
+   * Norway and Svalbard.
+   *
+   * @param latitude  latitude in degrees
+   * @param longitude longitude in degrees
+   * @return zone
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static UtmZone containing(final double latitude, final double longitude) {
+    double wrapped = wrapLongitude(longitude);
+    int number = (int) Math.floor((wrapped + HALF_CIRCLE) / ZONE_WIDTH) + 1;
+    if (latitude >= 56D && latitude < 64D && wrapped >= 3D && wrapped < 12D) {
+      number = 32;
+    } else if (latitude >= 72D && latitude < 84D && wrapped >= 0D && wrapped < 42D) {
+      number = wrapped < 9D ? 31 : wrapped < 21D ? 33 : wrapped < 33D ? 35 : 37;
+    }
+    return zone(Math.min(number, ZONE_COUNT), latitude >= 0D);
+  }
+
+  /**
+   * Number of this zone.
+   *
+   * @return zone number within 1 to 60
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int getNumber() {
+    return number;
+  }
+
+  /**
+   * Hemisphere of this zone.
+   *
+   * @return {@code true} for the northern hemisphere
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public boolean isNorthern() {
+    return northern;
+  }
+
+  /**
+   * Central meridian of this zone.
+   *
+   * @return longitude of the central meridian
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Angle getCentralMeridian() {
+    return Angle.degrees(centralMeridian);
+  }
+
+  /**
+   * Converts the given location to grid coordinates of this zone.
+   *
+   * @param coordinate location
+   * @return UTM coordinate
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public UtmCoordinate toUtm(@NotNull final GeoCoordinate coordinate) {
+    double[] projected = new double[2];
+    project(coordinate.getLatitude().toRadians(), coordinate.getLongitude().toDegrees(),
+            projected);
+    return UtmCoordinate.utm(this, Length.m(projected[0]), Length.m(projected[1]));
+  }
+
+  /**
+   * Converts the given grid coordinates of this zone to a location.
+   *
+   * @param easting  easting
+   * @param northing northing
+   * @return location
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public GeoCoordinate toGeo(@NotNull final Length easting, @NotNull final Length northing) {
+    double[] location = new double[2];
+    unproject(easting.toMeters(), northing.toMeters(), location);
+    return GeoCoordinate.degrees(location[0], location[1]);
+  }
+
+  /**
+   * Converts the given locations to grid coordinates of this zone.
+   *
+   * @param latitudes  latitudes in degrees
+   * @param longitudes longitudes in degrees
+   * @param eastings   target for eastings in meters
+   * @param northings  target for northings in meters
+   * @param count      number of locations to convert, starting at index 0
+   * @since 1.0.0
+   */
+  public void toUtm(@NotNull final double[] latitudes,
+                    @NotNull final double[] longitudes,
+                    @NotNull final double[] eastings,
+                    @NotNull final double[] northings,
+                    final int count) {
+    double[] projected = new double[2];
+    for (int i = 0; i < count; i++) {
+      project(toRadians(latitudes[i]), longitudes[i], projected);
+      eastings[i] = projected[0];
+      northings[i] = projected[1];
+    }
+  }
+
+  /**
+   * Converts the given grid coordinates of this zone to locations.
+   *
+   * @param eastings   eastings in meters
+   * @param northings  northings in meters
+   * @param latitudes  target for latitudes in degrees
+   * @param longitudes target for longitudes in degrees
+   * @param count      number of coordinates to convert, starting at index 0
+   * @since 1.0.0
+   */
+  public void toGeo(@NotNull final double[] eastings,
+                    @NotNull final double[] northings,
+                    @NotNull final double[] latitudes,
+                    @NotNull final double[] longitudes,
+                    final int count) {
+    double[] location = new double[2];
+    for (int i = 0; i < count; i++) {
+      unproject(eastings[i], northings[i], location);
+      latitudes[i] = location[0];
+      longitudes[i] = location[1];
+    }
+  }
+
+  /**
+   * Projects a location given by latitude in radians and longitude in degrees to easting and
+   * northing in meters.
+   */
+  void project(final double latitude, final double longitude, final double[] target) {
+    TransverseMercator.forward(latitude, toRadians(wrapLongitude(longitude - centralMeridian)),
+                               target);
+    target[0] = FALSE_EASTING + SCALED_RADIUS * target[0];
+    target[1] = falseNorthing + SCALED_RADIUS * target[1];
+  }
+
+  /**
+   * Converts easting and northing in meters to latitude and longitude in degrees.
+   */
+  void unproject(final double easting, final double northing, final double[] target) {
+    TransverseMercator.inverse((easting - FALSE_EASTING) / SCALED_RADIUS,
+                               (northing - falseNorthing) / SCALED_RADIUS, target);
+    target[0] = toDegrees(target[0]);
+    target[1] = wrapLongitude(toDegrees(target[1]) + centralMeridian);
+  }
+
+  private Object readResolve() {
+    return zone(number, northern);
+  }
+
+  @Override
+  @Contract(pure = true)
+  public int hashCode() {
+    return 31 * number + (northern ? 1 : 0);
+  }
+
+  @Override
+  @Contract(pure = true)
+  public boolean equals(final Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    UtmZone other = (UtmZone) obj;
+    return number == other.number && northern == other.northern;
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{number=" + number + ", northern=" + northern + '}';
+  }
+}
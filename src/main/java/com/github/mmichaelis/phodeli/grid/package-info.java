@@ -0,0 +1,15 @@
+/**
+ * <p>
+ * Projected grid coordinates such as UTM, MGRS and the Swiss LV95 grid, and their conversion
+ * from and to WGS 84 coordinates.
+ * </p>
+ * <p>
+ * Bulk operations use the structure-of-arrays layout of
+ * {@link com.github.mmichaelis.phodeli.geo}: latitudes and longitudes in degrees, eastings and
+ * northings in meters as separate {@code double} arrays.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+package com.github.mmichaelis.phodeli.grid;
@@ -0,0 +1,104 @@
+package com.github.mmichaelis.phodeli.internal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Thread-safe cache of values computed per key, bounded by the number of keys and evicting the
+ * least recently used key. Values are computed outside of the lock, thus concurrent requests
+ * for the same key may compute it twice, but all of them get the same instance.
+ * </p>
+ *
+ * @param <K> type of the keys
+ * @param <V> type of the values
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+public final class LruCache<K, V> {
+
+  private final int capacity;
+  @NotNull
+  private final Function<@NotNull K, @NotNull V> factory;
+  @NotNull
+  private final LinkedHashMap<K, V> entries;
+
+  /**
+   * Creates a cache.
+   *
+   * @param capacity maximum number of keys to keep
+   * @param factory  computes the value of a key not kept
+   * @throws IllegalArgumentException if capacity is less than 1
+   */
+  public LruCache(final int capacity, @NotNull final Function<@NotNull K, @NotNull V> factory) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Capacity must be positive but is " + capacity + '.');
+    }
+    this.capacity = capacity;
+    this.factory = requireNonNull(factory, "factory must not be null.");
+    entries = new LinkedHashMap<K, V>(16, 0.75F, true) {
+      private static final long serialVersionUID = -2218226802592264546L;
+
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+        return size() > LruCache.this.capacity;
+      }
+    };
+  }
+
+  /**
+   * Provides the value of the given key, computing it if not kept.
+   *
+   * @param key key
+   * @return value
+   */
+  @NotNull
+  public V get(@NotNull final K key) {
+    requireNonNull(key, "key must not be null.");
+    synchronized (entries) {
+      V value = entries.get(key);
+      if (value != null) {
+        return value;
+      }
+    }
+    V value = factory.apply(key);
+    synchronized (entries) {
+      V previous = entries.putIfAbsent(key, value);
+      return previous == null ? value : previous;
+    }
+  }
+
+  /**
+   * Maximum number of keys to keep.
+   *
+   * @return capacity
+   */
+  @Contract(pure = true)
+  public int getCapacity() {
+    return capacity;
+  }
+
+  /**
+   * Number of keys currently kept.
+   *
+   * @return number of keys
+   */
+  @Contract(pure = true)
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{capacity=" + capacity + ", size=" + size() + '}';
+  }
+}
@@ -0,0 +1,55 @@
+package com.github.mmichaelis.phodeli.internal;
+
+import java.util.stream.IntStream;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Splits bulk operations on arrays of locations into chunks processed in parallel. Chunks are
+ * large enough to outweigh the overhead of parallel streams, and small enough to balance the
+ * load of thousands of locations over all cores.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+public final class ParallelChunks {
+
+  /**
+   * Number of locations processed as one unit of work.
+   *
+   * @since 1.0.0
+   */
+  public static final int CHUNK_SIZE = 4096;
+
+  private ParallelChunks() {
+  }
+
+  /**
+   * Processes the indexes from 0 to the given count in chunks, in parallel.
+   *
+   * @param count    number of indexes
+   * @param consumer receives the index range of each chunk
+   */
+  public static void forEachChunk(final int count, @NotNull final ChunkConsumer consumer) {
+    int chunks = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    IntStream.range(0, chunks).parallel().forEach(
+      chunk -> consumer.accept(chunk * CHUNK_SIZE, Math.min(count, (chunk + 1) * CHUNK_SIZE)));
+  }
+
+  /**
+   * Processes one chunk.
+   */
+  @FunctionalInterface
+  public interface ChunkConsumer {
+
+    /**
+     * Processes the indexes of one chunk.
+     *
+     * @param from first index
+     * @param to   index after the last index
+     */
+    void accept(int from, int to);
+  }
+}
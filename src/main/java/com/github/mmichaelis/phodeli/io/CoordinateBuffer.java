@@ -0,0 +1,250 @@
+package com.github.mmichaelis.phodeli.io;
+
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Collects coordinates into growing primitive arrays, remembering where lines start and end.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class CoordinateBuffer implements CoordinateHandler {
+
+  private static final int DEFAULT_CAPACITY = 1024;
+
+  @NotNull
+  private double[] latitudes;
+  @NotNull
+  private double[] longitudes;
+  private int size;
+  /**
+   * Start and end offset of each line, alternating.
+   */
+  @NotNull
+  private int[] lines = new int[16];
+  private int lineCount;
+  private boolean inLine;
+
+  private CoordinateBuffer(final int capacity) {
+    latitudes = new double[capacity];
+    longitudes = new double[capacity];
+  }
+
+  /**
+   * Creates a buffer with default initial capacity.
+   *
+   * @return buffer
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static CoordinateBuffer coordinateBuffer() {
+    return new CoordinateBuffer(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates a buffer.
+   *
+   * @param capacity initial capacity
+   * @return buffer
+   * @throws IllegalArgumentException if capacity is negative
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static CoordinateBuffer coordinateBuffer(final int capacity) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("Capacity must not be negative but is " + capacity + '.');
+    }
+    return new CoordinateBuffer(capacity);
+  }
+
+  @Override
+  public void coordinate(final double latitude, final double longitude) {
+    if (size == latitudes.length) {
+      int capacity = Math.max(DEFAULT_CAPACITY, size + (size >> 1));
+      latitudes = Arrays.copyOf(latitudes, capacity);
+      longitudes = Arrays.copyOf(longitudes, capacity);
+    }
+    latitudes[size] = latitude;
+    longitudes[size] = longitude;
+    size++;
+  }
+
+  @Override
+  public void coordinate(@NotNull final GeoCoordinate coordinate) {
+    coordinate(coordinate.getLatitude().toDegrees(), coordinate.getLongitude().toDegrees());
+  }
+
+  @Override
+  public void startLine() {
+    if (inLine) {
+      endLine();
+    }
+    if (2 * lineCount + 2 > lines.length) {
+      lines = Arrays.copyOf(lines, lines.length * 2);
+    }
+    lines[2 * lineCount] = size;
+    inLine = true;
+  }
+
+  @Override
+  public void endLine() {
+    if (inLine) {
+      lines[2 * lineCount + 1] = size;
+      lineCount++;
+      inLine = false;
+    }
+  }
+
+  /**
+   * Number of collected coordinates.
+   *
+   * @return number of coordinates
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Coordinate at the given index.
+   *
+   * @param index index of the coordinate
+   * @return coordinate
+   * @throws IndexOutOfBoundsException if index is out of range
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public GeoCoordinate getCoordinate(final int index) {
+    checkIndex(index, size);
+    return GeoCoordinate.degrees(latitudes[index], longitudes[index]);
+  }
+
+  /**
+   * Latitudes of all collected coordinates.
+   *
+   * @return copy of the latitudes in degrees
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public double[] getLatitudes() {
+    return Arrays.copyOf(latitudes, size);
+  }
+
+  /**
+   * Longitudes of all collected coordinates.
+   *
+   * @return copy of the longitudes in degrees
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public double[] getLongitudes() {
+    return Arrays.copyOf(longitudes, size);
+  }
+
+  /**
+   * Number of completed lines.
+   *
+   * @return number of lines
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int getLineCount() {
+    return lineCount;
+  }
+
+  /**
+   * Index of the first coordinate of the given line.
+   *
+   * @param line index of the line
+   * @return index of the first coordinate
+   * @throws IndexOutOfBoundsException if line is out of range
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int getLineStart(final int line) {
+    checkIndex(line, lineCount);
+    return lines[2 * line];
+  }
+
+  /**
+   * Index after the last coordinate of the given line.
+   *
+   * @param line index of the line
+   * @return index after the last coordinate
+   * @throws IndexOutOfBoundsException if line is out of range
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int getLineEnd(final int line) {
+    checkIndex(line, lineCount);
+    return lines[2 * line + 1];
+  }
+
+  /**
+   * Replays all coordinates to the given handler, for example to write them: first all single
+   * coordinates, then all lines, each in the order they were collected. This is the order GPX
+   * requires. Coordinates of a line not yet ended are not replayed.
+   *
+   * @param handler handler to receive coordinates
+   * @throws IOException if the handler fails
+   * @since 1.0.0
+   */
+  public void replay(@NotNull final CoordinateHandler handler) throws IOException {
+    int position = 0;
+    for (int line = 0; line < lineCount; line++) {
+      for (; position < lines[2 * line]; position++) {
+        handler.coordinate(latitudes[position], longitudes[position]);
+      }
+      position = lines[2 * line + 1];
+    }
+    int linesEnd = inLine ? lines[2 * lineCount] : size;
+    for (; position < linesEnd; position++) {
+      handler.coordinate(latitudes[position], longitudes[position]);
+    }
+    for (int line = 0; line < lineCount; line++) {
+      handler.startLine();
+      for (int i = lines[2 * line]; i < lines[2 * line + 1]; i++) {
+        handler.coordinate(latitudes[i], longitudes[i]);
+      }
+      handler.endLine();
+    }
+  }
+
+  /**
+   * Removes all coordinates and lines, keeping the capacity.
+   *
+   * @since 1.0.0
+   */
+  public void clear() {
+    size = 0;
+    lineCount = 0;
+    inLine = false;
+  }
+
+  private static void checkIndex(final int index, final int size) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index " + index + " out of range [0, " + size + ").");
+    }
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{size=" + size + ", lineCount=" + lineCount + '}';
+  }
+}
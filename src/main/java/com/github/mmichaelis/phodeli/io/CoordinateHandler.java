@@ -0,0 +1,60 @@
+package com.github.mmichaelis.phodeli.io;
+
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+
+import java.io.IOException;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Receives coordinates while reading or produces output while writing. Coordinates between
+ * {@link #startLine()} and {@link #endLine()} form a line such as a track or route, all others
+ * are single locations such as waypoints.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface CoordinateHandler {
+
+  /**
+   * Handles a coordinate.
+   *
+   * @param latitude  latitude in degrees
+   * @param longitude longitude in degrees
+   * @throws IOException if handling fails, for example when writing
+   * @since 1.0.0
+   */
+  void coordinate(double latitude, double longitude) throws IOException;
+
+  /**
+   * Handles a coordinate.
+   *
+   * @param coordinate coordinate
+   * @throws IOException if handling fails, for example when writing
+   * @since 1.0.0
+   */
+  default void coordinate(@NotNull final GeoCoordinate coordinate) throws IOException {
+    coordinate(coordinate.getLatitude().toDegrees(), coordinate.getLongitude().toDegrees());
+  }
+
+  /**
+   * Signals the start of a line.
+   *
+   * @throws IOException if handling fails, for example when writing
+   * @since 1.0.0
+   */
+  default void startLine() throws IOException {
+  }
+
+  /**
+   * Signals the end of a line.
+   *
+   * @throws IOException if handling fails, for example when writing
+   * @since 1.0.0
+   */
+  default void endLine() throws IOException {
+  }
+}
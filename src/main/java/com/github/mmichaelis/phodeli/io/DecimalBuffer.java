@@ -0,0 +1,119 @@
+package com.github.mmichaelis.phodeli.io;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Reusable buffer formatting decimal numbers with a fixed maximum number of fraction digits,
+ * without the intermediate strings and locale handling of {@link String#format(String,
+ * Object...)} or {@link Double#toString(double)}. Trailing zeros are omitted.
+ * </p>
+ * <p>
+ * Instances are not thread-safe; each writer uses its own buffer.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+final class DecimalBuffer {
+
+  /**
+   * Maximum number of fraction digits; 9 digits of a degree are about 0.1&nbsp;mm.
+   */
+  static final int MAX_FRACTION_DIGITS = 9;
+
+  private static final long[] POWERS_OF_TEN = {
+    1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L,
+    1_000_000_000L,
+  };
+  /**
+   * Magnitude up to which scaled values safely fit into a {@code long}.
+   */
+  private static final double MAX_MAGNITUDE = 1.0E9D;
+
+  private final int fractionDigits;
+  @NotNull
+  private final char[] chars = new char[32];
+  private int length;
+
+  DecimalBuffer(final int fractionDigits) {
+    if (fractionDigits < 0 || fractionDigits > MAX_FRACTION_DIGITS) {
+      throw new IllegalArgumentException(
+        "Fraction digits must be within 0 and " + MAX_FRACTION_DIGITS + " but are "
+        + fractionDigits + '.');
+    }
+    this.fractionDigits = fractionDigits;
+  }
+
+  /**
+   * Formats the given value into this buffer, replacing the previous content.
+   *
+   * @throws IllegalArgumentException if value is not finite or too large
+   */
+  void format(final double value) {
+    if (!(Math.abs(value) < MAX_MAGNITUDE)) {
+      throw new IllegalArgumentException("Cannot format " + value + '.');
+    }
+    long scaled = Math.round(Math.abs(value) * POWERS_OF_TEN[fractionDigits]);
+    long integer = scaled / POWERS_OF_TEN[fractionDigits];
+    long fraction = scaled % POWERS_OF_TEN[fractionDigits];
+    int digits = fractionDigits;
+    while (digits > 0 && fraction % 10L == 0L) {
+      fraction /= 10L;
+      digits--;
+    }
+    length = 0;
+    if (value < 0D && scaled != 0L) {
+      chars[length++] = '-';
+    }
+    int start = length;
+    do {
+      chars[length++] = (char) ('0' + integer % 10L);
+      integer /= 10L;
+    } while (integer > 0L);
+    reverse(start, length);
+    if (digits > 0) {
+      chars[length++] = '.';
+      for (int i = digits - 1; i >= 0; i--) {
+        chars[length + i] = (char) ('0' + fraction % 10L);
+        fraction /= 10L;
+      }
+      length += digits;
+    }
+  }
+
+  private void reverse(final int start, final int end) {
+    for (int i = start, j = end - 1; i < j; i++, j--) {
+      char swap = chars[i];
+      chars[i] = chars[j];
+      chars[j] = swap;
+    }
+  }
+
+  /**
+   * Writes the formatted value.
+   */
+  void writeTo(@NotNull final Writer writer) throws IOException {
+    writer.write(chars, 0, length);
+  }
+
+  /**
+   * Formatted value.
+   */
+  @NotNull
+  @Contract(pure = true)
+  String asString() {
+    return new String(chars, 0, length);
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{fractionDigits=" + fractionDigits + ", value=" + asString()
+           + '}';
+  }
+}
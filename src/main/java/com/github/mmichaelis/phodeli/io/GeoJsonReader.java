@@ -0,0 +1,424 @@
+package com.github.mmichaelis.phodeli.io;
+
+import static com.github.mmichaelis.phodeli.io.CoordinateBuffer.coordinateBuffer;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Reads GeoJSON as a stream of characters, reporting the positions of all geometries wherever
+ * they occur: in feature collections, features, geometry collections or as bare geometry.
+ * Every innermost array of positions is reported as a line, such as a {@code LineString} or
+ * the rings of a {@code Polygon}, unless it belongs to a {@code MultiPoint} geometry.
+ * </p>
+ * <p>
+ * The document is never materialized: memory consumption is bounded by the length of the
+ * longest key or number, thus independent of the size of the input. Only if the
+ * {@code coordinates} of a geometry precede its {@code type}, they are buffered until the end
+ * of the geometry. Properties and all other members are skipped, even if they contain
+ * {@code coordinates}.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class GeoJsonReader {
+
+  private static final int BUFFER_SIZE = 8192;
+  private static final String COORDINATES = "coordinates";
+  private static final String TYPE = "type";
+  private static final String MULTI_POINT = "MultiPoint";
+  private static final String GEOMETRY = "geometry";
+  private static final String GEOMETRIES = "geometries";
+  private static final String FEATURES = "features";
+
+  @NotNull
+  private final Reader reader;
+  @NotNull
+  private final CoordinateHandler handler;
+  @NotNull
+  private final char[] buffer = new char[BUFFER_SIZE];
+  @NotNull
+  private final StringBuilder text = new StringBuilder();
+  private int position;
+  private int limit;
+  private long offset;
+  private long count;
+
+  private GeoJsonReader(@NotNull final Reader reader, @NotNull final CoordinateHandler handler) {
+    this.reader = reader;
+    this.handler = handler;
+  }
+
+  /**
+   * Reads the given GeoJSON file, expected to be encoded in UTF-8.
+   *
+   * @param path    file to read
+   * @param handler handler to receive coordinates
+   * @return number of coordinates read
+   * @throws IOException if reading fails or the file is malformed
+   * @since 1.0.0
+   */
+  public static long read(@NotNull final Path path, @NotNull final CoordinateHandler handler)
+    throws IOException {
+    try (Reader in = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+      return read(in, handler);
+    }
+  }
+
+  /**
+   * Reads GeoJSON from the given reader. The reader is not closed.
+   *
+   * @param reader  reader to read from
+   * @param handler handler to receive coordinates
+   * @return number of coordinates read
+   * @throws IOException if reading fails or the input is malformed
+   * @since 1.0.0
+   */
+  public static long read(@NotNull final Reader reader, @NotNull final CoordinateHandler handler)
+    throws IOException {
+    GeoJsonReader geoJsonReader =
+      new GeoJsonReader(requireNonNull(reader, "reader must not be null."),
+                        requireNonNull(handler, "handler must not be null."));
+    geoJsonReader.value(true);
+    if (geoJsonReader.peek() != -1) {
+      throw geoJsonReader.malformed("unexpected content after document");
+    }
+    return geoJsonReader.count;
+  }
+
+  /**
+   * Skips any value, looking for coordinates within GeoJSON objects.
+   *
+   * @param geoJson whether objects within the value are GeoJSON objects, such as the document
+   *                itself, a {@code geometry} or the elements of {@code features} or
+   *                {@code geometries}; otherwise, such as for {@code properties}, the value is
+   *                just skipped
+   */
+  private void value(final boolean geoJson) throws IOException {
+    int c = peek();
+    switch (c) {
+      case '{':
+        object(geoJson);
+        break;
+      case '[':
+        position++;
+        if (peek() == ']') {
+          position++;
+          return;
+        }
+        do {
+          value(geoJson);
+        } while (separator(']'));
+        break;
+      case '"':
+        string();
+        break;
+      default:
+        if (isNumberStart(c)) {
+          number();
+        } else if (c >= 'a' && c <= 'z') {
+          literal();
+        } else {
+          throw malformed("unexpected " + describe(c));
+        }
+    }
+  }
+
+  private void object(final boolean geoJson) throws IOException {
+    position++;
+    if (peek() == '}') {
+      position++;
+      return;
+    }
+    boolean typed = false;
+    boolean multiPoint = false;
+    CoordinateBuffer deferred = null;
+    do {
+      if (peek() != '"') {
+        throw malformed("expected key but found " + describe(peek()));
+      }
+      string();
+      boolean coordinates = geoJson && contentEquals(COORDINATES);
+      boolean type = geoJson && contentEquals(TYPE);
+      boolean member = geoJson && (contentEquals(GEOMETRY) || contentEquals(GEOMETRIES)
+                                   || contentEquals(FEATURES));
+      if (peek() != ':') {
+        throw malformed("expected ':' but found " + describe(peek()));
+      }
+      position++;
+      if (coordinates && typed) {
+        coordinates(handler, multiPoint);
+      } else if (coordinates) {
+        // The type is yet unknown, thus whether arrays of positions are lines.
+        deferred = deferred == null ? coordinateBuffer() : deferred;
+        coordinates(deferred, false);
+      } else if (type && peek() == '"') {
+        string();
+        typed = true;
+        multiPoint = contentEquals(MULTI_POINT);
+      } else {
+        value(member);
+      }
+    } while (separator('}'));
+    if (deferred != null) {
+      replay(deferred, multiPoint);
+    }
+  }
+
+  /**
+   * Passes coordinates read before the type of their geometry to the handler.
+   */
+  private void replay(@NotNull final CoordinateBuffer deferred, final boolean multiPoint)
+    throws IOException {
+    if (!multiPoint) {
+      deferred.replay(handler);
+      return;
+    }
+    double[] latitudes = deferred.getLatitudes();
+    double[] longitudes = deferred.getLongitudes();
+    for (int i = 0; i < latitudes.length; i++) {
+      handler.coordinate(latitudes[i], longitudes[i]);
+    }
+  }
+
+  /**
+   * Reads a coordinates member: a position or arbitrarily nested arrays of positions.
+   */
+  private void coordinates(@NotNull final CoordinateHandler target, final boolean multiPoint)
+    throws IOException {
+    if (peek() != '[') {
+      // Such as null coordinates.
+      value(false);
+      return;
+    }
+    position++;
+    coordinateArray(target, multiPoint);
+  }
+
+  /**
+   * Reads the content of a coordinates array after its opening bracket.
+   */
+  private void coordinateArray(@NotNull final CoordinateHandler target, final boolean multiPoint)
+    throws IOException {
+    int c = peek();
+    if (isNumberStart(c)) {
+      positionValues(target);
+      return;
+    }
+    if (c == ']') {
+      position++;
+      return;
+    }
+    boolean line = false;
+    do {
+      if (peek() != '[') {
+        throw malformed("expected '[' but found " + describe(peek()));
+      }
+      position++;
+      if (isNumberStart(peek())) {
+        if (!line && !multiPoint) {
+          target.startLine();
+          line = true;
+        }
+        positionValues(target);
+      } else {
+        coordinateArray(target, multiPoint);
+      }
+    } while (separator(']'));
+    if (line) {
+      target.endLine();
+    }
+  }
+
+  /**
+   * Reads the numbers of a position after its opening bracket: longitude, latitude and
+   * optional further values such as altitude.
+   */
+  private void positionValues(@NotNull final CoordinateHandler target) throws IOException {
+    double longitude = number();
+    if (!separator(']')) {
+      throw malformed("position requires longitude and latitude");
+    }
+    double latitude = number();
+    while (separator(']')) {
+      number();
+    }
+    target.coordinate(latitude, longitude);
+    count++;
+  }
+
+  /**
+   * Reads a separator within an array or object.
+   *
+   * @return {@code true} if another element follows, {@code false} at the closing character
+   */
+  private boolean separator(final char close) throws IOException {
+    int c = peek();
+    position++;
+    if (c == ',') {
+      return true;
+    }
+    if (c == close) {
+      return false;
+    }
+    throw malformed("expected ',' or '" + close + "' but found " + describe(c));
+  }
+
+  private double number() throws IOException {
+    int c = peek();
+    text.setLength(0);
+    while (c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E' || c >= '0' && c <= '9') {
+      text.append((char) c);
+      position++;
+      c = position < limit ? buffer[position] : fill() ? buffer[position] : -1;
+    }
+    try {
+      return Double.parseDouble(text.toString());
+    } catch (NumberFormatException e) {
+      throw malformed("invalid number '" + text + '\'');
+    }
+  }
+
+  /**
+   * Reads a string into the text buffer, resolving escapes.
+   */
+  private void string() throws IOException {
+    position++;
+    text.setLength(0);
+    while (true) {
+      if (position >= limit && !fill()) {
+        throw malformed("unterminated string");
+      }
+      char c = buffer[position++];
+      if (c == '"') {
+        return;
+      }
+      if (c == '\\') {
+        if (position >= limit && !fill()) {
+          throw malformed("unterminated string");
+        }
+        char escaped = buffer[position++];
+        text.append(escaped == 'u' ? unicode() : unescape(escaped));
+      } else {
+        text.append(c);
+      }
+    }
+  }
+
+  private char unicode() throws IOException {
+    int value = 0;
+    for (int i = 0; i < 4; i++) {
+      if (position >= limit && !fill()) {
+        throw malformed("unterminated string");
+      }
+      int digit = Character.digit(buffer[position++], 16);
+      if (digit < 0) {
+        throw malformed("invalid unicode escape");
+      }
+      value = value << 4 | digit;
+    }
+    return (char) value;
+  }
+
+  @Contract(pure = true)
+  private static char unescape(final char escaped) {
+    switch (escaped) {
+      case 'b':
+        return '\b';
+      case 'f':
+        return '\f';
+      case 'n':
+        return '\n';
+      case 'r':
+        return '\r';
+      case 't':
+        return '\t';
+      default:
+        return escaped;
+    }
+  }
+
+  private void literal() throws IOException {
+    text.setLength(0);
+    int c = peek();
+    while (c >= 'a' && c <= 'z') {
+      text.append((char) c);
+      position++;
+      c = position < limit ? buffer[position] : fill() ? buffer[position] : -1;
+    }
+    if (!contentEquals("true") && !contentEquals("false") && !contentEquals("null")) {
+      throw malformed("invalid literal '" + text + '\'');
+    }
+  }
+
+  @Contract(pure = true)
+  private boolean contentEquals(@NotNull final String expected) {
+    if (text.length() != expected.length()) {
+      return false;
+    }
+    for (int i = 0; i < expected.length(); i++) {
+      if (text.charAt(i) != expected.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Next character which is not whitespace, without consuming it.
+   *
+   * @return character or -1 at the end of input
+   */
+  private int peek() throws IOException {
+    while (true) {
+      if (position >= limit && !fill()) {
+        return -1;
+      }
+      char c = buffer[position];
+      if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+        return c;
+      }
+      position++;
+    }
+  }
+
+  /**
+   * Refills the buffer.
+   *
+   * @return {@code false} at the end of input
+   */
+  private boolean fill() throws IOException {
+    offset += limit;
+    int read = reader.read(buffer, 0, buffer.length);
+    limit = Math.max(0, read);
+    position = 0;
+    return read > 0;
+  }
+
+  @Contract(pure = true)
+  private static boolean isNumberStart(final int c) {
+    return c == '-' || c >= '0' && c <= '9';
+  }
+
+  @NotNull
+  @Contract(pure = true)
+  private static String describe(final int c) {
+    return c < 0 ? "end of input" : "'" + (char) c + '\'';
+  }
+
+  @NotNull
+  @Contract(pure = true)
+  private IOException malformed(@NotNull final String message) {
+    return new IOException("Malformed GeoJSON at offset " + (offset + position) + ": " + message);
+  }
+}
@@ -0,0 +1,199 @@
+package com.github.mmichaelis.phodeli.io;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Writes a GeoJSON feature collection: single coordinates as {@code Point} features, lines as
+ * {@code LineString} features, one feature per line of output.
+ * </p>
+ * <p>
+ * Output is streamed to the underlying writer; coordinates are formatted through a reusable
+ * buffer, so that writing allocates nothing per coordinate.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class GeoJsonWriter implements CoordinateHandler, Closeable, Flushable {
+
+  /**
+   * Default number of fraction digits of degrees, which resolves about a centimeter.
+   *
+   * @since 1.0.0
+   */
+  public static final int DEFAULT_FRACTION_DIGITS = 7;
+
+  private static final String HEADER = "{\"type\":\"FeatureCollection\",\"features\":[\n";
+  private static final String FOOTER = "\n]}\n";
+  private static final String POINT_START =
+    "{\"type\":\"Feature\",\"geometry\":{\"type\":\"Point\",\"coordinates\":";
+  private static final String LINE_START =
+    "{\"type\":\"Feature\",\"geometry\":{\"type\":\"LineString\",\"coordinates\":[";
+  private static final String POINT_END = "},\"properties\":{}}";
+  private static final String LINE_END = "]},\"properties\":{}}";
+
+  @NotNull
+  private final Writer writer;
+  @NotNull
+  private final DecimalBuffer buffer;
+  private boolean firstFeature = true;
+  private boolean inLine;
+  private boolean firstInLine;
+  private boolean closed;
+
+  private GeoJsonWriter(@NotNull final Writer writer, final int fractionDigits)
+    throws IOException {
+    this.writer = writer;
+    buffer = new DecimalBuffer(fractionDigits);
+    writer.write(HEADER);
+  }
+
+  /**
+   * Starts writing GeoJSON with {@link #DEFAULT_FRACTION_DIGITS}.
+   *
+   * @param writer writer to write to
+   * @return GeoJSON writer
+   * @throws IOException if writing fails
+   * @since 1.0.0
+   */
+  @NotNull
+  public static GeoJsonWriter geoJsonWriter(@NotNull final Writer writer) throws IOException {
+    return geoJsonWriter(writer, DEFAULT_FRACTION_DIGITS);
+  }
+
+  /**
+   * Starts writing GeoJSON.
+   *
+   * @param writer         writer to write to
+   * @param fractionDigits maximum number of fraction digits of degrees, within 0 and 9
+   * @return GeoJSON writer
+   * @throws IOException              if writing fails
+   * @throws IllegalArgumentException if fraction digits are out of range
+   * @since 1.0.0
+   */
+  @NotNull
+  public static GeoJsonWriter geoJsonWriter(@NotNull final Writer writer,
+                                            final int fractionDigits) throws IOException {
+    return new GeoJsonWriter(requireNonNull(writer, "writer must not be null."), fractionDigits);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws IllegalStateException if closed
+   */
+  @Override
+  public void coordinate(final double latitude, final double longitude) throws IOException {
+    checkOpen();
+    if (inLine) {
+      if (!firstInLine) {
+        writer.write(',');
+      }
+      firstInLine = false;
+      position(latitude, longitude);
+    } else {
+      startFeature();
+      writer.write(POINT_START);
+      position(latitude, longitude);
+      writer.write(POINT_END);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws IllegalStateException if a line is already started, or if closed
+   */
+  @Override
+  public void startLine() throws IOException {
+    checkOpen();
+    if (inLine) {
+      throw new IllegalStateException("Line already started.");
+    }
+    startFeature();
+    writer.write(LINE_START);
+    inLine = true;
+    firstInLine = true;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws IllegalStateException if no line is started, or if closed
+   */
+  @Override
+  public void endLine() throws IOException {
+    checkOpen();
+    if (!inLine) {
+      throw new IllegalStateException("No line started.");
+    }
+    writer.write(LINE_END);
+    inLine = false;
+  }
+
+  @Override
+  public void flush() throws IOException {
+    writer.flush();
+  }
+
+  /**
+   * Ends a pending line, completes the document and closes the underlying writer.
+   *
+   * @throws IOException if writing fails
+   */
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    if (inLine) {
+      endLine();
+    }
+    closed = true;
+    try (Writer closing = writer) {
+      closing.write(FOOTER);
+    }
+  }
+
+  private void startFeature() throws IOException {
+    if (!firstFeature) {
+      writer.write(",\n");
+    }
+    firstFeature = false;
+  }
+
+  /**
+   * Writes a position, which is longitude first in GeoJSON.
+   */
+  private void position(final double latitude, final double longitude) throws IOException {
+    writer.write('[');
+    buffer.format(longitude);
+    buffer.writeTo(writer);
+    writer.write(',');
+    buffer.format(latitude);
+    buffer.writeTo(writer);
+    writer.write(']');
+  }
+
+  private void checkOpen() {
+    if (closed) {
+      throw new IllegalStateException("Writer already closed.");
+    }
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{inLine=" + inLine + ", closed=" + closed + '}';
+  }
+}
@@ -0,0 +1,139 @@
+package com.github.mmichaelis.phodeli.io;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Reads GPX files with the streaming XML API (StAX): waypoints are reported as single
+ * coordinates, each route and each track segment as a line.
+ * </p>
+ * <p>
+ * Only the coordinates are read; all other elements are skipped without being materialized,
+ * thus memory consumption does not depend on the size of the file. DTDs and external entities
+ * are not supported.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class GpxReader {
+
+  private static final XMLInputFactory INPUT_FACTORY = inputFactory();
+  private static final String WAYPOINT = "wpt";
+  private static final String ROUTE = "rte";
+  private static final String ROUTE_POINT = "rtept";
+  private static final String TRACK_SEGMENT = "trkseg";
+  private static final String TRACK_POINT = "trkpt";
+  private static final String LATITUDE = "lat";
+  private static final String LONGITUDE = "lon";
+
+  private GpxReader() {
+  }
+
+  @NotNull
+  private static XMLInputFactory inputFactory() {
+    XMLInputFactory factory = XMLInputFactory.newInstance();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+    return factory;
+  }
+
+  /**
+   * Reads the given GPX file.
+   *
+   * @param path    file to read
+   * @param handler handler to receive coordinates
+   * @return number of coordinates read
+   * @throws IOException if reading fails or the file is malformed
+   * @since 1.0.0
+   */
+  public static long read(@NotNull final Path path, @NotNull final CoordinateHandler handler)
+    throws IOException {
+    try (InputStream in = Files.newInputStream(path)) {
+      return read(in, handler);
+    }
+  }
+
+  /**
+   * Reads GPX from the given stream. The stream is not closed.
+   *
+   * @param in      stream to read
+   * @param handler handler to receive coordinates
+   * @return number of coordinates read
+   * @throws IOException if reading fails or the input is malformed
+   * @since 1.0.0
+   */
+  public static long read(@NotNull final InputStream in, @NotNull final CoordinateHandler handler)
+    throws IOException {
+    requireNonNull(in, "in must not be null.");
+    requireNonNull(handler, "handler must not be null.");
+    XMLStreamReader reader = null;
+    try {
+      reader = INPUT_FACTORY.createXMLStreamReader(in);
+      return read(reader, handler);
+    } catch (XMLStreamException e) {
+      throw new IOException("Malformed GPX: " + e.getMessage(), e);
+    } finally {
+      if (reader != null) {
+        try {
+          reader.close();
+        } catch (XMLStreamException ignored) {
+          // Closing the reader does not close the stream; nothing to release.
+        }
+      }
+    }
+  }
+
+  private static long read(@NotNull final XMLStreamReader reader,
+                           @NotNull final CoordinateHandler handler)
+    throws XMLStreamException, IOException {
+    long count = 0L;
+    while (reader.hasNext()) {
+      int event = reader.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        String name = reader.getLocalName();
+        if (WAYPOINT.equals(name) || ROUTE_POINT.equals(name) || TRACK_POINT.equals(name)) {
+          handler.coordinate(coordinate(reader, LATITUDE), coordinate(reader, LONGITUDE));
+          count++;
+        } else if (ROUTE.equals(name) || TRACK_SEGMENT.equals(name)) {
+          handler.startLine();
+        }
+      } else if (event == XMLStreamConstants.END_ELEMENT) {
+        String name = reader.getLocalName();
+        if (ROUTE.equals(name) || TRACK_SEGMENT.equals(name)) {
+          handler.endLine();
+        }
+      }
+    }
+    return count;
+  }
+
+  private static double coordinate(@NotNull final XMLStreamReader reader,
+                                   @NotNull final String attribute) throws IOException {
+    String value = reader.getAttributeValue(null, attribute);
+    if (value == null) {
+      throw new IOException(
+        "Malformed GPX: missing attribute " + attribute + " at " + reader.getLocation());
+    }
+    try {
+      return Double.parseDouble(value);
+    } catch (NumberFormatException e) {
+      throw new IOException(
+        "Malformed GPX: invalid " + attribute + " '" + value + "' at " + reader.getLocation(), e);
+    }
+  }
+}
@@ -0,0 +1,174 @@
+package com.github.mmichaelis.phodeli.io;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Writes GPX 1.1: single coordinates as waypoints, lines as tracks of one segment each.
+ * </p>
+ * <p>
+ * Output is streamed to the underlying writer; coordinates are formatted through a reusable
+ * buffer, so that writing allocates nothing per coordinate. As GPX requires waypoints to
+ * precede all tracks, single coordinates must not follow the first line.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class GpxWriter implements CoordinateHandler, Closeable, Flushable {
+
+  /**
+   * Default number of fraction digits of degrees, which resolves about a centimeter.
+   *
+   * @since 1.0.0
+   */
+  public static final int DEFAULT_FRACTION_DIGITS = 7;
+
+  private static final String HEADER = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                                       + "<gpx version=\"1.1\" creator=\"phodeli\""
+                                       + " xmlns=\"http://www.topografix.com/GPX/1/1\">\n";
+  private static final String FOOTER = "</gpx>\n";
+
+  @NotNull
+  private final Writer writer;
+  @NotNull
+  private final DecimalBuffer buffer;
+  private boolean inLine;
+  private boolean afterLines;
+  private boolean closed;
+
+  private GpxWriter(@NotNull final Writer writer, final int fractionDigits) throws IOException {
+    this.writer = writer;
+    buffer = new DecimalBuffer(fractionDigits);
+    writer.write(HEADER);
+  }
+
+  /**
+   * Starts writing GPX with {@link #DEFAULT_FRACTION_DIGITS}.
+   *
+   * @param writer writer to write to; expected to encode UTF-8
+   * @return GPX writer
+   * @throws IOException if writing fails
+   * @since 1.0.0
+   */
+  @NotNull
+  public static GpxWriter gpxWriter(@NotNull final Writer writer) throws IOException {
+    return gpxWriter(writer, DEFAULT_FRACTION_DIGITS);
+  }
+
+  /**
+   * Starts writing GPX.
+   *
+   * @param writer         writer to write to; expected to encode UTF-8
+   * @param fractionDigits maximum number of fraction digits of degrees, within 0 and 9
+   * @return GPX writer
+   * @throws IOException              if writing fails
+   * @throws IllegalArgumentException if fraction digits are out of range
+   * @since 1.0.0
+   */
+  @NotNull
+  public static GpxWriter gpxWriter(@NotNull final Writer writer, final int fractionDigits)
+    throws IOException {
+    return new GpxWriter(requireNonNull(writer, "writer must not be null."), fractionDigits);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws IllegalStateException if a single coordinate follows a line, or if closed
+   */
+  @Override
+  public void coordinate(final double latitude, final double longitude) throws IOException {
+    checkOpen();
+    if (inLine) {
+      writer.write("   <trkpt");
+    } else if (afterLines) {
+      throw new IllegalStateException("GPX requires waypoints to precede all tracks.");
+    } else {
+      writer.write(" <wpt");
+    }
+    writer.write(" lat=\"");
+    buffer.format(latitude);
+    buffer.writeTo(writer);
+    writer.write("\" lon=\"");
+    buffer.format(longitude);
+    buffer.writeTo(writer);
+    writer.write("\"/>\n");
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws IllegalStateException if a line is already started, or if closed
+   */
+  @Override
+  public void startLine() throws IOException {
+    checkOpen();
+    if (inLine) {
+      throw new IllegalStateException("Line already started.");
+    }
+    writer.write(" <trk>\n  <trkseg>\n");
+    inLine = true;
+    afterLines = true;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws IllegalStateException if no line is started, or if closed
+   */
+  @Override
+  public void endLine() throws IOException {
+    checkOpen();
+    if (!inLine) {
+      throw new IllegalStateException("No line started.");
+    }
+    writer.write("  </trkseg>\n </trk>\n");
+    inLine = false;
+  }
+
+  @Override
+  public void flush() throws IOException {
+    writer.flush();
+  }
+
+  /**
+   * Ends a pending line, completes the document and closes the underlying writer.
+   *
+   * @throws IOException if writing fails
+   */
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    if (inLine) {
+      endLine();
+    }
+    closed = true;
+    try (Writer closing = writer) {
+      closing.write(FOOTER);
+    }
+  }
+
+  private void checkOpen() {
+    if (closed) {
+      throw new IllegalStateException("Writer already closed.");
+    }
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{inLine=" + inLine + ", closed=" + closed + '}';
+  }
+}
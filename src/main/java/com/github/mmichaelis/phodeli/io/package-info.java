@@ -0,0 +1,15 @@
+/**
+ * <p>
+ * Streaming import and export of locations and routes as GPX and GeoJSON.
+ * </p>
+ * <p>
+ * Readers report coordinates to a {@link com.github.mmichaelis.phodeli.io.CoordinateHandler}
+ * while reading, thus they run in constant memory regardless of the size of the input.
+ * Writers are handlers themselves, so that converting between formats never holds more than a
+ * single coordinate.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+package com.github.mmichaelis.phodeli.io;
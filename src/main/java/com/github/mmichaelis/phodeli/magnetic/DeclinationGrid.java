@@ -0,0 +1,305 @@
+package com.github.mmichaelis.phodeli.magnetic;
+
+import static com.github.mmichaelis.phodeli.internal.ParallelChunks.forEachChunk;
+import static java.lang.Math.atan2;
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+import static java.lang.Math.toDegrees;
+import static java.lang.Math.toRadians;
+
+import com.github.mmichaelis.phodeli.geo.GeoBounds;
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+import com.github.mmichaelis.phodeli.magnetic.MagneticModel.Coefficients;
+import com.github.mmichaelis.phodeli.measure.Angle;
+
+import java.time.LocalDate;
+import java.util.stream.IntStream;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * <p>
+ * Declinations of a {@link MagneticModel} on one date, precomputed on a grid and interpolated
+ * bilinearly, to convert thousands of bearings between true north and magnetic north. As the
+ * declination varies slowly, a spacing of one degree keeps the interpolation error far below
+ * the accuracy of a compass, except close to the magnetic poles.
+ * </p>
+ * <p>
+ * The direction of magnetic north is interpolated rather than the angle, so that there are no
+ * jumps where the declination passes &plusmn;180&deg;. Locations outside of the grid are
+ * evaluated exactly by the model.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @see MagneticModel#grid(GeoBounds, Angle, LocalDate)
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class DeclinationGrid {
+
+  private static final double FULL_CIRCLE = 360D;
+
+  @NotNull
+  private final MagneticModel model;
+  @NotNull
+  private final Coefficients coefficients;
+  @NotNull
+  private final LocalDate date;
+  @NotNull
+  private final GeoBounds bounds;
+  private final double south;
+  private final double west;
+  private final double latitudeSpan;
+  private final double longitudeSpan;
+  private final int rows;
+  private final int columns;
+  private final double latitudeStep;
+  private final double longitudeStep;
+  /**
+   * Cosine and sine of the declination per node, row by row from south to north.
+   */
+  @NotNull
+  private final double[] cosines;
+  @NotNull
+  private final double[] sines;
+
+  DeclinationGrid(@NotNull final MagneticModel model,
+                  @NotNull final Coefficients coefficients,
+                  @NotNull final LocalDate date,
+                  @NotNull final GeoBounds bounds,
+                  @NotNull final Angle spacingAngle) {
+    double spacing = spacingAngle.toDegrees();
+    if (!(spacing > 0D) || Double.isInfinite(spacing)) {
+      throw new IllegalArgumentException(
+        "Spacing must be positive but is " + spacingAngle + '.');
+    }
+    this.model = model;
+    this.coefficients = coefficients;
+    this.date = date;
+    this.bounds = bounds;
+    south = bounds.getSouth().toDegrees();
+    west = bounds.getWest().toDegrees();
+    latitudeSpan = bounds.getLatitudeSpan().toDegrees();
+    longitudeSpan = bounds.getLongitudeSpan().toDegrees();
+    rows = (int) Math.ceil(latitudeSpan / spacing) + 1;
+    columns = (int) Math.ceil(longitudeSpan / spacing) + 1;
+    if ((long) rows * columns > Integer.MAX_VALUE - 8) {
+      throw new IllegalArgumentException(
+        "Spacing " + spacingAngle + " results in too many nodes for " + bounds + '.');
+    }
+    latitudeStep = rows > 1 ? latitudeSpan / (rows - 1) : 0D;
+    longitudeStep = columns > 1 ? longitudeSpan / (columns - 1) : 0D;
+    cosines = new double[rows * columns];
+    sines = new double[rows * columns];
+    IntStream.range(0, rows).parallel().forEach(row -> {
+      double latitude = south + row * latitudeStep;
+      for (int column = 0; column < columns; column++) {
+        double declination = toRadians(
+          model.declination(coefficients, latitude, west + column * longitudeStep));
+        cosines[row * columns + column] = cos(declination);
+        sines[row * columns + column] = sin(declination);
+      }
+    });
+  }
+
+  /**
+   * Date of the declinations.
+   *
+   * @return date
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public LocalDate getDate() {
+    return date;
+  }
+
+  /**
+   * Bounds covered by the grid.
+   *
+   * @return bounds
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public GeoBounds getBounds() {
+    return bounds;
+  }
+
+  /**
+   * Number of nodes from south to north.
+   *
+   * @return number of rows
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int getRows() {
+    return rows;
+  }
+
+  /**
+   * Number of nodes from west to east.
+   *
+   * @return number of columns
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int getColumns() {
+    return columns;
+  }
+
+  /**
+   * Declination at the given location.
+   *
+   * @param coordinate location
+   * @return declination, positive if magnetic north is east of true north
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Angle declination(@NotNull final GeoCoordinate coordinate) {
+    return Angle.degrees(declination(coordinate.getLatitude().toDegrees(),
+                                     coordinate.getLongitude().toDegrees()));
+  }
+
+  /**
+   * Declinations at all the given locations, evaluated in parallel.
+   *
+   * @param latitudes    latitudes in degrees
+   * @param longitudes   longitudes in degrees
+   * @param count        number of locations, starting at index 0
+   * @param declinations target for declinations in degrees
+   * @throws IllegalArgumentException if count exceeds the arrays
+   * @since 1.0.0
+   */
+  public void declinations(@NotNull final double[] latitudes,
+                           @NotNull final double[] longitudes,
+                           final int count,
+                           @NotNull final double[] declinations) {
+    checkLengths(latitudes, longitudes, count, declinations, declinations);
+    convert(latitudes, longitudes, count, null, 1D, declinations);
+  }
+
+  /**
+   * Converts bearings relative to true north into compass bearings relative to magnetic north,
+   * in parallel.
+   *
+   * @param latitudes    latitudes in degrees
+   * @param longitudes   longitudes in degrees
+   * @param trueBearings bearings relative to true north in degrees
+   * @param count        number of locations, starting at index 0
+   * @param target       target for magnetic bearings in degrees within {@code [0, 360)}; may
+   *                     be {@code trueBearings} to convert in place
+   * @throws IllegalArgumentException if count exceeds the arrays
+   * @since 1.0.0
+   */
+  public void magneticBearings(@NotNull final double[] latitudes,
+                               @NotNull final double[] longitudes,
+                               @NotNull final double[] trueBearings,
+                               final int count,
+                               @NotNull final double[] target) {
+    checkLengths(latitudes, longitudes, count, trueBearings, target);
+    convert(latitudes, longitudes, count, trueBearings, -1D, target);
+  }
+
+  /**
+   * Converts compass bearings relative to magnetic north into bearings relative to true north,
+   * in parallel.
+   *
+   * @param latitudes        latitudes in degrees
+   * @param longitudes       longitudes in degrees
+   * @param magneticBearings bearings relative to magnetic north in degrees
+   * @param count            number of locations, starting at index 0
+   * @param target           target for true bearings in degrees within {@code [0, 360)}; may
+   *                         be {@code magneticBearings} to convert in place
+   * @throws IllegalArgumentException if count exceeds the arrays
+   * @since 1.0.0
+   */
+  public void trueBearings(@NotNull final double[] latitudes,
+                           @NotNull final double[] longitudes,
+                           @NotNull final double[] magneticBearings,
+                           final int count,
+                           @NotNull final double[] target) {
+    checkLengths(latitudes, longitudes, count, magneticBearings, target);
+    convert(latitudes, longitudes, count, magneticBearings, 1D, target);
+  }
+
+  /**
+   * Declination at the given location, interpolated within the grid.
+   *
+   * @return declination in degrees within {@code [-180, 180]}
+   */
+  @Contract(pure = true)
+  double declination(final double latitude, final double longitude) {
+    double deltaLatitude = latitude - south;
+    double deltaLongitude = longitude - west;
+    deltaLongitude -= FULL_CIRCLE * Math.floor(deltaLongitude / FULL_CIRCLE);
+    if (!(deltaLatitude >= 0D && deltaLatitude <= latitudeSpan
+          && deltaLongitude <= longitudeSpan)) {
+      return model.declination(coefficients, latitude, longitude);
+    }
+    double y = latitudeStep > 0D ? deltaLatitude / latitudeStep : 0D;
+    double x = longitudeStep > 0D ? deltaLongitude / longitudeStep : 0D;
+    int row = Math.min((int) y, Math.max(0, rows - 2));
+    int column = Math.min((int) x, Math.max(0, columns - 2));
+    double fy = Math.min(1D, y - row);
+    double fx = Math.min(1D, x - column);
+    int nextRow = Math.min(row + 1, rows - 1) - row;
+    int nextColumn = Math.min(column + 1, columns - 1) - column;
+    int i00 = row * columns + column;
+    int i01 = i00 + nextColumn;
+    int i10 = i00 + nextRow * columns;
+    int i11 = i10 + nextColumn;
+    double cosine = (1D - fy) * ((1D - fx) * cosines[i00] + fx * cosines[i01])
+                    + fy * ((1D - fx) * cosines[i10] + fx * cosines[i11]);
+    double sine = (1D - fy) * ((1D - fx) * sines[i00] + fx * sines[i01])
+                  + fy * ((1D - fx) * sines[i10] + fx * sines[i11]);
+    return toDegrees(atan2(sine, cosine));
+  }
+
+  /**
+   * Stores {@code bearing + sign * declination} for all locations, normalized to
+   * {@code [0, 360)}, or just the declinations if there are no bearings.
+   */
+  private void convert(@NotNull final double[] latitudes,
+                       @NotNull final double[] longitudes,
+                       final int count,
+                       @Nullable final double[] bearings,
+                       final double sign,
+                       @NotNull final double[] target) {
+    forEachChunk(count, (from, to) -> {
+      for (int i = from; i < to; i++) {
+        double declination = sign * declination(latitudes[i], longitudes[i]);
+        if (bearings == null) {
+          target[i] = declination;
+        } else {
+          double bearing = bearings[i] + declination;
+          target[i] = bearing - FULL_CIRCLE * Math.floor(bearing / FULL_CIRCLE);
+        }
+      }
+    });
+  }
+
+  private static void checkLengths(@NotNull final double[] latitudes,
+                                   @NotNull final double[] longitudes,
+                                   final int count,
+                                   @NotNull final double[] values,
+                                   @NotNull final double[] target) {
+    if (count > latitudes.length || count > longitudes.length || count > values.length
+        || count > target.length) {
+      throw new IllegalArgumentException(
+        "Count " + count + " exceeds latitudes (" + latitudes.length + "), longitudes ("
+        + longitudes.length + "), values (" + values.length + ") or target (" + target.length
+        + ").");
+    }
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{model=" + model + ", date=" + date + ", bounds=" + bounds
+           + ", rows=" + rows + ", columns=" + columns + '}';
+  }
+}
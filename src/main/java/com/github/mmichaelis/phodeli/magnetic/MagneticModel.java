@@ -0,0 +1,433 @@
+package com.github.mmichaelis.phodeli.magnetic;
+
+import static java.lang.Math.atan2;
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+import static java.lang.Math.sqrt;
+import static java.lang.Math.toDegrees;
+import static java.lang.Math.toRadians;
+import static java.util.Objects.requireNonNull;
+
+import com.github.mmichaelis.phodeli.geo.GeoBounds;
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+import com.github.mmichaelis.phodeli.internal.LruCache;
+import com.github.mmichaelis.phodeli.measure.Angle;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Evaluates the main field of a spherical harmonic model of the earth's magnetic field, such
+ * as the World Magnetic Model (WMM), read from a coefficient file in the format of
+ * {@code WMM.COF}. The main use is the declination, the angle from true north to magnetic
+ * north, to convert between true bearings and compass bearings.
+ * </p>
+ * <p>
+ * Coefficients are adjusted to the requested date by their secular variation. Adjusted
+ * coefficients are cached per date, evicting the least recently used date, and the constants
+ * of the Legendre recursion are computed once when reading the model. For thousands of
+ * locations, prefer a {@link DeclinationGrid}, which interpolates between precomputed
+ * declinations.
+ * </p>
+ * <p>
+ * Locations are given on the WGS 84 ellipsoid at sea level. Models are valid for about five
+ * years from their epoch; other dates are extrapolated with decreasing accuracy. The
+ * declination is undefined at the geographic poles.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class MagneticModel {
+
+  /**
+   * Reference radius of the model in kilometers.
+   */
+  private static final double REFERENCE_RADIUS = 6371.2D;
+  /**
+   * WGS 84 semi-major axis in kilometers.
+   */
+  private static final double WGS84_SEMI_MAJOR_AXIS = 6378.137D;
+  private static final double WGS84_FLATTENING = 1D / 298.257223563D;
+  private static final double WGS84_E2 = WGS84_FLATTENING * (2D - WGS84_FLATTENING);
+  /**
+   * Smallest cosine of the geocentric latitude, to avoid the division by zero at the poles.
+   */
+  private static final double MIN_COS_LATITUDE = 1.0E-12D;
+  private static final int CACHE_CAPACITY = 16;
+  /**
+   * Start of the line terminating the coefficients.
+   */
+  private static final String END_MARKER = "9999";
+
+  @NotNull
+  private final String name;
+  private final double epoch;
+  private final int maxDegree;
+  /**
+   * Coefficients at the epoch and their annual change, indexed by {@link #index(int, int)}.
+   */
+  @NotNull
+  private final double[] g;
+  @NotNull
+  private final double[] h;
+  @NotNull
+  private final double[] gRates;
+  @NotNull
+  private final double[] hRates;
+  /**
+   * Factors of the Schmidt semi-normalized Legendre recursion from degree {@code n - 1} and
+   * {@code n - 2} to {@code n}, indexed by {@link #index(int, int)}; on the diagonal the first
+   * factor is the one from {@code P(n - 1, n - 1)} to {@code P(n, n)}.
+   */
+  @NotNull
+  private final double[] recursion1;
+  @NotNull
+  private final double[] recursion2;
+  @NotNull
+  private final LruCache<LocalDate, Coefficients> dates;
+
+  private MagneticModel(@NotNull final String name,
+                        final double epoch,
+                        final int maxDegree,
+                        @NotNull final double[] g,
+                        @NotNull final double[] h,
+                        @NotNull final double[] gRates,
+                        @NotNull final double[] hRates) {
+    this.name = name;
+    this.epoch = epoch;
+    this.maxDegree = maxDegree;
+    this.g = g;
+    this.h = h;
+    this.gRates = gRates;
+    this.hRates = hRates;
+    recursion1 = new double[g.length];
+    recursion2 = new double[g.length];
+    for (int n = 1; n <= maxDegree; n++) {
+      recursion1[index(n, n)] = n == 1 ? 1D : sqrt(1D - 1D / (2D * n));
+      for (int m = 0; m < n; m++) {
+        double norm = sqrt((double) n * n - (double) m * m);
+        recursion1[index(n, m)] = (2D * n - 1D) / norm;
+        recursion2[index(n, m)] = sqrt((n - 1D) * (n - 1D) - (double) m * m) / norm;
+      }
+    }
+    dates = new LruCache<>(CACHE_CAPACITY, this::adjust);
+  }
+
+  /**
+   * Reads a model from a coefficient file in the format of {@code WMM.COF}.
+   *
+   * @param path coefficient file
+   * @return model
+   * @throws IOException if the file cannot be read or is malformed
+   * @since 1.0.0
+   */
+  @NotNull
+  public static MagneticModel magneticModel(@NotNull final Path path) throws IOException {
+    requireNonNull(path, "path must not be null.");
+    try (Reader reader = Files.newBufferedReader(path, StandardCharsets.US_ASCII)) {
+      return magneticModel(reader);
+    }
+  }
+
+  /**
+   * Reads a model in the format of {@code WMM.COF}: a header with epoch and name, followed by
+   * one line per coefficient with degree, order, {@code g}, {@code h} and their annual changes,
+   * and terminated by a line of nines or the end of input.
+   *
+   * @param reader reader for the coefficients; not closed
+   * @return model
+   * @throws IOException if reading fails or the coefficients are malformed
+   * @since 1.0.0
+   */
+  @NotNull
+  public static MagneticModel magneticModel(@NotNull final Reader reader) throws IOException {
+    requireNonNull(reader, "reader must not be null.");
+    BufferedReader lines = reader instanceof BufferedReader
+                           ? (BufferedReader) reader
+                           : new BufferedReader(reader);
+    String header = lines.readLine();
+    while (header != null && header.trim().isEmpty()) {
+      header = lines.readLine();
+    }
+    if (header == null) {
+      throw new IOException("Malformed coefficients: missing header.");
+    }
+    String[] headerFields = header.trim().split("\\s+");
+    double epoch = number(headerFields[0], 1);
+    String name = headerFields.length > 1 ? headerFields[1] : "";
+    List<double[]> rows = new ArrayList<>();
+    int maxDegree = 0;
+    int lineNumber = 1;
+    for (String line = lines.readLine(); line != null; line = lines.readLine()) {
+      lineNumber++;
+      String trimmed = line.trim();
+      if (trimmed.startsWith(END_MARKER)) {
+        break;
+      }
+      if (trimmed.isEmpty()) {
+        continue;
+      }
+      String[] fields = trimmed.split("\\s+");
+      if (fields.length < 6) {
+        throw new IOException(
+          "Malformed coefficients: expected 6 fields at line " + lineNumber + " but got "
+          + fields.length + '.');
+      }
+      double[] row = new double[6];
+      for (int i = 0; i < row.length; i++) {
+        row[i] = number(fields[i], lineNumber);
+      }
+      int n = (int) row[0];
+      int m = (int) row[1];
+      if (n != row[0] || m != row[1] || n < 1 || m < 0 || m > n) {
+        throw new IOException(
+          "Malformed coefficients: invalid degree " + fields[0] + " and order " + fields[1]
+          + " at line " + lineNumber + '.');
+      }
+      maxDegree = Math.max(maxDegree, n);
+      rows.add(row);
+    }
+    if (maxDegree == 0) {
+      throw new IOException("Malformed coefficients: no coefficients.");
+    }
+    int size = index(maxDegree + 1, 0);
+    double[] g = new double[size];
+    double[] h = new double[size];
+    double[] gRates = new double[size];
+    double[] hRates = new double[size];
+    for (double[] row : rows) {
+      int index = index((int) row[0], (int) row[1]);
+      g[index] = row[2];
+      h[index] = row[3];
+      gRates[index] = row[4];
+      hRates[index] = row[5];
+    }
+    return new MagneticModel(name, epoch, maxDegree, g, h, gRates, hRates);
+  }
+
+  /**
+   * Name of the model, such as {@code WMM-2020}.
+   *
+   * @return name; empty if the header has none
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Epoch of the coefficients as decimal year.
+   *
+   * @return epoch, such as 2020.0
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public double getEpoch() {
+    return epoch;
+  }
+
+  /**
+   * Highest degree of the spherical harmonics.
+   *
+   * @return maximum degree, such as 12 for the WMM
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int getMaxDegree() {
+    return maxDegree;
+  }
+
+  /**
+   * Declination at the given location and date.
+   *
+   * @param coordinate location
+   * @param date       date
+   * @return declination, positive if magnetic north is east of true north
+   * @since 1.0.0
+   */
+  @NotNull
+  public Angle declination(@NotNull final GeoCoordinate coordinate,
+                           @NotNull final LocalDate date) {
+    return Angle.degrees(declination(coefficients(date), coordinate.getLatitude().toDegrees(),
+                                     coordinate.getLongitude().toDegrees()));
+  }
+
+  /**
+   * Precomputes the declinations on the given date for a grid covering the given bounds.
+   * Nodes are evenly distributed, at most {@code spacing} apart, and computed in parallel.
+   *
+   * @param bounds  bounds to cover
+   * @param spacing maximum spacing of the nodes in latitude and longitude
+   * @param date    date
+   * @return grid
+   * @throws IllegalArgumentException if spacing is not positive or the grid is too large
+   * @since 1.0.0
+   */
+  @NotNull
+  public DeclinationGrid grid(@NotNull final GeoBounds bounds,
+                              @NotNull final Angle spacing,
+                              @NotNull final LocalDate date) {
+    requireNonNull(bounds, "bounds must not be null.");
+    requireNonNull(spacing, "spacing must not be null.");
+    return new DeclinationGrid(this, coefficients(date), date, bounds, spacing);
+  }
+
+  /**
+   * Provides the coefficients adjusted to the given date, computing them if not cached.
+   */
+  @NotNull
+  Coefficients coefficients(@NotNull final LocalDate date) {
+    return dates.get(requireNonNull(date, "date must not be null."));
+  }
+
+  /**
+   * Adjusts the coefficients to the given date by their secular variation.
+   */
+  @NotNull
+  @Contract(pure = true)
+  private Coefficients adjust(@NotNull final LocalDate date) {
+    double years = date.getYear() + (date.getDayOfYear() - 1D) / date.lengthOfYear() - epoch;
+    double[] adjustedG = new double[g.length];
+    double[] adjustedH = new double[h.length];
+    for (int i = 0; i < g.length; i++) {
+      adjustedG[i] = g[i] + years * gRates[i];
+      adjustedH[i] = h[i] + years * hRates[i];
+    }
+    return new Coefficients(adjustedG, adjustedH);
+  }
+
+  /**
+   * Declination for the given coefficients.
+   *
+   * @param coefficients coefficients adjusted to the date
+   * @param latitude     geodetic latitude in degrees
+   * @param longitude    longitude in degrees
+   * @return declination in degrees within {@code [-180, 180]}
+   */
+  @Contract(pure = true)
+  double declination(@NotNull final Coefficients coefficients,
+                     final double latitude,
+                     final double longitude) {
+    double sinLatitude = sin(toRadians(latitude));
+    double cosLatitude = cos(toRadians(latitude));
+    double curvature = WGS84_SEMI_MAJOR_AXIS
+                       / sqrt(1D - WGS84_E2 * sinLatitude * sinLatitude);
+    double p = curvature * cosLatitude;
+    double z = curvature * (1D - WGS84_E2) * sinLatitude;
+    double radius = Math.hypot(p, z);
+    // Geocentric colatitude: cosine is the sine of the geocentric latitude and vice versa.
+    double cosTheta = z / radius;
+    double sinTheta = Math.max(MIN_COS_LATITUDE, p / radius);
+    double lambda = toRadians(longitude);
+    double sinLambda = sin(lambda);
+    double cosLambda = cos(lambda);
+    double[] legendre = new double[g.length];
+    double[] derivative = new double[g.length];
+    double[] cosM = new double[maxDegree + 1];
+    double[] sinM = new double[maxDegree + 1];
+    legendre[0] = 1D;
+    cosM[0] = 1D;
+    for (int m = 1; m <= maxDegree; m++) {
+      cosM[m] = cosM[m - 1] * cosLambda - sinM[m - 1] * sinLambda;
+      sinM[m] = sinM[m - 1] * cosLambda + cosM[m - 1] * sinLambda;
+    }
+    double ratio = REFERENCE_RADIUS / radius;
+    double power = ratio * ratio;
+    double north = 0D;
+    double east = 0D;
+    double down = 0D;
+    for (int n = 1; n <= maxDegree; n++) {
+      power *= ratio;
+      int row = index(n, 0);
+      int previousRow = index(n - 1, 0);
+      int secondRow = n > 1 ? index(n - 2, 0) : 0;
+      for (int m = 0; m < n; m++) {
+        double previous = legendre[previousRow + m];
+        double previousDerivative = derivative[previousRow + m];
+        double second = m <= n - 2 ? legendre[secondRow + m] : 0D;
+        double secondDerivative = m <= n - 2 ? derivative[secondRow + m] : 0D;
+        legendre[row + m] = recursion1[row + m] * cosTheta * previous
+                            - recursion2[row + m] * second;
+        derivative[row + m] = recursion1[row + m]
+                              * (cosTheta * previousDerivative - sinTheta * previous)
+                              - recursion2[row + m] * secondDerivative;
+      }
+      double diagonal = legendre[previousRow + n - 1];
+      legendre[row + n] = recursion1[row + n] * sinTheta * diagonal;
+      derivative[row + n] = recursion1[row + n]
+                            * (sinTheta * derivative[previousRow + n - 1] + cosTheta * diagonal);
+      double sumNorth = 0D;
+      double sumEast = 0D;
+      double sumDown = 0D;
+      for (int m = 0; m <= n; m++) {
+        double gnm = coefficients.g[row + m];
+        double hnm = coefficients.h[row + m];
+        double cosine = gnm * cosM[m] + hnm * sinM[m];
+        sumNorth += cosine * derivative[row + m];
+        sumEast += m * (gnm * sinM[m] - hnm * cosM[m]) * legendre[row + m];
+        sumDown += cosine * legendre[row + m];
+      }
+      north += power * sumNorth;
+      east += power * sumEast;
+      down -= (n + 1D) * power * sumDown;
+    }
+    east /= sinTheta;
+    // Rotate the geocentric north component into the geodetic frame.
+    double sinPsi = cosTheta * cosLatitude - sinTheta * sinLatitude;
+    double cosPsi = sinTheta * cosLatitude + cosTheta * sinLatitude;
+    return toDegrees(atan2(east, north * cosPsi - down * sinPsi));
+  }
+
+  @Contract(pure = true)
+  private static int index(final int n, final int m) {
+    return n * (n + 1) / 2 + m;
+  }
+
+  private static double number(@NotNull final String value, final int lineNumber)
+    throws IOException {
+    try {
+      return Double.parseDouble(value);
+    } catch (NumberFormatException e) {
+      throw new IOException(
+        "Malformed coefficients: invalid number '" + value + "' at line " + lineNumber + '.', e);
+    }
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{name=" + name + ", epoch=" + epoch + ", maxDegree=" + maxDegree
+           + '}';
+  }
+
+  /**
+   * Coefficients adjusted to a date.
+   */
+  static final class Coefficients {
+
+    @NotNull
+    private final double[] g;
+    @NotNull
+    private final double[] h;
+
+    private Coefficients(@NotNull final double[] g, @NotNull final double[] h) {
+      this.g = g;
+      this.h = h;
+    }
+  }
+}
@@ -0,0 +1,15 @@
+/**
+ * <p>
+ * The earth's magnetic field from spherical harmonic models such as the World Magnetic Model,
+ * to convert between the true bearings used throughout this library and the magnetic bearings
+ * of a compass.
+ * </p>
+ * <p>
+ * Bulk operations use the structure-of-arrays layout of {@link com.github.mmichaelis.phodeli.geo}:
+ * latitudes and longitudes in degrees as separate {@code double} arrays.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+package com.github.mmichaelis.phodeli.magnetic;
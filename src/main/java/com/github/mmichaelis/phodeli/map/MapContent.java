@@ -0,0 +1,411 @@
+package com.github.mmichaelis.phodeli.map;
+
+import static java.util.Objects.requireNonNull;
+
+import com.github.mmichaelis.phodeli.geo.GeoBounds;
+import com.github.mmichaelis.phodeli.route.Route;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntConsumer;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Content to draw onto map tiles by {@link TileRenderer}: spots, routes and bounds.
+ * </p>
+ * <p>
+ * Content is immutable; the {@code with} methods provide extended copies. Spots are bucketed
+ * by tile lazily per zoom level, routes and bounds keep their extent in world coordinates, so
+ * that the features touching a tile are found without visiting all of them. Each feature
+ * contributes to the content hash of the tiles it touches, thus changing a few spots only
+ * changes the hashes of the tiles around them.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class MapContent {
+
+  private static final MapContent EMPTY =
+    new MapContent(new double[0], new double[0], Collections.emptyList(),
+                   Collections.emptyList());
+  private static final double HALF_CIRCLE = 180D;
+  private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+  @NotNull
+  private final double[] spotLatitudes;
+  @NotNull
+  private final double[] spotLongitudes;
+  @NotNull
+  private final List<Polyline> routes;
+  /**
+   * Bounds as rectangles in world coordinates; bounds crossing the antimeridian are split.
+   */
+  @NotNull
+  private final List<double[]> bounds;
+  @NotNull
+  private final Map<Integer, TileBuckets> spotBuckets = new ConcurrentHashMap<>();
+
+  private MapContent(@NotNull final double[] spotLatitudes,
+                     @NotNull final double[] spotLongitudes,
+                     @NotNull final List<Polyline> routes,
+                     @NotNull final List<double[]> bounds) {
+    this.spotLatitudes = spotLatitudes;
+    this.spotLongitudes = spotLongitudes;
+    this.routes = routes;
+    this.bounds = bounds;
+  }
+
+  /**
+   * Content without any features.
+   *
+   * @return empty content
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static MapContent empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Copy of this content with the given spots replacing the current ones.
+   *
+   * @param latitudes  latitudes of the spots in degrees
+   * @param longitudes longitudes of the spots in degrees
+   * @return content with spots
+   * @throws IllegalArgumentException if arrays differ in length
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public MapContent withSpots(@NotNull final double[] latitudes,
+                              @NotNull final double[] longitudes) {
+    checkLengths(latitudes, longitudes);
+    return new MapContent(latitudes.clone(), longitudes.clone(), routes, bounds);
+  }
+
+  /**
+   * Copy of this content with an additional route through the given locations in order.
+   *
+   * @param latitudes  latitudes of the route in degrees
+   * @param longitudes longitudes of the route in degrees
+   * @return content with route
+   * @throws IllegalArgumentException if arrays differ in length
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public MapContent withRoute(@NotNull final double[] latitudes,
+                              @NotNull final double[] longitudes) {
+    checkLengths(latitudes, longitudes);
+    List<Polyline> extended = new ArrayList<>(routes);
+    extended.add(new Polyline(latitudes.clone(), longitudes.clone()));
+    return new MapContent(spotLatitudes, spotLongitudes, Collections.unmodifiableList(extended),
+                          bounds);
+  }
+
+  /**
+   * Copy of this content with an additional route visiting the given locations in the order
+   * of the route, returning to the start for closed routes.
+   *
+   * @param route      order of the locations
+   * @param latitudes  latitudes of the locations in degrees
+   * @param longitudes longitudes of the locations in degrees
+   * @return content with route
+   * @throws IllegalArgumentException if arrays differ in length
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public MapContent withRoute(@NotNull final Route route,
+                              @NotNull final double[] latitudes,
+                              @NotNull final double[] longitudes) {
+    checkLengths(latitudes, longitudes);
+    int size = route.size();
+    int points = route.isClosed() && size > 0 ? size + 1 : size;
+    double[] routeLatitudes = new double[points];
+    double[] routeLongitudes = new double[points];
+    for (int i = 0; i < points; i++) {
+      int index = route.getIndex(i % size);
+      routeLatitudes[i] = latitudes[index];
+      routeLongitudes[i] = longitudes[index];
+    }
+    List<Polyline> extended = new ArrayList<>(routes);
+    extended.add(new Polyline(routeLatitudes, routeLongitudes));
+    return new MapContent(spotLatitudes, spotLongitudes, Collections.unmodifiableList(extended),
+                          bounds);
+  }
+
+  /**
+   * Copy of this content with additional bounds to outline.
+   *
+   * @param outline bounds to outline
+   * @return content with bounds
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public MapContent withBounds(@NotNull final GeoBounds outline) {
+    requireNonNull(outline, "outline must not be null.");
+    double west = WebMercator.x(outline.getWest());
+    double east = WebMercator.x(outline.getEast());
+    double north = WebMercator.y(outline.getNorth());
+    double south = WebMercator.y(outline.getSouth());
+    List<double[]> extended = new ArrayList<>(bounds);
+    if (outline.crossesAntimeridian()) {
+      extended.add(new double[]{west, north, 1D, south});
+      extended.add(new double[]{0D, north, east, south});
+    } else {
+      extended.add(new double[]{west, north, east, south});
+    }
+    return new MapContent(spotLatitudes, spotLongitudes, routes,
+                          Collections.unmodifiableList(extended));
+  }
+
+  /**
+   * Number of spots.
+   *
+   * @return number of spots
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int getSpotCount() {
+    return spotLatitudes.length;
+  }
+
+  /**
+   * Number of routes.
+   *
+   * @return number of routes
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int getRouteCount() {
+    return routes.size();
+  }
+
+  /**
+   * Number of outlined bounds, counting bounds crossing the antimeridian twice.
+   *
+   * @return number of bounds
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int getBoundsCount() {
+    return bounds.size();
+  }
+
+  /**
+   * Reports the spots which are drawn on the given tile, that is the spots within the tile or
+   * its neighbors which are less than the margin away from the tile's edges.
+   *
+   * @param tile     tile
+   * @param margin   margin in pixels
+   * @param consumer consumer of spot indices
+   */
+  void forEachSpot(@NotNull final Tile tile,
+                   final double margin,
+                   @NotNull final IntConsumer consumer) {
+    if (spotLatitudes.length == 0) {
+      return;
+    }
+    int zoom = tile.getZoom();
+    TileBuckets buckets = spotBuckets.computeIfAbsent(
+      zoom, z -> TileBuckets.bucket(spotLatitudes, spotLongitudes, z));
+    double[] extent = extent(tile, margin);
+    long tiles = 1L << zoom;
+    // Columns wrap around the antimeridian, just as in Tile.covering; at low zoom levels there
+    // are less than three distinct neighbouring columns.
+    int columns = (int) Math.min(3L, tiles);
+    for (int y = tile.getY() - 1; y <= tile.getY() + 1; y++) {
+      for (int column = -1; column < columns - 1; column++) {
+        int x = (int) Math.floorMod(tile.getX() + column, tiles);
+        if (y < 0 || y >= tiles) {
+          continue;
+        }
+        boolean center = x == tile.getX() && y == tile.getY();
+        buckets.forEach(Tile.tile(zoom, x, y), index -> {
+          if (center || contains(extent, worldX(spotLongitudes[index], tile),
+                                 WebMercator.y(spotLatitudes[index]))) {
+            consumer.accept(index);
+          }
+        });
+      }
+    }
+  }
+
+  /**
+   * World x of the given longitude, shifted by whole worlds to be next to the given tile, so
+   * that locations across the antimeridian are next to tiles at the edge of the world.
+   */
+  @Contract(pure = true)
+  static double worldX(final double longitude, @NotNull final Tile tile) {
+    double x = WebMercator.x(longitude);
+    double center = (tile.getX() + 0.5D) / (1L << tile.getZoom());
+    return x - Math.ceil(x - center - 0.5D);
+  }
+
+  /**
+   * Reports the routes whose extent overlaps the given tile enlarged by the margin.
+   */
+  void forEachRoute(@NotNull final Tile tile,
+                    final double margin,
+                    @NotNull final IntConsumer consumer) {
+    double[] extent = extent(tile, margin);
+    for (int i = 0; i < routes.size(); i++) {
+      if (overlaps(extent, routes.get(i).extent)) {
+        consumer.accept(i);
+      }
+    }
+  }
+
+  /**
+   * Reports the bounds whose outline may cross the given tile enlarged by the margin.
+   */
+  void forEachBounds(@NotNull final Tile tile,
+                     final double margin,
+                     @NotNull final IntConsumer consumer) {
+    double[] extent = extent(tile, margin);
+    for (int i = 0; i < bounds.size(); i++) {
+      double[] rectangle = bounds.get(i);
+      boolean inside = rectangle[0] < extent[0] && rectangle[1] < extent[1]
+                       && rectangle[2] > extent[2] && rectangle[3] > extent[3];
+      if (overlaps(extent, rectangle) && !inside) {
+        consumer.accept(i);
+      }
+    }
+  }
+
+  @Contract(pure = true)
+  double getSpotLatitude(final int index) {
+    return spotLatitudes[index];
+  }
+
+  @Contract(pure = true)
+  double getSpotLongitude(final int index) {
+    return spotLongitudes[index];
+  }
+
+  @NotNull
+  @Contract(pure = true)
+  double[] getRouteLatitudes(final int index) {
+    return routes.get(index).latitudes;
+  }
+
+  @NotNull
+  @Contract(pure = true)
+  double[] getRouteLongitudes(final int index) {
+    return routes.get(index).longitudes;
+  }
+
+  @Contract(pure = true)
+  long getRouteHash(final int index) {
+    return routes.get(index).hash;
+  }
+
+  /**
+   * Bounds as rectangle in world coordinates: west, north, east, south.
+   */
+  @NotNull
+  @Contract(pure = true)
+  double[] getBounds(final int index) {
+    return bounds.get(index);
+  }
+
+  /**
+   * Combines a hash with the next value.
+   */
+  @Contract(pure = true)
+  static long mix(final long hash, final long value) {
+    long mixed = (hash ^ value) * GOLDEN_GAMMA;
+    return mixed ^ mixed >>> 32;
+  }
+
+  /**
+   * World coordinates of the given tile enlarged by a margin in pixels: west, north, east,
+   * south.
+   */
+  @NotNull
+  @Contract(pure = true)
+  private static double[] extent(@NotNull final Tile tile, final double margin) {
+    double tiles = 1L << tile.getZoom();
+    double border = margin / WebMercator.worldSize(tile.getZoom());
+    return new double[]{tile.getX() / tiles - border, tile.getY() / tiles - border,
+                        (tile.getX() + 1) / tiles + border, (tile.getY() + 1) / tiles + border};
+  }
+
+  @Contract(pure = true)
+  private static boolean contains(@NotNull final double[] extent, final double x,
+                                  final double y) {
+    return x >= extent[0] && y >= extent[1] && x <= extent[2] && y <= extent[3];
+  }
+
+  @Contract(pure = true)
+  private static boolean overlaps(@NotNull final double[] a, @NotNull final double[] b) {
+    return a[0] <= b[2] && b[0] <= a[2] && a[1] <= b[3] && b[1] <= a[3];
+  }
+
+  private static void checkLengths(@NotNull final double[] latitudes,
+                                   @NotNull final double[] longitudes) {
+    if (latitudes.length != longitudes.length) {
+      throw new IllegalArgumentException(
+        "Latitudes (" + latitudes.length + ") and longitudes (" + longitudes.length
+        + ") differ in length.");
+    }
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{spotCount=" + getSpotCount() + ", routeCount="
+           + getRouteCount() + ", boundsCount=" + getBoundsCount() + '}';
+  }
+
+  /**
+   * Route with its extent in world coordinates and its hash.
+   */
+  private static final class Polyline {
+
+    @NotNull
+    private final double[] latitudes;
+    @NotNull
+    private final double[] longitudes;
+    @NotNull
+    private final double[] extent;
+    private final long hash;
+
+    private Polyline(@NotNull final double[] latitudes, @NotNull final double[] longitudes) {
+      this.latitudes = latitudes;
+      this.longitudes = longitudes;
+      double west = Double.POSITIVE_INFINITY;
+      double north = Double.POSITIVE_INFINITY;
+      double east = Double.NEGATIVE_INFINITY;
+      double south = Double.NEGATIVE_INFINITY;
+      long combined = latitudes.length;
+      boolean wraps = false;
+      for (int i = 0; i < latitudes.length; i++) {
+        double x = WebMercator.x(longitudes[i]);
+        double y = WebMercator.y(latitudes[i]);
+        west = Math.min(west, x);
+        east = Math.max(east, x);
+        north = Math.min(north, y);
+        south = Math.max(south, y);
+        combined = mix(mix(combined, Double.doubleToLongBits(latitudes[i])),
+                       Double.doubleToLongBits(longitudes[i]));
+        wraps |= i > 0 && Math.abs(longitudes[i] - longitudes[i - 1]) > HALF_CIRCLE;
+      }
+      // Segments across the antimeridian are drawn on both edges of the world.
+      extent = wraps ? new double[]{0D, north, 1D, south}
+                     : new double[]{west, north, east, south};
+      hash = combined;
+    }
+  }
+}
@@ -0,0 +1,280 @@
+package com.github.mmichaelis.phodeli.map;
+
+import static com.github.mmichaelis.phodeli.map.WebMercator.TILE_SIZE;
+import static com.github.mmichaelis.phodeli.map.WebMercator.checkZoom;
+import static java.util.Objects.requireNonNull;
+
+import com.github.mmichaelis.phodeli.geo.GeoBounds;
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+import com.github.mmichaelis.phodeli.measure.Length;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Address of a {@link WebMercator} tile: zoom level and tile column {@code x} (growing
+ * eastwards) and row {@code y} (growing southwards).
+ * </p>
+ * <p>
+ * Bulk projection into a tile provides pixel positions relative to the tile's upper left
+ * corner as {@code float}s, as consumed by 2D graphics APIs.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class Tile implements Serializable {
+
+  private static final long serialVersionUID = 4969312117218917340L;
+
+  private final int zoom;
+  private final int x;
+  private final int y;
+
+  private Tile(final int zoom, final int x, final int y) {
+    this.zoom = zoom;
+    this.x = x;
+    this.y = y;
+  }
+
+  /**
+   * Creates a tile address.
+   *
+   * @param zoom zoom level
+   * @param x    tile column
+   * @param y    tile row
+   * @return tile
+   * @throws IllegalArgumentException if zoom is out of range
+   * @throws IndexOutOfBoundsException if column or row are out of range for the zoom level
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static Tile tile(final int zoom, final int x, final int y) {
+    checkZoom(zoom);
+    long tiles = 1L << zoom;
+    if (x < 0 || x >= tiles || y < 0 || y >= tiles) {
+      throw new IndexOutOfBoundsException(
+        "Tile (" + x + ", " + y + ") out of range for zoom " + zoom + '.');
+    }
+    return new Tile(zoom, x, y);
+  }
+
+  /**
+   * Tile containing the given coordinate. Coordinates beyond the limits of the projection
+   * are assigned to the tiles at the edge.
+   *
+   * @param coordinate coordinate
+   * @param zoom       zoom level
+   * @return tile
+   * @throws IllegalArgumentException if zoom is out of range
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static Tile containing(@NotNull final GeoCoordinate coordinate, final int zoom) {
+    requireNonNull(coordinate, "coordinate must not be null.");
+    checkZoom(zoom);
+    return new Tile(zoom,
+                    index(WebMercator.x(coordinate.getLongitude()), zoom),
+                    index(WebMercator.y(coordinate.getLatitude()), zoom));
+  }
+
+  /**
+   * All tiles overlapping the given bounds, such as the tiles required to display a map.
+   *
+   * @param bounds bounds to cover
+   * @param zoom   zoom level
+   * @return tiles ordered by row, then column from west to east
+   * @throws IllegalArgumentException if zoom is out of range
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static List<Tile> covering(@NotNull final GeoBounds bounds, final int zoom) {
+    requireNonNull(bounds, "bounds must not be null.");
+    checkZoom(zoom);
+    int tiles = (int) (1L << zoom);
+    int west = index(WebMercator.x(bounds.getWest()), zoom);
+    int east = index(WebMercator.x(bounds.getEast()), zoom);
+    int north = index(WebMercator.y(bounds.getNorth()), zoom);
+    int south = index(WebMercator.y(bounds.getSouth()), zoom);
+    // Bounds crossing the antimeridian with west and east in the same column cover all columns.
+    int columns = bounds.crossesAntimeridian()
+                  ? Math.min(tiles, tiles - west + east + 1)
+                  : east - west + 1;
+    List<Tile> covering = new ArrayList<>(columns * (south - north + 1));
+    for (int y = north; y <= south; y++) {
+      for (int column = 0; column < columns; column++) {
+        covering.add(new Tile(zoom, (west + column) % tiles, y));
+      }
+    }
+    return covering;
+  }
+
+  /**
+   * Tile column or row of the given world coordinate, clamped to the world.
+   */
+  @Contract(pure = true)
+  static int index(final double world, final int zoom) {
+    long tiles = 1L << zoom;
+    long index = (long) Math.floor(world * tiles);
+    return (int) Math.max(0L, Math.min(tiles - 1L, index));
+  }
+
+  /**
+   * Zoom level of this tile.
+   *
+   * @return zoom level
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int getZoom() {
+    return zoom;
+  }
+
+  /**
+   * Column of this tile.
+   *
+   * @return tile column
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int getX() {
+    return x;
+  }
+
+  /**
+   * Row of this tile.
+   *
+   * @return tile row
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int getY() {
+    return y;
+  }
+
+  /**
+   * Tile one zoom level up which contains this tile.
+   *
+   * @return parent tile
+   * @throws IllegalStateException if this tile is at zoom level 0
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Tile getParent() {
+    if (zoom == 0) {
+      throw new IllegalStateException("Tile at zoom 0 has no parent.");
+    }
+    return new Tile(zoom - 1, x >> 1, y >> 1);
+  }
+
+  /**
+   * Geographic bounds of this tile.
+   *
+   * @return bounds
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public GeoBounds getBounds() {
+    double tiles = 1L << zoom;
+    return GeoBounds.bounds(WebMercator.latitude((y + 1) / tiles),
+                            WebMercator.longitude(x / tiles),
+                            WebMercator.latitude(y / tiles),
+                            WebMercator.longitude((x + 1) / tiles));
+  }
+
+  /**
+   * Ground distance covered by one pixel at the center of this tile.
+   *
+   * @return length per pixel
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Length getResolution() {
+    double tiles = 1L << zoom;
+    return WebMercator.groundResolution(WebMercator.latitude((y + 0.5D) / tiles), zoom);
+  }
+
+  /**
+   * Projects the given coordinates to pixel positions relative to the upper left corner of
+   * this tile. Positions within this tile are within 0 (inclusive) to {@value
+   * WebMercator#TILE_SIZE} (exclusive); positions outside are kept, so that shapes crossing
+   * the tile's edges are drawn correctly.
+   *
+   * @param latitudes  latitudes in degrees
+   * @param longitudes longitudes in degrees
+   * @param xs         target for pixel x positions
+   * @param ys         target for pixel y positions
+   * @param count      number of coordinates to project, starting at index 0
+   * @since 1.0.0
+   */
+  public void toPixels(@NotNull final double[] latitudes,
+                       @NotNull final double[] longitudes,
+                       @NotNull final float[] xs,
+                       @NotNull final float[] ys,
+                       final int count) {
+    double worldSize = (double) WebMercator.worldSize(zoom);
+    double originX = (double) x * TILE_SIZE;
+    double originY = (double) y * TILE_SIZE;
+    for (int i = 0; i < count; i++) {
+      xs[i] = (float) (WebMercator.x(longitudes[i]) * worldSize - originX);
+      ys[i] = (float) (WebMercator.y(latitudes[i]) * worldSize - originY);
+    }
+  }
+
+  /**
+   * Key of this tile, unique within its zoom level and ordered by column, then row.
+   */
+  @Contract(pure = true)
+  long key() {
+    return (long) x << zoom | y;
+  }
+
+  /**
+   * Tile of the given key at the given zoom level.
+   */
+  @NotNull
+  @Contract(pure = true)
+  static Tile ofKey(final int zoom, final long key) {
+    return new Tile(zoom, (int) (key >>> zoom), (int) (key & ((1L << zoom) - 1L)));
+  }
+
+  @Override
+  @Contract(pure = true)
+  public int hashCode() {
+    int result = zoom;
+    result = 31 * result + x;
+    result = 31 * result + y;
+    return result;
+  }
+
+  @Override
+  @Contract(pure = true)
+  public boolean equals(final Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    Tile other = (Tile) obj;
+    return zoom == other.zoom && x == other.x && y == other.y;
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{zoom=" + zoom + ", x=" + x + ", y=" + y + '}';
+  }
+}
@@ -0,0 +1,249 @@
+package com.github.mmichaelis.phodeli.map;
+
+import static java.util.Objects.requireNonNull;
+
+import com.github.mmichaelis.phodeli.geo.GeoBounds;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Locations grouped by the {@link Tile} containing them at one zoom level. Renderers only touch
+ * the tiles in view and the locations within them.
+ * </p>
+ * <p>
+ * Bucketing computes a tile key per location, sorts the distinct keys and distributes the
+ * location indices by a counting sort, all on primitive arrays. Within a tile locations keep
+ * the order given on construction.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class TileBuckets {
+
+  private final int zoom;
+  /**
+   * Keys of all occupied tiles, ascending.
+   */
+  @NotNull
+  private final long[] tileKeys;
+  /**
+   * Start of each tile's locations within {@link #indices}, with one additional end offset.
+   */
+  @NotNull
+  private final int[] offsets;
+  @NotNull
+  private final int[] indices;
+
+  private TileBuckets(final int zoom,
+                      @NotNull final long[] tileKeys,
+                      @NotNull final int[] offsets,
+                      @NotNull final int[] indices) {
+    this.zoom = zoom;
+    this.tileKeys = tileKeys;
+    this.offsets = offsets;
+    this.indices = indices;
+  }
+
+  /**
+   * Groups the given locations by tile.
+   *
+   * @param latitudes  latitudes in degrees
+   * @param longitudes longitudes in degrees
+   * @param zoom       zoom level of the tiles
+   * @return tile buckets
+   * @throws IllegalArgumentException if arrays differ in length or zoom is out of range
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static TileBuckets bucket(@NotNull final double[] latitudes,
+                                   @NotNull final double[] longitudes,
+                                   final int zoom) {
+    int size = latitudes.length;
+    if (longitudes.length != size) {
+      throw new IllegalArgumentException(
+        "Latitudes (" + size + ") and longitudes (" + longitudes.length
+        + ") differ in length.");
+    }
+    WebMercator.checkZoom(zoom);
+
+    long[] keys = new long[size];
+    Arrays.parallelSetAll(keys, i -> (long) Tile.index(WebMercator.x(longitudes[i]), zoom) << zoom
+                                     | Tile.index(WebMercator.y(latitudes[i]), zoom));
+    long[] sortedKeys = keys.clone();
+    Arrays.parallelSort(sortedKeys);
+    long[] tileKeys = distinct(sortedKeys);
+
+    int[] buckets = new int[size];
+    IntStream.range(0, size).parallel()
+      .forEach(i -> buckets[i] = Arrays.binarySearch(tileKeys, keys[i]));
+    int[] offsets = new int[tileKeys.length + 1];
+    for (int bucket : buckets) {
+      offsets[bucket + 1]++;
+    }
+    for (int i = 0; i < tileKeys.length; i++) {
+      offsets[i + 1] += offsets[i];
+    }
+    int[] positions = Arrays.copyOf(offsets, tileKeys.length);
+    int[] indices = new int[size];
+    for (int i = 0; i < size; i++) {
+      indices[positions[buckets[i]]++] = i;
+    }
+    return new TileBuckets(zoom, tileKeys, offsets, indices);
+  }
+
+  @NotNull
+  @Contract(pure = true)
+  private static long[] distinct(@NotNull final long[] sorted) {
+    int count = 0;
+    for (int i = 0; i < sorted.length; i++) {
+      if (i == 0 || sorted[i] != sorted[i - 1]) {
+        sorted[count++] = sorted[i];
+      }
+    }
+    return Arrays.copyOf(sorted, count);
+  }
+
+  /**
+   * Zoom level of the tiles.
+   *
+   * @return zoom level
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int getZoom() {
+    return zoom;
+  }
+
+  /**
+   * Number of bucketed locations.
+   *
+   * @return size
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int size() {
+    return indices.length;
+  }
+
+  /**
+   * Number of tiles containing at least one location.
+   *
+   * @return number of occupied tiles
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int getTileCount() {
+    return tileKeys.length;
+  }
+
+  /**
+   * All tiles containing at least one location.
+   *
+   * @return occupied tiles ordered by column, then row
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public List<Tile> getTiles() {
+    List<Tile> tiles = new ArrayList<>(tileKeys.length);
+    for (long key : tileKeys) {
+      tiles.add(Tile.ofKey(zoom, key));
+    }
+    return Collections.unmodifiableList(tiles);
+  }
+
+  /**
+   * Occupied tiles overlapping the given bounds, such as the visible part of a map.
+   *
+   * @param bounds bounds to query
+   * @return occupied tiles ordered by column, then row
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public List<Tile> getTiles(@NotNull final GeoBounds bounds) {
+    requireNonNull(bounds, "bounds must not be null.");
+    int west = Tile.index(WebMercator.x(bounds.getWest()), zoom);
+    int east = Tile.index(WebMercator.x(bounds.getEast()), zoom);
+    int north = Tile.index(WebMercator.y(bounds.getNorth()), zoom);
+    int south = Tile.index(WebMercator.y(bounds.getSouth()), zoom);
+    boolean crossing = bounds.crossesAntimeridian();
+    List<Tile> tiles = new ArrayList<>();
+    for (long key : tileKeys) {
+      int x = (int) (key >>> zoom);
+      int y = (int) (key & ((1L << zoom) - 1L));
+      boolean inColumns = crossing ? x >= west || x <= east : x >= west && x <= east;
+      if (inColumns && y >= north && y <= south) {
+        tiles.add(Tile.ofKey(zoom, key));
+      }
+    }
+    return Collections.unmodifiableList(tiles);
+  }
+
+  /**
+   * Provides the indices of all locations within the given tile.
+   *
+   * @param tile tile to query
+   * @return indices of the locations (as given on construction), ascending
+   * @throws IllegalArgumentException if the tile is of a different zoom level
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public int[] indices(@NotNull final Tile tile) {
+    int bucket = bucketOf(tile);
+    if (bucket < 0) {
+      return new int[0];
+    }
+    return Arrays.copyOfRange(indices, offsets[bucket], offsets[bucket + 1]);
+  }
+
+  /**
+   * Reports the indices of all locations within the given tile.
+   *
+   * @param tile     tile to query
+   * @param consumer consumer of the indices of the locations (as given on construction)
+   * @return number of reported locations
+   * @throws IllegalArgumentException if the tile is of a different zoom level
+   * @since 1.0.0
+   */
+  public int forEach(@NotNull final Tile tile, @NotNull final IntConsumer consumer) {
+    int bucket = bucketOf(tile);
+    if (bucket < 0) {
+      return 0;
+    }
+    for (int i = offsets[bucket]; i < offsets[bucket + 1]; i++) {
+      consumer.accept(indices[i]);
+    }
+    return offsets[bucket + 1] - offsets[bucket];
+  }
+
+  @Contract(pure = true)
+  private int bucketOf(@NotNull final Tile tile) {
+    requireNonNull(tile, "tile must not be null.");
+    if (tile.getZoom() != zoom) {
+      throw new IllegalArgumentException(
+        "Tile zoom (" + tile.getZoom() + ") differs from bucket zoom (" + zoom + ").");
+    }
+    return Arrays.binarySearch(tileKeys, tile.key());
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{zoom=" + zoom + ", size=" + size()
+           + ", tileCount=" + getTileCount() + '}';
+  }
+}
@@ -0,0 +1,106 @@
+package com.github.mmichaelis.phodeli.map;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * <p>
+ * Least recently used cache of encoded tiles, bounded by the total number of bytes.
+ * </p>
+ * <p>
+ * Keys combine the tile address with the hash of the content drawn on it, so that outdated
+ * entries are never hit and silently age out.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+final class TileCache {
+
+  private final long capacity;
+  @NotNull
+  private final LinkedHashMap<Key, byte[]> entries = new LinkedHashMap<>(16, 0.75F, true);
+  private long size;
+
+  TileCache(final long capacity) {
+    this.capacity = capacity;
+  }
+
+  @Nullable
+  synchronized byte[] get(@NotNull final Tile tile, final long contentHash) {
+    return entries.get(new Key(tile, contentHash));
+  }
+
+  synchronized void put(@NotNull final Tile tile,
+                        final long contentHash,
+                        @NotNull final byte[] encoded) {
+    if (encoded.length > capacity) {
+      return;
+    }
+    byte[] previous = entries.put(new Key(tile, contentHash), encoded);
+    size += encoded.length - (previous == null ? 0 : previous.length);
+    Iterator<Map.Entry<Key, byte[]>> eldest = entries.entrySet().iterator();
+    while (size > capacity) {
+      size -= eldest.next().getValue().length;
+      eldest.remove();
+    }
+  }
+
+  @Contract(pure = true)
+  synchronized int getEntryCount() {
+    return entries.size();
+  }
+
+  @Contract(pure = true)
+  synchronized long getSize() {
+    return size;
+  }
+
+  synchronized void clear() {
+    entries.clear();
+    size = 0L;
+  }
+
+  @Override
+  @Contract(pure = true)
+  public synchronized String toString() {
+    return super.toString() + "{capacity=" + capacity + ", size=" + size
+           + ", entryCount=" + entries.size() + '}';
+  }
+
+  private static final class Key {
+
+    @NotNull
+    private final Tile tile;
+    private final long contentHash;
+
+    private Key(@NotNull final Tile tile, final long contentHash) {
+      this.tile = tile;
+      this.contentHash = contentHash;
+    }
+
+    @Override
+    @Contract(pure = true)
+    public int hashCode() {
+      return 31 * tile.hashCode() + Long.hashCode(contentHash);
+    }
+
+    @Override
+    @Contract(pure = true)
+    public boolean equals(final Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (obj == null || getClass() != obj.getClass()) {
+        return false;
+      }
+      Key other = (Key) obj;
+      return contentHash == other.contentHash && tile.equals(other.tile);
+    }
+  }
+}
@@ -0,0 +1,348 @@
+package com.github.mmichaelis.phodeli.map;
+
+import static com.github.mmichaelis.phodeli.map.MapContent.mix;
+import static com.github.mmichaelis.phodeli.map.WebMercator.TILE_SIZE;
+import static java.util.Objects.requireNonNull;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import javax.imageio.ImageIO;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Renders {@link MapContent} onto transparent tiles of {@value WebMercator#TILE_SIZE} pixels,
+ * to be laid over a base map. Rendering only uses {@code java.awt.image}, thus it works
+ * headless.
+ * </p>
+ * <p>
+ * Encoded PNG tiles are kept in a least recently used cache bounded by its size in bytes. The
+ * cache key contains a hash of the content drawn on the tile, thus when only a few spots
+ * change, only the tiles around them are rendered again. Multiple tiles are rendered in
+ * parallel.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class TileRenderer {
+
+  /**
+   * Default capacity of the tile cache in bytes.
+   *
+   * @since 1.0.0
+   */
+  public static final long DEFAULT_CACHE_CAPACITY = 64L * 1024L * 1024L;
+
+  private static final String FORMAT = "png";
+  private static final double SPOT_RADIUS = 4D;
+  private static final float ROUTE_WIDTH = 2F;
+  private static final float BOUNDS_WIDTH = 1.5F;
+  private static final double SPOT_MARGIN = SPOT_RADIUS + 1D;
+  private static final double ROUTE_MARGIN = ROUTE_WIDTH;
+  private static final double BOUNDS_MARGIN = BOUNDS_WIDTH;
+  private static final double HALF_CIRCLE = 180D;
+  private static final Color SPOT_FILL = new Color(0xD3, 0x2F, 0x2F);
+  private static final Color SPOT_OUTLINE = Color.WHITE;
+  private static final Color ROUTE_COLOR = new Color(0x19, 0x76, 0xD2, 0xCC);
+  private static final Color BOUNDS_COLOR = new Color(0x38, 0x8E, 0x3C, 0xCC);
+  private static final BasicStroke SPOT_STROKE = new BasicStroke(1F);
+  private static final BasicStroke ROUTE_STROKE =
+    new BasicStroke(ROUTE_WIDTH, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND);
+  private static final BasicStroke BOUNDS_STROKE =
+    new BasicStroke(BOUNDS_WIDTH, BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER, 10F,
+                    new float[]{6F, 4F}, 0F);
+
+  @NotNull
+  private final TileCache cache;
+  @NotNull
+  private final AtomicLong renderCount = new AtomicLong();
+
+  private TileRenderer(final long cacheCapacity) {
+    cache = new TileCache(cacheCapacity);
+  }
+
+  /**
+   * Creates a renderer with a cache of {@link #DEFAULT_CACHE_CAPACITY}.
+   *
+   * @return renderer
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static TileRenderer renderer() {
+    return new TileRenderer(DEFAULT_CACHE_CAPACITY);
+  }
+
+  /**
+   * Creates a renderer.
+   *
+   * @param cacheCapacity maximum number of bytes of encoded tiles to cache; 0 disables caching
+   * @return renderer
+   * @throws IllegalArgumentException if capacity is negative
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static TileRenderer renderer(final long cacheCapacity) {
+    if (cacheCapacity < 0L) {
+      throw new IllegalArgumentException(
+        "Cache capacity must not be negative but is " + cacheCapacity + '.');
+    }
+    return new TileRenderer(cacheCapacity);
+  }
+
+  /**
+   * Provides the given tile as PNG, rendering it unless cached.
+   *
+   * @param content content to draw
+   * @param tile    tile to render
+   * @return PNG encoded tile; a copy, thus the cached tile is not affected by modifications
+   * @throws UncheckedIOException if encoding fails
+   * @since 1.0.0
+   */
+  @NotNull
+  public byte[] render(@NotNull final MapContent content, @NotNull final Tile tile) {
+    requireNonNull(content, "content must not be null.");
+    requireNonNull(tile, "tile must not be null.");
+    long contentHash = contentHash(content, tile);
+    byte[] cached = cache.get(tile, contentHash);
+    if (cached != null) {
+      return cached.clone();
+    }
+    byte[] encoded = encode(renderImage(content, tile));
+    cache.put(tile, contentHash, encoded);
+    return encoded.clone();
+  }
+
+  /**
+   * Provides the given tiles as PNG, rendering those not cached in parallel.
+   *
+   * @param content content to draw
+   * @param tiles   tiles to render, such as {@link Tile#covering(
+   *                com.github.mmichaelis.phodeli.geo.GeoBounds, int)}
+   * @return PNG encoded tiles in order of the given tiles; copies, as for a single tile
+   * @throws UncheckedIOException if encoding fails
+   * @since 1.0.0
+   */
+  @NotNull
+  public Map<Tile, byte[]> render(@NotNull final MapContent content,
+                                  @NotNull final Collection<Tile> tiles) {
+    requireNonNull(content, "content must not be null.");
+    List<Tile> ordered = new ArrayList<>(tiles);
+    byte[][] encoded = new byte[ordered.size()][];
+    IntStream.range(0, ordered.size()).parallel()
+      .forEach(i -> encoded[i] = render(content, ordered.get(i)));
+    Map<Tile, byte[]> result = new LinkedHashMap<>(ordered.size() * 2);
+    for (int i = 0; i < encoded.length; i++) {
+      result.put(ordered.get(i), encoded[i]);
+    }
+    return result;
+  }
+
+  /**
+   * Renders the given tile without using the cache.
+   *
+   * @param content content to draw
+   * @param tile    tile to render
+   * @return image of {@value WebMercator#TILE_SIZE} pixels squared with transparent background
+   * @since 1.0.0
+   */
+  @NotNull
+  public BufferedImage renderImage(@NotNull final MapContent content, @NotNull final Tile tile) {
+    requireNonNull(content, "content must not be null.");
+    requireNonNull(tile, "tile must not be null.");
+    renderCount.incrementAndGet();
+    BufferedImage image = new BufferedImage(TILE_SIZE, TILE_SIZE, BufferedImage.TYPE_INT_ARGB);
+    Graphics2D graphics = image.createGraphics();
+    try {
+      graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+                                RenderingHints.VALUE_ANTIALIAS_ON);
+      graphics.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL,
+                                RenderingHints.VALUE_STROKE_PURE);
+      double worldSize = WebMercator.worldSize(tile.getZoom());
+      double originX = (double) tile.getX() * TILE_SIZE;
+      double originY = (double) tile.getY() * TILE_SIZE;
+      drawBounds(graphics, content, tile, worldSize, originX, originY);
+      drawRoutes(graphics, content, tile, worldSize, originX, originY);
+      drawSpots(graphics, content, tile, worldSize, originX, originY);
+    } finally {
+      graphics.dispose();
+    }
+    return image;
+  }
+
+  /**
+   * Number of tiles rendered so far, that is tiles not served from cache.
+   *
+   * @return number of rendered tiles
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public long getRenderCount() {
+    return renderCount.get();
+  }
+
+  /**
+   * Number of bytes currently cached.
+   *
+   * @return cache size in bytes
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public long getCacheSize() {
+    return cache.getSize();
+  }
+
+  /**
+   * Number of tiles currently cached.
+   *
+   * @return number of cached tiles
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int getCachedTileCount() {
+    return cache.getEntryCount();
+  }
+
+  /**
+   * Removes all tiles from the cache.
+   *
+   * @since 1.0.0
+   */
+  public void clearCache() {
+    cache.clear();
+  }
+
+  /**
+   * Hash of everything drawn onto the given tile.
+   */
+  @Contract(pure = true)
+  static long contentHash(@NotNull final MapContent content, @NotNull final Tile tile) {
+    long[] hash = {tile.getZoom()};
+    content.forEachSpot(tile, SPOT_MARGIN, index -> hash[0] = mix(
+      mix(hash[0], Double.doubleToLongBits(content.getSpotLatitude(index))),
+      Double.doubleToLongBits(content.getSpotLongitude(index))));
+    hash[0] = mix(hash[0], -1L);
+    content.forEachRoute(tile, ROUTE_MARGIN,
+                         index -> hash[0] = mix(hash[0], content.getRouteHash(index)));
+    hash[0] = mix(hash[0], -2L);
+    content.forEachBounds(tile, BOUNDS_MARGIN, index -> {
+      for (double value : content.getBounds(index)) {
+        hash[0] = mix(hash[0], Double.doubleToLongBits(value));
+      }
+    });
+    return hash[0];
+  }
+
+  private static void drawBounds(@NotNull final Graphics2D graphics,
+                                 @NotNull final MapContent content,
+                                 @NotNull final Tile tile,
+                                 final double worldSize,
+                                 final double originX,
+                                 final double originY) {
+    graphics.setColor(BOUNDS_COLOR);
+    graphics.setStroke(BOUNDS_STROKE);
+    content.forEachBounds(tile, BOUNDS_MARGIN, index -> {
+      double[] rectangle = content.getBounds(index);
+      double west = rectangle[0] * worldSize - originX;
+      double north = rectangle[1] * worldSize - originY;
+      graphics.draw(new Rectangle2D.Double(west, north,
+                                           rectangle[2] * worldSize - originX - west,
+                                           rectangle[3] * worldSize - originY - north));
+    });
+  }
+
+  private static void drawRoutes(@NotNull final Graphics2D graphics,
+                                 @NotNull final MapContent content,
+                                 @NotNull final Tile tile,
+                                 final double worldSize,
+                                 final double originX,
+                                 final double originY) {
+    graphics.setColor(ROUTE_COLOR);
+    graphics.setStroke(ROUTE_STROKE);
+    content.forEachRoute(tile, ROUTE_MARGIN, index -> {
+      double[] latitudes = content.getRouteLatitudes(index);
+      double[] longitudes = content.getRouteLongitudes(index);
+      Path2D.Double path = new Path2D.Double();
+      for (int i = 0; i < latitudes.length; i++) {
+        double x = WebMercator.x(longitudes[i]) * worldSize - originX;
+        double y = WebMercator.y(latitudes[i]) * worldSize - originY;
+        if (i == 0) {
+          path.moveTo(x, y);
+          continue;
+        }
+        double jump = longitudes[i] - longitudes[i - 1];
+        if (Math.abs(jump) > HALF_CIRCLE) {
+          // Across the antimeridian: continue beyond the edge, restart beyond the other edge.
+          double shift = Math.signum(jump) * worldSize;
+          double previousX = WebMercator.x(longitudes[i - 1]) * worldSize - originX;
+          double previousY = WebMercator.y(latitudes[i - 1]) * worldSize - originY;
+          path.lineTo(x - shift, y);
+          path.moveTo(previousX + shift, previousY);
+        }
+        path.lineTo(x, y);
+      }
+      graphics.draw(path);
+    });
+  }
+
+  private static void drawSpots(@NotNull final Graphics2D graphics,
+                                @NotNull final MapContent content,
+                                @NotNull final Tile tile,
+                                final double worldSize,
+                                final double originX,
+                                final double originY) {
+    graphics.setStroke(SPOT_STROKE);
+    Ellipse2D.Double marker = new Ellipse2D.Double();
+    content.forEachSpot(tile, SPOT_MARGIN, index -> {
+      double x = MapContent.worldX(content.getSpotLongitude(index), tile) * worldSize - originX;
+      double y = WebMercator.y(content.getSpotLatitude(index)) * worldSize - originY;
+      marker.setFrame(x - SPOT_RADIUS, y - SPOT_RADIUS, 2D * SPOT_RADIUS, 2D * SPOT_RADIUS);
+      graphics.setColor(SPOT_FILL);
+      graphics.fill(marker);
+      graphics.setColor(SPOT_OUTLINE);
+      graphics.draw(marker);
+    });
+  }
+
+  @NotNull
+  private static byte[] encode(@NotNull final BufferedImage image) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(4096);
+    // In-memory stream avoids the temporary files ImageIO uses by default.
+    try (ImageOutputStream stream = new MemoryCacheImageOutputStream(out)) {
+      ImageIO.write(image, FORMAT, stream);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to encode tile.", e);
+    }
+    return out.toByteArray();
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{cache=" + cache + ", renderCount=" + renderCount + '}';
+  }
+}
@@ -0,0 +1,233 @@
+package com.github.mmichaelis.phodeli.map;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.atan;
+import static java.lang.Math.cos;
+import static java.lang.Math.exp;
+import static java.lang.Math.log;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.Math.sin;
+import static java.lang.Math.toDegrees;
+import static java.lang.Math.toRadians;
+
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+import com.github.mmichaelis.phodeli.measure.Angle;
+import com.github.mmichaelis.phodeli.measure.Length;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Web Mercator projection (EPSG:3857) as used by common web map tiles.
+ * </p>
+ * <p>
+ * Projected coordinates are given as <em>world coordinates</em> in the unit square: {@code x}
+ * grows from 0 at the antimeridian eastwards to 1, {@code y} from 0 at the northern limit
+ * southwards to 1. At zoom level {@code z} the world spans {@code 2^z} tiles of
+ * {@value #TILE_SIZE} pixels in each direction. Latitudes beyond
+ * {@link #MAX_LATITUDE_DEGREES} are clamped.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class WebMercator {
+
+  /**
+   * Edge length of a tile in pixels.
+   *
+   * @since 1.0.0
+   */
+  public static final int TILE_SIZE = 256;
+  /**
+   * Maximum zoom level, at which world pixel coordinates still fit into a {@code long} and
+   * tile numbers into an {@code int}.
+   *
+   * @since 1.0.0
+   */
+  public static final int MAX_ZOOM = 30;
+  /**
+   * Northern and southern limit of the projection in degrees, which makes the projected world
+   * square.
+   *
+   * @since 1.0.0
+   */
+  public static final double MAX_LATITUDE_DEGREES = 85.0511287798066D;
+  /**
+   * Radius of the sphere the projection is based on: the WGS 84 semi-major axis.
+   *
+   * @since 1.0.0
+   */
+  public static final double SPHERE_RADIUS_METERS = 6_378_137D;
+
+  private static final double FULL_CIRCLE = 360D;
+  private static final double HALF_CIRCLE = 180D;
+  private static final double MAX_SIN_LATITUDE = sin(toRadians(MAX_LATITUDE_DEGREES));
+  private static final double EQUATOR_METERS = 2D * PI * SPHERE_RADIUS_METERS;
+
+  private WebMercator() {
+  }
+
+  /**
+   * World x coordinate of the given longitude.
+   *
+   * @param longitude longitude
+   * @return x within 0 to 1 for longitudes within -180&deg; to 180&deg;
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public static double x(@NotNull final Angle longitude) {
+    return x(longitude.toDegrees());
+  }
+
+  /**
+   * World y coordinate of the given latitude.
+   *
+   * @param latitude latitude
+   * @return y within 0 (north) to 1 (south)
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public static double y(@NotNull final Angle latitude) {
+    return y(latitude.toDegrees());
+  }
+
+  /**
+   * Longitude of the given world x coordinate.
+   *
+   * @param x world x coordinate
+   * @return longitude
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static Angle longitude(final double x) {
+    return Angle.degrees(x * FULL_CIRCLE - HALF_CIRCLE);
+  }
+
+  /**
+   * Latitude of the given world y coordinate.
+   *
+   * @param y world y coordinate
+   * @return latitude
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static Angle latitude(final double y) {
+    return Angle.degrees(latitudeDegrees(y));
+  }
+
+  /**
+   * Coordinate of the given world coordinates.
+   *
+   * @param x world x coordinate
+   * @param y world y coordinate
+   * @return coordinate
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static GeoCoordinate coordinate(final double x, final double y) {
+    return GeoCoordinate.coordinate(latitude(y), longitude(x));
+  }
+
+  /**
+   * Projects the given coordinates to world coordinates.
+   *
+   * @param latitudes  latitudes in degrees
+   * @param longitudes longitudes in degrees
+   * @param xs         target for world x coordinates
+   * @param ys         target for world y coordinates
+   * @param count      number of coordinates to project, starting at index 0
+   * @since 1.0.0
+   */
+  public static void project(@NotNull final double[] latitudes,
+                             @NotNull final double[] longitudes,
+                             @NotNull final double[] xs,
+                             @NotNull final double[] ys,
+                             final int count) {
+    for (int i = 0; i < count; i++) {
+      xs[i] = x(longitudes[i]);
+      ys[i] = y(latitudes[i]);
+    }
+  }
+
+  /**
+   * Inverse projection of the given world coordinates.
+   *
+   * @param xs         world x coordinates
+   * @param ys         world y coordinates
+   * @param latitudes  target for latitudes in degrees
+   * @param longitudes target for longitudes in degrees
+   * @param count      number of coordinates to convert, starting at index 0
+   * @since 1.0.0
+   */
+  public static void unproject(@NotNull final double[] xs,
+                               @NotNull final double[] ys,
+                               @NotNull final double[] latitudes,
+                               @NotNull final double[] longitudes,
+                               final int count) {
+    for (int i = 0; i < count; i++) {
+      latitudes[i] = latitudeDegrees(ys[i]);
+      longitudes[i] = xs[i] * FULL_CIRCLE - HALF_CIRCLE;
+    }
+  }
+
+  /**
+   * Ground distance covered by one pixel at the given latitude and zoom level.
+   *
+   * @param latitude latitude
+   * @param zoom     zoom level
+   * @return length per pixel
+   * @throws IllegalArgumentException if zoom is out of range
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static Length groundResolution(@NotNull final Angle latitude, final int zoom) {
+    checkZoom(zoom);
+    double clamped = max(-MAX_LATITUDE_DEGREES, min(MAX_LATITUDE_DEGREES, latitude.toDegrees()));
+    return Length.m(cos(toRadians(clamped)) * EQUATOR_METERS / worldSize(zoom));
+  }
+
+  /**
+   * Edge length of the world in pixels at the given zoom level.
+   *
+   * @param zoom zoom level
+   * @return world size in pixels
+   * @throws IllegalArgumentException if zoom is out of range
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public static long worldSize(final int zoom) {
+    checkZoom(zoom);
+    return (long) TILE_SIZE << zoom;
+  }
+
+  @Contract(pure = true)
+  static double x(final double longitude) {
+    return (longitude + HALF_CIRCLE) / FULL_CIRCLE;
+  }
+
+  @Contract(pure = true)
+  static double y(final double latitude) {
+    double sinLatitude = max(-MAX_SIN_LATITUDE, min(MAX_SIN_LATITUDE, sin(toRadians(latitude))));
+    return 0.5D - log((1D + sinLatitude) / (1D - sinLatitude)) / (4D * PI);
+  }
+
+  @Contract(pure = true)
+  static double latitudeDegrees(final double y) {
+    return toDegrees(2D * atan(exp((0.5D - y) * 2D * PI)) - PI / 2D);
+  }
+
+  static void checkZoom(final int zoom) {
+    if (zoom < 0 || zoom > MAX_ZOOM) {
+      throw new IllegalArgumentException(
+        "Zoom must be within 0 and " + MAX_ZOOM + " but is " + zoom + '.');
+    }
+  }
+}
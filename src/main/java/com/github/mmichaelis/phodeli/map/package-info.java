@@ -0,0 +1,14 @@
+/**
+ * <p>
+ * Map projection and tile addressing for drawing (generated) maps.
+ * </p>
+ * <p>
+ * Bulk operations use the structure-of-arrays layout of
+ * {@link com.github.mmichaelis.phodeli.geo}: latitudes and longitudes in degrees as separate
+ * {@code double} arrays.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+package com.github.mmichaelis.phodeli.map;
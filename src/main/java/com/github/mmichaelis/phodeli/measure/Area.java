@@ -0,0 +1,231 @@
+package com.github.mmichaelis.phodeli.measure;
+
+import static com.github.mmichaelis.phodeli.internal.FormatterUtil.formatMeasureTo;
+
+import java.io.Serializable;
+import java.util.Formatter;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents a certain area of a certain unit.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class Area
+  implements Comparable<Area>, Serializable, DoubleMeasure<Area, AreaUnit> {
+
+  private static final long serialVersionUID = 2604931773392145418L;
+  private final double areaAmount;
+  @NotNull
+  private final AreaUnit areaUnit;
+
+  private Area(final double areaAmount, @NotNull final AreaUnit areaUnit) {
+    this.areaAmount = areaAmount;
+    this.areaUnit = areaUnit;
+  }
+
+  /**
+   * Creates an area instance with the given area amount and unit.
+   *
+   * @param areaAmount area amount
+   * @param areaUnit   area unit
+   * @return area representation
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static Area area(final double areaAmount, @NotNull final AreaUnit areaUnit) {
+    return new Area(areaAmount, areaUnit);
+  }
+
+  /**
+   * Creates an area in square meters.
+   *
+   * @param areaAmount area in square meters
+   * @return area representation
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static Area m2(final double areaAmount) {
+    return area(areaAmount, AreaUnit.SQUARE_METERS);
+  }
+
+  /**
+   * Creates an area in acres.
+   *
+   * @param areaAmount area in acres
+   * @return area representation
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static Area ac(final double areaAmount) {
+    return area(areaAmount, AreaUnit.ACRES);
+  }
+
+  /**
+   * Creates an area in hectares.
+   *
+   * @param areaAmount area in hectares
+   * @return area representation
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static Area ha(final double areaAmount) {
+    return area(areaAmount, AreaUnit.HECTARES);
+  }
+
+  /**
+   * Creates an area in square kilometers.
+   *
+   * @param areaAmount area in square kilometers
+   * @return area representation
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static Area km2(final double areaAmount) {
+    return area(areaAmount, AreaUnit.SQUARE_KILOMETERS);
+  }
+
+  /**
+   * Creates an area in square miles.
+   *
+   * @param areaAmount area in square miles
+   * @return area representation
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static Area mi2(final double areaAmount) {
+    return area(areaAmount, AreaUnit.SQUARE_MILES);
+  }
+
+  /**
+   * Returns this area as square meters.
+   *
+   * @return area in square meters
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public double toSquareMeters() {
+    return get(AreaUnit.SQUARE_METERS);
+  }
+
+  /**
+   * Returns this area as acres.
+   *
+   * @return area in acres
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public double toAcres() {
+    return get(AreaUnit.ACRES);
+  }
+
+  /**
+   * Returns this area as hectares.
+   *
+   * @return area in hectares
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public double toHectares() {
+    return get(AreaUnit.HECTARES);
+  }
+
+  /**
+   * Returns this area as square kilometers.
+   *
+   * @return area in square kilometers
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public double toSquareKilometers() {
+    return get(AreaUnit.SQUARE_KILOMETERS);
+  }
+
+  /**
+   * Returns this area as square miles.
+   *
+   * @return area in square miles
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public double toSquareMiles() {
+    return get(AreaUnit.SQUARE_MILES);
+  }
+
+  @Override
+  @Contract(pure = true)
+  public double get(@NotNull final AreaUnit unit) {
+    return unit.convert(areaAmount, areaUnit);
+  }
+
+  @NotNull
+  @Override
+  public Area transform(@NotNull final AreaUnit unit) {
+    if (unit == areaUnit) {
+      return this;
+    }
+    return area(get(unit), unit);
+  }
+
+  @Override
+  @Contract(pure = true)
+  public int compareTo(@NotNull final Area other) {
+    return Double.compare(areaAmount, other.get(areaUnit));
+  }
+
+  @Override
+  @Contract(pure = true)
+  public int hashCode() {
+    int result;
+    long temp;
+    temp = Double.doubleToLongBits(areaAmount);
+    result = (int) (temp ^ (temp >>> 32));
+    result = 31 * result + areaUnit.hashCode();
+    return result;
+  }
+
+  @Override
+  @Contract(pure = true)
+  public boolean equals(final Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+
+    Area area = (Area) obj;
+
+    return Double.compare(area.areaAmount, areaAmount) == 0
+           && areaUnit == area.areaUnit;
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{" + "areaAmount=" + areaAmount + ", areaUnit=" + areaUnit + '}';
+  }
+
+  @Override
+  public void formatTo(@NotNull final Formatter formatter,
+                       final int flags,
+                       final int width,
+                       final int precision) {
+    formatMeasureTo(formatter,
+                    areaAmount,
+                    areaUnit.getSymbolPostfix(),
+                    flags,
+                    width,
+                    precision);
+  }
+}
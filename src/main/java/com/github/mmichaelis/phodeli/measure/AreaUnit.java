@@ -0,0 +1,159 @@
+package com.github.mmichaelis.phodeli.measure;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents area units.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+public enum AreaUnit implements DoubleMeasureUnit<AreaUnit> {
+  /*
+   * Developer Note: Units must be sorted in decreasing precision order.
+   */
+  /**
+   * Area unit: square meters.
+   *
+   * @since 1.0.0
+   */
+  SQUARE_METERS(1.0, "m²"),
+  /**
+   * Area unit: acres.
+   *
+   * @since 1.0.0
+   */
+  ACRES(4046.8564224, "ac"),
+  /**
+   * Area unit: hectares.
+   *
+   * @since 1.0.0
+   */
+  HECTARES(10_000.0, "ha"),
+  /**
+   * Area unit: square kilometers.
+   *
+   * @since 1.0.0
+   */
+  SQUARE_KILOMETERS(1_000_000.0, "km²"),
+  /**
+   * Area unit: square miles.
+   *
+   * @since 1.0.0
+   */
+  SQUARE_MILES(2_589_988.110336, "mi²");
+
+  /**
+   * Common base unit used to convert from different units.
+   */
+  private final double squareMeters;
+  @NotNull
+  private final String symbol;
+
+  AreaUnit(final double squareMeters, @NotNull final String symbol) {
+    this.squareMeters = squareMeters;
+    this.symbol = symbol;
+  }
+
+  /**
+   * Converts the given area of this unit to square meters.
+   *
+   * @param area area to convert
+   * @return converted area
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public final double toSquareMeters(final double area) {
+    return SQUARE_METERS.convert(area, this);
+  }
+
+  /**
+   * Converts the given area of this unit to acres.
+   *
+   * @param area area to convert
+   * @return converted area
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public final double toAcres(final double area) {
+    return ACRES.convert(area, this);
+  }
+
+  /**
+   * Converts the given area of this unit to hectares.
+   *
+   * @param area area to convert
+   * @return converted area
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public final double toHectares(final double area) {
+    return HECTARES.convert(area, this);
+  }
+
+  /**
+   * Converts the given area of this unit to square kilometers.
+   *
+   * @param area area to convert
+   * @return converted area
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public final double toSquareKilometers(final double area) {
+    return SQUARE_KILOMETERS.convert(area, this);
+  }
+
+  /**
+   * Converts the given area of this unit to square miles.
+   *
+   * @param area area to convert
+   * @return converted area
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public final double toSquareMiles(final double area) {
+    return SQUARE_MILES.convert(area, this);
+  }
+
+  /**
+   * Converts the given area with the given unit to an area of this unit.
+   *
+   * @param sourceAmount area to convert
+   * @param sourceUnit   unit of the area to convert
+   * @return area in this unit
+   * @since 1.0.0
+   */
+  @Override
+  @Contract(pure = true)
+  public final double convert(final double sourceAmount, @NotNull final AreaUnit sourceUnit) {
+    if (sourceUnit == this) {
+      return sourceAmount;
+    }
+    return sourceAmount / squareMeters * sourceUnit.squareMeters;
+  }
+
+  @Override
+  @NotNull
+  @Contract(pure = true)
+  public final String getSymbol() {
+    return symbol;
+  }
+
+  /**
+   * Returns the area unit which has the greater precision from this and the given unit.
+   *
+   * @param other other unit
+   * @return area unit with maximum precision
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public final AreaUnit maxPrecision(@NotNull final AreaUnit other) {
+    if (this.ordinal() > other.ordinal()) {
+      return other;
+    }
+    return this;
+  }
+
+}
@@ -0,0 +1,252 @@
+package com.github.mmichaelis.phodeli.optics;
+
+import static java.util.Objects.requireNonNull;
+
+import com.github.mmichaelis.phodeli.measure.Length;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Depth of field of a lens focused at a subject: the near and far limits between which the
+ * image is acceptably sharp, and the hyperfocal distance beyond which focusing makes everything
+ * up to infinity acceptably sharp. What is acceptable is given by the circle of confusion,
+ * the largest blur spot on the sensor that is still perceived as a point.
+ * </p>
+ * <p>
+ * The limits follow the thin lens formulas. Distances are measured from the lens; subject
+ * distances must exceed the focal length. For interactive lookups over many combinations of
+ * focal length, aperture and distance, precompute a {@link DepthOfFieldTable}.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class DepthOfField {
+
+  /**
+   * Ratio of the sensor diagonal to the circle of confusion by the common rule of thumb,
+   * giving about 0.029&nbsp;mm for full frame.
+   */
+  private static final double DIAGONAL_TO_CIRCLE_OF_CONFUSION = 1500D;
+  private static final double MILLIMETERS_PER_METER = 1000D;
+
+  /**
+   * Circle of confusion in meters.
+   */
+  private final double circleOfConfusion;
+
+  private DepthOfField(final double circleOfConfusion) {
+    this.circleOfConfusion = circleOfConfusion;
+  }
+
+  /**
+   * Creates a depth of field calculator with the given circle of confusion.
+   *
+   * @param circleOfConfusion diameter of the circle of confusion on the sensor
+   * @return calculator
+   * @throws IllegalArgumentException if the circle of confusion is not positive
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static DepthOfField depthOfField(@NotNull final Length circleOfConfusion) {
+    double meters = requireNonNull(circleOfConfusion, "circleOfConfusion must not be null.")
+      .toMeters();
+    if (!(meters > 0D)) {
+      throw new IllegalArgumentException(
+        "Circle of confusion must be positive but is " + circleOfConfusion + '.');
+    }
+    return new DepthOfField(meters);
+  }
+
+  /**
+   * Creates a depth of field calculator for the sensor of the given lens, with the circle of
+   * confusion being 1/1500 of the sensor diagonal.
+   *
+   * @param lens lens providing the sensor size
+   * @return calculator
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static DepthOfField depthOfField(@NotNull final Lens lens) {
+    return new DepthOfField(requireNonNull(lens, "lens must not be null.").getSensorDiagonal()
+                              .toMeters() / DIAGONAL_TO_CIRCLE_OF_CONFUSION);
+  }
+
+  /**
+   * Diameter of the circle of confusion on the sensor.
+   *
+   * @return circle of confusion
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Length getCircleOfConfusion() {
+    return Length.mm(circleOfConfusion * MILLIMETERS_PER_METER);
+  }
+
+  /**
+   * Distance to focus at, so that the depth of field extends to infinity; it then starts at
+   * half of the hyperfocal distance.
+   *
+   * @param focalLength focal length
+   * @param aperture    f-number, such as 8 for f/8
+   * @return hyperfocal distance
+   * @throws IllegalArgumentException if focal length or aperture is not positive
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Length hyperfocalDistance(@NotNull final Length focalLength, final double aperture) {
+    return Length.m(hyperfocal(checkFocalLength(focalLength), checkAperture(aperture)));
+  }
+
+  /**
+   * Nearest distance which is acceptably sharp.
+   *
+   * @param focalLength     focal length
+   * @param aperture        f-number, such as 8 for f/8
+   * @param subjectDistance distance focused at
+   * @return near limit of the depth of field
+   * @throws IllegalArgumentException if focal length or aperture is not positive, or the
+   *                                  subject distance does not exceed the focal length
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Length nearLimit(@NotNull final Length focalLength,
+                          final double aperture,
+                          @NotNull final Length subjectDistance) {
+    double focal = checkFocalLength(focalLength);
+    double distance = checkSubjectDistance(subjectDistance, focal);
+    return Length.m(1D / inverseNear(focal, hyperfocal(focal, checkAperture(aperture)),
+                                     distance));
+  }
+
+  /**
+   * Farthest distance which is acceptably sharp.
+   *
+   * @param focalLength     focal length
+   * @param aperture        f-number, such as 8 for f/8
+   * @param subjectDistance distance focused at
+   * @return far limit of the depth of field; infinite if focused at or beyond the hyperfocal
+   * distance
+   * @throws IllegalArgumentException if focal length or aperture is not positive, or the
+   *                                  subject distance does not exceed the focal length
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Length farLimit(@NotNull final Length focalLength,
+                         final double aperture,
+                         @NotNull final Length subjectDistance) {
+    double focal = checkFocalLength(focalLength);
+    double distance = checkSubjectDistance(subjectDistance, focal);
+    return Length.m(far(inverseFar(focal, hyperfocal(focal, checkAperture(aperture)),
+                                   distance)));
+  }
+
+  /**
+   * Precomputes the depth of field for all combinations of the given grids in parallel.
+   *
+   * @param focalLengths     focal lengths in millimeters, strictly ascending
+   * @param apertures        f-numbers, strictly ascending
+   * @param subjectDistances subject distances in meters, strictly ascending and exceeding the
+   *                         largest focal length
+   * @return table
+   * @throws IllegalArgumentException if a grid is empty, not strictly ascending or not
+   *                                  positive, or a subject distance does not exceed the
+   *                                  largest focal length
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public DepthOfFieldTable table(@NotNull final double[] focalLengths,
+                                 @NotNull final double[] apertures,
+                                 @NotNull final double[] subjectDistances) {
+    return new DepthOfFieldTable(this, focalLengths, apertures, subjectDistances);
+  }
+
+  /**
+   * Hyperfocal distance in meters for the focal length in meters.
+   */
+  @Contract(pure = true)
+  double hyperfocal(final double focalLength, final double aperture) {
+    return focalLength * focalLength / (aperture * circleOfConfusion) + focalLength;
+  }
+
+  /**
+   * Inverse of the near limit in 1/m, which is almost linear in the inverse subject distance.
+   */
+  @Contract(pure = true)
+  static double inverseNear(final double focalLength,
+                            final double hyperfocal,
+                            final double subjectDistance) {
+    return (hyperfocal + subjectDistance - 2D * focalLength)
+           / (subjectDistance * (hyperfocal - focalLength));
+  }
+
+  /**
+   * Inverse of the far limit in 1/m; not positive if the far limit is infinite.
+   */
+  @Contract(pure = true)
+  static double inverseFar(final double focalLength,
+                           final double hyperfocal,
+                           final double subjectDistance) {
+    return (hyperfocal - subjectDistance) / (subjectDistance * (hyperfocal - focalLength));
+  }
+
+  /**
+   * Far limit in meters for its inverse.
+   */
+  @Contract(pure = true)
+  static double far(final double inverseFar) {
+    return inverseFar > 0D ? 1D / inverseFar : Double.POSITIVE_INFINITY;
+  }
+
+  /**
+   * Focal length in meters.
+   */
+  @Contract(pure = true)
+  static double checkFocalLength(@NotNull final Length focalLength) {
+    double meters = requireNonNull(focalLength, "focalLength must not be null.").toMeters();
+    if (!(meters > 0D)) {
+      throw new IllegalArgumentException(
+        "Focal length must be positive but is " + focalLength + '.');
+    }
+    return meters;
+  }
+
+  @Contract(pure = true)
+  static double checkAperture(final double aperture) {
+    if (!(aperture > 0D)) {
+      throw new IllegalArgumentException("Aperture must be positive but is " + aperture + '.');
+    }
+    return aperture;
+  }
+
+  /**
+   * Subject distance in meters.
+   */
+  @Contract(pure = true)
+  static double checkSubjectDistance(@NotNull final Length subjectDistance,
+                                     final double focalLength) {
+    double meters = requireNonNull(subjectDistance, "subjectDistance must not be null.")
+      .toMeters();
+    if (!(meters > focalLength)) {
+      throw new IllegalArgumentException(
+        "Subject distance must exceed the focal length but is " + subjectDistance + '.');
+    }
+    return meters;
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{circleOfConfusion=" + getCircleOfConfusion() + '}';
+  }
+}
@@ -0,0 +1,341 @@
+package com.github.mmichaelis.phodeli.optics;
+
+import static com.github.mmichaelis.phodeli.optics.DepthOfField.checkAperture;
+import static com.github.mmichaelis.phodeli.optics.DepthOfField.checkFocalLength;
+import static com.github.mmichaelis.phodeli.optics.DepthOfField.checkSubjectDistance;
+import static com.github.mmichaelis.phodeli.optics.DepthOfField.far;
+import static com.github.mmichaelis.phodeli.optics.DepthOfField.inverseFar;
+import static com.github.mmichaelis.phodeli.optics.DepthOfField.inverseNear;
+
+import com.github.mmichaelis.phodeli.measure.Length;
+
+import java.util.stream.IntStream;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Depth of field precomputed for all combinations of grids of focal lengths, apertures and
+ * subject distances, so that lookups for interactive use only interpolate between table
+ * entries. Tables are computed in parallel into primitive arrays.
+ * </p>
+ * <p>
+ * Entries store inverse distances, which makes interpolation almost exact: the inverse limits
+ * are linear in the inverse subject distance and, dominated by the term
+ * {@code N c / f&sup2;}, almost linear in the aperture {@code N} and in the inverse square of
+ * the focal length {@code f}. Interpolation therefore uses these coordinates. Lookups outside
+ * of the grids are computed exactly by the {@link DepthOfField} the table was created from.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @see DepthOfField#table(double[], double[], double[])
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class DepthOfFieldTable {
+
+  private static final double METERS_PER_MILLIMETER = 0.001D;
+
+  @NotNull
+  private final DepthOfField depthOfField;
+  /**
+   * Focal lengths in meters.
+   */
+  @NotNull
+  private final double[] focalLengths;
+  @NotNull
+  private final double[] apertures;
+  /**
+   * Subject distances in meters.
+   */
+  @NotNull
+  private final double[] subjectDistances;
+  /**
+   * Inverse hyperfocal distances in 1/m by focal length and aperture.
+   */
+  @NotNull
+  private final double[] inverseHyperfocals;
+  /**
+   * Inverse near limits in 1/m by focal length, aperture and subject distance.
+   */
+  @NotNull
+  private final double[] inverseNears;
+  /**
+   * Inverse far limits in 1/m by focal length, aperture and subject distance; not positive if
+   * the far limit is infinite.
+   */
+  @NotNull
+  private final double[] inverseFars;
+
+  DepthOfFieldTable(@NotNull final DepthOfField depthOfField,
+                    @NotNull final double[] focalLengths,
+                    @NotNull final double[] apertures,
+                    @NotNull final double[] subjectDistances) {
+    checkGrid(focalLengths, "Focal lengths");
+    checkGrid(apertures, "Apertures");
+    checkGrid(subjectDistances, "Subject distances");
+    this.depthOfField = depthOfField;
+    this.focalLengths = new double[focalLengths.length];
+    for (int i = 0; i < focalLengths.length; i++) {
+      this.focalLengths[i] = focalLengths[i] * METERS_PER_MILLIMETER;
+    }
+    if (!(subjectDistances[0] > this.focalLengths[focalLengths.length - 1])) {
+      throw new IllegalArgumentException(
+        "Subject distances must exceed the focal lengths but start at " + subjectDistances[0]
+        + " m.");
+    }
+    this.apertures = apertures.clone();
+    this.subjectDistances = subjectDistances.clone();
+    int rows = focalLengths.length * apertures.length;
+    int columns = subjectDistances.length;
+    inverseHyperfocals = new double[rows];
+    inverseNears = new double[rows * columns];
+    inverseFars = new double[rows * columns];
+    IntStream.range(0, rows).parallel().forEach(row -> {
+      double focalLength = this.focalLengths[row / apertures.length];
+      double hyperfocal = depthOfField.hyperfocal(focalLength, apertures[row % apertures.length]);
+      inverseHyperfocals[row] = 1D / hyperfocal;
+      for (int column = 0; column < columns; column++) {
+        double distance = subjectDistances[column];
+        inverseNears[row * columns + column] = inverseNear(focalLength, hyperfocal, distance);
+        inverseFars[row * columns + column] = inverseFar(focalLength, hyperfocal, distance);
+      }
+    });
+  }
+
+  /**
+   * Depth of field calculator this table was created from.
+   *
+   * @return calculator
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public DepthOfField getDepthOfField() {
+    return depthOfField;
+  }
+
+  /**
+   * Number of table entries, which is the product of the sizes of the grids.
+   *
+   * @return number of entries
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int getEntryCount() {
+    return inverseNears.length;
+  }
+
+  /**
+   * Hyperfocal distance, interpolated within the grids.
+   *
+   * @param focalLength focal length
+   * @param aperture    f-number, such as 8 for f/8
+   * @return hyperfocal distance
+   * @throws IllegalArgumentException if focal length or aperture is not positive
+   * @see DepthOfField#hyperfocalDistance(Length, double)
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Length hyperfocalDistance(@NotNull final Length focalLength, final double aperture) {
+    double focal = checkFocalLength(focalLength);
+    int focalIndex = lowerIndex(focalLengths, focal);
+    int apertureIndex = lowerIndex(apertures, checkAperture(aperture));
+    if (focalIndex < 0 || apertureIndex < 0) {
+      return depthOfField.hyperfocalDistance(focalLength, aperture);
+    }
+    double focalWeight = focalWeight(focalIndex, focal);
+    double apertureWeight = weight(apertures, apertureIndex, aperture);
+    double inverse = 0D;
+    for (int f = 0; f < 2; f++) {
+      for (int a = 0; a < 2; a++) {
+        double weight = corner(focalWeight, f) * corner(apertureWeight, a);
+        if (weight != 0D) {
+          inverse += weight * inverseHyperfocals[row(focalIndex + f, apertureIndex + a)];
+        }
+      }
+    }
+    return Length.m(1D / inverse);
+  }
+
+  /**
+   * Nearest distance which is acceptably sharp, interpolated within the grids.
+   *
+   * @param focalLength     focal length
+   * @param aperture        f-number, such as 8 for f/8
+   * @param subjectDistance distance focused at
+   * @return near limit of the depth of field
+   * @throws IllegalArgumentException if focal length or aperture is not positive, or the
+   *                                  subject distance does not exceed the focal length
+   * @see DepthOfField#nearLimit(Length, double, Length)
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Length nearLimit(@NotNull final Length focalLength,
+                          final double aperture,
+                          @NotNull final Length subjectDistance) {
+    double inverse = interpolate(inverseNears, focalLength, aperture, subjectDistance);
+    return Double.isNaN(inverse)
+           ? depthOfField.nearLimit(focalLength, aperture, subjectDistance)
+           : Length.m(1D / inverse);
+  }
+
+  /**
+   * Farthest distance which is acceptably sharp, interpolated within the grids.
+   *
+   * @param focalLength     focal length
+   * @param aperture        f-number, such as 8 for f/8
+   * @param subjectDistance distance focused at
+   * @return far limit of the depth of field; infinite if focused at or beyond the hyperfocal
+   * distance
+   * @throws IllegalArgumentException if focal length or aperture is not positive, or the
+   *                                  subject distance does not exceed the focal length
+   * @see DepthOfField#farLimit(Length, double, Length)
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Length farLimit(@NotNull final Length focalLength,
+                         final double aperture,
+                         @NotNull final Length subjectDistance) {
+    double inverse = interpolate(inverseFars, focalLength, aperture, subjectDistance);
+    return Double.isNaN(inverse)
+           ? depthOfField.farLimit(focalLength, aperture, subjectDistance)
+           : Length.m(far(inverse));
+  }
+
+  /**
+   * Interpolates the given table of inverse distances.
+   *
+   * @return interpolated value; {@code NaN} if outside of the grids
+   */
+  @Contract(pure = true)
+  private double interpolate(@NotNull final double[] table,
+                             @NotNull final Length focalLength,
+                             final double aperture,
+                             @NotNull final Length subjectDistance) {
+    double focal = checkFocalLength(focalLength);
+    double distance = checkSubjectDistance(subjectDistance, focal);
+    int focalIndex = lowerIndex(focalLengths, focal);
+    int apertureIndex = lowerIndex(apertures, checkAperture(aperture));
+    int distanceIndex = lowerIndex(subjectDistances, distance);
+    if (focalIndex < 0 || apertureIndex < 0 || distanceIndex < 0) {
+      return Double.NaN;
+    }
+    double focalWeight = focalWeight(focalIndex, focal);
+    double apertureWeight = weight(apertures, apertureIndex, aperture);
+    double distanceWeight = distanceWeight(distanceIndex, distance);
+    int columns = subjectDistances.length;
+    double value = 0D;
+    for (int f = 0; f < 2; f++) {
+      for (int a = 0; a < 2; a++) {
+        double rowWeight = corner(focalWeight, f) * corner(apertureWeight, a);
+        if (rowWeight == 0D) {
+          continue;
+        }
+        int offset = row(focalIndex + f, apertureIndex + a) * columns + distanceIndex;
+        value += rowWeight * (1D - distanceWeight) * table[offset];
+        if (distanceWeight != 0D) {
+          value += rowWeight * distanceWeight * table[offset + 1];
+        }
+      }
+    }
+    return value;
+  }
+
+  @Contract(pure = true)
+  private int row(final int focalIndex, final int apertureIndex) {
+    return focalIndex * apertures.length + apertureIndex;
+  }
+
+  /**
+   * Weight of the upper neighbor along the focal lengths, linear in their inverse square.
+   */
+  @Contract(pure = true)
+  private double focalWeight(final int index, final double focalLength) {
+    if (index + 1 == focalLengths.length) {
+      return 0D;
+    }
+    double lower = 1D / (focalLengths[index] * focalLengths[index]);
+    double upper = 1D / (focalLengths[index + 1] * focalLengths[index + 1]);
+    return (1D / (focalLength * focalLength) - lower) / (upper - lower);
+  }
+
+  /**
+   * Weight of the upper neighbor along the subject distances, linear in their inverse.
+   */
+  @Contract(pure = true)
+  private double distanceWeight(final int index, final double distance) {
+    if (index + 1 == subjectDistances.length) {
+      return 0D;
+    }
+    double lower = 1D / subjectDistances[index];
+    double upper = 1D / subjectDistances[index + 1];
+    return (1D / distance - lower) / (upper - lower);
+  }
+
+  /**
+   * Weight of the upper neighbor, linear in the values.
+   */
+  @Contract(pure = true)
+  private static double weight(@NotNull final double[] grid, final int index, final double value) {
+    if (index + 1 == grid.length) {
+      return 0D;
+    }
+    return (value - grid[index]) / (grid[index + 1] - grid[index]);
+  }
+
+  @Contract(pure = true)
+  private static double corner(final double upperWeight, final int upper) {
+    return upper == 0 ? 1D - upperWeight : upperWeight;
+  }
+
+  /**
+   * Index of the largest grid value not exceeding the given value.
+   *
+   * @return index; -1 if the value is outside of the grid
+   */
+  @Contract(pure = true)
+  private static int lowerIndex(@NotNull final double[] grid, final double value) {
+    if (value < grid[0] || value > grid[grid.length - 1]) {
+      return -1;
+    }
+    int low = 0;
+    int high = grid.length - 1;
+    while (low < high) {
+      int middle = (low + high + 1) >>> 1;
+      if (grid[middle] <= value) {
+        low = middle;
+      } else {
+        high = middle - 1;
+      }
+    }
+    return low;
+  }
+
+  private static void checkGrid(@NotNull final double[] grid, @NotNull final String name) {
+    if (grid.length == 0) {
+      throw new IllegalArgumentException(name + " must not be empty.");
+    }
+    if (!(grid[0] > 0D)) {
+      throw new IllegalArgumentException(name + " must be positive but start at " + grid[0] + '.');
+    }
+    for (int i = 1; i < grid.length; i++) {
+      if (!(grid[i] > grid[i - 1])) {
+        throw new IllegalArgumentException(
+          name + " must be strictly ascending but " + grid[i] + " follows " + grid[i - 1] + '.');
+      }
+    }
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{depthOfField=" + depthOfField + ", focalLengths="
+           + focalLengths.length + ", apertures=" + apertures.length + ", subjectDistances="
+           + subjectDistances.length + '}';
+  }
+}
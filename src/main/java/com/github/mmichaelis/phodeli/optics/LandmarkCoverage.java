@@ -0,0 +1,229 @@
+package com.github.mmichaelis.phodeli.optics;
+
+import static java.lang.Math.cos;
+import static java.lang.Math.hypot;
+import static java.lang.Math.sin;
+import static java.lang.Math.toRadians;
+import static java.util.Objects.requireNonNull;
+
+import com.github.mmichaelis.phodeli.geo.GeoCellIndex;
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+import com.github.mmichaelis.phodeli.measure.Angle;
+import com.github.mmichaelis.phodeli.measure.Length;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Decides which of a set of landmarks a lens captures from a spot: a landmark is covered if it
+ * is within range and within the horizontal field of view around the bearing the camera
+ * points to. Elevation and obstruction are not taken into account.
+ * </p>
+ * <p>
+ * Landmarks are indexed once by a {@link GeoCellIndex} with cells about the size of the range,
+ * so that each spot only checks the landmarks around it. The side on which a landmark lies is
+ * decided by the angle between the bearing and the direction to the landmark, computed from
+ * their dot product without inverse trigonometric functions. Many spots are evaluated in
+ * parallel.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class LandmarkCoverage {
+
+  @NotNull
+  private final Lens lens;
+  @NotNull
+  private final Length range;
+  /**
+   * Cosine of half the horizontal field of view.
+   */
+  private final double cosHalfFieldOfView;
+  @NotNull
+  private final GeoCellIndex index;
+  @NotNull
+  private final double[] sinLatitudes;
+  @NotNull
+  private final double[] cosLatitudes;
+  /**
+   * Longitudes of the landmarks in radians.
+   */
+  @NotNull
+  private final double[] longitudes;
+
+  private LandmarkCoverage(@NotNull final Lens lens,
+                           @NotNull final Length range,
+                           @NotNull final double[] latitudes,
+                           @NotNull final double[] longitudes) {
+    this.lens = lens;
+    this.range = range;
+    cosHalfFieldOfView = cos(lens.fieldOfView(lens.getSensorWidth().toMillimeters()) / 2D);
+    index = GeoCellIndex.index(latitudes, longitudes, range);
+    sinLatitudes = new double[latitudes.length];
+    cosLatitudes = new double[latitudes.length];
+    this.longitudes = new double[longitudes.length];
+    Arrays.setAll(sinLatitudes, i -> sin(toRadians(latitudes[i])));
+    Arrays.setAll(cosLatitudes, i -> cos(toRadians(latitudes[i])));
+    Arrays.setAll(this.longitudes, i -> toRadians(longitudes[i]));
+  }
+
+  /**
+   * Prepares the coverage of the given landmarks. The arrays are not referenced after
+   * construction.
+   *
+   * @param lens       lens of the camera
+   * @param range      maximum distance at which landmarks are regarded
+   * @param latitudes  latitudes of the landmarks in degrees
+   * @param longitudes longitudes of the landmarks in degrees
+   * @return coverage
+   * @throws IllegalArgumentException if arrays differ in length or range is not positive
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static LandmarkCoverage landmarkCoverage(@NotNull final Lens lens,
+                                                  @NotNull final Length range,
+                                                  @NotNull final double[] latitudes,
+                                                  @NotNull final double[] longitudes) {
+    requireNonNull(lens, "lens must not be null.");
+    if (!(requireNonNull(range, "range must not be null.").toMeters() > 0D)) {
+      throw new IllegalArgumentException("Range must be positive but is " + range + '.');
+    }
+    return new LandmarkCoverage(lens, range, latitudes, longitudes);
+  }
+
+  /**
+   * Lens of the camera.
+   *
+   * @return lens
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Lens getLens() {
+    return lens;
+  }
+
+  /**
+   * Maximum distance at which landmarks are regarded.
+   *
+   * @return range
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Length getRange() {
+    return range;
+  }
+
+  /**
+   * Number of landmarks.
+   *
+   * @return number of landmarks
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int getLandmarkCount() {
+    return longitudes.length;
+  }
+
+  /**
+   * Landmarks covered from the given spot.
+   *
+   * @param position position of the camera
+   * @param bearing  direction the camera points to, clockwise from north
+   * @return indices of the covered landmarks (as given on construction) in ascending order
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public int[] covered(@NotNull final GeoCoordinate position, @NotNull final Angle bearing) {
+    IntStream.Builder builder = IntStream.builder();
+    double latitude = position.getLatitude().toRadians();
+    double sinLatitude = sin(latitude);
+    double cosLatitude = cos(latitude);
+    double longitude = position.getLongitude().toRadians();
+    double sinBearing = sin(bearing.toRadians());
+    double cosBearing = cos(bearing.toRadians());
+    index.forEachWithin(position, range, landmark -> {
+      if (inView(sinLatitude, cosLatitude, longitude, sinBearing, cosBearing, landmark)) {
+        builder.add(landmark);
+      }
+    });
+    return builder.build().sorted().toArray();
+  }
+
+  /**
+   * Number of landmarks covered from each of the given spots, evaluated in parallel.
+   *
+   * @param latitudes  latitudes of the spots in degrees
+   * @param longitudes longitudes of the spots in degrees
+   * @param bearings   directions the camera points to at each spot in degrees, clockwise from
+   *                   north
+   * @param count      number of spots, starting at index 0
+   * @param counts     target for the number of covered landmarks per spot
+   * @throws IllegalArgumentException if count exceeds the arrays
+   * @since 1.0.0
+   */
+  public void coverage(@NotNull final double[] latitudes,
+                       @NotNull final double[] longitudes,
+                       @NotNull final double[] bearings,
+                       final int count,
+                       @NotNull final int[] counts) {
+    if (count > latitudes.length || count > longitudes.length || count > bearings.length
+        || count > counts.length) {
+      throw new IllegalArgumentException(
+        "Count " + count + " exceeds latitudes (" + latitudes.length + "), longitudes ("
+        + longitudes.length + "), bearings (" + bearings.length + ") or counts ("
+        + counts.length + ").");
+    }
+    IntStream.range(0, count).parallel().forEach(spot -> {
+      double latitude = toRadians(latitudes[spot]);
+      double sinLatitude = sin(latitude);
+      double cosLatitude = cos(latitude);
+      double longitude = toRadians(longitudes[spot]);
+      double sinBearing = sin(toRadians(bearings[spot]));
+      double cosBearing = cos(toRadians(bearings[spot]));
+      int[] covered = new int[1];
+      index.forEachWithin(GeoCoordinate.degrees(latitudes[spot], longitudes[spot]), range,
+                          landmark -> {
+                            if (inView(sinLatitude, cosLatitude, longitude, sinBearing,
+                                       cosBearing, landmark)) {
+                              covered[0]++;
+                            }
+                          });
+      counts[spot] = covered[0];
+    });
+  }
+
+  /**
+   * Decides whether the landmark lies within the horizontal field of view. The direction to
+   * the landmark is given by its north and east components in the tangent plane at the spot.
+   */
+  @Contract(pure = true)
+  private boolean inView(final double sinLatitude,
+                         final double cosLatitude,
+                         final double longitude,
+                         final double sinBearing,
+                         final double cosBearing,
+                         final int landmark) {
+    double deltaLongitude = longitudes[landmark] - longitude;
+    double north = cosLatitude * sinLatitudes[landmark]
+                   - sinLatitude * cosLatitudes[landmark] * cos(deltaLongitude);
+    double east = cosLatitudes[landmark] * sin(deltaLongitude);
+    return north * cosBearing + east * sinBearing >= hypot(north, east) * cosHalfFieldOfView;
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{lens=" + lens + ", range=" + range + ", landmarks="
+           + getLandmarkCount() + '}';
+  }
+}
@@ -0,0 +1,326 @@
+package com.github.mmichaelis.phodeli.optics;
+
+import static com.github.mmichaelis.phodeli.geo.GreatCircleOrigin.origin;
+import static java.lang.Math.atan;
+import static java.lang.Math.hypot;
+import static java.lang.Math.toDegrees;
+import static java.util.Objects.requireNonNull;
+
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+import com.github.mmichaelis.phodeli.measure.Angle;
+import com.github.mmichaelis.phodeli.measure.Length;
+
+import java.io.Serializable;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Combination of a rectilinear lens and a sensor, given by the focal length and the size of
+ * the sensor. The field of view is that of a lens focused at infinity; focusing closer narrows
+ * it slightly, which is neglected.
+ * </p>
+ * <p>
+ * The sensor width is the horizontal side of the image, so a camera held in portrait
+ * orientation is represented by swapping width and height, see {@link #portrait()}.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @see LandmarkCoverage
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class Lens implements Serializable {
+
+  private static final long serialVersionUID = 5317736042398714402L;
+
+  /**
+   * Diagonal of a full frame sensor (36&nbsp;mm &times; 24&nbsp;mm) in millimeters, the
+   * reference of crop factors.
+   */
+  private static final double FULL_FRAME_DIAGONAL = hypot(36D, 24D);
+  private static final double FULL_FRAME_WIDTH = 36D;
+  private static final double FULL_FRAME_HEIGHT = 24D;
+
+  @NotNull
+  private final Length focalLength;
+  @NotNull
+  private final Length sensorWidth;
+  @NotNull
+  private final Length sensorHeight;
+
+  private Lens(@NotNull final Length focalLength,
+               @NotNull final Length sensorWidth,
+               @NotNull final Length sensorHeight) {
+    this.focalLength = focalLength;
+    this.sensorWidth = sensorWidth;
+    this.sensorHeight = sensorHeight;
+  }
+
+  /**
+   * Creates a lens on a sensor of the given size.
+   *
+   * @param focalLength  focal length
+   * @param sensorWidth  width of the sensor
+   * @param sensorHeight height of the sensor
+   * @return lens
+   * @throws IllegalArgumentException if any length is not positive
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static Lens lens(@NotNull final Length focalLength,
+                          @NotNull final Length sensorWidth,
+                          @NotNull final Length sensorHeight) {
+    checkPositive(requireNonNull(focalLength, "focalLength must not be null."), "Focal length");
+    checkPositive(requireNonNull(sensorWidth, "sensorWidth must not be null."), "Sensor width");
+    checkPositive(requireNonNull(sensorHeight, "sensorHeight must not be null."),
+                  "Sensor height");
+    return new Lens(focalLength, sensorWidth, sensorHeight);
+  }
+
+  /**
+   * Creates a lens on a full frame sensor of 36&nbsp;mm &times; 24&nbsp;mm in landscape
+   * orientation.
+   *
+   * @param focalLength focal length
+   * @return lens
+   * @throws IllegalArgumentException if the focal length is not positive
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static Lens fullFrame(@NotNull final Length focalLength) {
+    return lens(focalLength, Length.mm(FULL_FRAME_WIDTH), Length.mm(FULL_FRAME_HEIGHT));
+  }
+
+  /**
+   * Focal length of the lens.
+   *
+   * @return focal length
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Length getFocalLength() {
+    return focalLength;
+  }
+
+  /**
+   * Horizontal side of the sensor.
+   *
+   * @return width of the sensor
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Length getSensorWidth() {
+    return sensorWidth;
+  }
+
+  /**
+   * Vertical side of the sensor.
+   *
+   * @return height of the sensor
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Length getSensorHeight() {
+    return sensorHeight;
+  }
+
+  /**
+   * Diagonal of the sensor.
+   *
+   * @return diagonal of the sensor
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Length getSensorDiagonal() {
+    return Length.mm(diagonalMillimeters());
+  }
+
+  /**
+   * Ratio of the diagonal of a full frame sensor to the diagonal of this sensor.
+   *
+   * @return crop factor; 1 for full frame
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public double getCropFactor() {
+    return FULL_FRAME_DIAGONAL / diagonalMillimeters();
+  }
+
+  /**
+   * Angle of view across the width of the sensor.
+   *
+   * @return horizontal field of view
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Angle getHorizontalFieldOfView() {
+    return Angle.radians(fieldOfView(sensorWidth.toMillimeters()));
+  }
+
+  /**
+   * Angle of view across the height of the sensor.
+   *
+   * @return vertical field of view
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Angle getVerticalFieldOfView() {
+    return Angle.radians(fieldOfView(sensorHeight.toMillimeters()));
+  }
+
+  /**
+   * Angle of view across the diagonal of the sensor, as commonly given in lens
+   * specifications.
+   *
+   * @return diagonal field of view
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Angle getDiagonalFieldOfView() {
+    return Angle.radians(fieldOfView(diagonalMillimeters()));
+  }
+
+  /**
+   * Width of the scene captured at the given distance from the camera.
+   *
+   * @param distance distance from the camera, perpendicular to the sensor
+   * @return width of the captured scene
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Length coveredWidth(@NotNull final Length distance) {
+    return Length.m(distance.toMeters() * sensorWidth.toMillimeters()
+                    / focalLength.toMillimeters());
+  }
+
+  /**
+   * Height of the scene captured at the given distance from the camera.
+   *
+   * @param distance distance from the camera, perpendicular to the sensor
+   * @return height of the captured scene
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Length coveredHeight(@NotNull final Length distance) {
+    return Length.m(distance.toMeters() * sensorHeight.toMillimeters()
+                    / focalLength.toMillimeters());
+  }
+
+  /**
+   * This lens with the camera turned to portrait orientation, which swaps width and height of
+   * the sensor.
+   *
+   * @return lens with swapped sensor sides
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Lens portrait() {
+    return new Lens(focalLength, sensorHeight, sensorWidth);
+  }
+
+  /**
+   * Footprint of the horizontal field of view on the map: the wedge from the position towards
+   * the bearing, up to the given range. All vertices but the last lie on the arc at the range,
+   * from the left to the right edge of the view; the last vertex is the position. The
+   * vertices may be passed on to
+   * {@link com.github.mmichaelis.phodeli.geo.PreparedPolygon#polygon(double[], double[], int)}
+   * or written as GeoJSON.
+   *
+   * @param position   position of the camera
+   * @param bearing    direction the camera points to, clockwise from north
+   * @param range      radius of the wedge
+   * @param latitudes  target for latitudes of the vertices in degrees
+   * @param longitudes target for longitudes of the vertices in degrees
+   * @param count      number of vertices, at least 3
+   * @throws IllegalArgumentException if count is less than 3 or exceeds the arrays
+   * @since 1.0.0
+   */
+  public void footprint(@NotNull final GeoCoordinate position,
+                        @NotNull final Angle bearing,
+                        @NotNull final Length range,
+                        @NotNull final double[] latitudes,
+                        @NotNull final double[] longitudes,
+                        final int count) {
+    if (count < 3) {
+      throw new IllegalArgumentException("Count must be at least 3 but is " + count + '.');
+    }
+    if (count > latitudes.length || count > longitudes.length) {
+      throw new IllegalArgumentException(
+        "Count " + count + " exceeds latitudes (" + latitudes.length + ") or longitudes ("
+        + longitudes.length + ").");
+    }
+    double fieldOfView = toDegrees(fieldOfView(sensorWidth.toMillimeters()));
+    double left = bearing.toDegrees() - fieldOfView / 2D;
+    double step = fieldOfView / (count - 2);
+    double[] bearings = new double[count - 1];
+    for (int i = 0; i < bearings.length; i++) {
+      bearings[i] = left + i * step;
+    }
+    origin(position).destinations(bearings, range, latitudes, longitudes, bearings.length);
+    latitudes[count - 1] = position.getLatitude().toDegrees();
+    longitudes[count - 1] = position.getLongitude().toDegrees();
+  }
+
+  /**
+   * Field of view in radians across the given extent of the sensor in millimeters.
+   */
+  @Contract(pure = true)
+  double fieldOfView(final double extent) {
+    return 2D * atan(extent / (2D * focalLength.toMillimeters()));
+  }
+
+  @Contract(pure = true)
+  private double diagonalMillimeters() {
+    return hypot(sensorWidth.toMillimeters(), sensorHeight.toMillimeters());
+  }
+
+  private static void checkPositive(@NotNull final Length length, @NotNull final String name) {
+    if (!(length.toMillimeters() > 0D)) {
+      throw new IllegalArgumentException(name + " must be positive but is " + length + '.');
+    }
+  }
+
+  @Override
+  @Contract(pure = true)
+  public int hashCode() {
+    int result = focalLength.hashCode();
+    result = 31 * result + sensorWidth.hashCode();
+    return 31 * result + sensorHeight.hashCode();
+  }
+
+  @Override
+  @Contract(pure = true)
+  public boolean equals(final Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    Lens other = (Lens) obj;
+    return focalLength.equals(other.focalLength)
+           && sensorWidth.equals(other.sensorWidth)
+           && sensorHeight.equals(other.sensorHeight);
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{focalLength=" + focalLength + ", sensorWidth=" + sensorWidth
+           + ", sensorHeight=" + sensorHeight + '}';
+  }
+}
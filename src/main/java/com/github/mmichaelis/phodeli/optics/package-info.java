@@ -0,0 +1,14 @@
+/**
+ * <p>
+ * Camera optics: the field of view of a lens and its projection onto the map, to decide which
+ * landmarks a photographer can capture from a spot.
+ * </p>
+ * <p>
+ * Bulk operations use the structure-of-arrays layout of {@link com.github.mmichaelis.phodeli.geo}:
+ * latitudes and longitudes in degrees as separate {@code double} arrays.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+package com.github.mmichaelis.phodeli.optics;
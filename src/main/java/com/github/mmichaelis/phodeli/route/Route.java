@@ -0,0 +1,97 @@
+package com.github.mmichaelis.phodeli.route;
+
+import com.github.mmichaelis.phodeli.measure.Length;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Order in which to visit a set of locations, either as closed round trip or as open walk.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class Route {
+
+  @NotNull
+  private final int[] order;
+  private final boolean closed;
+  @NotNull
+  private final Length length;
+
+  Route(@NotNull final int[] order, final boolean closed, @NotNull final Length length) {
+    this.order = order;
+    this.closed = closed;
+    this.length = length;
+  }
+
+  /**
+   * Number of locations on this route.
+   *
+   * @return number of locations
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int size() {
+    return order.length;
+  }
+
+  /**
+   * Index of the location to visit at the given position.
+   *
+   * @param position position on the route, starting with 0
+   * @return index of the location as given to the optimizer
+   * @throws IndexOutOfBoundsException if position is out of range
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public int getIndex(final int position) {
+    return order[position];
+  }
+
+  /**
+   * Indices of the locations in the order to visit them.
+   *
+   * @return copy of the order
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public int[] getOrder() {
+    return order.clone();
+  }
+
+  /**
+   * Signals if this route returns from the last location to the first one.
+   *
+   * @return {@code true} for a round trip
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public boolean isClosed() {
+    return closed;
+  }
+
+  /**
+   * Total length of this route along great circles, including the way back for closed
+   * routes.
+   *
+   * @return length
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public Length getLength() {
+    return length;
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{closed=" + closed + ", length=" + length + ", size="
+           + order.length + '}';
+  }
+}
@@ -0,0 +1,531 @@
+package com.github.mmichaelis.phodeli.route;
+
+import static com.github.mmichaelis.phodeli.geo.GreatCircle.EARTH_RADIUS_METERS;
+import static com.github.mmichaelis.phodeli.geo.GreatCircle.haversine;
+import static com.github.mmichaelis.phodeli.geo.GreatCircle.haversineToAngle;
+import static java.lang.Math.cos;
+import static java.lang.Math.toRadians;
+
+import com.github.mmichaelis.phodeli.geo.NeighborBuffer;
+import com.github.mmichaelis.phodeli.geo.VantagePointTree;
+import com.github.mmichaelis.phodeli.measure.Length;
+
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Orders locations into a short walk, a heuristic solution of the traveling salesman problem.
+ * </p>
+ * <p>
+ * A nearest neighbor tour serves as start, which is then improved by 2-opt and Or-opt moves
+ * until no improving move is left. Moves are only searched among the nearest neighbors of each
+ * location, and don't-look bits skip locations whose surroundings did not change since they
+ * were checked last. Multiple starts run in parallel and the shortest route wins.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class RouteOptimizer {
+
+  /**
+   * Number of nearest neighbors considered for moves.
+   */
+  private static final int NEIGHBORS = 8;
+  /**
+   * Maximum length of segments moved by Or-opt.
+   */
+  private static final int MAX_SEGMENT = 3;
+  /**
+   * Minimum improvement (as central angle) for a move to be applied, avoiding endless loops
+   * due to rounding.
+   */
+  private static final double EPSILON = 1E-12D;
+  private static final int NEIGHBOR_CHUNK = 1024;
+
+  private RouteOptimizer() {
+  }
+
+  /**
+   * Orders the given locations into a short round trip.
+   *
+   * @param latitudes  latitudes in degrees
+   * @param longitudes longitudes in degrees
+   * @return route
+   * @throws IllegalArgumentException if arrays differ in length
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static Route closedRoute(@NotNull final double[] latitudes,
+                                  @NotNull final double[] longitudes) {
+    return route(latitudes, longitudes, true, 1);
+  }
+
+  /**
+   * Orders the given locations into a short walk, which may start and end anywhere.
+   *
+   * @param latitudes  latitudes in degrees
+   * @param longitudes longitudes in degrees
+   * @return route
+   * @throws IllegalArgumentException if arrays differ in length
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static Route openRoute(@NotNull final double[] latitudes,
+                                @NotNull final double[] longitudes) {
+    return route(latitudes, longitudes, false, 1);
+  }
+
+  /**
+   * Orders the given locations into a short route, optimizing several differently seeded
+   * routes in parallel.
+   *
+   * @param latitudes  latitudes in degrees
+   * @param longitudes longitudes in degrees
+   * @param closed     {@code true} for a round trip, {@code false} for a walk which may start
+   *                   and end anywhere
+   * @param starts     number of start tours to optimize, for example the number of available
+   *                   processors
+   * @return shortest route found
+   * @throws IllegalArgumentException if arrays differ in length or starts is not positive
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static Route route(@NotNull final double[] latitudes,
+                            @NotNull final double[] longitudes,
+                            final boolean closed,
+                            final int starts) {
+    int size = latitudes.length;
+    if (longitudes.length != size) {
+      throw new IllegalArgumentException(
+        "Latitudes (" + size + ") and longitudes (" + longitudes.length
+        + ") differ in length.");
+    }
+    if (starts < 1) {
+      throw new IllegalArgumentException("Starts must be positive but is " + starts + '.');
+    }
+    Problem problem = new Problem(latitudes, longitudes, closed);
+    Tour best = IntStream.range(0, Math.min(starts, Math.max(1, size)))
+      .parallel()
+      .mapToObj(start -> {
+        Tour tour = new Tour(problem, (int) ((long) start * size / starts));
+        tour.optimize();
+        return tour;
+      })
+      .min(Comparator.comparingDouble(Tour::length))
+      .orElseThrow(IllegalStateException::new);
+    return best.toRoute();
+  }
+
+  /**
+   * Locations and their neighbor lists, shared by all tours. An open route is modelled as
+   * round trip via an additional virtual location with distance zero to all others.
+   */
+  private static final class Problem {
+
+    private final int size;
+    /**
+     * Number of tour nodes, including the virtual location for open routes.
+     */
+    private final int nodes;
+    private final boolean closed;
+    @NotNull
+    private final double[] latitudes;
+    @NotNull
+    private final double[] longitudes;
+    @NotNull
+    private final double[] cosLatitudes;
+    private final int neighborCount;
+    /**
+     * Nearest neighbors of each location sorted by distance, {@link #neighborCount} per
+     * location.
+     */
+    @NotNull
+    private final int[] neighbors;
+    /**
+     * Central angles to the {@link #neighbors}.
+     */
+    @NotNull
+    private final double[] neighborDistances;
+
+    private Problem(@NotNull final double[] latitudes,
+                    @NotNull final double[] longitudes,
+                    final boolean closed) {
+      size = latitudes.length;
+      nodes = closed ? size : size + 1;
+      this.closed = closed;
+      this.latitudes = new double[size];
+      this.longitudes = new double[size];
+      cosLatitudes = new double[size];
+      for (int i = 0; i < size; i++) {
+        this.latitudes[i] = toRadians(latitudes[i]);
+        this.longitudes[i] = toRadians(longitudes[i]);
+        cosLatitudes[i] = cos(this.latitudes[i]);
+      }
+      neighborCount = Math.max(0, Math.min(NEIGHBORS, size - 1));
+      neighbors = new int[size * neighborCount];
+      neighborDistances = new double[size * neighborCount];
+      VantagePointTree tree = VantagePointTree.build(latitudes, longitudes);
+      IntStream.range(0, (size + NEIGHBOR_CHUNK - 1) / NEIGHBOR_CHUNK).parallel().forEach(c -> {
+        NeighborBuffer buffer = NeighborBuffer.neighborBuffer(neighborCount + 1);
+        int end = Math.min(size, (c + 1) * NEIGHBOR_CHUNK);
+        for (int i = c * NEIGHBOR_CHUNK; i < end; i++) {
+          tree.nearest(latitudes[i], longitudes[i], neighborCount + 1, buffer);
+          int found = 0;
+          for (int rank = 0; rank < buffer.size() && found < neighborCount; rank++) {
+            if (buffer.getIndex(rank) != i) {
+              neighbors[i * neighborCount + found] = buffer.getIndex(rank);
+              neighborDistances[i * neighborCount + found] =
+                buffer.getCentralAngle(rank).toRadians();
+              found++;
+            }
+          }
+        }
+      });
+    }
+
+    /**
+     * Distance between two nodes as central angle.
+     */
+    @Contract(pure = true)
+    private double distance(final int first, final int second) {
+      if (first >= size || second >= size) {
+        return 0D;
+      }
+      return haversineToAngle(haversine(latitudes[first], cosLatitudes[first],
+                                        latitudes[second], cosLatitudes[second],
+                                        longitudes[second] - longitudes[first]));
+    }
+  }
+
+  /**
+   * Tour in array representation: {@code tour} holds the nodes in order, {@code positions}
+   * the position of each node.
+   */
+  private static final class Tour {
+
+    @NotNull
+    private final Problem problem;
+    private final int nodes;
+    @NotNull
+    private final int[] tour;
+    @NotNull
+    private final int[] positions;
+    /**
+     * Queue of nodes whose don't-look bit is cleared.
+     */
+    @NotNull
+    private final int[] queue;
+    @NotNull
+    private final boolean[] queued;
+    private int queueHead;
+    private int queueSize;
+
+    private Tour(@NotNull final Problem problem, final int start) {
+      this.problem = problem;
+      nodes = problem.nodes;
+      tour = new int[nodes];
+      positions = new int[nodes];
+      queue = new int[nodes];
+      queued = new boolean[nodes];
+      nearestNeighborTour(start);
+    }
+
+    /**
+     * Builds the start tour by always walking to the nearest unvisited location, falling back
+     * to a scan of all unvisited locations if all neighbors have been visited.
+     */
+    private void nearestNeighborTour(final int start) {
+      int size = problem.size;
+      int[] unvisited = new int[size];
+      int[] unvisitedPositions = new int[size];
+      for (int i = 0; i < size; i++) {
+        unvisited[i] = i;
+        unvisitedPositions[i] = i;
+      }
+      int remaining = size;
+      int position = 0;
+      if (!problem.closed) {
+        // The virtual location connects end and start of the walk.
+        tour[position++] = size;
+      }
+      int current = start;
+      while (remaining > 0) {
+        tour[position++] = current;
+        int last = unvisited[--remaining];
+        unvisited[unvisitedPositions[current]] = last;
+        unvisitedPositions[last] = unvisitedPositions[current];
+        unvisitedPositions[current] = -1;
+        if (remaining == 0) {
+          break;
+        }
+        int next = -1;
+        for (int n = 0; n < problem.neighborCount && next < 0; n++) {
+          int candidate = problem.neighbors[current * problem.neighborCount + n];
+          if (unvisitedPositions[candidate] >= 0) {
+            next = candidate;
+          }
+        }
+        if (next < 0) {
+          // The latitude difference is a lower bound of the central angle, which skips the
+          // expensive distance calculation for most candidates.
+          double latitude = problem.latitudes[current];
+          double nearest = Double.POSITIVE_INFINITY;
+          for (int i = 0; i < remaining; i++) {
+            int candidate = unvisited[i];
+            if (Math.abs(problem.latitudes[candidate] - latitude) < nearest) {
+              double distance = problem.distance(current, candidate);
+              if (distance < nearest) {
+                nearest = distance;
+                next = candidate;
+              }
+            }
+          }
+        }
+        current = next;
+      }
+      for (int i = 0; i < nodes; i++) {
+        positions[tour[i]] = i;
+      }
+    }
+
+    /**
+     * Applies improving 2-opt and Or-opt moves until none is left.
+     */
+    private void optimize() {
+      if (nodes < 5) {
+        return;
+      }
+      for (int node = 0; node < problem.size; node++) {
+        push(node);
+      }
+      while (queueSize > 0) {
+        int node = queue[queueHead];
+        queueHead = (queueHead + 1) % nodes;
+        queueSize--;
+        queued[node] = false;
+        if (improveTwoOpt(node) || improveOrOpt(node)) {
+          push(node);
+        }
+      }
+    }
+
+    private boolean improveTwoOpt(final int a) {
+      for (int direction = 0; direction < 2; direction++) {
+        boolean forward = direction == 0;
+        int b = forward ? next(a) : previous(a);
+        double removedAb = problem.distance(a, b);
+        for (int n = 0; n < problem.neighborCount; n++) {
+          int c = problem.neighbors[a * problem.neighborCount + n];
+          double addedAc = problem.neighborDistances[a * problem.neighborCount + n];
+          if (addedAc >= removedAb) {
+            break;
+          }
+          int d = forward ? next(c) : previous(c);
+          if (c == b || d == a) {
+            continue;
+          }
+          double delta = addedAc + problem.distance(b, d) - removedAb - problem.distance(c, d);
+          if (delta < -EPSILON) {
+            if (forward) {
+              exchange(a, b, c, d);
+            } else {
+              exchange(b, a, d, c);
+            }
+            push(b);
+            push(c);
+            push(d);
+            return true;
+          }
+        }
+      }
+      return false;
+    }
+
+    /**
+     * Tries to move a segment starting at the given node to between two other nodes near to
+     * one of its ends.
+     */
+    private boolean improveOrOpt(final int first) {
+      if (nodes < 2 * MAX_SEGMENT + 2 || first >= problem.size) {
+        return false;
+      }
+      int last = first;
+      for (int length = 1; length <= MAX_SEGMENT; length++) {
+        if (length > 1) {
+          last = next(last);
+          if (last >= problem.size) {
+            return false;
+          }
+        }
+        int before = previous(first);
+        int after = next(last);
+        double removed = problem.distance(before, first) + problem.distance(last, after)
+                         - problem.distance(before, after);
+        if (removed <= EPSILON) {
+          continue;
+        }
+        for (int end = 0; end < 2; end++) {
+          int anchor = end == 0 ? first : last;
+          for (int n = 0; n < problem.neighborCount; n++) {
+            int c = problem.neighbors[anchor * problem.neighborCount + n];
+            if (problem.neighborDistances[anchor * problem.neighborCount + n] >= removed) {
+              break;
+            }
+            if (insertSegment(first, last, length, removed, c)) {
+              return true;
+            }
+          }
+        }
+      }
+      return false;
+    }
+
+    /**
+     * Moves the segment {@code first..last} next to {@code c} if that improves the tour.
+     */
+    private boolean insertSegment(final int first,
+                                  final int last,
+                                  final int length,
+                                  final double removed,
+                                  final int c) {
+      int before = previous(first);
+      int after = next(last);
+      if (c == before || inSegment(c, first, length)) {
+        return false;
+      }
+      for (int side = 0; side < 2; side++) {
+        // Insert between c0 and its successor e0, both outside of the segment.
+        int c0 = side == 0 ? c : previous(c);
+        int e0 = next(c0);
+        if (c0 == before || e0 == before || inSegment(c0, first, length)
+            || inSegment(e0, first, length)) {
+          continue;
+        }
+        double kept = problem.distance(c0, e0);
+        double reversed = problem.distance(c0, last) + problem.distance(first, e0) - kept;
+        double straight = problem.distance(c0, first) + problem.distance(last, e0) - kept;
+        double added = Math.min(reversed, straight);
+        if (added - removed < -EPSILON) {
+          // Expressed as sequence of 2-opt moves, which does not depend on the orientation.
+          exchange(before, first, c0, e0);
+          if (c0 != after) {
+            exchange(before, c0, after, last);
+          }
+          if (straight < reversed) {
+            exchange(c0, last, first, e0);
+          }
+          push(before);
+          push(after);
+          push(c0);
+          push(e0);
+          push(first);
+          push(last);
+          return true;
+        }
+      }
+      return false;
+    }
+
+    @Contract(pure = true)
+    private boolean inSegment(final int node, final int first, final int length) {
+      return Math.floorMod(positions[node] - positions[first], nodes) < length;
+    }
+
+    /**
+     * Replaces the tour edges {@code (u1, u2)} and {@code (v1, v2)}, given in tour direction,
+     * by {@code (u1, v1)} and {@code (u2, v2)}.
+     */
+    private void exchange(final int u1, final int u2, final int v1, final int v2) {
+      if (next(u1) == u2) {
+        reverse(u2, v1);
+      } else {
+        reverse(u1, v2);
+      }
+    }
+
+    /**
+     * Reverses the path from {@code from} to {@code to} in tour direction, or the equivalent
+     * complement if it is shorter.
+     */
+    private void reverse(final int from, final int to) {
+      int start = positions[from];
+      int end = positions[to];
+      int length = Math.floorMod(end - start, nodes) + 1;
+      if (2 * length > nodes) {
+        int complementStart = (end + 1) % nodes;
+        end = (start - 1 + nodes) % nodes;
+        start = complementStart;
+        length = nodes - length;
+      }
+      for (int i = 0; i < length / 2; i++) {
+        int left = tour[start];
+        int right = tour[end];
+        tour[start] = right;
+        positions[right] = start;
+        tour[end] = left;
+        positions[left] = end;
+        start = (start + 1) % nodes;
+        end = (end - 1 + nodes) % nodes;
+      }
+    }
+
+    private void push(final int node) {
+      if (!queued[node] && node < problem.size) {
+        queued[node] = true;
+        queue[(queueHead + queueSize) % nodes] = node;
+        queueSize++;
+      }
+    }
+
+    @Contract(pure = true)
+    private int next(final int node) {
+      int position = positions[node] + 1;
+      return tour[position == nodes ? 0 : position];
+    }
+
+    @Contract(pure = true)
+    private int previous(final int node) {
+      int position = positions[node];
+      return tour[position == 0 ? nodes - 1 : position - 1];
+    }
+
+    /**
+     * Length of this tour as central angle.
+     */
+    @Contract(pure = true)
+    private double length() {
+      double length = 0D;
+      for (int i = 0; i < nodes; i++) {
+        length += problem.distance(tour[i], tour[(i + 1) % nodes]);
+      }
+      return length;
+    }
+
+    /**
+     * Converts to a route, starting with the first location for round trips and after the
+     * virtual location for open routes.
+     */
+    @NotNull
+    @Contract(pure = true)
+    private Route toRoute() {
+      int size = problem.size;
+      int[] order = new int[size];
+      if (size > 0) {
+        int startPosition = problem.closed ? positions[0] : positions[size] + 1;
+        for (int i = 0; i < size; i++) {
+          order[i] = tour[(startPosition + i) % nodes];
+        }
+      }
+      return new Route(order, problem.closed, Length.m(length() * EARTH_RADIUS_METERS));
+    }
+  }
+}
@@ -0,0 +1,13 @@
+/**
+ * <p>
+ * Routing between (generated) locations, such as ordering spots into a short photo walk.
+ * </p>
+ * <p>
+ * Locations are passed as structure-of-arrays in degrees, like the bulk operations of
+ * {@link com.github.mmichaelis.phodeli.geo}.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+package com.github.mmichaelis.phodeli.route;
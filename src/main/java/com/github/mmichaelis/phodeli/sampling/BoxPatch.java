@@ -0,0 +1,57 @@
+package com.github.mmichaelis.phodeli.sampling;
+
+import static java.lang.Math.asin;
+import static java.lang.Math.sin;
+import static java.lang.Math.toDegrees;
+import static java.lang.Math.toRadians;
+
+import com.github.mmichaelis.phodeli.geo.GeoBounds;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Area-preserving mapping of the unit square onto a latitude/longitude bounding box: the sine
+ * of the latitude and the longitude are linear in the unit square coordinates.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+final class BoxPatch implements SurfacePatch {
+
+  private static final double MAX_LONGITUDE = 180D;
+  private static final double FULL_CIRCLE = 360D;
+
+  @NotNull
+  private final GeoBounds bounds;
+  private final double sinSouth;
+  private final double sinSpan;
+  private final double west;
+  private final double longitudeSpan;
+
+  BoxPatch(@NotNull final GeoBounds bounds) {
+    this.bounds = bounds;
+    sinSouth = sin(bounds.getSouth().toRadians());
+    sinSpan = sin(bounds.getNorth().toRadians()) - sinSouth;
+    west = bounds.getWest().toDegrees();
+    longitudeSpan = bounds.getLongitudeSpan().toDegrees();
+  }
+
+  @Override
+  public void mapInPlace(@NotNull final double[] us,
+                         @NotNull final double[] vs,
+                         final int offset,
+                         final int count) {
+    for (int i = offset; i < offset + count; i++) {
+      us[i] = toDegrees(asin(sinSouth + us[i] * sinSpan));
+      double longitude = west + vs[i] * longitudeSpan;
+      vs[i] = longitude >= MAX_LONGITUDE ? longitude - FULL_CIRCLE : longitude;
+    }
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{bounds=" + bounds + '}';
+  }
+}
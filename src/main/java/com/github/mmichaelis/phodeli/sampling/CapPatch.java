@@ -0,0 +1,82 @@
+package com.github.mmichaelis.phodeli.sampling;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.asin;
+import static java.lang.Math.atan2;
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+import static java.lang.Math.sqrt;
+import static java.lang.Math.toDegrees;
+
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+import com.github.mmichaelis.phodeli.measure.Angle;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Area-preserving mapping of the unit square onto a spherical cap: the cosine of the distance
+ * from the center and the azimuth are linear in the unit square coordinates.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+final class CapPatch implements SurfacePatch {
+
+  private static final double MAX_LONGITUDE = 180D;
+  private static final double FULL_CIRCLE = 360D;
+  private static final double TWO_PI = 2D * PI;
+
+  @NotNull
+  private final GeoCoordinate center;
+  @NotNull
+  private final Angle radius;
+  private final double sinLatitude;
+  private final double cosLatitude;
+  private final double longitude;
+  private final double oneMinusCosRadius;
+
+  CapPatch(@NotNull final GeoCoordinate center, @NotNull final Angle radius) {
+    double radiusRadians = radius.toRadians();
+    if (!(radiusRadians >= 0D && radiusRadians <= PI)) {
+      throw new IllegalArgumentException(
+        "Radius must be within 0° and 180° but is " + radius + '.');
+    }
+    this.center = center;
+    this.radius = radius;
+    double latitude = center.getLatitude().toRadians();
+    sinLatitude = sin(latitude);
+    cosLatitude = cos(latitude);
+    longitude = center.getLongitude().toDegrees();
+    oneMinusCosRadius = 1D - cos(radiusRadians);
+  }
+
+  @Override
+  public void mapInPlace(@NotNull final double[] us,
+                         @NotNull final double[] vs,
+                         final int offset,
+                         final int count) {
+    for (int i = offset; i < offset + count; i++) {
+      double cosDistance = 1D - us[i] * oneMinusCosRadius;
+      double sinDistance = sqrt(Math.max(0D, 1D - cosDistance * cosDistance));
+      double azimuth = TWO_PI * vs[i];
+      double sinTarget = sinLatitude * cosDistance + cosLatitude * sinDistance * cos(azimuth);
+      double deltaLongitude = atan2(sin(azimuth) * sinDistance * cosLatitude,
+                                    cosDistance - sinLatitude * sinTarget);
+      double targetLongitude = longitude + toDegrees(deltaLongitude);
+      if (targetLongitude >= MAX_LONGITUDE) {
+        targetLongitude -= FULL_CIRCLE;
+      } else if (targetLongitude < -MAX_LONGITUDE) {
+        targetLongitude += FULL_CIRCLE;
+      }
+      us[i] = toDegrees(asin(Math.max(-1D, Math.min(1D, sinTarget))));
+      vs[i] = targetLongitude;
+    }
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{center=" + center + ", radius=" + radius + '}';
+  }
+}
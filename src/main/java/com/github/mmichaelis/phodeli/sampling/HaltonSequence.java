@@ -0,0 +1,117 @@
+package com.github.mmichaelis.phodeli.sampling;
+
+import static com.github.mmichaelis.phodeli.sampling.Sequences.DOUBLE_UNIT;
+import static com.github.mmichaelis.phodeli.sampling.Sequences.checkIndex;
+import static com.github.mmichaelis.phodeli.sampling.Sequences.splitMix;
+import static com.github.mmichaelis.phodeli.sampling.Sequences.toUnitDouble;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Two-dimensional Halton sequence with bases 2 and 3. Consecutive index ranges fill the gaps
+ * left by previous ranges, which makes the sequence a good fit for covering an area
+ * systematically over several sessions.
+ * </p>
+ * <p>
+ * A seeded sequence applies a Cranley-Patterson rotation, i. e. a random shift modulo 1 per
+ * dimension, which keeps the low discrepancy while providing different point sets per seed.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class HaltonSequence implements UnitSquareSequence {
+
+  private static final int SECOND_BASE = 3;
+  private static final double INVERSE_SECOND_BASE = 1D / SECOND_BASE;
+
+  private final double uShift;
+  private final double vShift;
+
+  private HaltonSequence(final double uShift, final double vShift) {
+    this.uShift = uShift;
+    this.vShift = vShift;
+  }
+
+  /**
+   * Creates the plain Halton sequence.
+   *
+   * @return Halton sequence
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static HaltonSequence halton() {
+    return new HaltonSequence(0D, 0D);
+  }
+
+  /**
+   * Creates a Halton sequence with a random rotation derived from the given seed.
+   *
+   * @param seed seed for the rotation
+   * @return rotated Halton sequence
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static HaltonSequence halton(final long seed) {
+    return new HaltonSequence(toUnitDouble(splitMix(seed, 0L)), toUnitDouble(splitMix(seed, 1L)));
+  }
+
+  @Override
+  @Contract(pure = true)
+  public long size() {
+    return Long.MAX_VALUE;
+  }
+
+  @Override
+  @Contract(pure = true)
+  public double u(final long index) {
+    checkIndex(this, index);
+    return rotate(radicalInverseBase2(index), uShift);
+  }
+
+  @Override
+  @Contract(pure = true)
+  public double v(final long index) {
+    checkIndex(this, index);
+    return rotate(radicalInverseBase3(index), vShift);
+  }
+
+  /**
+   * Radical inverse in base 2 is just the bit-reversed index.
+   */
+  @Contract(pure = true)
+  private static double radicalInverseBase2(final long index) {
+    return (Long.reverse(index) >>> 11) * DOUBLE_UNIT;
+  }
+
+  @Contract(pure = true)
+  private static double radicalInverseBase3(final long index) {
+    long remaining = index;
+    double result = 0D;
+    double digitWeight = INVERSE_SECOND_BASE;
+    while (remaining > 0L) {
+      long quotient = remaining / SECOND_BASE;
+      result += (remaining - quotient * SECOND_BASE) * digitWeight;
+      digitWeight *= INVERSE_SECOND_BASE;
+      remaining = quotient;
+    }
+    return result;
+  }
+
+  @Contract(pure = true)
+  private static double rotate(final double value, final double shift) {
+    double rotated = value + shift;
+    return rotated >= 1D ? rotated - 1D : rotated;
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{uShift=" + uShift + ", vShift=" + vShift + '}';
+  }
+}
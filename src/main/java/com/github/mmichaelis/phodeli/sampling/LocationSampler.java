@@ -0,0 +1,215 @@
+package com.github.mmichaelis.phodeli.sampling;
+
+import static com.github.mmichaelis.phodeli.internal.ParallelChunks.CHUNK_SIZE;
+import static com.github.mmichaelis.phodeli.internal.ParallelChunks.forEachChunk;
+import static java.util.Objects.requireNonNull;
+
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+import com.github.mmichaelis.phodeli.geo.PreparedPolygon;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Samples locations within a {@link SurfacePatch} driven by a {@link UnitSquareSequence}.
+ * As sequences are indexed, the sampler is stateless: the location with a given index is
+ * always the same, and continuing a previous walk just means to continue with the next
+ * index.
+ * </p>
+ * <p>
+ * To restrict locations to an arbitrary area, such as a park or a district, sample from a
+ * patch covering the area, typically the bounds of a {@link PreparedPolygon}, and reject
+ * locations outside with {@link #sampleWithin(PreparedPolygon, long, double[], double[], int,
+ * int)}.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class LocationSampler {
+
+  /**
+   * Number of consecutive rejected locations after which rejection sampling gives up, as the
+   * area is considered to be (almost) disjoint from the patch.
+   */
+  private static final int MAX_CONSECUTIVE_REJECTIONS = 1 << 20;
+
+  @NotNull
+  private final SurfacePatch patch;
+  @NotNull
+  private final UnitSquareSequence sequence;
+
+  private LocationSampler(@NotNull final SurfacePatch patch,
+                          @NotNull final UnitSquareSequence sequence) {
+    this.patch = requireNonNull(patch, "patch must not be null.");
+    this.sequence = requireNonNull(sequence, "sequence must not be null.");
+  }
+
+  /**
+   * Creates a sampler for the given patch and sequence.
+   *
+   * @param patch    patch to sample locations in
+   * @param sequence sequence distributing the locations
+   * @return sampler
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static LocationSampler sampler(@NotNull final SurfacePatch patch,
+                                        @NotNull final UnitSquareSequence sequence) {
+    return new LocationSampler(patch, sequence);
+  }
+
+  /**
+   * Creates a sampler for the given patch and sampling mode.
+   *
+   * @param patch patch to sample locations in
+   * @param mode  mode how to distribute the locations
+   * @param seed  seed for the sequence of the mode
+   * @return sampler
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static LocationSampler sampler(@NotNull final SurfacePatch patch,
+                                        @NotNull final SamplingMode mode,
+                                        final long seed) {
+    return sampler(patch, mode.sequence(seed));
+  }
+
+  /**
+   * Samples the location with the given index.
+   *
+   * @param index index of the location
+   * @return location
+   * @throws IndexOutOfBoundsException if index is not supported by the sequence
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public GeoCoordinate sample(final long index) {
+    return patch.map(sequence.u(index), sequence.v(index));
+  }
+
+  /**
+   * Samples consecutive locations into the given arrays.
+   *
+   * @param fromIndex  index of the first location
+   * @param latitudes  target for latitudes in degrees
+   * @param longitudes target for longitudes in degrees
+   * @param offset     offset within the target arrays
+   * @param count      number of locations to sample
+   * @throws IndexOutOfBoundsException if the index range is not supported by the sequence or
+   *                                   exceeds the target arrays
+   * @since 1.0.0
+   */
+  public void sample(final long fromIndex,
+                     @NotNull final double[] latitudes,
+                     @NotNull final double[] longitudes,
+                     final int offset,
+                     final int count) {
+    sequence.fill(fromIndex, latitudes, longitudes, offset, count);
+    patch.mapInPlace(latitudes, longitudes, offset, count);
+  }
+
+  /**
+   * Samples consecutive locations into the given arrays, splitting the work into chunks which
+   * are generated in parallel. The result is the same as for
+   * {@link #sample(long, double[], double[], int, int)}.
+   *
+   * @param fromIndex  index of the first location
+   * @param latitudes  target for latitudes in degrees
+   * @param longitudes target for longitudes in degrees
+   * @param offset     offset within the target arrays
+   * @param count      number of locations to sample
+   * @throws IndexOutOfBoundsException if the index range is not supported by the sequence or
+   *                                   exceeds the target arrays
+   * @since 1.0.0
+   */
+  public void parallelSample(final long fromIndex,
+                             @NotNull final double[] latitudes,
+                             @NotNull final double[] longitudes,
+                             final int offset,
+                             final int count) {
+    Sequences.checkRange(sequence, fromIndex, count, latitudes, longitudes, offset);
+    forEachChunk(count, (from, to) ->
+      sample(fromIndex + from, latitudes, longitudes, offset + from, to - from));
+  }
+
+  /**
+   * Samples consecutive locations, rejecting all outside of the given area, until the given
+   * number of locations is accepted. The result is the same as sampling consecutive locations
+   * from {@code fromIndex} on and dropping those outside of the area; to continue the walk,
+   * start the next call at the returned index.
+   *
+   * @param area       area to restrict locations to; for a good acceptance rate the patch
+   *                   of this sampler should tightly cover it
+   * @param fromIndex  index of the first location
+   * @param latitudes  target for latitudes in degrees
+   * @param longitudes target for longitudes in degrees
+   * @param offset     offset within the target arrays
+   * @param count      number of locations to accept
+   * @return index following the last sampled location
+   * @throws IndexOutOfBoundsException if the index range is not supported by the sequence or
+   *                                   the count exceeds the target arrays
+   * @throws IllegalStateException     if the area appears to be disjoint from the patch, as
+   *                                   too many consecutive locations got rejected
+   * @since 1.0.0
+   */
+  public long sampleWithin(@NotNull final PreparedPolygon area,
+                           final long fromIndex,
+                           @NotNull final double[] latitudes,
+                           @NotNull final double[] longitudes,
+                           final int offset,
+                           final int count) {
+    requireNonNull(area, "area must not be null.");
+    if (offset < 0 || count < 0 || offset + count > latitudes.length
+        || offset + count > longitudes.length) {
+      throw new IndexOutOfBoundsException(
+        "Range [" + offset + ", " + (offset + count) + ") exceeds target arrays.");
+    }
+    double[] candidateLatitudes = new double[CHUNK_SIZE];
+    double[] candidateLongitudes = new double[CHUNK_SIZE];
+    int[] inside = new int[CHUNK_SIZE];
+    long index = fromIndex;
+    int accepted = 0;
+    long rejected = 0L;
+    while (accepted < count) {
+      // About as many locations as still needed at the acceptance rate so far, but never
+      // beyond the end of bounded sequences such as Sobol.
+      long needed = accepted == 0 ? CHUNK_SIZE
+                                  : (long) (count - accepted) * (index - fromIndex) / accepted + 1L;
+      int batch = (int) Math.min(Math.min(CHUNK_SIZE, needed), sequence.size() - index);
+      if (batch <= 0) {
+        throw new IndexOutOfBoundsException(
+          "Index " + index + " out of range [0, " + sequence.size() + ") after accepting "
+          + accepted + " of " + count + " locations.");
+      }
+      sample(index, candidateLatitudes, candidateLongitudes, 0, batch);
+      int found = area.filter(candidateLatitudes, candidateLongitudes, inside, batch);
+      int taken = Math.min(found, count - accepted);
+      for (int i = 0; i < taken; i++) {
+        latitudes[offset + accepted + i] = candidateLatitudes[inside[i]];
+        longitudes[offset + accepted + i] = candidateLongitudes[inside[i]];
+      }
+      accepted += taken;
+      // Continue right after the location accepted last, if the batch is not used up.
+      index += taken < found ? inside[taken - 1] + 1 : batch;
+      rejected = found == 0 ? rejected + batch : 0L;
+      if (rejected >= MAX_CONSECUTIVE_REJECTIONS) {
+        throw new IllegalStateException(
+          "Rejected " + rejected + " consecutive locations up to index " + index + ": "
+          + area + " is not within " + patch + '.');
+      }
+    }
+    return index;
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{patch=" + patch + ", sequence=" + sequence + '}';
+  }
+}
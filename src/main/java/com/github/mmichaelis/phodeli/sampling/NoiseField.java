@@ -0,0 +1,336 @@
+package com.github.mmichaelis.phodeli.sampling;
+
+import static com.github.mmichaelis.phodeli.internal.ParallelChunks.forEachChunk;
+import static com.github.mmichaelis.phodeli.sampling.Sequences.mix;
+import static com.github.mmichaelis.phodeli.sampling.Sequences.splitMix;
+import static com.github.mmichaelis.phodeli.sampling.Sequences.toUnitDouble;
+
+import java.util.stream.IntStream;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Seeded fractal simplex noise over latitude and longitude, for synthetic terrain and for
+ * fields of interest which weight sampled locations. Octaves of 2D simplex noise are summed,
+ * each with twice the frequency and {@code persistence} times the amplitude of the previous
+ * one, and normalized to {@code [-1, 1]}.
+ * </p>
+ * <p>
+ * Gradients are picked by hashing the lattice points with the seed, just as
+ * {@link PseudoRandomSequence} derives points from their index, so that there is no
+ * permutation table and the field is a pure function of seed and location. Thus tiles
+ * computed independently, in parallel or in different sessions, stitch seamlessly: tiles
+ * follow the layout of SRTM height tiles, covering one degree with shared edge samples, and
+ * adjacent tiles have identical edges.
+ * </p>
+ * <p>
+ * Longitudes are not wrapped, thus the field has a seam at the antimeridian.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class NoiseField {
+
+  /**
+   * Default number of lattice cells per degree of the first octave.
+   *
+   * @since 1.0.0
+   */
+  public static final double DEFAULT_FREQUENCY = 4D;
+  /**
+   * Default number of octaves.
+   *
+   * @since 1.0.0
+   */
+  public static final int DEFAULT_OCTAVES = 6;
+  /**
+   * Default ratio of the amplitudes of consecutive octaves.
+   *
+   * @since 1.0.0
+   */
+  public static final double DEFAULT_PERSISTENCE = 0.5D;
+
+  private static final int MAX_OCTAVES = 30;
+  /**
+   * Skews the plane onto the lattice of triangles.
+   */
+  private static final double SKEW = 0.5D * (Math.sqrt(3D) - 1D);
+  /**
+   * Unskews a lattice point onto the plane.
+   */
+  private static final double UNSKEW = (3D - Math.sqrt(3D)) / 6D;
+  /**
+   * Scales the sum of the three corner contributions to {@code [-1, 1]}.
+   */
+  private static final double SCALE = 70D;
+  private static final long PRIME_X = 0x9e3779b97f4a7c15L;
+  private static final long PRIME_Y = 0xc2b2ae3d27d4eb4fL;
+  private static final double[] GRADIENT_X = {1D, -1D, 1D, -1D, 1D, -1D, 0D, 0D};
+  private static final double[] GRADIENT_Y = {1D, 1D, -1D, -1D, 0D, 0D, 1D, -1D};
+
+  private final long seed;
+  private final double frequency;
+  private final int octaves;
+  private final double persistence;
+  /**
+   * Seed of the lattice hash per octave.
+   */
+  @NotNull
+  private final long[] octaveSeeds;
+  /**
+   * Reciprocal of the sum of the amplitudes of all octaves.
+   */
+  private final double normalization;
+
+  private NoiseField(final long seed,
+                     final double frequency,
+                     final int octaves,
+                     final double persistence) {
+    this.seed = seed;
+    this.frequency = frequency;
+    this.octaves = octaves;
+    this.persistence = persistence;
+    octaveSeeds = new long[octaves];
+    double amplitudes = 0D;
+    double amplitude = 1D;
+    for (int octave = 0; octave < octaves; octave++) {
+      octaveSeeds[octave] = splitMix(seed, octave);
+      amplitudes += amplitude;
+      amplitude *= persistence;
+    }
+    normalization = 1D / amplitudes;
+  }
+
+  /**
+   * Creates a field with default frequency, octaves and persistence.
+   *
+   * @param seed seed
+   * @return noise field
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static NoiseField noiseField(final long seed) {
+    return noiseField(seed, DEFAULT_FREQUENCY, DEFAULT_OCTAVES, DEFAULT_PERSISTENCE);
+  }
+
+  /**
+   * Creates a field.
+   *
+   * @param seed        seed
+   * @param frequency   lattice cells per degree of the first octave; features of the field
+   *                    are about one cell in size
+   * @param octaves     number of octaves, between 1 and 30
+   * @param persistence ratio of the amplitudes of consecutive octaves, within {@code (0, 1]};
+   *                    the higher, the rougher the field
+   * @return noise field
+   * @throws IllegalArgumentException if a parameter is out of range
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static NoiseField noiseField(final long seed,
+                                      final double frequency,
+                                      final int octaves,
+                                      final double persistence) {
+    if (!(frequency > 0D) || Double.isInfinite(frequency)) {
+      throw new IllegalArgumentException("Frequency must be positive but is " + frequency + '.');
+    }
+    if (octaves < 1 || octaves > MAX_OCTAVES) {
+      throw new IllegalArgumentException(
+        "Octaves " + octaves + " out of range [1, " + MAX_OCTAVES + "].");
+    }
+    if (!(persistence > 0D && persistence <= 1D)) {
+      throw new IllegalArgumentException(
+        "Persistence " + persistence + " out of range (0, 1].");
+    }
+    return new NoiseField(seed, frequency, octaves, persistence);
+  }
+
+  /**
+   * Value of the field at the given location.
+   *
+   * @param latitude  latitude in degrees
+   * @param longitude longitude in degrees
+   * @return value within {@code [-1, 1]}
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public double value(final double latitude, final double longitude) {
+    double x = longitude * frequency;
+    double y = latitude * frequency;
+    double sum = 0D;
+    double amplitude = 1D;
+    for (long octaveSeed : octaveSeeds) {
+      sum += amplitude * simplex(octaveSeed, x, y);
+      x *= 2D;
+      y *= 2D;
+      amplitude *= persistence;
+    }
+    return Math.max(-1D, Math.min(1D, sum * normalization));
+  }
+
+  /**
+   * Weight of the given location, which is the value of the field mapped to {@code [0, 1]}.
+   *
+   * @param latitude  latitude in degrees
+   * @param longitude longitude in degrees
+   * @return weight within {@code [0, 1]}
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  public double weight(final double latitude, final double longitude) {
+    return (value(latitude, longitude) + 1D) / 2D;
+  }
+
+  /**
+   * Values of the field at all the given locations, evaluated in parallel.
+   *
+   * @param latitudes  latitudes in degrees
+   * @param longitudes longitudes in degrees
+   * @param count      number of locations, starting at index 0
+   * @param values     target for values within {@code [-1, 1]}
+   * @throws IllegalArgumentException if count exceeds the arrays
+   * @since 1.0.0
+   */
+  public void values(@NotNull final double[] latitudes,
+                     @NotNull final double[] longitudes,
+                     final int count,
+                     @NotNull final float[] values) {
+    if (count > latitudes.length || count > longitudes.length || count > values.length) {
+      throw new IllegalArgumentException(
+        "Count " + count + " exceeds latitudes (" + latitudes.length + "), longitudes ("
+        + longitudes.length + ") or values (" + values.length + ").");
+    }
+    forEachChunk(count, (from, to) -> {
+      for (int i = from; i < to; i++) {
+        values[i] = (float) value(latitudes[i], longitudes[i]);
+      }
+    });
+  }
+
+  /**
+   * Computes the tile with the given south-west corner, rows evaluated in parallel. Just as
+   * SRTM height tiles, samples are stored row by row from north to south and from west to
+   * east within a row; the first and last row and column lie on the edges of the tile, so that
+   * adjacent tiles share their edge samples.
+   *
+   * @param south   latitude of the southern edge in degrees
+   * @param west    longitude of the western edge in degrees
+   * @param samples number of samples per row and column
+   * @return values within {@code [-1, 1]}
+   * @throws IllegalArgumentException if there are less than 2 samples or too many to fit into
+   *                                  an array
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public float[] tile(final int south, final int west, final int samples) {
+    if (samples < 2 || (long) samples * samples > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(
+        "Samples " + samples + " out of range [2, " + (int) Math.sqrt(Integer.MAX_VALUE)
+        + "].");
+    }
+    float[] tile = new float[samples * samples];
+    double intervals = samples - 1D;
+    IntStream.range(0, samples).parallel().forEach(row -> {
+      double latitude = south + 1D - row / intervals;
+      for (int column = 0; column < samples; column++) {
+        tile[row * samples + column] = (float) value(latitude, west + column / intervals);
+      }
+    });
+    return tile;
+  }
+
+  /**
+   * Keeps each location with the probability given by its {@link #weight(double, double)},
+   * moving the kept ones to the front while keeping their order. The decision for a location
+   * only depends on its position within the range and on the random seed, so that the result is
+   * reproducible.
+   *
+   * @param latitudes  latitudes in degrees
+   * @param longitudes longitudes in degrees
+   * @param offset     first index to check
+   * @param count      number of locations to check
+   * @param randomSeed seed of the random decisions
+   * @return number of kept locations, now stored from {@code offset} on
+   * @since 1.0.0
+   */
+  public int retain(@NotNull final double[] latitudes,
+                    @NotNull final double[] longitudes,
+                    final int offset,
+                    final int count,
+                    final long randomSeed) {
+    int kept = offset;
+    for (int i = 0; i < count; i++) {
+      double latitude = latitudes[offset + i];
+      double longitude = longitudes[offset + i];
+      latitudes[kept] = latitude;
+      longitudes[kept] = longitude;
+      kept += toUnitDouble(splitMix(randomSeed, i)) < weight(latitude, longitude) ? 1 : 0;
+    }
+    return kept - offset;
+  }
+
+  /**
+   * 2D simplex noise on the lattice hashed with the given seed.
+   *
+   * @return noise within {@code [-1, 1]}
+   */
+  @Contract(pure = true)
+  private static double simplex(final long octaveSeed, final double x, final double y) {
+    double skew = (x + y) * SKEW;
+    long i = floor(x + skew);
+    long j = floor(y + skew);
+    double unskew = (i + j) * UNSKEW;
+    double x0 = x - (i - unskew);
+    double y0 = y - (j - unskew);
+    int i1 = x0 > y0 ? 1 : 0;
+    int j1 = 1 - i1;
+    double x1 = x0 - i1 + UNSKEW;
+    double y1 = y0 - j1 + UNSKEW;
+    double x2 = x0 - 1D + 2D * UNSKEW;
+    double y2 = y0 - 1D + 2D * UNSKEW;
+    return SCALE * (corner(octaveSeed, i, j, x0, y0)
+                    + corner(octaveSeed, i + i1, j + j1, x1, y1)
+                    + corner(octaveSeed, i + 1L, j + 1L, x2, y2));
+  }
+
+  /**
+   * Faster replacement of {@link Math#floor(double)} for values within the range of long.
+   */
+  @Contract(pure = true)
+  private static long floor(final double value) {
+    long truncated = (long) value;
+    return value < truncated ? truncated - 1L : truncated;
+  }
+
+  /**
+   * Contribution of a lattice corner at the given offset from the location.
+   */
+  @Contract(pure = true)
+  private static double corner(final long octaveSeed,
+                               final long i,
+                               final long j,
+                               final double x,
+                               final double y) {
+    double t = 0.5D - x * x - y * y;
+    if (t <= 0D) {
+      return 0D;
+    }
+    int gradient = (int) (mix(octaveSeed + i * PRIME_X + j * PRIME_Y) >>> 61);
+    t *= t;
+    return t * t * (GRADIENT_X[gradient] * x + GRADIENT_Y[gradient] * y);
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{seed=" + seed + ", frequency=" + frequency + ", octaves="
+           + octaves + ", persistence=" + persistence + '}';
+  }
+}
@@ -0,0 +1,67 @@
+package com.github.mmichaelis.phodeli.sampling;
+
+import static com.github.mmichaelis.phodeli.sampling.Sequences.checkIndex;
+import static com.github.mmichaelis.phodeli.sampling.Sequences.splitMix;
+import static com.github.mmichaelis.phodeli.sampling.Sequences.toUnitDouble;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Pseudo-random points based on a counter-based SplitMix64 generator. As every point is derived
+ * from its index only, this sequence supports skip-ahead just as the low-discrepancy sequences
+ * do.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class PseudoRandomSequence implements UnitSquareSequence {
+
+  private final long seed;
+
+  private PseudoRandomSequence(final long seed) {
+    this.seed = seed;
+  }
+
+  /**
+   * Creates a pseudo-random sequence for the given seed.
+   *
+   * @param seed seed
+   * @return pseudo-random sequence
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static PseudoRandomSequence pseudoRandom(final long seed) {
+    return new PseudoRandomSequence(seed);
+  }
+
+  @Override
+  @Contract(pure = true)
+  public long size() {
+    return Long.MAX_VALUE / 2L;
+  }
+
+  @Override
+  @Contract(pure = true)
+  public double u(final long index) {
+    checkIndex(this, index);
+    return toUnitDouble(splitMix(seed, 2L * index));
+  }
+
+  @Override
+  @Contract(pure = true)
+  public double v(final long index) {
+    checkIndex(this, index);
+    return toUnitDouble(splitMix(seed, 2L * index + 1L));
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{seed=" + seed + '}';
+  }
+}
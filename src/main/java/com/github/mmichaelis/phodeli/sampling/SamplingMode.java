@@ -0,0 +1,63 @@
+package com.github.mmichaelis.phodeli.sampling;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * How to distribute sampled locations over an area.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+public enum SamplingMode {
+  /**
+   * Independent pseudo-random locations. Locations of consecutive walks may cluster.
+   *
+   * @since 1.0.0
+   */
+  PSEUDO_RANDOM {
+    @NotNull
+    @Override
+    @Contract(pure = true)
+    public UnitSquareSequence sequence(final long seed) {
+      return PseudoRandomSequence.pseudoRandom(seed);
+    }
+  },
+  /**
+   * Coverage sampling based on a rotated Halton sequence.
+   *
+   * @since 1.0.0
+   */
+  HALTON {
+    @NotNull
+    @Override
+    @Contract(pure = true)
+    public UnitSquareSequence sequence(final long seed) {
+      return HaltonSequence.halton(seed);
+    }
+  },
+  /**
+   * Coverage sampling based on a scrambled Sobol sequence.
+   *
+   * @since 1.0.0
+   */
+  SOBOL {
+    @NotNull
+    @Override
+    @Contract(pure = true)
+    public UnitSquareSequence sequence(final long seed) {
+      return SobolSequence.scrambledSobol(seed);
+    }
+  };
+
+  /**
+   * Creates the sequence backing this mode.
+   *
+   * @param seed seed for the sequence
+   * @return sequence
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public abstract UnitSquareSequence sequence(long seed);
+}
@@ -0,0 +1,104 @@
+package com.github.mmichaelis.phodeli.sampling;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Shared helpers for {@link UnitSquareSequence} implementations.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+final class Sequences {
+
+  /**
+   * Scale to convert 53 random bits to a double within {@code [0, 1)}.
+   */
+  static final double DOUBLE_UNIT = 0x1.0p-53;
+  /**
+   * Increment of the SplitMix64 generator (golden ratio).
+   */
+  private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+  private Sequences() {
+  }
+
+  /**
+   * Validates an index of the given sequence.
+   *
+   * @param sequence sequence to validate the index for
+   * @param index    index to validate
+   * @throws IndexOutOfBoundsException if index is invalid
+   */
+  static void checkIndex(@NotNull final UnitSquareSequence sequence, final long index) {
+    if (index < 0L || index >= sequence.size()) {
+      throw new IndexOutOfBoundsException(
+        "Index " + index + " out of range [0, " + sequence.size() + ").");
+    }
+  }
+
+  /**
+   * Validates a range of indices and the corresponding target arrays.
+   *
+   * @param sequence  sequence to validate the index range for
+   * @param fromIndex first index
+   * @param count     number of indices
+   * @param us        first target array
+   * @param vs        second target array
+   * @param offset    offset within target arrays
+   * @throws IndexOutOfBoundsException if the range is invalid
+   */
+  static void checkRange(@NotNull final UnitSquareSequence sequence,
+                         final long fromIndex,
+                         final int count,
+                         @NotNull final double[] us,
+                         @NotNull final double[] vs,
+                         final int offset) {
+    if (count < 0 || fromIndex < 0L || sequence.size() - count < fromIndex) {
+      throw new IndexOutOfBoundsException(
+        "Range [" + fromIndex + ", " + fromIndex + " + " + count + ") out of range [0, "
+        + sequence.size() + ").");
+    }
+    if (offset < 0 || us.length - count < offset || vs.length - count < offset) {
+      throw new IndexOutOfBoundsException(
+        "Target range [" + offset + ", " + offset + " + " + count + ") exceeds target arrays.");
+    }
+  }
+
+  /**
+   * SplitMix64 finalizer; a bijective mix of all bits of the given value.
+   *
+   * @param value value to mix
+   * @return mixed value
+   */
+  @Contract(pure = true)
+  static long mix(final long value) {
+    long z = value;
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+
+  /**
+   * The {@code n}-th value of the SplitMix64 generator seeded with {@code seed}.
+   *
+   * @param seed  seed of the generator
+   * @param index index of the value
+   * @return random bits
+   */
+  @Contract(pure = true)
+  static long splitMix(final long seed, final long index) {
+    return mix(seed + (index + 1L) * GOLDEN_GAMMA);
+  }
+
+  /**
+   * Converts the upper 53 bits of the given value to a double within {@code [0, 1)}.
+   *
+   * @param bits random bits
+   * @return double within {@code [0, 1)}
+   */
+  @Contract(pure = true)
+  static double toUnitDouble(final long bits) {
+    return (bits >>> 11) * DOUBLE_UNIT;
+  }
+}
@@ -0,0 +1,205 @@
+package com.github.mmichaelis.phodeli.sampling;
+
+import static com.github.mmichaelis.phodeli.sampling.Sequences.checkIndex;
+import static com.github.mmichaelis.phodeli.sampling.Sequences.checkRange;
+import static com.github.mmichaelis.phodeli.sampling.Sequences.splitMix;
+
+import java.util.Arrays;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * Two-dimensional Sobol sequence with 32 bit resolution. The point at index {@code i} is the
+ * XOR of the direction numbers selected by the Gray code of {@code i}, which allows to jump to
+ * any index in {@code O(32)} and to advance to the next index with a single XOR.
+ * </p>
+ * <p>
+ * Scrambled sequences apply a random linear matrix scramble followed by a random digital shift
+ * (Matoušek). The scramble is applied to the direction numbers once, so scrambled points cost
+ * exactly as much as plain ones and retain the net properties of the sequence.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+@SuppressWarnings("WeakerAccess")
+public final class SobolSequence implements UnitSquareSequence {
+
+  private static final int BITS = 32;
+  private static final long SIZE = 1L << BITS;
+  private static final long UNSIGNED_MASK = 0xffffffffL;
+  private static final double INT_UNIT = 0x1.0p-32;
+  private static final int[] PLAIN_U_DIRECTIONS = uDirections();
+  private static final int[] PLAIN_V_DIRECTIONS = vDirections();
+
+  @NotNull
+  private final int[] uDirections;
+  @NotNull
+  private final int[] vDirections;
+  private final int uShift;
+  private final int vShift;
+
+  private SobolSequence(@NotNull final int[] uDirections,
+                        @NotNull final int[] vDirections,
+                        final int uShift,
+                        final int vShift) {
+    this.uDirections = uDirections;
+    this.vDirections = vDirections;
+    this.uShift = uShift;
+    this.vShift = vShift;
+  }
+
+  /**
+   * Creates the plain Sobol sequence.
+   *
+   * @return Sobol sequence
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static SobolSequence sobol() {
+    return new SobolSequence(PLAIN_U_DIRECTIONS, PLAIN_V_DIRECTIONS, 0, 0);
+  }
+
+  /**
+   * Creates a scrambled Sobol sequence, where the scramble is derived from the given seed.
+   *
+   * @param seed seed of the scramble
+   * @return scrambled Sobol sequence
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  public static SobolSequence scrambledSobol(final long seed) {
+    return new SobolSequence(scramble(PLAIN_U_DIRECTIONS, seed, 0L),
+                             scramble(PLAIN_V_DIRECTIONS, seed, BITS + 1L),
+                             (int) splitMix(seed, 2L * BITS + 2L),
+                             (int) splitMix(seed, 2L * BITS + 3L));
+  }
+
+  @Override
+  @Contract(pure = true)
+  public long size() {
+    return SIZE;
+  }
+
+  @Override
+  @Contract(pure = true)
+  public double u(final long index) {
+    checkIndex(this, index);
+    return toDouble(point(uDirections, uShift, index));
+  }
+
+  @Override
+  @Contract(pure = true)
+  public double v(final long index) {
+    checkIndex(this, index);
+    return toDouble(point(vDirections, vShift, index));
+  }
+
+  @Override
+  public void fill(final long fromIndex,
+                   @NotNull final double[] us,
+                   @NotNull final double[] vs,
+                   final int offset,
+                   final int count) {
+    checkRange(this, fromIndex, count, us, vs, offset);
+    if (count == 0) {
+      return;
+    }
+    int u = point(uDirections, uShift, fromIndex);
+    int v = point(vDirections, vShift, fromIndex);
+    us[offset] = toDouble(u);
+    vs[offset] = toDouble(v);
+    for (int i = 1; i < count; i++) {
+      // Gray code of index + 1 differs from the one of index in the lowest set bit of index + 1.
+      int bit = Long.numberOfTrailingZeros(fromIndex + i);
+      u ^= uDirections[bit];
+      v ^= vDirections[bit];
+      us[offset + i] = toDouble(u);
+      vs[offset + i] = toDouble(v);
+    }
+  }
+
+  @Contract(pure = true)
+  private static int point(@NotNull final int[] directions, final int shift, final long index) {
+    long gray = index ^ (index >>> 1);
+    int result = shift;
+    for (int bit = 0; gray != 0L; bit++, gray >>>= 1) {
+      // Branch-free select of the direction number.
+      result ^= directions[bit] & -(int) (gray & 1L);
+    }
+    return result;
+  }
+
+  @Contract(pure = true)
+  private static double toDouble(final int value) {
+    return (value & UNSIGNED_MASK) * INT_UNIT;
+  }
+
+  /**
+   * Direction numbers of the first dimension, which is the van der Corput sequence.
+   */
+  @NotNull
+  @Contract(pure = true)
+  private static int[] uDirections() {
+    int[] directions = new int[BITS];
+    for (int bit = 0; bit < BITS; bit++) {
+      directions[bit] = 1 << (BITS - 1 - bit);
+    }
+    return directions;
+  }
+
+  /**
+   * Direction numbers of the second dimension, generated by the primitive polynomial
+   * {@code x + 1} with initial direction number {@code m1 = 1}.
+   */
+  @NotNull
+  @Contract(pure = true)
+  private static int[] vDirections() {
+    int[] directions = new int[BITS];
+    directions[0] = 1 << (BITS - 1);
+    for (int bit = 1; bit < BITS; bit++) {
+      directions[bit] = directions[bit - 1] ^ (directions[bit - 1] >>> 1);
+    }
+    return directions;
+  }
+
+  /**
+   * Applies a random non-singular lower triangular matrix (digit-wise, most significant digit
+   * first) to the given direction numbers.
+   */
+  @NotNull
+  @Contract(pure = true)
+  private static int[] scramble(@NotNull final int[] directions,
+                                final long seed,
+                                final long streamOffset) {
+    int[] rows = new int[BITS];
+    for (int row = 0; row < BITS; row++) {
+      // Row r may only refer to digits 0..r (i. e. bits 31..31-r), diagonal is always set.
+      int diagonal = 1 << (BITS - 1 - row);
+      int lowerMask = ~(diagonal - 1);
+      rows[row] = ((int) splitMix(seed, streamOffset + row) & lowerMask) | diagonal;
+    }
+    int[] scrambled = new int[BITS];
+    for (int bit = 0; bit < BITS; bit++) {
+      int value = 0;
+      for (int row = 0; row < BITS; row++) {
+        int parity = Integer.bitCount(rows[row] & directions[bit]) & 1;
+        value |= parity << (BITS - 1 - row);
+      }
+      scrambled[bit] = value;
+    }
+    return scrambled;
+  }
+
+  @Override
+  @Contract(pure = true)
+  public String toString() {
+    return super.toString() + "{uDirections=" + Arrays.toString(uDirections)
+           + ", vDirections=" + Arrays.toString(vDirections)
+           + ", uShift=" + uShift + ", vShift=" + vShift + '}';
+  }
+}
@@ -0,0 +1,82 @@
+package com.github.mmichaelis.phodeli.sampling;
+
+import static com.github.mmichaelis.phodeli.geo.GeoCoordinate.degrees;
+
+import com.github.mmichaelis.phodeli.geo.GeoBounds;
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+import com.github.mmichaelis.phodeli.measure.Angle;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * A patch of the earth's surface onto which the unit square is mapped. Mappings are
+ * area-preserving, so that evenly distributed points within the unit square result in evenly
+ * distributed locations on the sphere.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+public interface SurfacePatch {
+
+  /**
+   * Patch given by a latitude/longitude bounding box.
+   *
+   * @param bounds bounds of the patch
+   * @return patch
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  static SurfacePatch box(@NotNull final GeoBounds bounds) {
+    return new BoxPatch(bounds);
+  }
+
+  /**
+   * Patch given by a spherical cap, i. e. all locations within the given angular distance
+   * from the center.
+   *
+   * @param center center of the cap
+   * @param radius angular radius of the cap, between 0&deg; and 180&deg;
+   * @return patch
+   * @throws IllegalArgumentException if radius is out of range
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  static SurfacePatch cap(@NotNull final GeoCoordinate center, @NotNull final Angle radius) {
+    return new CapPatch(center, radius);
+  }
+
+  /**
+   * Maps the given point within the unit square to a location.
+   *
+   * @param u first coordinate within {@code [0, 1)}
+   * @param v second coordinate within {@code [0, 1)}
+   * @return location
+   * @since 1.0.0
+   */
+  @NotNull
+  @Contract(pure = true)
+  default GeoCoordinate map(final double u, final double v) {
+    double[] latitude = {u};
+    double[] longitude = {v};
+    mapInPlace(latitude, longitude, 0, 1);
+    return degrees(latitude[0], longitude[0]);
+  }
+
+  /**
+   * Maps points of the unit square to locations in place: on input the arrays contain the
+   * first and second coordinates of the points, on output the latitudes and longitudes in
+   * degrees.
+   *
+   * @param us     first coordinates, replaced by latitudes
+   * @param vs     second coordinates, replaced by longitudes
+   * @param offset first index to map
+   * @param count  number of points to map
+   * @since 1.0.0
+   */
+  void mapInPlace(@NotNull double[] us, @NotNull double[] vs, int offset, int count);
+}
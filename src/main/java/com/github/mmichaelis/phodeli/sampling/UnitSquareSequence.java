@@ -0,0 +1,74 @@
+package com.github.mmichaelis.phodeli.sampling;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <p>
+ * An indexed sequence of points within the unit square {@code [0, 1)²}. Points are a pure
+ * function of their index, thus any index range can be generated independently of any other,
+ * e. g. in parallel or in consecutive sessions which continue where the previous one stopped.
+ * </p>
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+public interface UnitSquareSequence {
+
+  /**
+   * Number of points this sequence is able to provide.
+   *
+   * @return exclusive upper bound of valid indices
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  long size();
+
+  /**
+   * First coordinate of the point at the given index.
+   *
+   * @param index index of the point
+   * @return coordinate within {@code [0, 1)}
+   * @throws IndexOutOfBoundsException if index is negative or not less than {@link #size()}
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  double u(long index);
+
+  /**
+   * Second coordinate of the point at the given index.
+   *
+   * @param index index of the point
+   * @return coordinate within {@code [0, 1)}
+   * @throws IndexOutOfBoundsException if index is negative or not less than {@link #size()}
+   * @since 1.0.0
+   */
+  @Contract(pure = true)
+  double v(long index);
+
+  /**
+   * Fills the given arrays with consecutive points starting at {@code fromIndex}.
+   * Implementations are encouraged to override this method if consecutive points are cheaper
+   * to calculate than random access to points.
+   *
+   * @param fromIndex index of the first point
+   * @param us        target for the first coordinates
+   * @param vs        target for the second coordinates
+   * @param offset    offset within the target arrays
+   * @param count     number of points to generate
+   * @throws IndexOutOfBoundsException if the index range exceeds the sequence or the target
+   *                                   arrays
+   * @since 1.0.0
+   */
+  default void fill(final long fromIndex,
+                    @NotNull final double[] us,
+                    @NotNull final double[] vs,
+                    final int offset,
+                    final int count) {
+    Sequences.checkRange(this, fromIndex, count, us, vs, offset);
+    for (int i = 0; i < count; i++) {
+      us[offset + i] = u(fromIndex + i);
+      vs[offset + i] = v(fromIndex + i);
+    }
+  }
+}
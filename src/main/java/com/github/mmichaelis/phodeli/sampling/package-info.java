@@ -0,0 +1,7 @@
+/**
+ * Sampling of (random) locations, the core of the random map generator.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+package com.github.mmichaelis.phodeli.sampling;
@@ -0,0 +1,47 @@
+package com.github.mmichaelis.phodeli.astro;
+
+import static com.github.mmichaelis.phodeli.test.SerializableCondition.serializable;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.testing.EqualsTester;
+
+import com.github.mmichaelis.phodeli.measure.Angle;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link AlignmentMatch}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class AlignmentMatchTest {
+
+  private static final Instant INSTANT = Instant.parse("2023-07-13T00:19:38Z");
+
+  @Test
+  void isSerializable() {
+    assertThat(match(1, INSTANT, 299D, 0.1D)).is(serializable());
+  }
+
+  @Test
+  void equalsContract() {
+    new EqualsTester()
+      .addEqualityGroup(match(1, INSTANT, 299D, 0.1D), match(1, INSTANT, 299D, 0.1D))
+      .addEqualityGroup(match(2, INSTANT, 299D, 0.1D))
+      .addEqualityGroup(match(1, INSTANT.plusSeconds(1L), 299D, 0.1D))
+      .addEqualityGroup(match(1, INSTANT, 298D, 0.1D))
+      .addEqualityGroup(match(1, INSTANT, 299D, -0.1D))
+      .testEquals();
+  }
+
+  private static AlignmentMatch match(final int candidate,
+                                      final Instant instant,
+                                      final double azimuth,
+                                      final double deviation) {
+    return new AlignmentMatch(candidate, instant, Angle.degrees(azimuth),
+                              Angle.degrees(deviation));
+  }
+}
@@ -0,0 +1,111 @@
+package com.github.mmichaelis.phodeli.astro;
+
+import static com.github.mmichaelis.phodeli.astro.GalacticCore.galacticCore;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link GalacticCore}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class GalacticCoreTest {
+
+  private static final Offset<Double> TOLERANCE = Offset.offset(0.1D);
+  private static final Offset<Double> BULK_TOLERANCE = Offset.offset(0.001D);
+  private static final GeoCoordinate MUNICH = GeoCoordinate.degrees(48.137D, 11.575D);
+
+  @Test
+  void precessesToDate() {
+    GalacticCore j2000 = galacticCore(LocalDate.of(2000, 1, 1));
+    GalacticCore later = galacticCore(LocalDate.of(2050, 1, 1));
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(j2000.getRightAscension().toDegrees())
+      .isCloseTo(266.4168D, Offset.offset(0.001D));
+    assertions.assertThat(j2000.getDeclination().toDegrees())
+      .isCloseTo(-29.0078D, Offset.offset(0.001D));
+    assertions.assertThat(later.getRightAscension().toDegrees())
+      .isCloseTo(266.4168D + 50D * 57.2D / 3600D, Offset.offset(0.01D));
+    assertions.assertThat(later.getDate()).isEqualTo(LocalDate.of(2050, 1, 1));
+    assertions.assertAll();
+  }
+
+  @Test
+  void eventsMatchPositions() {
+    GalacticCore core = galacticCore(LocalDate.of(2020, 6, 20));
+    RiseSetTimes times = core.times(MUNICH);
+    HorizontalCoordinate rise = core.position(MUNICH, times.getRise());
+    HorizontalCoordinate transit = core.position(MUNICH, times.getTransit());
+    HorizontalCoordinate set = core.position(MUNICH, times.getSet());
+    double culmination = 90D - MUNICH.getLatitude().toDegrees()
+                         + core.getDeclination().toDegrees();
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(rise.getElevation().toDegrees()).isCloseTo(0D, TOLERANCE);
+    assertions.assertThat(rise.getAzimuth().toDegrees()).isBetween(90D, 180D);
+    assertions.assertThat(set.getElevation().toDegrees()).isCloseTo(0D, TOLERANCE);
+    assertions.assertThat(set.getAzimuth().toDegrees()).isBetween(180D, 270D);
+    assertions.assertThat(transit.getAzimuth().toDegrees()).isCloseTo(180D, TOLERANCE);
+    assertions.assertThat(transit.getElevation().toDegrees()).isCloseTo(culmination, TOLERANCE);
+    assertions.assertAll();
+  }
+
+  @Test
+  void handlesCircumpolarLatitudes() {
+    GalacticCore core = galacticCore(LocalDate.of(2020, 6, 20));
+    RiseSetTimes north = core.times(GeoCoordinate.degrees(70D, 20D));
+    RiseSetTimes south = core.times(GeoCoordinate.degrees(-70D, 20D));
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(north.getRise()).isNull();
+    assertions.assertThat(north.getSet()).isNull();
+    assertions.assertThat(south.getRise()).isNull();
+    assertions.assertThat(south.getSet()).isNull();
+    assertions.assertThat(south.getTransit()).isNotNull();
+    assertions.assertAll();
+  }
+
+  @Test
+  void bulkMatchesSingleEvaluation() {
+    double[] latitudes = {48.137D, -33.9D, 19.8D};
+    double[] longitudes = {11.575D, 151.2D, -155.5D};
+    LocalDate date = LocalDate.of(2021, 8, 9);
+    GalacticCore core = galacticCore(date);
+    int stepMinutes = 30;
+    int steps = SolarDay.getStepCount(stepMinutes);
+    double[] azimuths = new double[latitudes.length * steps];
+    double[] elevations = new double[latitudes.length * steps];
+    core.positions(latitudes, longitudes, latitudes.length, stepMinutes, azimuths, elevations);
+    RiseSetTimes[] times = core.times(latitudes, longitudes, latitudes.length);
+    Instant midnight = date.atStartOfDay().toInstant(ZoneOffset.UTC);
+    SoftAssertions assertions = new SoftAssertions();
+    for (int i = 0; i < latitudes.length; i++) {
+      GeoCoordinate coordinate = GeoCoordinate.degrees(latitudes[i], longitudes[i]);
+      assertions.assertThat(times[i]).isEqualTo(core.times(coordinate));
+      for (int step = 0; step < steps; step++) {
+        HorizontalCoordinate expected = core.position(
+          coordinate, midnight.plus(Duration.ofMinutes((long) step * stepMinutes)));
+        assertions.assertThat(azimuths[i * steps + step])
+          .isCloseTo(expected.getAzimuth().toDegrees(), BULK_TOLERANCE);
+        assertions.assertThat(elevations[i * steps + step])
+          .isCloseTo(expected.getElevation().toDegrees(), BULK_TOLERANCE);
+      }
+    }
+    assertions.assertAll();
+  }
+
+  @Test
+  void rejectsMissingDate() {
+    //noinspection ConstantConditions
+    assertThatThrownBy(() -> galacticCore(null)).isInstanceOf(NullPointerException.class);
+  }
+}
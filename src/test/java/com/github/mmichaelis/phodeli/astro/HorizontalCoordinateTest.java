@@ -0,0 +1,45 @@
+package com.github.mmichaelis.phodeli.astro;
+
+import static com.github.mmichaelis.phodeli.astro.HorizontalCoordinate.degrees;
+import static com.github.mmichaelis.phodeli.astro.HorizontalCoordinate.horizontal;
+import static com.github.mmichaelis.phodeli.test.SerializableCondition.serializable;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.testing.EqualsTester;
+
+import com.github.mmichaelis.phodeli.measure.Angle;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link HorizontalCoordinate}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class HorizontalCoordinateTest {
+
+  @Test
+  void providesAngles() {
+    HorizontalCoordinate coordinate = horizontal(Angle.degrees(180D), Angle.degrees(45D));
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(coordinate.getAzimuth().toDegrees()).isEqualTo(180D);
+    assertions.assertThat(coordinate.getElevation().toDegrees()).isEqualTo(45D);
+    assertions.assertAll();
+  }
+
+  @Test
+  void isSerializable() {
+    assertThat(degrees(90D, 10D)).is(serializable());
+  }
+
+  @Test
+  void equalsContract() {
+    new EqualsTester()
+      .addEqualityGroup(degrees(90D, 10D), horizontal(Angle.degrees(90D), Angle.degrees(10D)))
+      .addEqualityGroup(degrees(90D, 11D))
+      .addEqualityGroup(degrees(91D, 10D))
+      .testEquals();
+  }
+}
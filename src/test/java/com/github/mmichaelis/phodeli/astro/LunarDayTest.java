@@ -0,0 +1,146 @@
+package com.github.mmichaelis.phodeli.astro;
+
+import static com.github.mmichaelis.phodeli.astro.LunarDay.lunarDay;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Random;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link LunarDay}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class LunarDayTest {
+
+  /**
+   * Using fixed seed to provide reproducible test runs.
+   */
+  private static final long RANDOM_SEED = 0L;
+  private static final int SPOTS = 100;
+  private static final Offset<Double> TOLERANCE = Offset.offset(0.02D);
+  private static final Offset<Double> BULK_TOLERANCE = Offset.offset(0.005D);
+  private static final GeoCoordinate MUNICH = GeoCoordinate.degrees(48.137D, 11.575D);
+  /**
+   * Example 47.a of Jean Meeus: Astronomical Algorithms, 1992 April 12 at 0h TD.
+   */
+  private static final double MEEUS_CENTURIES = (2_448_724.5D - 2_451_545D) / 36_525D;
+
+  @Test
+  void matchesMeeusExample() {
+    double[] equatorial = new double[3];
+    LunarDay.equatorial(MEEUS_CENTURIES, equatorial);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(equatorial[0]).isCloseTo(134.688470D, TOLERANCE);
+    assertions.assertThat(Math.toDegrees(equatorial[1])).isCloseTo(13.768368D, TOLERANCE);
+    assertions.assertThat(Math.toDegrees(equatorial[2]))
+      .isCloseTo(0.991990D, Offset.offset(0.0005D));
+    assertions.assertAll();
+  }
+
+  @Test
+  void providesPhase() {
+    LunarDay day = lunarDay(LocalDate.of(2020, 1, 10));
+    MoonPhase meeus = day.phase(Instant.parse("1992-04-12T00:00:00Z"));
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(meeus.getIlluminatedFraction()).isCloseTo(0.6786D, Offset.offset(0.005D));
+    assertions.assertThat(meeus.isWaxing()).isTrue();
+    assertions.assertThat(day.phase(Instant.parse("2020-01-10T19:21:00Z")).getIlluminatedFraction())
+      .isGreaterThan(0.99D);
+    assertions.assertThat(day.phase(Instant.parse("2020-01-24T21:42:00Z")).getIlluminatedFraction())
+      .isLessThan(0.01D);
+    assertions.assertThat(day.phase(Instant.parse("2020-01-05T00:00:00Z")).isWaxing()).isTrue();
+    assertions.assertThat(day.phase(Instant.parse("2020-01-15T00:00:00Z")).isWaxing()).isFalse();
+    assertions.assertAll();
+  }
+
+  @Test
+  void eventsMatchPositions() {
+    LunarDay day = lunarDay(LocalDate.of(2020, 1, 10));
+    RiseSetTimes times = day.times(MUNICH);
+    HorizontalCoordinate rise = day.position(MUNICH, times.getRise());
+    HorizontalCoordinate transit = day.position(MUNICH, times.getTransit());
+    HorizontalCoordinate set = day.position(MUNICH, times.getSet());
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(times.getDate()).isEqualTo(LocalDate.of(2020, 1, 10));
+    assertions.assertThat(rise.getElevation().toDegrees()).isBetween(-0.6D, 0D);
+    assertions.assertThat(rise.getAzimuth().toDegrees()).isBetween(0D, 180D);
+    assertions.assertThat(set.getElevation().toDegrees()).isBetween(-0.6D, 0D);
+    assertions.assertThat(set.getAzimuth().toDegrees()).isBetween(180D, 360D);
+    assertions.assertThat(transit.getAzimuth().toDegrees()).isCloseTo(180D, TOLERANCE);
+    assertions.assertAll();
+  }
+
+  @Test
+  void someDatesLackEvents() {
+    int withoutTransit = 0;
+    for (int i = 0; i < 31; i++) {
+      RiseSetTimes times = lunarDay(LocalDate.of(2020, 1, 1).plusDays(i)).times(MUNICH);
+      withoutTransit += times.getTransit() == null ? 1 : 0;
+    }
+    assertThat(withoutTransit).isBetween(1, 2);
+  }
+
+  @Test
+  void bulkPositionsMatchSinglePositions() {
+    Random random = new Random(RANDOM_SEED);
+    double[] latitudes = new double[SPOTS];
+    double[] longitudes = new double[SPOTS];
+    for (int i = 0; i < SPOTS; i++) {
+      latitudes[i] = -60D + 120D * random.nextDouble();
+      longitudes[i] = -180D + 360D * random.nextDouble();
+    }
+    LocalDate date = LocalDate.of(2018, 9, 1);
+    LunarDay day = lunarDay(date);
+    int stepMinutes = 7;
+    int steps = SolarDay.getStepCount(stepMinutes);
+    double[] azimuths = new double[SPOTS * steps];
+    double[] elevations = new double[SPOTS * steps];
+    day.positions(latitudes, longitudes, SPOTS, stepMinutes, azimuths, elevations);
+    Instant midnight = date.atStartOfDay().toInstant(ZoneOffset.UTC);
+    SoftAssertions assertions = new SoftAssertions();
+    for (int i = 0; i < SPOTS; i += 9) {
+      for (int step = 0; step < steps; step += 13) {
+        HorizontalCoordinate expected = day.position(
+          GeoCoordinate.degrees(latitudes[i], longitudes[i]),
+          midnight.plus(Duration.ofMinutes((long) step * stepMinutes)));
+        assertions.assertThat(azimuths[i * steps + step])
+          .isCloseTo(expected.getAzimuth().toDegrees(), BULK_TOLERANCE);
+        assertions.assertThat(elevations[i * steps + step])
+          .isCloseTo(expected.getElevation().toDegrees(), BULK_TOLERANCE);
+      }
+    }
+    assertions.assertAll();
+  }
+
+  @Test
+  void bulkTimesMatchSingleTimes() {
+    double[] latitudes = {48.137D, 51.4769D, 69.65D, -33.9D};
+    double[] longitudes = {11.575D, 0D, 18.96D, 151.2D};
+    LunarDay day = lunarDay(LocalDate.of(2019, 4, 2));
+    RiseSetTimes[] times = day.times(latitudes, longitudes, latitudes.length);
+    SoftAssertions assertions = new SoftAssertions();
+    for (int i = 0; i < latitudes.length; i++) {
+      assertions.assertThat(times[i])
+        .isEqualTo(day.times(GeoCoordinate.degrees(latitudes[i], longitudes[i])));
+    }
+    assertions.assertAll();
+  }
+
+  @Test
+  void rejectsMissingDate() {
+    //noinspection ConstantConditions
+    assertThatThrownBy(() -> lunarDay(null)).isInstanceOf(NullPointerException.class);
+  }
+}
@@ -0,0 +1,51 @@
+package com.github.mmichaelis.phodeli.astro;
+
+import static com.github.mmichaelis.phodeli.test.SerializableCondition.serializable;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.testing.EqualsTester;
+
+import com.github.mmichaelis.phodeli.measure.Angle;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link MoonPhase}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class MoonPhaseTest {
+
+  private static final Offset<Double> TOLERANCE = Offset.offset(0.0001D);
+
+  @Test
+  void providesIlluminatedFraction() {
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(new MoonPhase(Angle.degrees(0D), true).getIlluminatedFraction())
+      .isCloseTo(1D, TOLERANCE);
+    assertions.assertThat(new MoonPhase(Angle.degrees(90D), false).getIlluminatedFraction())
+      .isCloseTo(0.5D, TOLERANCE);
+    assertions.assertThat(new MoonPhase(Angle.degrees(180D), true).getIlluminatedFraction())
+      .isCloseTo(0D, TOLERANCE);
+    assertions.assertThat(new MoonPhase(Angle.degrees(90D), false).isWaxing()).isFalse();
+    assertions.assertAll();
+  }
+
+  @Test
+  void isSerializable() {
+    assertThat(new MoonPhase(Angle.degrees(42D), true)).is(serializable());
+  }
+
+  @Test
+  void equalsContract() {
+    new EqualsTester()
+      .addEqualityGroup(new MoonPhase(Angle.degrees(42D), true),
+                        new MoonPhase(Angle.degrees(42D), true))
+      .addEqualityGroup(new MoonPhase(Angle.degrees(42D), false))
+      .addEqualityGroup(new MoonPhase(Angle.degrees(43D), true))
+      .testEquals();
+  }
+}
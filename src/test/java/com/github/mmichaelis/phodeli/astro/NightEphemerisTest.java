@@ -0,0 +1,78 @@
+package com.github.mmichaelis.phodeli.astro;
+
+import static com.github.mmichaelis.phodeli.astro.NightEphemeris.ephemeris;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link NightEphemeris}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class NightEphemerisTest {
+
+  private static final GeoCoordinate MUNICH = GeoCoordinate.degrees(48.137D, 11.575D);
+
+  @Test
+  void reusesCachedDays() {
+    NightEphemeris ephemeris = ephemeris();
+    LocalDate date = LocalDate.of(2020, 6, 20);
+    Instant instant = Instant.parse("2020-06-20T23:00:00Z");
+    LunarDay moon = ephemeris.moon(date);
+    GalacticCore core = ephemeris.galacticCore(date);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(ephemeris.moon(date)).isSameAs(moon);
+    assertions.assertThat(ephemeris.galacticCore(date)).isSameAs(core);
+    assertions.assertThat(ephemeris.moonPosition(MUNICH, instant))
+      .isEqualTo(moon.position(MUNICH, instant));
+    assertions.assertThat(ephemeris.moonPhase(instant)).isEqualTo(moon.phase(instant));
+    assertions.assertThat(ephemeris.moonTimes(MUNICH, date)).isEqualTo(moon.times(MUNICH));
+    assertions.assertThat(ephemeris.galacticCorePosition(MUNICH, instant))
+      .isEqualTo(core.position(MUNICH, instant));
+    assertions.assertThat(ephemeris.galacticCoreTimes(MUNICH, date))
+      .isEqualTo(core.times(MUNICH));
+    assertions.assertThat(ephemeris.getMoonDayCount()).isEqualTo(1);
+    assertions.assertThat(ephemeris.getGalacticCoreDayCount()).isEqualTo(1);
+    assertions.assertAll();
+  }
+
+  @Test
+  void computesMoonPositionAndPhaseWithoutKeepingDays() {
+    NightEphemeris ephemeris = ephemeris();
+    Instant instant = Instant.parse("2020-06-20T23:00:00Z");
+    LunarDay moon = LunarDay.lunarDay(LocalDate.of(2020, 6, 20));
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(ephemeris.moonPosition(MUNICH, instant))
+      .isEqualTo(moon.position(MUNICH, instant));
+    assertions.assertThat(ephemeris.moonPhase(instant)).isEqualTo(moon.phase(instant));
+    assertions.assertThat(ephemeris.getMoonDayCount()).isZero();
+    assertions.assertAll();
+  }
+
+  @Test
+  void evictsLeastRecentlyUsedDays() {
+    NightEphemeris ephemeris = ephemeris(2);
+    LocalDate first = LocalDate.of(2020, 1, 1);
+    LunarDay day = ephemeris.moon(first);
+    ephemeris.moon(first.plusDays(1));
+    ephemeris.moon(first.plusDays(2));
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(ephemeris.getMoonDayCount()).isEqualTo(2);
+    assertions.assertThat(ephemeris.getGalacticCoreDayCount()).isZero();
+    assertions.assertThat(ephemeris.moon(first)).isNotSameAs(day);
+    assertions.assertAll();
+  }
+
+  @Test
+  void rejectsInvalidCapacity() {
+    assertThatThrownBy(() -> ephemeris(0)).isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,54 @@
+package com.github.mmichaelis.phodeli.astro;
+
+import static com.github.mmichaelis.phodeli.test.SerializableCondition.serializable;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.testing.EqualsTester;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link RiseSetTimes}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class RiseSetTimesTest {
+
+  private static final LocalDate DATE = LocalDate.of(2020, 1, 10);
+  private static final Instant RISE = Instant.parse("2020-01-10T15:19:00Z");
+  private static final Instant TRANSIT = Instant.parse("2020-01-10T23:31:00Z");
+  private static final Instant SET = Instant.parse("2020-01-10T06:45:00Z");
+
+  @Test
+  void providesEvents() {
+    RiseSetTimes times = new RiseSetTimes(DATE, RISE, TRANSIT, null);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(times.getDate()).isEqualTo(DATE);
+    assertions.assertThat(times.getRise()).isEqualTo(RISE);
+    assertions.assertThat(times.getTransit()).isEqualTo(TRANSIT);
+    assertions.assertThat(times.getSet()).isNull();
+    assertions.assertAll();
+  }
+
+  @Test
+  void isSerializable() {
+    assertThat(new RiseSetTimes(DATE, RISE, null, SET)).is(serializable());
+  }
+
+  @Test
+  void equalsContract() {
+    new EqualsTester()
+      .addEqualityGroup(new RiseSetTimes(DATE, RISE, TRANSIT, SET),
+                        new RiseSetTimes(DATE, RISE, TRANSIT, SET))
+      .addEqualityGroup(new RiseSetTimes(DATE.plusDays(1L), RISE, TRANSIT, SET))
+      .addEqualityGroup(new RiseSetTimes(DATE, null, TRANSIT, SET))
+      .addEqualityGroup(new RiseSetTimes(DATE, RISE, null, SET))
+      .addEqualityGroup(new RiseSetTimes(DATE, RISE, TRANSIT, null))
+      .testEquals();
+  }
+}
@@ -0,0 +1,190 @@
+package com.github.mmichaelis.phodeli.astro;
+
+import static com.github.mmichaelis.phodeli.astro.SolarDay.solarDay;
+import static com.github.mmichaelis.phodeli.test.SerializableCondition.serializable;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Random;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.data.Offset;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link SolarDay}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class SolarDayTest {
+
+  /**
+   * Using fixed seed to provide reproducible test runs.
+   */
+  private static final long RANDOM_SEED = 0L;
+  private static final int SPOTS = 100;
+  private static final Offset<Double> TOLERANCE = Offset.offset(0.1D);
+  private static final Offset<Double> BULK_TOLERANCE = Offset.offset(0.0001D);
+  private static final GeoCoordinate MUNICH = GeoCoordinate.degrees(48.137D, 11.575D);
+  private static final GeoCoordinate GREENWICH = GeoCoordinate.degrees(51.4769D, 0D);
+  private static final GeoCoordinate TROMSO = GeoCoordinate.degrees(69.65D, 18.96D);
+
+  @Test
+  void matchesSolarPositionAlgorithmReference() {
+    HorizontalCoordinate position = solarDay(LocalDate.of(2003, 10, 17))
+      .position(GeoCoordinate.degrees(39.742476D, -105.1786D),
+                Instant.parse("2003-10-17T19:30:30Z"));
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(position.getAzimuth().toDegrees()).isCloseTo(194.34D, TOLERANCE);
+    assertions.assertThat(position.getElevation().toDegrees()).isCloseTo(90D - 50.11D, TOLERANCE);
+    assertions.assertAll();
+  }
+
+  @Test
+  void positionOutsideOfDayIsComputedDirectly() {
+    Instant instant = Instant.parse("2017-06-22T10:00:00Z");
+    HorizontalCoordinate outside = solarDay(LocalDate.of(2017, 6, 21)).position(MUNICH, instant);
+    HorizontalCoordinate inside = solarDay(LocalDate.of(2017, 6, 22)).position(MUNICH, instant);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(outside.getAzimuth().toDegrees())
+      .isCloseTo(inside.getAzimuth().toDegrees(), BULK_TOLERANCE);
+    assertions.assertThat(outside.getElevation().toDegrees())
+      .isCloseTo(inside.getElevation().toDegrees(), BULK_TOLERANCE);
+    assertions.assertAll();
+  }
+
+  @Test
+  void providesSummerSolsticeTimes() {
+    SunTimes times = solarDay(LocalDate.of(2017, 6, 21)).times(MUNICH);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(times.getDate()).isEqualTo(LocalDate.of(2017, 6, 21));
+    assertions.assertThat(minutesBetween(times.getSunrise(), "2017-06-21T03:12:00Z"))
+      .isLessThanOrEqualTo(2L);
+    assertions.assertThat(minutesBetween(times.getSunset(), "2017-06-21T19:17:00Z"))
+      .isLessThanOrEqualTo(2L);
+    assertions.assertThat(times.getMorningGoldenHour().contains(times.getSunrise())).isTrue();
+    assertions.assertThat(times.getEveningGoldenHour().contains(times.getSunset())).isTrue();
+    assertions.assertThat(times.getMorningBlueHour().getEnd())
+      .isEqualTo(times.getMorningGoldenHour().getStart());
+    assertions.assertThat(times.getEveningBlueHour().getStart())
+      .isEqualTo(times.getEveningGoldenHour().getEnd());
+    assertions.assertAll();
+  }
+
+  @Test
+  void providesEquinoxTimes() {
+    SunTimes times = solarDay(LocalDate.of(2020, 3, 20)).times(GREENWICH);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(minutesBetween(times.getSunrise(), "2020-03-20T06:02:00Z"))
+      .isLessThanOrEqualTo(2L);
+    assertions.assertThat(minutesBetween(times.getSunset(), "2020-03-20T18:14:00Z"))
+      .isLessThanOrEqualTo(2L);
+    assertions.assertAll();
+  }
+
+  @Test
+  void solarNoonRespectsEquationOfTime() {
+    SunTimes times = solarDay(LocalDate.of(2020, 11, 3)).times(GREENWICH);
+    assertThat(minutesBetween(times.getSolarNoon(), "2020-11-03T11:43:35Z"))
+      .isLessThanOrEqualTo(1L);
+  }
+
+  @Test
+  void handlesPolarNightAndMidnightSun() {
+    SunTimes night = solarDay(LocalDate.of(2020, 12, 21)).times(TROMSO);
+    SunTimes midnightSun = solarDay(LocalDate.of(2020, 6, 21)).times(TROMSO);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(night.getSunrise()).isNull();
+    assertions.assertThat(night.getSunset()).isNull();
+    assertions.assertThat(night.getMorningGoldenHour()).isNotNull();
+    assertions.assertThat(night.getMorningGoldenHour().getEnd()).isEqualTo(night.getSolarNoon());
+    assertions.assertThat(midnightSun.getSunrise()).isNull();
+    assertions.assertThat(midnightSun.getEveningGoldenHour()).isNull();
+    assertions.assertThat(midnightSun.getMorningBlueHour()).isNull();
+    assertions.assertThat(midnightSun.getSolarNoon()).isNotNull();
+    assertions.assertAll();
+  }
+
+  @Test
+  void bulkPositionsMatchSinglePositions() {
+    Random random = new Random(RANDOM_SEED);
+    double[] latitudes = new double[SPOTS];
+    double[] longitudes = new double[SPOTS];
+    for (int i = 0; i < SPOTS; i++) {
+      latitudes[i] = -60D + 120D * random.nextDouble();
+      longitudes[i] = -180D + 360D * random.nextDouble();
+    }
+    LocalDate date = LocalDate.of(2018, 9, 1);
+    SolarDay day = solarDay(date);
+    int stepMinutes = 7;
+    int steps = SolarDay.getStepCount(stepMinutes);
+    double[] azimuths = new double[SPOTS * steps];
+    double[] elevations = new double[SPOTS * steps];
+    day.positions(latitudes, longitudes, SPOTS, stepMinutes, azimuths, elevations);
+    Instant midnight = date.atStartOfDay().toInstant(ZoneOffset.UTC);
+    SoftAssertions assertions = new SoftAssertions();
+    for (int i = 0; i < SPOTS; i += 9) {
+      for (int step = 0; step < steps; step += 13) {
+        HorizontalCoordinate expected = day.position(
+          GeoCoordinate.degrees(latitudes[i], longitudes[i]),
+          midnight.plus(Duration.ofMinutes((long) step * stepMinutes)));
+        assertions.assertThat(azimuths[i * steps + step])
+          .isCloseTo(expected.getAzimuth().toDegrees(), BULK_TOLERANCE);
+        assertions.assertThat(elevations[i * steps + step])
+          .isCloseTo(expected.getElevation().toDegrees(), BULK_TOLERANCE);
+      }
+    }
+    assertions.assertAll();
+  }
+
+  @Test
+  void bulkTimesMatchSingleTimes() {
+    double[] latitudes = {48.137D, 51.4769D, 69.65D, -33.9D};
+    double[] longitudes = {11.575D, 0D, 18.96D, 151.2D};
+    SolarDay day = solarDay(LocalDate.of(2019, 4, 2));
+    SunTimes[] times = day.times(latitudes, longitudes, latitudes.length);
+    SoftAssertions assertions = new SoftAssertions();
+    for (int i = 0; i < latitudes.length; i++) {
+      assertions.assertThat(times[i])
+        .isEqualTo(day.times(GeoCoordinate.degrees(latitudes[i], longitudes[i])));
+    }
+    assertions.assertThat(times[0]).is(serializable());
+    assertions.assertAll();
+  }
+
+  @Test
+  void validatesBulkArguments() {
+    SolarDay day = solarDay(LocalDate.of(2019, 4, 2));
+    double[] coordinates = {0D, 1D};
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(SolarDay.getStepCount(1)).isEqualTo(1440);
+    assertions.assertThat(SolarDay.getStepCount(7)).isEqualTo(206);
+    assertions.assertThat(SolarDay.getStepCount(1440)).isEqualTo(1);
+    assertions.assertThatThrownBy(() -> SolarDay.getStepCount(0))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertThatThrownBy(() -> SolarDay.getStepCount(1441))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertThatThrownBy(
+      () -> day.positions(coordinates, coordinates, 2, 60, new double[24], new double[48]))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertAll();
+  }
+
+  @Test
+  void rejectsMissingDate() {
+    //noinspection ConstantConditions
+    assertThatThrownBy(() -> solarDay(null)).isInstanceOf(NullPointerException.class);
+  }
+
+  private static long minutesBetween(final Instant actual, @NotNull final String expected) {
+    return Math.abs(Duration.between(actual, Instant.parse(expected)).toMinutes());
+  }
+}
@@ -0,0 +1,60 @@
+package com.github.mmichaelis.phodeli.astro;
+
+import static com.github.mmichaelis.phodeli.astro.SolarEphemeris.ephemeris;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link SolarEphemeris}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class SolarEphemerisTest {
+
+  private static final GeoCoordinate MUNICH = GeoCoordinate.degrees(48.137D, 11.575D);
+
+  @Test
+  void reusesCachedDays() {
+    SolarEphemeris ephemeris = ephemeris();
+    LocalDate date = LocalDate.of(2017, 6, 21);
+    SolarDay day = ephemeris.day(date);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(ephemeris.day(date)).isSameAs(day);
+    assertions.assertThat(day.getDate()).isEqualTo(date);
+    assertions.assertThat(ephemeris.times(MUNICH, date).getSunrise())
+      .isEqualTo(day.times(MUNICH).getSunrise());
+    assertions.assertThat(ephemeris.position(MUNICH, Instant.parse("2017-06-21T12:00:00Z")))
+      .isEqualTo(day.position(MUNICH, Instant.parse("2017-06-21T12:00:00Z")));
+    assertions.assertThat(ephemeris.getDayCount()).isEqualTo(1);
+    assertions.assertAll();
+  }
+
+  @Test
+  void evictsLeastRecentlyUsedDays() {
+    SolarEphemeris ephemeris = ephemeris(2);
+    LocalDate first = LocalDate.of(2017, 1, 1);
+    SolarDay day = ephemeris.day(first);
+    ephemeris.day(first.plusDays(1));
+    ephemeris.day(first);
+    ephemeris.day(first.plusDays(2));
+    SolarDay evicted = ephemeris.day(first.plusDays(1));
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(ephemeris.getDayCount()).isEqualTo(2);
+    assertions.assertThat(ephemeris.day(first.plusDays(1))).isSameAs(evicted);
+    assertions.assertThat(ephemeris.day(first)).isNotSameAs(day);
+    assertions.assertAll();
+  }
+
+  @Test
+  void rejectsInvalidCapacity() {
+    assertThatThrownBy(() -> ephemeris(0)).isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,132 @@
+package com.github.mmichaelis.phodeli.astro;
+
+import static com.github.mmichaelis.phodeli.astro.SunAlignmentSearch.sunAlignmentSearch;
+
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+import com.github.mmichaelis.phodeli.measure.Angle;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link SunAlignmentSearch}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class SunAlignmentSearchTest {
+
+  /**
+   * Using fixed seed to provide reproducible test runs.
+   */
+  private static final long RANDOM_SEED = 0L;
+  private static final int CANDIDATES = 200;
+  private static final GeoCoordinate MANHATTAN = GeoCoordinate.degrees(40.7536D, -73.9832D);
+  /**
+   * Bearing of the cross streets of Manhattan's grid towards the west.
+   */
+  private static final Angle MANHATTAN_GRID = Angle.degrees(299D);
+  private static final Angle TOLERANCE = Angle.degrees(0.25D);
+  private static final LocalDate FROM = LocalDate.of(2023, 1, 1);
+  private static final LocalDate TO = LocalDate.of(2023, 12, 31);
+
+  @Test
+  void findsManhattanhenge() {
+    List<AlignmentMatch> matches = sunAlignmentSearch(Angle.degrees(0.5D), TOLERANCE)
+      .search(MANHATTAN, MANHATTAN_GRID, FROM, TO);
+    // Evening UTC dates are the previous local dates: around May 30 and July 12.
+    List<LocalDate> dates = matches.stream()
+      .map(match -> match.getInstant().atOffset(ZoneOffset.ofHours(-4)).toLocalDate())
+      .collect(Collectors.toList());
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(dates).contains(LocalDate.of(2023, 5, 30), LocalDate.of(2023, 7, 12));
+    assertions.assertThat(dates).allMatch(date -> date.getMonthValue() == 5
+                                                  || date.getMonthValue() == 7);
+    matches.forEach(match -> {
+      assertions.assertThat(Math.abs(match.getDeviation().toDegrees()))
+        .isLessThanOrEqualTo(TOLERANCE.toDegrees());
+      assertions.assertThat(match.getCandidate()).isZero();
+    });
+    assertions.assertAll();
+  }
+
+  @Test
+  void findsSunriseOnOppositeBearing() {
+    List<AlignmentMatch> matches = sunAlignmentSearch(Angle.degrees(0.5D), TOLERANCE)
+      .search(MANHATTAN, Angle.degrees(119D), FROM, TO);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(matches).isNotEmpty();
+    matches.forEach(match -> assertions.assertThat(
+      match.getInstant().atOffset(ZoneOffset.ofHours(-5)).getHour()).isBetween(5, 9));
+    assertions.assertAll();
+  }
+
+  @Test
+  void skipsBearingsNeverReached() {
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(sunAlignmentSearch(Angle.degrees(0.5D), TOLERANCE)
+                            .search(MANHATTAN, Angle.degrees(0D), FROM, TO)).isEmpty();
+    assertions.assertThat(sunAlignmentSearch(Angle.degrees(0.5D), TOLERANCE)
+                            .search(GeoCoordinate.degrees(80D, 0D), Angle.degrees(270D),
+                                    LocalDate.of(2023, 6, 1), LocalDate.of(2023, 6, 30)))
+      .isEmpty();
+    assertions.assertAll();
+  }
+
+  @Test
+  void bulkSearchMatchesSingleSearches() {
+    Random random = new Random(RANDOM_SEED);
+    double[] latitudes = new double[CANDIDATES];
+    double[] longitudes = new double[CANDIDATES];
+    double[] bearings = new double[CANDIDATES];
+    for (int i = 0; i < CANDIDATES; i++) {
+      latitudes[i] = -60D + 120D * random.nextDouble();
+      longitudes[i] = -180D + 360D * random.nextDouble();
+      bearings[i] = 360D * random.nextDouble();
+    }
+    SunAlignmentSearch search = sunAlignmentSearch(Angle.degrees(SolarDay.SUNRISE_ELEVATION),
+                                                   TOLERANCE);
+    LocalDate to = LocalDate.of(2023, 3, 31);
+    List<AlignmentMatch> matches = search.search(latitudes, longitudes, bearings, CANDIDATES,
+                                                 FROM, to);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(matches).isNotEmpty();
+    for (int i = 0; i < CANDIDATES; i += 10) {
+      int candidate = i;
+      List<AlignmentMatch> expected = search.search(
+        GeoCoordinate.degrees(latitudes[i], longitudes[i]), Angle.degrees(bearings[i]), FROM, to)
+        .stream()
+        .map(match -> new AlignmentMatch(candidate, match.getInstant(), match.getAzimuth(),
+                                         match.getDeviation()))
+        .collect(Collectors.toList());
+      assertions.assertThat(matches.stream()
+                              .filter(match -> match.getCandidate() == candidate)
+                              .collect(Collectors.toList()))
+        .isEqualTo(expected);
+    }
+    assertions.assertAll();
+  }
+
+  @Test
+  void rejectsInvalidArguments() {
+    SunAlignmentSearch search = sunAlignmentSearch(Angle.degrees(0D), TOLERANCE);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThatThrownBy(() -> sunAlignmentSearch(Angle.degrees(90D), TOLERANCE))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertThatThrownBy(() -> sunAlignmentSearch(Angle.degrees(0D),
+                                                           Angle.degrees(-1D)))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertThatThrownBy(() -> search.search(MANHATTAN, MANHATTAN_GRID, TO, FROM))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertThatThrownBy(() -> search.search(new double[1], new double[1],
+                                                      new double[1], 2, FROM, TO))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertAll();
+  }
+}
@@ -0,0 +1,59 @@
+package com.github.mmichaelis.phodeli.astro;
+
+import static com.github.mmichaelis.phodeli.astro.TimeWindow.window;
+import static com.github.mmichaelis.phodeli.test.SerializableCondition.serializable;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.testing.EqualsTester;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link TimeWindow}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class TimeWindowTest {
+
+  private static final Instant START = Instant.parse("2017-06-21T03:00:00Z");
+  private static final Instant END = Instant.parse("2017-06-21T03:45:00Z");
+
+  @Test
+  void providesLimits() {
+    TimeWindow window = window(START, END);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(window.getStart()).isEqualTo(START);
+    assertions.assertThat(window.getEnd()).isEqualTo(END);
+    assertions.assertThat(window.getDuration()).isEqualTo(Duration.ofMinutes(45L));
+    assertions.assertThat(window.contains(START)).isTrue();
+    assertions.assertThat(window.contains(END)).isFalse();
+    assertions.assertThat(window.contains(START.minusMillis(1L))).isFalse();
+    assertions.assertThat(window.contains(END.minusMillis(1L))).isTrue();
+    assertions.assertAll();
+  }
+
+  @Test
+  void rejectsEndBeforeStart() {
+    assertThatThrownBy(() -> window(END, START)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void isSerializable() {
+    assertThat(window(START, END)).is(serializable());
+  }
+
+  @Test
+  void equalsContract() {
+    new EqualsTester()
+      .addEqualityGroup(window(START, END), window(START, END))
+      .addEqualityGroup(window(START, START))
+      .addEqualityGroup(window(END, END))
+      .testEquals();
+  }
+}
@@ -0,0 +1,77 @@
+package com.github.mmichaelis.phodeli.elevation;
+
+import static com.github.mmichaelis.phodeli.test.SerializableCondition.serializable;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.testing.EqualsTester;
+
+import com.github.mmichaelis.phodeli.measure.Length;
+
+import java.util.Arrays;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link ElevationProfile}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class ElevationProfileTest {
+
+  private static final double[] VALUES =
+    {10D, 1000D, 1010D, 120D, 80D, 400D, 520D, -0.1D, 0.2D, 0.04D, 0.2D, 0.05D};
+
+  @Test
+  void providesValues() {
+    ElevationProfile profile = profile(VALUES);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(profile.getSampleCount()).isEqualTo(10L);
+    assertions.assertThat(profile.getDistance()).isEqualTo(Length.m(1000D));
+    assertions.assertThat(profile.getDistance3d()).isEqualTo(Length.m(1010D));
+    assertions.assertThat(profile.getAscent()).isEqualTo(Length.m(120D));
+    assertions.assertThat(profile.getDescent()).isEqualTo(Length.m(80D));
+    assertions.assertThat(profile.getMinElevation()).isEqualTo(Length.m(400D));
+    assertions.assertThat(profile.getMaxElevation()).isEqualTo(Length.m(520D));
+    assertions.assertThat(profile.getMinGrade()).isEqualTo(-0.1D);
+    assertions.assertThat(profile.getMaxGrade()).isEqualTo(0.2D);
+    assertions.assertThat(profile.getMeanGrade()).isEqualTo(0.04D);
+    assertions.assertThat(profile.getMeanAbsoluteGrade()).isEqualTo(0.2D);
+    assertions.assertThat(profile.getGradeDeviation()).isEqualTo(0.05D);
+    assertions.assertAll();
+  }
+
+  @Test
+  void hasNoElevationWithoutData() {
+    double[] values = VALUES.clone();
+    values[5] = Double.NaN;
+    values[6] = Double.NaN;
+    ElevationProfile profile = profile(values);
+    assertThat(profile.getMinElevation()).isNull();
+    assertThat(profile.getMaxElevation()).isNull();
+  }
+
+  @Test
+  void isSerializable() {
+    assertThat(profile(VALUES)).is(serializable());
+  }
+
+  @Test
+  void equalsContract() {
+    EqualsTester tester = new EqualsTester()
+      .addEqualityGroup(profile(VALUES), profile(VALUES.clone()));
+    for (int i = 0; i < VALUES.length; i++) {
+      double[] values = Arrays.copyOf(VALUES, VALUES.length);
+      values[i] += 1D;
+      tester.addEqualityGroup(profile(values));
+    }
+    tester.testEquals();
+  }
+
+  private static ElevationProfile profile(final double[] values) {
+    return new ElevationProfile((long) values[0], values[1], values[2], values[3], values[4],
+                                values[5], values[6], values[7], values[8], values[9],
+                                values[10], values[11]);
+  }
+}
@@ -0,0 +1,145 @@
+package com.github.mmichaelis.phodeli.elevation;
+
+import static com.github.mmichaelis.phodeli.elevation.ElevationStore.elevationStore;
+
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+import com.github.mmichaelis.phodeli.measure.Length;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link ElevationStore}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class ElevationStoreTest {
+
+  /**
+   * Using fixed seed to provide reproducible test runs.
+   */
+  private static final long RANDOM_SEED = 0L;
+  private static final Offset<Double> TOLERANCE = Offset.offset(1.0E-9D);
+  private static final int SAMPLES = 11;
+  private static final int POINTS = 100_000;
+  private static final String[] TILES = {"N47E011.hgt", "N47E012.hgt", "S01W001.hgt", "N00W180.hgt",
+                                        "N00E179.hgt"};
+
+  private Path directory;
+
+  @BeforeEach
+  void createTiles() throws IOException {
+    directory = Files.createTempDirectory("phodeli");
+    for (String tile : TILES) {
+      Files.write(directory.resolve(tile), HgtTileTest.heights(SAMPLES, -1));
+    }
+  }
+
+  @AfterEach
+  void deleteTiles() throws IOException {
+    for (String tile : TILES) {
+      Files.deleteIfExists(directory.resolve(tile));
+    }
+    Files.deleteIfExists(directory.resolve("N00E000.hgt"));
+    Files.delete(directory);
+  }
+
+  @Test
+  void providesElevationsOfTiles() {
+    ElevationStore store = elevationStore(directory);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(store.elevation(GeoCoordinate.degrees(47.75D, 11.25D)))
+      .isEqualTo(Length.m(252.5D));
+    assertions.assertThat(store.elevation(GeoCoordinate.degrees(47.75D, 12.25D)))
+      .isEqualTo(Length.m(252.5D));
+    assertions.assertThat(store.elevation(GeoCoordinate.degrees(-0.25D, -0.75D)))
+      .isEqualTo(Length.m(252.5D));
+    assertions.assertThat(store.elevation(GeoCoordinate.degrees(10D, 10D))).isNull();
+    assertions.assertThat(store.getTileCount()).isEqualTo(4);
+    assertions.assertAll();
+  }
+
+  @Test
+  void evictsLeastRecentlyUsedTiles() {
+    ElevationStore store = elevationStore(directory, 2);
+    store.elevation(GeoCoordinate.degrees(47.5D, 11.5D));
+    store.elevation(GeoCoordinate.degrees(47.5D, 12.5D));
+    store.elevation(GeoCoordinate.degrees(-0.5D, -0.5D));
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(store.getTileCount()).isEqualTo(2);
+    assertions.assertThat(store.elevation(GeoCoordinate.degrees(47.5D, 11.5D)))
+      .isEqualTo(Length.m(505D));
+    assertions.assertThat(store.getCapacity()).isEqualTo(2);
+    assertions.assertAll();
+  }
+
+  @Test
+  void bulkElevationsMatchSingleLookups() {
+    Random random = new Random(RANDOM_SEED);
+    double[] latitudes = new double[POINTS];
+    double[] longitudes = new double[POINTS];
+    for (int i = 0; i < POINTS; i++) {
+      latitudes[i] = 47D + random.nextDouble();
+      longitudes[i] = 10.5D + 2.5D * random.nextDouble();
+    }
+    ElevationStore store = elevationStore(directory);
+    double[] elevations = new double[POINTS];
+    int found = store.elevations(latitudes, longitudes, POINTS, elevations);
+    SoftAssertions assertions = new SoftAssertions();
+    int expected = 0;
+    for (int i = 0; i < POINTS; i += 97) {
+      Length elevation = store.elevation(GeoCoordinate.degrees(latitudes[i], longitudes[i]));
+      if (elevation == null) {
+        assertions.assertThat(elevations[i]).isNaN();
+      } else {
+        assertions.assertThat(elevations[i]).isCloseTo(elevation.toMeters(), TOLERANCE);
+      }
+    }
+    for (int i = 0; i < POINTS; i++) {
+      expected += longitudes[i] >= 11D ? 1 : 0;
+    }
+    assertions.assertThat(found).isEqualTo(expected);
+    assertions.assertAll();
+  }
+
+  @Test
+  void wrapsLongitudesAcrossAntimeridian() {
+    ElevationStore store = elevationStore(directory);
+    double[] elevations = new double[2];
+    int found = store.elevations(new double[]{0.5D, 0.5D}, new double[]{180.25D, -180.25D}, 2,
+                                 elevations);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(found).isEqualTo(2);
+    assertions.assertThat(elevations).containsExactly(502.5D, 507.5D);
+    assertions.assertThat(store.elevation(GeoCoordinate.degrees(0.5D, -179.75D)))
+      .isEqualTo(Length.m(502.5D));
+    assertions.assertThat(store.elevation(GeoCoordinate.degrees(0.5D, 179.75D)))
+      .isEqualTo(Length.m(507.5D));
+    assertions.assertAll();
+  }
+
+  @Test
+  void rejectsInvalidArgumentsAndFiles() throws IOException {
+    Files.write(directory.resolve("N00E000.hgt"), new byte[3]);
+    ElevationStore store = elevationStore(directory);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThatThrownBy(() -> elevationStore(directory, 0))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertThatThrownBy(() -> store.elevations(new double[1], new double[1], 2,
+                                                         new double[2]))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertThatThrownBy(() -> store.elevation(GeoCoordinate.degrees(0.5D, 0.5D)))
+      .isInstanceOf(UncheckedIOException.class);
+    assertions.assertAll();
+  }
+}
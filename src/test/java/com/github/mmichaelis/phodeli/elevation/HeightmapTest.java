@@ -0,0 +1,85 @@
+package com.github.mmichaelis.phodeli.elevation;
+
+import static com.github.mmichaelis.phodeli.elevation.Heightmap.heightmap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+import com.github.mmichaelis.phodeli.measure.Length;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link Heightmap}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class HeightmapTest {
+
+  private static final Offset<Double> TOLERANCE = Offset.offset(0.01D);
+
+  @Test
+  void providesHeights() {
+    Heightmap heightmap = heightmap(new float[]{1F, 2F, 3F, 4F, 5F, Float.NaN}, 3, 2,
+                                    Length.m(30D));
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(heightmap.height(0, 0)).isEqualTo(1D);
+    assertions.assertThat(heightmap.height(1, 1)).isEqualTo(5D);
+    assertions.assertThat(heightmap.height(2, 1)).isNaN();
+    assertions.assertThat(heightmap.getColumns()).isEqualTo(3);
+    assertions.assertThat(heightmap.getRows()).isEqualTo(2);
+    assertions.assertThat(heightmap.getCellSize()).isEqualTo(Length.m(30D));
+    assertions.assertThatThrownBy(() -> heightmap.height(3, 0))
+      .isInstanceOf(IndexOutOfBoundsException.class);
+    assertions.assertAll();
+  }
+
+  @Test
+  void copiesHeights() {
+    float[] heights = {1F, 2F};
+    Heightmap heightmap = heightmap(heights, 2, 1, Length.m(30D));
+    heights[0] = 10F;
+    assertThat(heightmap.height(0, 0)).isEqualTo(1D);
+  }
+
+  @Test
+  void samplesElevationStore() throws IOException {
+    Path directory = Files.createTempDirectory("phodeli");
+    Path tile = directory.resolve("N47E011.hgt");
+    Files.write(tile, HgtTileTest.heights(11, -1));
+    try {
+      // 1/10 degree of latitude per cell, one cell north of the center on row 0.
+      Length cellSize = Length.m(Math.toRadians(0.1D) * 6_371_008.8D);
+      Heightmap heightmap = Heightmap.sample(ElevationStore.elevationStore(directory),
+                                             GeoCoordinate.degrees(47.5D, 11.5D), 3, 3,
+                                             cellSize);
+      SoftAssertions assertions = new SoftAssertions();
+      assertions.assertThat(heightmap.height(1, 1)).isCloseTo(505D, TOLERANCE);
+      assertions.assertThat(heightmap.height(1, 0)).isCloseTo(405D, TOLERANCE);
+      assertions.assertThat(heightmap.height(1, 2)).isCloseTo(605D, TOLERANCE);
+      assertions.assertThat(heightmap.height(2, 1)).isGreaterThan(505D);
+      assertions.assertAll();
+    } finally {
+      Files.delete(tile);
+      Files.delete(directory);
+    }
+  }
+
+  @Test
+  void rejectsInvalidArguments() {
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThatThrownBy(() -> heightmap(new float[5], 3, 2, Length.m(1D)))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertThatThrownBy(() -> heightmap(new float[0], 0, 0, Length.m(1D)))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertThatThrownBy(() -> heightmap(new float[6], 3, 2, Length.m(0D)))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertAll();
+  }
+}
@@ -0,0 +1,96 @@
+package com.github.mmichaelis.phodeli.elevation;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link HgtTile}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class HgtTileTest {
+
+  private static final Offset<Double> TOLERANCE = Offset.offset(1.0E-9D);
+  private static final int SAMPLES = 11;
+
+  @Test
+  void providesFileNames() {
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(HgtTile.fileName(47, 11)).isEqualTo("N47E011.hgt");
+    assertions.assertThat(HgtTile.fileName(-34, -71)).isEqualTo("S34W071.hgt");
+    assertions.assertThat(HgtTile.fileName(0, -1)).isEqualTo("N00W001.hgt");
+    assertions.assertAll();
+  }
+
+  @Test
+  void interpolatesBilinearly() throws IOException {
+    Path file = write(SAMPLES, -1);
+    try {
+      HgtTile tile = HgtTile.map(file, 47, 11);
+      SoftAssertions assertions = new SoftAssertions();
+      assertions.assertThat(tile.getSamples()).isEqualTo(SAMPLES);
+      assertions.assertThat(tile.elevation(48D, 11D)).isCloseTo(0D, TOLERANCE);
+      assertions.assertThat(tile.elevation(47D, 12D)).isCloseTo(1010D, TOLERANCE);
+      assertions.assertThat(tile.elevation(47.75D, 11.25D)).isCloseTo(252.5D, TOLERANCE);
+      assertions.assertThat(tile.elevation(47.33D, 11.67D)).isCloseTo(676.7D, TOLERANCE);
+      assertions.assertAll();
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  void leavesOutVoidSamples() throws IOException {
+    // Samples 1/8 degree apart, exactly representable.
+    Path file = write(9, 10);
+    try {
+      HgtTile tile = HgtTile.map(file, 47, 11);
+      SoftAssertions assertions = new SoftAssertions();
+      assertions.assertThat(tile.elevation(47.875D, 11.125D)).isNaN();
+      assertions.assertThat(tile.elevation(47.9375D, 11.1875D)).isCloseTo(35D, TOLERANCE);
+      assertions.assertThat(HgtTile.MISSING.elevation(47.5D, 11.5D)).isNaN();
+      assertions.assertAll();
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  void rejectsMalformedFiles() throws IOException {
+    Path file = Files.createTempFile("phodeli", ".hgt");
+    try {
+      Files.write(file, new byte[3 * 4]);
+      assertThatThrownBy(() -> HgtTile.map(file, 0, 0)).isInstanceOf(IOException.class);
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  /**
+   * Writes a tile whose height is 100 per row plus 1 per column, with the sample at the given
+   * index void; no sample is void for a negative index.
+   */
+  static Path write(final int samples, final int voidIndex) throws IOException {
+    Path file = Files.createTempFile("phodeli", ".hgt");
+    Files.write(file, heights(samples, voidIndex));
+    return file;
+  }
+
+  static byte[] heights(final int samples, final int voidIndex) {
+    ByteBuffer buffer = ByteBuffer.allocate(samples * samples * Short.BYTES);
+    for (int i = 0; i < samples * samples; i++) {
+      buffer.putShort(i == voidIndex ? Short.MIN_VALUE : (short) (100 * (i / samples)
+                                                                   + i % samples));
+    }
+    return buffer.array();
+  }
+}
@@ -0,0 +1,174 @@
+package com.github.mmichaelis.phodeli.elevation;
+
+import static com.github.mmichaelis.phodeli.elevation.Heightmap.heightmap;
+import static com.github.mmichaelis.phodeli.elevation.LineOfSight.lineOfSight;
+
+import com.github.mmichaelis.phodeli.measure.Length;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link LineOfSight}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class LineOfSightTest {
+
+  /**
+   * Using fixed seed to provide reproducible test runs.
+   */
+  private static final long RANDOM_SEED = 0L;
+  private static final int SIZE = 301;
+  private static final int CENTER = SIZE / 2;
+  private static final int SAMPLES = 5_000;
+  private static final Length EYE = Length.m(1.7D);
+
+  @Test
+  void seesEverythingOnFlatGround() {
+    // Within 300 m, the drop due to curvature stays below 1 cm.
+    LineOfSight lineOfSight = lineOfSight(flat(Length.m(1D)), EYE, Length.m(0D), 0D);
+    Viewshed viewshed = lineOfSight.viewshed(CENTER, CENTER);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(viewshed.getVisibleCount()).isEqualTo((long) SIZE * SIZE);
+    assertions.assertThat(lineOfSight.visible(CENTER, CENTER, 0, SIZE - 1)).isTrue();
+    assertions.assertAll();
+  }
+
+  @Test
+  void hidesCellsBehindWall() {
+    float[] heights = new float[SIZE * SIZE];
+    for (int row = 0; row < SIZE; row++) {
+      heights[row * SIZE + CENTER + 10] = 50F;
+    }
+    // A summit rising above the wall.
+    heights[CENTER * SIZE + CENTER + 100] = 600F;
+    LineOfSight lineOfSight = lineOfSight(heightmap(heights, SIZE, SIZE, Length.m(10D)), EYE,
+                                          Length.m(10D));
+    Viewshed viewshed = lineOfSight.viewshed(CENTER, CENTER);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(viewshed.isVisible(CENTER + 10, CENTER)).isTrue();
+    assertions.assertThat(viewshed.isVisible(CENTER + 20, CENTER)).isFalse();
+    assertions.assertThat(viewshed.isVisible(CENTER - 100, CENTER + 100)).isTrue();
+    assertions.assertThat(lineOfSight.visible(CENTER, CENTER, CENTER + 20, CENTER)).isFalse();
+    assertions.assertThat(lineOfSight.visible(CENTER, CENTER, CENTER + 100, CENTER)).isTrue();
+    assertions.assertThat(viewshed.isVisible(CENTER + 100, CENTER)).isTrue();
+    assertions.assertAll();
+  }
+
+  @Test
+  void hidesDistantGroundBehindCurvature() {
+    // 150 cells of 100 m: the ground 15 km away drops about 15 m below the horizon.
+    Heightmap heightmap = flat(Length.m(100D));
+    LineOfSight refracted = lineOfSight(heightmap, EYE, Length.m(0D));
+    LineOfSight tower = lineOfSight(heightmap, EYE, Length.m(20D));
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(refracted.visible(CENTER, CENTER, CENTER + 10, CENTER)).isTrue();
+    assertions.assertThat(refracted.visible(CENTER, CENTER, SIZE - 1, CENTER)).isFalse();
+    assertions.assertThat(refracted.viewshed(CENTER, CENTER).isVisible(SIZE - 1, CENTER))
+      .isFalse();
+    assertions.assertThat(tower.visible(CENTER, CENTER, SIZE - 1, CENTER)).isTrue();
+    assertions.assertThat(tower.viewshed(CENTER, CENTER).isVisible(SIZE - 1, CENTER)).isTrue();
+    assertions.assertThat(refracted.getRefraction()).isEqualTo(LineOfSight.STANDARD_REFRACTION);
+    assertions.assertAll();
+  }
+
+  @Test
+  void viewshedAgreesWithLinesOfSight() {
+    Random random = new Random(RANDOM_SEED);
+    LineOfSight lineOfSight = lineOfSight(hills(random), EYE, Length.m(5D));
+    Viewshed viewshed = lineOfSight.viewshed(CENTER, CENTER);
+    int agreeing = 0;
+    int visible = 0;
+    for (int i = 0; i < SAMPLES; i++) {
+      int column = random.nextInt(SIZE);
+      int row = random.nextInt(SIZE);
+      boolean expected = lineOfSight.visible(CENTER, CENTER, column, row);
+      agreeing += expected == viewshed.isVisible(column, row) ? 1 : 0;
+      visible += expected ? 1 : 0;
+    }
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(agreeing).isGreaterThan(SAMPLES * 97 / 100);
+    assertions.assertThat(visible).isBetween(SAMPLES / 20, SAMPLES * 19 / 20);
+    assertions.assertAll();
+  }
+
+  @Test
+  void bulkVisibilityMatchesSingleChecks() {
+    Random random = new Random(RANDOM_SEED);
+    LineOfSight lineOfSight = lineOfSight(hills(random), EYE, Length.m(30D));
+    int[] columns = new int[SAMPLES];
+    int[] rows = new int[SAMPLES];
+    for (int i = 0; i < SAMPLES; i++) {
+      columns[i] = random.nextInt(SIZE);
+      rows[i] = random.nextInt(SIZE);
+    }
+    boolean[] visible = new boolean[SAMPLES];
+    lineOfSight.visible(CENTER, CENTER, columns, rows, SAMPLES, visible);
+    SoftAssertions assertions = new SoftAssertions();
+    for (int i = 0; i < SAMPLES; i++) {
+      assertions.assertThat(visible[i])
+        .isEqualTo(lineOfSight.visible(columns[i], rows[i], CENTER, CENTER));
+    }
+    assertions.assertAll();
+  }
+
+  @Test
+  void neverSeesCellsWithoutData() {
+    float[] heights = new float[SIZE * SIZE];
+    heights[CENTER * SIZE + CENTER + 5] = Float.NaN;
+    LineOfSight lineOfSight = lineOfSight(heightmap(heights, SIZE, SIZE, Length.m(10D)), EYE,
+                                          Length.m(0D));
+    Viewshed viewshed = lineOfSight.viewshed(CENTER, CENTER);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(viewshed.isVisible(CENTER + 5, CENTER)).isFalse();
+    assertions.assertThat(viewshed.isVisible(CENTER + 6, CENTER)).isTrue();
+    assertions.assertThat(lineOfSight.visible(CENTER, CENTER, CENTER + 5, CENTER)).isFalse();
+    assertions.assertThat(lineOfSight.viewshed(CENTER + 5, CENTER).getVisibleCount()).isZero();
+    assertions.assertAll();
+  }
+
+  @Test
+  void rejectsInvalidArguments() {
+    LineOfSight lineOfSight = lineOfSight(flat(Length.m(1D)), EYE, EYE);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThatThrownBy(() -> lineOfSight(flat(Length.m(1D)), EYE, EYE, Double.NaN))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertThatThrownBy(() -> lineOfSight.viewshed(-1, 0))
+      .isInstanceOf(IndexOutOfBoundsException.class);
+    assertions.assertThatThrownBy(() -> lineOfSight.visible(0, 0, 0, SIZE))
+      .isInstanceOf(IndexOutOfBoundsException.class);
+    assertions.assertThatThrownBy(() -> lineOfSight.visible(0, 0, new int[1], new int[1], 2,
+                                                            new boolean[2]))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertAll();
+  }
+
+  private static Heightmap flat(final Length cellSize) {
+    return heightmap(new float[SIZE * SIZE], SIZE, SIZE, cellSize);
+  }
+
+  /**
+   * Smooth random terrain as sum of plane waves.
+   */
+  private static Heightmap hills(final Random random) {
+    double[][] waves = new double[8][];
+    for (int i = 0; i < waves.length; i++) {
+      waves[i] = new double[]{0.1D * random.nextDouble(), 0.1D * random.nextDouble(),
+                              2D * Math.PI * random.nextDouble(), 5D + 20D * random.nextDouble()};
+    }
+    float[] heights = new float[SIZE * SIZE];
+    for (int i = 0; i < heights.length; i++) {
+      int column = i % SIZE;
+      int row = i / SIZE;
+      heights[i] = (float) Arrays.stream(waves)
+        .mapToDouble(wave -> wave[3] * Math.sin(wave[0] * column + wave[1] * row + wave[2]))
+        .sum();
+    }
+    return heightmap(heights, SIZE, SIZE, Length.m(10D));
+  }
+}
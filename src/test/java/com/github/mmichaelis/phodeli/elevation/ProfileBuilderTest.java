@@ -0,0 +1,209 @@
+package com.github.mmichaelis.phodeli.elevation;
+
+import static com.github.mmichaelis.phodeli.elevation.ElevationStore.elevationStore;
+import static com.github.mmichaelis.phodeli.elevation.ProfileBuilder.profileBuilder;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+import com.github.mmichaelis.phodeli.geo.GreatCircle;
+import com.github.mmichaelis.phodeli.measure.Length;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link ProfileBuilder}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class ProfileBuilderTest {
+
+  private static final Offset<Double> TOLERANCE = Offset.offset(1.0E-6D);
+  private static final int SAMPLES = 11;
+  /**
+   * Tile whose elevation drops by 1000 meters per degree northwards and rises by 10 meters per
+   * degree eastwards.
+   */
+  private static final String TILE = "N47E011.hgt";
+  private static final GeoCoordinate SOUTH = GeoCoordinate.degrees(47.125D, 11D);
+  private static final GeoCoordinate NORTH = GeoCoordinate.degrees(47.875D, 11D);
+
+  private Path directory;
+  private ElevationStore store;
+
+  @BeforeEach
+  void createTile() throws IOException {
+    directory = Files.createTempDirectory("phodeli");
+    Files.write(directory.resolve(TILE), HgtTileTest.heights(SAMPLES, -1));
+    store = elevationStore(directory);
+  }
+
+  @AfterEach
+  void deleteTile() throws IOException {
+    Files.delete(directory.resolve(TILE));
+    Files.delete(directory);
+  }
+
+  @Test
+  void profilesSteadyDescent() throws IOException {
+    ProfileBuilder builder = profileBuilder(store, Length.m(100D));
+    line(builder, SOUTH, NORTH);
+    ElevationProfile profile = builder.profile();
+    double distance = GreatCircle.distance(SOUTH, NORTH).toMeters();
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(profile.getDistance().toMeters()).isCloseTo(distance, TOLERANCE);
+    assertions.assertThat(profile.getDistance3d().toMeters())
+      .isCloseTo(Math.hypot(distance, 750D), TOLERANCE);
+    assertions.assertThat(profile.getAscent().toMeters()).isCloseTo(0D, TOLERANCE);
+    assertions.assertThat(profile.getDescent().toMeters()).isCloseTo(750D, TOLERANCE);
+    assertions.assertThat(profile.getMinElevation().toMeters()).isCloseTo(125D, TOLERANCE);
+    assertions.assertThat(profile.getMaxElevation().toMeters()).isCloseTo(875D, TOLERANCE);
+    assertions.assertThat(profile.getMinGrade()).isCloseTo(-750D / distance, TOLERANCE);
+    assertions.assertThat(profile.getMaxGrade()).isCloseTo(-750D / distance, TOLERANCE);
+    assertions.assertThat(profile.getMeanGrade()).isCloseTo(-750D / distance, TOLERANCE);
+    assertions.assertThat(profile.getMeanAbsoluteGrade()).isCloseTo(750D / distance, TOLERANCE);
+    assertions.assertThat(profile.getGradeDeviation()).isCloseTo(0D, TOLERANCE);
+    assertions.assertThat(profile.getSampleCount())
+      .isEqualTo((long) Math.ceil(distance / 100D) + 1L);
+    assertions.assertAll();
+  }
+
+  /**
+   * The turning point lies between samples, so that the summit is cut slightly.
+   */
+  @Test
+  void profilesRoundTrip() throws IOException {
+    ProfileBuilder builder = profileBuilder(store, Length.km(1D));
+    line(builder, SOUTH, NORTH, SOUTH);
+    ElevationProfile profile = builder.profile();
+    double distance = GreatCircle.distance(SOUTH, NORTH).toMeters();
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(profile.getDistance().toMeters()).isCloseTo(2D * distance, TOLERANCE);
+    assertions.assertThat(profile.getAscent().toMeters())
+      .isCloseTo(profile.getDescent().toMeters(), TOLERANCE)
+      .isBetween(740D, 750D);
+    assertions.assertThat(profile.getMeanGrade()).isCloseTo(0D, TOLERANCE);
+    assertions.assertThat(profile.getMeanAbsoluteGrade() * distance / 750D)
+      .isCloseTo(1D, Offset.offset(0.01D));
+    assertions.assertThat(profile.getGradeDeviation() * distance / 750D)
+      .isCloseTo(1D, Offset.offset(0.01D));
+    assertions.assertAll();
+  }
+
+  @Test
+  void includesCurrentLineUpToLastVertex() throws IOException {
+    ProfileBuilder builder = profileBuilder(store, Length.km(1D));
+    builder.startLine();
+    builder.coordinate(SOUTH);
+    builder.coordinate(NORTH);
+    ElevationProfile open = builder.profile();
+    builder.endLine();
+    ElevationProfile ended = builder.profile();
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(open.getDistance().toMeters())
+      .isCloseTo(GreatCircle.distance(SOUTH, NORTH).toMeters(), TOLERANCE);
+    assertions.assertThat(open.getSampleCount()).isEqualTo(ended.getSampleCount() - 1L);
+    assertions.assertThat(ended.getDistance().toMeters())
+      .isCloseTo(open.getDistance().toMeters(), TOLERANCE);
+    assertions.assertThat(open.getDistance3d().toMeters())
+      .isBetween(open.getDistance().toMeters(), ended.getDistance3d().toMeters());
+    assertions.assertAll();
+  }
+
+  @Test
+  void skipsGapsBetweenLines() throws IOException {
+    GeoCoordinate east = GeoCoordinate.degrees(47.125D, 11.5D);
+    ProfileBuilder builder = profileBuilder(store, Length.km(1D));
+    line(builder, SOUTH, NORTH);
+    builder.coordinate(GeoCoordinate.degrees(47.5D, 11.25D));
+    line(builder, east, SOUTH);
+    ElevationProfile profile = builder.profile();
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(profile.getDistance().toMeters())
+      .isCloseTo(GreatCircle.distance(SOUTH, NORTH).toMeters()
+                 + GreatCircle.distance(east, SOUTH).toMeters(), TOLERANCE);
+    assertions.assertThat(profile.getAscent().toMeters()).isCloseTo(0D, TOLERANCE);
+    assertions.assertThat(profile.getDescent().toMeters()).isCloseTo(755D, TOLERANCE);
+    assertions.assertAll();
+  }
+
+  @Test
+  void bridgesMissingElevations() throws IOException {
+    GeoCoordinate outside = GeoCoordinate.degrees(48.5D, 11D);
+    ProfileBuilder builder = profileBuilder(store, Length.km(1D));
+    line(builder, SOUTH, outside);
+    ElevationProfile profile = builder.profile();
+    double distance = GreatCircle.distance(SOUTH, outside).toMeters();
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(profile.getDistance().toMeters()).isCloseTo(distance, TOLERANCE);
+    assertions.assertThat(profile.getDistance3d().toMeters())
+      .isBetween(distance, distance + 10D);
+    assertions.assertThat(profile.getMaxElevation().toMeters()).isCloseTo(875D, TOLERANCE);
+    assertions.assertThat(profile.getMinElevation().toMeters()).isBetween(0D, 10D);
+    assertions.assertAll();
+  }
+
+  @Test
+  void streamsLongLinesInOrder() throws IOException {
+    long[] count = new long[1];
+    double[] last = {-1D, -1D};
+    boolean[] ordered = {true};
+    ProfileBuilder builder = profileBuilder(
+      store, Length.m(10D), (latitude, longitude, distance, distance3d, elevation) -> {
+        ordered[0] &= distance > last[0] && distance3d > last[1] && !Double.isNaN(elevation);
+        last[0] = distance;
+        last[1] = distance3d;
+        count[0]++;
+      });
+    line(builder, SOUTH, NORTH);
+    ElevationProfile profile = builder.profile();
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(count[0]).isEqualTo(profile.getSampleCount()).isGreaterThan(8000L);
+    assertions.assertThat(ordered[0]).isTrue();
+    assertions.assertThat(last[0]).isCloseTo(profile.getDistance().toMeters(), TOLERANCE);
+    assertions.assertThat(last[1]).isCloseTo(profile.getDistance3d().toMeters(), TOLERANCE);
+    assertions.assertAll();
+  }
+
+  @Test
+  void isEmptyWithoutLines() throws IOException {
+    ProfileBuilder builder = profileBuilder(store, Length.m(10D));
+    builder.coordinate(SOUTH);
+    ElevationProfile profile = builder.profile();
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(profile.getSampleCount()).isZero();
+    assertions.assertThat(profile.getDistance()).isEqualTo(Length.m(0D));
+    assertions.assertThat(profile.getMinElevation()).isNull();
+    assertions.assertThat(profile.getMeanGrade()).isNaN();
+    assertions.assertThat(profile.getGradeDeviation()).isNaN();
+    assertions.assertAll();
+  }
+
+  @Test
+  void rejectsInvalidSpacing() {
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThatThrownBy(() -> profileBuilder(store, Length.m(0D)))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertThatThrownBy(() -> profileBuilder(store, Length.m(Double.NaN)))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertAll();
+  }
+
+  private static void line(final ProfileBuilder builder, final GeoCoordinate... vertices)
+    throws IOException {
+    builder.startLine();
+    for (GeoCoordinate vertex : vertices) {
+      builder.coordinate(vertex);
+    }
+    builder.endLine();
+  }
+}
@@ -0,0 +1,94 @@
+package com.github.mmichaelis.phodeli.elevation;
+
+import static com.github.mmichaelis.phodeli.elevation.Heightmap.heightmap;
+import static com.github.mmichaelis.phodeli.elevation.LineOfSight.lineOfSight;
+
+import com.github.mmichaelis.phodeli.measure.Length;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link Viewshed}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class ViewshedTest {
+
+  /**
+   * Size not aligned to the 64 bits per word, so that rows cross word boundaries.
+   */
+  private static final int COLUMNS = 13;
+  private static final int ROWS = 11;
+  private static final int RIDGE_COLUMN = 4;
+  private static final Length EYE = Length.m(1.7D);
+
+  @Test
+  void providesVisibilityOfCells() {
+    // Cells 0, 2 and 69 of 10 x 7 cells are visible.
+    Viewshed viewshed = new Viewshed(10, 7, 2, 0, new long[]{0b101L, 1L << 5});
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(viewshed.isVisible(0, 0)).isTrue();
+    assertions.assertThat(viewshed.isVisible(1, 0)).isFalse();
+    assertions.assertThat(viewshed.isVisible(2, 0)).isTrue();
+    assertions.assertThat(viewshed.isVisible(9, 6)).isTrue();
+    assertions.assertThat(viewshed.isVisible(10, 6)).isFalse();
+    assertions.assertThat(viewshed.isVisible(-1, 0)).isFalse();
+    assertions.assertThat(viewshed.getVisibleCount()).isEqualTo(3L);
+    assertions.assertThat(viewshed.getObserverColumn()).isEqualTo(2);
+    assertions.assertThat(viewshed.getObserverRow()).isZero();
+    assertions.assertThat(viewshed.getColumns()).isEqualTo(10);
+    assertions.assertThat(viewshed.getRows()).isEqualTo(7);
+    assertions.assertAll();
+  }
+
+  @Test
+  void seesAllCellsFromCornersAndBorders() {
+    LineOfSight lineOfSight = lineOfSight(heightmap(new float[COLUMNS * ROWS], COLUMNS, ROWS,
+                                                    Length.m(1D)), EYE, Length.m(0D), 0D);
+    int[][] observers = {{0, 0}, {COLUMNS - 1, 0}, {0, ROWS - 1}, {COLUMNS - 1, ROWS - 1},
+                         {COLUMNS / 2, 0}, {0, ROWS / 2}, {COLUMNS - 1, ROWS / 2},
+                         {COLUMNS / 2, ROWS - 1}};
+    SoftAssertions assertions = new SoftAssertions();
+    for (int[] observer : observers) {
+      Viewshed viewshed = lineOfSight.viewshed(observer[0], observer[1]);
+      assertions.assertThat(viewshed.getVisibleCount()).isEqualTo((long) COLUMNS * ROWS);
+      assertions.assertThat(viewshed.isVisible(0, 0)).isTrue();
+      assertions.assertThat(viewshed.isVisible(COLUMNS - 1, 0)).isTrue();
+      assertions.assertThat(viewshed.isVisible(0, ROWS - 1)).isTrue();
+      assertions.assertThat(viewshed.isVisible(COLUMNS - 1, ROWS - 1)).isTrue();
+      assertions.assertThat(viewshed.isVisible(COLUMNS, ROWS - 1)).isFalse();
+      assertions.assertThat(viewshed.isVisible(COLUMNS - 1, ROWS)).isFalse();
+      assertions.assertThat(viewshed.isVisible(0, -1)).isFalse();
+      assertions.assertThat(viewshed.isVisible(-1, ROWS - 1)).isFalse();
+    }
+    assertions.assertAll();
+  }
+
+  @Test
+  void countsVisibleCellsBehindRidge() {
+    float[] heights = new float[COLUMNS * ROWS];
+    for (int row = 0; row < ROWS; row++) {
+      heights[row * COLUMNS + RIDGE_COLUMN] = 50F;
+    }
+    LineOfSight lineOfSight =
+      lineOfSight(heightmap(heights, COLUMNS, ROWS, Length.m(1D)), EYE, Length.m(0D), 0D);
+    Viewshed viewshed = lineOfSight.viewshed(0, ROWS - 1);
+    long visible = 0L;
+    for (int row = 0; row < ROWS; row++) {
+      for (int column = 0; column < COLUMNS; column++) {
+        visible += viewshed.isVisible(column, row) ? 1L : 0L;
+      }
+    }
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(viewshed.getVisibleCount()).isEqualTo(visible);
+    assertions.assertThat(viewshed.isVisible(0, ROWS - 1)).isTrue();
+    assertions.assertThat(viewshed.isVisible(RIDGE_COLUMN - 1, 0)).isTrue();
+    assertions.assertThat(viewshed.isVisible(RIDGE_COLUMN, 0)).isTrue();
+    assertions.assertThat(viewshed.isVisible(RIDGE_COLUMN + 1, ROWS - 1)).isFalse();
+    assertions.assertThat(viewshed.isVisible(COLUMNS - 1, 0)).isFalse();
+    assertions.assertThat(visible).isEqualTo((long) (RIDGE_COLUMN + 1) * ROWS);
+    assertions.assertAll();
+  }
+}
@@ -0,0 +1,118 @@
+package com.github.mmichaelis.phodeli.geo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+/**
+ * Tests {@link CoordinateNormalizer}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class CoordinateNormalizerTest {
+
+  private static final Offset<Double> TOLERANCE = Offset.offset(1E-9D);
+  /**
+   * Using fixed seed to provide reproducible test runs.
+   */
+  private static final long RANDOM_SEED = 0L;
+
+  @TestFactory
+  Stream<DynamicTest> normalizesAtEdges() {
+    return Stream.of(
+      // latitude, longitude, expected latitude, expected longitude
+      new double[]{0D, 0D, 0D, 0D},
+      new double[]{90D, 10D, 90D, 10D},
+      new double[]{-90D, 10D, -90D, 10D},
+      new double[]{91D, 10D, 89D, -170D},
+      new double[]{-91D, 10D, -89D, -170D},
+      new double[]{180D, 10D, 0D, -170D},
+      new double[]{270D, 10D, -90D, 10D},
+      new double[]{360D, 10D, 0D, 10D},
+      new double[]{450D, 10D, 90D, 10D},
+      new double[]{-450D, 10D, -90D, 10D},
+      new double[]{95D, 175D, 85D, -5D},
+      new double[]{10D, 180D, 10D, -180D},
+      new double[]{10D, -180D, 10D, -180D},
+      new double[]{10D, 180.5D, 10D, -179.5D},
+      new double[]{10D, -180.5D, 10D, 179.5D},
+      new double[]{10D, 540D, 10D, -180D},
+      new double[]{10D, -190D, 10D, 170D},
+      new double[]{10D, 720D, 10D, 0D}
+    ).map(sample -> DynamicTest.dynamicTest(
+      "(" + sample[0] + ", " + sample[1] + ") -> (" + sample[2] + ", " + sample[3] + ')',
+      () -> {
+        double[] latitudes = {sample[0]};
+        double[] longitudes = {sample[1]};
+        CoordinateNormalizer.normalize(latitudes, longitudes, 1);
+        GeoCoordinate normalized =
+          CoordinateNormalizer.normalize(GeoCoordinate.degrees(sample[0], sample[1]));
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(latitudes[0]).isCloseTo(sample[2], TOLERANCE);
+        assertions.assertThat(longitudes[0]).isCloseTo(sample[3], TOLERANCE);
+        assertions.assertThat(normalized.getLatitude().toDegrees())
+          .isCloseTo(sample[2], TOLERANCE);
+        assertions.assertThat(normalized.getLongitude().toDegrees())
+          .isCloseTo(sample[3], TOLERANCE);
+        assertions.assertAll();
+      }));
+  }
+
+  @Test
+  void clampsLatitudesAndWrapsLongitudes() {
+    double[] latitudes = {91D, -90.5D, 90D, -90D, 45D};
+    double[] longitudes = {180D, -180D, 190D, -181D, 10D};
+    CoordinateNormalizer.clamp(latitudes, longitudes, latitudes.length);
+    assertThat(latitudes).containsExactly(new double[]{90D, -90D, 90D, -90D, 45D}, TOLERANCE);
+    assertThat(longitudes)
+      .containsExactly(new double[]{-180D, -180D, -170D, 179D, 10D}, TOLERANCE);
+  }
+
+  @Test
+  void respectsCount() {
+    double[] longitudes = {190D, 190D};
+    CoordinateNormalizer.wrapLongitudes(longitudes, 1);
+    assertThat(longitudes).containsExactly(new double[]{-170D, 190D}, TOLERANCE);
+  }
+
+  @Test
+  void normalizedCoordinatesKeepTheirLocation() {
+    Random random = new Random(RANDOM_SEED);
+    int count = 1_000;
+    double[] latitudes = new double[count];
+    double[] longitudes = new double[count];
+    for (int i = 0; i < count; i++) {
+      latitudes[i] = random.nextDouble() * 2_000D - 1_000D;
+      longitudes[i] = random.nextDouble() * 2_000D - 1_000D;
+    }
+    double[] normalizedLatitudes = latitudes.clone();
+    double[] normalizedLongitudes = longitudes.clone();
+    CoordinateNormalizer.normalize(normalizedLatitudes, normalizedLongitudes, count);
+    SoftAssertions assertions = new SoftAssertions();
+    for (int i = 0; i < count; i++) {
+      assertions.assertThat(normalizedLatitudes[i]).isBetween(-90D, 90D);
+      assertions.assertThat(normalizedLongitudes[i]).isGreaterThanOrEqualTo(-180D).isLessThan(180D);
+      // Same point on the unit sphere.
+      double[] expected = unitVector(latitudes[i], longitudes[i]);
+      double[] actual = unitVector(normalizedLatitudes[i], normalizedLongitudes[i]);
+      assertions.assertThat(actual).containsExactly(expected, Offset.offset(1E-9D));
+    }
+    assertions.assertAll();
+  }
+
+  private static double[] unitVector(final double latitude, final double longitude) {
+    double phi = Math.toRadians(latitude);
+    double lambda = Math.toRadians(longitude);
+    return new double[]{
+      Math.cos(phi) * Math.cos(lambda), Math.cos(phi) * Math.sin(lambda), Math.sin(phi)
+    };
+  }
+}
@@ -0,0 +1,158 @@
+package com.github.mmichaelis.phodeli.geo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+/**
+ * Tests {@link CoordinateParser}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class CoordinateParserTest {
+
+  private static final Offset<Double> TOLERANCE = Offset.offset(1E-9D);
+  /**
+   * Using fixed seed to provide reproducible test runs.
+   */
+  private static final long RANDOM_SEED = 0L;
+  private static final double MUNICH_LATITUDE = 48.1371D;
+  private static final double MUNICH_LONGITUDE = 11.5754D;
+
+  @TestFactory
+  Stream<DynamicTest> parsesFreeFormNotations() {
+    return Stream.of(
+      new Sample("48.1371 N 11.5754 E", MUNICH_LATITUDE, MUNICH_LONGITUDE),
+      new Sample("48.1371N, 11.5754E", MUNICH_LATITUDE, MUNICH_LONGITUDE),
+      new Sample("48.1371, 11.5754", MUNICH_LATITUDE, MUNICH_LONGITUDE),
+      new Sample("48.1371 11.5754", MUNICH_LATITUDE, MUNICH_LONGITUDE),
+      new Sample("48,1371;11,5754", MUNICH_LATITUDE, MUNICH_LONGITUDE),
+      new Sample("48.1371,11.5754", MUNICH_LATITUDE, MUNICH_LONGITUDE),
+      new Sample("E 11.5754 N 48.1371", MUNICH_LATITUDE, MUNICH_LONGITUDE),
+      new Sample("N 48° 8.226' E 11° 34.524'", 48.1371D, 11.5754D),
+      new Sample("N 48° 8.226', E 011° 34.524'", 48.1371D, 11.5754D),
+      new Sample("48°8'13.56\"N 11°34'31.44\"E", 48.1371D, 11.5754D),
+      new Sample("48° 8′ 13.56″ N, 11° 34′ 31.44″ E", 48.1371D, 11.5754D),
+      new Sample("48 8.226 11 34.524", 48.1371D, 11.5754D),
+      new Sample("S 33° 51.6' E 151° 12.6'", -33.86D, 151.21D),
+      new Sample("-33.86, 151.21", -33.86D, 151.21D),
+      new Sample("33.86 S 151.21 W", -33.86D, -151.21D),
+      new Sample("-33.86\t-151.21\r", -33.86D, -151.21D),
+      new Sample("90 N 180 W", 90D, -180D),
+      new Sample(".5 -.5", 0.5D, -0.5D)
+    ).map(sample -> DynamicTest.dynamicTest(sample.text, () -> {
+      GeoCoordinate coordinate = CoordinateParser.parse(sample.text);
+      SoftAssertions assertions = new SoftAssertions();
+      assertions.assertThat(coordinate.getLatitude().toDegrees())
+        .isCloseTo(sample.latitude, TOLERANCE);
+      assertions.assertThat(coordinate.getLongitude().toDegrees())
+        .isCloseTo(sample.longitude, TOLERANCE);
+      assertions.assertAll();
+    }));
+  }
+
+  @TestFactory
+  Stream<DynamicTest> rejectsMalformedCoordinates() {
+    return Stream.of(
+      "",
+      "48.1371",
+      "N 48° 8.226'",
+      "48.1371 11.5754 12.3",
+      "91 N 11 E",
+      "48 N 181 E",
+      "48 N 11 N",
+      "48 X 11 E",
+      "North 48 East 11",
+      "48° 61' N 11° 34' E",
+      "-48 S 11 E",
+      "48' 11'",
+      "48.1.2 11",
+      "48° 13\" 5, 11"
+    ).map(text -> DynamicTest.dynamicTest('"' + text + '"', () -> assertThatThrownBy(
+      () -> CoordinateParser.parse(text)).isInstanceOf(IllegalArgumentException.class)));
+  }
+
+  @Test
+  void reportsMalformedLinesByOffset() {
+    String text = "48.1371, 11.5754\n"
+                  + "\n"
+                  + "garbage\r\n"
+                  + "N 48° 8.226' E 11° 34.524'\n"
+                  + "48° 13\" 5, 11\n"
+                  + "48.1371";
+    ParsedCoordinates parsed = CoordinateParser.parseLines(text);
+    assertThat(parsed.size()).isEqualTo(2);
+    assertThat(parsed.getMalformedOffsets())
+      .containsExactly(text.indexOf("garbage"), text.indexOf("48° 13\""),
+                       text.lastIndexOf("48.1371"));
+    assertThat(parsed.getCoordinate(1).getLongitude().toDegrees())
+      .isCloseTo(MUNICH_LONGITUDE, TOLERANCE);
+  }
+
+  @Test
+  void parsesLargeFilesInParallelChunksPreservingOrder() throws IOException {
+    Random random = new Random(RANDOM_SEED);
+    int lines = 50_000;
+    double[] latitudes = new double[lines];
+    double[] longitudes = new double[lines];
+    StringBuilder content = new StringBuilder();
+    int malformed = 0;
+    for (int i = 0; i < lines; i++) {
+      latitudes[i] = Math.round((random.nextDouble() * 180D - 90D) * 1E5D) / 1E5D;
+      longitudes[i] = Math.round((random.nextDouble() * 360D - 180D) * 1E5D) / 1E5D;
+      if (i % 1000 == 999) {
+        content.append("malformed\n");
+        malformed++;
+      }
+      content.append(String.format(Locale.ROOT, "%.5f %s %.5f %s%n",
+                                   Math.abs(latitudes[i]), latitudes[i] < 0D ? "S" : "N",
+                                   Math.abs(longitudes[i]), longitudes[i] < 0D ? "W" : "E"));
+    }
+    Path file = Files.createTempFile(getClass().getSimpleName(), ".txt");
+    try {
+      Files.write(file, content.toString().getBytes(StandardCharsets.UTF_8));
+      ParsedCoordinates parsed = CoordinateParser.parseFile(file);
+      assertThat(parsed.size()).isEqualTo(lines);
+      assertThat(parsed.getMalformedCount()).isEqualTo(malformed);
+      assertThat(maxDeviation(parsed.getLatitudes(), latitudes)).isLessThan(TOLERANCE.value);
+      assertThat(maxDeviation(parsed.getLongitudes(), longitudes)).isLessThan(TOLERANCE.value);
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  private static double maxDeviation(final double[] actual, final double[] expected) {
+    return IntStream.range(0, expected.length)
+      .mapToDouble(i -> Math.abs(actual[i] - expected[i]))
+      .max()
+      .orElse(0D);
+  }
+
+  private static final class Sample {
+
+    private final String text;
+    private final double latitude;
+    private final double longitude;
+
+    private Sample(final String text, final double latitude, final double longitude) {
+      this.text = text;
+      this.latitude = latitude;
+      this.longitude = longitude;
+    }
+  }
+}
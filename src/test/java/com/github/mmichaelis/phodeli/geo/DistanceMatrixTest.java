@@ -0,0 +1,117 @@
+package com.github.mmichaelis.phodeli.geo;
+
+import static com.github.mmichaelis.phodeli.geo.GeoCoordinate.degrees;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.mmichaelis.phodeli.measure.LengthUnit;
+
+import java.util.Random;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link DistanceMatrix} and {@link DistanceRow}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class DistanceMatrixTest {
+
+  /**
+   * Using fixed seed to provide reproducible test runs.
+   */
+  private static final long RANDOM_SEED = 0L;
+  /**
+   * Spans several tiles, last one partially filled.
+   */
+  private static final int POINTS = 700;
+  private static final double[] LATITUDES = new double[POINTS];
+  private static final double[] LONGITUDES = new double[POINTS];
+
+  static {
+    Random random = new Random(RANDOM_SEED);
+    for (int i = 0; i < POINTS; i++) {
+      LATITUDES[i] = 47D + random.nextDouble() * 2D;
+      LONGITUDES[i] = 10D + random.nextDouble() * 3D;
+    }
+  }
+
+  @Test
+  void containsGreatCircleDistances() {
+    DistanceMatrix matrix = DistanceMatrix.matrix(LATITUDES, LONGITUDES);
+    assertThat(matrix.size()).isEqualTo(POINTS);
+    assertThat(matrix.getUnit()).isEqualTo(LengthUnit.METERS);
+    assertThat(matrix.isCompact()).isFalse();
+    SoftAssertions assertions = new SoftAssertions();
+    for (int row = 0; row < POINTS; row += 7) {
+      for (int column = 0; column < POINTS; column++) {
+        double expected = distance(row, column);
+        assertions.assertThat(matrix.get(row, column)).isCloseTo(expected, Offset.offset(1E-6D));
+        assertions.assertThat(matrix.get(column, row)).isEqualTo(matrix.get(row, column));
+      }
+    }
+    assertions.assertAll();
+  }
+
+  @Test
+  void storesCompactDistancesInGivenUnit() {
+    DistanceMatrix matrix = DistanceMatrix.compactMatrix(LATITUDES, LONGITUDES,
+                                                         LengthUnit.KILOMETERS);
+    assertThat(matrix.isCompact()).isTrue();
+    assertThat(matrix.getUnit()).isEqualTo(LengthUnit.KILOMETERS);
+    SoftAssertions assertions = new SoftAssertions();
+    for (int row = 0; row < POINTS; row += 11) {
+      for (int column = 0; column < POINTS; column++) {
+        double expected = distance(row, column);
+        assertions.assertThat(matrix.getDistance(row, column).toMeters())
+          .isCloseTo(expected, Offset.offset(Math.max(1E-3D, expected * 1E-6D)));
+      }
+    }
+    assertions.assertAll();
+  }
+
+  @Test
+  void providesRowViews() {
+    DistanceMatrix matrix = DistanceMatrix.compactMatrix(LATITUDES, LONGITUDES,
+                                                         LengthUnit.METERS);
+    double[] copy = new double[POINTS];
+    SoftAssertions assertions = new SoftAssertions();
+    for (int row : new int[]{0, 1, 255, 256, POINTS - 1}) {
+      DistanceRow view = matrix.row(row);
+      view.copyTo(copy);
+      assertions.assertThat(view.getRow()).isEqualTo(row);
+      assertions.assertThat(view.size()).isEqualTo(POINTS);
+      for (int column = 0; column < POINTS; column++) {
+        assertions.assertThat(view.get(column)).isEqualTo(matrix.get(row, column));
+        assertions.assertThat(copy[column]).isEqualTo(matrix.get(row, column));
+      }
+      assertions.assertThat(view.getDistance(row).toMeters()).isZero();
+    }
+    assertions.assertAll();
+  }
+
+  @Test
+  void handlesTrivialSizes() {
+    assertThat(DistanceMatrix.matrix(new double[0], new double[0]).size()).isZero();
+    assertThat(DistanceMatrix.matrix(new double[]{1D}, new double[]{2D}).get(0, 0)).isZero();
+  }
+
+  @Test
+  void rejectsInvalidArguments() {
+    assertThatThrownBy(() -> DistanceMatrix.matrix(new double[1], new double[2]))
+      .isInstanceOf(IllegalArgumentException.class);
+    DistanceMatrix matrix = DistanceMatrix.matrix(new double[2], new double[2]);
+    assertThatThrownBy(() -> matrix.get(0, 2)).isInstanceOf(IndexOutOfBoundsException.class);
+    assertThatThrownBy(() -> matrix.row(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+    assertThatThrownBy(() -> matrix.row(0).get(2))
+      .isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  private static double distance(final int first, final int second) {
+    return GreatCircle.distance(degrees(LATITUDES[first], LONGITUDES[first]),
+                                degrees(LATITUDES[second], LONGITUDES[second])).toMeters();
+  }
+}
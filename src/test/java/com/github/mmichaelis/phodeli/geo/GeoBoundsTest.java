@@ -0,0 +1,177 @@
+package com.github.mmichaelis.phodeli.geo;
+
+import static com.github.mmichaelis.phodeli.geo.GeoBounds.around;
+import static com.github.mmichaelis.phodeli.geo.GeoBounds.degrees;
+import static com.github.mmichaelis.phodeli.measure.Length.km;
+import static com.github.mmichaelis.phodeli.test.SerializableCondition.serializable;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.testing.EqualsTester;
+
+import com.github.mmichaelis.phodeli.measure.Angle;
+import com.github.mmichaelis.phodeli.measure.Length;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+/**
+ * Tests {@link GeoBounds}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class GeoBoundsTest {
+
+  private static final Offset<Double> TOLERANCE = Offset.offset(0.0001D);
+  /**
+   * Using fixed seed to provide reproducible test runs.
+   */
+  private static final long RANDOM_SEED = 0L;
+  private static final int POINTS = 10_000;
+
+  @Test
+  void providesLimitsAndSpans() {
+    GeoBounds bounds = GeoBounds.bounds(Angle.degrees(48D), Angle.degrees(11D),
+                                        Angle.degrees(49D), Angle.degrees(12.5D));
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(bounds.getSouth().toDegrees()).isCloseTo(48D, TOLERANCE);
+    assertions.assertThat(bounds.getWest().toDegrees()).isCloseTo(11D, TOLERANCE);
+    assertions.assertThat(bounds.getNorth().toDegrees()).isCloseTo(49D, TOLERANCE);
+    assertions.assertThat(bounds.getEast().toDegrees()).isCloseTo(12.5D, TOLERANCE);
+    assertions.assertThat(bounds.getLatitudeSpan().toDegrees()).isCloseTo(1D, TOLERANCE);
+    assertions.assertThat(bounds.getLongitudeSpan().toDegrees()).isCloseTo(1.5D, TOLERANCE);
+    assertions.assertThat(bounds.crossesAntimeridian()).isFalse();
+    assertions.assertAll();
+  }
+
+  @Test
+  void longitudeSpanRespectsAntimeridian() {
+    GeoBounds bounds = degrees(-10D, 170D, 10D, -170D);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(bounds.crossesAntimeridian()).isTrue();
+    assertions.assertThat(bounds.getLongitudeSpan().toDegrees()).isCloseTo(20D, TOLERANCE);
+    assertions.assertAll();
+  }
+
+  @Test
+  void rejectsInvalidLatitudes() {
+    assertThatThrownBy(() -> degrees(10D, 0D, -10D, 1D))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> degrees(-91D, 0D, 10D, 1D))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void rejectsInvalidLongitudes() {
+    assertThatThrownBy(() -> degrees(0D, -181D, 10D, 1D))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> degrees(0D, Double.NaN, 10D, 1D))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void aroundExtendsByRadius() {
+    // One degree of latitude is about 111.2 km.
+    GeoBounds bounds = around(GeoCoordinate.degrees(48D, 11D), km(111.195D));
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(bounds.getSouth().toDegrees()).isCloseTo(47D, TOLERANCE);
+    assertions.assertThat(bounds.getNorth().toDegrees()).isCloseTo(49D, TOLERANCE);
+    assertions.assertThat(bounds.getWest().toDegrees()).isCloseTo(9.5055D, TOLERANCE);
+    assertions.assertThat(bounds.getEast().toDegrees()).isCloseTo(12.4945D, TOLERANCE);
+    assertions.assertAll();
+  }
+
+  @Test
+  void aroundCrossesAntimeridian() {
+    GeoBounds bounds = around(GeoCoordinate.degrees(0D, 179.9D), km(111.195D));
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(bounds.crossesAntimeridian()).isTrue();
+    assertions.assertThat(bounds.getWest().toDegrees()).isCloseTo(178.9D, TOLERANCE);
+    assertions.assertThat(bounds.getEast().toDegrees()).isCloseTo(-179.1D, TOLERANCE);
+    assertions.assertThat(bounds.contains(0.5D, -179.5D)).isTrue();
+    assertions.assertThat(bounds.contains(0.5D, 178D)).isFalse();
+    assertions.assertAll();
+  }
+
+  @Test
+  void aroundSpansAllLongitudesIfPoleIsWithinReach() {
+    GeoBounds bounds = around(GeoCoordinate.degrees(-89.5D, 30D), km(100D));
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(bounds.getSouth().toDegrees()).isCloseTo(-90D, TOLERANCE);
+    assertions.assertThat(bounds.getLongitudeSpan().toDegrees()).isCloseTo(360D, TOLERANCE);
+    assertions.assertAll();
+    assertThat(around(GeoCoordinate.degrees(0D, 0D), km(30_000D))).isEqualTo(GeoBounds.WORLD);
+  }
+
+  @Test
+  void aroundRejectsNegativeRadius() {
+    assertThatThrownBy(() -> around(GeoCoordinate.degrees(0D, 0D), km(-1D)))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @TestFactory
+  Stream<DynamicTest> aroundContainsAllLocationsWithinRadius() {
+    GeoCoordinate[] centers = {
+      GeoCoordinate.degrees(48.1371D, 11.5754D),
+      GeoCoordinate.degrees(88D, 0D),
+      GeoCoordinate.degrees(-60D, -179.5D),
+      GeoCoordinate.degrees(70D, 179.99D),
+    };
+    Random random = new Random(RANDOM_SEED);
+    double[] latitudes = new double[POINTS];
+    double[] longitudes = new double[POINTS];
+    return Stream.of(centers).map(center -> DynamicTest.dynamicTest(center.toString(), () -> {
+      Length radius = km(300D);
+      for (int i = 0; i < POINTS; i++) {
+        // Points up to about twice the radius away.
+        latitudes[i] = Math.max(-90D, Math.min(90D, center.getLatitude().toDegrees()
+                                                    + random.nextDouble() * 12D - 6D));
+        double longitude = center.getLongitude().toDegrees() + random.nextDouble() * 60D - 30D;
+        longitudes[i] = longitude > 180D ? longitude - 360D
+                                         : longitude < -180D ? longitude + 360D : longitude;
+      }
+      GeoBounds bounds = around(center, radius);
+      boolean[] contained = new boolean[POINTS];
+      bounds.contains(latitudes, longitudes, contained, POINTS);
+      int[] indices = new int[POINTS];
+      int found = bounds.filter(latitudes, longitudes, indices, POINTS);
+      int expectedFound = 0;
+      for (int i = 0; i < POINTS; i++) {
+        boolean inRadius = GreatCircle.distance(
+          center, GeoCoordinate.degrees(latitudes[i], longitudes[i])).toMeters()
+                           <= radius.toMeters();
+        boolean inBounds = bounds.contains(latitudes[i], longitudes[i]);
+        assertThat(contained[i]).isEqualTo(inBounds);
+        if (inRadius) {
+          assertThat(inBounds).as("contains %s, %s", latitudes[i], longitudes[i]).isTrue();
+        }
+        if (inBounds) {
+          assertThat(indices[expectedFound]).isEqualTo(i);
+          expectedFound++;
+        }
+      }
+      assertThat(found).isEqualTo(expectedFound);
+    }));
+  }
+
+  @Test
+  void boundsAreSerializable() {
+    assertThat(degrees(1D, 2D, 3D, 4D)).is(serializable());
+  }
+
+  @Test
+  void fulfillsEqualsHashCodeContract() {
+    new EqualsTester()
+      .addEqualityGroup(degrees(1D, 2D, 3D, 4D), degrees(1D, 2D, 3D, 4D))
+      .addEqualityGroup(degrees(1D, 4D, 3D, 2D))
+      .addEqualityGroup(GeoBounds.WORLD, degrees(-90D, -180D, 90D, 180D))
+      .testEquals();
+  }
+}
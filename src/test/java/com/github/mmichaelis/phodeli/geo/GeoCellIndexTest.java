@@ -0,0 +1,131 @@
+package com.github.mmichaelis.phodeli.geo;
+
+import static com.github.mmichaelis.phodeli.geo.GeoCoordinate.degrees;
+import static com.github.mmichaelis.phodeli.geo.GreatCircle.distance;
+import static com.github.mmichaelis.phodeli.measure.Length.km;
+import static com.github.mmichaelis.phodeli.measure.Length.m;
+import static java.util.Arrays.stream;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.mmichaelis.phodeli.measure.Length;
+
+import java.util.Iterator;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+/**
+ * Tests {@link GeoCellIndex}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class GeoCellIndexTest {
+
+  /**
+   * Using fixed seed to provide reproducible test runs.
+   */
+  private static final long RANDOM_SEED = 0L;
+  private static final int POINTS = 20_000;
+  /**
+   * Number of locations whose ids need 23 bits, which leaves exactly the bits for cells of the
+   * finest level without touching the sign bit of the packed keys.
+   */
+  private static final int MANY_POINTS = 1 << 23;
+
+  @TestFactory
+  Stream<DynamicTest> findsSameLocationsAsLinearScan() {
+    Random random = new Random(RANDOM_SEED);
+    double[] latitudes = new double[POINTS];
+    double[] longitudes = new double[POINTS];
+    for (int i = 0; i < POINTS; i++) {
+      // Cluster half of the points around the poles and the antimeridian.
+      boolean clustered = i % 2 == 0;
+      latitudes[i] = clustered ? 85D + random.nextDouble() * 5D : random.nextDouble() * 180D - 90D;
+      longitudes[i] = clustered && i % 4 == 0
+                      ? 179D + random.nextDouble() * 2D - 360D * random.nextInt(2)
+                      : random.nextDouble() * 360D - 180D;
+      longitudes[i] = Math.max(-180D, Math.min(180D, longitudes[i]));
+    }
+    GeoCellIndex index = GeoCellIndex.index(latitudes, longitudes, km(50D));
+    GeoCoordinate[] centers = {
+      degrees(48.1371D, 11.5754D),
+      degrees(89.5D, 0D),
+      degrees(-89.9D, 100D),
+      degrees(87D, 179.9D),
+      degrees(0D, -179.99D),
+    };
+    Length[] radii = {m(0D), km(10D), km(100D), km(700D), km(25_000D)};
+    Iterator<Query> inputGenerator = stream(centers)
+      .flatMap(center -> stream(radii).map(radius -> new Query(center, radius)))
+      .iterator();
+    return DynamicTest.stream(inputGenerator, Query::toString, query -> {
+      int[] expected = IntStream.range(0, POINTS)
+        .filter(i -> distance(query.center, degrees(latitudes[i], longitudes[i])).toMeters()
+                     <= query.radius.toMeters())
+        .toArray();
+      assertThat(index.within(query.center, query.radius)).containsOnly(expected)
+        .hasSameSizeAs(expected);
+    });
+  }
+
+  @Test
+  void handlesEmptyIndex() {
+    GeoCellIndex index = GeoCellIndex.index(new double[0], new double[0], km(1D));
+    assertThat(index.within(degrees(0D, 0D), km(100D))).isEmpty();
+  }
+
+  @Test
+  void rejectsArraysOfDifferentLength() {
+    assertThatThrownBy(() -> GeoCellIndex.index(new double[1], new double[2], km(1D)))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void keepsCellOrderForManyLocationsAtFinestLevel() {
+    Random random = new Random(RANDOM_SEED);
+    double[] latitudes = new double[MANY_POINTS];
+    double[] longitudes = new double[MANY_POINTS];
+    for (int i = 0; i < MANY_POINTS; i++) {
+      latitudes[i] = random.nextDouble() * 180D - 90D;
+      longitudes[i] = random.nextDouble() * 360D - 180D;
+    }
+    GeoCellIndex index = GeoCellIndex.index(latitudes, longitudes, m(1D));
+    double radius = 50D / GreatCircle.EARTH_RADIUS_METERS;
+    for (int query : new int[]{0, 1, MANY_POINTS / 2, MANY_POINTS - 1}) {
+      double latitude = Math.toRadians(latitudes[query]);
+      double longitude = Math.toRadians(longitudes[query]);
+      int[] expected = IntStream.range(0, MANY_POINTS).parallel()
+        .filter(i -> GreatCircle.centralAngle(latitude, longitude, Math.toRadians(latitudes[i]),
+                                              Math.toRadians(longitudes[i])) <= radius)
+        .toArray();
+      assertThat(index.within(degrees(latitudes[query], longitudes[query]), m(50D)))
+        .as("within 50 m of location %s", query)
+        .contains(query)
+        .containsOnly(expected)
+        .hasSameSizeAs(expected);
+    }
+  }
+
+  private static final class Query {
+
+    private final GeoCoordinate center;
+    private final Length radius;
+
+    private Query(final GeoCoordinate center, final Length radius) {
+      this.center = center;
+      this.radius = radius;
+    }
+
+    @Override
+    public String toString() {
+      return "within " + radius.toMeters() + " m of " + center.getLatitude().toDegrees() + ", "
+             + center.getLongitude().toDegrees();
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package com.github.mmichaelis.phodeli.geo;
+
+import static com.github.mmichaelis.phodeli.geo.GeoCoordinate.coordinate;
+import static com.github.mmichaelis.phodeli.geo.GeoCoordinate.degrees;
+import static com.github.mmichaelis.phodeli.test.SerializableCondition.serializable;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.testing.EqualsTester;
+
+import com.github.mmichaelis.phodeli.measure.Angle;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link GeoCoordinate}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class GeoCoordinateTest {
+
+  @Test
+  void providesLatitudeAndLongitude() {
+    GeoCoordinate coordinate = degrees(48.1371D, 11.5754D);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(coordinate.getLatitude()).isEqualTo(Angle.degrees(48.1371D));
+    assertions.assertThat(coordinate.getLongitude()).isEqualTo(Angle.degrees(11.5754D));
+    assertions.assertAll();
+  }
+
+  @Test
+  void coordinateIsSerializable() {
+    assertThat(degrees(48.1371D, 11.5754D)).is(serializable());
+  }
+
+  @Test
+  void fulfillsEqualsHashCodeContract() {
+    new EqualsTester()
+      .addEqualityGroup(degrees(1D, 2D), coordinate(Angle.degrees(1D), Angle.degrees(2D)))
+      .addEqualityGroup(degrees(2D, 1D), degrees(2D, 1D))
+      .addEqualityGroup(coordinate(Angle.radians(1D), Angle.radians(2D)))
+      .testEquals();
+  }
+}
@@ -0,0 +1,130 @@
+package com.github.mmichaelis.phodeli.geo;
+
+import static com.github.mmichaelis.phodeli.geo.Geohash.decode;
+import static com.github.mmichaelis.phodeli.geo.Geohash.decodeLatitude;
+import static com.github.mmichaelis.phodeli.geo.Geohash.decodeLongitude;
+import static com.github.mmichaelis.phodeli.geo.Geohash.encode;
+import static com.github.mmichaelis.phodeli.geo.Geohash.encodeMorton;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Random;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link Geohash}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class GeohashTest {
+
+  /**
+   * Using fixed seed to provide reproducible test runs.
+   */
+  private static final long RANDOM_SEED = 0L;
+  private static final int TEST_RUNS = 1000;
+  /**
+   * Cells of a Morton code are less than 1E-7° in size.
+   */
+  private static final Offset<Double> MORTON_TOLERANCE = Offset.offset(1.0E-7D);
+  private static final Offset<Double> TOLERANCE = Offset.offset(0.001D);
+
+  @Test
+  void encodesKnownGeohash() {
+    assertThat(encode(57.64911D, 10.40744D, 11)).isEqualTo("u4pruydqqvj");
+  }
+
+  @Test
+  void encodesKnownGeohashFromCoordinate() {
+    assertThat(encode(GeoCoordinate.degrees(42.605D, -5.603D), 5)).isEqualTo("ezs42");
+  }
+
+  @Test
+  void decodesKnownGeohash() {
+    GeoBounds bounds = decode("EZS42");
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(bounds.getSouth().toDegrees()).isCloseTo(42.583D, TOLERANCE);
+    assertions.assertThat(bounds.getNorth().toDegrees()).isCloseTo(42.627D, TOLERANCE);
+    assertions.assertThat(bounds.getWest().toDegrees()).isCloseTo(-5.625D, TOLERANCE);
+    assertions.assertThat(bounds.getEast().toDegrees()).isCloseTo(-5.581D, TOLERANCE);
+    assertions.assertAll();
+  }
+
+  @Test
+  void rejectsInvalidGeohash() {
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThatThrownBy(() -> decode("")).isInstanceOf(IllegalArgumentException.class);
+    assertions.assertThatThrownBy(() -> decode("ezs4a"))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertThatThrownBy(() -> decode("ezs42ezs42ezs"))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertAll();
+  }
+
+  @Test
+  void rejectsInvalidPrecision() {
+    assertThatThrownBy(() -> encode(0D, 0D, 0)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void mortonCodeRoundTrips() {
+    Random random = new Random(RANDOM_SEED);
+    SoftAssertions assertions = new SoftAssertions();
+    for (int i = 0; i < TEST_RUNS; i++) {
+      double latitude = random.nextDouble() * 180D - 90D;
+      double longitude = random.nextDouble() * 360D - 180D;
+      long morton = encodeMorton(latitude, longitude);
+      assertions.assertThat(decodeLatitude(morton)).isCloseTo(latitude, MORTON_TOLERANCE);
+      assertions.assertThat(decodeLongitude(morton)).isCloseTo(longitude, MORTON_TOLERANCE);
+    }
+    assertions.assertAll();
+  }
+
+  @Test
+  void geohashIsPrefixOfMortonCode() {
+    Random random = new Random(RANDOM_SEED);
+    SoftAssertions assertions = new SoftAssertions();
+    for (int i = 0; i < TEST_RUNS; i++) {
+      double latitude = random.nextDouble() * 180D - 90D;
+      double longitude = random.nextDouble() * 360D - 180D;
+      GeoBounds bounds = decode(encode(latitude, longitude, 7));
+      assertions.assertThat(latitude)
+        .isBetween(bounds.getSouth().toDegrees(), bounds.getNorth().toDegrees());
+      assertions.assertThat(longitude)
+        .isBetween(bounds.getWest().toDegrees(), bounds.getEast().toDegrees());
+    }
+    assertions.assertAll();
+  }
+
+  @Test
+  void bulkCodingMatchesScalarCoding() {
+    Random random = new Random(RANDOM_SEED);
+    double[] latitudes = random.doubles(TEST_RUNS, -90D, 90D).toArray();
+    double[] longitudes = random.doubles(TEST_RUNS, -180D, 180D).toArray();
+    long[] mortons = new long[TEST_RUNS];
+    double[] decodedLatitudes = new double[TEST_RUNS];
+    double[] decodedLongitudes = new double[TEST_RUNS];
+    Geohash.encodeMorton(latitudes, longitudes, mortons, TEST_RUNS);
+    Geohash.decodeMorton(mortons, decodedLatitudes, decodedLongitudes, TEST_RUNS);
+    SoftAssertions assertions = new SoftAssertions();
+    for (int i = 0; i < TEST_RUNS; i++) {
+      assertions.assertThat(mortons[i]).isEqualTo(encodeMorton(latitudes[i], longitudes[i]));
+      assertions.assertThat(decodedLatitudes[i]).isEqualTo(decodeLatitude(mortons[i]));
+      assertions.assertThat(decodedLongitudes[i]).isEqualTo(decodeLongitude(mortons[i]));
+    }
+    assertions.assertAll();
+  }
+
+  @Test
+  void clampsOutOfRangeCoordinates() {
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(decodeLatitude(encodeMorton(95D, 0D))).isCloseTo(90D, MORTON_TOLERANCE);
+    assertions.assertThat(decodeLongitude(encodeMorton(0D, 180D)))
+      .isCloseTo(180D, MORTON_TOLERANCE);
+    assertions.assertAll();
+  }
+}
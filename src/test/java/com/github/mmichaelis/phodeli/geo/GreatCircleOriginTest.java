@@ -0,0 +1,142 @@
+package com.github.mmichaelis.phodeli.geo;
+
+import static com.github.mmichaelis.phodeli.geo.GeoCoordinate.degrees;
+import static com.github.mmichaelis.phodeli.geo.GreatCircleOrigin.origin;
+import static com.github.mmichaelis.phodeli.measure.Length.km;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.mmichaelis.phodeli.measure.Angle;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+/**
+ * Tests {@link GreatCircleOrigin}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class GreatCircleOriginTest {
+
+  private static final Offset<Double> TOLERANCE = Offset.offset(1E-6D);
+  /**
+   * Using fixed seed to provide reproducible test runs.
+   */
+  private static final long RANDOM_SEED = 0L;
+  private static final int COUNT = 1_000;
+
+  @TestFactory
+  Stream<DynamicTest> destinationAtBearingAndDistanceReachesTarget() {
+    return Stream.of(
+      degrees(48.1371D, 11.5754D),
+      degrees(-33.86D, 151.21D),
+      degrees(0D, 179.9D),
+      degrees(89D, -45D)
+    ).map(center -> DynamicTest.dynamicTest(center.toString(), () -> {
+      Random random = new Random(RANDOM_SEED);
+      double[] latitudes = new double[COUNT];
+      double[] longitudes = new double[COUNT];
+      double[] distances = new double[COUNT];
+      for (int i = 0; i < COUNT; i++) {
+        latitudes[i] = random.nextDouble() * 160D - 80D;
+        longitudes[i] = random.nextDouble() * 360D - 180D;
+        distances[i] = GreatCircle.distance(center, degrees(latitudes[i], longitudes[i]))
+          .toMeters();
+      }
+      GreatCircleOrigin origin = origin(center);
+      double[] bearings = new double[COUNT];
+      origin.initialBearings(latitudes, longitudes, bearings, COUNT);
+      double[] destinationLatitudes = new double[COUNT];
+      double[] destinationLongitudes = new double[COUNT];
+      origin.destinations(bearings, distances, destinationLatitudes, destinationLongitudes,
+                          COUNT);
+      SoftAssertions assertions = new SoftAssertions();
+      for (int i = 0; i < COUNT; i++) {
+        assertions.assertThat(bearings[i]).isGreaterThanOrEqualTo(0D).isLessThan(360D);
+        assertions.assertThat(GreatCircle.distance(
+          degrees(latitudes[i], longitudes[i]),
+          degrees(destinationLatitudes[i], destinationLongitudes[i])).toMeters())
+          .isLessThan(0.01D);
+      }
+      assertions.assertAll();
+    }));
+  }
+
+  @TestFactory
+  Stream<DynamicTest> finalBearingsMatchReversedInitialBearingsOfReturn() {
+    return Stream.of(
+      degrees(48.1371D, 11.5754D),
+      degrees(-33.86D, 151.21D),
+      degrees(0D, 179.9D),
+      degrees(89D, -45D)
+    ).map(center -> DynamicTest.dynamicTest(center.toString(), () -> {
+      Random random = new Random(RANDOM_SEED);
+      double[] latitudes = new double[COUNT];
+      double[] longitudes = new double[COUNT];
+      for (int i = 0; i < COUNT; i++) {
+        latitudes[i] = random.nextDouble() * 160D - 80D;
+        longitudes[i] = random.nextDouble() * 360D - 180D;
+      }
+      GreatCircleOrigin origin = origin(center);
+      double[] bearings = new double[COUNT];
+      origin.finalBearings(latitudes, longitudes, bearings, COUNT);
+      SoftAssertions assertions = new SoftAssertions();
+      for (int i = 0; i < COUNT; i++) {
+        GeoCoordinate to = degrees(latitudes[i], longitudes[i]);
+        double reverse = origin(to).initialBearing(center).toDegrees();
+        assertions.assertThat(bearings[i]).isGreaterThanOrEqualTo(0D).isLessThan(360D);
+        assertions.assertThat(bearings[i])
+          .isCloseTo(origin.finalBearing(to).toDegrees(), TOLERANCE);
+        assertions.assertThat((bearings[i] - reverse + 360D) % 360D)
+          .isCloseTo(180D, TOLERANCE);
+      }
+      assertions.assertAll();
+    }));
+  }
+
+  @Test
+  void fansOutAtSameDistance() {
+    GreatCircleOrigin origin = origin(48.1371D, 11.5754D);
+    double[] bearings = new double[COUNT];
+    for (int i = 0; i < COUNT; i++) {
+      bearings[i] = 360D * i / COUNT;
+    }
+    double[] latitudes = new double[COUNT];
+    double[] longitudes = new double[COUNT];
+    origin.destinations(bearings, km(25D), latitudes, longitudes, COUNT);
+    SoftAssertions assertions = new SoftAssertions();
+    for (int i = 0; i < COUNT; i++) {
+      GeoCoordinate destination = degrees(latitudes[i], longitudes[i]);
+      GeoCoordinate expected = origin.destination(Angle.degrees(bearings[i]), km(25D));
+      assertions.assertThat(GreatCircle.distance(origin.getCoordinate(), destination)
+                              .toKilometers()).isCloseTo(25D, TOLERANCE);
+      assertions.assertThat(origin.initialBearing(destination).toDegrees())
+        .isCloseTo(bearings[i], Offset.offset(1E-6D));
+      assertions.assertThat(destination.getLatitude().toDegrees())
+        .isCloseTo(expected.getLatitude().toDegrees(), TOLERANCE);
+      assertions.assertThat(destination.getLongitude().toDegrees())
+        .isCloseTo(expected.getLongitude().toDegrees(), TOLERANCE);
+    }
+    assertions.assertAll();
+  }
+
+  @Test
+  void wrapsDestinationAtAntimeridian() {
+    GeoCoordinate destination = origin(0D, 179.5D).destination(Angle.degrees(90D), km(111.2D));
+    assertThat(destination.getLongitude().toDegrees()).isCloseTo(-179.5D, Offset.offset(0.01D));
+  }
+
+  @Test
+  void finalBearingIsReversedInitialBearingOfReturn() {
+    GeoCoordinate munich = degrees(48.1371D, 11.5754D);
+    GeoCoordinate berlin = degrees(52.52D, 13.405D);
+    assertThat(origin(munich).finalBearing(berlin).toDegrees())
+      .isCloseTo((origin(berlin).initialBearing(munich).toDegrees() + 180D) % 360D, TOLERANCE);
+  }
+}
@@ -0,0 +1,69 @@
+package com.github.mmichaelis.phodeli.geo;
+
+import static com.github.mmichaelis.phodeli.geo.GeoCoordinate.degrees;
+import static com.github.mmichaelis.phodeli.geo.GreatCircle.EARTH_RADIUS_METERS;
+import static com.github.mmichaelis.phodeli.geo.GreatCircle.centralAngle;
+import static com.github.mmichaelis.phodeli.geo.GreatCircle.destination;
+import static com.github.mmichaelis.phodeli.geo.GreatCircle.distance;
+import static com.github.mmichaelis.phodeli.geo.GreatCircle.finalBearing;
+import static com.github.mmichaelis.phodeli.geo.GreatCircle.initialBearing;
+import static java.lang.Math.PI;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.mmichaelis.phodeli.measure.Angle;
+import com.github.mmichaelis.phodeli.measure.Length;
+
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link GreatCircle}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class GreatCircleTest {
+
+  private static final Offset<Double> TOLERANCE = Offset.offset(0.01D);
+
+  @Test
+  void calculatesDistanceBetweenCities() {
+    GeoCoordinate munich = degrees(48.1371D, 11.5754D);
+    GeoCoordinate berlin = degrees(52.52D, 13.405D);
+    assertThat(distance(munich, berlin).toKilometers()).isCloseTo(504.32D, TOLERANCE);
+  }
+
+  @Test
+  void calculatesQuarterMeridian() {
+    assertThat(distance(degrees(0D, 42D), degrees(90D, 0D)).toMeters())
+      .isCloseTo(PI / 2D * EARTH_RADIUS_METERS, TOLERANCE);
+  }
+
+  @Test
+  void calculatesDistanceAcrossAntimeridian() {
+    assertThat(centralAngle(degrees(0D, 179.5D), degrees(0D, -179.5D)).toDegrees())
+      .isCloseTo(1D, Offset.offset(1.0E-9D));
+  }
+
+  @Test
+  void calculatesBearings() {
+    GeoCoordinate baghdad = degrees(35D, 45D);
+    GeoCoordinate osaka = degrees(35D, 135D);
+    assertThat(initialBearing(baghdad, osaka).toDegrees()).isCloseTo(60.1624D, TOLERANCE);
+    assertThat(finalBearing(baghdad, osaka).toDegrees()).isCloseTo(119.8376D, TOLERANCE);
+  }
+
+  @Test
+  void calculatesDestination() {
+    GeoCoordinate destination = destination(degrees(0D, 0D), Angle.degrees(90D),
+                                            Length.m(PI / 2D * EARTH_RADIUS_METERS));
+    assertThat(destination.getLatitude().toDegrees()).isCloseTo(0D, TOLERANCE);
+    assertThat(destination.getLongitude().toDegrees()).isCloseTo(90D, TOLERANCE);
+  }
+
+  @Test
+  void calculatesAntipodalDistance() {
+    assertThat(centralAngle(degrees(10D, 20D), degrees(-10D, -160D)).toRadians())
+      .isCloseTo(PI, Offset.offset(1.0E-6D));
+  }
+}
@@ -0,0 +1,109 @@
+package com.github.mmichaelis.phodeli.geo;
+
+import static com.github.mmichaelis.phodeli.geo.GreatCircle.EARTH_RADIUS_METERS;
+import static com.github.mmichaelis.phodeli.geo.PolygonMetrics.ellipsoidalArea;
+import static com.github.mmichaelis.phodeli.geo.PolygonMetrics.perimeter;
+import static com.github.mmichaelis.phodeli.geo.PolygonMetrics.sphericalArea;
+import com.github.mmichaelis.phodeli.measure.Length;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.data.Offset;
+import org.assertj.core.data.Percentage;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link PolygonMetrics}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class PolygonMetricsTest {
+
+  /**
+   * Surface area of the WGS 84 ellipsoid in square meters.
+   */
+  private static final double WGS84_SURFACE = 5.10065621724e14D;
+  private static final int VERTICES = 100_000;
+
+  @Test
+  void measuresOctant() {
+    double[] latitudes = {0D, 0D, 90D};
+    double[] longitudes = {0D, 90D, 0D};
+    double sphere = 4D * Math.PI * EARTH_RADIUS_METERS * EARTH_RADIUS_METERS;
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(sphericalArea(latitudes, longitudes, 3).toSquareMeters())
+      .isCloseTo(sphere / 8D, Percentage.withPercentage(1.0E-9D));
+    assertions.assertThat(ellipsoidalArea(latitudes, longitudes, 3).toSquareMeters())
+      .isCloseTo(WGS84_SURFACE / 8D, Percentage.withPercentage(1.0E-9D));
+    assertions.assertThat(perimeter(latitudes, longitudes, 3).toMeters())
+      .isCloseTo(1.5D * Math.PI * EARTH_RADIUS_METERS, Offset.offset(1.0E-6D));
+    assertions.assertAll();
+  }
+
+  @Test
+  void ignoresOrientationAndClosingVertex() {
+    double[] latitudes = {48D, 48D, 48.01D, 48.01D, 48D};
+    double[] longitudes = {11D, 11.01D, 11.01D, 11D, 11D};
+    double[] reversedLatitudes = {48.01D, 48.01D, 48D, 48D};
+    double[] reversedLongitudes = {11D, 11.01D, 11.01D, 11D};
+    double area = sphericalArea(latitudes, longitudes, 5).toHectares();
+    SoftAssertions assertions = new SoftAssertions();
+    // About 1.11 km times 0.74 km.
+    assertions.assertThat(area).isCloseTo(82.8D, Offset.offset(0.5D));
+    assertions.assertThat(sphericalArea(latitudes, longitudes, 4).toHectares())
+      .isCloseTo(area, Offset.offset(1.0E-6D));
+    assertions.assertThat(sphericalArea(reversedLatitudes, reversedLongitudes, 4).toHectares())
+      .isCloseTo(area, Offset.offset(1.0E-6D));
+    assertions.assertThat(ellipsoidalArea(latitudes, longitudes, 4).toHectares())
+      .isCloseTo(area, Percentage.withPercentage(1D));
+    assertions.assertAll();
+  }
+
+  @Test
+  void supportsAntimeridian() {
+    double[] latitudes = {-1D, -1D, 1D, 1D};
+    double[] longitudes = {179D, -179D, -179D, 179D};
+    double[] shiftedLongitudes = {-1D, 1D, 1D, -1D};
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(sphericalArea(latitudes, longitudes, 4).toSquareKilometers())
+      .isCloseTo(sphericalArea(latitudes, shiftedLongitudes, 4).toSquareKilometers(),
+                 Offset.offset(1.0E-3D));
+    assertions.assertThat(perimeter(latitudes, longitudes, 4).toKilometers())
+      .isCloseTo(perimeter(latitudes, shiftedLongitudes, 4).toKilometers(),
+                 Offset.offset(1.0E-6D));
+    assertions.assertAll();
+  }
+
+  @Test
+  void approachesCircleForManyVertices() {
+    double[] latitudes = new double[VERTICES];
+    double[] longitudes = new double[VERTICES];
+    GreatCircleOrigin origin = GreatCircleOrigin.origin(48D, 11D);
+    double[] bearings = new double[VERTICES];
+    for (int i = 0; i < VERTICES; i++) {
+      bearings[i] = 360D * i / VERTICES;
+    }
+    double radius = 1_000D;
+    origin.destinations(bearings, Length.m(radius),
+                        latitudes, longitudes, VERTICES);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(sphericalArea(latitudes, longitudes, VERTICES).toSquareMeters())
+      .isCloseTo(Math.PI * radius * radius, Percentage.withPercentage(0.01D));
+    assertions.assertThat(perimeter(latitudes, longitudes, VERTICES).toMeters())
+      .isCloseTo(2D * Math.PI * radius, Percentage.withPercentage(0.01D));
+    assertions.assertAll();
+  }
+
+  @Test
+  void degenerateInputHasNoArea() {
+    double[] latitudes = {1D, 2D};
+    double[] longitudes = {3D, 4D};
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(sphericalArea(latitudes, longitudes, 2).toSquareMeters()).isZero();
+    assertions.assertThat(ellipsoidalArea(latitudes, longitudes, 0).toSquareMeters()).isZero();
+    assertions.assertThat(perimeter(latitudes, longitudes, 1).toMeters()).isZero();
+    assertions.assertThatThrownBy(() -> perimeter(latitudes, longitudes, 3))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertAll();
+  }
+}
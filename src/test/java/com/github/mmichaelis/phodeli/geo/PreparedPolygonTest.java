@@ -0,0 +1,178 @@
+package com.github.mmichaelis.phodeli.geo;
+
+import static com.github.mmichaelis.phodeli.geo.PreparedPolygon.polygon;
+import static com.github.mmichaelis.phodeli.geo.PreparedPolygon.rings;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+/**
+ * Tests {@link PreparedPolygon}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class PreparedPolygonTest {
+
+  /**
+   * Using fixed seed to provide reproducible test runs.
+   */
+  private static final long RANDOM_SEED = 0L;
+  private static final int POINTS = 100_000;
+  private static final int VERTICES = 10_000;
+
+  @Test
+  void containsWithinSquare() {
+    PreparedPolygon square = polygon(new double[]{48D, 48D, 49D, 49D},
+                                     new double[]{11D, 12D, 12D, 11D}, 4);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(square.contains(48.5D, 11.5D)).isTrue();
+    assertions.assertThat(square.contains(GeoCoordinate.degrees(48.1D, 11.9D))).isTrue();
+    assertions.assertThat(square.contains(47.9D, 11.5D)).isFalse();
+    assertions.assertThat(square.contains(48.5D, 12.1D)).isFalse();
+    assertions.assertThat(square.contains(48.5D, -168.5D)).isFalse();
+    assertions.assertThat(square.getVertexCount()).isEqualTo(4);
+    assertions.assertThat(square.getRingCount()).isEqualTo(1);
+    assertions.assertThat(square.getBounds()).isEqualTo(GeoBounds.degrees(48D, 11D, 49D, 12D));
+    assertions.assertAll();
+  }
+
+  @Test
+  void matchesRayCastingForLargePolygon() {
+    Random random = new Random(RANDOM_SEED);
+    double[] latitudes = new double[VERTICES];
+    double[] longitudes = new double[VERTICES];
+    for (int i = 0; i < VERTICES; i++) {
+      double angle = 2D * Math.PI * i / VERTICES;
+      double radius = 0.5D + 0.4D * random.nextDouble();
+      latitudes[i] = 48D + radius * Math.sin(angle);
+      longitudes[i] = 11D + radius * Math.cos(angle);
+    }
+    PreparedPolygon prepared = polygon(latitudes, longitudes, VERTICES);
+    int mismatches = 0;
+    int inside = 0;
+    for (int i = 0; i < POINTS / 10; i++) {
+      double latitude = 47D + 2D * random.nextDouble();
+      double longitude = 10D + 2D * random.nextDouble();
+      boolean expected = rayCast(latitudes, longitudes, latitude, longitude);
+      mismatches += prepared.contains(latitude, longitude) != expected ? 1 : 0;
+      inside += expected ? 1 : 0;
+    }
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(mismatches).isZero();
+    assertions.assertThat(inside).isBetween(POINTS / 100, POINTS / 10 - POINTS / 100);
+    assertions.assertAll();
+  }
+
+  @Test
+  void excludesHoles() {
+    double[] latitudes = {0D, 0D, 10D, 10D, 4D, 4D, 6D, 6D, 20D, 20D, 21D};
+    double[] longitudes = {0D, 10D, 10D, 0D, 4D, 6D, 6D, 4D, 0D, 1D, 0D};
+    PreparedPolygon donut = rings(latitudes, longitudes, new int[]{4, 8, 11});
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(donut.contains(2D, 2D)).isTrue();
+    assertions.assertThat(donut.contains(5D, 5D)).isFalse();
+    assertions.assertThat(donut.contains(20.2D, 0.2D)).isTrue();
+    assertions.assertThat(donut.contains(15D, 0.5D)).isFalse();
+    assertions.assertThat(donut.getRingCount()).isEqualTo(3);
+    assertions.assertAll();
+  }
+
+  @Test
+  void supportsAntimeridian() {
+    PreparedPolygon polygon = polygon(new double[]{-20D, -20D, -10D, -10D},
+                                      new double[]{175D, -175D, -175D, 175D}, 4);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(polygon.contains(-15D, 179D)).isTrue();
+    assertions.assertThat(polygon.contains(-15D, -179D)).isTrue();
+    assertions.assertThat(polygon.contains(-15D, -180D)).isTrue();
+    assertions.assertThat(polygon.contains(-15D, 0D)).isFalse();
+    assertions.assertThat(polygon.contains(-15D, 170D)).isFalse();
+    assertions.assertThat(polygon.getBounds().crossesAntimeridian()).isTrue();
+    assertions.assertThat(polygon.getBounds().getLongitudeSpan().toDegrees()).isEqualTo(10D);
+    assertions.assertAll();
+  }
+
+  @Test
+  void bulkOperationsMatchSingleChecks() {
+    Random random = new Random(RANDOM_SEED);
+    PreparedPolygon triangle = polygon(new double[]{0D, 0D, 10D},
+                                       new double[]{0D, 10D, 5D}, 3);
+    double[] latitudes = new double[POINTS];
+    double[] longitudes = new double[POINTS];
+    int expected = 0;
+    for (int i = 0; i < POINTS; i++) {
+      latitudes[i] = -1D + 12D * random.nextDouble();
+      longitudes[i] = -1D + 12D * random.nextDouble();
+      expected += triangle.contains(latitudes[i], longitudes[i]) ? 1 : 0;
+    }
+    boolean[] contained = new boolean[POINTS];
+    int[] indices = new int[POINTS];
+    triangle.contains(latitudes, longitudes, contained, POINTS);
+    int found = triangle.filter(latitudes, longitudes, indices, POINTS);
+    double firstLatitude = latitudes[indices[0]];
+    int retained = triangle.retain(latitudes, longitudes, 0, POINTS);
+    int consistent = 0;
+    for (int i = 0; i < found; i++) {
+      consistent += contained[indices[i]] ? 1 : 0;
+    }
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(found).isEqualTo(expected);
+    assertions.assertThat(consistent).isEqualTo(expected);
+    assertions.assertThat(retained).isEqualTo(expected);
+    assertions.assertThat(latitudes[0]).isEqualTo(firstLatitude);
+    assertions.assertThat((double) expected / POINTS).isBetween(0.3D, 0.4D);
+    assertions.assertAll();
+  }
+
+  @TestFactory
+  Stream<DynamicTest> rejectsInvalidPolygons() {
+    return Stream.of(
+      new Object[]{"too few vertices", new double[]{0D, 1D}, new double[]{0D, 1D}, new int[]{2}},
+      new Object[]{"no rings", new double[]{0D, 1D, 2D}, new double[]{0D, 1D, 0D}, new int[0]},
+      new Object[]{"arrays too short", new double[]{0D, 1D, 2D}, new double[]{0D, 1D, 0D},
+                   new int[]{4}},
+      new Object[]{"invalid latitude", new double[]{0D, 91D, 2D}, new double[]{0D, 1D, 0D},
+                   new int[]{3}},
+      new Object[]{"invalid longitude", new double[]{0D, 1D, 2D},
+                   new double[]{0D, Double.NaN, 0D}, new int[]{3}},
+      new Object[]{"enclosing pole", new double[]{80D, 80D, 80D, 80D},
+                   new double[]{0D, 90D, 180D, -90D}, new int[]{4}})
+      .map(input -> DynamicTest.dynamicTest((String) input[0], () ->
+        assertThat(catchIllegalArgument((double[]) input[1], (double[]) input[2],
+                                        (int[]) input[3])).isTrue()));
+  }
+
+  private static boolean catchIllegalArgument(final double[] latitudes,
+                                              final double[] longitudes,
+                                              final int[] ringEnds) {
+    try {
+      rings(latitudes, longitudes, ringEnds);
+      return false;
+    } catch (IllegalArgumentException ignored) {
+      return true;
+    }
+  }
+
+  private static boolean rayCast(final double[] latitudes,
+                                 final double[] longitudes,
+                                 final double latitude,
+                                 final double longitude) {
+    boolean inside = false;
+    for (int i = 0, j = latitudes.length - 1; i < latitudes.length; j = i++) {
+      if (latitudes[i] <= latitude != latitudes[j] <= latitude) {
+        double crossing = longitudes[i] + (latitude - latitudes[i])
+                                          * (longitudes[j] - longitudes[i])
+                                          / (latitudes[j] - latitudes[i]);
+        inside ^= crossing > longitude;
+      }
+    }
+    return inside;
+  }
+}
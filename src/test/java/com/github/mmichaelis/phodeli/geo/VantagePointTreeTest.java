@@ -0,0 +1,138 @@
+package com.github.mmichaelis.phodeli.geo;
+
+import static com.github.mmichaelis.phodeli.geo.GeoCoordinate.degrees;
+import static com.github.mmichaelis.phodeli.geo.GreatCircle.distance;
+import static com.github.mmichaelis.phodeli.measure.Length.km;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Random;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+/**
+ * Tests {@link VantagePointTree}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class VantagePointTreeTest {
+
+  /**
+   * Using fixed seed to provide reproducible test runs.
+   */
+  private static final long RANDOM_SEED = 0L;
+  /**
+   * Large enough to build subtrees in parallel.
+   */
+  private static final int POINTS = 50_000;
+  private static final double TOLERANCE_METERS = 1E-3D;
+
+  private static final double[] LATITUDES = new double[POINTS];
+  private static final double[] LONGITUDES = new double[POINTS];
+  private static final VantagePointTree TREE;
+
+  static {
+    Random random = new Random(RANDOM_SEED);
+    for (int i = 0; i < POINTS; i++) {
+      // Cluster half of the points around the poles and the antimeridian.
+      boolean clustered = i % 2 == 0;
+      LATITUDES[i] = clustered ? 85D + random.nextDouble() * 5D : random.nextDouble() * 180D - 90D;
+      LONGITUDES[i] = clustered && i % 4 == 0
+                      ? 179D + random.nextDouble() * 2D - 360D * random.nextInt(2)
+                      : random.nextDouble() * 360D - 180D;
+      LONGITUDES[i] = Math.max(-180D, Math.min(180D, LONGITUDES[i]));
+    }
+    TREE = VantagePointTree.build(LATITUDES, LONGITUDES);
+  }
+
+  private static final GeoCoordinate[] CENTERS = {
+    degrees(48.1371D, 11.5754D),
+    degrees(89.5D, 0D),
+    degrees(-89.9D, 100D),
+    degrees(87D, 179.9D),
+    degrees(0D, -179.99D),
+  };
+
+  @TestFactory
+  Stream<DynamicTest> findsSameNearestNeighborsAsLinearScan() {
+    return Stream.of(CENTERS).flatMap(center -> IntStream.of(1, 5, 50).mapToObj(
+      k -> DynamicTest.dynamicTest(k + " nearest of " + center, () -> {
+        double[] expected = sortedDistances(center).limit(k).toArray();
+        NeighborBuffer neighbors = TREE.nearest(center, k);
+        assertThat(neighbors.size()).isEqualTo(k);
+        for (int rank = 0; rank < k; rank++) {
+          assertThat(neighbors.getDistanceMeters(rank))
+            .isCloseTo(expected[rank], within(TOLERANCE_METERS));
+          assertThat(neighbors.getDistance(rank).toMeters())
+            .isCloseTo(distanceMeters(center, neighbors.getIndex(rank)), within(TOLERANCE_METERS));
+        }
+      })));
+  }
+
+  @TestFactory
+  Stream<DynamicTest> findsSameLocationsWithinRadiusAsLinearScan() {
+    return Stream.of(CENTERS).flatMap(center -> Stream.of(km(0D), km(30D), km(800D)).map(
+      radius -> DynamicTest.dynamicTest("within " + radius + " of " + center, () -> {
+        double[] expected = sortedDistances(center)
+          .filter(meters -> meters <= radius.toMeters())
+          .toArray();
+        NeighborBuffer neighbors = TREE.within(center, radius);
+        assertThat(neighbors.size()).isEqualTo(expected.length);
+        for (int rank = 0; rank < expected.length; rank++) {
+          assertThat(neighbors.getDistanceMeters(rank))
+            .isCloseTo(expected[rank], within(TOLERANCE_METERS));
+        }
+      })));
+  }
+
+  @Test
+  void reusesBuffer() {
+    NeighborBuffer buffer = NeighborBuffer.neighborBuffer(10);
+    TREE.nearest(10D, 20D, 10, buffer);
+    int first = buffer.getIndex(0);
+    TREE.nearest(-10D, -20D, 3, buffer);
+    assertThat(buffer.size()).isEqualTo(3);
+    TREE.nearest(10D, 20D, 10, buffer);
+    assertThat(buffer.getIndex(0)).isEqualTo(first);
+  }
+
+  @Test
+  void limitsNeighborsToSize() {
+    VantagePointTree tree = VantagePointTree.build(new double[]{1D, 2D}, new double[]{3D, 4D});
+    NeighborBuffer neighbors = tree.nearest(degrees(0D, 0D), 5);
+    assertThat(neighbors.size()).isEqualTo(2);
+    assertThat(neighbors.getIndex(0)).isEqualTo(0);
+    assertThatThrownBy(() -> neighbors.getIndex(2))
+      .isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void handlesEmptyTree() {
+    VantagePointTree tree = VantagePointTree.build(new double[0], new double[0]);
+    assertThat(tree.nearest(degrees(0D, 0D), 3).size()).isZero();
+    assertThat(tree.within(degrees(0D, 0D), km(100D)).size()).isZero();
+  }
+
+  @Test
+  void rejectsInvalidArguments() {
+    assertThatThrownBy(() -> VantagePointTree.build(new double[1], new double[2]))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> TREE.nearest(degrees(0D, 0D), -1))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static DoubleStream sortedDistances(final GeoCoordinate center) {
+    return IntStream.range(0, POINTS).mapToDouble(i -> distanceMeters(center, i)).sorted();
+  }
+
+  private static double distanceMeters(final GeoCoordinate center, final int index) {
+    return distance(center, degrees(LATITUDES[index], LONGITUDES[index])).toMeters();
+  }
+}
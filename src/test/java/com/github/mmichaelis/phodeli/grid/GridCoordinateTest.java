@@ -0,0 +1,50 @@
+package com.github.mmichaelis.phodeli.grid;
+
+import static com.github.mmichaelis.phodeli.grid.GridCoordinate.grid;
+import static com.github.mmichaelis.phodeli.grid.GridCoordinate.meters;
+import static com.github.mmichaelis.phodeli.test.SerializableCondition.serializable;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.testing.EqualsTester;
+
+import com.github.mmichaelis.phodeli.measure.Length;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link GridCoordinate}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class GridCoordinateTest {
+
+  @Test
+  void providesEastingAndNorthing() {
+    GridCoordinate coordinate = grid(Length.km(2600D), Length.km(1200D));
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(coordinate.getEasting().toMeters()).isEqualTo(2_600_000D);
+    assertions.assertThat(coordinate.getNorthing().toMeters()).isEqualTo(1_200_000D);
+    assertions.assertAll();
+  }
+
+  @Test
+  void rejectsNull() {
+    assertThatThrownBy(() -> grid(null, Length.m(1D))).isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void fulfillsEqualsContract() {
+    new EqualsTester()
+      .addEqualityGroup(meters(1D, 2D), meters(1D, 2D))
+      .addEqualityGroup(meters(2D, 1D))
+      .testEquals();
+  }
+
+  @Test
+  void isSerializable() {
+    assertThat(meters(1D, 2D)).is(serializable());
+  }
+}
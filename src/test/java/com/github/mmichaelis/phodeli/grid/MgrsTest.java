@@ -0,0 +1,116 @@
+package com.github.mmichaelis.phodeli.grid;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+import com.github.mmichaelis.phodeli.geo.GreatCircle;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+/**
+ * Tests {@link Mgrs}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class MgrsTest {
+
+  private static final double NUDGE = 5.0E-8D;
+  /**
+   * Using fixed seed to provide reproducible test runs.
+   */
+  private static final long RANDOM_SEED = 0L;
+  private static final int POINTS = 10_000;
+  private static final GeoCoordinate EIFFEL_TOWER = GeoCoordinate.degrees(48.8582D, 2.2945D);
+
+  @Test
+  void formatsWithRequestedPrecision() {
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(Mgrs.format(EIFFEL_TOWER, 5)).isEqualTo("31U DQ 48251 11932");
+    assertions.assertThat(Mgrs.format(EIFFEL_TOWER, 3)).isEqualTo("31U DQ 482 119");
+    assertions.assertThat(Mgrs.format(EIFFEL_TOWER, 0)).isEqualTo("31U DQ");
+    assertions.assertThat(Mgrs.format(GeoCoordinate.degrees(-33.8568D, 151.2153D), 5))
+      .isEqualTo("56H LH 34900 52288");
+    assertions.assertThat(Mgrs.format(GeoCoordinate.degrees(0D, 1D), 1))
+      .isEqualTo("31N BA 7 0");
+    assertions.assertAll();
+  }
+
+  @Test
+  void parsesToSouthWestCorner() {
+    UtmCoordinate coordinate = Mgrs.toUtm("31U DQ 48251 11932");
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(coordinate.getZone()).isEqualTo(UtmZone.zone(31, true));
+    assertions.assertThat(coordinate.getEasting().toMeters()).isEqualTo(448_251D);
+    assertions.assertThat(coordinate.getNorthing().toMeters()).isEqualTo(5_411_932D);
+    assertions.assertThat(Mgrs.toUtm("31udq4825111932")).isEqualTo(coordinate);
+    assertions.assertThat(Mgrs.toUtm("31U DQ").getEasting().toMeters()).isEqualTo(400_000D);
+    assertions.assertAll();
+  }
+
+  @Test
+  void roundTripsWithinPrecision() {
+    Random random = new Random(RANDOM_SEED);
+    double[] latitudes = new double[POINTS];
+    double[] longitudes = new double[POINTS];
+    for (int i = 0; i < POINTS; i++) {
+      latitudes[i] = random.nextDouble() * 164D - 80D;
+      longitudes[i] = random.nextDouble() * 360D - 180D;
+    }
+    String[] references = new String[POINTS];
+    Mgrs.format(latitudes, longitudes, 5, references, POINTS);
+
+    double maxDistance = 0D;
+    boolean bulkMatchesSingle = true;
+    for (int i = 0; i < POINTS; i++) {
+      GeoCoordinate coordinate = GeoCoordinate.degrees(latitudes[i], longitudes[i]);
+      bulkMatchesSingle &= references[i].equals(Mgrs.format(coordinate, 5));
+      maxDistance = Math.max(maxDistance, GreatCircle.distance(
+        coordinate, Mgrs.parse(references[i])).toMeters());
+    }
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(bulkMatchesSingle).isTrue();
+    // Truncation to a square meter moves by up to its diagonal.
+    assertions.assertThat(maxDistance).isLessThan(1.5D);
+    assertions.assertAll();
+  }
+
+  @Test
+  void parsedCornerFormatsToSameReference() {
+    GeoCoordinate corner = Mgrs.parse("56H LH 34900 52288");
+    // Move a few millimeters north-east into the square.
+    GeoCoordinate inside = GeoCoordinate.degrees(corner.getLatitude().toDegrees() + NUDGE,
+                                                 corner.getLongitude().toDegrees() + NUDGE);
+    assertThat(Mgrs.format(inside, 5)).isEqualTo("56H LH 34900 52288");
+  }
+
+  @TestFactory
+  Stream<DynamicTest> rejectsMalformedReferences() {
+    return Stream.of("", "31", "31U", "31UDQ1", "31UDQ123456123456", "61UDQ", "31IDQ", "31UIQ",
+                     "31UDQ12A4", "U31DQ")
+      .map(reference -> DynamicTest.dynamicTest('"' + reference + '"', () -> {
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThatThrownBy(() -> Mgrs.parse(reference))
+          .isInstanceOf(IllegalArgumentException.class);
+        assertions.assertAll();
+      }));
+  }
+
+  @Test
+  void rejectsPolarRegionsAndInvalidDigits() {
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThatThrownBy(() -> Mgrs.format(GeoCoordinate.degrees(85D, 0D), 5))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertThatThrownBy(() -> Mgrs.format(GeoCoordinate.degrees(-81D, 0D), 5))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertThatThrownBy(() -> Mgrs.format(EIFFEL_TOWER, 6))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertAll();
+  }
+}
@@ -0,0 +1,95 @@
+package com.github.mmichaelis.phodeli.grid;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+
+import java.util.Random;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link SwissGrid}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class SwissGridTest {
+
+  /**
+   * Tolerance for reference values, which are given to a tenth of an arc second.
+   */
+  private static final Offset<Double> ARC_SECOND = Offset.offset(1D / 3600D);
+  private static final Offset<Double> METERS = Offset.offset(2D);
+  /**
+   * Using fixed seed to provide reproducible test runs.
+   */
+  private static final long RANDOM_SEED = 0L;
+  private static final int POINTS = 10_000;
+
+  @Test
+  void convertsOldObservatoryOfBern() {
+    GridCoordinate bern = SwissGrid.toLv95(GeoCoordinate.degrees(46.95108D, 7.43864D));
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(bern.getEasting().toMeters()).isCloseTo(2_600_000D, METERS);
+    assertions.assertThat(bern.getNorthing().toMeters()).isCloseTo(1_200_000D, METERS);
+    assertions.assertAll();
+  }
+
+  @Test
+  void convertsReferencePointToWgs84() {
+    // 46° 2' 38.87" N, 8° 43' 49.79" E
+    GeoCoordinate coordinate = SwissGrid.toGeo(GridCoordinate.meters(2_700_000D, 1_100_000D));
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(coordinate.getLatitude().toDegrees())
+      .isCloseTo(46D + 2D / 60D + 38.87D / 3600D, ARC_SECOND);
+    assertions.assertThat(coordinate.getLongitude().toDegrees())
+      .isCloseTo(8D + 43D / 60D + 49.79D / 3600D, ARC_SECOND);
+    assertions.assertAll();
+  }
+
+  @Test
+  void bulkConversionRoundTrips() {
+    Random random = new Random(RANDOM_SEED);
+    double[] latitudes = new double[POINTS];
+    double[] longitudes = new double[POINTS];
+    for (int i = 0; i < POINTS; i++) {
+      latitudes[i] = 45.8D + random.nextDouble() * 2D;
+      longitudes[i] = 5.9D + random.nextDouble() * 4.6D;
+    }
+    double[] eastings = new double[POINTS];
+    double[] northings = new double[POINTS];
+    SwissGrid.toLv95(latitudes, longitudes, eastings, northings, POINTS);
+    double[] restoredLatitudes = new double[POINTS];
+    double[] restoredLongitudes = new double[POINTS];
+    SwissGrid.toGeo(eastings, northings, restoredLatitudes, restoredLongitudes, POINTS);
+
+    double maxDeviation = 0D;
+    double maxSingleDeviation = 0D;
+    for (int i = 0; i < POINTS; i++) {
+      maxDeviation = Math.max(maxDeviation, Math.abs(restoredLatitudes[i] - latitudes[i]));
+      maxDeviation = Math.max(maxDeviation, Math.abs(restoredLongitudes[i] - longitudes[i]));
+      GridCoordinate single = SwissGrid.toLv95(
+        GeoCoordinate.degrees(latitudes[i], longitudes[i]));
+      maxSingleDeviation = Math.max(maxSingleDeviation,
+                                    Math.abs(single.getEasting().toMeters() - eastings[i]));
+      maxSingleDeviation = Math.max(maxSingleDeviation,
+                                    Math.abs(single.getNorthing().toMeters() - northings[i]));
+    }
+    SoftAssertions assertions = new SoftAssertions();
+    // 1E-7 degrees are about a centimeter.
+    assertions.assertThat(maxDeviation).isLessThan(1.0E-7D);
+    assertions.assertThat(maxSingleDeviation).isEqualTo(0D);
+    assertions.assertAll();
+  }
+
+  @Test
+  void gridCoordinatesRoundTrip() {
+    GridCoordinate coordinate = GridCoordinate.meters(2_683_000D, 1_248_000D);
+    GridCoordinate restored = SwissGrid.toLv95(SwissGrid.toGeo(coordinate));
+    assertThat(Math.abs(restored.getEasting().toMeters() - 2_683_000D)
+               + Math.abs(restored.getNorthing().toMeters() - 1_248_000D)).isLessThan(0.01D);
+  }
+}
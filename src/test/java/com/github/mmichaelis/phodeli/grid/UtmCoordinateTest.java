@@ -0,0 +1,63 @@
+package com.github.mmichaelis.phodeli.grid;
+
+import static com.github.mmichaelis.phodeli.grid.UtmCoordinate.utm;
+import static com.github.mmichaelis.phodeli.test.SerializableCondition.serializable;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.testing.EqualsTester;
+
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+import com.github.mmichaelis.phodeli.measure.Length;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link UtmCoordinate}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class UtmCoordinateTest {
+
+  private static final Offset<Double> METER = Offset.offset(1D);
+  private static final Offset<Double> TOLERANCE = Offset.offset(1.0E-9D);
+  private static final GeoCoordinate EIFFEL_TOWER = GeoCoordinate.degrees(48.8582D, 2.2945D);
+
+  @Test
+  void convertsInContainingZone() {
+    UtmCoordinate coordinate = utm(EIFFEL_TOWER);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(coordinate.getZone()).isEqualTo(UtmZone.zone(31, true));
+    assertions.assertThat(coordinate.getEasting().toMeters()).isCloseTo(448_252D, METER);
+    assertions.assertThat(coordinate.getNorthing().toMeters()).isCloseTo(5_411_933D, METER);
+    assertions.assertAll();
+  }
+
+  @Test
+  void convertsBack() {
+    GeoCoordinate restored = utm(EIFFEL_TOWER).toGeo();
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(restored.getLatitude().toDegrees()).isCloseTo(48.8582D, TOLERANCE);
+    assertions.assertThat(restored.getLongitude().toDegrees()).isCloseTo(2.2945D, TOLERANCE);
+    assertions.assertAll();
+  }
+
+  @Test
+  void fulfillsEqualsContract() {
+    UtmZone zone = UtmZone.zone(32, true);
+    new EqualsTester()
+      .addEqualityGroup(utm(zone, Length.m(1D), Length.m(2D)),
+                        utm(zone, Length.m(1D), Length.m(2D)))
+      .addEqualityGroup(utm(UtmZone.zone(32, false), Length.m(1D), Length.m(2D)))
+      .addEqualityGroup(utm(zone, Length.m(2D), Length.m(2D)))
+      .addEqualityGroup(utm(zone, Length.m(1D), Length.m(1D)))
+      .testEquals();
+  }
+
+  @Test
+  void isSerializable() {
+    assertThat(utm(EIFFEL_TOWER)).is(serializable());
+  }
+}
@@ -0,0 +1,157 @@
+package com.github.mmichaelis.phodeli.grid;
+
+import static com.github.mmichaelis.phodeli.grid.UtmZone.containing;
+import static com.github.mmichaelis.phodeli.grid.UtmZone.zone;
+import static com.github.mmichaelis.phodeli.test.SerializableCondition.serializable;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.testing.EqualsTester;
+
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+import com.github.mmichaelis.phodeli.measure.Length;
+
+import java.util.Random;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link UtmZone}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class UtmZoneTest {
+
+  private static final Offset<Double> MILLIMETER = Offset.offset(0.001D);
+  /**
+   * Using fixed seed to provide reproducible test runs.
+   */
+  private static final long RANDOM_SEED = 0L;
+  private static final int POINTS = 10_000;
+  /**
+   * Length of the meridian arc of WGS 84 from the equator to 45&deg; scaled by 0.9996.
+   */
+  private static final double NORTHING_AT_45_DEGREES = 4_982_950.400D;
+
+  @Test
+  void providesCachedZones() {
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(zone(32, true)).isSameAs(zone(32, true));
+    assertions.assertThat(zone(32, true).getNumber()).isEqualTo(32);
+    assertions.assertThat(zone(32, true).isNorthern()).isTrue();
+    assertions.assertThat(zone(32, false).isNorthern()).isFalse();
+    assertions.assertThat(zone(32, true).getCentralMeridian().toDegrees()).isEqualTo(9D);
+    assertions.assertThat(zone(1, true).getCentralMeridian().toDegrees()).isEqualTo(-177D);
+    assertions.assertAll();
+  }
+
+  @Test
+  void findsContainingZone() {
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(containing(48.1D, 11.6D)).isEqualTo(zone(32, true));
+    assertions.assertThat(containing(-33.9D, 151.2D)).isEqualTo(zone(56, false));
+    assertions.assertThat(containing(0D, -180D)).isEqualTo(zone(1, true));
+    assertions.assertThat(containing(0D, 180D)).isEqualTo(zone(1, true));
+    assertions.assertThat(containing(0D, 179.9D)).isEqualTo(zone(60, true));
+    assertions.assertAll();
+  }
+
+  @Test
+  void respectsNorwayAndSvalbardExceptions() {
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(containing(60.4D, 5.3D).getNumber()).isEqualTo(32);
+    assertions.assertThat(containing(78.2D, 8D).getNumber()).isEqualTo(31);
+    assertions.assertThat(containing(78.2D, 15.6D).getNumber()).isEqualTo(33);
+    assertions.assertThat(containing(78.2D, 25D).getNumber()).isEqualTo(35);
+    assertions.assertThat(containing(78.2D, 35D).getNumber()).isEqualTo(37);
+    assertions.assertAll();
+  }
+
+  @Test
+  void projectsCentralMeridianToMeridianArc() {
+    UtmCoordinate equator = zone(31, true).toUtm(GeoCoordinate.degrees(0D, 3D));
+    UtmCoordinate middle = zone(31, true).toUtm(GeoCoordinate.degrees(45D, 3D));
+    UtmCoordinate south = zone(31, false).toUtm(GeoCoordinate.degrees(-45D, 3D));
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(equator.getEasting().toMeters()).isCloseTo(500_000D, MILLIMETER);
+    assertions.assertThat(equator.getNorthing().toMeters()).isCloseTo(0D, MILLIMETER);
+    assertions.assertThat(middle.getEasting().toMeters()).isCloseTo(500_000D, MILLIMETER);
+    assertions.assertThat(middle.getNorthing().toMeters())
+      .isCloseTo(NORTHING_AT_45_DEGREES, MILLIMETER);
+    assertions.assertThat(south.getNorthing().toMeters())
+      .isCloseTo(10_000_000D - NORTHING_AT_45_DEGREES, MILLIMETER);
+    assertions.assertAll();
+  }
+
+  @Test
+  void convertsGridCoordinatesBack() {
+    GeoCoordinate coordinate = zone(32, true).toGeo(Length.m(500_000D), Length.m(0D));
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(coordinate.getLatitude().toDegrees())
+      .isCloseTo(0D, Offset.offset(1.0E-12D));
+    assertions.assertThat(coordinate.getLongitude().toDegrees())
+      .isCloseTo(9D, Offset.offset(1.0E-12D));
+    assertions.assertAll();
+  }
+
+  @Test
+  void bulkConversionRoundTrips() {
+    Random random = new Random(RANDOM_SEED);
+    UtmZone zone = zone(33, false);
+    double[] latitudes = new double[POINTS];
+    double[] longitudes = new double[POINTS];
+    for (int i = 0; i < POINTS; i++) {
+      latitudes[i] = -random.nextDouble() * 80D;
+      longitudes[i] = 12D + random.nextDouble() * 8D - 4D;
+    }
+    double[] eastings = new double[POINTS];
+    double[] northings = new double[POINTS];
+    zone.toUtm(latitudes, longitudes, eastings, northings, POINTS);
+    double[] restoredLatitudes = new double[POINTS];
+    double[] restoredLongitudes = new double[POINTS];
+    zone.toGeo(eastings, northings, restoredLatitudes, restoredLongitudes, POINTS);
+
+    double maxDeviation = 0D;
+    double maxSingleDeviation = 0D;
+    for (int i = 0; i < POINTS; i++) {
+      maxDeviation = Math.max(maxDeviation, Math.abs(restoredLatitudes[i] - latitudes[i]));
+      maxDeviation = Math.max(maxDeviation, Math.abs(restoredLongitudes[i] - longitudes[i]));
+      UtmCoordinate single = zone.toUtm(GeoCoordinate.degrees(latitudes[i], longitudes[i]));
+      maxSingleDeviation = Math.max(maxSingleDeviation,
+                                    Math.abs(single.getEasting().toMeters() - eastings[i]));
+      maxSingleDeviation = Math.max(maxSingleDeviation,
+                                    Math.abs(single.getNorthing().toMeters() - northings[i]));
+    }
+    SoftAssertions assertions = new SoftAssertions();
+    // 1E-9 degrees are about 0.1 millimeters.
+    assertions.assertThat(maxDeviation).isLessThan(1.0E-9D);
+    assertions.assertThat(maxSingleDeviation).isEqualTo(0D);
+    assertions.assertAll();
+  }
+
+  @Test
+  void rejectsInvalidZoneNumber() {
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThatThrownBy(() -> zone(0, true))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertThatThrownBy(() -> zone(61, true))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertAll();
+  }
+
+  @Test
+  void fulfillsEqualsContract() {
+    new EqualsTester()
+      .addEqualityGroup(zone(1, true))
+      .addEqualityGroup(zone(1, false))
+      .addEqualityGroup(zone(2, true))
+      .testEquals();
+  }
+
+  @Test
+  void isSerializable() {
+    assertThat(zone(32, true)).is(serializable());
+  }
+}
@@ -0,0 +1,54 @@
+package com.github.mmichaelis.phodeli.internal;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link LruCache}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class LruCacheTest {
+
+  @Test
+  void computesEachKeyOnce() {
+    AtomicInteger computed = new AtomicInteger();
+    LruCache<Integer, String> cache = new LruCache<>(2, key -> {
+      computed.incrementAndGet();
+      return String.valueOf(key);
+    });
+    String first = cache.get(1);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(cache.get(1)).isSameAs(first);
+    assertions.assertThat(first).isEqualTo("1");
+    assertions.assertThat(computed.get()).isEqualTo(1);
+    assertions.assertThat(cache.size()).isEqualTo(1);
+    assertions.assertThat(cache.getCapacity()).isEqualTo(2);
+    assertions.assertAll();
+  }
+
+  @Test
+  void evictsLeastRecentlyUsedKey() {
+    LruCache<Integer, Object> cache = new LruCache<>(2, key -> new Object());
+    Object first = cache.get(1);
+    Object second = cache.get(2);
+    cache.get(1);
+    cache.get(3);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(cache.size()).isEqualTo(2);
+    assertions.assertThat(cache.get(1)).isSameAs(first);
+    assertions.assertThat(cache.get(2)).isNotSameAs(second);
+    assertions.assertAll();
+  }
+
+  @Test
+  void rejectsInvalidCapacity() {
+    assertThatThrownBy(() -> new LruCache<>(0, key -> key))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,51 @@
+package com.github.mmichaelis.phodeli.internal;
+
+import static com.github.mmichaelis.phodeli.internal.ParallelChunks.CHUNK_SIZE;
+import static com.github.mmichaelis.phodeli.internal.ParallelChunks.forEachChunk;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link ParallelChunks}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class ParallelChunksTest {
+
+  @Test
+  void visitsEachIndexOnce() {
+    int count = 3 * CHUNK_SIZE + 5;
+    AtomicIntegerArray visits = new AtomicIntegerArray(count);
+    AtomicInteger chunks = new AtomicInteger();
+    forEachChunk(count, (from, to) -> {
+      chunks.incrementAndGet();
+      for (int i = from; i < to; i++) {
+        visits.incrementAndGet(i);
+      }
+    });
+    int unvisited = 0;
+    int repeated = 0;
+    for (int i = 0; i < count; i++) {
+      unvisited += visits.get(i) == 0 ? 1 : 0;
+      repeated += visits.get(i) > 1 ? 1 : 0;
+    }
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(chunks.get()).isEqualTo(4);
+    assertions.assertThat(unvisited).isZero();
+    assertions.assertThat(repeated).isZero();
+    assertions.assertAll();
+  }
+
+  @Test
+  void skipsEmptyRange() {
+    AtomicInteger chunks = new AtomicInteger();
+    forEachChunk(0, (from, to) -> chunks.incrementAndGet());
+    assertThat(chunks.get()).isZero();
+  }
+}
@@ -0,0 +1,100 @@
+package com.github.mmichaelis.phodeli.io;
+
+import static com.github.mmichaelis.phodeli.io.CoordinateBuffer.coordinateBuffer;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link CoordinateBuffer}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class CoordinateBufferTest {
+
+  private static final int POINTS = 5_000;
+
+  @Test
+  void growsAndRemembersLines() {
+    CoordinateBuffer buffer = coordinateBuffer(0);
+    buffer.coordinate(GeoCoordinate.degrees(1D, 2D));
+    buffer.startLine();
+    for (int i = 0; i < POINTS; i++) {
+      buffer.coordinate(i / 100D, -i / 100D);
+    }
+    buffer.endLine();
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(buffer.size()).isEqualTo(POINTS + 1);
+    assertions.assertThat(buffer.getCoordinate(0)).isEqualTo(GeoCoordinate.degrees(1D, 2D));
+    assertions.assertThat(buffer.getLatitudes()).hasSize(POINTS + 1);
+    assertions.assertThat(buffer.getLongitudes()[POINTS]).isEqualTo(-(POINTS - 1) / 100D);
+    assertions.assertThat(buffer.getLineCount()).isEqualTo(1);
+    assertions.assertThat(buffer.getLineStart(0)).isEqualTo(1);
+    assertions.assertThat(buffer.getLineEnd(0)).isEqualTo(POINTS + 1);
+    assertions.assertAll();
+  }
+
+  @Test
+  void replaysSingleCoordinatesBeforeLines() throws IOException {
+    CoordinateBuffer buffer = coordinateBuffer();
+    buffer.startLine();
+    buffer.coordinate(1D, 1D);
+    buffer.coordinate(2D, 2D);
+    buffer.endLine();
+    buffer.coordinate(3D, 3D);
+    buffer.startLine();
+    buffer.coordinate(4D, 4D);
+    List<String> events = new ArrayList<>();
+    buffer.replay(new CoordinateHandler() {
+      @Override
+      public void coordinate(final double latitude, final double longitude) {
+        events.add(String.valueOf((int) latitude));
+      }
+
+      @Override
+      public void startLine() {
+        events.add("(");
+      }
+
+      @Override
+      public void endLine() {
+        events.add(")");
+      }
+    });
+    assertThat(events).containsExactly("3", "(", "1", "2", ")");
+  }
+
+  @Test
+  void clearsContent() {
+    CoordinateBuffer buffer = coordinateBuffer();
+    buffer.startLine();
+    buffer.coordinate(1D, 1D);
+    buffer.endLine();
+    buffer.clear();
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(buffer.size()).isZero();
+    assertions.assertThat(buffer.getLineCount()).isZero();
+    assertions.assertAll();
+  }
+
+  @Test
+  void rejectsInvalidIndices() {
+    CoordinateBuffer buffer = coordinateBuffer();
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThatThrownBy(() -> buffer.getCoordinate(0))
+      .isInstanceOf(IndexOutOfBoundsException.class);
+    assertions.assertThatThrownBy(() -> buffer.getLineStart(0))
+      .isInstanceOf(IndexOutOfBoundsException.class);
+    assertions.assertAll();
+    assertThatThrownBy(() -> coordinateBuffer(-1)).isInstanceOf(IllegalArgumentException.class);
+  }
+}
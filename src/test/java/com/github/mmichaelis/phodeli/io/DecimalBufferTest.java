@@ -0,0 +1,65 @@
+package com.github.mmichaelis.phodeli.io;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.stream.Stream;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+/**
+ * Tests {@link DecimalBuffer}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class DecimalBufferTest {
+
+  @TestFactory
+  Stream<DynamicTest> formatsWithoutTrailingZeros() {
+    return Stream.of(new Object[]{0D, 7, "0"},
+                     new Object[]{-0D, 7, "0"},
+                     new Object[]{1.5D, 7, "1.5"},
+                     new Object[]{-1.5D, 7, "-1.5"},
+                     new Object[]{48.137154D, 7, "48.137154"},
+                     new Object[]{11.57612399D, 7, "11.576124"},
+                     new Object[]{-179.99999999D, 7, "-180"},
+                     new Object[]{-0.00000001D, 7, "0"},
+                     new Object[]{0.05D, 1, "0.1"},
+                     new Object[]{123.456D, 0, "123"},
+                     new Object[]{0.000000001D, 9, "0.000000001"})
+      .map(data -> DynamicTest.dynamicTest(data[0] + " with " + data[1] + " digits", () -> {
+        DecimalBuffer buffer = new DecimalBuffer((Integer) data[1]);
+        buffer.format((Double) data[0]);
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThat(buffer.asString()).isEqualTo(data[2]);
+        assertions.assertAll();
+      }));
+  }
+
+  @Test
+  void reusesBuffer() {
+    DecimalBuffer buffer = new DecimalBuffer(3);
+    buffer.format(-123456.789D);
+    buffer.format(1D);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(buffer.asString()).isEqualTo("1");
+    assertions.assertThat(buffer.toString()).contains("value=1");
+    assertions.assertAll();
+  }
+
+  @Test
+  void rejectsInvalidInput() {
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThatThrownBy(() -> new DecimalBuffer(3).format(Double.NaN))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertThatThrownBy(() -> new DecimalBuffer(3).format(1.0E10D))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertThatThrownBy(() -> new DecimalBuffer(10))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertAll();
+    assertThatThrownBy(() -> new DecimalBuffer(-1)).isInstanceOf(IllegalArgumentException.class);
+  }
+}
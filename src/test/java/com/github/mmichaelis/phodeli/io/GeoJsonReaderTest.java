@@ -0,0 +1,229 @@
+package com.github.mmichaelis.phodeli.io;
+
+import static com.github.mmichaelis.phodeli.io.CoordinateBuffer.coordinateBuffer;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+/**
+ * Tests {@link GeoJsonReader}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class GeoJsonReaderTest {
+
+  private static final int POINTS = 100_000;
+  private static final String COLLECTION =
+    "{\"type\": \"FeatureCollection\", \"features\": [\n"
+    + " {\"type\": \"Feature\", \"properties\": {\"name\": \"A \\\"quoted\\\" \\u00e4\","
+    + " \"tags\": [1, true, null, {\"x\": -1.5e3}]},\n"
+    + "  \"geometry\": {\"type\": \"Point\", \"coordinates\": [11.576124, 48.137154, 519]}},\n"
+    + " {\"type\": \"Feature\", \"properties\": null,\n"
+    + "  \"geometry\": {\"type\": \"LineString\", \"coordinates\": [[2, 1], [4, 3]]}},\n"
+    + " {\"type\": \"Feature\", \"properties\": {},\n"
+    + "  \"geometry\": {\"type\": \"Polygon\", \"coordinates\": [\n"
+    + "   [[0, 0], [1, 0], [1, 1], [0, 0]], [[0.2, 0.2], [0.5, 0.2], [0.2, 0.2]]]}},\n"
+    + " {\"type\": \"Feature\", \"properties\": {},\n"
+    + "  \"geometry\": {\"type\": \"MultiPoint\", \"coordinates\": [[6, 5], [8, 7]]}},\n"
+    + " {\"type\": \"Feature\", \"properties\": {}, \"geometry\": null}\n"
+    + "]}\n";
+
+  @Test
+  void readsAllGeometries() throws IOException {
+    CoordinateBuffer buffer = coordinateBuffer();
+    long count = GeoJsonReader.read(new StringReader(COLLECTION), buffer);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(count).isEqualTo(12L);
+    assertions.assertThat(buffer.getLatitudes())
+      .containsExactly(48.137154D, 1D, 3D, 0D, 0D, 1D, 0D, 0.2D, 0.2D, 0.2D, 5D, 7D);
+    assertions.assertThat(buffer.getLongitudes())
+      .containsExactly(11.576124D, 2D, 4D, 0D, 1D, 1D, 0D, 0.2D, 0.5D, 0.2D, 6D, 8D);
+    assertions.assertThat(buffer.getLineCount()).isEqualTo(3);
+    assertions.assertThat(buffer.getLineStart(1)).isEqualTo(3);
+    assertions.assertThat(buffer.getLineEnd(1)).isEqualTo(7);
+    assertions.assertThat(buffer.getLineStart(2)).isEqualTo(7);
+    assertions.assertThat(buffer.getLineEnd(2)).isEqualTo(10);
+    assertions.assertAll();
+  }
+
+  @Test
+  void readsAcrossBufferBoundaries() throws IOException {
+    CoordinateBuffer expected = coordinateBuffer();
+    GeoJsonReader.read(new StringReader(COLLECTION), expected);
+    CoordinateBuffer actual = coordinateBuffer();
+    GeoJsonReader.read(new TrickleReader(COLLECTION), actual);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(actual.getLatitudes()).isEqualTo(expected.getLatitudes());
+    assertions.assertThat(actual.getLongitudes()).isEqualTo(expected.getLongitudes());
+    assertions.assertThat(actual.getLineCount()).isEqualTo(expected.getLineCount());
+    assertions.assertAll();
+  }
+
+  @Test
+  void readsBareGeometriesAndCollections() throws IOException {
+    CoordinateBuffer point = coordinateBuffer();
+    CoordinateBuffer collection = coordinateBuffer();
+    GeoJsonReader.read(new StringReader("{\"type\":\"Point\",\"coordinates\":[1,2]}"), point);
+    GeoJsonReader.read(new StringReader(
+      "{\"type\":\"GeometryCollection\",\"geometries\":["
+      + "{\"type\":\"Point\",\"coordinates\":[1,2]},"
+      + "{\"type\":\"MultiLineString\",\"coordinates\":[[[1,2],[3,4]],[[5,6],[7,8]]]}]}"),
+                       collection);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(point.size()).isEqualTo(1);
+    assertions.assertThat(point.getLatitudes()).containsExactly(2D);
+    assertions.assertThat(collection.size()).isEqualTo(5);
+    assertions.assertThat(collection.getLineCount()).isEqualTo(2);
+    assertions.assertAll();
+  }
+
+  @Test
+  void readsIndependentOfKeyOrder() throws IOException {
+    CoordinateBuffer typeFirst = coordinateBuffer();
+    CoordinateBuffer typeLast = coordinateBuffer();
+    CoordinateBuffer lineTypeLast = coordinateBuffer();
+    GeoJsonReader.read(new StringReader(
+      "{\"type\":\"MultiPoint\",\"coordinates\":[[1,2],[3,4]]}"), typeFirst);
+    long count = GeoJsonReader.read(new StringReader(
+      "{\"coordinates\":[[1,2],[3,4]],\"type\":\"MultiPoint\"}"), typeLast);
+    GeoJsonReader.read(new StringReader(
+      "{\"type\":\"Feature\",\"geometry\":"
+      + "{\"coordinates\":[[1,2],[3,4]],\"type\":\"LineString\"},\"properties\":null}"),
+                       lineTypeLast);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(count).isEqualTo(2L);
+    assertions.assertThat(typeFirst.getLatitudes()).containsExactly(2D, 4D);
+    assertions.assertThat(typeFirst.getLineCount()).isEqualTo(0);
+    assertions.assertThat(typeLast.getLatitudes()).containsExactly(2D, 4D);
+    assertions.assertThat(typeLast.getLongitudes()).containsExactly(1D, 3D);
+    assertions.assertThat(typeLast.getLineCount()).isEqualTo(0);
+    assertions.assertThat(lineTypeLast.getLatitudes()).containsExactly(2D, 4D);
+    assertions.assertThat(lineTypeLast.getLineCount()).isEqualTo(1);
+    assertions.assertAll();
+  }
+
+  @Test
+  void ignoresCoordinatesOutsideOfGeometries() throws IOException {
+    CoordinateBuffer buffer = coordinateBuffer();
+    long count = GeoJsonReader.read(new StringReader(
+      "{\"type\":\"FeatureCollection\",\"features\":["
+      + "{\"type\":\"Feature\",\"properties\":{\"coordinates\":[5,6]},\"geometry\":null},"
+      + "{\"type\":\"Feature\",\"properties\":{\"geometry\":{\"type\":\"Point\","
+      + "\"coordinates\":[7,8]}},\"geometry\":{\"type\":\"Point\",\"coordinates\":[1,2]}}],"
+      + "\"bbox\":{\"coordinates\":[3,4]}}"), buffer);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(count).isEqualTo(1L);
+    assertions.assertThat(buffer.getLatitudes()).containsExactly(2D);
+    assertions.assertThat(buffer.getLongitudes()).containsExactly(1D);
+    assertions.assertAll();
+  }
+
+  @Test
+  void readsWhatWasWritten() throws IOException {
+    StringWriter out = new StringWriter();
+    try (GeoJsonWriter writer = GeoJsonWriter.geoJsonWriter(out)) {
+      writer.coordinate(-1D, -2D);
+      writer.startLine();
+      for (int i = 0; i < POINTS; i++) {
+        writer.coordinate(i * 1.0E-4D, -i * 1.0E-4D);
+      }
+      writer.endLine();
+    }
+    CoordinateBuffer buffer = coordinateBuffer();
+    GeoJsonReader.read(new StringReader(out.toString()), buffer);
+    double[] latitudes = buffer.getLatitudes();
+    double[] longitudes = buffer.getLongitudes();
+    double maxDeviation = 0D;
+    for (int i = 0; i < POINTS; i++) {
+      maxDeviation = Math.max(maxDeviation, Math.abs(latitudes[i + 1] - i * 1.0E-4D));
+      maxDeviation = Math.max(maxDeviation, Math.abs(longitudes[i + 1] + i * 1.0E-4D));
+    }
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(buffer.size()).isEqualTo(POINTS + 1);
+    assertions.assertThat(buffer.getLineCount()).isEqualTo(1);
+    assertions.assertThat(maxDeviation).isLessThan(1.0E-7D);
+    assertions.assertAll();
+  }
+
+  @Test
+  void convertsFromGpxInOnePass() throws IOException {
+    String gpx = "<gpx><wpt lat=\"1\" lon=\"2\"/><trk><trkseg><trkpt lat=\"3\" lon=\"4\"/>"
+                 + "<trkpt lat=\"5\" lon=\"6\"/></trkseg></trk></gpx>";
+    StringWriter out = new StringWriter();
+    try (GeoJsonWriter writer = GeoJsonWriter.geoJsonWriter(out)) {
+      GpxReader.read(new ByteArrayInputStream(gpx.getBytes(StandardCharsets.UTF_8)),
+                     writer);
+    }
+    assertThat(out.toString())
+      .contains("\"Point\",\"coordinates\":[2,1]")
+      .contains("\"LineString\",\"coordinates\":[[4,3],[6,5]]");
+  }
+
+  @Test
+  void readsFile() throws IOException {
+    Path file = Files.createTempFile("phodeli", ".geojson");
+    try {
+      Files.write(file, COLLECTION.getBytes(StandardCharsets.UTF_8));
+      assertThat(GeoJsonReader.read(file, coordinateBuffer())).isEqualTo(12L);
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @TestFactory
+  Stream<DynamicTest> rejectsMalformedInput() {
+    return Stream.of("", "{", "{\"coordinates\":[1]}", "{\"coordinates\":[1,x]}",
+                     "{\"a\" 1}", "{\"a\":1,}", "[1 2]", "{\"a\":\"unterminated}",
+                     "{\"a\":nope}", "{} {}", "{\"coordinates\":[[1,2],3]}",
+                     "{\"a\":\"\\uZZZZ\"}")
+      .map(json -> DynamicTest.dynamicTest('"' + json + '"', () -> {
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThatThrownBy(() -> GeoJsonReader.read(new StringReader(json),
+                                                               coordinateBuffer()))
+          .isInstanceOf(IOException.class);
+        assertions.assertAll();
+      }));
+  }
+
+  /**
+   * Reader providing at most three characters per read, to exercise buffer refills.
+   */
+  private static final class TrickleReader extends Reader {
+
+    private final String content;
+    private int position;
+
+    private TrickleReader(final String content) {
+      this.content = content;
+    }
+
+    @Override
+    public int read(final char[] buffer, final int offset, final int length) {
+      if (position >= content.length()) {
+        return -1;
+      }
+      int count = Math.min(Math.min(3, length), content.length() - position);
+      content.getChars(position, position + count, buffer, offset);
+      position += count;
+      return count;
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+}
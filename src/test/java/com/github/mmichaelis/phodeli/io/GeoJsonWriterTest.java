@@ -0,0 +1,58 @@
+package com.github.mmichaelis.phodeli.io;
+
+import static com.github.mmichaelis.phodeli.io.GeoJsonWriter.geoJsonWriter;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link GeoJsonWriter}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class GeoJsonWriterTest {
+
+  @Test
+  void writesPointsAndLineStrings() throws IOException {
+    StringWriter out = new StringWriter();
+    try (GeoJsonWriter writer = geoJsonWriter(out)) {
+      writer.coordinate(48.137154D, 11.576124D);
+      writer.startLine();
+      writer.coordinate(48.1D, 11.5D);
+      writer.coordinate(48.2D, 11.6D);
+      writer.endLine();
+    }
+    assertThat(out.toString()).isEqualTo(
+      "{\"type\":\"FeatureCollection\",\"features\":[\n"
+      + "{\"type\":\"Feature\",\"geometry\":{\"type\":\"Point\","
+      + "\"coordinates\":[11.576124,48.137154]},\"properties\":{}},\n"
+      + "{\"type\":\"Feature\",\"geometry\":{\"type\":\"LineString\","
+      + "\"coordinates\":[[11.5,48.1],[11.6,48.2]]},\"properties\":{}}\n"
+      + "]}\n");
+  }
+
+  @Test
+  void writesEmptyCollection() throws IOException {
+    StringWriter out = new StringWriter();
+    geoJsonWriter(out, 3).close();
+    assertThat(out.toString()).isEqualTo("{\"type\":\"FeatureCollection\",\"features\":[\n\n]}\n");
+  }
+
+  @Test
+  void rejectsInvalidOrder() throws IOException {
+    GeoJsonWriter writer = geoJsonWriter(new StringWriter());
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThatThrownBy(writer::endLine).isInstanceOf(IllegalStateException.class);
+    writer.startLine();
+    assertions.assertThatThrownBy(writer::startLine).isInstanceOf(IllegalStateException.class);
+    writer.close();
+    assertions.assertThatThrownBy(() -> writer.coordinate(1D, 2D))
+      .isInstanceOf(IllegalStateException.class);
+    assertions.assertAll();
+  }
+}
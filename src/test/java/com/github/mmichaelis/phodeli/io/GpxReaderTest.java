@@ -0,0 +1,120 @@
+package com.github.mmichaelis.phodeli.io;
+
+import static com.github.mmichaelis.phodeli.io.CoordinateBuffer.coordinateBuffer;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+/**
+ * Tests {@link GpxReader}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class GpxReaderTest {
+
+  private static final int POINTS = 100_000;
+  private static final String GPX = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                                    + "<gpx version=\"1.1\" creator=\"test\""
+                                    + " xmlns=\"http://www.topografix.com/GPX/1/1\">\n"
+                                    + " <metadata><name>Walk</name></metadata>\n"
+                                    + " <wpt lat=\"48.137154\" lon=\"11.576124\">\n"
+                                    + "  <ele>519</ele><name>Marienplatz</name>\n"
+                                    + " </wpt>\n"
+                                    + " <rte><name>Route</name>\n"
+                                    + "  <rtept lat=\"1\" lon=\"2\"/><rtept lat=\"3\" lon=\"4\"/>\n"
+                                    + " </rte>\n"
+                                    + " <trk><name>Track</name>\n"
+                                    + "  <trkseg><trkpt lat=\"5\" lon=\"6\"><ele>1</ele></trkpt>"
+                                    + "</trkseg>\n"
+                                    + "  <trkseg><trkpt lat=\"-7.5\" lon=\"-8.5\"/>"
+                                    + "<trkpt lat=\"9\" lon=\"10\"/></trkseg>\n"
+                                    + " </trk>\n"
+                                    + "</gpx>\n";
+
+  @Test
+  void readsWaypointsRoutesAndTrackSegments() throws IOException {
+    CoordinateBuffer buffer = coordinateBuffer();
+    long count = GpxReader.read(stream(GPX), buffer);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(count).isEqualTo(6L);
+    assertions.assertThat(buffer.getLatitudes())
+      .containsExactly(48.137154D, 1D, 3D, 5D, -7.5D, 9D);
+    assertions.assertThat(buffer.getLongitudes())
+      .containsExactly(11.576124D, 2D, 4D, 6D, -8.5D, 10D);
+    assertions.assertThat(buffer.getLineCount()).isEqualTo(3);
+    assertions.assertThat(buffer.getLineStart(0)).isEqualTo(1);
+    assertions.assertThat(buffer.getLineEnd(0)).isEqualTo(3);
+    assertions.assertThat(buffer.getLineStart(2)).isEqualTo(4);
+    assertions.assertThat(buffer.getLineEnd(2)).isEqualTo(6);
+    assertions.assertAll();
+  }
+
+  @Test
+  void readsWhatWasWritten() throws IOException {
+    StringWriter out = new StringWriter();
+    try (GpxWriter writer = GpxWriter.gpxWriter(out)) {
+      writer.startLine();
+      for (int i = 0; i < POINTS; i++) {
+        writer.coordinate(i * 1.0E-4D, -i * 1.0E-4D);
+      }
+      writer.endLine();
+    }
+    CoordinateBuffer buffer = coordinateBuffer();
+    GpxReader.read(stream(out.toString()), buffer);
+    double[] latitudes = buffer.getLatitudes();
+    double[] longitudes = buffer.getLongitudes();
+    double maxDeviation = 0D;
+    for (int i = 0; i < POINTS; i++) {
+      maxDeviation = Math.max(maxDeviation, Math.abs(latitudes[i] - i * 1.0E-4D));
+      maxDeviation = Math.max(maxDeviation, Math.abs(longitudes[i] + i * 1.0E-4D));
+    }
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(buffer.size()).isEqualTo(POINTS);
+    assertions.assertThat(buffer.getLineCount()).isEqualTo(1);
+    assertions.assertThat(maxDeviation).isLessThan(1.0E-7D);
+    assertions.assertAll();
+  }
+
+  @Test
+  void readsFile() throws IOException {
+    Path file = Files.createTempFile("phodeli", ".gpx");
+    try {
+      Files.write(file, GPX.getBytes(StandardCharsets.UTF_8));
+      assertThat(GpxReader.read(file, coordinateBuffer())).isEqualTo(6L);
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @TestFactory
+  Stream<DynamicTest> rejectsMalformedInput() {
+    return Stream.of("<gpx><wpt lon=\"1\"/></gpx>",
+                     "<gpx><wpt lat=\"x\" lon=\"1\"/></gpx>",
+                     "<gpx><wpt lat=\"1\" lon=\"1\">",
+                     "<?xml version=\"1.0\"?><!DOCTYPE gpx [<!ENTITY e SYSTEM"
+                     + " \"file:///etc/passwd\">]><gpx>&e;</gpx>")
+      .map(gpx -> DynamicTest.dynamicTest(gpx, () -> {
+        SoftAssertions assertions = new SoftAssertions();
+        assertions.assertThatThrownBy(() -> GpxReader.read(stream(gpx), coordinateBuffer()))
+          .isInstanceOf(IOException.class);
+        assertions.assertAll();
+      }));
+  }
+
+  private static InputStream stream(final String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+}
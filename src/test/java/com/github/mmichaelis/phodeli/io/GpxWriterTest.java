@@ -0,0 +1,79 @@
+package com.github.mmichaelis.phodeli.io;
+
+import static com.github.mmichaelis.phodeli.io.GpxWriter.gpxWriter;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link GpxWriter}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class GpxWriterTest {
+
+  @Test
+  void writesWaypointsAndTracks() throws IOException {
+    StringWriter out = new StringWriter();
+    try (GpxWriter writer = gpxWriter(out)) {
+      writer.coordinate(GeoCoordinate.degrees(48.137154D, 11.576124D));
+      writer.startLine();
+      writer.coordinate(48.1D, 11.5D);
+      writer.coordinate(48.2D, 11.6D);
+      writer.endLine();
+    }
+    assertThat(out.toString()).isEqualTo(
+      "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+      + "<gpx version=\"1.1\" creator=\"phodeli\" xmlns=\"http://www.topografix.com/GPX/1/1\">\n"
+      + " <wpt lat=\"48.137154\" lon=\"11.576124\"/>\n"
+      + " <trk>\n"
+      + "  <trkseg>\n"
+      + "   <trkpt lat=\"48.1\" lon=\"11.5\"/>\n"
+      + "   <trkpt lat=\"48.2\" lon=\"11.6\"/>\n"
+      + "  </trkseg>\n"
+      + " </trk>\n"
+      + "</gpx>\n");
+  }
+
+  @Test
+  void roundsToFractionDigits() throws IOException {
+    StringWriter out = new StringWriter();
+    try (GpxWriter writer = gpxWriter(out, 2)) {
+      writer.coordinate(48.137154D, -11.576124D);
+    }
+    assertThat(out.toString()).contains("<wpt lat=\"48.14\" lon=\"-11.58\"/>");
+  }
+
+  @Test
+  void endsPendingLineOnClose() throws IOException {
+    StringWriter out = new StringWriter();
+    GpxWriter writer = gpxWriter(out);
+    writer.startLine();
+    writer.coordinate(1D, 2D);
+    writer.close();
+    writer.close();
+    assertThat(out.toString()).endsWith("  </trkseg>\n </trk>\n</gpx>\n");
+  }
+
+  @Test
+  void rejectsInvalidOrder() throws IOException {
+    GpxWriter writer = gpxWriter(new StringWriter());
+    writer.startLine();
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThatThrownBy(writer::startLine).isInstanceOf(IllegalStateException.class);
+    writer.endLine();
+    assertions.assertThatThrownBy(writer::endLine).isInstanceOf(IllegalStateException.class);
+    assertions.assertThatThrownBy(() -> writer.coordinate(1D, 2D))
+      .isInstanceOf(IllegalStateException.class);
+    writer.close();
+    assertions.assertThatThrownBy(writer::startLine).isInstanceOf(IllegalStateException.class);
+    assertions.assertAll();
+  }
+}
@@ -0,0 +1,146 @@
+package com.github.mmichaelis.phodeli.magnetic;
+
+import static com.github.mmichaelis.phodeli.magnetic.MagneticModelTest.DIPOLE;
+import static com.github.mmichaelis.phodeli.magnetic.MagneticModelTest.EPOCH;
+
+import com.github.mmichaelis.phodeli.geo.GeoBounds;
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+import com.github.mmichaelis.phodeli.measure.Angle;
+
+import java.io.IOException;
+import java.util.Random;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link DeclinationGrid}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class DeclinationGridTest {
+
+  /**
+   * Using fixed seed to provide reproducible test runs.
+   */
+  private static final long RANDOM_SEED = 0L;
+  private static final Offset<Double> TOLERANCE = Offset.offset(1.0E-9D);
+  private static final Offset<Double> INTERPOLATION_TOLERANCE = Offset.offset(0.05D);
+  private static final GeoBounds EUROPE = GeoBounds.degrees(35D, -25D, 72D, 45D);
+  private static final int POINTS = 10_000;
+
+  private MagneticModel model;
+
+  @BeforeEach
+  void readModel() throws IOException {
+    model = MagneticModelTest.model(2020D, DIPOLE);
+  }
+
+  @Test
+  void interpolatesDeclinations() {
+    DeclinationGrid grid = model.grid(EUROPE, Angle.degrees(1D), EPOCH);
+    Random random = new Random(RANDOM_SEED);
+    double[] latitudes = new double[POINTS];
+    double[] longitudes = new double[POINTS];
+    for (int i = 0; i < POINTS; i++) {
+      latitudes[i] = 35D + 37D * random.nextDouble();
+      longitudes[i] = -25D + 70D * random.nextDouble();
+    }
+    double[] declinations = new double[POINTS];
+    grid.declinations(latitudes, longitudes, POINTS, declinations);
+    double maxError = 0D;
+    for (int i = 0; i < POINTS; i++) {
+      GeoCoordinate coordinate = GeoCoordinate.degrees(latitudes[i], longitudes[i]);
+      maxError = Math.max(maxError, Math.abs(
+        declinations[i] - model.declination(coordinate, EPOCH).toDegrees()));
+    }
+    GeoCoordinate node = GeoCoordinate.degrees(48D, 11D);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(grid.getRows()).isEqualTo(38);
+    assertions.assertThat(grid.getColumns()).isEqualTo(71);
+    assertions.assertThat(grid.getBounds()).isEqualTo(EUROPE);
+    assertions.assertThat(grid.getDate()).isEqualTo(EPOCH);
+    assertions.assertThat(maxError).isLessThan(INTERPOLATION_TOLERANCE.value);
+    assertions.assertThat(grid.declination(node).toDegrees())
+      .isCloseTo(model.declination(node, EPOCH).toDegrees(), TOLERANCE);
+    assertions.assertAll();
+  }
+
+  @Test
+  void evaluatesOutsideExactly() {
+    DeclinationGrid grid = model.grid(EUROPE, Angle.degrees(5D), EPOCH);
+    GeoCoordinate sydney = GeoCoordinate.degrees(-33.87D, 151.21D);
+    GeoCoordinate northOfGrid = GeoCoordinate.degrees(75D, 10D);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(grid.declination(sydney))
+      .isEqualTo(model.declination(sydney, EPOCH));
+    assertions.assertThat(grid.declination(northOfGrid))
+      .isEqualTo(model.declination(northOfGrid, EPOCH));
+    assertions.assertAll();
+  }
+
+  @Test
+  void supportsAntimeridian() {
+    GeoBounds pacific = GeoBounds.degrees(-20D, 170D, -10D, -170D);
+    DeclinationGrid grid = model.grid(pacific, Angle.degrees(1D), EPOCH);
+    GeoCoordinate east = GeoCoordinate.degrees(-15.5D, -179.5D);
+    GeoCoordinate west = GeoCoordinate.degrees(-15.5D, 179.5D);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(grid.getColumns()).isEqualTo(21);
+    assertions.assertThat(grid.declination(east).toDegrees())
+      .isCloseTo(model.declination(east, EPOCH).toDegrees(), INTERPOLATION_TOLERANCE);
+    assertions.assertThat(grid.declination(west).toDegrees())
+      .isCloseTo(model.declination(west, EPOCH).toDegrees(), INTERPOLATION_TOLERANCE);
+    assertions.assertAll();
+  }
+
+  @Test
+  void convertsBearings() {
+    DeclinationGrid grid = model.grid(EUROPE, Angle.degrees(1D), EPOCH);
+    Random random = new Random(RANDOM_SEED);
+    double[] latitudes = new double[POINTS];
+    double[] longitudes = new double[POINTS];
+    double[] bearings = new double[POINTS];
+    for (int i = 0; i < POINTS; i++) {
+      latitudes[i] = 35D + 37D * random.nextDouble();
+      longitudes[i] = -25D + 70D * random.nextDouble();
+      bearings[i] = 360D * random.nextDouble();
+    }
+    double[] magnetic = new double[POINTS];
+    grid.magneticBearings(latitudes, longitudes, bearings, POINTS, magnetic);
+    double[] restored = magnetic.clone();
+    grid.trueBearings(latitudes, longitudes, restored, POINTS, restored);
+    double maxError = 0D;
+    boolean normalized = true;
+    for (int i = 0; i < POINTS; i++) {
+      double error = Math.abs(restored[i] - bearings[i]);
+      maxError = Math.max(maxError, Math.min(error, 360D - error));
+      normalized &= magnetic[i] >= 0D && magnetic[i] < 360D;
+    }
+    double declination = grid.declination(GeoCoordinate.degrees(latitudes[0], longitudes[0]))
+      .toDegrees();
+    double expected = bearings[0] - declination;
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(maxError).isLessThan(1.0E-9D);
+    assertions.assertThat(normalized).isTrue();
+    assertions.assertThat(magnetic[0])
+      .isCloseTo(expected - 360D * Math.floor(expected / 360D), TOLERANCE);
+    assertions.assertThatThrownBy(
+      () -> grid.magneticBearings(latitudes, longitudes, bearings, POINTS + 1, magnetic))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertAll();
+  }
+
+  @Test
+  void rejectsInvalidSpacing() {
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThatThrownBy(() -> model.grid(EUROPE, Angle.degrees(0D), EPOCH))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertThatThrownBy(() -> model.grid(EUROPE, Angle.degrees(1.0E-6D), EPOCH))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertAll();
+  }
+}
@@ -0,0 +1,243 @@
+package com.github.mmichaelis.phodeli.magnetic;
+
+import static com.github.mmichaelis.phodeli.magnetic.MagneticModel.magneticModel;
+import static java.lang.Math.atan;
+import static java.lang.Math.atan2;
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+import static java.lang.Math.sqrt;
+import static java.lang.Math.tan;
+import static java.lang.Math.toDegrees;
+import static java.lang.Math.toRadians;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+/**
+ * Tests {@link MagneticModel}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class MagneticModelTest {
+
+  /**
+   * Using fixed seed to provide reproducible test runs.
+   */
+  private static final long RANDOM_SEED = 0L;
+  private static final Offset<Double> TOLERANCE = Offset.offset(1.0E-9D);
+  static final LocalDate EPOCH = LocalDate.of(2020, 1, 1);
+  private static final double REFERENCE_RADIUS = 6371.2D;
+  private static final double SEMI_MAJOR_AXIS = 6378.137D;
+  private static final double E2 = (2D - 1D / 298.257223563D) / 298.257223563D;
+  /**
+   * Dipole of WMM-2020: degree, order, g, h, and their annual changes.
+   */
+  static final double[][] DIPOLE = {
+    {1D, 0D, -29404.5D, 0D, 6.7D, 0D},
+    {1D, 1D, -1450.7D, 4652.9D, 7.7D, -25.1D}};
+  private static final int POINTS = 200;
+
+  @Test
+  void readsCoefficientFile() throws IOException {
+    Path file = Files.createTempFile("phodeli", ".cof");
+    try {
+      Files.write(file, coefficients(2020D, DIPOLE).getBytes(StandardCharsets.US_ASCII));
+      MagneticModel model = magneticModel(file);
+      SoftAssertions assertions = new SoftAssertions();
+      assertions.assertThat(model.getName()).isEqualTo("WMM-TEST");
+      assertions.assertThat(model.getEpoch()).isEqualTo(2020D);
+      assertions.assertThat(model.getMaxDegree()).isEqualTo(1);
+      assertions.assertAll();
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  void matchesTiltedDipole() throws IOException {
+    MagneticModel model = model(2020D, DIPOLE);
+    // The potential of degree 1 is that of a dipole with a moment along (g11, h11, g10).
+    double[] moment = {DIPOLE[1][2], DIPOLE[1][3], DIPOLE[0][2]};
+    SoftAssertions assertions = new SoftAssertions();
+    for (double latitude = -80D; latitude <= 80D; latitude += 20D) {
+      for (double longitude = -180D; longitude < 180D; longitude += 30D) {
+        double phi = toRadians(latitude);
+        double geocentric = atan((1D - E2) * tan(phi));
+        double lambda = toRadians(longitude);
+        double[] position = {cos(geocentric) * cos(lambda), cos(geocentric) * sin(lambda),
+                             sin(geocentric)};
+        double radial = 3D * dot(moment, position);
+        double[] field = {radial * position[0] - moment[0], radial * position[1] - moment[1],
+                          radial * position[2] - moment[2]};
+        double north = dot(field, new double[]{-sin(phi) * cos(lambda),
+                                               -sin(phi) * sin(lambda), cos(phi)});
+        double east = dot(field, new double[]{-sin(lambda), cos(lambda), 0D});
+        assertions.assertThat(
+          model.declination(GeoCoordinate.degrees(latitude, longitude), EPOCH).toDegrees())
+          .as("declination at %s, %s", latitude, longitude)
+          .isCloseTo(toDegrees(atan2(east, north)), TOLERANCE);
+      }
+    }
+    assertions.assertAll();
+  }
+
+  @Test
+  void matchesGradientOfPotential() throws IOException {
+    Random random = new Random(RANDOM_SEED);
+    double[][] rows = new double[9][];
+    int row = 0;
+    for (int n = 1; n <= 3; n++) {
+      for (int m = 0; m <= n; m++) {
+        rows[row++] = new double[]{n, m, coefficient(random, n),
+                                   m == 0 ? 0D : coefficient(random, n), 0D, 0D};
+      }
+    }
+    MagneticModel model = model(2020D, rows);
+    SoftAssertions assertions = new SoftAssertions();
+    for (int i = 0; i < POINTS; i++) {
+      double latitude = -85D + 170D * random.nextDouble();
+      double longitude = -180D + 360D * random.nextDouble();
+      assertions.assertThat(
+        model.declination(GeoCoordinate.degrees(latitude, longitude), EPOCH).toDegrees())
+        .as("declination at %s, %s", latitude, longitude)
+        .isCloseTo(declinationOfPotential(rows, latitude, longitude), Offset.offset(1.0E-5D));
+    }
+    assertions.assertAll();
+  }
+
+  @Test
+  void appliesSecularVariation() throws IOException {
+    MagneticModel model = model(2020D, DIPOLE);
+    double[][] advanced = new double[DIPOLE.length][];
+    for (int i = 0; i < DIPOLE.length; i++) {
+      advanced[i] = DIPOLE[i].clone();
+      advanced[i][2] += 3D * DIPOLE[i][4];
+      advanced[i][3] += 3D * DIPOLE[i][5];
+    }
+    MagneticModel later = model(2023D, advanced);
+    GeoCoordinate munich = GeoCoordinate.degrees(48.14D, 11.58D);
+    LocalDate date = LocalDate.of(2023, 1, 1);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(model.declination(munich, date).toDegrees())
+      .isCloseTo(later.declination(munich, date).toDegrees(), TOLERANCE);
+    assertions.assertThat(model.declination(munich, date).toDegrees())
+      .isNotCloseTo(model.declination(munich, EPOCH).toDegrees(), TOLERANCE);
+    assertions.assertThat(model.coefficients(date)).isSameAs(model.coefficients(date));
+    assertions.assertAll();
+  }
+
+  @TestFactory
+  Stream<DynamicTest> rejectsMalformedCoefficients() {
+    return Stream.of(
+      new String[]{"empty", "\n"},
+      new String[]{"invalid epoch", "twenty WMM\n  1  0  1.0  0.0  0.0  0.0\n"},
+      new String[]{"no coefficients", "2020.0 WMM\n9999999999\n"},
+      new String[]{"missing fields", "2020.0 WMM\n  1  0  1.0  0.0  0.0\n"},
+      new String[]{"invalid order", "2020.0 WMM\n  1  2  1.0  0.0  0.0  0.0\n"},
+      new String[]{"invalid number", "2020.0 WMM\n  1  0  x  0.0  0.0  0.0\n"})
+      .map(input -> DynamicTest.dynamicTest(input[0], () ->
+        assertThat(catchIOException(input[1])).isTrue()));
+  }
+
+  static MagneticModel model(final double epoch, final double[][] rows) throws IOException {
+    return magneticModel(new StringReader(coefficients(epoch, rows)));
+  }
+
+  /**
+   * Formats coefficients as in {@code WMM.COF}.
+   */
+  static String coefficients(final double epoch, final double[][] rows) {
+    StringBuilder builder = new StringBuilder(
+      String.format(Locale.ROOT, "    %.1f            WMM-TEST        12/10/2019%n", epoch));
+    for (double[] row : rows) {
+      builder.append(String.format(Locale.ROOT, "%3d%3d%11.1f%10.1f%11.1f%10.1f%n",
+                                   (int) row[0], (int) row[1], row[2], row[3], row[4], row[5]));
+    }
+    return builder.append("999999999999999999999999999999999999999999999999\n").toString();
+  }
+
+  /**
+   * Random coefficient decreasing with degree, rounded as written to the coefficient file.
+   */
+  private static double coefficient(final Random random, final int n) {
+    return Math.round(200_000D * (random.nextDouble() - 0.5D) / n) / 10D;
+  }
+
+  private static boolean catchIOException(final String coefficients) {
+    try {
+      magneticModel(new StringReader(coefficients));
+      return false;
+    } catch (IOException ignored) {
+      return true;
+    }
+  }
+
+  /**
+   * Declination from the numerical gradient of the potential of coefficients up to degree 3,
+   * using explicit Schmidt semi-normalized Legendre functions.
+   */
+  private static double declinationOfPotential(final double[][] rows,
+                                               final double latitude,
+                                               final double longitude) {
+    double phi = toRadians(latitude);
+    double curvature = SEMI_MAJOR_AXIS / sqrt(1D - E2 * sin(phi) * sin(phi));
+    double p = curvature * cos(phi);
+    double z = curvature * (1D - E2) * sin(phi);
+    double radius = Math.hypot(p, z);
+    double theta = atan2(p, z);
+    double lambda = toRadians(longitude);
+    double step = 1.0E-6D;
+    double north = (potential(rows, radius, theta + step, lambda)
+                    - potential(rows, radius, theta - step, lambda)) / (2D * step * radius);
+    double east = -(potential(rows, radius, theta, lambda + step)
+                    - potential(rows, radius, theta, lambda - step))
+                  / (2D * step * radius * sin(theta));
+    double down = (potential(rows, radius + step, theta, lambda)
+                   - potential(rows, radius - step, theta, lambda)) / (2D * step);
+    double psi = Math.PI / 2D - theta - phi;
+    return toDegrees(atan2(east, north * cos(psi) - down * sin(psi)));
+  }
+
+  private static double potential(final double[][] rows,
+                                  final double radius,
+                                  final double theta,
+                                  final double lambda) {
+    double c = cos(theta);
+    double s = sin(theta);
+    double[][] legendre = {
+      {1D},
+      {c, s},
+      {(3D * c * c - 1D) / 2D, sqrt(3D) * c * s, sqrt(3D) / 2D * s * s},
+      {(5D * c * c * c - 3D * c) / 2D, sqrt(3D / 8D) * s * (5D * c * c - 1D),
+       sqrt(15D) / 2D * c * s * s, sqrt(10D) / 4D * s * s * s}};
+    double sum = 0D;
+    for (double[] row : rows) {
+      int n = (int) row[0];
+      int m = (int) row[1];
+      sum += Math.pow(REFERENCE_RADIUS / radius, n + 1D)
+             * (row[2] * cos(m * lambda) + row[3] * sin(m * lambda)) * legendre[n][m];
+    }
+    return REFERENCE_RADIUS * sum;
+  }
+
+  private static double dot(final double[] a, final double[] b) {
+    return a[0] * b[0] + a[1] * b[1] + a[2] * b[2];
+  }
+}
@@ -0,0 +1,127 @@
+package com.github.mmichaelis.phodeli.map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.mmichaelis.phodeli.geo.GeoBounds;
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+import com.github.mmichaelis.phodeli.route.Route;
+import com.github.mmichaelis.phodeli.route.RouteOptimizer;
+
+import java.util.stream.IntStream;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link MapContent}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class MapContentTest {
+
+  private static final double[] LATITUDES = {48.1D, 48.2D, 48.3D};
+  private static final double[] LONGITUDES = {11.5D, 11.6D, 11.7D};
+
+  @Test
+  void extendsCopies() {
+    MapContent empty = MapContent.empty();
+    MapContent content = empty.withSpots(LATITUDES, LONGITUDES)
+      .withRoute(LATITUDES, LONGITUDES)
+      .withBounds(GeoBounds.degrees(48D, 11D, 49D, 12D))
+      .withBounds(GeoBounds.degrees(-1D, 179D, 1D, -179D));
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(empty.getSpotCount()).isZero();
+    assertions.assertThat(empty.getRouteCount()).isZero();
+    assertions.assertThat(empty.getBoundsCount()).isZero();
+    assertions.assertThat(content.getSpotCount()).isEqualTo(3);
+    assertions.assertThat(content.getRouteCount()).isEqualTo(1);
+    assertions.assertThat(content.getBoundsCount()).isEqualTo(3);
+    assertions.assertAll();
+  }
+
+  @Test
+  void copiesSpots() {
+    double[] latitudes = LATITUDES.clone();
+    MapContent content = MapContent.empty().withSpots(latitudes, LONGITUDES);
+    latitudes[0] = 0D;
+    assertThat(content.getSpotLatitude(0)).isEqualTo(LATITUDES[0]);
+  }
+
+  @Test
+  void closesClosedRoutes() {
+    Route route = RouteOptimizer.closedRoute(LATITUDES, LONGITUDES);
+    MapContent content = MapContent.empty().withRoute(route, LATITUDES, LONGITUDES);
+    double[] latitudes = content.getRouteLatitudes(0);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(latitudes).hasSize(4);
+    assertions.assertThat(latitudes[3]).isEqualTo(latitudes[0]);
+    assertions.assertAll();
+  }
+
+  @Test
+  void reportsSpotsNearTileEdges() {
+    Tile tile = Tile.containing(GeoCoordinate.degrees(48.137154D, 11.576124D), 10);
+    GeoBounds bounds = tile.getBounds();
+    double north = bounds.getNorth().toDegrees();
+    double west = bounds.getWest().toDegrees();
+    // Just beyond the north-west corner, and far beyond it.
+    double[] latitudes = {north + 1.0E-4D, north + 0.1D};
+    double[] longitudes = {west - 1.0E-4D, west - 0.1D};
+    MapContent content = MapContent.empty().withSpots(latitudes, longitudes);
+    IntStream.Builder builder = IntStream.builder();
+    content.forEachSpot(tile, 5D, builder::add);
+    assertThat(builder.build().toArray()).containsExactly(0);
+  }
+
+  @Test
+  void reportsSpotsAcrossAntimeridian() {
+    double[] latitudes = {0.5D, 0.5D, 0.5D};
+    double[] longitudes = {-179.9999D, 179.9999D, 170D};
+    MapContent content = MapContent.empty().withSpots(latitudes, longitudes);
+    int zoom = 10;
+    int lastColumn = (1 << zoom) - 1;
+    IntStream.Builder east = IntStream.builder();
+    IntStream.Builder west = IntStream.builder();
+    IntStream.Builder world = IntStream.builder();
+    content.forEachSpot(Tile.containing(GeoCoordinate.degrees(0.5D, 179.9999D), zoom), 5D,
+                        east::add);
+    content.forEachSpot(Tile.containing(GeoCoordinate.degrees(0.5D, -179.9999D), zoom), 5D,
+                        west::add);
+    content.forEachSpot(Tile.tile(0, 0, 0), 5D, world::add);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(Tile.containing(GeoCoordinate.degrees(0.5D, 179.9999D), zoom).getX())
+      .isEqualTo(lastColumn);
+    assertions.assertThat(east.build().sorted().toArray()).containsExactly(0, 1);
+    assertions.assertThat(west.build().sorted().toArray()).containsExactly(0, 1);
+    assertions.assertThat(world.build().sorted().toArray()).containsExactly(0, 1, 2);
+    assertions.assertAll();
+  }
+
+  @Test
+  void skipsBoundsEnclosingTile() {
+    MapContent content = MapContent.empty().withBounds(GeoBounds.degrees(40D, 0D, 50D, 20D));
+    IntStream.Builder inside = IntStream.builder();
+    IntStream.Builder edge = IntStream.builder();
+    content.forEachBounds(Tile.containing(GeoCoordinate.degrees(45D, 10D), 10), 2D,
+                          inside::add);
+    content.forEachBounds(Tile.containing(GeoCoordinate.degrees(50D, 10D), 10), 2D,
+                          edge::add);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(inside.build().toArray()).isEmpty();
+    assertions.assertThat(edge.build().toArray()).containsExactly(0);
+    assertions.assertAll();
+  }
+
+  @Test
+  void rejectsArraysOfDifferentLength() {
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThatThrownBy(() -> MapContent.empty().withSpots(new double[2],
+                                                                     new double[1]))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertThatThrownBy(() -> MapContent.empty().withRoute(new double[2],
+                                                                     new double[1]))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertAll();
+  }
+}
@@ -0,0 +1,120 @@
+package com.github.mmichaelis.phodeli.map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.mmichaelis.phodeli.geo.GeoBounds;
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link TileBuckets}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class TileBucketsTest {
+
+  /**
+   * Using fixed seed to provide reproducible test runs.
+   */
+  private static final long RANDOM_SEED = 0L;
+  private static final int POINTS = 20_000;
+  private static final int ZOOM = 4;
+
+  @Test
+  void assignsEveryLocationToItsTile() {
+    Random random = new Random(RANDOM_SEED);
+    double[] latitudes = new double[POINTS];
+    double[] longitudes = new double[POINTS];
+    for (int i = 0; i < POINTS; i++) {
+      latitudes[i] = random.nextDouble() * 180D - 90D;
+      longitudes[i] = random.nextDouble() * 360D - 180D;
+    }
+    TileBuckets buckets = TileBuckets.bucket(latitudes, longitudes, ZOOM);
+
+    boolean[] seen = new boolean[POINTS];
+    int total = 0;
+    boolean allInTile = true;
+    boolean ascending = true;
+    for (Tile tile : buckets.getTiles()) {
+      int[] indices = buckets.indices(tile);
+      total += indices.length;
+      for (int i = 0; i < indices.length; i++) {
+        int index = indices[i];
+        seen[index] = true;
+        allInTile &= Tile.containing(
+          GeoCoordinate.degrees(latitudes[index], longitudes[index]), ZOOM).equals(tile);
+        ascending &= i == 0 || indices[i - 1] < index;
+      }
+    }
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(buckets.size()).isEqualTo(POINTS);
+    assertions.assertThat(buckets.getZoom()).isEqualTo(ZOOM);
+    assertions.assertThat(buckets.getTileCount()).isEqualTo(256);
+    assertions.assertThat(total).isEqualTo(POINTS);
+    assertions.assertThat(IntStream.range(0, POINTS).allMatch(i -> seen[i])).isTrue();
+    assertions.assertThat(allInTile).isTrue();
+    assertions.assertThat(ascending).isTrue();
+    assertions.assertAll();
+  }
+
+  @Test
+  void reportsOnlyOccupiedTilesInView() {
+    double[] latitudes = {48.1D, 48.2D, 52.5D, -33.9D, 0.5D, 0.5D};
+    double[] longitudes = {11.5D, 11.6D, 13.4D, 151.2D, 179.5D, -179.5D};
+    TileBuckets buckets = TileBuckets.bucket(latitudes, longitudes, 8);
+
+    List<Tile> bavaria = buckets.getTiles(GeoBounds.degrees(47D, 10D, 49D, 13D));
+    List<Tile> antimeridian = buckets.getTiles(GeoBounds.degrees(-1D, 179D, 1D, -179D));
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(buckets.getTileCount()).isEqualTo(5);
+    assertions.assertThat(bavaria).hasSize(1);
+    assertions.assertThat(buckets.indices(bavaria.get(0))).containsExactly(0, 1);
+    assertions.assertThat(antimeridian).hasSize(2);
+    assertions.assertAll();
+  }
+
+  @Test
+  void reportsIndicesToConsumer() {
+    double[] latitudes = {48.1D, 48.2D, 52.5D};
+    double[] longitudes = {11.5D, 11.6D, 13.4D};
+    TileBuckets buckets = TileBuckets.bucket(latitudes, longitudes, 8);
+    IntStream.Builder builder = IntStream.builder();
+    int count = buckets.forEach(Tile.containing(GeoCoordinate.degrees(48.1D, 11.5D), 8),
+                                builder::add);
+    int none = buckets.forEach(Tile.tile(8, 0, 0), i -> {
+    });
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(count).isEqualTo(2);
+    assertions.assertThat(builder.build().toArray()).containsExactly(0, 1);
+    assertions.assertThat(none).isEqualTo(0);
+    assertions.assertThat(buckets.indices(Tile.tile(8, 0, 0))).isEmpty();
+    assertions.assertAll();
+  }
+
+  @Test
+  void rejectsTileOfOtherZoom() {
+    TileBuckets buckets = TileBuckets.bucket(new double[]{0D}, new double[]{0D}, 8);
+    assertThatThrownBy(() -> buckets.indices(Tile.tile(7, 0, 0)))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void rejectsArraysOfDifferentLength() {
+    assertThatThrownBy(() -> TileBuckets.bucket(new double[2], new double[1], 8))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void handlesEmptyInput() {
+    TileBuckets buckets = TileBuckets.bucket(new double[0], new double[0], 8);
+    assertThat(buckets.getTiles()).isEmpty();
+  }
+}
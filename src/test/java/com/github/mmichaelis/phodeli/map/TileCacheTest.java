@@ -0,0 +1,68 @@
+package com.github.mmichaelis.phodeli.map;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link TileCache}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class TileCacheTest {
+
+  private static final Tile FIRST = Tile.tile(1, 0, 0);
+  private static final Tile SECOND = Tile.tile(1, 1, 0);
+  private static final Tile THIRD = Tile.tile(1, 0, 1);
+
+  @Test
+  void distinguishesContentHashes() {
+    TileCache cache = new TileCache(100L);
+    byte[] encoded = new byte[10];
+    cache.put(FIRST, 1L, encoded);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(cache.get(FIRST, 1L)).isSameAs(encoded);
+    assertions.assertThat(cache.get(FIRST, 2L)).isNull();
+    assertions.assertThat(cache.get(SECOND, 1L)).isNull();
+    assertions.assertAll();
+  }
+
+  @Test
+  void evictsLeastRecentlyUsed() {
+    TileCache cache = new TileCache(25L);
+    cache.put(FIRST, 0L, new byte[10]);
+    cache.put(SECOND, 0L, new byte[10]);
+    cache.get(FIRST, 0L);
+    cache.put(THIRD, 0L, new byte[10]);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(cache.get(FIRST, 0L)).isNotNull();
+    assertions.assertThat(cache.get(SECOND, 0L)).isNull();
+    assertions.assertThat(cache.get(THIRD, 0L)).isNotNull();
+    assertions.assertThat(cache.getSize()).isEqualTo(20L);
+    assertions.assertThat(cache.getEntryCount()).isEqualTo(2);
+    assertions.assertAll();
+  }
+
+  @Test
+  void skipsEntriesExceedingCapacity() {
+    TileCache cache = new TileCache(5L);
+    cache.put(FIRST, 0L, new byte[10]);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(cache.get(FIRST, 0L)).isNull();
+    assertions.assertThat(cache.getSize()).isZero();
+    assertions.assertAll();
+  }
+
+  @Test
+  void replacesEntries() {
+    TileCache cache = new TileCache(100L);
+    cache.put(FIRST, 0L, new byte[10]);
+    cache.put(FIRST, 0L, new byte[20]);
+    cache.clear();
+    cache.put(SECOND, 0L, new byte[5]);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(cache.getSize()).isEqualTo(5L);
+    assertions.assertThat(cache.getEntryCount()).isEqualTo(1);
+    assertions.assertAll();
+  }
+}
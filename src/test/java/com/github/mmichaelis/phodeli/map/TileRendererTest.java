@@ -0,0 +1,221 @@
+package com.github.mmichaelis.phodeli.map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.mmichaelis.phodeli.geo.GeoBounds;
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import javax.imageio.ImageIO;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link TileRenderer}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class TileRendererTest {
+
+  /**
+   * Using fixed seed to provide reproducible test runs.
+   */
+  private static final long RANDOM_SEED = 0L;
+  private static final int POINTS = 500;
+  private static final int ZOOM = 10;
+  private static final GeoBounds MUNICH_AREA = GeoBounds.degrees(47.9D, 11.2D, 48.4D, 12D);
+
+  @Test
+  void drawsSpotsOnTransparentTile() throws IOException {
+    double[] latitudes = {48.137154D};
+    double[] longitudes = {11.576124D};
+    MapContent content = MapContent.empty().withSpots(latitudes, longitudes);
+    Tile tile = Tile.containing(GeoCoordinate.degrees(latitudes[0], longitudes[0]), ZOOM);
+    float[] xs = new float[1];
+    float[] ys = new float[1];
+    tile.toPixels(latitudes, longitudes, xs, ys, 1);
+
+    BufferedImage image = ImageIO.read(new ByteArrayInputStream(
+      TileRenderer.renderer().render(content, tile)));
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(image.getWidth()).isEqualTo(WebMercator.TILE_SIZE);
+    assertions.assertThat(image.getHeight()).isEqualTo(WebMercator.TILE_SIZE);
+    assertions.assertThat(image.getRGB((int) xs[0], (int) ys[0]) >>> 24).isEqualTo(0xFF);
+    assertions.assertThat(image.getRGB(((int) xs[0] + 128) % 256, ((int) ys[0] + 128) % 256))
+      .isEqualTo(0);
+    assertions.assertAll();
+  }
+
+  @Test
+  void drawsRoutesAndBounds() {
+    MapContent content = MapContent.empty()
+      .withRoute(new double[]{48.1D, 48.1D}, new double[]{11.3D, 11.9D})
+      .withBounds(GeoBounds.degrees(47D, 10D, 49.5D, 13D));
+    Tile routeTile = Tile.containing(GeoCoordinate.degrees(48.1D, 11.6D), ZOOM);
+    Tile boundsTile = Tile.containing(GeoCoordinate.degrees(49.5D, 11.6D), ZOOM);
+    Tile insideTile = Tile.containing(GeoCoordinate.degrees(48.5D, 11.6D), ZOOM);
+    TileRenderer renderer = TileRenderer.renderer();
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(opaquePixels(renderer.renderImage(content, routeTile)))
+      .isGreaterThan(WebMercator.TILE_SIZE);
+    assertions.assertThat(opaquePixels(renderer.renderImage(content, boundsTile)))
+      .isGreaterThan(WebMercator.TILE_SIZE / 2);
+    assertions.assertThat(opaquePixels(renderer.renderImage(content, insideTile))).isZero();
+    assertions.assertAll();
+  }
+
+  @Test
+  void drawsRouteAcrossAntimeridianOnBothEdges() {
+    MapContent content = MapContent.empty()
+      .withRoute(new double[]{0D, 0D}, new double[]{179D, -179D});
+    TileRenderer renderer = TileRenderer.renderer();
+    BufferedImage east = renderer.renderImage(content, Tile.tile(2, 3, 1));
+    BufferedImage west = renderer.renderImage(content, Tile.tile(2, 0, 1));
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(east.getRGB(255, 255) >>> 24).isNotZero();
+    assertions.assertThat(west.getRGB(0, 255) >>> 24).isNotZero();
+    assertions.assertThat(west.getRGB(128, 255)).isZero();
+    assertions.assertAll();
+  }
+
+  @Test
+  void drawsSpotsAcrossAntimeridianOnBothEdges() {
+    MapContent content = MapContent.empty()
+      .withSpots(new double[]{0D}, new double[]{179.999D});
+    TileRenderer renderer = TileRenderer.renderer();
+    BufferedImage east = renderer.renderImage(content, Tile.tile(2, 3, 1));
+    BufferedImage west = renderer.renderImage(content, Tile.tile(2, 0, 1));
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(east.getRGB(255, 255) >>> 24).isNotZero();
+    assertions.assertThat(west.getRGB(0, 255) >>> 24).isNotZero();
+    assertions.assertThat(west.getRGB(128, 255)).isZero();
+    assertions.assertAll();
+  }
+
+  @Test
+  void servesUnchangedTilesFromCache() {
+    MapContent content = randomContent();
+    List<Tile> tiles = Tile.covering(MUNICH_AREA, ZOOM);
+    TileRenderer renderer = TileRenderer.renderer();
+    Map<Tile, byte[]> first = renderer.render(content, tiles);
+    long rendered = renderer.getRenderCount();
+    Map<Tile, byte[]> second = renderer.render(content, tiles);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(first.keySet()).containsExactlyElementsOf(tiles);
+    assertions.assertThat(rendered).isEqualTo(tiles.size());
+    assertions.assertThat(renderer.getRenderCount()).isEqualTo(rendered);
+    assertions.assertThat(renderer.getCachedTileCount()).isEqualTo(tiles.size());
+    assertions.assertThat(second.get(tiles.get(0))).isEqualTo(first.get(tiles.get(0)));
+    assertions.assertAll();
+  }
+
+  @Test
+  void protectsCachedTilesFromModification() {
+    MapContent content = randomContent();
+    Tile tile = Tile.covering(MUNICH_AREA, ZOOM).get(0);
+    TileRenderer renderer = TileRenderer.renderer();
+    byte[] first = renderer.render(content, tile);
+    byte[] expected = first.clone();
+    first[0] = (byte) ~first[0];
+    byte[] second = renderer.render(content, tile);
+    second[1] = (byte) ~second[1];
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(renderer.render(content, tile)).isEqualTo(expected);
+    assertions.assertThat(renderer.getRenderCount()).isEqualTo(1L);
+    assertions.assertAll();
+  }
+
+  @Test
+  void rendersOnlyTilesAroundChangedSpots() {
+    Random random = new Random(RANDOM_SEED);
+    double[] latitudes = new double[POINTS];
+    double[] longitudes = new double[POINTS];
+    fill(random, latitudes, longitudes);
+    MapContent content = MapContent.empty().withSpots(latitudes, longitudes);
+    List<Tile> tiles = Tile.covering(MUNICH_AREA, ZOOM);
+    TileRenderer renderer = TileRenderer.renderer();
+    renderer.render(content, tiles);
+    long rendered = renderer.getRenderCount();
+
+    latitudes[0] = 48.137154D;
+    longitudes[0] = 11.576124D;
+    renderer.render(content.withSpots(latitudes, longitudes), tiles);
+    // The old and the new position each affect at most four tiles.
+    assertThat(renderer.getRenderCount() - rendered).isBetween(2L, 8L);
+  }
+
+  @Test
+  void evictsLeastRecentlyUsedTiles() {
+    MapContent content = randomContent();
+    List<Tile> tiles = Tile.covering(MUNICH_AREA, ZOOM);
+    TileRenderer unbounded = TileRenderer.renderer();
+    unbounded.render(content, tiles);
+    TileRenderer bounded = TileRenderer.renderer(unbounded.getCacheSize() / 2L);
+    bounded.render(content, tiles);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(bounded.getCacheSize()).isLessThanOrEqualTo(
+      unbounded.getCacheSize() / 2L);
+    assertions.assertThat(bounded.getCachedTileCount()).isLessThan(tiles.size());
+    assertions.assertAll();
+    bounded.clearCache();
+    assertThat(bounded.getCachedTileCount()).isZero();
+  }
+
+  @Test
+  void contentHashOnlyDependsOnTileContent() {
+    MapContent content = randomContent();
+    Tile empty = Tile.tile(ZOOM, 0, 0);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(TileRenderer.contentHash(content, empty))
+      .isEqualTo(TileRenderer.contentHash(MapContent.empty(), empty));
+    assertions.assertThat(TileRenderer.contentHash(content, Tile.containing(
+      GeoCoordinate.degrees(48.137154D, 11.576124D), ZOOM)))
+      .isNotEqualTo(TileRenderer.contentHash(MapContent.empty(), Tile.containing(
+        GeoCoordinate.degrees(48.137154D, 11.576124D), ZOOM)));
+    assertions.assertAll();
+  }
+
+  @Test
+  void rejectsNegativeCapacity() {
+    assertThatThrownBy(() -> TileRenderer.renderer(-1L))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static MapContent randomContent() {
+    Random random = new Random(RANDOM_SEED);
+    double[] latitudes = new double[POINTS];
+    double[] longitudes = new double[POINTS];
+    fill(random, latitudes, longitudes);
+    return MapContent.empty().withSpots(latitudes, longitudes).withBounds(MUNICH_AREA);
+  }
+
+  private static void fill(final Random random,
+                           final double[] latitudes,
+                           final double[] longitudes) {
+    for (int i = 0; i < latitudes.length; i++) {
+      latitudes[i] = 47.9D + random.nextDouble() * 0.5D;
+      longitudes[i] = 11.2D + random.nextDouble() * 0.8D;
+    }
+  }
+
+  private static int opaquePixels(final BufferedImage image) {
+    int count = 0;
+    for (int y = 0; y < image.getHeight(); y++) {
+      for (int x = 0; x < image.getWidth(); x++) {
+        if (image.getRGB(x, y) >>> 24 != 0) {
+          count++;
+        }
+      }
+    }
+    return count;
+  }
+}
@@ -0,0 +1,141 @@
+package com.github.mmichaelis.phodeli.map;
+
+import static com.github.mmichaelis.phodeli.map.Tile.tile;
+import static com.github.mmichaelis.phodeli.test.SerializableCondition.serializable;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.testing.EqualsTester;
+
+import com.github.mmichaelis.phodeli.geo.GeoBounds;
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+import com.github.mmichaelis.phodeli.measure.Angle;
+
+import java.util.List;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link Tile}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class TileTest {
+
+  private static final Offset<Double> TOLERANCE = Offset.offset(1.0E-6D);
+  private static final GeoCoordinate MUNICH = GeoCoordinate.degrees(48.137154D, 11.576124D);
+
+  @Test
+  void findsContainingTile() {
+    Tile tile = Tile.containing(MUNICH, 10);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(tile.getZoom()).isEqualTo(10);
+    assertions.assertThat(tile.getX()).isEqualTo(544);
+    assertions.assertThat(tile.getY()).isEqualTo(355);
+    assertions.assertThat(tile.getBounds().contains(MUNICH)).isTrue();
+    assertions.assertAll();
+  }
+
+  @Test
+  void assignsCoordinatesBeyondLimitsToEdgeTiles() {
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(Tile.containing(GeoCoordinate.degrees(90D, 180D), 3))
+      .isEqualTo(tile(3, 7, 0));
+    assertions.assertThat(Tile.containing(GeoCoordinate.degrees(-90D, -180D), 3))
+      .isEqualTo(tile(3, 0, 7));
+    assertions.assertAll();
+  }
+
+  @Test
+  void providesBounds() {
+    GeoBounds bounds = tile(1, 1, 0).getBounds();
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(bounds.getSouth().toDegrees()).isCloseTo(0D, TOLERANCE);
+    assertions.assertThat(bounds.getWest().toDegrees()).isCloseTo(0D, TOLERANCE);
+    assertions.assertThat(bounds.getNorth().toDegrees())
+      .isCloseTo(WebMercator.MAX_LATITUDE_DEGREES, TOLERANCE);
+    assertions.assertThat(bounds.getEast().toDegrees()).isCloseTo(180D, TOLERANCE);
+    assertions.assertAll();
+  }
+
+  @Test
+  void coversBounds() {
+    List<Tile> tiles = Tile.covering(GeoBounds.degrees(-10D, -10D, 10D, 10D), 2);
+    List<Tile> crossing = Tile.covering(GeoBounds.degrees(-10D, 170D, 10D, -170D), 2);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(tiles).containsExactly(tile(2, 1, 1), tile(2, 2, 1),
+                                                 tile(2, 1, 2), tile(2, 2, 2));
+    assertions.assertThat(crossing).containsExactly(tile(2, 3, 1), tile(2, 0, 1),
+                                                    tile(2, 3, 2), tile(2, 0, 2));
+    assertions.assertThat(Tile.covering(GeoBounds.WORLD, 3)).hasSize(64);
+    assertions.assertThat(Tile.covering(GeoBounds.degrees(-10D, 170D, 10D, -170D), 0))
+      .containsExactly(tile(0, 0, 0));
+    assertions.assertThat(Tile.covering(GeoBounds.degrees(-10D, 10D, 10D, 5D), 3))
+      .hasSize(16)
+      .doesNotHaveDuplicates()
+      .startsWith(tile(3, 4, 3), tile(3, 5, 3), tile(3, 6, 3));
+    assertions.assertAll();
+  }
+
+  @Test
+  void providesParent() {
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(tile(10, 544, 355).getParent()).isEqualTo(tile(9, 272, 177));
+    assertions.assertThatThrownBy(() -> tile(0, 0, 0).getParent())
+      .isInstanceOf(IllegalStateException.class);
+    assertions.assertAll();
+  }
+
+  @Test
+  void providesResolution() {
+    assertThat(tile(1, 0, 0).getResolution().toMeters())
+      .isLessThan(WebMercator.groundResolution(
+        Angle.degrees(0D), 1).toMeters());
+  }
+
+  @Test
+  void projectsToPixelsRelativeToTile() {
+    Tile tile = Tile.containing(MUNICH, 10);
+    double[] latitudes = {MUNICH.getLatitude().toDegrees(),
+                          tile.getBounds().getNorth().toDegrees()};
+    double[] longitudes = {MUNICH.getLongitude().toDegrees(),
+                           tile.getBounds().getWest().toDegrees()};
+    float[] xs = new float[2];
+    float[] ys = new float[2];
+    tile.toPixels(latitudes, longitudes, xs, ys, 2);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(xs[0]).isBetween(0F, 256F);
+    assertions.assertThat(ys[0]).isBetween(0F, 256F);
+    assertions.assertThat((double) xs[1]).isCloseTo(0D, Offset.offset(0.001D));
+    assertions.assertThat((double) ys[1]).isCloseTo(0D, Offset.offset(0.001D));
+    assertions.assertAll();
+  }
+
+  @Test
+  void rejectsTilesOutOfRange() {
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThatThrownBy(() -> tile(1, 2, 0))
+      .isInstanceOf(IndexOutOfBoundsException.class);
+    assertions.assertThatThrownBy(() -> tile(1, 0, -1))
+      .isInstanceOf(IndexOutOfBoundsException.class);
+    assertions.assertThatThrownBy(() -> tile(31, 0, 0))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertAll();
+  }
+
+  @Test
+  void fulfillsEqualsContract() {
+    new EqualsTester()
+      .addEqualityGroup(tile(2, 1, 3), tile(2, 1, 3))
+      .addEqualityGroup(tile(3, 1, 3))
+      .addEqualityGroup(tile(2, 3, 1))
+      .testEquals();
+  }
+
+  @Test
+  void isSerializable() {
+    assertThat(tile(2, 1, 3)).is(serializable());
+  }
+}
@@ -0,0 +1,120 @@
+package com.github.mmichaelis.phodeli.map;
+
+import static com.github.mmichaelis.phodeli.map.WebMercator.MAX_LATITUDE_DEGREES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+import com.github.mmichaelis.phodeli.measure.Angle;
+
+import java.util.Random;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link WebMercator}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class WebMercatorTest {
+
+  private static final Offset<Double> TOLERANCE = Offset.offset(1.0E-9D);
+  /**
+   * Using fixed seed to provide reproducible test runs.
+   */
+  private static final long RANDOM_SEED = 0L;
+  private static final int POINTS = 10_000;
+
+  @Test
+  void projectsWorldCorners() {
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(WebMercator.x(Angle.degrees(-180D))).isCloseTo(0D, TOLERANCE);
+    assertions.assertThat(WebMercator.x(Angle.degrees(0D))).isCloseTo(0.5D, TOLERANCE);
+    assertions.assertThat(WebMercator.x(Angle.degrees(180D))).isCloseTo(1D, TOLERANCE);
+    assertions.assertThat(WebMercator.y(Angle.degrees(MAX_LATITUDE_DEGREES)))
+      .isCloseTo(0D, TOLERANCE);
+    assertions.assertThat(WebMercator.y(Angle.degrees(0D))).isCloseTo(0.5D, TOLERANCE);
+    assertions.assertThat(WebMercator.y(Angle.degrees(-MAX_LATITUDE_DEGREES)))
+      .isCloseTo(1D, TOLERANCE);
+    assertions.assertAll();
+  }
+
+  @Test
+  void clampsLatitudesBeyondLimit() {
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(WebMercator.y(Angle.degrees(90D))).isCloseTo(0D, TOLERANCE);
+    assertions.assertThat(WebMercator.y(Angle.degrees(-90D))).isCloseTo(1D, TOLERANCE);
+    assertions.assertAll();
+  }
+
+  @Test
+  void inverseRestoresCoordinate() {
+    GeoCoordinate munich = GeoCoordinate.degrees(48.137154D, 11.576124D);
+    GeoCoordinate restored = WebMercator.coordinate(WebMercator.x(munich.getLongitude()),
+                                                    WebMercator.y(munich.getLatitude()));
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(restored.getLatitude().toDegrees()).isCloseTo(48.137154D, TOLERANCE);
+    assertions.assertThat(restored.getLongitude().toDegrees()).isCloseTo(11.576124D, TOLERANCE);
+    assertions.assertAll();
+  }
+
+  @Test
+  void bulkProjectionMatchesSingleProjection() {
+    Random random = new Random(RANDOM_SEED);
+    double[] latitudes = new double[POINTS];
+    double[] longitudes = new double[POINTS];
+    for (int i = 0; i < POINTS; i++) {
+      latitudes[i] = random.nextDouble() * 170D - 85D;
+      longitudes[i] = random.nextDouble() * 360D - 180D;
+    }
+    double[] xs = new double[POINTS];
+    double[] ys = new double[POINTS];
+    WebMercator.project(latitudes, longitudes, xs, ys, POINTS);
+    double[] restoredLatitudes = new double[POINTS];
+    double[] restoredLongitudes = new double[POINTS];
+    WebMercator.unproject(xs, ys, restoredLatitudes, restoredLongitudes, POINTS);
+
+    double maxDeviation = 0D;
+    for (int i = 0; i < POINTS; i++) {
+      maxDeviation = Math.max(maxDeviation, Math.abs(
+        xs[i] - WebMercator.x(Angle.degrees(longitudes[i]))));
+      maxDeviation = Math.max(maxDeviation, Math.abs(
+        ys[i] - WebMercator.y(Angle.degrees(latitudes[i]))));
+      maxDeviation = Math.max(maxDeviation, Math.abs(restoredLatitudes[i] - latitudes[i]));
+      maxDeviation = Math.max(maxDeviation, Math.abs(restoredLongitudes[i] - longitudes[i]));
+    }
+    assertThat(maxDeviation).isLessThan(1.0E-9D);
+  }
+
+  @Test
+  void groundResolutionShrinksWithZoomAndLatitude() {
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(WebMercator.groundResolution(Angle.degrees(0D), 0).toMeters())
+      .isCloseTo(156_543.03D, Offset.offset(0.01D));
+    assertions.assertThat(WebMercator.groundResolution(Angle.degrees(0D), 10).toMeters())
+      .isCloseTo(152.87D, Offset.offset(0.01D));
+    assertions.assertThat(WebMercator.groundResolution(Angle.degrees(60D), 10).toMeters())
+      .isCloseTo(152.87D / 2D, Offset.offset(0.01D));
+    assertions.assertAll();
+  }
+
+  @Test
+  void providesWorldSize() {
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(WebMercator.worldSize(0)).isEqualTo(256L);
+    assertions.assertThat(WebMercator.worldSize(30)).isEqualTo(256L << 30);
+    assertions.assertAll();
+  }
+
+  @Test
+  void rejectsInvalidZoom() {
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThatThrownBy(() -> WebMercator.worldSize(-1))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertThatThrownBy(() -> WebMercator.groundResolution(Angle.degrees(0D), 31))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertAll();
+  }
+}
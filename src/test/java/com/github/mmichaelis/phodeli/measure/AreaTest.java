@@ -0,0 +1,148 @@
+package com.github.mmichaelis.phodeli.measure;
+
+import static com.github.mmichaelis.phodeli.measure.Area.ac;
+import static com.github.mmichaelis.phodeli.measure.Area.area;
+import static com.github.mmichaelis.phodeli.measure.Area.ha;
+import static com.github.mmichaelis.phodeli.measure.Area.km2;
+import static com.github.mmichaelis.phodeli.measure.Area.m2;
+import static com.github.mmichaelis.phodeli.measure.Area.mi2;
+import static com.github.mmichaelis.phodeli.measure.AreaUnit.ACRES;
+import static com.github.mmichaelis.phodeli.measure.AreaUnit.HECTARES;
+import static com.github.mmichaelis.phodeli.measure.AreaUnit.SQUARE_KILOMETERS;
+import static com.github.mmichaelis.phodeli.measure.AreaUnit.SQUARE_METERS;
+import static com.github.mmichaelis.phodeli.measure.AreaUnit.SQUARE_MILES;
+import static com.github.mmichaelis.phodeli.test.LocaleHelpers.usingDefaultLocale;
+import static com.github.mmichaelis.phodeli.test.SerializableCondition.serializable;
+import static java.util.Arrays.stream;
+import static java.util.Locale.ROOT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.primitives.Doubles;
+import com.google.common.testing.EqualsTester;
+
+import com.github.mmichaelis.phodeli.test.RestoreState;
+
+import java.util.AbstractMap.SimpleEntry;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.data.Offset;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+/**
+ * Tests {@link Area}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class AreaTest {
+
+  private static final Offset<Double> TOLERANCE = Offset.offset(0.0001D);
+
+  private static final Map<@NotNull AreaUnit, @NotNull Function<@NotNull Double, @NotNull Area>>
+    UNIT_TO_CREATE_METHOD
+    = Collections
+    .unmodifiableMap(Stream.of(
+      new SimpleEntry<AreaUnit, Function<Double, Area>>(SQUARE_METERS, Area::m2),
+      new SimpleEntry<AreaUnit, Function<Double, Area>>(ACRES, Area::ac),
+      new SimpleEntry<AreaUnit, Function<Double, Area>>(HECTARES, Area::ha),
+      new SimpleEntry<AreaUnit, Function<Double, Area>>(SQUARE_KILOMETERS, Area::km2),
+      new SimpleEntry<AreaUnit, Function<Double, Area>>(SQUARE_MILES, Area::mi2))
+                       .collect(Collectors.toMap(SimpleEntry::getKey, SimpleEntry::getValue)));
+
+  private static final Map<@NotNull AreaUnit, @NotNull Function<@NotNull Area, @NotNull Double>>
+    UNIT_TO_CONVERT_METHOD
+    = Collections
+    .unmodifiableMap(Stream.of(
+      new SimpleEntry<AreaUnit, Function<Area, Double>>(SQUARE_METERS, Area::toSquareMeters),
+      new SimpleEntry<AreaUnit, Function<Area, Double>>(ACRES, Area::toAcres),
+      new SimpleEntry<AreaUnit, Function<Area, Double>>(HECTARES, Area::toHectares),
+      new SimpleEntry<AreaUnit, Function<Area, Double>>(SQUARE_KILOMETERS,
+                                                        Area::toSquareKilometers),
+      new SimpleEntry<AreaUnit, Function<Area, Double>>(SQUARE_MILES, Area::toSquareMiles))
+                       .collect(Collectors.toMap(SimpleEntry::getKey, SimpleEntry::getValue)));
+
+  @Test
+  void areaIsSerializable() {
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(m2(1D)).is(serializable());
+    assertions.assertThat(ha(1D)).is(serializable());
+    assertions.assertAll();
+  }
+
+  @TestFactory
+  Stream<@NotNull DynamicTest> methodsExistForEveryAreaUnit() {
+    Iterator<@NotNull AreaUnit> inputGenerator = stream(AreaUnit.values()).iterator();
+    return DynamicTest.stream(inputGenerator, Enum::name, areaUnit -> {
+      Area area = UNIT_TO_CREATE_METHOD.get(areaUnit).apply(1D);
+      SoftAssertions assertions = new SoftAssertions();
+      assertions.assertThat(area.get(areaUnit)).isEqualTo(1D);
+      assertions.assertThat(UNIT_TO_CONVERT_METHOD.get(areaUnit).apply(area)).isEqualTo(1D);
+      assertions.assertThat(area.transform(areaUnit)).isSameAs(area);
+      assertions.assertThat(area.transform(SQUARE_METERS).get(areaUnit))
+        .isCloseTo(1D, TOLERANCE);
+      assertions.assertAll();
+    });
+  }
+
+  @Test
+  void convertsBetweenWellKnownUnits() {
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(km2(1D).toHectares()).isCloseTo(100D, TOLERANCE);
+    assertions.assertThat(ha(1D).toSquareMeters()).isCloseTo(10_000D, TOLERANCE);
+    assertions.assertThat(mi2(1D).toAcres()).isCloseTo(640D, TOLERANCE);
+    assertions.assertThat(ac(1D).toSquareMeters()).isCloseTo(4046.8564224D, TOLERANCE);
+    assertions.assertThat(mi2(1D).toSquareKilometers()).isCloseTo(2.589988D, TOLERANCE);
+    assertions.assertAll();
+  }
+
+  @Test
+  void fulfillsEqualsHashCodeContract() {
+    new EqualsTester()
+      .addEqualityGroup(m2(1D), m2(1D))
+      .addEqualityGroup(m2(2D), m2(2D))
+      .addEqualityGroup(ac(1D), ac(1D))
+      .addEqualityGroup(ha(1D), ha(1D))
+      .addEqualityGroup(km2(1D), km2(1D))
+      .addEqualityGroup(mi2(1D), mi2(1D))
+      .testEquals();
+  }
+
+  @Test
+  void formatByDefaultLocaleWorksAsExpected() {
+    String squareMeters;
+    String hectares;
+    try (RestoreState ignored = usingDefaultLocale(ROOT)) {
+      squareMeters = String.format("%s", area(1.23456789D, SQUARE_METERS));
+      hectares = String.format("%s", ha(12.34D));
+    }
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(squareMeters).isEqualTo("1.234568 m²");
+    assertions.assertThat(hectares).isEqualTo("12.340000 ha");
+    assertions.assertAll();
+  }
+
+  @Test
+  void comparisonWorksAcrossAreaUnits() {
+    List<@NotNull Area> areas = Arrays.asList(
+      m2(5D).transform(SQUARE_MILES),
+      m2(4D).transform(SQUARE_KILOMETERS),
+      m2(3D).transform(HECTARES),
+      m2(2D).transform(ACRES),
+      m2(1D)
+    );
+    Collections.sort(areas);
+    assertThat(areas).isSortedAccordingTo(
+      (o1, o2) -> Doubles.compare(o1.toSquareMeters(), o2.toSquareMeters()));
+  }
+}
@@ -0,0 +1,168 @@
+package com.github.mmichaelis.phodeli.measure;
+
+import static java.util.Arrays.stream;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.mmichaelis.phodeli.test.SpecificationContract;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.SoftAssertions;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.function.ThrowingConsumer;
+
+/**
+ * Tests {@link AreaUnit}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class AreaUnitTest {
+
+  private static Function<Double, Double> getDirectConvertFunction(
+    @NotNull final AreaUnit sourceUnit,
+    @NotNull final AreaUnit targetUnit) {
+    Function<Double, Double> convertFunction;
+    switch (targetUnit) {
+      case SQUARE_METERS:
+        convertFunction = sourceUnit::toSquareMeters;
+        break;
+      case ACRES:
+        convertFunction = sourceUnit::toAcres;
+        break;
+      case HECTARES:
+        convertFunction = sourceUnit::toHectares;
+        break;
+      case SQUARE_KILOMETERS:
+        convertFunction = sourceUnit::toSquareKilometers;
+        break;
+      case SQUARE_MILES:
+        convertFunction = sourceUnit::toSquareMiles;
+        break;
+      default:
+        throw new UnsupportedOperationException("Unknown target unit " + targetUnit);
+    }
+    return convertFunction;
+  }
+
+  @NotNull
+  private static Function<Double, Double> getIndirectConvertFunction(final AreaUnit sourceUnit,
+                                                                   final AreaUnit targetUnit) {
+    return value -> targetUnit.convert(value, sourceUnit);
+  }
+
+  @TestFactory
+  Stream<DynamicTest> convertWorksAsExpected() {
+    AreaUnit[] units = AreaUnit.values();
+    Iterator<? extends SpecificationContract> inputGenerator =
+      stream(units)
+        .map(sourceUnit ->
+               stream(units)
+                 .map(targetUnit -> new DoubleMeasureConversionContract<>(
+                   sourceUnit,
+                   targetUnit,
+                   getIndirectConvertFunction(sourceUnit, targetUnit),
+                   getIndirectConvertFunction(targetUnit, sourceUnit),
+                   getDirectConvertFunction(sourceUnit, targetUnit)))
+                 .collect(toList()))
+        .flatMap(Collection::stream)
+        .iterator();
+    Function<SpecificationContract, String> displayNameGenerator =
+      SpecificationContract::describe;
+    ThrowingConsumer<SpecificationContract> testExecutor =
+      SpecificationContract::perform;
+    return DynamicTest.stream(inputGenerator, displayNameGenerator, testExecutor);
+  }
+
+  @TestFactory
+  Stream<DynamicTest> determinesCorrectMaxPrecision() {
+    AreaUnit[] units = AreaUnit.values();
+    Iterator<? extends SpecificationContract> inputGenerator =
+      stream(units)
+        .map(sourceUnit ->
+               stream(units)
+                 .map(targetUnit -> new MaxPrecisionContract(sourceUnit, targetUnit))
+                 .collect(toList()))
+        .flatMap(Collection::stream)
+        .iterator();
+    Function<SpecificationContract, String> displayNameGenerator =
+      SpecificationContract::describe;
+    ThrowingConsumer<SpecificationContract> testExecutor =
+      SpecificationContract::perform;
+    return DynamicTest.stream(inputGenerator, displayNameGenerator, testExecutor);
+  }
+
+  @TestFactory
+  Stream<DynamicTest> providesSymbol() {
+    Iterator<AreaUnit> inputGenerator = stream(AreaUnit.values()).iterator();
+    Function<AreaUnit, String> nameGenerator = Enum::name;
+    ThrowingConsumer<AreaUnit> testExecutor = input -> assertThat(input.getSymbol()).isNotEmpty();
+    return DynamicTest.stream(inputGenerator, nameGenerator, testExecutor);
+  }
+
+  @Test
+  void providesUniqueSymbol() {
+    List<String> symbols = Arrays.stream(AreaUnit.values()).map(AreaUnit::getSymbol)
+      .collect(Collectors.toList());
+    assertThat(symbols).doesNotHaveDuplicates();
+  }
+
+  private static final class MaxPrecisionContract implements SpecificationContract {
+
+    @NotNull
+    private final AreaUnit unit1;
+    @NotNull
+    private final AreaUnit unit2;
+
+    private MaxPrecisionContract(@NotNull final AreaUnit unit1, @NotNull final AreaUnit unit2) {
+      this.unit1 = unit1;
+      this.unit2 = unit2;
+    }
+
+    @NotNull
+    @Override
+    @Contract(pure = true)
+    public String describe() {
+      return "max precision contract should be fulfilled for " + unit1 + " and " + unit2;
+    }
+
+    @Override
+    public void perform() {
+      AreaUnit maxUnit = unit1.maxPrecision(unit2);
+      AreaUnit otherMaxUnit = unit2.maxPrecision(unit1);
+      double amount = 1D;
+      AreaUnit minUnit;
+
+      // Hard assertion as this is the requirement for all other assertions.
+      assertThat(maxUnit).isSameAs(otherMaxUnit);
+
+      if (unit1 == maxUnit) {
+        minUnit = unit2;
+      } else {
+        minUnit = unit1;
+      }
+
+      if (minUnit == maxUnit) {
+        // nothing more to test
+        return;
+      }
+
+      SoftAssertions assertions = new SoftAssertions();
+      assertions.assertThat(maxUnit.convert(amount, minUnit)).isGreaterThan(amount);
+      assertions.assertThat(minUnit.convert(amount, maxUnit)).isLessThan(amount);
+      assertions.assertAll();
+    }
+  }
+
+}
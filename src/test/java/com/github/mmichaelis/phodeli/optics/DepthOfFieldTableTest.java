@@ -0,0 +1,117 @@
+package com.github.mmichaelis.phodeli.optics;
+
+import static com.github.mmichaelis.phodeli.optics.DepthOfField.depthOfField;
+
+import com.github.mmichaelis.phodeli.measure.Length;
+
+import java.util.Random;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link DepthOfFieldTable}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class DepthOfFieldTableTest {
+
+  /**
+   * Using fixed seed to provide reproducible test runs.
+   */
+  private static final long RANDOM_SEED = 0L;
+  private static final int LOOKUPS = 10_000;
+  private static final double[] FOCAL_LENGTHS = {14D, 24D, 35D, 50D, 85D, 135D, 200D};
+  private static final double[] APERTURES = {1.4D, 2D, 2.8D, 4D, 5.6D, 8D, 11D, 16D, 22D};
+  private static final double[] SUBJECT_DISTANCES = {0.5D, 1D, 2D, 5D, 10D, 50D, 1000D};
+  private static final Offset<Double> TOLERANCE = Offset.offset(1.0E-9D);
+  private static final double RELATIVE_TOLERANCE = 0.005D;
+  private static final DepthOfField DEPTH_OF_FIELD = depthOfField(Length.mm(0.03D));
+
+  @Test
+  void matchesExactValuesOnGrid() {
+    DepthOfFieldTable table = DEPTH_OF_FIELD.table(FOCAL_LENGTHS, APERTURES, SUBJECT_DISTANCES);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(table.getEntryCount()).isEqualTo(7 * 9 * 7);
+    for (double focalLength : FOCAL_LENGTHS) {
+      for (double aperture : APERTURES) {
+        Length focal = Length.mm(focalLength);
+        assertions.assertThat(table.hyperfocalDistance(focal, aperture).toMeters())
+          .isCloseTo(DEPTH_OF_FIELD.hyperfocalDistance(focal, aperture).toMeters(), TOLERANCE);
+        for (double distance : SUBJECT_DISTANCES) {
+          Length subject = Length.m(distance);
+          assertions.assertThat(table.nearLimit(focal, aperture, subject).toMeters())
+            .isCloseTo(DEPTH_OF_FIELD.nearLimit(focal, aperture, subject).toMeters(),
+                       TOLERANCE);
+          assertions.assertThat(table.farLimit(focal, aperture, subject).toMeters())
+            .isEqualTo(DEPTH_OF_FIELD.farLimit(focal, aperture, subject).toMeters(),
+                       TOLERANCE);
+        }
+      }
+    }
+    assertions.assertAll();
+  }
+
+  @Test
+  void interpolatesBetweenGridValues() {
+    DepthOfFieldTable table = DEPTH_OF_FIELD.table(FOCAL_LENGTHS, APERTURES, SUBJECT_DISTANCES);
+    Random random = new Random(RANDOM_SEED);
+    SoftAssertions assertions = new SoftAssertions();
+    for (int i = 0; i < LOOKUPS; i++) {
+      Length focal = Length.mm(14D + 186D * random.nextDouble());
+      double aperture = 1.4D + 20.6D * random.nextDouble();
+      Length subject = Length.m(0.5D + 999.5D * random.nextDouble() * random.nextDouble());
+      double near = DEPTH_OF_FIELD.nearLimit(focal, aperture, subject).toMeters();
+      assertions.assertThat(table.nearLimit(focal, aperture, subject).toMeters())
+        .isCloseTo(near, Offset.offset(near * RELATIVE_TOLERANCE));
+      double hyperfocal = DEPTH_OF_FIELD.hyperfocalDistance(focal, aperture).toMeters();
+      assertions.assertThat(table.hyperfocalDistance(focal, aperture).toMeters())
+        .isCloseTo(hyperfocal, Offset.offset(hyperfocal * RELATIVE_TOLERANCE));
+      double far = DEPTH_OF_FIELD.farLimit(focal, aperture, subject).toMeters();
+      if (far < 10D * subject.toMeters()) {
+        assertions.assertThat(table.farLimit(focal, aperture, subject).toMeters())
+          .isCloseTo(far, Offset.offset(far * RELATIVE_TOLERANCE));
+      }
+    }
+    assertions.assertAll();
+  }
+
+  @Test
+  void computesOutsideOfGridsExactly() {
+    DepthOfFieldTable table = DEPTH_OF_FIELD.table(new double[]{50D}, new double[]{8D},
+                                                   new double[]{1D, 10D});
+    Length focal = Length.mm(35D);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(table.nearLimit(focal, 8D, Length.m(5D)))
+      .isEqualTo(DEPTH_OF_FIELD.nearLimit(focal, 8D, Length.m(5D)));
+    assertions.assertThat(table.farLimit(Length.mm(50D), 8D, Length.m(20D)))
+      .isEqualTo(DEPTH_OF_FIELD.farLimit(Length.mm(50D), 8D, Length.m(20D)));
+    assertions.assertThat(table.hyperfocalDistance(Length.mm(50D), 5.6D))
+      .isEqualTo(DEPTH_OF_FIELD.hyperfocalDistance(Length.mm(50D), 5.6D));
+    assertions.assertThat(table.farLimit(Length.mm(50D), 8D, Length.m(5D)).toMeters())
+      .isCloseTo(DEPTH_OF_FIELD.farLimit(Length.mm(50D), 8D, Length.m(5D)).toMeters(),
+                 TOLERANCE);
+    assertions.assertAll();
+  }
+
+  @Test
+  void rejectsInvalidGrids() {
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThatThrownBy(() -> DEPTH_OF_FIELD.table(new double[0], APERTURES,
+                                                             SUBJECT_DISTANCES))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertThatThrownBy(() -> DEPTH_OF_FIELD.table(FOCAL_LENGTHS,
+                                                             new double[]{8D, 4D},
+                                                             SUBJECT_DISTANCES))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertThatThrownBy(() -> DEPTH_OF_FIELD.table(new double[]{0D, 50D}, APERTURES,
+                                                             SUBJECT_DISTANCES))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertThatThrownBy(() -> DEPTH_OF_FIELD.table(FOCAL_LENGTHS, APERTURES,
+                                                             new double[]{0.1D, 1D}))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertAll();
+  }
+}
@@ -0,0 +1,77 @@
+package com.github.mmichaelis.phodeli.optics;
+
+import static com.github.mmichaelis.phodeli.optics.DepthOfField.depthOfField;
+
+import com.github.mmichaelis.phodeli.measure.Length;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link DepthOfField}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class DepthOfFieldTest {
+
+  private static final Offset<Double> TOLERANCE = Offset.offset(0.001D);
+  private static final Length NORMAL = Length.mm(50D);
+
+  @Test
+  void providesLimitsAndHyperfocalDistance() {
+    DepthOfField depthOfField = depthOfField(Length.mm(0.03D));
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(depthOfField.hyperfocalDistance(NORMAL, 8D).toMeters())
+      .isCloseTo(10.467D, TOLERANCE);
+    assertions.assertThat(depthOfField.nearLimit(NORMAL, 8D, Length.m(5D)).toMeters())
+      .isCloseTo(3.389D, TOLERANCE);
+    assertions.assertThat(depthOfField.farLimit(NORMAL, 8D, Length.m(5D)).toMeters())
+      .isCloseTo(9.528D, TOLERANCE);
+    assertions.assertThat(depthOfField.getCircleOfConfusion().toMillimeters())
+      .isCloseTo(0.03D, Offset.offset(1.0E-12D));
+    assertions.assertAll();
+  }
+
+  @Test
+  void coversInfinityFromHyperfocalDistance() {
+    DepthOfField depthOfField = depthOfField(Length.mm(0.03D));
+    Length hyperfocal = depthOfField.hyperfocalDistance(Length.mm(24D), 11D);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(depthOfField.farLimit(Length.mm(24D), 11D, hyperfocal).toMeters())
+      .isEqualTo(Double.POSITIVE_INFINITY);
+    assertions.assertThat(depthOfField.farLimit(Length.mm(24D), 11D, Length.km(1D)).toMeters())
+      .isEqualTo(Double.POSITIVE_INFINITY);
+    assertions.assertThat(depthOfField.nearLimit(Length.mm(24D), 11D, hyperfocal).toMeters())
+      .isCloseTo(hyperfocal.toMeters() / 2D, TOLERANCE);
+    assertions.assertAll();
+  }
+
+  @Test
+  void derivesCircleOfConfusionFromSensor() {
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(depthOfField(Lens.fullFrame(NORMAL)).getCircleOfConfusion()
+                            .toMillimeters())
+      .isCloseTo(0.0288D, Offset.offset(0.0001D));
+    assertions.assertThat(depthOfField(Lens.lens(NORMAL, Length.mm(23.6D), Length.mm(15.6D)))
+                            .getCircleOfConfusion().toMillimeters())
+      .isCloseTo(0.0189D, Offset.offset(0.0001D));
+    assertions.assertAll();
+  }
+
+  @Test
+  void rejectsInvalidArguments() {
+    DepthOfField depthOfField = depthOfField(Length.mm(0.03D));
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThatThrownBy(() -> depthOfField(Length.mm(0D)))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertThatThrownBy(() -> depthOfField.hyperfocalDistance(Length.mm(-1D), 8D))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertThatThrownBy(() -> depthOfField.hyperfocalDistance(NORMAL, 0D))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertThatThrownBy(() -> depthOfField.nearLimit(NORMAL, 8D, Length.mm(50D)))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertAll();
+  }
+}
@@ -0,0 +1,104 @@
+package com.github.mmichaelis.phodeli.optics;
+
+import static com.github.mmichaelis.phodeli.optics.LandmarkCoverage.landmarkCoverage;
+
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+import com.github.mmichaelis.phodeli.geo.GreatCircle;
+import com.github.mmichaelis.phodeli.measure.Angle;
+import com.github.mmichaelis.phodeli.measure.Length;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link LandmarkCoverage}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class LandmarkCoverageTest {
+
+  /**
+   * Using fixed seed to provide reproducible test runs.
+   */
+  private static final long RANDOM_SEED = 0L;
+  private static final int LANDMARKS = 2_000;
+  private static final int SPOTS = 500;
+  private static final Lens LENS = Lens.fullFrame(Length.mm(35D));
+  private static final Length RANGE = Length.km(5D);
+
+  @Test
+  void coversLandmarksInFrontWithinRange() {
+    GeoCoordinate spot = GeoCoordinate.degrees(47.5D, 11D);
+    double[] latitudes = {47.5D, 47.5D, 47.53D, 47.5D, 47.51D};
+    double[] longitudes = {11.03D, 10.97D, 11.01D, 11.2D, 11.05D};
+    LandmarkCoverage coverage = landmarkCoverage(LENS, RANGE, latitudes, longitudes);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(coverage.covered(spot, Angle.degrees(90D))).containsExactly(0, 4);
+    assertions.assertThat(coverage.covered(spot, Angle.degrees(270D))).containsExactly(1);
+    assertions.assertThat(coverage.covered(spot, Angle.degrees(0D))).containsExactly(2);
+    assertions.assertThat(coverage.getLandmarkCount()).isEqualTo(5);
+    assertions.assertAll();
+  }
+
+  @Test
+  void bulkCoverageMatchesBruteForce() {
+    Random random = new Random(RANDOM_SEED);
+    double[] landmarkLatitudes = new double[LANDMARKS];
+    double[] landmarkLongitudes = new double[LANDMARKS];
+    for (int i = 0; i < LANDMARKS; i++) {
+      landmarkLatitudes[i] = 47D + random.nextDouble();
+      landmarkLongitudes[i] = 11D + random.nextDouble();
+    }
+    double[] latitudes = new double[SPOTS];
+    double[] longitudes = new double[SPOTS];
+    double[] bearings = new double[SPOTS];
+    for (int i = 0; i < SPOTS; i++) {
+      latitudes[i] = 47D + random.nextDouble();
+      longitudes[i] = 11D + random.nextDouble();
+      bearings[i] = 360D * random.nextDouble();
+    }
+    LandmarkCoverage coverage = landmarkCoverage(LENS, RANGE, landmarkLatitudes,
+                                                 landmarkLongitudes);
+    int[] counts = new int[SPOTS];
+    coverage.coverage(latitudes, longitudes, bearings, SPOTS, counts);
+    double half = LENS.getHorizontalFieldOfView().toDegrees() / 2D;
+    SoftAssertions assertions = new SoftAssertions();
+    for (int i = 0; i < SPOTS; i++) {
+      GeoCoordinate spot = GeoCoordinate.degrees(latitudes[i], longitudes[i]);
+      double bearing = bearings[i];
+      int[] expected = IntStream.range(0, LANDMARKS).filter(landmark -> {
+        GeoCoordinate target = GeoCoordinate.degrees(landmarkLatitudes[landmark],
+                                                     landmarkLongitudes[landmark]);
+        double deviation = GreatCircle.initialBearing(spot, target).toDegrees() - bearing;
+        deviation = Math.abs(deviation - 360D * Math.round(deviation / 360D));
+        return GreatCircle.distance(spot, target).toMeters() <= RANGE.toMeters()
+               && deviation <= half;
+      }).toArray();
+      assertions.assertThat(coverage.covered(spot, Angle.degrees(bearing)))
+        .containsExactly(expected);
+      assertions.assertThat(counts[i]).isEqualTo(expected.length);
+    }
+    assertions.assertThat(IntStream.of(counts).sum()).isGreaterThan(SPOTS);
+    assertions.assertAll();
+  }
+
+  @Test
+  void rejectsInvalidArguments() {
+    LandmarkCoverage coverage = landmarkCoverage(LENS, RANGE, new double[1], new double[1]);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThatThrownBy(() -> landmarkCoverage(LENS, Length.m(0D), new double[1],
+                                                         new double[1]))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertThatThrownBy(() -> landmarkCoverage(LENS, RANGE, new double[1],
+                                                         new double[2]))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertThatThrownBy(() -> coverage.coverage(new double[2], new double[2],
+                                                          new double[2], 2, new int[1]))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertAll();
+  }
+}
@@ -0,0 +1,125 @@
+package com.github.mmichaelis.phodeli.optics;
+
+import static com.github.mmichaelis.phodeli.optics.Lens.fullFrame;
+import static com.github.mmichaelis.phodeli.optics.Lens.lens;
+import static com.github.mmichaelis.phodeli.test.SerializableCondition.serializable;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.testing.EqualsTester;
+
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+import com.github.mmichaelis.phodeli.geo.GreatCircle;
+import com.github.mmichaelis.phodeli.geo.PreparedPolygon;
+import com.github.mmichaelis.phodeli.measure.Angle;
+import com.github.mmichaelis.phodeli.measure.Length;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link Lens}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class LensTest {
+
+  private static final Offset<Double> DEGREES_TOLERANCE = Offset.offset(0.01D);
+  private static final Offset<Double> METERS_TOLERANCE = Offset.offset(0.01D);
+  private static final int VERTICES = 11;
+
+  @Test
+  void providesFieldOfViewOfNormalLens() {
+    Lens lens = fullFrame(Length.mm(50D));
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(lens.getHorizontalFieldOfView().toDegrees())
+      .isCloseTo(39.60D, DEGREES_TOLERANCE);
+    assertions.assertThat(lens.getVerticalFieldOfView().toDegrees())
+      .isCloseTo(26.99D, DEGREES_TOLERANCE);
+    assertions.assertThat(lens.getDiagonalFieldOfView().toDegrees())
+      .isCloseTo(46.79D, DEGREES_TOLERANCE);
+    assertions.assertThat(lens.getCropFactor()).isCloseTo(1D, Offset.offset(1.0E-12D));
+    assertions.assertThat(lens.getSensorDiagonal().toMillimeters())
+      .isCloseTo(43.27D, METERS_TOLERANCE);
+    assertions.assertAll();
+  }
+
+  @Test
+  void providesCropFactorAndCoveredScene() {
+    Lens apsC = lens(Length.mm(35D), Length.mm(23.6D), Length.mm(15.6D));
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(apsC.getCropFactor()).isCloseTo(1.53D, Offset.offset(0.01D));
+    assertions.assertThat(apsC.coveredWidth(Length.m(350D)).toMeters())
+      .isCloseTo(236D, METERS_TOLERANCE);
+    assertions.assertThat(apsC.coveredHeight(Length.km(0.35D)).toMeters())
+      .isCloseTo(156D, METERS_TOLERANCE);
+    assertions.assertThat(apsC.portrait().getHorizontalFieldOfView())
+      .isEqualTo(apsC.getVerticalFieldOfView());
+    assertions.assertThat(apsC.portrait().portrait()).isEqualTo(apsC);
+    assertions.assertAll();
+  }
+
+  @Test
+  void projectsFootprint() {
+    Lens lens = fullFrame(Length.mm(24D));
+    GeoCoordinate position = GeoCoordinate.degrees(47.5D, 11D);
+    double[] latitudes = new double[VERTICES];
+    double[] longitudes = new double[VERTICES];
+    lens.footprint(position, Angle.degrees(90D), Length.km(5D), latitudes, longitudes, VERTICES);
+    double half = lens.getHorizontalFieldOfView().toDegrees() / 2D;
+    PreparedPolygon polygon = PreparedPolygon.polygon(latitudes, longitudes, VERTICES);
+    SoftAssertions assertions = new SoftAssertions();
+    for (int i = 0; i < VERTICES - 1; i++) {
+      GeoCoordinate vertex = GeoCoordinate.degrees(latitudes[i], longitudes[i]);
+      assertions.assertThat(GreatCircle.distance(position, vertex).toMeters())
+        .isCloseTo(5000D, METERS_TOLERANCE);
+      assertions.assertThat(GreatCircle.initialBearing(position, vertex).toDegrees())
+        .isCloseTo(90D - half + i * 2D * half / (VERTICES - 2), DEGREES_TOLERANCE);
+    }
+    assertions.assertThat(latitudes[VERTICES - 1]).isEqualTo(47.5D);
+    assertions.assertThat(longitudes[VERTICES - 1]).isEqualTo(11D);
+    assertions.assertThat(polygon.contains(47.5D, 11.03D)).isTrue();
+    assertions.assertThat(polygon.contains(47.5D, 10.97D)).isFalse();
+    assertions.assertThat(polygon.contains(47.53D, 11.01D)).isFalse();
+    assertions.assertAll();
+  }
+
+  @Test
+  void rejectsInvalidArguments() {
+    Lens lens = fullFrame(Length.mm(50D));
+    GeoCoordinate position = GeoCoordinate.degrees(0D, 0D);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThatThrownBy(() -> fullFrame(Length.mm(0D)))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertThatThrownBy(() -> lens(Length.mm(50D), Length.mm(-1D), Length.mm(24D)))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertThatThrownBy(() -> lens(Length.mm(50D), Length.mm(36D), Length.mm(0D)))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertThatThrownBy(() -> lens.footprint(position, Angle.degrees(0D),
+                                                       Length.m(1D), new double[2],
+                                                       new double[2], 2))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertThatThrownBy(() -> lens.footprint(position, Angle.degrees(0D),
+                                                       Length.m(1D), new double[3],
+                                                       new double[2], 3))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertAll();
+  }
+
+  @Test
+  void isSerializable() {
+    assertThat(fullFrame(Length.mm(85D))).is(serializable());
+  }
+
+  @Test
+  void equalsContract() {
+    new EqualsTester()
+      .addEqualityGroup(fullFrame(Length.mm(50D)),
+                        lens(Length.mm(50D), Length.mm(36D), Length.mm(24D)))
+      .addEqualityGroup(fullFrame(Length.mm(35D)))
+      .addEqualityGroup(fullFrame(Length.mm(50D)).portrait())
+      .addEqualityGroup(lens(Length.mm(50D), Length.mm(36D), Length.mm(23D)))
+      .testEquals();
+  }
+}
@@ -0,0 +1,134 @@
+package com.github.mmichaelis.phodeli.route;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+import com.github.mmichaelis.phodeli.geo.GreatCircle;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link RouteOptimizer}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class RouteOptimizerTest {
+
+  /**
+   * Using fixed seed to provide reproducible test runs.
+   */
+  private static final long RANDOM_SEED = 0L;
+  /**
+   * Length of one degree of latitude (and longitude at the equator).
+   */
+  private static final double DEGREE_METERS = GreatCircle.EARTH_RADIUS_METERS * Math.PI / 180D;
+
+  @Test
+  void findsOptimalRoundTripOfGrid() {
+    // 10 x 10 grid of 0.01 degrees at the equator; optimal round trip has 100 steps.
+    double[] latitudes = new double[100];
+    double[] longitudes = new double[100];
+    Random random = new Random(RANDOM_SEED);
+    int[] shuffled = IntStream.range(0, 100).toArray();
+    for (int i = shuffled.length - 1; i > 0; i--) {
+      int j = random.nextInt(i + 1);
+      int swap = shuffled[i];
+      shuffled[i] = shuffled[j];
+      shuffled[j] = swap;
+    }
+    for (int i = 0; i < 100; i++) {
+      latitudes[i] = shuffled[i] / 10 * 0.01D;
+      longitudes[i] = shuffled[i] % 10 * 0.01D;
+    }
+    Route route = RouteOptimizer.route(latitudes, longitudes, true, 4);
+    assertValidRoute(route, 100);
+    assertThat(route.isClosed()).isTrue();
+    assertThat(route.getLength().toMeters() / (0.01D * DEGREE_METERS))
+      .isCloseTo(100D, Offset.offset(1D));
+  }
+
+  @Test
+  void findsOpenWalkAlongLine() {
+    Random random = new Random(RANDOM_SEED);
+    int count = 50;
+    double[] latitudes = new double[count];
+    double[] longitudes = new double[count];
+    for (int i = 0; i < count; i++) {
+      longitudes[i] = random.nextDouble();
+    }
+    Route route = RouteOptimizer.openRoute(latitudes, longitudes);
+    assertValidRoute(route, count);
+    assertThat(route.isClosed()).isFalse();
+    double[] sorted = longitudes.clone();
+    Arrays.sort(sorted);
+    double span = (sorted[count - 1] - sorted[0]) * DEGREE_METERS;
+    assertThat(route.getLength().toMeters()).isCloseTo(span, Offset.offset(1E-3D));
+    assertThat(route.getLength().toMeters()).isCloseTo(walkLength(route, latitudes, longitudes),
+                                                       Offset.offset(1E-3D));
+  }
+
+  @Test
+  void optimizesLargeRoundTrips() {
+    Random random = new Random(RANDOM_SEED);
+    int count = 10_000;
+    double[] latitudes = new double[count];
+    double[] longitudes = new double[count];
+    for (int i = 0; i < count; i++) {
+      latitudes[i] = random.nextDouble();
+      longitudes[i] = random.nextDouble();
+    }
+    Route route = RouteOptimizer.route(latitudes, longitudes, true,
+                                       Runtime.getRuntime().availableProcessors());
+    assertValidRoute(route, count);
+    // Optimal round trips through uniformly distributed points in a unit square are about
+    // 0.7124 * sqrt(n) long.
+    double normalized = route.getLength().toMeters() / DEGREE_METERS / Math.sqrt(count);
+    assertThat(normalized).isLessThan(0.7124D * 1.1D);
+  }
+
+  @Test
+  void handlesTrivialSizes() {
+    assertThat(RouteOptimizer.closedRoute(new double[0], new double[0]).size()).isZero();
+    Route single = RouteOptimizer.openRoute(new double[]{1D}, new double[]{2D});
+    assertThat(single.getOrder()).containsExactly(0);
+    assertThat(single.getLength().toMeters()).isZero();
+    Route three = RouteOptimizer.closedRoute(new double[]{0D, 0D, 1D}, new double[]{0D, 1D, 0D});
+    assertValidRoute(three, 3);
+  }
+
+  @Test
+  void rejectsInvalidArguments() {
+    assertThatThrownBy(() -> RouteOptimizer.closedRoute(new double[1], new double[2]))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> RouteOptimizer.route(new double[1], new double[1], true, 0))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static void assertValidRoute(final Route route, final int size) {
+    assertThat(route.size()).isEqualTo(size);
+    int[] order = route.getOrder();
+    Arrays.sort(order);
+    assertThat(order).isEqualTo(IntStream.range(0, size).toArray());
+  }
+
+  private static double walkLength(final Route route,
+                                   final double[] latitudes,
+                                   final double[] longitudes) {
+    double length = 0D;
+    for (int i = 1; i < route.size(); i++) {
+      int from = route.getIndex(i - 1);
+      int to = route.getIndex(i);
+      length += GreatCircle.distance(GeoCoordinate.degrees(latitudes[from], longitudes[from]),
+                                     GeoCoordinate.degrees(latitudes[to], longitudes[to]))
+        .toMeters();
+    }
+    return length;
+  }
+}
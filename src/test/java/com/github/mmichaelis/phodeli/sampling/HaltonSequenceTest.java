@@ -0,0 +1,73 @@
+package com.github.mmichaelis.phodeli.sampling;
+
+import static com.github.mmichaelis.phodeli.sampling.HaltonSequence.halton;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link HaltonSequence}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class HaltonSequenceTest {
+
+  private static final Offset<Double> TOLERANCE = Offset.offset(1.0E-12D);
+  private static final int POINTS = 1000;
+
+  @Test
+  void providesKnownRadicalInverses() {
+    HaltonSequence sequence = halton();
+    double[] expectedU = {0D, 1D / 2D, 1D / 4D, 3D / 4D, 1D / 8D, 5D / 8D};
+    double[] expectedV = {0D, 1D / 3D, 2D / 3D, 1D / 9D, 4D / 9D, 7D / 9D};
+    SoftAssertions assertions = new SoftAssertions();
+    for (int i = 0; i < expectedU.length; i++) {
+      assertions.assertThat(sequence.u(i)).isCloseTo(expectedU[i], TOLERANCE);
+      assertions.assertThat(sequence.v(i)).isCloseTo(expectedV[i], TOLERANCE);
+    }
+    assertions.assertAll();
+  }
+
+  @Test
+  void rotatedSequenceStaysWithinUnitSquare() {
+    HaltonSequence sequence = halton(42L);
+    double[] us = new double[POINTS];
+    double[] vs = new double[POINTS];
+    sequence.fill(0L, us, vs, 0, POINTS);
+    SoftAssertions assertions = new SoftAssertions();
+    for (int i = 0; i < POINTS; i++) {
+      assertions.assertThat(us[i]).isGreaterThanOrEqualTo(0D).isLessThan(1D);
+      assertions.assertThat(vs[i]).isGreaterThanOrEqualTo(0D).isLessThan(1D);
+    }
+    assertions.assertAll();
+  }
+
+  @Test
+  void seedsProvideDifferentRotations() {
+    assertThat(halton(1L).u(0L)).isNotEqualTo(halton(2L).u(0L));
+  }
+
+  @Test
+  void bulkFillMatchesRandomAccess() {
+    HaltonSequence sequence = halton(7L);
+    long fromIndex = 123_456_789L;
+    double[] us = new double[POINTS + 1];
+    double[] vs = new double[POINTS + 1];
+    sequence.fill(fromIndex, us, vs, 1, POINTS);
+    SoftAssertions assertions = new SoftAssertions();
+    for (int i = 0; i < POINTS; i++) {
+      assertions.assertThat(us[i + 1]).isEqualTo(sequence.u(fromIndex + i));
+      assertions.assertThat(vs[i + 1]).isEqualTo(sequence.v(fromIndex + i));
+    }
+    assertions.assertAll();
+  }
+
+  @Test
+  void rejectsNegativeIndex() {
+    assertThatThrownBy(() -> halton().u(-1L)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+}
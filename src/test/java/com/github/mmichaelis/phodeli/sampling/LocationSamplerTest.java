@@ -0,0 +1,214 @@
+package com.github.mmichaelis.phodeli.sampling;
+
+import static com.github.mmichaelis.phodeli.sampling.LocationSampler.sampler;
+import static java.lang.Math.acos;
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+import static java.lang.Math.toDegrees;
+import static java.lang.Math.toRadians;
+import static java.util.Arrays.stream;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.mmichaelis.phodeli.geo.GeoBounds;
+import com.github.mmichaelis.phodeli.geo.GeoCoordinate;
+import com.github.mmichaelis.phodeli.geo.PreparedPolygon;
+import com.github.mmichaelis.phodeli.measure.Angle;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+/**
+ * Tests {@link LocationSampler}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class LocationSamplerTest {
+
+  private static final Offset<Double> TOLERANCE = Offset.offset(0.0001D);
+  private static final long SEED = 0L;
+  private static final int POINTS = 10_000;
+
+  @TestFactory
+  Stream<DynamicTest> samplesWithinBox() {
+    GeoBounds bounds = GeoBounds.degrees(48D, 11D, 48.5D, 12D);
+    Iterator<SamplingMode> inputGenerator = stream(SamplingMode.values()).iterator();
+    return DynamicTest.stream(inputGenerator, Enum::name, mode -> {
+      LocationSampler sampler = sampler(SurfacePatch.box(bounds), mode, SEED);
+      double[] latitudes = new double[POINTS];
+      double[] longitudes = new double[POINTS];
+      sampler.sample(0L, latitudes, longitudes, 0, POINTS);
+      SoftAssertions assertions = new SoftAssertions();
+      assertions.assertThat(stream(latitudes).min().getAsDouble()).isGreaterThanOrEqualTo(48D);
+      assertions.assertThat(stream(latitudes).max().getAsDouble()).isLessThanOrEqualTo(48.5D);
+      assertions.assertThat(stream(longitudes).min().getAsDouble()).isGreaterThanOrEqualTo(11D);
+      assertions.assertThat(stream(longitudes).max().getAsDouble()).isLessThanOrEqualTo(12D);
+      assertions.assertAll();
+    });
+  }
+
+  @Test
+  void samplesAcrossAntimeridian() {
+    GeoBounds bounds = GeoBounds.degrees(-20D, 175D, -10D, -175D);
+    LocationSampler sampler = sampler(SurfacePatch.box(bounds), SamplingMode.SOBOL, SEED);
+    double[] latitudes = new double[POINTS];
+    double[] longitudes = new double[POINTS];
+    sampler.sample(0L, latitudes, longitudes, 0, POINTS);
+    long east = stream(longitudes).filter(longitude -> longitude >= 175D).count();
+    long west = stream(longitudes).filter(longitude -> longitude <= -175D).count();
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(east + west).isEqualTo(POINTS);
+    assertions.assertThat((double) east / POINTS).isCloseTo(0.5D, Offset.offset(0.01D));
+    assertions.assertAll();
+  }
+
+  @Test
+  void boxSamplingIsAreaPreserving() {
+    // A box from equator to 90° has half of its area below 30°.
+    GeoBounds bounds = GeoBounds.degrees(0D, 0D, 90D, 10D);
+    LocationSampler sampler = sampler(SurfacePatch.box(bounds), SamplingMode.HALTON, SEED);
+    double[] latitudes = new double[POINTS];
+    double[] longitudes = new double[POINTS];
+    sampler.sample(0L, latitudes, longitudes, 0, POINTS);
+    long below = stream(latitudes).filter(latitude -> latitude < 30D).count();
+    assertThat((double) below / POINTS).isCloseTo(0.5D, Offset.offset(0.01D));
+  }
+
+  @Test
+  void samplesWithinCap() {
+    GeoCoordinate center = GeoCoordinate.degrees(89D, 11D);
+    double radius = 5D;
+    LocationSampler sampler =
+      sampler(SurfacePatch.cap(center, Angle.degrees(radius)), SamplingMode.SOBOL, SEED);
+    double[] latitudes = new double[POINTS];
+    double[] longitudes = new double[POINTS];
+    sampler.sample(0L, latitudes, longitudes, 0, POINTS);
+    double maxDistance = 0D;
+    for (int i = 0; i < POINTS; i++) {
+      maxDistance = Math.max(maxDistance, centralAngle(89D, 11D, latitudes[i], longitudes[i]));
+    }
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(maxDistance).isLessThanOrEqualTo(radius + TOLERANCE.value);
+    assertions.assertThat(maxDistance).isGreaterThan(radius * 0.99D);
+    assertions.assertThat(stream(longitudes).min().getAsDouble()).isGreaterThanOrEqualTo(-180D);
+    assertions.assertThat(stream(longitudes).max().getAsDouble()).isLessThan(180D);
+    assertions.assertAll();
+  }
+
+  @Test
+  void parallelSamplingMatchesSequentialSampling() {
+    LocationSampler sampler = sampler(SurfacePatch.box(GeoBounds.WORLD), SamplingMode.SOBOL, SEED);
+    int count = 3 * POINTS + 17;
+    double[] latitudes = new double[count];
+    double[] longitudes = new double[count];
+    double[] parallelLatitudes = new double[count];
+    double[] parallelLongitudes = new double[count];
+    sampler.sample(5L, latitudes, longitudes, 0, count);
+    sampler.parallelSample(5L, parallelLatitudes, parallelLongitudes, 0, count);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(parallelLatitudes).isEqualTo(latitudes);
+    assertions.assertThat(parallelLongitudes).isEqualTo(longitudes);
+    assertions.assertAll();
+  }
+
+  @Test
+  void singleSampleMatchesBulkSample() {
+    LocationSampler sampler = sampler(SurfacePatch.box(GeoBounds.WORLD), SamplingMode.HALTON, SEED);
+    double[] latitudes = new double[1];
+    double[] longitudes = new double[1];
+    sampler.sample(42L, latitudes, longitudes, 0, 1);
+    GeoCoordinate coordinate = sampler.sample(42L);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(coordinate.getLatitude().toDegrees()).isEqualTo(latitudes[0]);
+    assertions.assertThat(coordinate.getLongitude().toDegrees()).isEqualTo(longitudes[0]);
+    assertions.assertAll();
+  }
+
+  @Test
+  void samplesWithinPolygon() {
+    PreparedPolygon triangle = PreparedPolygon.polygon(new double[]{48D, 48D, 48.5D},
+                                                       new double[]{11D, 12D, 11.5D}, 3);
+    LocationSampler sampler =
+      sampler(SurfacePatch.box(triangle.getBounds()), SamplingMode.SOBOL, SEED);
+    double[] latitudes = new double[POINTS];
+    double[] longitudes = new double[POINTS];
+    long next = sampler.sampleWithin(triangle, 0L, latitudes, longitudes, 0, POINTS);
+    double[] expectedLatitudes = new double[(int) next];
+    double[] expectedLongitudes = new double[(int) next];
+    sampler.sample(0L, expectedLatitudes, expectedLongitudes, 0, (int) next);
+    int retained = triangle.retain(expectedLatitudes, expectedLongitudes, 0, (int) next);
+    double[] continued = new double[POINTS];
+    sampler.sampleWithin(triangle, next, continued, new double[POINTS], 0, POINTS);
+    double[] atOnce = new double[2 * POINTS];
+    sampler.sampleWithin(triangle, 0L, atOnce, new double[2 * POINTS], 0, 2 * POINTS);
+    int outside = 0;
+    for (int i = 0; i < POINTS; i++) {
+      outside += triangle.contains(latitudes[i], longitudes[i]) ? 0 : 1;
+    }
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(outside).isZero();
+    assertions.assertThat(retained).isEqualTo(POINTS);
+    assertions.assertThat(Arrays.copyOf(expectedLatitudes, POINTS)).isEqualTo(latitudes);
+    assertions.assertThat(Arrays.copyOfRange(atOnce, POINTS, 2 * POINTS))
+      .isEqualTo(continued);
+    assertions.assertAll();
+  }
+
+  @Test
+  void samplesWithinPolygonNearEndOfSequence() {
+    PreparedPolygon triangle = PreparedPolygon.polygon(new double[]{48D, 48D, 48.5D},
+                                                       new double[]{11D, 12D, 11.5D}, 3);
+    UnitSquareSequence sequence = SamplingMode.SOBOL.sequence(SEED);
+    LocationSampler sampler = sampler(SurfacePatch.box(triangle.getBounds()), sequence);
+    int remaining = 1000;
+    long fromIndex = sequence.size() - remaining;
+    double[] latitudes = new double[remaining];
+    double[] longitudes = new double[remaining];
+    long next = sampler.sampleWithin(triangle, fromIndex, latitudes, longitudes, 0, 100);
+    double[] expectedLatitudes = new double[remaining];
+    double[] expectedLongitudes = new double[remaining];
+    sampler.sample(fromIndex, expectedLatitudes, expectedLongitudes, 0, remaining);
+    int retained = triangle.retain(expectedLatitudes, expectedLongitudes, 0, remaining);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(next).isBetween(fromIndex + 100L, sequence.size());
+    assertions.assertThat(Arrays.copyOf(latitudes, 100))
+      .isEqualTo(Arrays.copyOf(expectedLatitudes, 100));
+    assertions.assertThat(sampler.sampleWithin(triangle, fromIndex, latitudes, longitudes, 0,
+                                               retained))
+      .isLessThanOrEqualTo(sequence.size());
+    assertions.assertThat(Arrays.copyOf(latitudes, retained))
+      .isEqualTo(Arrays.copyOf(expectedLatitudes, retained));
+    assertions.assertThatThrownBy(
+      () -> sampler.sampleWithin(triangle, fromIndex, latitudes, longitudes, 0, retained + 1))
+      .isInstanceOf(IndexOutOfBoundsException.class);
+    assertions.assertAll();
+  }
+
+  @Test
+  void failsOnDisjointPolygon() {
+    PreparedPolygon triangle = PreparedPolygon.polygon(new double[]{0D, 0D, 1D},
+                                                       new double[]{0D, 1D, 0.5D}, 3);
+    LocationSampler sampler = sampler(SurfacePatch.box(GeoBounds.degrees(48D, 11D, 49D, 12D)),
+                                      SamplingMode.PSEUDO_RANDOM, SEED);
+    assertThatThrownBy(() -> sampler.sampleWithin(triangle, 0L, new double[1], new double[1],
+                                                  0, 1))
+      .isInstanceOf(IllegalStateException.class);
+  }
+
+  private static double centralAngle(final double latitude1, final double longitude1,
+                                     final double latitude2, final double longitude2) {
+    double phi1 = toRadians(latitude1);
+    double phi2 = toRadians(latitude2);
+    double cosAngle = sin(phi1) * sin(phi2)
+                      + cos(phi1) * cos(phi2) * cos(toRadians(longitude2 - longitude1));
+    return toDegrees(acos(Math.min(1D, cosAngle)));
+  }
+}
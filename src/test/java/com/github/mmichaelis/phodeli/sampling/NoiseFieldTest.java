@@ -0,0 +1,152 @@
+package com.github.mmichaelis.phodeli.sampling;
+
+import static com.github.mmichaelis.phodeli.sampling.NoiseField.noiseField;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link NoiseField}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class NoiseFieldTest {
+
+  /**
+   * Using fixed seed to provide reproducible test runs.
+   */
+  private static final long RANDOM_SEED = 0L;
+  private static final int SAMPLES = 257;
+  private static final int POINTS = 100_000;
+
+  @Test
+  void isDeterministicPerSeed() {
+    NoiseField field = noiseField(RANDOM_SEED);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(noiseField(RANDOM_SEED).value(47.3D, 11.7D))
+      .isEqualTo(field.value(47.3D, 11.7D));
+    assertions.assertThat(noiseField(RANDOM_SEED + 1L).value(47.3D, 11.7D))
+      .isNotEqualTo(field.value(47.3D, 11.7D));
+    assertions.assertThat(noiseField(RANDOM_SEED).tile(47, 11, SAMPLES))
+      .isEqualTo(field.tile(47, 11, SAMPLES));
+    assertions.assertAll();
+  }
+
+  @Test
+  void coversRangeWithSmoothVariation() {
+    float[] tile = noiseField(RANDOM_SEED).tile(47, 11, SAMPLES);
+    double sum = 0D;
+    double squares = 0D;
+    double maxStep = 0D;
+    for (int i = 0; i < tile.length; i++) {
+      sum += tile[i];
+      squares += tile[i] * tile[i];
+      if (i % SAMPLES > 0) {
+        maxStep = Math.max(maxStep, Math.abs(tile[i] - tile[i - 1]));
+      }
+    }
+    double mean = sum / tile.length;
+    float[] sorted = tile.clone();
+    Arrays.sort(sorted);
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(sorted[0]).isGreaterThanOrEqualTo(-1F);
+    assertions.assertThat(sorted[sorted.length - 1]).isLessThanOrEqualTo(1F);
+    assertions.assertThat(mean).isBetween(-0.2D, 0.2D);
+    assertions.assertThat(Math.sqrt(squares / tile.length - mean * mean)).isGreaterThan(0.1D);
+    assertions.assertThat(maxStep).isLessThan(0.25D);
+    assertions.assertAll();
+  }
+
+  @Test
+  void stitchesAdjacentTiles() {
+    NoiseField field = noiseField(RANDOM_SEED);
+    float[] tile = field.tile(47, 11, SAMPLES);
+    float[] east = field.tile(47, 12, SAMPLES);
+    float[] north = field.tile(48, 11, SAMPLES);
+    int mismatches = 0;
+    for (int i = 0; i < SAMPLES; i++) {
+      mismatches += tile[i * SAMPLES + SAMPLES - 1] == east[i * SAMPLES] ? 0 : 1;
+      mismatches += tile[i] == north[(SAMPLES - 1) * SAMPLES + i] ? 0 : 1;
+    }
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(mismatches).isZero();
+    assertions.assertThat(tile[0]).isEqualTo((float) field.value(48D, 11D));
+    assertions.assertThat(tile[tile.length - 1]).isEqualTo((float) field.value(47D, 12D));
+    assertions.assertAll();
+  }
+
+  @Test
+  void bulkValuesMatchSingleValues() {
+    Random random = new Random(RANDOM_SEED);
+    NoiseField field = noiseField(RANDOM_SEED, 10D, 4, 0.6D);
+    double[] latitudes = new double[POINTS];
+    double[] longitudes = new double[POINTS];
+    for (int i = 0; i < POINTS; i++) {
+      latitudes[i] = -60D + 120D * random.nextDouble();
+      longitudes[i] = -180D + 360D * random.nextDouble();
+    }
+    float[] values = new float[POINTS];
+    field.values(latitudes, longitudes, POINTS, values);
+    int mismatches = 0;
+    for (int i = 0; i < POINTS; i++) {
+      mismatches += values[i] == (float) field.value(latitudes[i], longitudes[i]) ? 0 : 1;
+    }
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat(mismatches).isZero();
+    assertions.assertThat(field.weight(latitudes[0], longitudes[0]))
+      .isCloseTo((values[0] + 1D) / 2D, Offset.offset(1.0E-6D));
+    assertions.assertThatThrownBy(() -> field.values(latitudes, longitudes, POINTS + 1, values))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertAll();
+  }
+
+  @Test
+  void retainsLocationsByWeight() {
+    Random random = new Random(RANDOM_SEED);
+    NoiseField field = noiseField(RANDOM_SEED);
+    double[] latitudes = new double[POINTS];
+    double[] longitudes = new double[POINTS];
+    double expected = 0D;
+    for (int i = 0; i < POINTS; i++) {
+      latitudes[i] = 47D + random.nextDouble();
+      longitudes[i] = 11D + random.nextDouble();
+      expected += field.weight(latitudes[i], longitudes[i]);
+    }
+    double[] copiedLatitudes = latitudes.clone();
+    double[] copiedLongitudes = longitudes.clone();
+    int kept = field.retain(latitudes, longitudes, 0, POINTS, RANDOM_SEED);
+    double keptWeight = 0D;
+    for (int i = 0; i < kept; i++) {
+      keptWeight += field.weight(latitudes[i], longitudes[i]);
+    }
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThat((double) kept).isCloseTo(expected, Offset.offset(POINTS / 100D));
+    assertions.assertThat(keptWeight / kept).isGreaterThan(expected / POINTS);
+    assertions.assertThat(field.retain(copiedLatitudes, copiedLongitudes, 0, POINTS,
+                                       RANDOM_SEED)).isEqualTo(kept);
+    assertions.assertThat(Arrays.copyOf(copiedLatitudes, kept))
+      .isEqualTo(Arrays.copyOf(latitudes, kept));
+    assertions.assertAll();
+  }
+
+  @Test
+  void rejectsInvalidParameters() {
+    SoftAssertions assertions = new SoftAssertions();
+    assertions.assertThatThrownBy(() -> noiseField(RANDOM_SEED, 0D, 1, 0.5D))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertThatThrownBy(() -> noiseField(RANDOM_SEED, 1D, 0, 0.5D))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertThatThrownBy(() -> noiseField(RANDOM_SEED, 1D, 31, 0.5D))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertThatThrownBy(() -> noiseField(RANDOM_SEED, 1D, 1, 1.5D))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertThatThrownBy(() -> noiseField(RANDOM_SEED).tile(0, 0, 1))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertions.assertAll();
+  }
+}
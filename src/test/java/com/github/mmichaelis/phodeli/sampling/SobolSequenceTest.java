@@ -0,0 +1,96 @@
+package com.github.mmichaelis.phodeli.sampling;
+
+import static com.github.mmichaelis.phodeli.sampling.SobolSequence.scrambledSobol;
+import static com.github.mmichaelis.phodeli.sampling.SobolSequence.sobol;
+import static java.util.Arrays.stream;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+/**
+ * Tests {@link SobolSequence}.
+ *
+ * @author Mark Michaelis
+ * @since 1.0.0
+ */
+class SobolSequenceTest {
+
+  private static final Offset<Double> TOLERANCE = Offset.offset(1.0E-12D);
+  private static final int GRID_BITS = 4;
+  private static final int GRID = 1 << GRID_BITS;
+  private static final int POINTS = GRID * GRID;
+
+  @Test
+  void providesKnownPoints() {
+    SobolSequence sequence = sobol();
+    double[] expectedU = {0D, 0.5D, 0.75D, 0.25D, 0.375D, 0.875D};
+    double[] expectedV = {0D, 0.5D, 0.25D, 0.75D, 0.375D, 0.875D};
+    SoftAssertions assertions = new SoftAssertions();
+    for (int i = 0; i < expectedU.length; i++) {
+      assertions.assertThat(sequence.u(i)).isCloseTo(expectedU[i], TOLERANCE);
+      assertions.assertThat(sequence.v(i)).isCloseTo(expectedV[i], TOLERANCE);
+    }
+    assertions.assertAll();
+  }
+
+  /**
+   * The first two Sobol dimensions form a (0,m,2)-net: each block of {@code 2^m} points
+   * aligned at a multiple of {@code 2^m} has exactly one point in each elementary interval of
+   * volume {@code 2^-m}. Scrambling must retain this property.
+   */
+  @TestFactory
+  Stream<DynamicTest> formsZeroNet() {
+    Iterator<SobolSequence> inputGenerator =
+      stream(new SobolSequence[]{sobol(), scrambledSobol(0L), scrambledSobol(4711L)}).iterator();
+    return DynamicTest.stream(inputGenerator, SobolSequence::toString, sequence -> {
+      double[] us = new double[POINTS];
+      double[] vs = new double[POINTS];
+      sequence.fill(3L * POINTS, us, vs, 0, POINTS);
+      int[] square = new int[POINTS];
+      int[] uStrip = new int[POINTS];
+      for (int i = 0; i < POINTS; i++) {
+        square[(int) (us[i] * GRID) * GRID + (int) (vs[i] * GRID)]++;
+        uStrip[(int) (us[i] * POINTS)]++;
+      }
+      assertThat(square).containsOnly(1);
+      assertThat(uStrip).containsOnly(1);
+    });
+  }
+
+  @Test
+  void bulkFillMatchesRandomAccess() {
+    SobolSequence sequence = scrambledSobol(1L);
+    long fromIndex = 987_654_321L;
+    double[] us = new double[POINTS];
+    double[] vs = new double[POINTS];
+    sequence.fill(fromIndex, us, vs, 0, POINTS);
+    SoftAssertions assertions = new SoftAssertions();
+    for (int i = 0; i < POINTS; i++) {
+      assertions.assertThat(us[i]).isEqualTo(sequence.u(fromIndex + i));
+      assertions.assertThat(vs[i]).isEqualTo(sequence.v(fromIndex + i));
+    }
+    assertions.assertAll();
+  }
+
+  @Test
+  void scramblingDependsOnSeed() {
+    assertThat(scrambledSobol(1L).u(1L)).isNotEqualTo(scrambledSobol(2L).u(1L));
+  }
+
+  @Test
+  void rejectsIndicesBeyondResolution() {
+    SobolSequence sequence = sobol();
+    assertThat(sequence.size()).isEqualTo(1L << 32);
+    assertThatThrownBy(() -> sequence.v(1L << 32)).isInstanceOf(IndexOutOfBoundsException.class);
+    assertThatThrownBy(() -> sequence.fill((1L << 32) - 1L, new double[2], new double[2], 0, 2))
+      .isInstanceOf(IndexOutOfBoundsException.class);
+  }
+}